@@ -0,0 +1,111 @@
+package org.jrubyparser.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jrubyparser.CompatVersion;
+import org.jrubyparser.Parser;
+import org.jrubyparser.ast.Node;
+import org.jrubyparser.lexer.SyntaxException;
+import org.jrubyparser.parser.ParserConfiguration;
+import org.jrubyparser.parser.ParserConfiguration.SyntaxGathering;
+
+/**
+ * The Ruby files every benchmark runs over.  They live in src/main/resources/corpus and are
+ * meant to look like ordinary application code: a plain class library, an rspec file, string
+ * and heredoc heavy code, metaprogramming and code only the newer grammars understand.
+ *
+ * Not every file parses with every version (modern.rb is 2.x only) so benchmarks should ask for
+ * parseableWith(configuration) instead of using all files.  The files stay clear of ?a
+ * character literals, %i() and **kwrest parameters which some of our grammars still reject.
+ */
+public final class Corpus {
+    public static final List<String> FILES = Collections.unmodifiableList(Arrays.asList(
+            "inventory.rb", "router_spec.rb", "templates.rb", "attributes.rb", "modern.rb"));
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private final String name;
+    private final String source;
+
+    private Corpus(String name, String source) {
+        this.name = name;
+        this.source = source;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public static List<Corpus> all() {
+        List<Corpus> files = new ArrayList<Corpus>();
+
+        for (String name: FILES) {
+            files.add(new Corpus(name, read("/corpus/" + name)));
+        }
+
+        return files;
+    }
+
+    /**
+     * The corpus files which parse without a syntax error using configuration.
+     */
+    public static List<Corpus> parseableWith(ParserConfiguration configuration) {
+        Parser parser = new Parser();
+        List<Corpus> files = new ArrayList<Corpus>();
+
+        for (Corpus file: all()) {
+            try {
+                parser.parse(file.name, file.source, configuration);
+                files.add(file);
+            } catch (SyntaxException e) {
+                // Not this version's syntax
+            }
+        }
+
+        if (files.isEmpty()) throw new IllegalStateException("no corpus file parses as " + configuration.getVersion());
+
+        return files;
+    }
+
+    public Node parse(Parser parser, ParserConfiguration configuration) {
+        return parser.parse(name, source, configuration);
+    }
+
+    public static ParserConfiguration configuration(CompatVersion version, SyntaxGathering syntax) {
+        ParserConfiguration configuration = new ParserConfiguration(0, version);
+        configuration.setSyntax(syntax);
+        return configuration;
+    }
+
+    private static String read(String resource) {
+        InputStream in = Corpus.class.getResourceAsStream(resource);
+        if (in == null) throw new IllegalStateException("missing corpus file " + resource);
+
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+
+            return new String(out.toByteArray(), UTF8);
+        } catch (IOException e) {
+            throw new IllegalStateException("unreadable corpus file " + resource, e);
+        } finally {
+            try { in.close(); } catch (IOException e) {}
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.jrubyparser.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jrubyparser.CompatVersion;
+import org.jrubyparser.Parser;
+import org.jrubyparser.ast.Node;
+import org.jrubyparser.lexer.SyntaxException;
+import org.jrubyparser.parser.ParserConfiguration;
+import org.jrubyparser.parser.ParserConfiguration.SyntaxGathering;
+import org.jrubyparser.util.diff.NodeDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * NodeDiff between each corpus file and an edited copy of it.  The edit is the same every run:
+ * self becomes a local-looking call named this (touching many small subtrees) and a method is
+ * appended (a whole new top-level subtree).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DiffBenchmark {
+    private static final String APPENDED = "\ndef benchmark_edit(a, b)\n  a + b\nend\n";
+
+    @Param
+    public CompatVersion version;
+
+    private List<Node> oldNodes = new ArrayList<Node>();
+    private List<String> oldDocuments = new ArrayList<String>();
+    private List<Node> newNodes = new ArrayList<Node>();
+    private List<String> newDocuments = new ArrayList<String>();
+
+    @Setup
+    public void setup() {
+        ParserConfiguration configuration = Corpus.configuration(version, SyntaxGathering.NONE);
+        Parser parser = new Parser();
+
+        for (Corpus file: Corpus.parseableWith(configuration)) {
+            String edited = file.getSource().replace("self", "this") + APPENDED;
+            Node newNode;
+
+            try {
+                newNode = parser.parse(file.getName(), edited, configuration);
+            } catch (SyntaxException e) {
+                continue;
+            }
+
+            oldNodes.add(file.parse(parser, configuration));
+            oldDocuments.add(file.getSource());
+            newNodes.add(newNode);
+            newDocuments.add(edited);
+        }
+
+        if (oldNodes.isEmpty()) throw new IllegalStateException("no edited corpus file parses as " + version);
+    }
+
+    @Benchmark
+    public void diff(Blackhole hole) {
+        for (int i = 0; i < oldNodes.size(); i++) {
+            hole.consume(diffFor(i).getDiff());
+        }
+    }
+
+    @Benchmark
+    public void deepDiff(Blackhole hole) {
+        for (int i = 0; i < oldNodes.size(); i++) {
+            hole.consume(diffFor(i).getDeepDiff());
+        }
+    }
+
+    private NodeDiff diffFor(int i) {
+        return new NodeDiff(newNodes.get(i), newDocuments.get(i), oldNodes.get(i), oldDocuments.get(i));
+    }
+}
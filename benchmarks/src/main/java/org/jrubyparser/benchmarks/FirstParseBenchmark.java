@@ -0,0 +1,44 @@
+package org.jrubyparser.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jrubyparser.CompatVersion;
+import org.jrubyparser.Parser;
+import org.jrubyparser.ast.Node;
+import org.jrubyparser.parser.ParserConfiguration;
+import org.jrubyparser.parser.ParserConfiguration.SyntaxGathering;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to the first parse in a fresh JVM for each version.  This is dominated by loading the
+ * grammar (its tables and action classes) so it is what changes to how the generated parsers
+ * are laid out show up in.  Every fork measures exactly one parse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class FirstParseBenchmark {
+    private static final String SOURCE = "class Greeter\n  def greet(name)\n    \"hello #{name}\"\n  end\nend\n";
+
+    @Param
+    public CompatVersion version;
+
+    @Benchmark
+    public Node firstParse() {
+        ParserConfiguration configuration = Corpus.configuration(version, SyntaxGathering.NONE);
+
+        return new Parser().parse("first.rb", SOURCE, configuration);
+    }
+}
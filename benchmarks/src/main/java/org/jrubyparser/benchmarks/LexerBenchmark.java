@@ -0,0 +1,63 @@
+package org.jrubyparser.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jrubyparser.CompatVersion;
+import org.jrubyparser.lexer.LexerSource;
+import org.jrubyparser.lexer.Token;
+import org.jrubyparser.lexer.TokenStream;
+import org.jrubyparser.parser.ParserConfiguration;
+import org.jrubyparser.parser.ParserConfiguration.SyntaxGathering;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Lexer throughput on its own: every token of the corpus files pulled through a TokenStream
+ * (no grammar actions, no AST).  One operation lexes every file the version can parse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LexerBenchmark {
+    @Param
+    public CompatVersion version;
+
+    private ParserConfiguration configuration;
+    private List<Corpus> files;
+
+    @Setup
+    public void setup() {
+        configuration = Corpus.configuration(version, SyntaxGathering.NONE);
+        files = Corpus.parseableWith(configuration);
+    }
+
+    @Benchmark
+    public int tokens(Blackhole hole) {
+        int count = 0;
+
+        for (Corpus file: files) {
+            LexerSource source = LexerSource.getSource(file.getName(), file.getSource(), configuration);
+
+            for (Token token: new TokenStream(source, configuration)) {
+                hole.consume(token);
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
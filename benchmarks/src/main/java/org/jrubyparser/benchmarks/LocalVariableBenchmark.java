@@ -0,0 +1,77 @@
+package org.jrubyparser.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jrubyparser.CompatVersion;
+import org.jrubyparser.Parser;
+import org.jrubyparser.ast.ILocalVariable;
+import org.jrubyparser.ast.Node;
+import org.jrubyparser.parser.ParserConfiguration;
+import org.jrubyparser.parser.ParserConfiguration.SyntaxGathering;
+import org.jrubyparser.util.ILocalVariableVisitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Finding every occurrence of every local variable in the corpus, the lookup behind "highlight
+ * occurrences" and rename refactorings.  Once through ILocalVariable.getOccurrences and once
+ * through ILocalVariableVisitor directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LocalVariableBenchmark {
+    @Param
+    public CompatVersion version;
+
+    private List<ILocalVariable> variables = new ArrayList<ILocalVariable>();
+
+    @Setup
+    public void setup() {
+        ParserConfiguration configuration = Corpus.configuration(version, SyntaxGathering.NONE);
+        Parser parser = new Parser();
+
+        for (Corpus file: Corpus.parseableWith(configuration)) {
+            collect(file.parse(parser, configuration));
+        }
+
+        if (variables.isEmpty()) throw new IllegalStateException("no local variables in the corpus");
+    }
+
+    @Benchmark
+    public void occurrences(Blackhole hole) {
+        for (ILocalVariable variable: variables) {
+            hole.consume(variable.getOccurrences());
+        }
+    }
+
+    @Benchmark
+    public void visitor(Blackhole hole) {
+        for (ILocalVariable variable: variables) {
+            hole.consume(ILocalVariableVisitor.findOccurrencesIn(variable.getDefinedScope(), variable.getName()));
+        }
+    }
+
+    private void collect(Node node) {
+        if (node instanceof ILocalVariable) variables.add((ILocalVariable) node);
+
+        for (Node child: node.childNodes()) {
+            collect(child);
+        }
+    }
+}
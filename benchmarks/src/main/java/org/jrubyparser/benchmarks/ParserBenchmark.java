@@ -0,0 +1,57 @@
+package org.jrubyparser.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jrubyparser.CompatVersion;
+import org.jrubyparser.Parser;
+import org.jrubyparser.parser.ParserConfiguration;
+import org.jrubyparser.parser.ParserConfiguration.SyntaxGathering;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Full Parser.parse of the corpus for every version and amount of gathered syntax.  The Parser
+ * is shared across operations like an editor or indexer would keep one around.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParserBenchmark {
+    @Param
+    public CompatVersion version;
+
+    @Param
+    public SyntaxGathering syntax;
+
+    private ParserConfiguration configuration;
+    private List<Corpus> files;
+    private Parser parser;
+
+    @Setup
+    public void setup() {
+        configuration = Corpus.configuration(version, syntax);
+        files = Corpus.parseableWith(configuration);
+        parser = new Parser();
+    }
+
+    @Benchmark
+    public void parse(Blackhole hole) {
+        for (Corpus file: files) {
+            hole.consume(file.parse(parser, configuration));
+        }
+    }
+}
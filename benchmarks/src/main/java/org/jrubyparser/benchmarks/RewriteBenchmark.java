@@ -0,0 +1,72 @@
+package org.jrubyparser.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jrubyparser.CompatVersion;
+import org.jrubyparser.Parser;
+import org.jrubyparser.ast.Node;
+import org.jrubyparser.parser.ParserConfiguration;
+import org.jrubyparser.parser.ParserConfiguration.SyntaxGathering;
+import org.jrubyparser.rewriter.ReWriteVisitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * ReWriteVisitor turning parsed corpus files back into source, on its own (rewrite) and as the
+ * whole source to AST to source round trip (roundTrip).  The written code is not parsed again:
+ * the rewriter does not produce code every grammar reads back for all of the corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RewriteBenchmark {
+    @Param
+    public CompatVersion version;
+
+    private ParserConfiguration configuration;
+    private Parser parser;
+    private List<Corpus> files = new ArrayList<Corpus>();
+    private List<Node> nodes = new ArrayList<Node>();
+
+    @Setup
+    public void setup() {
+        configuration = Corpus.configuration(version, SyntaxGathering.ALL);
+        parser = new Parser();
+
+        for (Corpus file: Corpus.parseableWith(configuration)) {
+            files.add(file);
+            nodes.add(file.parse(parser, configuration));
+        }
+    }
+
+    @Benchmark
+    public void rewrite(Blackhole hole) {
+        for (int i = 0; i < files.size(); i++) {
+            hole.consume(ReWriteVisitor.createCodeFromNode(nodes.get(i), files.get(i).getSource()));
+        }
+    }
+
+    @Benchmark
+    public void roundTrip(Blackhole hole) {
+        for (Corpus file: files) {
+            Node node = file.parse(parser, configuration);
+
+            hole.consume(ReWriteVisitor.createCodeFromNode(node, file.getSource()));
+        }
+    }
+}
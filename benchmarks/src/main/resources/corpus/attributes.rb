@@ -0,0 +1,155 @@
+# Metaprogramming: define_method, method_missing, class << self, instance_eval and friends.
+module Attributes
+  def self.included(base)
+    base.extend(ClassMethods)
+    base.class_eval do
+      @attribute_definitions = {}
+      class << self
+        attr_reader :attribute_definitions
+      end
+    end
+  end
+
+  module ClassMethods
+    def attribute(name, type = :string, options = {})
+      name = name.to_sym
+      attribute_definitions[name] = [type, options]
+
+      define_method(name) do
+        value = @attributes[name]
+        value.nil? ? self.class.default_for(name) : value
+      end
+
+      define_method("#{name}=") do |value|
+        @changed << name unless @changed.include?(name)
+        @attributes[name] = self.class.coerce(type, value)
+      end
+
+      define_method("#{name}?") { !!send(name) } if type == :boolean
+    end
+
+    def attributes(*names)
+      options = names.last.is_a?(Hash) ? names.pop : {}
+      names.each { |name| attribute(name, options.fetch(:type, :string), options) }
+    end
+
+    def default_for(name)
+      default = attribute_definitions[name][1][:default]
+      default.respond_to?(:call) ? default.call : default
+    end
+
+    def coerce(type, value)
+      return nil if value.nil?
+
+      case type
+      when :integer then Integer(value)
+      when :float then Float(value)
+      when :boolean then value == true || value.to_s =~ /\A(true|1|yes)\z/i ? true : false
+      when :symbol then value.to_sym
+      when Class then value.is_a?(type) ? value : type.new(value)
+      else value.to_s
+      end
+    end
+
+    def inherited(subclass)
+      super
+      definitions = attribute_definitions.dup
+      subclass.instance_variable_set(:@attribute_definitions, definitions)
+    end
+  end
+
+  def initialize(values = {})
+    @attributes = {}
+    @changed = []
+    values.each { |key, value| send("#{key}=", value) }
+    @changed.clear
+  end
+
+  def changed
+    @changed.dup
+  end
+
+  def attributes
+    self.class.attribute_definitions.keys.inject({}) do |hash, name|
+      hash[name] = send(name)
+      hash
+    end
+  end
+
+  def method_missing(name, *args, &block)
+    if name.to_s =~ /\A(\w+)_changed\?\z/ && self.class.attribute_definitions.key?($1.to_sym)
+      @changed.include?($1.to_sym)
+    else
+      super
+    end
+  end
+
+  def respond_to?(name, include_private = false)
+    name.to_s =~ /\A(\w+)_changed\?\z/ ? self.class.attribute_definitions.key?($1.to_sym) : super
+  end
+
+  def ==(other)
+    other.class == self.class && other.attributes == attributes
+  end
+end
+
+class Config
+  include Attributes
+
+  attribute :host, :string, :default => 'localhost'
+  attribute :port, :integer, :default => 8080
+  attribute :secure, :boolean, :default => false
+  attribute :started_at, Time, :default => lambda { Time.now }
+  attributes :user, :password, :type => :string
+
+  def self.build(&block)
+    config = new
+    config.instance_eval(&block) if block
+    config
+  end
+
+  def set(name, value)
+    send("#{name}=", value)
+  end
+
+  def url
+    "#{secure? ? 'https' : 'http'}://#{host}:#{port}/"
+  end
+end
+
+class ProductionConfig < Config
+  attribute :replicas, :integer, :default => 3
+
+  class << self
+    def from_env(env = ENV)
+      build do
+        set :host, env.fetch('HOST', 'example.com')
+        set :port, env['PORT'] || 443
+        set :secure, true
+        set :replicas, env['REPLICAS'] if env.key?('REPLICAS')
+      end
+    end
+  end
+end
+
+Struct.new('Pair', :left, :right) do
+  def swap
+    self.class.new(right, left)
+  end
+end
+
+Delegator = Class.new do
+  def initialize(target)
+    @target = target
+  end
+
+  [:size, :each, :first].each do |name|
+    class_eval "def #{name}(*args, &block); @target.#{name}(*args, &block); end", __FILE__, __LINE__
+  end
+end
+
+if __FILE__ == $0
+  config = ProductionConfig.from_env('PORT' => '8443')
+  p config.url, config.replicas, config.port_changed?, config.attributes
+  p Struct::Pair.new(1, 2).swap, Delegator.new([3, 4]).first
+end
@@ -0,0 +1,174 @@
+require 'set'
+require 'logger'
+
+# A small inventory system: plain classes, modules, attribute accessors, blocks, hashes and
+# exception handling written in syntax every supported Ruby version understands.
+module Inventory
+  class Error < StandardError; end
+  class OutOfStock < Error
+    attr_reader :sku
+
+    def initialize(sku, wanted, available)
+      @sku = sku
+      super("#{sku}: wanted #{wanted} but only #{available} left")
+    end
+  end
+
+  module Loggable
+    def logger
+      @logger ||= Logger.new($stderr)
+    end
+
+    def log(level, message)
+      logger.send(level, "[#{self.class.name}] #{message}")
+    end
+  end
+
+  class Item
+    include Comparable
+
+    attr_accessor :sku, :name, :price, :quantity, :tags
+
+    def initialize(sku, name, price, quantity = 0, tags = [])
+      @sku = sku
+      @name = name
+      @price = price
+      @quantity = quantity
+      @tags = Set.new(tags)
+    end
+
+    def total_value
+      price * quantity
+    end
+
+    def <=>(other)
+      [name, sku] <=> [other.name, other.sku]
+    end
+
+    def tagged?(*wanted)
+      wanted.all? { |tag| tags.include?(tag) }
+    end
+
+    def to_s
+      format("%-10s %-30s %8.2f x %4d", sku, name, price, quantity)
+    end
+  end
+
+  class Warehouse
+    include Loggable
+    include Enumerable
+
+    attr_reader :name
+
+    def initialize(name)
+      @name = name
+      @items = {}
+      @history = []
+    end
+
+    def each(&block)
+      @items.values.sort.each(&block)
+    end
+
+    def add(item)
+      if @items.key?(item.sku)
+        @items[item.sku].quantity += item.quantity
+      else
+        @items[item.sku] = item
+      end
+      record(:add, item.sku, item.quantity)
+      self
+    end
+    alias_method :<<, :add
+
+    def remove(sku, count = 1)
+      item = @items.fetch(sku) { raise Error, "unknown sku #{sku}" }
+      raise OutOfStock.new(sku, count, item.quantity) if item.quantity < count
+
+      item.quantity -= count
+      @items.delete(sku) if item.quantity == 0
+      record(:remove, sku, count)
+      item
+    end
+
+    def value
+      inject(0) { |sum, item| sum + item.total_value }
+    end
+
+    def by_tag
+      result = Hash.new { |hash, key| hash[key] = [] }
+      each do |item|
+        item.tags.each { |tag| result[tag] << item }
+      end
+      result
+    end
+
+    def cheapest(n = 3)
+      sort_by { |item| item.price }.first(n)
+    end
+
+    def restock(threshold, amount)
+      low = select { |item| item.quantity < threshold }
+      low.each do |item|
+        item.quantity += amount
+        log(:info, "restocked #{item.sku} by #{amount}")
+      end
+      low.size
+    end
+
+    def transfer(sku, count, other)
+      item = remove(sku, count)
+      other.add(Item.new(item.sku, item.name, item.price, count, item.tags.to_a))
+    rescue OutOfStock => e
+      log(:warn, e.message)
+      nil
+    ensure
+      record(:transfer, sku, count)
+    end
+
+    def report(io = $stdout)
+      io.puts "Warehouse #{name} (#{@items.size} skus)"
+      each_with_index do |item, index|
+        io.puts "#{index + 1}. #{item}"
+      end
+      io.puts "Total: %.2f" % value
+    end
+
+    private
+
+    def record(action, sku, count)
+      @history << [Time.now, action, sku, count]
+      @history.shift while @history.size > 1000
+    end
+  end
+
+  def self.load(name, rows)
+    warehouse = Warehouse.new(name)
+    rows.each do |row|
+      sku, item_name, price, quantity, tags = row
+      next if sku.nil? || sku.empty?
+
+      price = price.to_f
+      quantity = quantity ? quantity.to_i : 0
+      tags = tags ? tags.split(/\s*,\s*/) : []
+      warehouse << Item.new(sku, item_name, price, quantity, tags)
+    end
+    warehouse
+  end
+end
+
+if __FILE__ == $0
+  rows = [
+    ['A-1', 'Widget', '2.50', '10', 'metal, small'],
+    ['A-2', 'Gadget', '12.00', '3', 'plastic'],
+    ['B-7', 'Doohickey', '0.99', '250', 'small'],
+    ['', 'ignored', '0', '0', nil]
+  ]
+  main = Inventory.load('main', rows)
+  spare = Inventory::Warehouse.new('spare')
+  main.transfer('A-1', 4, spare)
+  main.transfer('A-2', 5, spare)
+  main.restock(5, 20)
+  [main, spare].each { |w| w.report }
+  puts main.by_tag.map { |tag, items| "#{tag}: #{items.map { |i| i.sku }.join(', ')}" }
+end
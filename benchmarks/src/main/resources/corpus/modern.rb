@@ -0,0 +1,119 @@
+# Syntax added after Ruby 1.8: new style hashes, stabby lambdas, keyword arguments, .()
+# calls, safe navigation and friends.  Older grammars leave this file out of their benchmarks.
+module Pipeline
+  Step = Struct.new(:name, :callable, :options)
+
+  class Builder
+    attr_reader :steps
+
+    def initialize(name:, retries: 2, options: {})
+      @name = name
+      @retries = retries
+      @options = options
+      @steps = []
+    end
+
+    def step(name, on_error: :raise, timeout: nil, &block)
+      steps << Step.new(name, block, { on_error: on_error, timeout: timeout })
+      self
+    end
+
+    def map(name = :map, &transform)
+      step(name) { |items| items.map(&transform) }
+    end
+
+    def filter(name = :filter, &predicate)
+      step(name) { |items| items.select(&predicate) }
+    end
+
+    def build
+      Runner.new(@name, steps.dup.freeze, retries: @retries, options: @options)
+    end
+  end
+
+  class Runner
+    DEFAULTS = { logger: nil, clock: -> { Process.clock_gettime(Process::CLOCK_MONOTONIC) } }.freeze
+
+    def initialize(name, steps, retries:, options: {})
+      @name = name
+      @steps = steps
+      @retries = retries
+      @options = DEFAULTS.merge(options)
+      @timings = Hash.new(0.0)
+    end
+
+    def call(input)
+      @steps.reduce(input) do |value, step|
+        attempts = 0
+        begin
+          attempts += 1
+          timed(step.name) { step.callable.(value) }
+        rescue StandardError => error
+          retry if attempts <= @retries && step.options[:on_error] == :retry
+          handle(error, step, value)
+        end
+      end
+    end
+
+    def report
+      @timings.sort_by { |_, seconds| -seconds }.map { |name, seconds| "#{name}: #{(seconds * 1000).round(2)}ms" }
+    end
+
+    private
+
+    def timed(name)
+      clock = @options[:clock]
+      started = clock.()
+      yield
+    ensure
+      @timings[name] += clock.() - started
+    end
+
+    def handle(error, step, value)
+      @options[:logger]&.warn("#{@name}/#{step.name}: #{error.message}")
+      case step.options[:on_error]
+      when :skip then value
+      when :nil then nil
+      else raise
+      end
+    end
+  end
+
+  def self.build(name, retries: 2, &block)
+    builder = Builder.new(name: name, retries: retries)
+    builder.instance_exec(&block)
+    builder.build
+  end
+end
+
+numbers = Pipeline.build('numbers', retries: 1) do
+  map(:double) { |n| n * 2 }
+  filter(:small) { |n| n < 50 }
+  step(:sum, on_error: :skip) { |items| items.sum }
+  step(:describe) { |sum| { total: sum, even: sum.even?, label: "sum=#{sum}" } }
+end
+
+SHAPES = %w[circle square triangle].map(&:to_sym).freeze
+AREA = {
+  circle: ->(r) { Math::PI * r**2 },
+  square: ->(side) { side * side },
+  triangle: lambda { |base, height = base| base * height / 2.0 }
+}.freeze
+
+def area(shape, *dimensions, precision: 2)
+  AREA.fetch(shape).call(*dimensions).round(precision)
+end
+
+def describe_user(user)
+  name = user&.dig(:profile, :name) || 'anonymous'
+  city = user&.fetch(:address, nil)&.fetch(:city, nil)
+  "#{name}#{city ? " from #{city}" : ''}"
+end
+
+result = numbers.(1..40)
+puts result[:label], numbers.report
+SHAPES.each { |shape| puts "#{shape}: #{area(shape, 3)}" }
+puts describe_user(profile: { name: 'Ann' }, address: { city: 'Oslo' }), describe_user(nil)
+squares = (1..10).each_with_object({}) { |i, acc| acc[i] = i**2 }
+evens, odds = squares.values.partition(&:even?)
+puts "evens=#{evens} odds=#{odds}"
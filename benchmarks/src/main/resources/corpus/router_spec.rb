@@ -0,0 +1,119 @@
+require File.expand_path('../spec_helper', __FILE__)
+
+# Spec style code: lots of nested blocks, calls without parens, symbols and string literals.
+describe Router do
+  let(:router) { Router.new }
+
+  before do
+    router.draw do
+      get '/', :to => 'home#index'
+      get '/about', :to => 'pages#about', :as => :about
+      resources :posts do
+        resources :comments, :only => [:index, :create]
+        member do
+          post :publish
+          delete :unpublish
+        end
+      end
+      namespace :admin do
+        resources :users, :except => [:destroy]
+        get '/stats(/:period)', :to => 'stats#show', :defaults => { :period => 'week' }
+      end
+      match '*path', :to => 'errors#not_found', :via => :all
+    end
+  end
+
+  describe '#recognize' do
+    it 'routes the root path' do
+      route = router.recognize('GET', '/')
+      route.controller.should == 'home'
+      route.action.should == 'index'
+    end
+
+    it 'routes nested resources' do
+      route = router.recognize('POST', '/posts/12/comments')
+      route.controller.should == 'comments'
+      route.action.should == 'create'
+      route.params.should == { 'post_id' => '12' }
+    end
+
+    it 'routes member actions' do
+      %w(publish unpublish).zip(%w(POST DELETE)).each do |action, verb|
+        route = router.recognize(verb, "/posts/7/#{action}")
+        route.action.should == action
+        route.params['id'].should == '7'
+      end
+    end
+
+    it 'fills in defaults for optional segments' do
+      router.recognize('GET', '/admin/stats').params['period'].should == 'week'
+      router.recognize('GET', '/admin/stats/month').params['period'].should == 'month'
+    end
+
+    it 'falls back to the catch all route' do
+      route = router.recognize('PATCH', '/no/such/thing')
+      route.controller.should == 'errors'
+      route.params['path'].should == 'no/such/thing'
+    end
+
+    context 'with constraints' do
+      before do
+        router.draw do
+          get '/archive/:year', :to => 'archive#show', :constraints => { :year => /\d{4}/ }
+        end
+      end
+
+      it 'matches when the constraint holds' do
+        router.recognize('GET', '/archive/2014').should_not be_nil
+      end
+
+      it 'does not match otherwise' do
+        lambda { router.recognize('GET', '/archive/latest') }.should raise_error(Router::NoRoute)
+      end
+    end
+  end
+
+  describe '#path_for' do
+    it 'builds named paths' do
+      router.path_for(:about).should == '/about'
+    end
+
+    it 'builds resource paths with ids' do
+      router.path_for(:post, :id => 3).should == '/posts/3'
+      router.path_for(:post_comments, :post_id => 3).should == '/posts/3/comments'
+    end
+
+    it 'escapes segment values' do
+      router.path_for(:post, :id => 'a b/c').should == '/posts/a%20b%2Fc'
+    end
+
+    it 'complains about missing parameters' do
+      expect { router.path_for(:post) }.to raise_error(ArgumentError, /id/)
+    end
+  end
+
+  describe 'route listing' do
+    subject { router.routes.map { |r| [r.verb, r.path] } }
+
+    it { should include(['GET', '/']) }
+    it { should include(['GET', '/posts/:post_id/comments']) }
+    it { should_not include(['DELETE', '/admin/users/:id']) }
+
+    it 'lists routes in the order they were drawn' do
+      paths = router.routes.map { |r| r.path }
+      paths.index('/').should < paths.index('/about')
+      paths.last.should == '*path'
+    end
+  end
+
+  shared_examples_for 'a restful resource' do |name|
+    [['GET', "/#{name}"], ['POST', "/#{name}"], ['GET', "/#{name}/1"],
+     ['PUT', "/#{name}/1"], ['DELETE', "/#{name}/1"]].each do |verb, path|
+      it "routes #{verb} #{path}" do
+        router.recognize(verb, path).controller.should == name
+      end
+    end
+  end
+
+  it_should_behave_like 'a restful resource', 'posts'
+end
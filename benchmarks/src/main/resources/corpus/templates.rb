@@ -0,0 +1,115 @@
+# String heavy code: heredocs, interpolation, %-literals, regexps and escapes.
+class ReportTemplate
+  HEADER = <<-HTML
+    <!DOCTYPE html>
+    <html>
+      <head><title>%s</title></head>
+      <body>
+  HTML
+
+  FOOTER = <<-'HTML'
+      </body>
+    </html>
+  HTML
+
+  ESCAPES = { '&' => '&amp;', '<' => '&lt;', '>' => '&gt;', '"' => '&quot;', "'" => '&#39;' }
+  WORD = /[A-Za-z][A-Za-z0-9_]*/
+  DATE = %r{(\d{4})-(\d{2})-(\d{2})}
+
+  def initialize(title, rows, options = {})
+    @title = title
+    @rows = rows
+    @options = { :currency => 'EUR', :separator => ',' }.merge(options)
+  end
+
+  def escape(text)
+    text.to_s.gsub(/[&<>"']/) { |c| ESCAPES[c] }
+  end
+
+  def money(amount)
+    whole, cents = ("%.2f" % amount).split('.')
+    whole = whole.reverse.scan(/\d{1,3}/).join(@options[:separator]).reverse
+    "#{whole}.#{cents} #{@options[:currency]}"
+  end
+
+  def row(cells, tag = 'td')
+    "<tr>" + cells.map { |cell| "<#{tag}>#{escape(cell)}</#{tag}>" }.join + "</tr>\n"
+  end
+
+  def table
+    out = "<table class=\"report\">\n"
+    out << row(%w(Date Description Amount), 'th')
+    @rows.each do |date, text, amount|
+      formatted = date.to_s.sub(DATE) { "#{$3}.#{$2}.#{$1}" }
+      out << row([formatted, text, money(amount)])
+    end
+    out << "</table>\n"
+  end
+
+  def summary
+    total = @rows.inject(0) { |sum, (_, _, amount)| sum + amount }
+    <<-TEXT
+      <p class="summary">
+        #{@rows.size} entries, total #{money(total)}
+        (generated #{Time.now.strftime('%Y-%m-%d %H:%M')})
+      </p>
+    TEXT
+  end
+
+  def render
+    [HEADER % escape(@title), table, summary, FOOTER].join
+  end
+
+  def plain_text
+    width = @rows.map { |_, text, _| text.length }.max || 0
+    lines = @rows.map do |date, text, amount|
+      "#{date}  #{text.ljust(width)}  #{money(amount).rjust(16)}"
+    end
+    "#{@title}\n#{'=' * @title.length}\n\n" + lines.join("\n") + "\n"
+  end
+
+  def csv
+    quote = lambda { |value| value.to_s =~ /[",\n]/ ? "\"#{value.to_s.gsub('"', '""')}\"" : value.to_s }
+    @rows.map { |fields| fields.map(&quote).join(',') }.join("\r\n")
+  end
+
+  def words
+    @rows.map { |_, text, _| text.scan(WORD) }.flatten.uniq.sort
+  end
+
+  def self.sample
+    new('Expenses <Q1>', [
+      ['2014-01-05', 'Coffee & "cake"', 7.5],
+      ['2014-02-11', "Books\tand paper", 42.0],
+      ['2014-03-30', 'Rent', 1250.0]
+    ])
+  end
+end
+
+SQL = <<SQL
+SELECT id, name, 'it''s' AS quoted
+  FROM users
+ WHERE created_at > '#{Time.now.year}-01-01'
+   AND name LIKE '%smith%'
+SQL
+
+MESSAGES = %w[
+  welcome goodbye error warning
+]
+
+COMMAND = %x(echo "shell #{MESSAGES.first}")
+PATTERN = Regexp.new("^(?:#{MESSAGES.map { |m| Regexp.escape(m) }.join('|')})$", Regexp::IGNORECASE)
+MULTI = "line one\n" \
+  "line two\n" \
+  'line three'
+SYMBOLS = [:plain, :"quoted symbol", :"with #{MESSAGES.size} interpolation"]
+CHARS = "a" + "\n" + "é\x41\101\e"
+
+if __FILE__ == $0
+  template = ReportTemplate.sample
+  puts template.render
+  puts template.plain_text
+  puts template.csv
+  puts template.words.inspect
+  puts SQL, PATTERN.inspect, MULTI, SYMBOLS.inspect
+end
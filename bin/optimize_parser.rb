@@ -1,10 +1,19 @@
 class PostProcessor
-  def initialize(source, out=STDOUT)
+  # Rules per action method in switch mode.  All actions of a method share one JIT inlining
+  # budget so bigger methods run slower once warmed up.
+  SWITCH_RANGE = 8
+
+  # actions is 'states' (one ParserState class per rule in a static table) or 'switch' (static
+  # methods switching on the rule number, one per SWITCH_RANGE rules).  switch loads a few
+  # methods instead of hundreds of classes, so it starts up quicker, but it runs somewhat
+  # slower once warmed up.
+  def initialize(source, actions='states', out=STDOUT)
     @out = out
     @lines = File.readlines(source)
     @index = -1
     @case_bodies = {}
     @max_case_number = -1
+    @switch = actions == 'switch'
   end
 
   # Read/Unread with ability to push back one line for a single lookahead
@@ -29,7 +38,13 @@ class PostProcessor
       if line =~ %r{^//\s*ACTIONS_BEGIN}
         translate_actions
       elsif line =~ %r{^//\s*ACTION_BODIES}
-        generate_action_body_methods
+        if @switch
+          generate_action_switch_methods
+        else
+          generate_action_body_methods
+        end
+      elsif @switch && line =~ /^(\s*)ParserState state = states\[yyN\];/
+        translate_dispatch($1)
       else
         @out.puts line
       end
@@ -54,6 +69,56 @@ class PostProcessor
     @out.puts "};"
   end
 
+  # Replace the lookup and call through states[yyN] in yyparse with a call to yyAction.  The
+  # if/else after the lookup is read up to its closing brace and its else branch (the call along
+  # with any handling wrapped around it) is kept with state.execute swapped for yyAction.
+  def translate_dispatch(indent)
+    block = []
+    depth = 0
+    while (line = read)
+      block << line
+      depth += line.count('{') - line.count('}')
+      break if depth <= 0 && line.include?('}')
+    end
+
+    branch = block.index { |line| line =~ /^\s*\}\s*else\s*\{/ }
+    unless branch && block.last =~ /^\s*\}\s*$/ && block.any? { |line| line.include?('state.execute(') }
+      raise "Unexpected action dispatch in yyparse:\n#{block.join}"
+    end
+
+    block[branch + 1...-1].each do |line|
+      @out.puts line.sub('state.execute(', 'yyAction(yyN, ').sub(/^#{indent}    /, indent)
+    end
+    @out.puts "#{indent}if (yyVal == yyNoAction) yyVal = yyDefault(yyV > yyTop ? null : yyVals[yyV]);"
+  end
+
+  def generate_action_switch_methods
+    blocks = @case_bodies.keys.group_by { |state| state / SWITCH_RANGE }
+
+    @out.puts "static final Object yyNoAction = new Object();"
+    @out.puts "static Object yyAction(int yyN, ParserSupport support, Lexer lexer, Object yyVal, Object[] yyVals, int yyTop) {"
+    @out.puts "  switch (yyN / #{SWITCH_RANGE}) {"
+    blocks.keys.sort.each do |block|
+      @out.puts "  case #{block}: return yyActions#{block}(yyN, support, lexer, yyVal, yyVals, yyTop);"
+    end
+    @out.puts "  }"
+    @out.puts "  return yyNoAction;"
+    @out.puts "}"
+    blocks.keys.sort.each do |block|
+      @out.puts "static Object yyActions#{block}(int yyN, ParserSupport support, Lexer lexer, Object yyVal, Object[] yyVals, int yyTop) {"
+      @out.puts "  switch (yyN) {"
+      blocks[block].sort.each do |state|
+        @out.puts "  case #{state}: {"
+        @case_bodies[state].each { |line| @out.puts line }
+        @out.puts "    return yyVal;"
+        @out.puts "  }"
+      end
+      @out.puts "  }"
+      @out.puts "  return yyNoAction;"
+      @out.puts "}"
+    end
+  end
+
   def translate_actions
     count = 1
     while (translate_action)
@@ -103,4 +168,6 @@ class PostProcessor
   end
 end
 
-PostProcessor.new(ARGV.shift).translate
+source = ARGV.shift
+ARGV.shift # yytable prefix (not needed here)
+PostProcessor.new(source, ARGV.shift || 'states').translate
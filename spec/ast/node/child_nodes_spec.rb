@@ -0,0 +1,59 @@
+require_relative '../../helpers'
+
+describe org.jrubyparser.ast.Node do
+  VERSIONS.each do |v|
+    it "has no children for a leaf [#{v}]" do
+      parse("nil; self; 1", v).find_node(:nil).child_nodes.to_a.should == []
+    end
+
+    it "gives a leaf a list which sees and makes changes like any other [#{v}]" do
+      parse("nil; self; 1", v).find_node(:nil).tap do |leaf|
+        children = leaf.child_nodes
+        c = parse("c", v).find_node(:vcall)
+
+        leaf.adopt(c)
+        children.to_a.map(&:name).should == ["c"]
+
+        leaf.child_nodes.add(parse("d", v).find_node(:vcall))
+        children.to_a.map(&:name).should == ["c", "d"]
+      end
+    end
+
+    it "keeps every element of a long list in order [#{v}]" do
+      code = (1..50).map { |i| "a#{i}" }.join(", ")
+      parse("[#{code}]", v).find_node(:array).tap do |list|
+        list.child_nodes.size.should == 50
+        list.child_nodes.to_a.map(&:name).should == (1..50).map { |i| "a#{i}" }
+      end
+    end
+
+    it "sees children adopted and removed after it was returned [#{v}]" do
+      parse("[a, b]", v).find_node(:array).tap do |list|
+        children = list.child_nodes
+        c = parse("c", v).find_node(:vcall)
+
+        list.adopt(c, 1)
+        children.to_a.map(&:name).should == ["a", "c", "b"]
+        c.parent.should == list
+
+        list.remove_child(c)
+        children.to_a.map(&:name).should == ["a", "b"]
+        c.parent.should == nil
+      end
+    end
+
+    it "replaces a child in place through []= [#{v}]" do
+      parse("foo(1, 2)", v).find_node(:array).tap do |args|
+        args[1] = parse("3", v).find_node(:fixnum)
+        args.child_nodes.to_a.map(&:value).should == [1, 3]
+      end
+    end
+  end
+
+  it "gives nodes which list their own children a list callers can change" do
+    children = parse("1i", 2.3).find_node(:complex).child_nodes
+
+    children.add(parse("2", 2.3).find_node(:fixnum))
+    children.to_a.map(&:value).should == [1, 2]
+  end
+end
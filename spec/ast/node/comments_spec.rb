@@ -50,6 +50,18 @@ describe org.jrubyparser.ast.Node do
       end
     end
 
+    it "weaves comments in at every depth of a file [#{v}]" do
+      code = "# c1\nclass Foo\n  # c2\n  def a\n    # c3\n    x = 1\n    x # c4\n  end\n\n  # c5\n  # c6\n  def b; end\nend\n# c7\n"
+      rparse(code, v).tap do |root|
+        root.find_node(:class).previous_comments.to_a.map(&:content).should =~ ["# c1"]
+        root.find_node(:defn) { |n| n.name == "a" }.previous_comments.to_a.map(&:content).should =~ ["# c2"]
+        root.find_node(:localasgn).previous_comments.to_a.map(&:content).should =~ ["# c3"]
+        root.find_node(:localvar).inline_comment.content.should == "# c4"
+        root.find_node(:defn) { |n| n.name == "b" }.previous_comments.to_a.map(&:content).should =~ ["# c5", "# c6"]
+        root.child_nodes.to_a.last.content.should == "# c7"
+      end
+    end
+
     it "handles a lone comment [#{v}]" do
       rparse("#trailing").child_nodes.to_a.last.tap do |child|
         child.content.should =~ /#trailing/
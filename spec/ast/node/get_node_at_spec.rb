@@ -10,5 +10,24 @@ describe org.jrubyparser.ast.Node do
         root.find_node(:fixnum).should == caret_node
       end
     end
+
+    it "finds nodes again after the tree changes [#{v}]" do
+      parse("foo(1)\nbar(2)\n", v).tap do |root|
+        root.get_node_at(11).value.should == 2
+        bar = root.find_node(:fcall) { |n| n.name == "bar" }
+        newline = bar.parent
+        newline.remove_child(bar)
+        root.get_node_at(11).should == newline
+        root.get_node_at(4).value.should == 1
+      end
+    end
+
+    it "finds the nodes overlapping a range in order [#{v}]" do
+      parse("a = 1\nb = 2\nc = 3\n", v).tap do |root|
+        types = root.get_nodes_in_range(6, 11).to_a.map { |n| n.node_type.to_s }
+        types.should == ["BLOCKNODE", "NEWLINENODE", "LOCALASGNNODE", "FIXNUMNODE"]
+        root.get_nodes_in_range(6, 6).to_a.should == []
+      end
+    end
   end
 end
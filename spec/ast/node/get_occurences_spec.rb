@@ -94,5 +94,18 @@ describe org.jrubyparser.ast.Node do
         caret_nodes.first.occurrences.to_a.should =~ caret_nodes
       end
     end
+
+    it "sees renames and removals after occurrences were asked for [#{v}]" do
+      carets_parse("def foo; ^a = 1; ^a; b = 2; b; ^a; end", v).tap do |_, caret_nodes|
+        caret_nodes.first.occurrences.to_a.should =~ caret_nodes
+
+        caret_nodes.each { |node| node.name = "c" }
+        caret_nodes.first.occurrences.to_a.should =~ caret_nodes
+
+        last = caret_nodes.last
+        last.parent.remove_child(last)
+        caret_nodes.first.occurrences.to_a.should =~ caret_nodes[0..1]
+      end
+    end
   end
 end
@@ -0,0 +1,74 @@
+require_relative '../helpers'
+require 'tmpdir'
+
+import org.jrubyparser.DiskParseCache
+
+describe DiskParseCache do
+  VERSIONS.each do |v|
+    it "reads back the same tree for the same source [#{v}]" do
+      Dir.mktmpdir do |dir|
+        source = "class Foo\n  def bar(a, *b)\n    a + b.size\n  end\nend\n"
+        first = DiskParseCache.new(PARSER, java.io.File.new(dir)).parse("foo.rb", source, config(v))
+        cache = DiskParseCache.new(PARSER, java.io.File.new(dir))
+        ast = cache.parse("foo.rb", source, config(v))
+
+        cache.hits.should == 1
+        ast.should_not equal(first)
+        ast.isSame(first).should == true
+        ast.find_node(:defn).name.should == "bar"
+        ast.find_node(:defn).position.start_line.should == 1
+        ast.line_map.should_not == nil
+      end
+    end
+
+    it "parses again when anything which changes the result differs [#{v}]" do
+      Dir.mktmpdir do |dir|
+        cache = DiskParseCache.new(PARSER, java.io.File.new(dir))
+
+        cache.parse("foo.rb", "a = 1\n", config(v))
+        cache.parse("foo.rb", "a = 2\n", config(v))
+        cache.parse("foo.rb", "a = 1\n", config(v, nil, :all))
+
+        cache.hits.should == 0
+        cache.misses.should == 3
+      end
+    end
+
+    it "gives positions the name the source is parsed under now [#{v}]" do
+      Dir.mktmpdir do |dir|
+        cache = DiskParseCache.new(PARSER, java.io.File.new(dir))
+
+        cache.parse("old.rb", "a = 1\n", config(v))
+        ast = cache.parse("new.rb", "a = 1\n", config(v))
+
+        cache.hits.should == 1
+        ast.find_node(:localasgn).position.file.should == "new.rb"
+      end
+    end
+
+    it "caches trees too deep to walk recursively [#{v}]" do
+      Dir.mktmpdir do |dir|
+        source = "x = 1" + " + 1" * 5000 + "\n"
+        cache = DiskParseCache.new(PARSER, java.io.File.new(dir))
+
+        cache.parse("deep.rb", source, config(v))
+        cache.parse("deep.rb", source, config(v)).find_node(:localasgn).name.should == "x"
+        cache.hits.should == 1
+      end
+    end
+
+    it "parses again when an entry cannot be read [#{v}]" do
+      Dir.mktmpdir do |dir|
+        cache = DiskParseCache.new(PARSER, java.io.File.new(dir))
+
+        cache.parse("foo.rb", "a = 1\n", config(v))
+        Dir.glob("#{dir}/*/*.ast").each { |entry| File.write(entry, "junk") }
+        cache.parse("foo.rb", "a = 1\n", config(v)).find_node(:localasgn).name.should == "a"
+
+        cache.misses.should == 2
+        cache.parse("foo.rb", "a = 1\n", config(v))
+        cache.hits.should == 1
+      end
+    end
+  end
+end
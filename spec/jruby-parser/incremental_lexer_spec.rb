@@ -0,0 +1,31 @@
+require_relative '../helpers'
+
+import org.jrubyparser.lexer.IncrementalLexer
+
+describe IncrementalLexer do
+  VERSIONS.each do |v|
+    it "relexes only up to where the lexer state matches again [#{v}]" do
+      code = "a = 1\nb = 2\nc = 3\nd = 4\n"
+      lexer = IncrementalLexer.new("x", config(v))
+      lexer.lex(code).should == 4
+
+      edit = code.index("2")
+      code = code.sub("2", "[2,\n 3]")
+      lexer.update(code, edit, 1, 7).should == 3
+      lexer.line_count.should == 6
+      lexer.getTokens(3).next.value.should == "c"
+      lexer.getTokens(3).next.position.start_offset.should == code.index("c")
+    end
+
+    it "stops recording lines at a syntax error [#{v}]" do
+      code = "a = 1\nb = [2,\n 3]\nc = 3\n"
+      lexer = IncrementalLexer.new("x", config(v))
+      lexer.lex(code)
+
+      edit = code.index("3]")
+      code = code.sub("3]", "\"3]")
+      lexer.update(code, edit, 0, 1).should == 2
+      lexer.line_count.should == 3
+    end
+  end
+end
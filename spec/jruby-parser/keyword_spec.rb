@@ -0,0 +1,18 @@
+require_relative '../helpers'
+
+import java.lang.StringBuilder
+import org.jrubyparser.lexer.Lexer
+
+describe Lexer do
+  it "looks up keywords by String" do
+    Lexer.getKeyword("def").should == Lexer::Keyword::DEF
+    Lexer.getKeyword("__ENCODING__").should == Lexer::Keyword.valueOf("__ENCODING__")
+    Lexer.getKeyword("define").should == nil
+    Lexer.getKeyword("").should == nil
+  end
+
+  it "looks up keywords by any CharSequence" do
+    Lexer.java_send(:getKeyword, [java.lang.CharSequence], StringBuilder.new("unless")).should == Lexer::Keyword::UNLESS
+    Lexer.java_send(:getKeyword, [java.lang.CharSequence], StringBuilder.new("unles")).should == nil
+  end
+end
@@ -0,0 +1,58 @@
+require_relative '../helpers'
+
+import org.jrubyparser.LineMap
+
+describe LineMap do
+  VERSIONS.each do |v|
+    it "maps offsets to lines and columns of the parsed source [#{v}]" do
+      code = "a = 1\r\nfoo(a)\n\nbar\n"
+      map = parse(code, v).line_map
+
+      map.line_count.should == 5
+      map.get_line(code.index("foo")).should == 1
+      map.get_column(code.index("(a)")).should == 3
+      map.get_line(code.index("bar")).should == 3
+      map.get_line_start(3).should == code.index("bar")
+    end
+
+    it "maps lines from a source in memory including the ones after __END__ [#{v}]" do
+      code = "a\n__END__\nfoo\nbar\n"
+      map = PARSER.parse("x", code, config(v)).line_map
+
+      map.last_line.should == 4
+      map.get_line_start(3).should == code.index("bar")
+    end
+
+    it "keeps the line map current when reparsing [#{v}]" do
+      code = "def foo\n  1\nend\nbar\n"
+      root = parse(code, v)
+      inserted = "2\n  "
+
+      new_root = PARSER.reparse(root, code, code.index("1"), 0, inserted, config(v))
+      new_root.line_map.get_line(code.index("bar") + inserted.length).should == 4
+    end
+
+    it "maps the same lines reading from a Reader as from memory [#{v}]" do
+      ["a = <<EOS\nfoo\nbar\nEOS", "a = 1\rb = 2\r\rc = 3\r\n"].each do |code|
+        read = parse(code, v).line_map
+        in_memory = PARSER.parse("<code>", code, config(v)).line_map
+
+        read.line_count.should == in_memory.line_count
+        (0...read.line_count).each { |line| read.get_line_start(line).should == in_memory.get_line_start(line) }
+      end
+    end
+
+    it "gives positions after a lone \\r the same offsets as in the source [#{v}]" do
+      code = "a = 1\rb = 2\r"
+      parse(code, v).find_node(:localasgn) { |n| n.name == "b" }.position.start_offset.should == code.index("b")
+    end
+  end
+
+  it "treats \\r\\n and a lone \\r as one line break" do
+    map = LineMap.create("a\rb\r\nc", 0)
+
+    map.line_count.should == 3
+    map.get_line_start(2).should == 5
+    map.get_column(6).should == 1
+  end
+end
@@ -0,0 +1,45 @@
+require_relative '../helpers'
+
+import org.jrubyparser.ParseCache
+
+describe ParseCache do
+  VERSIONS.each do |v|
+    it "hands back the same result for the same source [#{v}]" do
+      cache = ParseCache.new(PARSER, 10, 1 << 20)
+
+      first = cache.parse("<code>", "a = 1\n", config(v))
+      cache.parse("<code>", "a = 1\n", config(v)).should == first
+      cache.parse("<code>", "a = 2\n", config(v)).should_not == first
+
+      cache.hits.should == 1
+      cache.misses.should == 2
+      cache.size.should == 2
+    end
+
+    it "parses again when anything which changes the result differs [#{v}]" do
+      cache = ParseCache.new(PARSER, 10, 1 << 20)
+
+      cache.parse("<code>", "a = 1\n", config(v))
+      cache.parse("<other>", "a = 1\n", config(v))
+      cache.parse("<code>", "a = 1\n", config(v, nil, :all))
+
+      cache.hits.should == 0
+      cache.misses.should == 3
+    end
+
+    it "drops the least recently used results when full [#{v}]" do
+      cache = ParseCache.new(PARSER, 2, 1 << 20)
+
+      cache.parse("<code>", "a = 1\n", config(v))
+      cache.parse("<code>", "b = 1\n", config(v))
+      cache.parse("<code>", "a = 1\n", config(v))
+      cache.parse("<code>", "c = 1\n", config(v))
+
+      cache.evictions.should == 1
+      cache.parse("<code>", "a = 1\n", config(v))
+      cache.hits.should == 2
+      cache.parse("<code>", "b = 1\n", config(v))
+      cache.misses.should == 4
+    end
+  end
+end
@@ -8,10 +8,84 @@ describe JRubyParser do
       end
     end
 
+    it "keeps every variable of a scope with hundreds of them in order [#{v}]" do
+      code = (0...300).map { |i| "v#{i} = #{i}" }.join("\n") + "\nv150"
+      parse(code, v).tap do |root|
+        root.static_scope.number_of_variables.should == 300
+        root.static_scope.variables.to_a.should == (0...300).map { |i| "v#{i}" }
+        root.find_type(:localvar).index.should == 150
+      end
+    end
+
     it "parses hash literal with trailing = at end of key name" do
       parse("{:a==>1}").tap do |root|
         root.find_type(:symbol).name.should == "a="
       end
     end
+
+    it "parses in-memory source the same as source from a Reader [#{v}]" do
+      code = "def foo(a)\n  <<-EOS + a\n  body\n  EOS\nend\r\nfoo(1)\n"
+      from_reader = PARSER.parse("<code>", source(code), config(v))
+      from_string = PARSER.parse("<code>", code.to_java(:string), config(v))
+
+      from_string.to_s.should == from_reader.to_s
+      from_string.find_node(:str).position.end_offset.should == from_reader.find_node(:str).position.end_offset
+    end
+
+    it "reads string contents which run across line ends from in-memory source [#{v}]" do
+      code = "a = \"one two\n  three \#{b} four\r\nfive\"\nc = 'six\nseven'\nd = %w(eight\n nine)\n"
+      from_reader = PARSER.parse("<code>", source(code), config(v))
+      from_string = PARSER.parse("<code>", code.to_java(:string), config(v))
+
+      strs = from_string.find_node(:localasgn) { |n| n.name == "a" }.find_node(:dstr).child_nodes.to_a
+      strs.first.value.should == "one two\n  three "
+      strs.last.value.should == " four\nfive"
+      from_string.find_node(:localasgn) { |n| n.name == "c" }.find_node(:str).value.should == "six\nseven"
+      from_string.find_node(:array).child_nodes.to_a.map(&:value).should == ["eight", "nine"]
+
+      from_string.to_s.should == from_reader.to_s
+      from_string.find_node(:array).position.end_offset.should == code.rindex(")") + 1
+    end
+
+    it "parses a batch of sources keeping their order [#{v}]" do
+      sources = java.util.LinkedHashMap.new
+      sources.put("a.rb", "a = 1")
+      sources.put("b.rb", "def (")
+      sources.put("c.rb", "c = 2")
+      executor = java.util.concurrent.Executors.new_fixed_thread_pool(2)
+
+      begin
+        outcomes = PARSER.parse_all(sources, config(v), executor).to_a
+      ensure
+        executor.shutdown
+      end
+
+      outcomes.map(&:file).should == ["a.rb", "b.rb", "c.rb"]
+      outcomes[0].getAST.find_node(:localasgn).name.should == "a"
+      outcomes[1].syntax_exception.should_not == nil
+      outcomes[2].getAST.find_node(:localasgn).name.should == "c"
+    end
+
+    it "hands out positions which do not move the node when changed [#{v}]" do
+      node = parse("a = 1", v).find_node(:localasgn)
+
+      node.position.adjust_start_offset(1)
+      node.position.start_offset.should == 0
+    end
+
+    it "grows the parser stacks for deeply nested code and reports their depth [#{v}]" do
+      code = "[" * 600 + "1" + "]" * 600
+      session = org.jrubyparser.ParserSession.new
+      nested = session.parse(config(v), org.jrubyparser.lexer.LexerSource.get_source("deep.rb", code, config(v)))
+      flat = session.parse(config(v), org.jrubyparser.lexer.LexerSource.get_source("flat.rb", "foo(1)", config(v)))
+
+      nested.stack_depth.should > 600
+      flat.stack_depth.should < 20
+
+      parser = org.jrubyparser.Parser.new
+      parser.parse("deep.rb", code, config(v))
+      parser.parse("flat.rb", "foo(1)", config(v))
+      parser.max_stack_depth.should == nested.stack_depth
+    end
   end
 end
@@ -0,0 +1,37 @@
+require_relative '../helpers'
+
+describe JRubyParser do
+  VERSIONS.each do |v|
+    it "reparses just the method an edit is in [#{v}]" do
+      code = "class Foo\n  def bar\n    1\n  end\nend\nx = 1\nfoo(x)\n"
+      root = parse(code, v)
+      edit = code.index("    1")
+      inserted = "    y = 2\n"
+
+      new_root = PARSER.reparse(root, code, edit, 0, inserted, config(v))
+      new_root.should == root
+      new_root.find_node(:localasgn).name.should == "y"
+      new_root.find_node(:fcall).position.start_offset.should == code.index("foo(x)") + inserted.length
+      new_root.find_node(:fcall).position.start_line.should == 7
+    end
+
+    it "reparses the whole source when an edit changes the variables seen after it [#{v}]" do
+      code = "z = x = 1\nx [1]\n"
+      root = parse(code, v)
+
+      new_root = PARSER.reparse(root, code, 4, 1, "y", config(v))
+      new_root.should_not == root
+      new_root.find_node(:localvar).should == nil
+    end
+
+    it "moves __LINE__ along with the lines after an edit [#{v}]" do
+      code = "def foo\n  1\nend\nbar(__LINE__)\n"
+      root = parse(code, v)
+      inserted = "\n  2\n"
+
+      new_root = PARSER.reparse(root, code, code.index("\nend"), 0, inserted, config(v))
+      new_root.should == root
+      new_root.find_node(:fixnum) { |n| n.position.start_line == 5 }.value.should == 6
+    end
+  end
+end
@@ -0,0 +1,36 @@
+require_relative '../helpers'
+
+import org.jrubyparser.LocalSymbolTable
+import org.jrubyparser.SharedSymbolTable
+
+describe SharedSymbolTable do
+  VERSIONS.each do |v|
+    it "collects the names of every parse sharing the table [#{v}]" do
+      table = SharedSymbolTable.new
+      c = config(v)
+      c.symbol_table = table
+
+      first = PARSER.parse("a", source("foo = 1\nfoo.bar\n"), c)
+      second = PARSER.parse("b", source("bar(:foo)\n"), c)
+
+      first.find_node(:call).name.should == "bar"
+      second.find_node(:symbol).name.should == "foo"
+
+      size = table.size
+      table.intern("foo")
+      table.intern("bar")
+      table.size.should == size
+    end
+  end
+end
+
+describe LocalSymbolTable do
+  it "hands out ids in the order names were added" do
+    table = LocalSymbolTable.new
+    table.intern(java.lang.StringBuilder.new("foo"))
+
+    table.get_id("bar").should == 1
+    table.get_id("foo").should == 0
+    table.size.should == 2
+  end
+end
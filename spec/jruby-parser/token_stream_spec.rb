@@ -0,0 +1,31 @@
+require_relative '../helpers'
+
+import org.jrubyparser.lexer.LexerSource
+import org.jrubyparser.lexer.TokenStream
+import org.jrubyparser.parser.Tokens
+
+describe TokenStream do
+  VERSIONS.each do |v|
+    it "lexes interpolated strings without parsing [#{v}]" do
+      code = "x = \"a\#{b}c\" + 1\n"
+      c = config(v)
+      tokens = TokenStream.new(LexerSource.getSource("x", source(code), c), c).to_a
+
+      tokens.map(&:type).should == [Tokens::tIDENTIFIER, '='.ord, Tokens::tSTRING_BEG,
+        Tokens::tSTRING_CONTENT, Tokens::tSTRING_DBEG, Tokens::tIDENTIFIER, Tokens::tRCURLY,
+        Tokens::tSTRING_CONTENT, Tokens::tSTRING_END, Tokens::tPLUS, Tokens::tINTEGER]
+      tokens[5].value.should == "b"
+      tokens[5].position.start_offset.should == 8
+    end
+
+    it "returns comments and whitespace as tokens when preserving spaces [#{v}]" do
+      code = "foo # bar\n"
+      c = config(v)
+      tokens = TokenStream.new(LexerSource.getSource("x", source(code), c), c, true).to_a
+
+      tokens.map(&:type).should include(Tokens::tCOMMENT, Tokens::tWHITESPACE)
+      comment = tokens.find { |t| t.type == Tokens::tCOMMENT }
+      comment.position.start_offset.should == 4
+    end
+  end
+end
@@ -17,5 +17,61 @@ describe Parser do
         parse("class Foo\n   def\nend\n", v)
       }.should raise_error SyntaxException
     end
+
+    it "parses cleanly after a syntax error left the parser mid-heredoc [#{v}]" do
+      lambda {
+        parse("a = <<-EOS\n  \#{(\n", v)
+      }.should raise_error
+
+      parse("b = 1", v).find_node(:localasgn).name.should == "b"
+    end
+
+    it "collects every syntax error and keeps the statements around them when recovering [#{v}]" do
+      c = config(v).tap { |c| c.error_recovery = true }
+      result = PARSER.parse_result("<code>", "a = 1\nfoo(1, 2\nd = 4\nb = )\nc = 3\n", c)
+
+      result.syntax_errors.size.should == 2
+      result.getAST.find_node(:localasgn) { |n| n.name == "a" }.should_not == nil
+      result.getAST.find_node(:localasgn) { |n| n.name == "c" }.should_not == nil
+    end
+
+    it "closes whatever is still open at the end of the source when recovering [#{v}]" do
+      c = config(v).tap { |c| c.error_recovery = true }
+      result = PARSER.parse_result("<code>", "class Foo\n  def bar\n    x = 1\n", c)
+
+      result.syntax_errors.size.should == 1
+      result.getAST.find_node(:class).find_node(:defn).find_node(:localasgn).name.should == "x"
+    end
+
+    it "does not recover from errors unless asked to [#{v}]" do
+      lambda {
+        PARSER.parse_result("<code>", "a = 1\nb = )\n", config(v))
+      }.should raise_error SyntaxException
+    end
+
+    it "records the lexer failing on a huge $n as the end of the source when recovering [#{v}]" do
+      c = config(v).tap { |c| c.error_recovery = true }
+      result = PARSER.parse_result("<code>", "a = 1\nx = $99999999999\n", c)
+
+      result.syntax_errors.size.should > 0
+      result.getAST.find_node(:localasgn) { |n| n.name == "a" }.should_not == nil
+    end
+  end
+
+  it "names tokens the 1.8 grammar does not know in its syntax errors" do
+    lambda {
+      parse('{"a": 1}', 1.8)
+    }.should raise_error SyntaxException
+
+    c = config(1.8).tap { |c| c.error_recovery = true }
+    PARSER.parse_result("<code>", "{\"a\": 1}\nb = 2\n", c).syntax_errors.size.should > 0
+  end
+
+  it "records an action failing on broken source and keeps going when recovering" do
+    c = config(2.0).tap { |c| c.error_recovery = true }
+    result = PARSER.parse_result("<code>", "x  %i[]\nfoo(x)\n", c)
+
+    result.syntax_errors.size.should == 1
+    result.getAST.should_not == nil
   end
 end
@@ -0,0 +1,33 @@
+require_relative '../helpers'
+
+import org.jrubyparser.lexer.SyntaxException
+
+describe Parser do
+  VERSIONS.each do |v|
+    it "parses integer literals in every radix [#{v}]" do
+      parse("0x1_f", v).find_node(:fixnum).value.should == 31
+      parse("0b1_01", v).find_node(:fixnum).value.should == 5
+      parse("0o17", v).find_node(:fixnum).value.should == 15
+      parse("0d1_000", v).find_node(:fixnum).value.should == 1000
+      parse("9223372036854775807", v).find_node(:fixnum).value.should == 9223372036854775807
+    end
+
+    it "parses integers too big for a long as bignums [#{v}]" do
+      parse("9223372036854775808", v).find_node(:bignum).value.should == 9223372036854775808
+      parse("0xffff_ffff_ffff_ffff_f", v).find_node(:bignum).value.should == 0xfffffffffffffffff
+    end
+
+    it "parses float literals [#{v}]" do
+      parse("1.5", v).find_node(:float).value.should == 1.5
+      parse("1_0.2_5e-1", v).find_node(:float).value.should == 1.025
+      parse("0.1e400", v).find_node(:float).value.should == Float::INFINITY
+      parse("12345678901234567890.5", v).find_node(:float).value.should == 12345678901234567890.5
+    end
+  end
+
+  it "reports rationals too big for a long with their value in the message" do
+    lambda {
+      parse("x = 99999999999999999999r", 2.3)
+    }.should raise_error(SyntaxException, "Rational (99999999999999999999) out of range.")
+  end
+end
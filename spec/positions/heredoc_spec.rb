@@ -101,5 +101,18 @@ module_eval <<-"end;", "file", 123
 
     ast.find_node(:str).should have_position(0, 1, 12, 27)
   end
+
+  it "parses two heredocs on one line the same from a string or a reader[#{v}]" do
+    code = "foo(<<A, <<-B)\na\nA\n  b\n  B\nbar\n"
+
+    [PARSER.parse("x", code, config(v)), parse(code, v)].each do |ast|
+      a, b = ast.find_node(:array).child_nodes.to_a
+      a.value.should == "a\n"
+      a.should have_position(0, 2, 4, 11)
+      b.value.should == "  b\n"
+      b.should have_position(2, 4, 13, 25)
+      ast.find_node(:vcall).should have_position(5, 5, 27, 30)
+    end
+  end
 end
 end
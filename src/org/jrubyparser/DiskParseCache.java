@@ -0,0 +1,177 @@
+package org.jrubyparser;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jrubyparser.ast.Node;
+import org.jrubyparser.ast.NodeReader;
+import org.jrubyparser.ast.NodeWriter;
+import org.jrubyparser.ast.RootNode;
+import org.jrubyparser.lexer.SyntaxException;
+import org.jrubyparser.parser.ParserConfiguration;
+
+/**
+ * Keeps the ASTs of parsed sources on disk (see NodeWriter) so that unchanged sources do not
+ * have to be parsed again by later processes.  An entry is named by a hash of the source along
+ * with the version, syntax gathering, starting line and error recovery it was parsed with.  The
+ * file name is not part of it: reading an entry back gives its positions whatever name the
+ * source is parsed under now, so a renamed or copied file still hits.  Parses with a
+ * StaticScope are never cached since they declare their variables in it.
+ *
+ * Entries written by a different format or parser version are ignored (and replaced), as are
+ * entries which cannot be read for any reason.  Writing entries is best-effort; a cache which
+ * cannot be written to just parses every time.  Warnings are only reported by the parse which
+ * wrote an entry, not again when it is read back.  Many processes (and threads) may share a
+ * directory.
+ */
+public class DiskParseCache {
+    private static final String SUFFIX = ".ast";
+
+    private final Parser parser;
+    private final File directory;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param parser to do the parses which are not in the cache
+     * @param directory to keep entries in (it is created if need be)
+     */
+    public DiskParseCache(Parser parser, File directory) {
+        this.parser = parser;
+        this.directory = directory;
+    }
+
+    /**
+     * Same as Parser.parse but the AST may come from an earlier parse of the same source.  Each
+     * call returns its own AST.
+     */
+    public Node parse(String file, CharSequence content, ParserConfiguration configuration)
+            throws SyntaxException {
+        if (configuration.getScope() != null) return parser.parse(file, content, configuration);
+
+        File entry = entryFor(ParseCache.contentHash(content), configuration);
+
+        if (entry.isFile()) {
+            try {
+                Node ast = NodeReader.read(readBytes(entry), file, configuration.getSymbolTable());
+
+                if (ast instanceof RootNode) {
+                    ((RootNode) ast).setLineMap(LineMap.create(content, configuration.getLineNumber()));
+                }
+
+                hits.incrementAndGet();
+                return ast;
+            } catch (IOException e) {
+                // Stale or damaged; parse it again and overwrite it
+            }
+        }
+
+        misses.incrementAndGet();
+
+        Node ast = parser.parse(file, content, configuration);
+        if (ast != null) store(entry, ast);
+
+        return ast;
+    }
+
+    /**
+     * Remove every entry in the cache.
+     */
+    public void clear() {
+        File[] shards = directory.listFiles();
+        if (shards == null) return;
+
+        for (File shard: shards) {
+            File[] entries = shard.listFiles();
+            if (entries == null) continue;
+
+            for (File entry: entries) {
+                if (entry.getName().endsWith(SUFFIX)) entry.delete();
+            }
+            shard.delete();
+        }
+    }
+
+    /**
+     * @return how many parses were answered from the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return how many cacheable parses were not in the cache (or had an unreadable entry)
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    // Sharded on the first two hex digits so no one directory gets too big
+    private File entryFor(String hash, ParserConfiguration configuration) {
+        StringBuilder name = new StringBuilder(hash);
+
+        name.append('-').append(configuration.getVersion());
+        name.append('-').append(configuration.getSyntax());
+        name.append('-').append(configuration.getLineNumber());
+        if (configuration.isErrorRecovery()) name.append("-r");
+
+        return new File(new File(directory, hash.substring(0, 2)), name.append(SUFFIX).toString());
+    }
+
+    private static byte[] readBytes(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+
+        try {
+            long length = file.length();
+            if (length > Integer.MAX_VALUE) throw new IOException("Entry too large: " + file);
+
+            byte[] data = new byte[(int) length];
+            for (int n = 0; n < data.length;) {
+                int read = in.read(data, n, data.length - n);
+                if (read == -1) throw new IOException("Entry truncated: " + file);
+
+                n += read;
+            }
+
+            return data;
+        } finally {
+            in.close();
+        }
+    }
+
+    // Written to a temporary file and renamed into place so readers never see part of an entry
+    private static void store(File entry, Node ast) {
+        File shard = entry.getParentFile();
+        File temp = null;
+        byte[] data;
+
+        try {
+            data = NodeWriter.write(ast);
+        } catch (RuntimeException e) {
+            return; // Nothing the parser makes should get here but the parse is fine without caching it
+        }
+
+        try {
+            if (!shard.isDirectory() && !shard.mkdirs() && !shard.isDirectory()) return;
+
+            temp = File.createTempFile("entry", ".tmp", shard);
+            OutputStream out = new FileOutputStream(temp);
+
+            try {
+                out.write(data);
+            } finally {
+                out.close();
+            }
+
+            // Some platforms will not rename over an existing file
+            if (!temp.renameTo(entry) && !(entry.delete() && temp.renameTo(entry))) temp.delete();
+        } catch (IOException e) {
+            if (temp != null) temp.delete();
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package org.jrubyparser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jrubyparser.ast.BlockNode;
+import org.jrubyparser.ast.ClassNode;
+import org.jrubyparser.ast.DAsgnNode;
+import org.jrubyparser.ast.DVarNode;
+import org.jrubyparser.ast.DefsNode;
+import org.jrubyparser.ast.FixnumNode;
+import org.jrubyparser.ast.LocalAsgnNode;
+import org.jrubyparser.ast.LocalVarNode;
+import org.jrubyparser.ast.MethodDefNode;
+import org.jrubyparser.ast.ModuleNode;
+import org.jrubyparser.ast.NewlineNode;
+import org.jrubyparser.ast.Node;
+import org.jrubyparser.ast.RootNode;
+import org.jrubyparser.ast.SClassNode;
+import org.jrubyparser.ast.SyntaxNode;
+import org.jrubyparser.ast.VCallNode;
+import org.jrubyparser.lexer.CharArrayLexerSource;
+import org.jrubyparser.lexer.LexerSource;
+import org.jrubyparser.parser.ParserConfiguration;
+import org.jrubyparser.parser.ParserResult;
+
+/**
+ * Reparses just the part of an existing AST which an edit touched (see Parser.reparse).  The
+ * part reparsed is the innermost method definition, class, module or singleton class holding
+ * the edit or, failing that, the top-level statement holding it.  That region of the new
+ * source is lexed in place so the new subtree comes out with its final positions and then
+ * everything after it just gets moved over by the size of the edit.
+ *
+ * Whenever we cannot be sure the result matches what a full parse would give (the region no
+ * longer parses as a single node of the same kind, it does not begin and end on its own lines,
+ * it changes which local variables the rest of the file sees...) reparse returns null and the
+ * caller should parse the whole thing instead.
+ */
+class IncrementalParser {
+    private final Parser parser;
+    private final ParserConfiguration configuration;
+    private final RootNode root;
+
+    // The source after the edit
+    private final String source;
+
+    // Where the removed text was in the old source
+    private final int editStart;
+    private final int editEnd;
+
+    // How much longer the source got
+    private final int delta;
+
+    // Comments (etc...) found in the reparsed region
+    private List<SyntaxNode> syntaxNodes = new ArrayList<SyntaxNode>();
+
+    IncrementalParser(Parser parser, ParserConfiguration configuration, RootNode root,
+            String source, int offset, int removed, int inserted) {
+        this.parser = parser;
+        this.configuration = configuration;
+        this.root = root;
+        this.source = source;
+        this.editStart = offset;
+        this.editEnd = offset + removed;
+        this.delta = inserted - removed;
+    }
+
+    /**
+     * @return the updated root (same as the one passed in) or null if a full parse is needed
+     */
+    public Node reparse() {
+        Node candidate = findCandidate();
+
+        if (candidate == null) return null;
+
+        Node replacement = reparse(candidate);
+
+        if (replacement == null) return null;
+
+        SourcePosition position = candidate.getPosition();
+        int lineDelta = replacement.getPosition().getEndLine() - position.getEndLine();
+        List<Node> oldSyntaxNodes = new ArrayList<Node>();
+
+        ((NewlineNode) candidate.getParent()).setNextNode(replacement);
+        move(root, replacement, position.getStartOffset(), position.getEndOffset(), lineDelta,
+                oldSyntaxNodes, new IdentityHashMap<Node, Node>());
+
+        // Comments can get woven in well outside of the node they are in so replace them
+        // all the same way a full parse would weave them in
+        for (Node node: oldSyntaxNodes) {
+            node.getParent().removeChild(node);
+        }
+        root.insertAll(syntaxNodes);
+
+        return root;
+    }
+
+    private Node findCandidate() {
+        Node candidate = null;
+
+        for (Node node = root; node != null; node = childHoldingEdit(node)) {
+            if (isCandidate(node)) candidate = node;
+        }
+
+        return candidate;
+    }
+
+    private Node childHoldingEdit(Node node) {
+        for (Node child: node.childNodes()) {
+            SourcePosition position = child.getPosition();
+
+            if (position != null && position.getStartOffset() <= editStart &&
+                    editEnd <= position.getEndOffset()) return child;
+        }
+
+        return null;
+    }
+
+    private boolean isCandidate(Node node) {
+        if (!(node.getParent() instanceof NewlineNode)) return false;
+
+        SourcePosition position = node.getPosition();
+
+        // An edit touching either end can join up with the tokens next to the node
+        if (editStart <= position.getStartOffset() || editEnd >= position.getEndOffset()) return false;
+
+        // Nested definitions get parsed differently (e.g. in_def) so only take the outer one
+        if (isDefinition(node)) return node.getParent().getMethodFor() == null;
+
+        return isTopLevel(node);
+    }
+
+    private boolean isTopLevel(Node node) {
+        Node parent = node.getParent().getParent();
+
+        return parent == root || (parent instanceof BlockNode && parent.getParent() == root);
+    }
+
+    private Node reparse(Node candidate) {
+        SourcePosition position = candidate.getPosition();
+        int start = position.getStartOffset();
+        int end = position.getEndOffset() + delta;
+        int stop = nextCode(end);
+
+        if (!beginsLine(start) || stop < 0) return null;
+
+        if (isDefinition(candidate)) {
+            StaticScope scope = getScope(candidate).getEnclosingScope();
+            String[] variables = scope.getVariables();
+            Node replacement = parse(candidate, scope, start, end, stop);
+
+            // Only an outer part like the superclass could have added these
+            if (scope.getNumberOfVariables() != variables.length) {
+                scope.setVariables(variables);
+                return null;
+            }
+
+            return replacement == null || usesOuterScope(replacement) ? null : replacement;
+        }
+
+        // We cannot tell eval variables apart from ones assigned later in the file
+        if (configuration.getScope() != null) return null;
+
+        // Parse against the root scope cut back to just the variables assigned before this
+        // statement.  It must add back exactly what the old statement added or the rest of
+        // the file would have parsed differently.
+        StaticScope scope = root.getStaticScope();
+        String[] variables = scope.getVariables();
+        int known = countAssignedBefore(candidate, variables);
+
+        if (known < 0) return null;
+
+        Set<String> names = new HashSet<String>();
+        assignedVariables(candidate, names);
+        for (int i = 0; i < known; i++) {
+            names.remove(variables[i]);
+        }
+        int added = names.size();
+
+        String[] before = new String[known];
+        System.arraycopy(variables, 0, before, 0, known);
+
+        scope.setVariables(before);
+        Node replacement = parse(candidate, scope, start, end, stop);
+        String[] reparsed = scope.getVariables();
+        scope.setVariables(variables);
+
+        if (reparsed.length != known + added) return null;
+        for (int i = known; i < reparsed.length; i++) {
+            if (!reparsed[i].equals(variables[i])) return null;
+        }
+
+        return replacement;
+    }
+
+    // Comments and whitespace up to stop get lexed too since they can affect positions
+    private Node parse(Node candidate, StaticScope scope, int start, int end, int stop) {
+        SourcePosition position = candidate.getPosition();
+        ParserConfiguration regionConfiguration = new ParserConfiguration(position.getStartLine(),
+                configuration.getVersion(), scope);
+        regionConfiguration.setSyntax(configuration.getSyntax());
+        regionConfiguration.setSymbolTable(configuration.getSymbolTable());
+
+        char[] region = new char[stop - start];
+        source.getChars(start, stop, region, 0);
+
+        LexerSource lexerSource = new CharArrayLexerSource(position.getFile(), region, position.getStartLine());
+        lexerSource.setStartOffset(start);
+
+        ParserResult result;
+        try {
+            result = parser.parseResult(lexerSource, regionConfiguration, false);
+        } catch (RuntimeException e) {
+            return null; // Maybe a real error but the full parse will report it properly
+        } catch (IOException e) {
+            return null;
+        }
+
+        if (result.getEndOffset() != -1) return null; // __END__ got typed in
+
+        Node body = ((RootNode) result.getAST()).getBody();
+        if (!(body instanceof NewlineNode)) return null;
+
+        Node node = ((NewlineNode) body).getNextNode();
+        SourcePosition newPosition = node.getPosition();
+        if (newPosition.getStartOffset() != start || newPosition.getEndOffset() != end) return null;
+
+        // The newline node around it can end up with a position which depends on how the
+        // statement ends so it must overhang the statement like the old one did
+        SourcePosition oldNewline = candidate.getParent().getPosition();
+        SourcePosition newNewline = body.getPosition();
+        if (oldNewline.getStartOffset() - position.getStartOffset() != newNewline.getStartOffset() - start ||
+                oldNewline.getEndOffset() - position.getEndOffset() != newNewline.getEndOffset() - end ||
+                oldNewline.getEndLine() - position.getEndLine() != newNewline.getEndLine() - newPosition.getEndLine()) return null;
+
+        // The scope handling above depends on the kind of node
+        if (isDefinition(candidate) ? node.getClass() != candidate.getClass() : isDefinition(node)) return null;
+
+        if (result.getSyntaxNodes() != null) {
+            for (SyntaxNode syntaxNode: result.getSyntaxNodes()) {
+                // Anything after end on the last line is not ours
+                if (syntaxNode.getPosition().getStartOffset() < end) syntaxNodes.add(syntaxNode);
+            }
+        }
+
+        return node;
+    }
+
+    private boolean beginsLine(int offset) {
+        for (int i = offset - 1; i >= 0; i--) {
+            char c = source.charAt(i);
+
+            if (c == '\n' || c == '\r') return true;
+            if (c != ' ' && c != '\t') return false;
+        }
+
+        return true;
+    }
+
+    // Offset of the next code after offset (skipping comments and blank lines) or -1 if there
+    // is more code on the same line
+    private int nextCode(int offset) {
+        int length = source.length();
+        boolean comment = false;
+        boolean newline = false;
+
+        for (int i = offset; i < length; i++) {
+            char c = source.charAt(i);
+
+            if (c == '\n' || c == '\r') {
+                newline = true;
+                comment = false;
+            } else if (c == '#') {
+                comment = true;
+            } else if (!comment && c != ' ' && c != '\t') {
+                return newline ? i : -1;
+            }
+        }
+
+        return length;
+    }
+
+    /**
+     * How many variables of the root scope were first assigned before this top-level
+     * statement.  These must be the first ones in the scope or -1 is returned.
+     */
+    private int countAssignedBefore(Node candidate, String[] variables) {
+        Set<String> names = new HashSet<String>();
+        Node newline = candidate.getParent();
+
+        for (Node statement: newline.getParent().childNodes()) {
+            if (statement == newline) break;
+
+            assignedVariables(statement, names);
+        }
+
+        for (int i = 0; i < names.size(); i++) {
+            if (i >= variables.length || !names.contains(variables[i])) return -1;
+        }
+
+        return names.size();
+    }
+
+    // Names of all variables assigned in the local scope node is in
+    private void assignedVariables(Node node, Set<String> names) {
+        if (node instanceof LocalAsgnNode && ((LocalAsgnNode) node).getDepth() == 0) {
+            names.add(((LocalAsgnNode) node).getName());
+        }
+
+        for (Node child: isDefinition(node) ? getOuterParts(node) : node.childNodes()) {
+            assignedVariables(child, names);
+        }
+    }
+
+    private boolean usesOuterScope(Node definition) {
+        for (Node part: getOuterParts(definition)) {
+            if (usesVariables(part)) return true;
+        }
+
+        return false;
+    }
+
+    private boolean usesVariables(Node node) {
+        if (node instanceof LocalVarNode || node instanceof LocalAsgnNode || node instanceof DVarNode ||
+                node instanceof DAsgnNode || node instanceof VCallNode) return true;
+
+        for (Node child: node.childNodes()) {
+            if (usesVariables(child)) return true;
+        }
+
+        return false;
+    }
+
+    private static boolean isDefinition(Node node) {
+        return node instanceof MethodDefNode || node instanceof ClassNode ||
+                node instanceof ModuleNode || node instanceof SClassNode;
+    }
+
+    private static StaticScope getScope(Node definition) {
+        if (definition instanceof MethodDefNode) return ((MethodDefNode) definition).getScope();
+        if (definition instanceof ClassNode) return ((ClassNode) definition).getScope();
+        if (definition instanceof ModuleNode) return ((ModuleNode) definition).getScope();
+
+        return ((SClassNode) definition).getScope();
+    }
+
+    // The parts of a definition which are evaluated in the scope around it
+    private static List<Node> getOuterParts(Node definition) {
+        List<Node> parts = new ArrayList<Node>();
+
+        if (definition instanceof DefsNode) {
+            parts.add(((DefsNode) definition).getReceiver());
+        } else if (definition instanceof ClassNode) {
+            parts.add(((ClassNode) definition).getCPath());
+            if (((ClassNode) definition).getSuper() != null) parts.add(((ClassNode) definition).getSuper());
+        } else if (definition instanceof ModuleNode) {
+            parts.add(((ModuleNode) definition).getCPath());
+        } else if (definition instanceof SClassNode) {
+            parts.add(((SClassNode) definition).getReceiver());
+        }
+
+        return parts;
+    }
+
+    /**
+     * Move everything which comes after the old region by the size of the edit (and stretch
+     * everything around it).  The replacement already has the right positions.  Syntax nodes
+     * from the old region are collected up instead.
+     */
+    private void move(Node node, Node replacement, int start, int oldEnd, int lineDelta,
+            List<Node> oldSyntaxNodes, Map<Node, Node> moved) {
+        SourcePosition position = node.getPosition();
+
+        // Nothing under a node which ends before the region needs to move
+        if (position != null && position.getEndOffset() < start) return;
+
+        if (moved.put(node, node) != null) return; // Some nodes show up in more than one place
+
+        if (position != null) {
+            if (node instanceof SyntaxNode && position.getStartOffset() >= start &&
+                    position.getStartOffset() < oldEnd) {
+                oldSyntaxNodes.add(node);
+                return;
+            }
+
+            if (position.getStartOffset() >= oldEnd) {
+                node.setPosition(new SourcePosition(position.getFile(),
+                        position.getStartLine() + lineDelta, position.getEndLine() + lineDelta,
+                        position.getStartOffset() + delta, position.getEndOffset() + delta));
+
+                // __LINE__ is a literal holding the line it was on
+                if (lineDelta != 0 && isLineKeyword(node)) {
+                    ((FixnumNode) node).setValue(((FixnumNode) node).getValue() + lineDelta);
+                }
+            } else if (position.getEndOffset() >= oldEnd) {
+                node.setPosition(new SourcePosition(position.getFile(),
+                        position.getStartLine(), position.getEndLine() + lineDelta,
+                        position.getStartOffset(), position.getEndOffset() + delta));
+            }
+        }
+
+        for (Node child: node.childNodes()) {
+            if (child != replacement) {
+                move(child, replacement, start, oldEnd, lineDelta, oldSyntaxNodes, moved);
+            }
+        }
+    }
+
+    // Called after node got moved so its position is in the new source
+    private boolean isLineKeyword(Node node) {
+        if (!(node instanceof FixnumNode)) return false;
+
+        SourcePosition position = node.getPosition();
+
+        return position.getEndOffset() - position.getStartOffset() == "__LINE__".length() &&
+                source.startsWith("__LINE__", position.getStartOffset());
+    }
+}
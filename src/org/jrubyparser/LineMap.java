@@ -0,0 +1,139 @@
+package org.jrubyparser;
+
+/**
+ * Where each line of a source starts.  Built once per parse so that going from an offset to
+ * its line and column (or from a line to its offset) is a binary search or an array lookup
+ * instead of a scan of the source.
+ *
+ * Lines are numbered like in SourcePosition (starting at the line number the source was parsed
+ * with) and offsets count "\r\n" as two chars just like the lexer does.  A line break is "\n",
+ * "\r\n" or a lone "\r".
+ */
+public class LineMap {
+    private final int firstLine;
+    // Offset of the first char of line (firstLine + i)
+    private final int[] starts;
+    private final int count;
+
+    /**
+     * @param firstLine the line number of the first line
+     * @param starts the offsets of the first chars of the lines (starts[0] for firstLine)
+     * @param count how many of starts are in use
+     */
+    public LineMap(int firstLine, int[] starts, int count) {
+        if (count < 1) throw new IllegalArgumentException("A source has at least one line");
+
+        this.firstLine = firstLine;
+        this.starts = new int[count];
+        this.count = count;
+
+        System.arraycopy(starts, 0, this.starts, 0, count);
+    }
+
+    /**
+     * Find the lines in source.
+     *
+     * @param source the text
+     * @param firstLine the line number of the first line
+     * @return the map
+     */
+    public static LineMap create(CharSequence source, int firstLine) {
+        char[] data = source.toString().toCharArray();
+
+        return create(data, 0, data.length, firstLine, 0);
+    }
+
+    /**
+     * Find the lines of a source kept in part of an array.
+     *
+     * @param data holding the source
+     * @param start index of the first char of the source within data
+     * @param end index one past the last char of the source within data
+     * @param firstLine the line number of the first line
+     * @param startOffset the offset of the first char (when the source is part of a larger one)
+     * @return the map
+     */
+    public static LineMap create(char[] data, int start, int end, int firstLine, int startOffset) {
+        int[] starts = new int[16];
+        int count = 1;
+
+        starts[0] = startOffset;
+
+        for (int i = start; i < end; i++) {
+            char c = data[i];
+
+            if (c != '\n' && c != '\r') continue;
+            if (c == '\r' && i + 1 < end && data[i + 1] == '\n') i++;
+
+            if (count == starts.length) starts = grow(starts);
+            starts[count++] = startOffset + i + 1 - start;
+        }
+
+        return new LineMap(firstLine, starts, count);
+    }
+
+    /**
+     * Make room for one more line start (for building starts a line at a time).
+     */
+    public static int[] grow(int[] starts) {
+        int[] newStarts = new int[starts.length * 2];
+
+        System.arraycopy(starts, 0, newStarts, 0, starts.length);
+
+        return newStarts;
+    }
+
+    public int getFirstLine() {
+        return firstLine;
+    }
+
+    public int getLastLine() {
+        return firstLine + count - 1;
+    }
+
+    public int getLineCount() {
+        return count;
+    }
+
+    /**
+     * @return the line offset is on (offsets before or after the source give the first or last line)
+     */
+    public int getLine(int offset) {
+        int low = 0;
+        int high = count - 1;
+
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+
+            if (starts[middle] <= offset) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return firstLine + low;
+    }
+
+    /**
+     * @return how many chars offset is from the start of its line
+     */
+    public int getColumn(int offset) {
+        return offset - getLineStart(getLine(offset));
+    }
+
+    /**
+     * @return the offset of the first char on line
+     * @throws IndexOutOfBoundsException if the source has no such line
+     */
+    public int getLineStart(int line) {
+        int index = line - firstLine;
+
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("No line " + line + " (lines are " + firstLine + ".." +
+                    getLastLine() + ")");
+        }
+
+        return starts[index];
+    }
+}
@@ -0,0 +1,79 @@
+package org.jrubyparser;
+
+import org.jrubyparser.util.CharSequences;
+
+/**
+ * A SymbolTable for use by one thread at a time (by default every parse gets a new one).
+ * Looking up a name which is already in the table only compares chars so the lexer can look
+ * up its token buffer without making a String first.
+ */
+public class LocalSymbolTable extends SymbolTable {
+    // Open addressing hash table of names (a power of two in size and never more than half full)
+    private String[] names = new String[256];
+    private int[] hashes = new int[256];
+    private int[] ids = new int[256];
+    private int size = 0;
+
+    public String intern(CharSequence name) {
+        int slot = slot(name); // Might grow names
+
+        return names[slot];
+    }
+
+    public int getId(CharSequence name) {
+        int slot = slot(name);
+
+        return ids[slot];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Slot holding name (adding it if it is not there yet)
+    private int slot(CharSequence name) {
+        int hash = CharSequences.hash(name);
+        int mask = names.length - 1;
+        int slot = hash & mask;
+
+        for (String existing = names[slot]; existing != null; existing = names[slot]) {
+            if (hashes[slot] == hash && CharSequences.equal(existing, name)) return slot;
+
+            slot = (slot + 1) & mask;
+        }
+
+        names[slot] = name.toString();
+        hashes[slot] = hash;
+        ids[slot] = size++;
+
+        if (size * 2 <= names.length) return slot;
+
+        grow();
+
+        return slot(name);
+    }
+
+    private void grow() {
+        String[] oldNames = names;
+        int[] oldHashes = hashes;
+        int[] oldIds = ids;
+        int mask = oldNames.length * 2 - 1;
+
+        names = new String[oldNames.length * 2];
+        hashes = new int[names.length];
+        ids = new int[names.length];
+
+        for (int i = 0; i < oldNames.length; i++) {
+            if (oldNames[i] == null) continue;
+
+            int slot = oldHashes[i] & mask;
+            while (names[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+
+            names[slot] = oldNames[i];
+            hashes[slot] = oldHashes[i];
+            ids[slot] = oldIds[i];
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package org.jrubyparser;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import org.jrubyparser.ast.Node;
+import org.jrubyparser.lexer.SyntaxException;
+import org.jrubyparser.parser.ParserConfiguration;
+import org.jrubyparser.parser.ParserResult;
+
+/**
+ * Remembers the results of parsing sources so that parsing the same unchanged source again
+ * (e.g. several tools in one process looking at the same files) is a lookup.  A source is
+ * recognized by a hash of its contents together with everything about the parse which changes
+ * the result: file name (it is in every SourcePosition), version, syntax gathering, starting
+ * line and error recovery.  Parses with a StaticScope are never cached since they declare their
+ * variables in it.
+ *
+ * The least recently used results are dropped once there are more than maxEntries of them or
+ * their ASTs are estimated to take more than maxBytes.  Failed parses are not cached.
+ *
+ * Everyone parsing the same source gets the same ParserResult so its AST must be treated as
+ * read-only.  Reading a shared AST from many threads at once is fine, including the lookups
+ * RootNode remembers (see RootNode), but nothing may change it.  A ParseCache may be used from
+ * many threads at once.
+ */
+public class ParseCache {
+    // Roughly what a node takes along with its SourcePosition (100-120 bytes on a 64-bit JVM)
+    private static final int BYTES_PER_NODE = 112;
+
+    private final Parser parser;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    // In least recently used order
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param parser to do the parses which are not in the cache
+     * @param maxEntries most results to keep
+     * @param maxBytes most estimated AST bytes to keep
+     */
+    public ParseCache(Parser parser, int maxEntries, long maxBytes) {
+        if (maxEntries < 1 || maxBytes < 1) throw new IllegalArgumentException("A cache needs room for something");
+
+        this.parser = parser;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Same as Parser.parseResult but the result may come from an earlier parse of the same source.
+     */
+    public ParserResult parse(String file, CharSequence content, ParserConfiguration configuration)
+            throws SyntaxException {
+        if (configuration.getScope() != null) return parser.parseResult(file, content, configuration);
+
+        Key key = new Key(file, contentHash(content), configuration);
+
+        synchronized (this) {
+            Entry entry = entries.get(key);
+
+            if (entry != null) {
+                hits++;
+                return entry.result;
+            }
+
+            misses++;
+        }
+
+        // Parse without holding the lock; should two threads parse the same source the last one wins
+        ParserResult result = parser.parseResult(file, content, configuration);
+        if (result == null) return null;
+
+        long size = estimateBytes(result.getAST());
+
+        synchronized (this) {
+            Entry old = entries.put(key, new Entry(result, size));
+
+            if (old != null) bytes -= old.bytes;
+            bytes += size;
+            evict();
+        }
+
+        return result;
+    }
+
+    private void evict() {
+        Iterator<Entry> iterator = entries.values().iterator();
+
+        while ((entries.size() > maxEntries || bytes > maxBytes) && iterator.hasNext()) {
+            bytes -= iterator.next().bytes;
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return estimated bytes taken by the ASTs in the cache
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return how many parses were answered from the cache
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return how many cacheable parses were not in the cache
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return how many results were dropped to make room for others
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * A SHA-256 of content as a hex string.  The same content always gives the same hash (in any
+     * JVM), so it can name things outside of the process too.
+     */
+    public static String contentHash(CharSequence content) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Every JVM has SHA-256", e);
+        }
+
+        byte[] chunk = new byte[8192];
+        int length = content.length();
+        for (int i = 0; i < length;) { // both bytes of each char so that any content hashes the same
+            int n = 0;
+            for (; n < chunk.length && i < length; i++) {
+                char c = content.charAt(i);
+                chunk[n++] = (byte) (c >> 8);
+                chunk[n++] = (byte) c;
+            }
+            digest.update(chunk, 0, n);
+        }
+
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b: digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+
+        return hex.toString();
+    }
+
+    private static long estimateBytes(Node root) {
+        if (root == null) return BYTES_PER_NODE;
+
+        long count = 0;
+        List<Node> stack = new ArrayList<Node>();
+        stack.add(root);
+
+        while (!stack.isEmpty()) { // not recursive since deeply nested code has deep trees
+            Node node = stack.remove(stack.size() - 1);
+
+            count++;
+            stack.addAll(node.childNodes());
+        }
+
+        return count * BYTES_PER_NODE;
+    }
+
+    private static class Entry {
+        private final ParserResult result;
+        private final long bytes;
+
+        public Entry(ParserResult result, long bytes) {
+            this.result = result;
+            this.bytes = bytes;
+        }
+    }
+
+    private static class Key {
+        private final String file;
+        private final String hash;
+        private final CompatVersion version;
+        private final ParserConfiguration.SyntaxGathering syntax;
+        private final int lineNumber;
+        private final boolean errorRecovery;
+
+        public Key(String file, String hash, ParserConfiguration configuration) {
+            this.file = file;
+            this.hash = hash;
+            this.version = configuration.getVersion();
+            this.syntax = configuration.getSyntax();
+            this.lineNumber = configuration.getLineNumber();
+            this.errorRecovery = configuration.isErrorRecovery();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) return false;
+
+            Key key = (Key) other;
+
+            return hash.equals(key.hash) && (file == null ? key.file == null : file.equals(key.file)) &&
+                    version == key.version && syntax == key.syntax && lineNumber == key.lineNumber && errorRecovery == key.errorRecovery;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash.hashCode() * 31 + (file == null ? 0 : file.hashCode());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.jrubyparser;
+
+import org.jrubyparser.ast.Node;
+import org.jrubyparser.lexer.SyntaxException;
+import org.jrubyparser.parser.ParserResult;
+
+/**
+ * What happened to one file of a batch parse (see Parser.parseAll).  Either there is a result
+ * or there is an error (a SyntaxException, an IOException from reading the file, or whatever
+ * else went wrong while parsing it).
+ */
+public class ParseOutcome {
+    private final String file;
+    private final ParserResult result;
+    private final Exception error;
+    private final long time;
+    private final int bytes;
+
+    public ParseOutcome(String file, ParserResult result, Exception error, long time, int bytes) {
+        this.file = file;
+        this.result = result;
+        this.error = error;
+        this.time = time;
+        this.bytes = bytes;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    /**
+     * @return the result of the parse or null if it failed
+     */
+    public ParserResult getResult() {
+        return result;
+    }
+
+    /**
+     * @return the AST of the parse or null if it failed
+     */
+    public Node getAST() {
+        return result == null ? null : result.getAST();
+    }
+
+    /**
+     * @return why this file failed to parse or null if it succeeded
+     */
+    public Exception getError() {
+        return error;
+    }
+
+    /**
+     * @return the syntax error for this file or null if it had no syntax error
+     */
+    public SyntaxException getSyntaxException() {
+        return error instanceof SyntaxException ? (SyntaxException) error : null;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * @return nanoseconds spent parsing this file (not counting reading it)
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * @return number of chars the lexer consumed
+     */
+    public int getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return file + (error == null ? ": ok" : ": " + error);
+    }
+}
@@ -31,77 +31,296 @@
  ***** END LICENSE BLOCK *****/
 package org.jrubyparser;
 
+import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.jrubyparser.IRubyWarnings.ID;
 import org.jrubyparser.ast.Node;
+import org.jrubyparser.ast.RootNode;
 import org.jrubyparser.lexer.LexerSource;
 import org.jrubyparser.lexer.SyntaxException;
 import org.jrubyparser.parser.ParserConfiguration;
 import org.jrubyparser.parser.ParserResult;
-import org.jrubyparser.parser.Ruby18Parser;
-import org.jrubyparser.parser.Ruby19Parser;
-import org.jrubyparser.parser.Ruby20Parser;
-import org.jrubyparser.parser.Ruby23Parser;
-import org.jrubyparser.parser.RubyParser;
 
 /**
  * Serves as a simple facade for all the parsing magic.
  */
 public class Parser {
-    private volatile long totalTime;
-    private volatile int totalBytes;
+    // Grammar parsers are expensive enough to build that we keep them around per thread
+    private static final ThreadLocal<ParserSession> SESSIONS = new ThreadLocal<ParserSession>() {
+        @Override
+        protected ParserSession initialValue() {
+            return new ParserSession();
+        }
+    };
+
+    // A single Parser may be used from many threads at once (see parseAll)
+    private final AtomicLong totalTime = new AtomicLong();
+    private final AtomicInteger totalBytes = new AtomicInteger();
+    private final AtomicInteger maxStackDepth = new AtomicInteger();
 
     public Parser() {}
 
     public long getTotalTime() {
-        return totalTime;
+        return totalTime.get();
     }
 
     public int getTotalBytes() {
-        return totalBytes;
+        return totalBytes.get();
+    }
+
+    /**
+     * @return the deepest the grammar's state/value stacks got in any parse so far
+     */
+    public int getMaxStackDepth() {
+        return maxStackDepth.get();
     }
 
     // TODO: Add rewriter parsing in here.
     
     public Node parse(String file, Reader content, ParserConfiguration configuration)
             throws SyntaxException {
-        long startTime = System.nanoTime();
+        return parse(LexerSource.getSource(file, content, configuration), configuration);
+    }
+
+    /**
+     * Parse source which is already completely in memory.  This avoids the overhead of
+     * reading the source through a Reader a char at a time.
+     */
+    public Node parse(String file, CharSequence content, ParserConfiguration configuration)
+            throws SyntaxException {
+        return parse(LexerSource.getSource(file, content, configuration), configuration);
+    }
 
-        RubyParser parser;
-        if (configuration.getVersion() == CompatVersion.RUBY1_8) {
-            parser = new Ruby18Parser();            
-        } else if (configuration.getVersion() == CompatVersion.RUBY1_9) {
-            parser = new Ruby19Parser();
-        } else if (configuration.getVersion() == CompatVersion.RUBY2_0) {
-            parser = new Ruby20Parser();
-        } else {
-            parser = new Ruby23Parser();
+    /**
+     * Parse source which is already completely in memory, returning everything the parse found
+     * out about it.  With ParserConfiguration.setErrorRecovery on this is how to get at the
+     * syntax errors along with the (partial) AST.
+     */
+    public ParserResult parseResult(String file, CharSequence content, ParserConfiguration configuration)
+            throws SyntaxException {
+        try {
+            return parseResult(LexerSource.getSource(file, content, configuration), configuration);
+        } catch(IOException e) {
+            return null;
         }
+    }
+
+    /**
+     * Update an AST for an edit to its source.  Only the innermost method definition, class,
+     * module or top-level statement surrounding the edit is parsed again and spliced into the
+     * existing tree (positions after the edit get moved along).  If the edit cannot safely be
+     * handled that way (it spans more than one of those, it changes how the code around it
+     * would parse, ...) this falls back to parsing the whole new source.
+     *
+     * @param root from the last parse of source (it may be updated in place)
+     * @param source which root was parsed from
+     * @param offset where the edit begins in source
+     * @param removed how many chars starting at offset were removed
+     * @param inserted what got put at offset in their place
+     * @param configuration the same one root was parsed with
+     * @return the AST of the new source (which is root itself unless a full parse happened)
+     */
+    public Node reparse(RootNode root, String source, int offset, int removed, String inserted,
+            ParserConfiguration configuration) throws SyntaxException {
+        String newSource = source.substring(0, offset) + inserted + source.substring(offset + removed);
+        Node ast = new IncrementalParser(this, configuration, root, newSource, offset, removed,
+                inserted.length()).reparse();
+
+        if (ast != null) {
+            root.setLineMap(LineMap.create(newSource, configuration.getLineNumber()));
+            return ast;
+        }
+
+        return parse(root.getPosition().getFile(), newSource, configuration);
+    }
 
-        // TODO: Warning interface from configuration?
-        parser.setWarnings(new NullWarnings());
-        
-        LexerSource lexerSource = LexerSource.getSource(file, content, configuration);
+    /**
+     * Parse a set of files on the supplied executor.  The outcomes come back in the same order
+     * as the files were given no matter which one finished first.  A file which fails to read
+     * or parse does not stop the rest of the batch; its outcome holds the error instead.
+     *
+     * All files are parsed with the same configuration so it cannot have a StaticScope (each
+     * parse would add its variables to it).
+     *
+     * @param files names of the files to read and parse
+     * @param configuration for every parse
+     * @param executor to run the parses on (it is left running)
+     * @return one outcome per file
+     */
+    public List<ParseOutcome> parseAll(Collection<String> files, ParserConfiguration configuration,
+            ExecutorService executor) throws InterruptedException {
+        List<Callable<ParseOutcome>> tasks = new ArrayList<Callable<ParseOutcome>>(files.size());
+
+        for (String file: files) {
+            tasks.add(new ParseTask(file, null, configuration));
+        }
+
+        return parseAll(tasks, configuration, executor);
+    }
+
+    /**
+     * Parse a set of in-memory sources on the supplied executor.  Outcomes are in the iteration
+     * order of sources (so use something like a LinkedHashMap if order matters).
+     *
+     * @see #parseAll(Collection, ParserConfiguration, ExecutorService)
+     * @param sources map of file name to contents of that file
+     * @param configuration for every parse
+     * @param executor to run the parses on (it is left running)
+     * @return one outcome per source
+     */
+    public List<ParseOutcome> parseAll(Map<String, ? extends CharSequence> sources,
+            ParserConfiguration configuration, ExecutorService executor) throws InterruptedException {
+        List<Callable<ParseOutcome>> tasks = new ArrayList<Callable<ParseOutcome>>(sources.size());
+
+        for (Map.Entry<String, ? extends CharSequence> source: sources.entrySet()) {
+            tasks.add(new ParseTask(source.getKey(), source.getValue(), configuration));
+        }
+
+        return parseAll(tasks, configuration, executor);
+    }
+
+    /**
+     * Parse a set of files using one thread per available processor.
+     *
+     * @see #parseAll(Collection, ParserConfiguration, ExecutorService)
+     */
+    public List<ParseOutcome> parseAll(Collection<String> files, ParserConfiguration configuration)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
 
-        Node ast = null;
         try {
-            ParserResult result = parser.parse(configuration, lexerSource);
-            
-            // We want some amount of extra syntax-only elements properly added to the AST tree
-            if (configuration.getSyntax() != ParserConfiguration.SyntaxGathering.NONE) result.weaveInExtraSyntax();
-            
-            ast = result.getAST();
+            return parseAll(files, configuration, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private List<ParseOutcome> parseAll(List<Callable<ParseOutcome>> tasks,
+            ParserConfiguration configuration, ExecutorService executor) throws InterruptedException {
+        if (configuration.getScope() != null) {
+            throw new IllegalArgumentException("batch parses cannot share a StaticScope");
+        }
+
+        List<ParseOutcome> outcomes = new ArrayList<ParseOutcome>(tasks.size());
+
+        for (Future<ParseOutcome> future: executor.invokeAll(tasks)) {
+            try {
+                outcomes.add(future.get());
+            } catch (ExecutionException e) {
+                // Tasks catch their exceptions so only Errors (e.g. StackOverflowError) get here
+                if (e.getCause() instanceof Error) throw (Error) e.getCause();
+
+                throw new RuntimeException(e.getCause());
+            }
+        }
+
+        return outcomes;
+    }
+
+    private class ParseTask implements Callable<ParseOutcome> {
+        private final String file;
+        private final CharSequence content;
+        private final ParserConfiguration configuration;
+
+        // content is null if it should be read from file
+        public ParseTask(String file, CharSequence content, ParserConfiguration configuration) {
+            this.file = file;
+            this.content = content;
+            this.configuration = configuration;
+        }
+
+        public ParseOutcome call() {
+            LexerSource source = null;
+            long startTime = 0;
+
+            try {
+                source = LexerSource.getSource(file, content != null ? content : read(), configuration);
+                startTime = System.nanoTime();
+
+                ParserResult result = parseResult(source, configuration);
+
+                return new ParseOutcome(file, result, null, System.nanoTime() - startTime, source.getOffset());
+            } catch (Exception e) {
+                long time = source == null ? 0 : System.nanoTime() - startTime;
+                int bytes = source == null ? 0 : source.getOffset();
+
+                return new ParseOutcome(file, null, e, time, bytes);
+            }
+        }
+
+        private CharSequence read() throws IOException {
+            Reader reader = new InputStreamReader(new FileInputStream(file), configuration.getEncoding());
+
+            try {
+                StringBuilder buffer = new StringBuilder();
+                char[] chunk = new char[8192];
+
+                for (int n = reader.read(chunk); n != -1; n = reader.read(chunk)) {
+                    buffer.append(chunk, 0, n);
+                }
+
+                return buffer;
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private Node parse(LexerSource lexerSource, ParserConfiguration configuration)
+            throws SyntaxException {
+        try {
+            return parseResult(lexerSource, configuration).getAST();
         } catch(IOException e) {
             // TODO: What should this raise something for IDEs?
+            return null;
         }
-        
-        totalTime += System.nanoTime() - startTime;
-        totalBytes += lexerSource.getOffset();
+    }
+
+    private ParserResult parseResult(LexerSource lexerSource, ParserConfiguration configuration)
+            throws IOException {
+        ParserResult result = parseResult(lexerSource, configuration, true);
+        LineMap lineMap = lexerSource.getLineMap();
+
+        result.setLineMap(lineMap);
+        if (result.getAST() instanceof RootNode) ((RootNode) result.getAST()).setLineMap(lineMap);
+
+        return result;
+    }
 
-        return ast;
+    ParserResult parseResult(LexerSource lexerSource, ParserConfiguration configuration, boolean weave)
+            throws IOException {
+        long startTime = System.nanoTime();
+
+        try {
+            ParserResult result = SESSIONS.get().parse(configuration, lexerSource);
+
+            for (int depth = maxStackDepth.get(); result.getStackDepth() > depth; depth = maxStackDepth.get()) {
+                if (maxStackDepth.compareAndSet(depth, result.getStackDepth())) break;
+            }
+
+            // We want some amount of extra syntax-only elements properly added to the AST tree
+            if (weave && configuration.getSyntax() != ParserConfiguration.SyntaxGathering.NONE) result.weaveInExtraSyntax();
+
+            return result;
+        } finally {
+            totalTime.addAndGet(System.nanoTime() - startTime);
+            totalBytes.addAndGet(lexerSource.getOffset());
+        }
     }
 
     public static class NullWarnings implements IRubyWarnings {
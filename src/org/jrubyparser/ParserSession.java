@@ -0,0 +1,65 @@
+package org.jrubyparser;
+
+import java.io.IOException;
+
+import org.jrubyparser.lexer.LexerSource;
+import org.jrubyparser.parser.ParserConfiguration;
+import org.jrubyparser.parser.ParserResult;
+import org.jrubyparser.parser.Ruby18Parser;
+import org.jrubyparser.parser.Ruby19Parser;
+import org.jrubyparser.parser.Ruby20Parser;
+import org.jrubyparser.parser.Ruby23Parser;
+import org.jrubyparser.parser.RubyParser;
+
+/**
+ * Keeps one grammar parser (along with its lexer and parser support) per CompatVersion alive
+ * so they can be reused parse after parse.  Each grammar resets its lexer and parser support
+ * at the start and end of every parse so nothing leaks from one parse into the next.  For
+ * lots of small snippets (evals) building these per parse is a large part of the total cost.
+ *
+ * A session is not thread-safe.  Parser keeps one session per thread.
+ */
+public class ParserSession {
+    private final RubyParser[] parsers = new RubyParser[CompatVersion.values().length];
+    private final IRubyWarnings warnings;
+
+    public ParserSession() {
+        this(new Parser.NullWarnings());
+    }
+
+    public ParserSession(IRubyWarnings warnings) {
+        this.warnings = warnings;
+    }
+
+    /**
+     * Get the (possibly already used) grammar parser for the supplied version.
+     *
+     * @param version of Ruby to parse
+     * @return the parser
+     */
+    public RubyParser getParser(CompatVersion version) {
+        int index = version.ordinal();
+        RubyParser parser = parsers[index];
+
+        if (parser == null) {
+            parser = createParser(version);
+            parser.setWarnings(warnings);
+            parsers[index] = parser;
+        }
+
+        return parser;
+    }
+
+    public ParserResult parse(ParserConfiguration configuration, LexerSource source) throws IOException {
+        return getParser(configuration.getVersion()).parse(configuration, source);
+    }
+
+    private RubyParser createParser(CompatVersion version) {
+        switch (version) {
+            case RUBY1_8: return new Ruby18Parser();
+            case RUBY1_9: return new Ruby19Parser();
+            case RUBY2_0: return new Ruby20Parser();
+            default: return new Ruby23Parser();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.jrubyparser;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A SymbolTable which can be shared by parses running on several threads at once.  Unlike
+ * String.intern this only holds the names of the code parsed with it and the table is gone
+ * once nothing refers to it any more.
+ */
+public class SharedSymbolTable extends SymbolTable {
+    private final ConcurrentMap<String, Symbol> symbols = new ConcurrentHashMap<String, Symbol>();
+    private int nextId = 0; // Only touched while synchronized
+
+    private static final class Symbol {
+        private final String name;
+        private final int id;
+
+        Symbol(String name, int id) {
+            this.name = name;
+            this.id = id;
+        }
+    }
+
+    public String intern(CharSequence name) {
+        return symbol(name).name;
+    }
+
+    public int getId(CharSequence name) {
+        return symbol(name).id;
+    }
+
+    public int size() {
+        return symbols.size();
+    }
+
+    private Symbol symbol(CharSequence name) {
+        String key = name.toString();
+        Symbol symbol = symbols.get(key);
+
+        if (symbol != null) return symbol;
+
+        // Lookups never lock, only adding a name does (which keeps the ids without gaps)
+        synchronized (this) {
+            symbol = symbols.get(key);
+
+            if (symbol == null) {
+                symbol = new Symbol(key, nextId++);
+                symbols.put(key, symbol);
+            }
+        }
+
+        return symbol;
+    }
+}
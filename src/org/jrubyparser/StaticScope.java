@@ -28,7 +28,12 @@
  ***** END LICENSE BLOCK *****/
 package org.jrubyparser;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.jrubyparser.ast.AssignableNode;
 import org.jrubyparser.ast.Node;
@@ -46,6 +51,12 @@ import org.jrubyparser.ast.Node;
  */
 public abstract class StaticScope implements Serializable {
     private static final long serialVersionUID = 4843861446986961013L;
+
+    // Most scopes only have a few variables so they grow one at a time up to MAX_EXACT and
+    // by half again after that.  Past INDEXED_AFTER variables names are looked up through
+    // variableSlots rather than by scanning.
+    private static final int MAX_EXACT = 4;
+    private static final int INDEXED_AFTER = 8;
     
     // Next immediate scope.  Variable and constant scoping rules make use of this variable
     // in different ways.
@@ -54,30 +65,29 @@ public abstract class StaticScope implements Serializable {
     // Next CRef down the lexical structure
     private StaticScope previousCRefScope = null;
     
-    // Our name holder (offsets are assigned as variables are added
+    // Our name holder (offsets are assigned as variables are added).  Only the first
+    // variableCount are in use, the rest is room to grow.
     private String[] variableNames;
     
     private boolean[] variableCaptured;
+
+    private transient int variableCount;
+
+    // Slot of each name (made when first needed once there are more than INDEXED_AFTER)
+    private transient Map<String, Integer> variableSlots;
     
     // Whether this scope is used as the "argument scope" for e.g. zsuper
     private boolean isArgumentScope = false;
     
     protected StaticScope(StaticScope enclosingScope, String[] names) {
         assert names != null : "names is not null";
-        assert namesAreInterned(names);
         
         this.enclosingScope = enclosingScope;
         this.variableNames = names;
         this.variableCaptured = new boolean[variableNames.length];
+        this.variableCount = names.length;
     }
 
-    private static boolean namesAreInterned(String[] names) {
-        for (String name : names) {
-            if (name != name.intern()) return false;
-        }
-        return true;
-    }
-    
     /**
      * Add a new variable to this (current) scope unless it is already defined in the
      * current scope.
@@ -90,11 +100,10 @@ public abstract class StaticScope implements Serializable {
 
         if (slot >= 0) return slot;
 
-        // This is perhaps innefficient timewise?  Optimal spacewise
         growVariableNames(name);
 
         // Returns slot of variable
-        return variableNames.length - 1;
+        return variableCount - 1;
     }
     
     public int addVariable(String name) {
@@ -102,19 +111,23 @@ public abstract class StaticScope implements Serializable {
 
         if (slot >= 0) return slot;
             
-        // This is perhaps innefficient timewise?  Optimal spacewise
         growVariableNames(name);
         
         // Returns slot of variable
-        return variableNames.length - 1;
+        return variableCount - 1;
     }
     
+    /**
+     * @return the names of this scopes variables by slot (exactly getNumberOfVariables long)
+     */
     public String[] getVariables() {
+        if (variableNames.length != variableCount) trimVariableNames();
+
         return variableNames;
     }
     
     public int getNumberOfVariables() {
-        return variableNames.length;
+        return variableCount;
     }
     
     public void setVariables(String[] names) {
@@ -123,6 +136,8 @@ public abstract class StaticScope implements Serializable {
         variableNames = new String[names.length];
         System.arraycopy(names, 0, variableNames, 0, names.length);
         variableCaptured = new boolean[variableNames.length];
+        variableCount = names.length;
+        variableSlots = null;
     }
     
     /**
@@ -149,11 +164,27 @@ public abstract class StaticScope implements Serializable {
     }
     
     private int findVariableName(String name) {
-        for (int i = 0; i < variableNames.length; i++) {
+        if (variableCount > INDEXED_AFTER) {
+            if (variableSlots == null) indexVariableNames();
+
+            Integer slot = variableSlots.get(name);
+            return slot != null ? slot : -1;
+        }
+
+        for (int i = 0; i < variableCount; i++) {
             if (name.equals(variableNames[i])) return i;
         }
         return -1;
     }
+
+    private void indexVariableNames() {
+        variableSlots = new HashMap<String, Integer>(variableCount * 2);
+
+        // Backwards so a name in more than one slot keeps its first one (like the scan above)
+        for (int i = variableCount - 1; i >= 0; i--) {
+            variableSlots.put(variableNames[i], i);
+        }
+    }
     
     /**
      * Is this name in the visible to the current scope
@@ -232,24 +263,52 @@ public abstract class StaticScope implements Serializable {
     }
 
     private void growVariableNames(String name) {
-        String[] newVariableNames = new String[variableNames.length + 1];
-        System.arraycopy(variableNames, 0, newVariableNames, 0, variableNames.length);
+        if (variableCount == variableNames.length) {
+            int capacity = variableCount < MAX_EXACT ? variableCount + 1 : variableCount + (variableCount >> 1);
+
+            resizeVariableNames(capacity);
+        }
+
+        variableNames[variableCount] = name;
+        if (variableSlots != null) variableSlots.put(name, variableCount);
+        variableCount++;
+    }
+
+    private void trimVariableNames() {
+        resizeVariableNames(variableCount);
+    }
+
+    private void resizeVariableNames(int capacity) {
+        String[] newVariableNames = new String[capacity];
+        System.arraycopy(variableNames, 0, newVariableNames, 0, variableCount);
         variableNames = newVariableNames;
-        variableNames[variableNames.length - 1] = name;
-        boolean[] newVariableCaptured = new boolean[variableCaptured.length + 1];
-        System.arraycopy(variableCaptured, 0, newVariableCaptured, 0, variableCaptured.length);
+        boolean[] newVariableCaptured = new boolean[capacity];
+        System.arraycopy(variableCaptured, 0, newVariableCaptured, 0, variableCount);
         variableCaptured = newVariableCaptured;
     }
 
+    // Room to grow is not written out so a scope always reads back with exactly its variables
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        if (variableNames.length != variableCount) trimVariableNames();
+
+        out.defaultWriteObject();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        variableCount = variableNames.length;
+    }
+
     @Override
     public String toString() {
         StringBuilder buf = new StringBuilder("[");
             
-        for (int i = 0; i < variableNames.length - 1; i++) {
+        for (int i = 0; i < variableCount - 1; i++) {
             buf.append(variableNames[i]).append(", ");
         }
-        if (variableNames.length > 0) {
-            buf.append(variableNames[variableNames.length - 1]);
+        if (variableCount > 0) {
+            buf.append(variableNames[variableCount - 1]);
         }
         buf.append("]");
             
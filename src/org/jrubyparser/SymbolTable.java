@@ -0,0 +1,30 @@
+package org.jrubyparser;
+
+/**
+ * Hands out one canonical String for each name the parser comes across (identifiers,
+ * globals, symbols...) along with a small int id for it.  Every occurrence of a name which went
+ * through the same table is then the same String and the AST does not hold duplicate copies of
+ * the same name.
+ *
+ * Each parse gets its own LocalSymbolTable unless the configuration supplies a table (see
+ * ParserConfiguration.setSymbolTable).  A SharedSymbolTable can be given to all parses of e.g.
+ * a workspace so that names are shared across all of their ASTs.
+ */
+public abstract class SymbolTable {
+    /**
+     * @param name to look up (which is not kept so it may be e.g. a reused buffer)
+     * @return the canonical String for name
+     */
+    public abstract String intern(CharSequence name);
+
+    /**
+     * @param name to look up
+     * @return the id of name (ids are handed out in order starting at 0 as names get added)
+     */
+    public abstract int getId(CharSequence name);
+
+    /**
+     * @return how many names are in the table
+     */
+    public abstract int size();
+}
@@ -173,6 +173,24 @@ public class ArgsNode extends Node {
         return block;
     }
 
+    /**
+     * Gets the keyword arguments (2.0+).
+     *
+     * @return the list of keyword nodes
+     */
+    public ListNode getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Gets the keyword rest argument (**rest, 2.0+).
+     *
+     * @return Returns a KeywordRestArgNode
+     */
+    public KeywordRestArgNode getKeywordRest() {
+        return keywordRest;
+    }
+
     public ListNode getShadow() {
         return shadow;
     }
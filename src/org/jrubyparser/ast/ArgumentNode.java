@@ -103,6 +103,7 @@ public class ArgumentNode extends Node implements IParameter {
 
     public void setName(String name) {
         this.identifier = name;
+        treeChanged();
     }
 
     // Fixme: Can we assert name in constructor and remove null check?
@@ -33,7 +33,6 @@ import java.util.List;
 import org.jrubyparser.NodeVisitor;
 import org.jrubyparser.SourcePosition;
 import org.jrubyparser.StaticScope;
-import org.jrubyparser.util.ILocalVariableVisitor;
 import org.jrubyparser.util.MethodDefVisitor;
 
 /**
@@ -143,6 +142,6 @@ public class ClassNode extends Node implements IScopingNode, ILocalScope, IModul
     }
 
     public List<ILocalVariable> getVariableReferencesNamed(String name) {
-        return ILocalVariableVisitor.findOccurrencesIn(this, name);
+        return RootNode.findOccurrencesIn(this, name);
     }
 }
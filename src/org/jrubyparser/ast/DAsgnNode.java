@@ -89,6 +89,7 @@ public class DAsgnNode extends AssignableNode implements ILocalVariable {
 
     public void setName(String name) {
         this.name = name;
+        treeChanged();
     }
 
     public boolean isNameMatch(String name) {
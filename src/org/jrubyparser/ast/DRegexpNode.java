@@ -51,6 +51,10 @@ public class DRegexpNode extends ListNode implements ILiteralNode {
         this.is19 = is19;
     }
 
+    boolean is19() {
+        return is19;
+    }
+
 
     /**
      * Checks node for 'sameness' for diffing.
@@ -33,7 +33,6 @@ import java.util.List;
 import org.jrubyparser.NodeVisitor;
 import org.jrubyparser.SourcePosition;
 import org.jrubyparser.StaticScope;
-import org.jrubyparser.util.ILocalVariableVisitor;
 
 /**
  * method definition node.
@@ -53,6 +52,6 @@ public class DefnNode extends MethodDefNode {
     }
 
     public List<ILocalVariable> getVariableReferencesNamed(String name) {
-        return ILocalVariableVisitor.findOccurrencesIn(this, name);
+        return RootNode.findOccurrencesIn(this, name);
     }
 }
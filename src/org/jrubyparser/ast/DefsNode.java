@@ -33,7 +33,6 @@ import java.util.List;
 import org.jrubyparser.NodeVisitor;
 import org.jrubyparser.SourcePosition;
 import org.jrubyparser.StaticScope;
-import org.jrubyparser.util.ILocalVariableVisitor;
 
 /**
  * Represents a singleton method definition.
@@ -76,6 +75,6 @@ public class DefsNode extends MethodDefNode {
     }
 
     public List<ILocalVariable> getVariableReferencesNamed(String name) {
-        return ILocalVariableVisitor.findOccurrencesIn(this, name);
+        return RootNode.findOccurrencesIn(this, name);
     }
 }
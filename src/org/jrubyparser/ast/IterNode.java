@@ -33,7 +33,6 @@ import java.util.List;
 import org.jrubyparser.NodeVisitor;
 import org.jrubyparser.SourcePosition;
 import org.jrubyparser.StaticScope;
-import org.jrubyparser.util.ILocalVariableVisitor;
 import org.jrubyparser.util.VariableHelper;
 
 /**
@@ -148,6 +147,6 @@ public class IterNode extends Node implements IBlockScope {
     }
 
     public List<ILocalVariable> getVariableReferencesNamed(String name) {
-        return ILocalVariableVisitor.findOccurrencesIn(this, name);
+        return RootNode.findOccurrencesIn(this, name);
     }
 }
@@ -111,6 +111,11 @@ public class ListNode extends Node {
         return this;
     }
 
+    // NodeReader puts back the exact list it wrote (nulls and all)
+    void setList(List<Node> list) {
+        this.list = list;
+    }
+
     public int size() {
         return list.size();
     }
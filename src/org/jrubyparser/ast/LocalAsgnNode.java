@@ -92,6 +92,7 @@ public class LocalAsgnNode extends AssignableNode implements ILocalVariable {
      */
     public void setName(String name) {
         this.name = name;
+        treeChanged();
     }
 
     public boolean isNameMatch(String name) {
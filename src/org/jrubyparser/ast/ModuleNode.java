@@ -33,7 +33,6 @@ import java.util.List;
 import org.jrubyparser.NodeVisitor;
 import org.jrubyparser.SourcePosition;
 import org.jrubyparser.StaticScope;
-import org.jrubyparser.util.ILocalVariableVisitor;
 import org.jrubyparser.util.MethodDefVisitor;
 
 /**
@@ -121,6 +120,6 @@ public class ModuleNode extends Node implements IScopingNode, ILocalScope, IModu
     }
 
     public List<ILocalVariable> getVariableReferencesNamed(String name) {
-        return ILocalVariableVisitor.findOccurrencesIn(this, name);
+        return RootNode.findOccurrencesIn(this, name);
     }
 }
@@ -179,7 +179,7 @@ public class MultipleAsgnNode extends AssignableNode {
         if (leftPosition == null && getRest() != null) leftPosition = getRest().getPosition();
         // left position guaranteed non-nill based on constructor contract.
         if (getPostCount() > 0) return leftPosition.union(getPost().getPosition());
-        if (getRest() != null && leftPosition != getRest().getPosition()) return leftPosition.union(getRest().getPosition());
+        if (getRest() != null && getPreCount() > 0) return leftPosition.union(getRest().getPosition());
 
         return leftPosition;
     }
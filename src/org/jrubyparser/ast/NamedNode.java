@@ -47,6 +47,7 @@ public abstract class NamedNode extends Node implements INameNode {
      */
     public void setName(String name) {
         this.name = name;
+        treeChanged();
     }
     
     /**
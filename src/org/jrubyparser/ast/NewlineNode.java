@@ -72,4 +72,12 @@ public class NewlineNode extends Node {
     public Node getNextNode() {
         return nextNode;
     }
+
+    /**
+     * Sets the nextNode (replacing the old one amongst our children).
+     * @param nextNode The nextNode to set
+     */
+    public void setNextNode(Node nextNode) {
+        this.nextNode = replace(this.nextNode, nextNode);
+    }
 }
@@ -28,8 +28,10 @@
  ***** END LICENSE BLOCK *****/
 package org.jrubyparser.ast;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
 
 import org.jrubyparser.NodeVisitor;
 import org.jrubyparser.ISourcePositionHolder;
@@ -39,22 +41,49 @@ import org.jrubyparser.SourcePosition;
  * Base class for all Nodes in the AST
  */
 public abstract class Node implements ISourcePositionHolder {
-    private SourcePosition position;
+    // Where this node is (see getPosition).  Trees can have a lot of nodes so rather than an
+    // object per node we keep the position in plain fields.  file is null when there is no
+    // position.
+    private String file;
+    private int startLine;
+    private int endLine;
+    private int startOffset;
+    private int endOffset;
 
     private Node parent = null;
 
-    private List<Node> children = new ArrayList<Node>();
+    // Most nodes are leaves or have a couple of children so rather than an ArrayList each we
+    // keep them in a plain array.  Leaves all share NO_CHILDREN, up to MAX_EXACT children get
+    // an array of exactly that size and only longer lists (blocks, arrays, ...) grow with room
+    // to spare.
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final int MAX_EXACT = 4;
+
+    private Node[] children = NO_CHILDREN;
+    private int childCount = 0;
 
     public Node(SourcePosition position) {
         // FIXME: We used to assert to guarantee we always had a non-null position, but rewriting ruby source depends on this temporarily being null
-        this.position = position;
+        setPosition(position);
     }
 
     /**
-     * Location of this node within the source
+     * Location of this node within the source.  A new SourcePosition is made for every call so
+     * changing the one returned will not change this node (see setPosition).
      */
     public SourcePosition getPosition() {
-        return position;
+        if (file == null) return null;
+
+        return new SourcePosition(file, startLine, endLine, startOffset, endOffset);
+    }
+
+    // Offsets as getNodeAt sees them (without making a SourcePosition)
+    int getStartOffset() {
+        return startOffset;
+    }
+
+    int getEndOffset() {
+        return endOffset;
     }
 
     // Parentage methods
@@ -62,7 +91,8 @@ public abstract class Node implements ISourcePositionHolder {
     public Node adopt(Node child) {
         if (child != null) {
             child.setParent(this);
-            children.add(child);
+            addChild(childCount, child);
+            treeChanged();
         }
 
         return child;
@@ -70,13 +100,85 @@ public abstract class Node implements ISourcePositionHolder {
 
     public Node adopt(Node child, int index) {
         if (child != null) {
+            if (index < 0 || index > childCount) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + childCount);
             child.setParent(this);
-            children.add(index, child);
+            addChild(index, child);
+            treeChanged();
+        }
+
+        return child;
+    }
+
+    private void addChild(int index, Node child) {
+        if (childCount == children.length) {
+            int capacity = childCount < MAX_EXACT ? childCount + 1 : childCount + (childCount >> 1);
+            Node[] grown = new Node[capacity];
+
+            System.arraycopy(children, 0, grown, 0, childCount);
+            children = grown;
         }
 
+        System.arraycopy(children, index, children, index + 1, childCount - index);
+        children[index] = child;
+        childCount++;
+    }
+
+    // NodeReader builds a node with its constructor (which adopts whatever it was given) and
+    // then puts back exactly the children it had when it was written
+    void setChildren(Node[] nodes) {
+        children = nodes.length == 0 ? NO_CHILDREN : nodes;
+        childCount = nodes.length;
+
+        for (Node child: nodes) {
+            child.parent = this;
+        }
+    }
+
+    private Node removeChildAt(int index) {
+        Node child = children[index];
+
+        System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+        children[--childCount] = null;
+
         return child;
     }
 
+    /**
+     * Put newChild where child currently is amongst our children.
+     *
+     * @param child to be replaced
+     * @param newChild to replace it with
+     * @return the new child
+     */
+    protected Node replace(Node child, Node newChild) {
+        for (int i = 0; i < childCount; i++) {
+            if (children[i] == child) {
+                newChild.setParent(this);
+                children[i] = newChild;
+                treeChanged();
+                return newChild;
+            }
+        }
+
+        return adopt(newChild);
+    }
+
+    /**
+     * Remove a child which is not held anywhere else (e.g. a comment which no longer exists).
+     *
+     * @param child to be removed
+     */
+    public void removeChild(Node child) {
+        for (int i = 0; i < childCount; i++) {
+            if (children[i] == child) {
+                removeChildAt(i);
+                child.setParent(null);
+                treeChanged();
+                return;
+            }
+        }
+    }
+
     /**
      *Checks node for 'sameness' for diffing.
      *
@@ -146,17 +248,53 @@ public abstract class Node implements ISourcePositionHolder {
     }
 
     public void setPosition(SourcePosition position) {
-        this.position = position;
+        if (position == null) {
+            file = null;
+        } else {
+            file = position.getFile();
+            startLine = position.getStartLine();
+            endLine = position.getEndLine();
+            startOffset = position.getStartOffset();
+            endOffset = position.getEndOffset();
+        }
+
+        treeChanged();
+    }
+
+    /**
+     * Let the RootNode this node is under (if any) know its tree changed, so it stops using
+     * what it worked out about it (see RootNode.getNodeAt).  Subclasses changing something
+     * other than children and position (like renaming a variable) call this themselves.
+     */
+    protected void treeChanged() {
+        Node top = this;
+
+        while (top.parent != null) {
+            top = top.parent;
+        }
+
+        if (top instanceof RootNode) ((RootNode) top).clearIndexes();
     }
 
     public abstract <T> T accept(NodeVisitor<T> visitor);
 
+    /**
+     * The children of this node.  The list sees children adopted or removed later (even for a
+     * leaf) and changes to it change the node: set replaces a child in place and add inserts
+     * one (without changing its parent, like adopt would).
+     */
     public List<Node> childNodes() {
-        return children;
+        return new Children();
     }
 
     protected static List<Node> createList(Node... nodes) {
-        ArrayList<Node> list = new ArrayList<Node>();
+        int count = 0;
+
+        for (Node node: nodes) {
+            if (node != null) count++;
+        }
+
+        ArrayList<Node> list = new ArrayList<Node>(count);
 
         for (Node node: nodes) {
             if (node != null) list.add(node);
@@ -165,6 +303,51 @@ public abstract class Node implements ISourcePositionHolder {
         return list;
     }
 
+    private class Children extends AbstractList<Node> implements RandomAccess {
+        @Override
+        public Node get(int index) {
+            checkIndex(index, childCount);
+
+            return children[index];
+        }
+
+        @Override
+        public int size() {
+            return childCount;
+        }
+
+        @Override
+        public Node set(int index, Node child) {
+            checkIndex(index, childCount);
+
+            Node old = children[index];
+            children[index] = child;
+            treeChanged();
+            return old;
+        }
+
+        @Override
+        public void add(int index, Node child) {
+            checkIndex(index, childCount + 1);
+
+            addChild(index, child);
+            treeChanged();
+        }
+
+        @Override
+        public Node remove(int index) {
+            checkIndex(index, childCount);
+
+            Node child = removeChildAt(index);
+            treeChanged();
+            return child;
+        }
+
+        private void checkIndex(int index, int size) {
+            if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + childCount);
+        }
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder(60);
@@ -215,13 +398,86 @@ public abstract class Node implements ISourcePositionHolder {
      * Put entire list of nodes into their proper positions based on the SourcePosition specified
      * by each node in the list.  This list must be in sorted order to work.
      *
+     * Each node ends up exactly where insertNode would put it but we do not walk down from
+     * the top again for every one of them.  For each container along the path to where the
+     * last node went we remember how far along its children we had got.  A child we went
+     * past (it ends before the node did) is also before every later node in the list so the
+     * next walk carries on from those same places.  If the list goes backwards we start over.
+     *
      * @param nodes to insert into this node
      */
     public void insertAll(List<? extends Node> nodes) {
         if (nodes == null || nodes.isEmpty()) return;
 
-        for (Node current: nodes) {
-            insertNode(current);
+        List<Node> path = new ArrayList<Node>();
+        int[] indices = new int[16];
+        Node previous = null;
+
+        for (Node node: nodes) {
+            if (previous != null && (node.startOffset < previous.startOffset || node.endOffset < previous.endOffset)) {
+                path.clear();
+            }
+            previous = node;
+
+            int direction = comparePositionWith(node);
+
+            if (direction != 0 && getParent() != null) { // goes amongst our siblings
+                insertNode(node);
+                continue;
+            } else if (direction > 0) {
+                adopt(node);
+                continue;
+            }
+
+            if (path.isEmpty()) {
+                path.add(this);
+                indices[0] = 0;
+            }
+
+            Node container = this;
+            for (int depth = 0; ; depth++) {
+                List<Node> children = container.childNodes();
+                int size = children.size();
+                int i = indices[depth];
+                Node inside = null;
+
+                for (; i < size; i++) {
+                    int childDirection = children.get(i).comparePositionWith(node);
+
+                    if (childDirection == 0) inside = children.get(i);
+                    if (childDirection <= 0) break;
+                }
+
+                indices[depth] = i;
+
+                if (inside == null) { // before child i or after the last child
+                    truncate(path, depth + 1);
+                    if (i < size) {
+                        container.adopt(node, i);
+                    } else {
+                        container.adopt(node);
+                    }
+                    break;
+                }
+
+                if (path.size() <= depth + 1 || path.get(depth + 1) != inside) {
+                    truncate(path, depth + 1);
+                    path.add(inside);
+                    if (depth + 1 == indices.length) {
+                        int[] grown = new int[indices.length * 2];
+                        System.arraycopy(indices, 0, grown, 0, indices.length);
+                        indices = grown;
+                    }
+                    indices[depth + 1] = 0;
+                }
+                container = inside;
+            }
+        }
+    }
+
+    private static void truncate(List<Node> path, int size) {
+        while (path.size() > size) {
+            path.remove(path.size() - 1);
         }
     }
 
@@ -261,8 +517,8 @@ public abstract class Node implements ISourcePositionHolder {
      * @return -1 if before, 0 is inside, or 1 if after
      */
     public int comparePositionWith(Node testNode) {
-        if (testNode.getPosition().getStartOffset() < getPosition().getStartOffset()) return -1;
-        if (testNode.getPosition().getEndOffset() > getPosition().getEndOffset()) return 1;
+        if (testNode.startOffset < startOffset) return -1;
+        if (testNode.endOffset > endOffset) return 1;
 
         return 0;
     }
@@ -338,10 +594,23 @@ public abstract class Node implements ISourcePositionHolder {
         for (Node child : childNodes()) {  // Check children for more specific results
             Node found = child.getNodeAt(offset);
 
-            if (found != null && !found.getPosition().isEmpty()) return found; // refactoring includes place-holders (empty)...ignore them
+            if (found != null && found.startOffset != found.endOffset) return found; // refactoring includes place-holders (empty)...ignore them
         }
 
-        return getPosition().isWithin(offset) ? this : null;
+        return offset >= startOffset && offset <= endOffset ? this : null;
+    }
+
+    /**
+     * Find the nodes under this one (not counting it) which overlap the characters from start
+     * up to (not including) end, such as everything visible in an editor.  Place-holders
+     * (empty) are left out.
+     *
+     * @param start offset of the first character
+     * @param end offset just past the last character
+     * @return the nodes ordered by where they start (a node before the nodes inside it)
+     */
+    public List<Node> getNodesInRange(int start, int end) {
+        return new PositionIndex(this).getNodesInRange(start, end);
     }
 
     /**
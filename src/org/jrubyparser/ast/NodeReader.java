@@ -0,0 +1,676 @@
+package org.jrubyparser.ast;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import org.jrubyparser.BlockStaticScope;
+import org.jrubyparser.LocalStaticScope;
+import org.jrubyparser.RegexpOptions;
+import org.jrubyparser.SourcePosition;
+import org.jrubyparser.StaticScope;
+import org.jrubyparser.SymbolTable;
+import org.jrubyparser.lexer.Token;
+
+/**
+ * Turns what NodeWriter wrote back into the tree it was written from.  Every node is made with
+ * its own constructor and setters, so the tree is the same as the one the parser built (the
+ * same children in the same order, parents, scopes, names, positions...).  The only thing the
+ * reader does not put back is the LineMap of a RootNode since it takes the source to make one.
+ */
+public class NodeReader {
+    private static final NodeType[] NODE_TYPES = NodeType.values();
+
+    private final byte[] in;
+    private int offset = 0;
+
+    private String file;
+    private final SymbolTable names;
+    private final List<String> strings = new ArrayList<String>();
+    private final List<StaticScope> scopes = new ArrayList<StaticScope>();
+    private final List<Node> nodes = new ArrayList<Node>();
+
+    private int lastStart = 0;
+    private int lastLine = 0;
+
+    private NodeReader(byte[] in, SymbolTable names) {
+        this.in = in;
+        this.names = names;
+    }
+
+    /**
+     * @param data which NodeWriter.write returned
+     * @param file the positions of the tree are in (or null for the file it was written with)
+     * @param names to intern the names in the tree with (or null to not intern them)
+     * @return the tree
+     * @throws IOException if data is not a tree written by this version of the parser
+     */
+    public static Node read(byte[] data, String file, SymbolTable names) throws IOException {
+        NodeReader reader = new NodeReader(data, names);
+
+        try {
+            if (data.length < 4 || reader.readFixed() != NodeWriter.MAGIC) throw new IOException("Not an AST");
+            if (reader.readInt() != NodeWriter.FORMAT || !NodeWriter.parserVersion().equals(reader.readString())) {
+                throw new IOException("AST was written by another version of the parser");
+            }
+
+            String writtenFile = reader.readString();
+            reader.file = file != null ? file : writtenFile;
+
+            Node root = reader.readTree();
+            if (reader.offset != data.length) throw new IOException("AST has trailing data");
+
+            return root;
+        } catch (RuntimeException e) { // Corrupt data which we blundered through
+            IOException error = new IOException("Corrupt AST");
+            error.initCause(e);
+            throw error;
+        }
+    }
+
+    private Node readTree() {
+        List<Frame> stack = new ArrayList<Frame>();
+        Frame frame = readHeader();
+
+        while (true) {
+            if (frame.next < frame.children.length + frame.extras) {
+                int code = readInt();
+
+                if (code == NodeWriter.INLINE) {
+                    stack.add(frame);
+                    frame = readHeader();
+                } else {
+                    frame.add(nodes.get(code - NodeWriter.CHILD));
+                }
+                continue;
+            }
+
+            Node node = readFields(frame.type, frame.position, frame.children);
+
+            node.setChildren(frame.children);
+            nodes.add(node);
+
+            if (stack.isEmpty()) return node;
+            frame = stack.remove(stack.size() - 1);
+            frame.add(node);
+        }
+    }
+
+    // Everything up to the children, which the caller reads next
+    private Frame readHeader() {
+        NodeType type = NODE_TYPES[readInt()];
+        SourcePosition position = readPosition();
+        int code = readInt();
+        int count = checkLength(code >>> 1);
+        int extras = (code & 1) == 0 ? 0 : readLength();
+
+        return new Frame(type, position, new Node[count], extras);
+    }
+
+    private SourcePosition readPosition() {
+        int code = readInt();
+        if (code == NodeWriter.NO_POSITION) return null;
+
+        String positionFile = code == NodeWriter.IN_FILE ? file : readString();
+        int start = lastStart + (int) readSigned();
+        int end = start + (int) readSigned();
+        int startLine = lastLine + (int) readSigned();
+        int endLine = startLine + (int) readSigned();
+
+        lastStart = start;
+        lastLine = startLine;
+
+        return new SourcePosition(positionFile, startLine, endLine, start, end);
+    }
+
+    private Node readFields(NodeType type, SourcePosition p, Node[] c) {
+        switch (type) {
+        case ALIASNODE:
+            return new AliasNode(p, readRef(c), readRef(c));
+        case ANDNODE:
+            return new AndNode(p, readRef(c), readRef(c));
+        case ARGAUXILIARYNODE:
+            return new ArgAuxillaryNode(p, readName(), (int) readSigned());
+        case ARGSCATNODE:
+            return new ArgsCatNode(p, readRef(c), readRef(c));
+        case ARGSNODE: {
+            ArgsNode args = new ArgsNode(p, (ListNode) readRef(c), (ListNode) readRef(c), (RestArgNode) readRef(c),
+                    (ListNode) readRef(c), (ListNode) readRef(c), (KeywordRestArgNode) readRef(c),
+                    (BlockArgNode) readRef(c));
+            ListNode shadow = (ListNode) readRef(c);
+            if (shadow != null) args.setShadow(shadow);
+            return args;
+        }
+        case ARGSPUSHNODE:
+            return new ArgsPushNode(p, readRef(c), readRef(c));
+        case ARGUMENTNODE: {
+            String name = readName();
+            if (readBoolean()) return new TypedArgumentNode(p, name, readRef(c));
+            return new ArgumentNode(p, name, (int) readSigned());
+        }
+        case ARRAYNODE:
+            return readList(new ArrayNode(p), c);
+        case ATTRASSIGNNODE: {
+            AttrAssignNode assign = new AttrAssignNode(p, readRef(c), readName(), readRef(c));
+            assign.setHasParens(readBoolean());
+            return assign;
+        }
+        case BACKREFNODE:
+            return new BackRefNode(p, readInt());
+        case BEGINNODE:
+            return new BeginNode(p, readRef(c));
+        case BIGNUMNODE: {
+            byte[] value = new byte[readLength()];
+            System.arraycopy(in, offset, value, 0, value.length);
+            offset += value.length;
+            return new BignumNode(p, new BigInteger(value));
+        }
+        case BLOCKARG18NODE:
+            return new BlockArg18Node(p, readRef(c), readRef(c));
+        case BLOCKARGNODE:
+            return new BlockArgNode(p, (int) readSigned(), readName());
+        case BLOCKNODE:
+            return readList(new BlockNode(p), c);
+        case BLOCKPASSNODE: {
+            BlockPassNode blockPass = new BlockPassNode(p, readRef(c));
+            blockPass.setArgs(readRef(c));
+            return blockPass;
+        }
+        case BREAKNODE:
+            return new BreakNode(p, readRef(c));
+        case CALLNODE: {
+            Node receiver = readRef(c);
+            String name = readName();
+            CallNode call = new CallNode(p, receiver, readName(), readRef(c), readRef(c));
+            call.setName(name);
+            call.setHasParens(readBoolean());
+            return call;
+        }
+        case CASENODE: {
+            CaseNode caseNode = new CaseNode(p, readRef(c), (ListNode) readRef(c));
+            caseNode.setElseNode(readRef(c));
+            return caseNode;
+        }
+        case CLASSNODE:
+            return new ClassNode(p, (Colon3Node) readRef(c), readScope(), readRef(c), readRef(c));
+        case CLASSVARASGNNODE: {
+            String name = readName();
+            ClassVarAsgnNode assign = new ClassVarAsgnNode(p, name, readRef(c));
+            assign.setName(name); // The constructor strips any @@ but name has already been stripped
+            return assign;
+        }
+        case CLASSVARDECLNODE: {
+            String name = readName();
+            ClassVarDeclNode decl = new ClassVarDeclNode(p, name, readRef(c));
+            decl.setName(name);
+            return decl;
+        }
+        case CLASSVARNODE: {
+            String name = readName();
+            ClassVarNode classVar = new ClassVarNode(p, name);
+            classVar.setName(name);
+            return classVar;
+        }
+        case COLON2NODE: {
+            int kind = readInt();
+            String name = readName();
+            Node left = readRef(c);
+            if (kind == 1) return new Colon2ImplicitNode(p, name);
+            if (kind == 2) return new Colon2MethodNode(p, left, name);
+            return new Colon2ConstNode(p, left, name);
+        }
+        case COLON3NODE:
+            return new Colon3Node(p, readName());
+        case COMMENTNODE:
+            return new CommentNode(p, readString());
+        case COMPLEXNODE:
+            return new ComplexNode(p, (NumericNode) readRef(c));
+        case CONSTDECLNODE:
+            return new ConstDeclNode(p, readName(), (INameNode) readRef(c), readRef(c));
+        case CONSTNODE:
+            return new ConstNode(p, readName());
+        case DASGNNODE:
+            return new DAsgnNode(p, readName(), (int) readSigned(), readRef(c));
+        case DEFINEDNODE:
+            return new DefinedNode(p, readRef(c));
+        case DEFNNODE:
+            return new DefnNode(p, (MethodNameNode) readRef(c), (ArgsNode) readRef(c), readScope(), readRef(c));
+        case DEFSNODE: {
+            MethodNameNode name = (MethodNameNode) readRef(c);
+            ArgsNode args = (ArgsNode) readRef(c);
+            StaticScope scope = readScope();
+            Node body = readRef(c);
+            return new DefsNode(p, readRef(c), name, args, scope, body);
+        }
+        case DOTNODE:
+            return new DotNode(p, readRef(c), readRef(c), readBoolean(), readBoolean());
+        case DREGEXPNODE:
+            return readList(new DRegexpNode(p, readOptions(), readBoolean()), c);
+        case DSTRNODE:
+            return readList(new DStrNode(p), c);
+        case DSYMBOLNODE:
+            return readList(new DSymbolNode(p), c);
+        case DVARNODE:
+            return new DVarNode(p, (int) readSigned(), readName());
+        case DXSTRNODE:
+            return readList(new DXStrNode(p), c);
+        case ENCODINGNODE:
+            return new EncodingNode(p);
+        case ENSURENODE:
+            return new EnsureNode(p, readRef(c), readRef(c));
+        case EVSTRNODE:
+            return new EvStrNode(p, readRef(c));
+        case FALSENODE: {
+            FalseNode node = new FalseNode(p);
+            node.setName(readName());
+            return node;
+        }
+        case FCALLNODE: {
+            FCallNode call = new FCallNode(p, readName(), readRef(c), readRef(c));
+            call.setHasParens(readBoolean());
+            return call;
+        }
+        case FIXNUMNODE:
+            return new FixnumNode(p, readSigned());
+        case FLIPNODE:
+            return new FlipNode(p, readRef(c), readRef(c), readBoolean(), (int) readSigned());
+        case FLOATNODE: {
+            long bits = ((long) readFixed() << 32) | (readFixed() & 0xffffffffL);
+            return new FloatNode(p, Double.longBitsToDouble(bits));
+        }
+        case FORNODE:
+            return new ForNode(p, readRef(c), readRef(c), readRef(c), readScope());
+        case GLOBALASGNNODE: {
+            String name = readName();
+            GlobalAsgnNode assign = new GlobalAsgnNode(p, name, readRef(c));
+            assign.setName(name);
+            return assign;
+        }
+        case GLOBALVARNODE: {
+            String name = readName();
+            GlobalVarNode globalVar = new GlobalVarNode(p, name);
+            globalVar.setName(name);
+            return globalVar;
+        }
+        case HASHNODE:
+            return new HashNode(p, (ListNode) readRef(c));
+        case IFNODE:
+            return new IfNode(p, readRef(c), readRef(c), readRef(c));
+        case IMPLICITNILNODE:
+            return new ImplicitNilNode(p);
+        case INSTASGNNODE: {
+            String name = readName();
+            InstAsgnNode assign = new InstAsgnNode(p, name, readRef(c));
+            assign.setName(name);
+            return assign;
+        }
+        case INSTVARNODE: {
+            String name = readName();
+            InstVarNode instVar = new InstVarNode(p, name);
+            instVar.setName(name);
+            return instVar;
+        }
+        case ITERNODE:
+            return new IterNode(p, readRef(c), readScope(), readRef(c));
+        case KEYWORDARGNODE:
+            return new KeywordArgNode(p, (AssignableNode) readRef(c));
+        case KEYWORDRESTARGNODE:
+            return new KeywordRestArgNode(p, readName(), (int) readSigned());
+        case LAMBDANODE: {
+            ArgsNode args = (ArgsNode) readRef(c);
+            StaticScope scope = readScope();
+            return new LambdaNode(p, args, readRef(c), scope);
+        }
+        case LISTNODE:
+            return readList(new ListNode(p), c);
+        case LITERALNODE:
+            return new LiteralNode(new Token(readName(), p));
+        case LOCALASGNNODE:
+            return new LocalAsgnNode(p, readName(), (int) readSigned(), readRef(c));
+        case LOCALVARNODE:
+            return new LocalVarNode(p, (int) readSigned(), readName());
+        case MATCH2NODE:
+            return new Match2Node(p, readRef(c), readRef(c));
+        case MATCH3NODE:
+            return new Match3Node(p, readRef(c), readRef(c));
+        case MATCHNODE:
+            return new MatchNode(p, readRef(c));
+        case METHODNAMENODE:
+            return new MethodNameNode(p, readName());
+        case MODULENODE:
+            return new ModuleNode(p, (Colon3Node) readRef(c), readScope(), readRef(c));
+        case MULTIPLEASGNNODE: {
+            MultipleAsgnNode assign = new MultipleAsgnNode(p, (ListNode) readRef(c), readRef(c), (ListNode) readRef(c));
+            Node value = readRef(c);
+            if (value != null) assign.setValue(value);
+            return assign;
+        }
+        case NEWLINENODE:
+            return new NewlineNode(p, readRef(c));
+        case NEXTNODE:
+            return new NextNode(p, readRef(c));
+        case NILNODE: {
+            NilNode node = new NilNode(p);
+            node.setName(readName());
+            return node;
+        }
+        case NOTNODE:
+            return new NotNode(p, readRef(c));
+        case NTHREFNODE:
+            return new NthRefNode(p, (int) readSigned());
+        case OPASGNANDNODE:
+            return new OpAsgnAndNode(p, readRef(c), readRef(c));
+        case OPASGNNODE:
+            return new OpAsgnNode(p, readRef(c), readRef(c), readName(), readName(), readBoolean());
+        case OPASGNORNODE:
+            return new OpAsgnOrNode(p, readRef(c), readRef(c));
+        case OPELEMENTASGNNODE: {
+            int kind = readInt();
+            Node receiver = readRef(c);
+            String operator = readName();
+            Node args = readRef(c);
+            Node value = readRef(c);
+            if (kind == 1) return new OpElementAsgnAndNode(p, receiver, operator, args, value);
+            if (kind == 2) return new OpElementAsgnOrNode(p, receiver, operator, args, value);
+            return new OpElementAsgnNode(p, receiver, operator, args, value);
+        }
+        case OPTARGNODE:
+            return new OptArgNode(p, readRef(c));
+        case ORNODE:
+            return new OrNode(p, readRef(c), readRef(c));
+        case POSTEXENODE:
+            return new PostExeNode(p, readRef(c));
+        case PREEXENODE:
+            if (readBoolean()) return new PreExe19Node(p, readScope(), readRef(c));
+            return new PreExeNode(p, readScope(), readRef(c));
+        case RATIONALNODE:
+            return new RationalNode(p, readSigned(), readSigned());
+        case REDONODE:
+            return new RedoNode(p);
+        case REGEXPNODE:
+            return new RegexpNode(p, readString(), readOptions());
+        case REQUIREDKEYWORDARGNODE:
+            return new RequiredKeywordArgumentValueNode(p);
+        case RESCUEBODYNODE:
+            return new RescueBodyNode(p, readRef(c), readRef(c), (RescueBodyNode) readRef(c));
+        case RESCUENODE:
+            return new RescueNode(p, readRef(c), (RescueBodyNode) readRef(c), readRef(c));
+        case RESTARG:
+            if (readBoolean()) return new UnnamedRestArgNode(p, readName(), (int) readSigned());
+            return new RestArgNode(p, readName(), (int) readSigned());
+        case RETRYNODE:
+            return new RetryNode(p);
+        case RETURNNODE:
+            return new ReturnNode(p, readRef(c));
+        case ROOTNODE:
+            return new RootNode(p, readScope(), readRef(c));
+        case SCLASSNODE:
+            return new SClassNode(p, readRef(c), readScope(), readRef(c));
+        case SELFNODE: {
+            SelfNode node = new SelfNode(p);
+            node.setName(readName());
+            return node;
+        }
+        case SPLATNODE:
+            return new SplatNode(p, readRef(c));
+        case STARNODE:
+            return new StarNode(p);
+        case STRNODE:
+            if (!readBoolean()) return new StrNode(p, readString());
+            return new FileNode(p, readBoolean() ? file : readString());
+        case SUPERNODE: {
+            SuperNode superNode = new SuperNode(p, readRef(c), readRef(c));
+            superNode.setHasParens(readBoolean());
+            return superNode;
+        }
+        case SVALUENODE:
+            return new SValueNode(p, readRef(c));
+        case SYMBOLNODE:
+            return new SymbolNode(p, readName());
+        case SYNTAXNODE:
+            return new SyntaxNode(p, readString());
+        case TOARYNODE:
+            return new ToAryNode(p, readRef(c));
+        case TRUENODE: {
+            TrueNode node = new TrueNode(p);
+            node.setName(readName());
+            return node;
+        }
+        case UNARYCALLNODE: {
+            UnaryCallNode call = new UnaryCallNode(p, readRef(c), readName());
+            call.setHasParens(readBoolean());
+            return call;
+        }
+        case UNDEFNODE:
+            return new UndefNode(p, readRef(c));
+        case UNTILNODE: {
+            UntilNode until = new UntilNode(p, readRef(c), readRef(c), readBoolean());
+            until.containsNonlocalFlow = readBoolean();
+            return until;
+        }
+        case VALIASNODE:
+            return new VAliasNode(p, readName(), readName());
+        case VCALLNODE:
+            return new VCallNode(p, readName());
+        case WHENNODE:
+            return new WhenNode(p, readRef(c), readRef(c), readRef(c));
+        case WHILENODE: {
+            WhileNode whileNode = new WhileNode(p, readRef(c), readRef(c), readBoolean());
+            whileNode.containsNonlocalFlow = readBoolean();
+            return whileNode;
+        }
+        case XSTRNODE:
+            return new XStrNode(p, readString());
+        case YIELDNODE: {
+            boolean isZYield = readBoolean();
+            Node args = readRef(c);
+            boolean expandArguments = readBoolean();
+            YieldNode yield;
+            if (isZYield) {
+                yield = new ZYieldNode(p);
+                if (args != null) yield.setArgs(args);
+            } else {
+                yield = new YieldNode(p, args, expandArguments);
+            }
+            yield.setHasParens(readBoolean());
+            return yield;
+        }
+        case ZARRAYNODE:
+            return new ZArrayNode(p);
+        case ZEROARGNODE:
+            return new ZeroArgNode(p);
+        case ZSUPERNODE: {
+            ZSuperNode zsuper = new ZSuperNode(p);
+            zsuper.setIter(readRef(c));
+            return zsuper;
+        }
+        default:
+            throw new IllegalStateException("Cannot read a " + type);
+        }
+    }
+
+    private ListNode readList(ListNode node, Node[] children) {
+        int code = readInt();
+        List<Node> list;
+
+        if (code == 0) {
+            list = new ArrayList<Node>(children.length);
+            for (Node child: children) {
+                list.add(child);
+            }
+        } else {
+            list = new ArrayList<Node>(checkLength(code - 1));
+            for (int i = 0; i < code - 1; i++) {
+                list.add(readRef(children));
+            }
+        }
+
+        node.setList(list);
+
+        return node;
+    }
+
+    private Node readRef(Node[] children) {
+        int code = readInt();
+
+        if (code == NodeWriter.NULL) return null;
+        if (code == NodeWriter.INLINE) throw new IllegalStateException("Fields only refer to nodes already read");
+
+        int index = code - NodeWriter.CHILD;
+        return index < children.length ? children[index] : nodes.get(index - children.length);
+    }
+
+    private StaticScope readScope() {
+        int code = readInt();
+        if (code != NodeWriter.NEW_SCOPES) return readScope(code);
+
+        int count = readLength();
+        StaticScope scope = readScope(readInt()); // around the outermost new one
+
+        for (int i = 0; i < count; i++) {
+            boolean block = readBoolean();
+            String[] variables = new String[readLength()];
+            boolean[] captured = new boolean[variables.length];
+            for (int j = 0; j < variables.length; j++) {
+                variables[j] = readName();
+                captured[j] = readBoolean();
+            }
+
+            scope = block ? new BlockStaticScope(scope, variables) : new LocalStaticScope(scope, variables);
+            for (int j = 0; j < captured.length; j++) {
+                if (captured[j]) scope.capture(j);
+            }
+            scope.setArgumentScope(readBoolean());
+            scopes.add(scope);
+        }
+
+        return scope;
+    }
+
+    // A scope which was already read (or none)
+    private StaticScope readScope(int code) {
+        if (code == NodeWriter.NULL) return null;
+        if (code < NodeWriter.SCOPE) throw new IllegalStateException("Expected a scope already read");
+
+        return scopes.get(code - NodeWriter.SCOPE);
+    }
+
+    private RegexpOptions readOptions() {
+        int flags = readInt();
+
+        if (flags == 0) return null;
+        if (flags == 1) return RegexpOptions.NULL_OPTIONS;
+
+        RegexpOptions options = new RegexpOptions((flags & 1 << 9) != 0);
+        options.setFixed((flags & 1 << 2) != 0);
+        options.setOnce((flags & 1 << 3) != 0);
+        options.setExtended((flags & 1 << 4) != 0);
+        options.setMultiline((flags & 1 << 5) != 0);
+        options.setIgnorecase((flags & 1 << 6) != 0);
+        options.setJava((flags & 1 << 7) != 0);
+        options.setEncodingNone((flags & 1 << 8) != 0);
+        options.setKCodeChar((char) readInt());
+
+        return options;
+    }
+
+    // A name the parser would have interned
+    private String readName() {
+        String name = readString();
+
+        return names == null || name == null ? name : names.intern(name);
+    }
+
+    private String readString() {
+        int code = readInt();
+
+        if (code == 0) return null;
+        if (code > 1) return strings.get(code - 2);
+
+        char[] chars = new char[readLength()];
+        for (int i = 0; i < chars.length; i++) {
+            int b = in[offset++] & 0xff;
+
+            if (b < 0x80) {
+                chars[i] = (char) b;
+            } else if (b < 0xe0) {
+                chars[i] = (char) (((b & 0x1f) << 6) | (in[offset++] & 0x3f));
+            } else {
+                chars[i] = (char) (((b & 0x0f) << 12) | ((in[offset++] & 0x3f) << 6) | (in[offset++] & 0x3f));
+            }
+        }
+
+        String string = new String(chars);
+        strings.add(string);
+
+        return string;
+    }
+
+    // Whatever is being counted takes at least a byte each so there cannot be more than are left
+    private int readLength() {
+        return checkLength(readInt());
+    }
+
+    private int checkLength(int length) {
+        if (length < 0 || length > in.length - offset) throw new IllegalStateException("Length past the end of the data");
+
+        return length;
+    }
+
+    private boolean readBoolean() {
+        return in[offset++] != 0;
+    }
+
+    private int readInt() {
+        int value = 0;
+
+        for (int shift = 0; ; shift += 7) {
+            byte b = in[offset++];
+
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) return value;
+        }
+    }
+
+    private long readSigned() {
+        long value = 0;
+
+        for (int shift = 0; ; shift += 7) {
+            byte b = in[offset++];
+
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) return (value >>> 1) ^ -(value & 1);
+        }
+    }
+
+    private int readFixed() {
+        int value = ((in[offset] & 0xff) << 24) | ((in[offset + 1] & 0xff) << 16) |
+                ((in[offset + 2] & 0xff) << 8) | (in[offset + 3] & 0xff);
+
+        offset += 4;
+
+        return value;
+    }
+
+    // A node being read along with where its children and other unread nodes are up to
+    private static class Frame {
+        private final NodeType type;
+        private final SourcePosition position;
+        private final Node[] children;
+        private final int extras;
+        private int next = 0;
+
+        public Frame(NodeType type, SourcePosition position, Node[] children, int extras) {
+            this.type = type;
+            this.position = position;
+            this.children = children;
+            this.extras = extras;
+        }
+
+        // Nodes after the children are only read so that fields can refer to them
+        public void add(Node node) {
+            if (next < children.length) children[next] = node;
+            next++;
+        }
+    }
+}
@@ -0,0 +1,877 @@
+package org.jrubyparser.ast;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jrubyparser.RegexpOptions;
+import org.jrubyparser.SourcePosition;
+import org.jrubyparser.StaticScope;
+import org.jrubyparser.BlockStaticScope;
+
+/**
+ * Writes an AST in a compact binary form which NodeReader turns back into the same tree, for
+ * keeping parsed trees around between runs (see DiskParseCache).  Java serialization of whole
+ * trees would be both a lot bigger and a lot slower.
+ *
+ * Each node is written as its NodeType, its position, its children (in order), any nodes its
+ * fields refer to which are not children and were not written yet (rare) and then whatever else
+ * its class holds.  Fields which refer to nodes are written as the index of the child they refer
+ * to, so only nodes which are not children take more than a byte.  Names and other strings are
+ * written once and referred to by number after that, and positions are written as differences
+ * from the node before.  Ints are written 7 bits a byte.  Trees are written (and read) without
+ * recursing since deeply nested code makes deep trees.
+ *
+ * What gets written is versioned by FORMAT and by the version of the parser (trees from
+ * another parser may not look like the ones this one makes) and NodeReader only reads data
+ * written by the same ones.
+ */
+public class NodeWriter {
+    static final int MAGIC = 0x4a525041; // "JRPA"
+
+    // Bump this whenever what gets written for some node (or what the parser builds) changes
+    static final int FORMAT = 2;
+
+    // How a reference to a node is written (followed by child index or id for CHILD)
+    static final int NULL = 0;
+    static final int INLINE = 1;
+    static final int CHILD = 2;
+
+    // How a node's position is written
+    static final int NO_POSITION = 0;
+    static final int IN_FILE = 1;
+    static final int OTHER_FILE = 2;
+
+    // How a scope is written (followed by the id of the scope for SCOPE)
+    static final int NEW_SCOPES = 1;
+    static final int SCOPE = 2;
+
+    private byte[] out = new byte[4096];
+    private int size = 0;
+
+    private final String file;
+    private final Map<String, Integer> strings = new HashMap<String, Integer>();
+    private final Map<StaticScope, Integer> scopes = new IdentityHashMap<StaticScope, Integer>();
+
+    // Every node written so far by when it was finished.  A node which is being written is in
+    // here as -1 until then.
+    private final Map<Node, Integer> ids = new IdentityHashMap<Node, Integer>();
+    private int nodeCount = 0;
+
+    // Nodes the fields being written refer to which are not written yet (only while finding
+    // them out, see unwritten)
+    private List<Node> unwritten = null;
+
+    // Where the position of the last node with one was
+    private int lastStart = 0;
+    private int lastLine = 0;
+
+    private NodeWriter(String file) {
+        this.file = file;
+    }
+
+    /**
+     * @param root of the tree to write (the positions in it are expected to be in the file of
+     * its own position, which NodeReader may then give a new name)
+     * @return the tree as bytes
+     */
+    public static byte[] write(Node root) {
+        SourcePosition position = root.getPosition();
+        NodeWriter writer = new NodeWriter(position == null ? null : position.getFile());
+
+        writer.writeFixed(MAGIC);
+        writer.writeInt(FORMAT);
+        writer.writeString(parserVersion());
+        writer.writeString(writer.file);
+        writer.writeTree(root);
+
+        byte[] bytes = new byte[writer.size];
+        System.arraycopy(writer.out, 0, bytes, 0, writer.size);
+
+        return bytes;
+    }
+
+    // Trees written by another version of the parser may not look like the ones this one makes
+    static String parserVersion() {
+        Package parserPackage = Node.class.getPackage();
+        String version = parserPackage == null ? null : parserPackage.getImplementationVersion();
+
+        return version == null ? "" : version;
+    }
+
+    private void writeTree(Node root) {
+        List<Frame> stack = new ArrayList<Frame>();
+        Frame frame = startNode(root);
+
+        while (true) {
+            if (frame.next < frame.size()) {
+                Node node = frame.get(frame.next++);
+                Integer id = ids.get(node);
+
+                if (id == null) {
+                    writeInt(INLINE);
+                    stack.add(frame);
+                    frame = startNode(node);
+                } else {
+                    if (id == -1) throw new IllegalArgumentException("A " + node.getNodeType() + " is its own descendant");
+
+                    writeInt(CHILD + id);
+                }
+                continue;
+            }
+
+            writeFields(frame.node, frame.children);
+            ids.put(frame.node, nodeCount++);
+
+            if (stack.isEmpty()) return;
+            frame = stack.remove(stack.size() - 1);
+        }
+    }
+
+    // Everything up to the children, which the caller writes next
+    private Frame startNode(Node node) {
+        ids.put(node, -1);
+
+        writeInt(node.getNodeType().ordinal());
+        writePosition(node);
+
+        List<Node> children = node.childNodes();
+        List<Node> extras = unwritten(node, children);
+
+        writeInt(children.size() << 1 | (extras.isEmpty() ? 0 : 1));
+        if (!extras.isEmpty()) writeInt(extras.size());
+
+        return new Frame(node, children, extras);
+    }
+
+    // The nodes the fields of node refer to which are neither children nor written yet.  The
+    // fields get written to find out and then thrown away.
+    private List<Node> unwritten(Node node, List<Node> children) {
+        int mark = size;
+
+        unwritten = new ArrayList<Node>(0);
+        try {
+            writeFields(node, children);
+
+            return unwritten;
+        } finally {
+            unwritten = null;
+            size = mark;
+        }
+    }
+
+    private void writePosition(Node node) {
+        SourcePosition position = node.getPosition();
+
+        if (position == null) {
+            writeInt(NO_POSITION);
+            return;
+        }
+
+        if (position.getFile().equals(file)) {
+            writeInt(IN_FILE);
+        } else {
+            writeInt(OTHER_FILE);
+            writeString(position.getFile());
+        }
+
+        writeSigned(position.getStartOffset() - lastStart);
+        writeSigned(position.getEndOffset() - position.getStartOffset());
+        writeSigned(position.getStartLine() - lastLine);
+        writeSigned(position.getEndLine() - position.getStartLine());
+
+        lastStart = position.getStartOffset();
+        lastLine = position.getStartLine();
+    }
+
+    private void writeFields(Node node, List<Node> children) {
+        switch (node.getNodeType()) {
+        case ALIASNODE: {
+            AliasNode alias = (AliasNode) node;
+            writeRef(alias.getNewName(), children);
+            writeRef(alias.getOldName(), children);
+            break;
+        }
+        case ANDNODE: case ARGSCATNODE: case OPASGNANDNODE: case OPASGNORNODE: case ORNODE: {
+            BinaryOperatorBaseNode operator = (BinaryOperatorBaseNode) node;
+            writeRef(operator.getFirst(), children);
+            writeRef(operator.getSecond(), children);
+            break;
+        }
+        case ARGAUXILIARYNODE: {
+            ArgAuxillaryNode auxiliary = (ArgAuxillaryNode) node;
+            writeString(auxiliary.getName());
+            writeSigned(auxiliary.getOffset());
+            break;
+        }
+        case ARGSNODE: {
+            ArgsNode args = (ArgsNode) node;
+            writeRef(args.getPre(), children);
+            writeRef(args.getOptional(), children);
+            writeRef(args.getRest(), children);
+            writeRef(args.getPost(), children);
+            writeRef(args.getKeywords(), children);
+            writeRef(args.getKeywordRest(), children);
+            writeRef(args.getBlock(), children);
+            writeRef(args.getShadow(), children);
+            break;
+        }
+        case ARGSPUSHNODE: {
+            ArgsPushNode push = (ArgsPushNode) node;
+            writeRef(push.getFirstNode(), children);
+            writeRef(push.getSecondNode(), children);
+            break;
+        }
+        case ARGUMENTNODE: {
+            ArgumentNode argument = (ArgumentNode) node;
+            writeString(argument.getName());
+            if (argument instanceof TypedArgumentNode) {
+                writeBoolean(true);
+                writeRef(((TypedArgumentNode) argument).getTypeNode(), children);
+            } else {
+                writeBoolean(false);
+                writeSigned(location(argument.getDepth(), argument.getIndex()));
+            }
+            break;
+        }
+        case ATTRASSIGNNODE: {
+            AttrAssignNode assign = (AttrAssignNode) node;
+            writeRef(assign.getReceiver(), children);
+            writeString(assign.getName());
+            writeRef(assign.getArgs(), children);
+            writeBoolean(assign.hasParens());
+            break;
+        }
+        case BACKREFNODE:
+            writeInt(((BackRefNode) node).getType());
+            break;
+        case BEGINNODE:
+            writeRef(((BeginNode) node).getBody(), children);
+            break;
+        case BIGNUMNODE: {
+            byte[] value = ((BignumNode) node).getValue().toByteArray();
+            writeInt(value.length);
+            for (byte b: value) {
+                writeByte(b);
+            }
+            break;
+        }
+        case BLOCKARG18NODE: {
+            BlockArg18Node blockArg = (BlockArg18Node) node;
+            writeRef(blockArg.getBlockArg(), children);
+            writeRef(blockArg.getArgs(), children);
+            break;
+        }
+        case BLOCKARGNODE: {
+            BlockArgNode blockArg = (BlockArgNode) node;
+            writeSigned(blockArg.getCount());
+            writeString(blockArg.getName());
+            break;
+        }
+        case BLOCKPASSNODE: {
+            BlockPassNode blockPass = (BlockPassNode) node;
+            writeRef(blockPass.getBody(), children);
+            writeRef(blockPass.getArgs(), children);
+            break;
+        }
+        case BREAKNODE:
+            writeRef(((BreakNode) node).getValue(), children);
+            break;
+        case CALLNODE: {
+            CallNode call = (CallNode) node;
+            writeRef(call.getReceiver(), children);
+            writeString(call.getName());
+            writeString(call.getLexicalName());
+            writeRef(call.getArgs(), children);
+            writeRef(call.getIter(), children);
+            writeBoolean(call.hasParens());
+            break;
+        }
+        case CASENODE: {
+            CaseNode caseNode = (CaseNode) node;
+            writeRef(caseNode.getCase(), children);
+            writeRef(caseNode.getCases(), children);
+            writeRef(caseNode.getElse(), children);
+            break;
+        }
+        case CLASSNODE: {
+            ClassNode classNode = (ClassNode) node;
+            writeRef(classNode.getCPath(), children);
+            writeScope(classNode.getScope());
+            writeRef(classNode.getBody(), children);
+            writeRef(classNode.getSuper(), children);
+            break;
+        }
+        case CLASSVARASGNNODE: case CLASSVARDECLNODE: case DASGNNODE: case GLOBALASGNNODE:
+        case INSTASGNNODE: case LOCALASGNNODE: {
+            AssignableNode assign = (AssignableNode) node;
+            writeString(((INameNode) assign).getName());
+            if (assign instanceof DAsgnNode) {
+                writeSigned(location(((DAsgnNode) assign).getDepth(), ((DAsgnNode) assign).getIndex()));
+            } else if (assign instanceof LocalAsgnNode) {
+                writeSigned(location(((LocalAsgnNode) assign).getDepth(), ((LocalAsgnNode) assign).getIndex()));
+            }
+            writeRef(assign.getValue(), children);
+            break;
+        }
+        case CLASSVARNODE: case COLON3NODE: case CONSTNODE: case FALSENODE: case GLOBALVARNODE:
+        case INSTVARNODE: case METHODNAMENODE: case NILNODE: case SELFNODE: case SYMBOLNODE:
+        case TRUENODE: case VCALLNODE:
+            writeString(((INameNode) node).getName());
+            break;
+        case COLON2NODE: {
+            Colon2Node colon2 = (Colon2Node) node;
+            writeInt(colon2 instanceof Colon2ImplicitNode ? 1 : colon2 instanceof Colon2MethodNode ? 2 : 0);
+            writeString(colon2.getName());
+            writeRef(colon2.getLeftNode(), children);
+            break;
+        }
+        case COMMENTNODE: case SYNTAXNODE:
+            writeString(((SyntaxNode) node).getContent());
+            break;
+        case COMPLEXNODE:
+            writeRef(((ComplexNode) node).getNumber(), children);
+            break;
+        case CONSTDECLNODE: {
+            ConstDeclNode decl = (ConstDeclNode) node;
+            writeString(decl.getName());
+            writeRef(decl.getConstNode(), children);
+            writeRef(decl.getValue(), children);
+            break;
+        }
+        case DEFINEDNODE:
+            writeRef(((DefinedNode) node).getExpression(), children);
+            break;
+        case DEFNNODE: case DEFSNODE: {
+            MethodDefNode def = (MethodDefNode) node;
+            writeRef(def.getNameNode(), children);
+            writeRef(def.getArgs(), children);
+            writeScope(def.getScope());
+            writeRef(def.getBody(), children);
+            if (def instanceof DefsNode) writeRef(((DefsNode) def).getReceiver(), children);
+            break;
+        }
+        case DOTNODE: {
+            DotNode dot = (DotNode) node;
+            writeRef(dot.getBegin(), children);
+            writeRef(dot.getEnd(), children);
+            writeBoolean(dot.isExclusive());
+            writeBoolean(dot.isLiteral());
+            break;
+        }
+        case DREGEXPNODE:
+            writeOptions(((DRegexpNode) node).getOptions());
+            writeBoolean(((DRegexpNode) node).is19());
+            writeList((ListNode) node, children);
+            break;
+        case ARRAYNODE: case BLOCKNODE: case DSTRNODE: case DSYMBOLNODE: case DXSTRNODE: case LISTNODE:
+            writeList((ListNode) node, children);
+            break;
+        case DVARNODE: {
+            DVarNode dvar = (DVarNode) node;
+            writeSigned(location(dvar.getDepth(), dvar.getIndex()));
+            writeString(dvar.getName());
+            break;
+        }
+        case ENSURENODE: {
+            EnsureNode ensure = (EnsureNode) node;
+            writeRef(ensure.getBody(), children);
+            writeRef(ensure.getEnsure(), children);
+            break;
+        }
+        case EVSTRNODE:
+            writeRef(((EvStrNode) node).getBody(), children);
+            break;
+        case FCALLNODE: {
+            FCallNode call = (FCallNode) node;
+            writeString(call.getName());
+            writeRef(call.getArgs(), children);
+            writeRef(call.getIter(), children);
+            writeBoolean(call.hasParens());
+            break;
+        }
+        case FIXNUMNODE:
+            writeSigned(((FixnumNode) node).getValue());
+            break;
+        case FLIPNODE: {
+            FlipNode flip = (FlipNode) node;
+            writeRef(flip.getBegin(), children);
+            writeRef(flip.getEnd(), children);
+            writeBoolean(flip.isExclusive());
+            writeSigned(location(flip.getDepth(), flip.getIndex()));
+            break;
+        }
+        case FLOATNODE: {
+            long bits = Double.doubleToRawLongBits(((FloatNode) node).getValue());
+            writeFixed((int) (bits >>> 32));
+            writeFixed((int) bits);
+            break;
+        }
+        case FORNODE: {
+            ForNode forNode = (ForNode) node;
+            writeRef(forNode.getVar(), children);
+            writeRef(forNode.getBody(), children);
+            writeRef(forNode.getIter(), children);
+            writeScope(forNode.getScope());
+            break;
+        }
+        case HASHNODE:
+            writeRef(((HashNode) node).getListNode(), children);
+            break;
+        case IFNODE: {
+            IfNode ifNode = (IfNode) node;
+            writeRef(ifNode.getCondition(), children);
+            writeRef(ifNode.getThenBody(), children);
+            writeRef(ifNode.getElseBody(), children);
+            break;
+        }
+        case ENCODINGNODE: case IMPLICITNILNODE: case REDONODE: case REQUIREDKEYWORDARGNODE:
+        case RETRYNODE: case STARNODE: case ZARRAYNODE: case ZEROARGNODE:
+            break;
+        case ITERNODE: case LAMBDANODE: {
+            IterNode iter = (IterNode) node;
+            writeRef(iter.getVar(), children);
+            writeScope(iter.getScope());
+            writeRef(iter.getBody(), children);
+            break;
+        }
+        case KEYWORDARGNODE:
+            writeRef(((KeywordArgNode) node).getAssignable(), children);
+            break;
+        case KEYWORDRESTARGNODE: {
+            KeywordRestArgNode rest = (KeywordRestArgNode) node;
+            writeString(rest.getName());
+            writeSigned(location(rest.getDepth(), rest.getIndex()));
+            break;
+        }
+        case LITERALNODE:
+            writeString(((LiteralNode) node).getName());
+            break;
+        case LOCALVARNODE: {
+            LocalVarNode lvar = (LocalVarNode) node;
+            writeSigned(location(lvar.getDepth(), lvar.getIndex()));
+            writeString(lvar.getName());
+            break;
+        }
+        case MATCH2NODE:
+            writeRef(((Match2Node) node).getReceiver(), children);
+            writeRef(((Match2Node) node).getValue(), children);
+            break;
+        case MATCH3NODE:
+            writeRef(((Match3Node) node).getReceiver(), children);
+            writeRef(((Match3Node) node).getValue(), children);
+            break;
+        case MATCHNODE:
+            writeRef(((MatchNode) node).getRegexp(), children);
+            break;
+        case MODULENODE: {
+            ModuleNode module = (ModuleNode) node;
+            writeRef(module.getCPath(), children);
+            writeScope(module.getScope());
+            writeRef(module.getBody(), children);
+            break;
+        }
+        case MULTIPLEASGNNODE: {
+            MultipleAsgnNode assign = (MultipleAsgnNode) node;
+            writeRef(assign.getPre(), children);
+            writeRef(assign.getRest(), children);
+            writeRef(assign.getPost(), children);
+            writeRef(assign.getValue(), children);
+            break;
+        }
+        case NEWLINENODE:
+            writeRef(((NewlineNode) node).getNextNode(), children);
+            break;
+        case NEXTNODE:
+            writeRef(((NextNode) node).getValue(), children);
+            break;
+        case NOTNODE:
+            writeRef(((NotNode) node).getCondition(), children);
+            break;
+        case NTHREFNODE:
+            writeSigned(((NthRefNode) node).getMatchNumber());
+            break;
+        case OPASGNNODE: {
+            OpAsgnNode assign = (OpAsgnNode) node;
+            writeRef(assign.getReceiver(), children);
+            writeRef(assign.getValue(), children);
+            writeString(assign.getVariableName());
+            writeString(assign.getOperatorName());
+            writeBoolean(assign.isLazy());
+            break;
+        }
+        case OPELEMENTASGNNODE: {
+            OpElementAsgnNode assign = (OpElementAsgnNode) node;
+            writeInt(assign instanceof OpElementAsgnAndNode ? 1 : assign instanceof OpElementAsgnOrNode ? 2 : 0);
+            writeRef(assign.getReceiver(), children);
+            writeString(assign.getOperatorName());
+            writeRef(assign.getArgs(), children);
+            writeRef(assign.getValue(), children);
+            break;
+        }
+        case OPTARGNODE:
+            writeRef(((OptArgNode) node).getValue(), children);
+            break;
+        case POSTEXENODE:
+            writeRef(((PostExeNode) node).getBody(), children);
+            break;
+        case PREEXENODE: {
+            PreExeNode preExe = (PreExeNode) node;
+            writeBoolean(preExe instanceof PreExe19Node);
+            writeScope(preExe.getScope());
+            writeRef(preExe.getBody(), children);
+            break;
+        }
+        case RATIONALNODE:
+            writeSigned(((RationalNode) node).getNumerator());
+            writeSigned(((RationalNode) node).getDenominator());
+            break;
+        case REGEXPNODE:
+            writeString(((RegexpNode) node).getValue());
+            writeOptions(((RegexpNode) node).getOptions());
+            break;
+        case RESCUEBODYNODE: {
+            RescueBodyNode rescueBody = (RescueBodyNode) node;
+            writeRef(rescueBody.getExceptions(), children);
+            writeRef(rescueBody.getBody(), children);
+            writeRef(rescueBody.getOptRescue(), children);
+            break;
+        }
+        case RESCUENODE: {
+            RescueNode rescue = (RescueNode) node;
+            writeRef(rescue.getBody(), children);
+            writeRef(rescue.getRescue(), children);
+            writeRef(rescue.getElse(), children);
+            break;
+        }
+        case RESTARG: {
+            RestArgNode rest = (RestArgNode) node;
+            writeBoolean(rest instanceof UnnamedRestArgNode);
+            writeString(rest.getName());
+            writeSigned(rest.getIndex());
+            break;
+        }
+        case RETURNNODE:
+            writeRef(((ReturnNode) node).getValue(), children);
+            break;
+        case ROOTNODE:
+            writeScope(((RootNode) node).getStaticScope());
+            writeRef(((RootNode) node).getBody(), children);
+            break;
+        case SCLASSNODE: {
+            SClassNode sclass = (SClassNode) node;
+            writeRef(sclass.getReceiver(), children);
+            writeScope(sclass.getScope());
+            writeRef(sclass.getBody(), children);
+            break;
+        }
+        case SPLATNODE:
+            writeRef(((SplatNode) node).getValue(), children);
+            break;
+        case STRNODE: {
+            StrNode str = (StrNode) node;
+            boolean isFile = str instanceof FileNode;
+            writeBoolean(isFile);
+            if (isFile && str.getValue().equals(file)) { // __FILE__ follows the file being renamed
+                writeBoolean(true);
+            } else {
+                if (isFile) writeBoolean(false);
+                writeString(str.getValue());
+            }
+            break;
+        }
+        case SUPERNODE: {
+            SuperNode superNode = (SuperNode) node;
+            writeRef(superNode.getArgs(), children);
+            writeRef(superNode.getIter(), children);
+            writeBoolean(superNode.hasParens());
+            break;
+        }
+        case SVALUENODE:
+            writeRef(((SValueNode) node).getValue(), children);
+            break;
+        case TOARYNODE:
+            writeRef(((ToAryNode) node).getValue(), children);
+            break;
+        case UNARYCALLNODE: {
+            UnaryCallNode call = (UnaryCallNode) node;
+            writeRef(call.getReceiver(), children);
+            writeString(call.getLexicalName());
+            writeBoolean(call.hasParens());
+            break;
+        }
+        case UNDEFNODE:
+            writeRef(((UndefNode) node).getName(), children);
+            break;
+        case UNTILNODE: {
+            UntilNode until = (UntilNode) node;
+            writeRef(until.getCondition(), children);
+            writeRef(until.getBody(), children);
+            writeBoolean(until.evaluateAtStart());
+            writeBoolean(until.containsNonlocalFlow);
+            break;
+        }
+        case VALIASNODE:
+            writeString(((VAliasNode) node).getNewName());
+            writeString(((VAliasNode) node).getOldName());
+            break;
+        case WHENNODE: {
+            WhenNode when = (WhenNode) node;
+            writeRef(when.getExpression(), children);
+            writeRef(when.getBody(), children);
+            writeRef(when.getNextCase(), children);
+            break;
+        }
+        case WHILENODE: {
+            WhileNode whileNode = (WhileNode) node;
+            writeRef(whileNode.getCondition(), children);
+            writeRef(whileNode.getBody(), children);
+            writeBoolean(whileNode.evaluateAtStart());
+            writeBoolean(whileNode.containsNonlocalFlow);
+            break;
+        }
+        case XSTRNODE:
+            writeString(((XStrNode) node).getValue());
+            break;
+        case YIELDNODE: {
+            YieldNode yield = (YieldNode) node;
+            writeBoolean(yield instanceof ZYieldNode);
+            writeRef(yield.getArgs(), children);
+            writeBoolean(yield.getExpandArguments());
+            writeBoolean(yield.hasParens());
+            break;
+        }
+        case ZSUPERNODE:
+            writeRef(((ZSuperNode) node).getIter(), children);
+            break;
+        default:
+            throw new IllegalArgumentException("Cannot write a " + node.getNodeType());
+        }
+    }
+
+    private static int location(int depth, int index) {
+        return (depth << 16) | index;
+    }
+
+    // The elements are almost always exactly the children so that is all we write then
+    private void writeList(ListNode list, List<Node> children) {
+        int count = list.size();
+        boolean same = count == children.size();
+
+        for (int i = 0; same && i < count; i++) {
+            same = list.get(i) == children.get(i);
+        }
+
+        if (same) {
+            writeInt(0);
+            return;
+        }
+
+        writeInt(count + 1);
+        for (int i = 0; i < count; i++) {
+            writeRef(list.get(i), children);
+        }
+    }
+
+    private void writeRef(Node node, List<Node> children) {
+        if (node == null) {
+            writeInt(NULL);
+            return;
+        }
+
+        int count = children.size();
+        for (int i = 0; i < count; i++) {
+            if (children.get(i) == node) {
+                writeInt(CHILD + i);
+                return;
+            }
+        }
+
+        // Not one of ours so it is somewhere else in the tree (or nowhere)
+        Integer id = ids.get(node);
+        if (id != null && id == -1) throw new IllegalArgumentException("A " + node.getNodeType() + " refers to its ancestor");
+
+        if (unwritten != null) {
+            if (id == null && !contains(unwritten, node)) unwritten.add(node);
+            return;
+        }
+
+        writeInt(CHILD + count + id);
+    }
+
+    private static boolean contains(List<Node> nodes, Node node) {
+        for (Node each: nodes) {
+            if (each == node) return true;
+        }
+
+        return false;
+    }
+
+    // A scope not written yet comes with the scopes around it which were not written yet either,
+    // outermost first
+    private void writeScope(StaticScope scope) {
+        if (unwritten != null) return;
+
+        if (scope == null) {
+            writeInt(NULL);
+            return;
+        }
+
+        Integer id = scopes.get(scope);
+        if (id != null) {
+            writeInt(SCOPE + id);
+            return;
+        }
+
+        List<StaticScope> chain = new ArrayList<StaticScope>();
+        StaticScope outer = scope;
+        for (; outer != null && !scopes.containsKey(outer); outer = outer.getEnclosingScope()) {
+            chain.add(outer);
+        }
+
+        writeInt(NEW_SCOPES);
+        writeInt(chain.size());
+        writeScope(outer);
+
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            StaticScope each = chain.get(i);
+            String[] names = each.getVariables();
+
+            scopes.put(each, scopes.size());
+            writeBoolean(each instanceof BlockStaticScope);
+            writeInt(names.length);
+            for (int j = 0; j < names.length; j++) {
+                writeString(names[j]);
+                writeBoolean(each.isCaptured(j));
+            }
+            writeBoolean(each.isArgumentScope());
+        }
+    }
+
+    private void writeOptions(RegexpOptions options) {
+        if (options == null) {
+            writeInt(0);
+        } else if (options == RegexpOptions.NULL_OPTIONS) {
+            writeInt(1);
+        } else {
+            writeInt(2 |
+                    (options.isFixed() ? 1 << 2 : 0) |
+                    (options.isOnce() ? 1 << 3 : 0) |
+                    (options.isExtended() ? 1 << 4 : 0) |
+                    (options.isMultiline() ? 1 << 5 : 0) |
+                    (options.isIgnorecase() ? 1 << 6 : 0) |
+                    (options.isJava() ? 1 << 7 : 0) |
+                    (options.isEncodingNone() ? 1 << 8 : 0) |
+                    (options.isKcodeDefault() ? 1 << 9 : 0));
+            writeInt(options.getKCodeChar());
+        }
+    }
+
+    // null is 0, a string already written is its number + 2 and a new one is 1 followed by
+    // its length and chars (each in 1-3 bytes like in a class file)
+    private void writeString(String string) {
+        if (unwritten != null) return;
+
+        if (string == null) {
+            writeInt(0);
+            return;
+        }
+
+        Integer id = strings.get(string);
+        if (id != null) {
+            writeInt(id + 2);
+            return;
+        }
+
+        strings.put(string, strings.size());
+
+        int length = string.length();
+        writeInt(1);
+        writeInt(length);
+        ensure(length * 3);
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+
+            if (c > 0 && c < 0x80) {
+                out[size++] = (byte) c;
+            } else if (c < 0x800) {
+                out[size++] = (byte) (0xc0 | (c >> 6));
+                out[size++] = (byte) (0x80 | (c & 0x3f));
+            } else {
+                out[size++] = (byte) (0xe0 | (c >> 12));
+                out[size++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                out[size++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+    }
+
+    private void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    // Unsigned 7 bits at a time, low bits first
+    private void writeInt(int value) {
+        ensure(5);
+        while ((value & ~0x7f) != 0) {
+            out[size++] = (byte) ((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out[size++] = (byte) value;
+    }
+
+    // Small negative values are small too (zig-zag)
+    private void writeSigned(long value) {
+        value = (value << 1) ^ (value >> 63);
+
+        ensure(10);
+        while ((value & ~0x7fL) != 0) {
+            out[size++] = (byte) ((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out[size++] = (byte) value;
+    }
+
+    private void writeFixed(int value) {
+        ensure(4);
+        out[size++] = (byte) (value >>> 24);
+        out[size++] = (byte) (value >>> 16);
+        out[size++] = (byte) (value >>> 8);
+        out[size++] = (byte) value;
+    }
+
+    private void writeByte(int value) {
+        ensure(1);
+        out[size++] = (byte) value;
+    }
+
+    private void ensure(int room) {
+        if (size + room > out.length) {
+            byte[] grown = new byte[Math.max(out.length * 2, size + room)];
+            System.arraycopy(out, 0, grown, 0, size);
+            out = grown;
+        }
+    }
+
+    // A node being written along with where its children and other unwritten nodes are up to
+    private static class Frame {
+        private final Node node;
+        private final List<Node> children;
+        private final List<Node> extras;
+        private int next = 0;
+
+        public Frame(Node node, List<Node> children, List<Node> extras) {
+            this.node = node;
+            this.children = children;
+            this.extras = extras;
+        }
+
+        public int size() {
+            return children.size() + extras.size();
+        }
+
+        public Node get(int index) {
+            return index < children.size() ? children.get(index) : extras.get(index - children.size());
+        }
+    }
+}
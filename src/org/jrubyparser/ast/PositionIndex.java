@@ -0,0 +1,155 @@
+package org.jrubyparser.ast;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Where every node under some top node is in the source, for answering getNodeAt and
+ * getNodesInRange without walking the whole tree (see RootNode, which keeps one around until
+ * its tree changes).
+ *
+ * The nodes which take up some space (start &lt; end) are kept sorted by start offset.  Each
+ * sorted range [lo, hi) is treated as a balanced tree rooted at its middle element and
+ * maxEnds remembers the furthest end within it, so a search can skip any half which ends
+ * before the offsets it is after.  Finding every node touching an offset or range is then
+ * O(log n) plus the number of nodes found.  Positions do not have to nest properly (heredocs
+ * and some string nodes do not), this only relies on each node's own start and end.
+ */
+final class PositionIndex {
+    private final Node top;
+
+    // Sorted by start offset (a parent before the nodes inside it on ties)
+    private final Node[] nodes;
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] maxEnds;
+
+    // Where each node comes in a children-first walk of the tree.  Node.getNodeAt returns the
+    // first node of that walk which holds the offset, so the lowest rank wins here.
+    private final int[] ranks;
+
+    // Only used while building
+    private List<Node> found = new ArrayList<Node>();
+    private int[] foundRanks = new int[16];
+    private int postorder;
+
+    PositionIndex(Node top) {
+        this.top = top;
+
+        for (Node child: top.childNodes()) {
+            collect(child);
+        }
+
+        int count = found.size();
+        long[] order = new long[count];
+        for (int i = 0; i < count; i++) { // start offset in the high bits, where it was found in the low
+            order[i] = ((long) found.get(i).getStartOffset() << 32) | i;
+        }
+        Arrays.sort(order);
+
+        nodes = new Node[count];
+        starts = new int[count];
+        ends = new int[count];
+        maxEnds = new int[count];
+        ranks = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            int j = (int) order[i];
+            Node node = found.get(j);
+
+            nodes[i] = node;
+            starts[i] = node.getStartOffset();
+            ends[i] = node.getEndOffset();
+            ranks[i] = foundRanks[j];
+        }
+
+        computeMaxEnds(0, count);
+        found = null;
+        foundRanks = null;
+    }
+
+    private void collect(Node node) {
+        int index = -1;
+
+        if (node.getStartOffset() < node.getEndOffset()) { // place-holders (empty) can never be found
+            index = found.size();
+            found.add(node);
+
+            if (index == foundRanks.length) {
+                int[] grown = new int[index * 2];
+                System.arraycopy(foundRanks, 0, grown, 0, index);
+                foundRanks = grown;
+            }
+        }
+
+        for (Node child: node.childNodes()) {
+            collect(child);
+        }
+
+        int rank = postorder++;
+        if (index != -1) foundRanks[index] = rank;
+    }
+
+    private int computeMaxEnds(int lo, int hi) {
+        if (lo >= hi) return Integer.MIN_VALUE;
+
+        int mid = (lo + hi) >>> 1;
+        int max = Math.max(ends[mid], Math.max(computeMaxEnds(lo, mid), computeMaxEnds(mid + 1, hi)));
+
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    /**
+     * Same answer as Node.getNodeAt on the top node this index was made for.
+     */
+    public Node getNodeAt(int offset) {
+        if (offset < 0) return null;
+
+        int best = findFirstAt(0, nodes.length, offset, -1);
+        if (best != -1) return nodes[best];
+
+        return offset >= top.getStartOffset() && offset <= top.getEndOffset() ? top : null;
+    }
+
+    private int findFirstAt(int lo, int hi, int offset, int best) {
+        if (lo >= hi) return best;
+
+        int mid = (lo + hi) >>> 1;
+        if (maxEnds[mid] < offset) return best;  // Everything in here ends before offset
+
+        best = findFirstAt(lo, mid, offset, best);
+        if (starts[mid] > offset) return best;   // mid and everything after it start after offset
+
+        if (ends[mid] >= offset && (best == -1 || ranks[mid] < ranks[best])) best = mid;
+
+        return findFirstAt(mid + 1, hi, offset, best);
+    }
+
+    /**
+     * Nodes under the top node which overlap the characters from start up to (not including)
+     * end, ordered by start offset.
+     */
+    public List<Node> getNodesInRange(int start, int end) {
+        List<Node> found = new ArrayList<Node>();
+
+        if (start < end) findOverlapping(0, nodes.length, start, end, found);
+
+        return found;
+    }
+
+    private void findOverlapping(int lo, int hi, int start, int end, List<Node> found) {
+        if (lo >= hi) return;
+
+        int mid = (lo + hi) >>> 1;
+        if (maxEnds[mid] <= start) return;
+
+        findOverlapping(lo, mid, start, end, found);
+        if (starts[mid] >= end) return;
+
+        if (ends[mid] > start) found.add(nodes[mid]);
+
+        findOverlapping(mid + 1, hi, start, end, found);
+    }
+}
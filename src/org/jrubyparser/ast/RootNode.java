@@ -28,8 +28,12 @@
  ***** END LICENSE BLOCK *****/
 package org.jrubyparser.ast;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.jrubyparser.LineMap;
 import org.jrubyparser.NodeVisitor;
 import org.jrubyparser.SourcePosition;
 import org.jrubyparser.StaticScope;
@@ -41,11 +45,22 @@ import org.jrubyparser.util.ILocalVariableVisitor;
  * and END nodes.  These can then be interpreted/compiled in the same places as the rest
  * of the code.
  *
+ * The lookups which remember what they found (getNodeAt, getNodesInRange and finding variable
+ * occurrences) may be used from many threads at once, as long as nothing changes the tree
+ * meanwhile.  Changing a tree is never safe while another thread looks at it.
  */
 // TODO: Store BEGIN and END information into this node
 public class RootNode extends Node implements ILocalScope {
     private StaticScope staticScope;
     private Node bodyNode;
+    private LineMap lineMap;
+
+    // These are worked out the first time something needs them and dropped whenever this tree
+    // changes (see Node.treeChanged).  Readers on other threads may be filling them in so a
+    // PositionIndex (which never changes once made) is only published through the volatile and
+    // variableOccurrences is only touched holding the lock on this.
+    private volatile PositionIndex positionIndex;
+    private Map<IScope, Map<String, List<ILocalVariable>>> variableOccurrences;
 
     public RootNode(SourcePosition position, StaticScope scope, Node bodyNode) {
         super(position);
@@ -88,11 +103,102 @@ public class RootNode extends Node implements ILocalScope {
         this.bodyNode = adopt(body);
     }
 
+    /**
+     * Where the lines of the source start, for turning offsets into lines and columns and back.
+     *
+     * @return the line map or null if this AST did not come from parsing a whole source
+     */
+    public LineMap getLineMap() {
+        return lineMap;
+    }
+
+    public void setLineMap(LineMap lineMap) {
+        this.lineMap = lineMap;
+    }
+
+    /**
+     * Find the leaf node (which is not invisible) at the specified offset.  This gives the
+     * same answer as Node.getNodeAt but only walks the tree once, the first time it is asked,
+     * until the tree changes.
+     *
+     * @param offset in characters into the source unit
+     * @return return the leafmost node
+     */
+    @Override
+    public Node getNodeAt(int offset) {
+        if (offset < 0) return null;
+
+        return getPositionIndex().getNodeAt(offset);
+    }
+
+    @Override
+    public List<Node> getNodesInRange(int start, int end) {
+        return getPositionIndex().getNodesInRange(start, end);
+    }
+
+    private PositionIndex getPositionIndex() {
+        PositionIndex index = positionIndex;
+
+        if (index == null) { // Two threads may both make one; either is fine
+            index = new PositionIndex(this);
+            positionIndex = index;
+        }
+
+        return index;
+    }
+
+    void clearIndexes() {
+        positionIndex = null;
+        synchronized (this) {
+            variableOccurrences = null;
+        }
+    }
+
+    /**
+     * Same as ILocalVariableVisitor.findOccurrencesIn but each scope gets walked once for all of
+     * its variables and the RootNode above it remembers what was found until its tree changes.
+     */
+    static List<ILocalVariable> findOccurrencesIn(IScope scope, String name) {
+        Node top = (Node) scope;
+        while (top.getParent() != null) {
+            top = top.getParent();
+        }
+
+        if (!(top instanceof RootNode)) return ILocalVariableVisitor.findOccurrencesIn(scope, name);
+
+        List<ILocalVariable> occurrences = ((RootNode) top).getVariableOccurrences(scope).get(name);
+
+        // A copy since callers are free to change what they get back
+        return occurrences == null ? new ArrayList<ILocalVariable>() : new ArrayList<ILocalVariable>(occurrences);
+    }
+
+    // What is in here is never changed once it is put in, only read
+    private Map<String, List<ILocalVariable>> getVariableOccurrences(IScope scope) {
+        synchronized (this) {
+            Map<String, List<ILocalVariable>> occurrences = variableOccurrences == null ? null : variableOccurrences.get(scope);
+            if (occurrences != null) return occurrences;
+        }
+
+        // Walked without the lock so other scopes can be looked up meanwhile
+        Map<String, List<ILocalVariable>> occurrences = ILocalVariableVisitor.findAllOccurrencesIn(scope);
+
+        synchronized (this) {
+            if (variableOccurrences == null) variableOccurrences = new IdentityHashMap<IScope, Map<String, List<ILocalVariable>>>();
+
+            Map<String, List<ILocalVariable>> found = variableOccurrences.get(scope);
+            if (found != null) return found;
+
+            variableOccurrences.put(scope, occurrences);
+        }
+
+        return occurrences;
+    }
+
     public <T> T accept(NodeVisitor<T> iVisitor) {
         return iVisitor.visitRootNode(this);
     }
 
     public List<ILocalVariable> getVariableReferencesNamed(String name) {
-        return ILocalVariableVisitor.findOccurrencesIn(this, name);
+        return findOccurrencesIn(this, name);
     }
 }
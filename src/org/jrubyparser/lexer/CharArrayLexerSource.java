@@ -0,0 +1,571 @@
+package org.jrubyparser.lexer;
+
+import java.io.IOException;
+
+import org.jrubyparser.LineMap;
+import org.jrubyparser.parser.ParserConfiguration;
+import org.jrubyparser.util.CStringBuilder;
+
+/**
+ * A LexerSource for source which is already completely in memory.  Reading, peeking and
+ * unreading are done by moving an index over the backing array.  Only characters which do not
+ * match what was just read end up in a pushback buffer like ReaderLexerSource uses.  The
+ * remainder of a heredoc line (pushed back after the heredoc body) is replayed from the array
+ * too: the index jumps back to the line and carries on after the heredoc once it is used up.
+ */
+public final class CharArrayLexerSource extends LexerSource {
+    private static final int INITIAL_PUSHBACK_SIZE = 100;
+
+    // The whole source
+    private final char[] data;
+
+    // Index of first char of the source within data
+    private final int begin;
+
+    // One past the last valid char in data
+    private final int end;
+
+    // Index of next char to read out of data
+    private int index;
+
+    // Reading stays within [floor, limit): the source or, while replaying, the line being replayed
+    private int floor;
+    private int limit;
+
+    // Where to carry on reading once the line being replayed is used up (-1 if not replaying)
+    private int resumeIndex = -1;
+
+    // Our pushback buffer (only used when unread chars do not match what came out of data).
+    private char buf[] = new char[INITIAL_PUSHBACK_SIZE];
+
+    // index of last character in pushback buffer
+    private int bufLength = -1;
+
+    // Character read before previous read
+    private int oneAgo = '\n';
+    private int twoAgo = 0;
+
+    /**
+     * Create our food-source for the lexer
+     *
+     * @param sourceName is the file we are reading
+     * @param data is what represents the contents of file sourceName
+     * @param line starting line number for source (used by eval)
+     */
+    public CharArrayLexerSource(String sourceName, char[] data, int line) {
+        this(sourceName, data, 0, data.length, line);
+    }
+
+    /**
+     * Create our food-source for the lexer
+     *
+     * @param sourceName is the file we are reading
+     * @param data is what represents the contents of file sourceName
+     * @param start index of first char of source within data
+     * @param end index one past the last char of source within data
+     * @param line starting line number for source (used by eval)
+     */
+    public CharArrayLexerSource(String sourceName, char[] data, int start, int end, int line) {
+        super(sourceName, line);
+
+        this.data = data;
+        this.begin = start;
+        this.index = start;
+        this.end = end;
+        this.floor = start;
+        this.limit = end;
+    }
+
+    /**
+     * Create a source.
+     *
+     * @param name the name of the source (e.g a filename: foo.rb)
+     * @param content the data of the source
+     * @param configuration the config for this parse/lex
+     * @return the new source
+     */
+    public static LexerSource getSource(String name, CharSequence content,
+            ParserConfiguration configuration) {
+        return new CharArrayLexerSource(name, content.toString().toCharArray(), configuration.getLineNumber());
+    }
+
+    /**
+     * Read next character from this source
+     *
+     * @return next character to viewed by the source
+     */
+    public int read() {
+        int c;
+
+        if (bufLength >= 0) {
+            c = buf[bufLength--];
+        } else {
+            if (index >= limit && !resume()) return Lexer.EOF;
+
+            c = data[index++];
+
+            // If \r\n then just pass along \n (windows).
+            // If \r[^\n] then pass along \n (MAC).
+            if (c == '\r') {
+                if (index < limit && data[index] == '\n') {
+                    index++;
+                    offset++; // position must reflect the extra character we ate
+                }
+                c = '\n';
+            }
+        }
+
+        advance(c);
+
+        if (c == '\n') line++;
+
+        return c;
+    }
+
+    /**
+     * Pushes char back onto this source.  If it is the same char we last pulled out of the
+     * backing array then we just move back over it.
+     *
+     * @param c to be put back onto the source
+     */
+    public void unread(int c) {
+        if (c == Lexer.EOF) return;
+
+        retreat();
+
+        if (c == '\n') line--;
+
+        if (bufLength < 0 && index > floor && data[index - 1] == c) {
+            index--;
+            return;
+        }
+
+        buf[++bufLength] = (char) c;
+
+        growBuf();
+    }
+
+    public void unreadMany(CharSequence buffer) {
+        int length = buffer.length();
+
+        if (buffer instanceof Line && ((Line) buffer).isFrom(this) && bufLength < 0 &&
+                (resumeIndex < 0 || index >= limit)) {
+            replay((Line) buffer);
+            return;
+        }
+
+        if (bufLength < 0 && length <= index - floor && regionMatches(buffer, index - length, length)) {
+            for (int i = 0; i < length; i++) {
+                if (buffer.charAt(i) == '\n') line--;
+            }
+
+            index -= length;
+            offset -= length;
+            if (length == 1) {
+                oneAgo = twoAgo;
+                twoAgo = 0;
+            } else if (length > 1) {
+                oneAgo = 0;
+                twoAgo = 0;
+            }
+            return;
+        }
+
+        for (int i = length - 1; i >= 0; i--) {
+            unread(buffer.charAt(i));
+        }
+    }
+
+    // Same effect on line, offset, oneAgo and twoAgo as unreading the chars of a line one by one
+    private void replay(Line replayed) {
+        resume();
+
+        line--;
+        offset -= replayed.length();
+        oneAgo = replayed.length() == 1 ? twoAgo : 0;
+        twoAgo = 0;
+
+        resumeIndex = index;
+        index = replayed.start;
+        floor = replayed.start;
+        limit = replayed.stop;
+    }
+
+    // Go back to reading the source after a replayed line.  Returns whether there is more to read.
+    private boolean resume() {
+        if (resumeIndex < 0) return false;
+
+        index = resumeIndex;
+        floor = begin;
+        limit = end;
+        resumeIndex = -1;
+
+        return index < limit;
+    }
+
+    private boolean regionMatches(CharSequence buffer, int start, int length) {
+        for (int i = 0; i < length; i++) {
+            if (data[start + i] != buffer.charAt(i)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Is the next character equal to 'to'
+     *
+     * @param to character to compare against
+     * @return true if the same
+     */
+    public boolean peek(int to) {
+        if (bufLength < 0) {
+            if (index >= limit && !resume()) return to == Lexer.EOF;
+
+            // \r needs read()'s translation (and its position side-effects) so go the long way
+            if (data[index] != '\r') return data[index] == to;
+        }
+
+        // keep value of twoAgo around so we can restore after we unread
+        int captureTwoAgo = twoAgo;
+        int c = read();
+        unread(c);
+        twoAgo = captureTwoAgo;
+        return c == to;
+    }
+
+    private void advance(int c) {
+        twoAgo = oneAgo;
+        oneAgo = c;
+        offset++;
+    }
+
+    private void retreat() {
+        offset--;
+        oneAgo = twoAgo;
+        twoAgo = 0;
+    }
+
+    private void growBuf() {
+        // If we outgrow our pushback stack then grow it (this should only happen in pretty
+        // pathological cases).
+        if (bufLength + 1 == buf.length) {
+            char[] newBuf = new char[buf.length * 2];
+
+            System.arraycopy(buf, 0, newBuf, 0, buf.length);
+
+            buf = newBuf;
+        }
+    }
+
+    /**
+     * Consume a run of chars straight out of the backing array which is known to contain no
+     * line terminators.
+     */
+    private void skip(int start, int stop) {
+        int length = stop - start;
+
+        if (length <= 0) return;
+
+        twoAgo = length > 1 ? data[stop - 2] : oneAgo;
+        oneAgo = data[stop - 1];
+        offset += length;
+        index = stop;
+    }
+
+    @Override
+    public int readRun(CStringBuilder buffer, long stopsLow, long stopsHigh) {
+        if (bufLength >= 0) return 0;
+
+        long low = stopsLow | lowStop('\n') | lowStop('\r');
+        int start = index;
+        int i = start;
+
+        for (; i < limit; i++) {
+            char c = data[i];
+
+            if (c < 64) {
+                if ((low & (1L << c)) != 0) break;
+            } else if (c < 128 && (stopsHigh & (1L << (c - 64))) != 0) {
+                break;
+            }
+        }
+
+        buffer.append(data, start, i - start);
+        skip(start, i);
+
+        return i - start;
+    }
+
+    // Index of next \n or \r at or after start (or limit if neither exists)
+    private int findEndOfLine(int start) {
+        int i = start;
+
+        while (i < limit && data[i] != '\n' && data[i] != '\r') {
+            i++;
+        }
+
+        return i;
+    }
+
+    @Override
+    public String readLineBytes() throws IOException {
+        if (bufLength < 0) {
+            if (index >= limit) resume();
+
+            int start = index;
+            int stop = findEndOfLine(start);
+            String line = new String(data, start, stop - start);
+
+            skip(start, stop);
+            read(); // newline or EOF
+
+            return line;
+        }
+
+        CStringBuilder list = new CStringBuilder(80);
+
+        for (int c = read(); c != '\n' && c != Lexer.EOF; c = read()) {
+            list.append((char) c);
+        }
+
+        return list.toString();
+    }
+
+    @Override
+    public void readLine(CStringBuilder buffer) throws IOException {
+        if (bufLength >= 0) {
+            super.readLine(buffer);
+            return;
+        }
+
+        if (index >= limit) resume();
+
+        int start = index;
+        int stop = findEndOfLine(start);
+
+        buffer.append(data, start, stop - start);
+        skip(start, stop);
+        read(); // newline or EOF
+    }
+
+    @Override
+    public CharSequence readLineForReplay() throws IOException {
+        if (bufLength < 0) {
+            if (index >= limit) resume();
+
+            int start = index;
+            int stop = findEndOfLine(start);
+
+            // A line ended by \r or EOF does not read back as it is written so it gets copied
+            if (stop < limit && data[stop] == '\n') {
+                skip(start, stop);
+                read();
+
+                return new Line(start, stop + 1);
+            }
+        }
+
+        return super.readLineForReplay();
+    }
+
+    @Override
+    public int skipUntil(int c) throws IOException {
+        if (bufLength < 0) skip(index, findEndOfLine(index));
+
+        for (c = read(); c != '\n' && c != Lexer.EOF; c = read()) {}
+
+        return c;
+    }
+
+    @Override
+    public boolean matchMarker(String match, boolean indent, boolean checkNewline) throws IOException {
+        int length = match.length();
+
+        // Most calls are for lines which obviously do not start with the marker (after any
+        // indentation).  Reading and unreading one char only leaves twoAgo cleared and reading
+        // and unreading more than one clears oneAgo too.
+        if (length > 0 && bufLength < 0 && index < limit) {
+            int i = index;
+
+            if (indent) {
+                while (i < limit && (data[i] == ' ' || data[i] == '\t')) i++;
+            }
+
+            if (i < limit && data[i] != match.charAt(0) &&
+                    (indent ? data[i] == '\n' || !Character.isWhitespace(data[i]) : data[i] != '\r')) {
+                if (i > index) oneAgo = 0;
+                twoAgo = 0;
+                return false;
+            }
+        }
+
+        CStringBuilder buffer = new CStringBuilder(length + 1);
+
+        if (indent) {
+            indentLoop(buffer);
+        }
+
+        if (!matches(match, buffer, length)) return false;
+
+        return finishMarker(checkNewline, buffer);
+    }
+
+    private void indentLoop(CStringBuilder buffer) throws IOException {
+        int c;
+        while ((c = read()) != Lexer.EOF) {
+            if (!Character.isWhitespace(c) || c == '\n') {
+                unread(c);
+                break;
+            }
+            buffer.append((char) c);
+        }
+    }
+
+    private boolean matches(String match, CStringBuilder buffer, int length) throws IOException {
+        int c;
+        for (int i = 0; i < length; i++) {
+            c = read();
+            if (c == Lexer.EOF) {
+                unreadMany(buffer);
+                return false;
+            }
+            buffer.append((char) c);
+            if (match.charAt(i) != c) {
+                unreadMany(buffer);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean finishMarker(boolean checkNewline, CStringBuilder buffer) throws IOException {
+        if (!checkNewline) {
+            return true;
+        }
+        int c = read();
+
+        if (c == Lexer.EOF || c == '\n') {
+            return true;
+        }
+        buffer.append((char) c);
+        unreadMany(buffer);
+
+        return false;
+    }
+
+    /**
+     * Was the last character read from the stream the first character on a line
+     *
+     * @return true if so
+     */
+    public boolean wasBeginOfLine() {
+        return twoAgo == '\n';
+    }
+
+    public boolean lastWasBeginOfLine() {
+        return oneAgo == '\n';
+    }
+
+    @Override
+    public String toString() {
+        int start = Math.max(index - 20, begin);
+        int stop = Math.min(index + 20, end);
+
+        return new String(data, start, index - start) + "->" + new String(data, index, stop - index) + " ...";
+    }
+
+    @Override
+    public String readUntil(char marker) throws IOException {
+        CStringBuilder list = new CStringBuilder(20);
+        int c;
+
+        for (c = read(); c != marker && c != Lexer.EOF; c = read()) {
+            list.append((char) c);
+        }
+
+        if (c == Lexer.EOF) return null;
+
+        unread(c);
+
+        return list.toString();
+    }
+
+    @Override
+    public int chompReadAhead() {
+        int result = bufLength + 1;
+        bufLength = -1;
+        return result;
+    }
+
+    /**
+     * Make the source look as if the chars before its start had (or had not) been line ends
+     * (for carrying on lexing in the middle of a larger source).
+     */
+    void setBeginOfLine(boolean lastWasBeginOfLine, boolean wasBeginOfLine) {
+        oneAgo = lastWasBeginOfLine ? '\n' : 0;
+        twoAgo = wasBeginOfLine ? '\n' : 0;
+    }
+
+    /**
+     * Are chars waiting in the pushback buffer or a replayed line (which are not in the backing
+     * array at the current index)?
+     */
+    boolean hasPushback() {
+        return bufLength >= 0 || resumeIndex >= 0;
+    }
+
+    @Override
+    public boolean isANewLine() {
+        return oneAgo == '\n';
+    }
+
+    // Various places where we call LexerSource.unread(), the nextCharIsOnANewline value gets inaccurate (column/line too, but I don't care about those)
+    @Override
+    public void setIsANewLine(boolean nextCharIsOnANewLine) {
+        oneAgo = nextCharIsOnANewLine ? '\n' : oneAgo;
+    }
+
+    @Override
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+
+    @Override
+    public LineMap getLineMap() {
+        return LineMap.create(data, begin, end, firstLine, startOffset);
+    }
+
+    /**
+     * A line of data handed out by readLineForReplay (with its \n).
+     */
+    private final class Line implements CharSequence {
+        private final int start;
+        private final int stop;
+
+        private Line(int start, int stop) {
+            this.start = start;
+            this.stop = stop;
+        }
+
+        private boolean isFrom(CharArrayLexerSource source) {
+            return source == CharArrayLexerSource.this;
+        }
+
+        public int length() {
+            return stop - start;
+        }
+
+        public char charAt(int i) {
+            return data[start + i];
+        }
+
+        public CharSequence subSequence(int from, int to) {
+            return new String(data, start + from, to - from);
+        }
+
+        @Override
+        public String toString() {
+            return new String(data, start, stop - start);
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.jrubyparser.ast.StrNode;
 import org.jrubyparser.lexer.SyntaxException.PID;
 import org.jrubyparser.parser.Tokens;
 import org.jrubyparser.util.CStringBuilder;
+import org.jrubyparser.util.CharSequences;
 
 /**
  * A lexing unit for scanning a heredoc element.
@@ -58,9 +59,9 @@ public class HeredocTerm extends StrTerm {
 
     // Portion of line right after beginning marker.  In preserve spaces mode this is not used
     // since it parses in order (so it has no need to put lastLine back).
-    private final String lastLine;
+    private final CharSequence lastLine;
     
-    public HeredocTerm(String marker, int func, String lastLine) {
+    public HeredocTerm(String marker, int func, CharSequence lastLine) {
         this.marker = marker;
         this.flags = func;
         this.lastLine = lastLine;
@@ -93,7 +94,7 @@ public class HeredocTerm extends StrTerm {
         
         if ((flags & Lexer.STR_FUNC_EXPAND) == 0) {
             do {
-                str.append(src.readLineBytes());
+                src.readLine(str);
                 str.append('\n');
                 if (src.peek(Lexer.EOF)) syntaxError(src);
                 position = lexer.getPosition();
@@ -197,6 +198,14 @@ public class HeredocTerm extends StrTerm {
         if (state != null) processingEmbedded = state.processingEmbedded;
     }
 
+    StrTerm copy() {
+        HeredocTerm copy = new HeredocTerm(marker, flags, lastLine);
+
+        copy.processingEmbedded = processingEmbedded;
+
+        return copy;
+    }
+
     public void splitEmbeddedTokens() {
         if (processingEmbedded == IGNORE_EMBEDDED) processingEmbedded = LOOKING_FOR_EMBEDDED;
     }
@@ -240,9 +249,9 @@ public class HeredocTerm extends StrTerm {
 
         final HeredocTerm other = (HeredocTerm) obj;
 
-        return (marker == other.marker || (marker != null && marker.equals(other.marker)) &&
+        return (marker == other.marker || (marker != null && marker.equals(other.marker))) &&
                this.flags == other.flags &&
-               (lastLine == other.lastLine || (lastLine != null && lastLine.equals(other.lastLine))));
+               CharSequences.equal(lastLine, other.lastLine);
     }
 
     @Override
@@ -251,7 +260,7 @@ public class HeredocTerm extends StrTerm {
 
         hash = 83 * hash + (this.marker != null ? this.marker.hashCode() : 0);
         hash = 83 * hash + this.flags;
-        hash = 83 * hash + (this.lastLine != null ? this.lastLine.hashCode() : 0);
+        hash = 83 * hash + (this.lastLine != null ? CharSequences.hash(this.lastLine) : 0);
         return hash;
     }
 
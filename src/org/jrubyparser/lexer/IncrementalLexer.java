@@ -0,0 +1,230 @@
+package org.jrubyparser.lexer;
+
+import org.jrubyparser.parser.ParserConfiguration;
+
+/**
+ * Lexes source for things like syntax highlighting which want the tokens of a few lines at a
+ * time and want them again after every edit.  Lexing the whole source once records a checkpoint
+ * (a snapshot of the lexer state) at the first token boundary on every line.  Lexing can then
+ * start at any line from its checkpoint, and after an edit only the lines from the edit up to
+ * the point where the new checkpoints match the old ones again get lexed.
+ *
+ * Lines which start inside of a token (e.g. a multi-line string or an =begin doc) have no
+ * checkpoint of their own so lexing them starts from the closest line before them which has one.
+ * Tokens are lexed preserving spaces (see TokenStream), which is also what makes the lexer read
+ * heredocs in order.  A syntax error stops lexing so lines past it have no checkpoints until
+ * an edit fixes the error.
+ *
+ * Lexing from two streams of one IncrementalLexer at the same time is fine but an IncrementalLexer
+ * is not safe for use by several threads.
+ */
+public class IncrementalLexer {
+    // A token can peek a char or two past its end, so a checkpoint must be at least this far
+    // from an edit for the token just before it to be unaffected by the edit.
+    private static final int LOOKAHEAD = 2;
+
+    private final String name;
+    private final ParserConfiguration configuration;
+    private final int firstLine;
+
+    private char[] source = new char[0];
+
+    // Checkpoint of line (firstLine + i) and its offset.  A line without a checkpoint (null) gets
+    // the offset of the last checkpoint before it so offsets never decrease.
+    private int[] offsets = new int[0];
+    private TokenStream.Checkpoint[] checkpoints = new TokenStream.Checkpoint[0];
+    private int lineCount = 0;
+
+    public IncrementalLexer(String name, ParserConfiguration configuration) {
+        this.name = name;
+        this.configuration = configuration;
+        this.firstLine = configuration.getLineNumber();
+    }
+
+    /**
+     * Lex all of source recording a checkpoint for every line.
+     *
+     * @param text the source
+     * @return the last line lexed
+     */
+    public int lex(CharSequence text) {
+        source = text.toString().toCharArray();
+        offsets = new int[16];
+        checkpoints = new TokenStream.Checkpoint[16];
+        lineCount = 0;
+
+        TokenStream stream = new TokenStream(newSource(0, firstLine), configuration, true);
+        record(0, 0, stream.checkpoint());
+
+        return lex(0, 0, 0, null, null, 0) + firstLine;
+    }
+
+    /**
+     * Relex after an edit.  Lexing starts at the last checkpoint well before the line of the edit
+     * and stops once lexing past the edit arrives at the same state as the previous lexing did at
+     * the same spot (everything after it only moves by the change in length and lines).
+     *
+     * @param text the whole source after the edit
+     * @param offset where the edit happened
+     * @param removed how many chars the edit removed
+     * @param inserted how many chars the edit inserted
+     * @return the last line lexed (lines from the line of the edit to it may have new tokens)
+     */
+    public int update(CharSequence text, int offset, int removed, int inserted) {
+        source = text.toString().toCharArray();
+
+        int lineStart = offset;
+        while (lineStart > 0 && source[lineStart - 1] != '\n' && source[lineStart - 1] != '\r') {
+            lineStart--;
+        }
+
+        int start = checkpointBefore(lineStart - LOOKAHEAD);
+
+        int[] oldOffsets = offsets;
+        TokenStream.Checkpoint[] oldCheckpoints = checkpoints;
+        int oldCount = lineCount;
+
+        offsets = new int[oldOffsets.length];
+        checkpoints = new TokenStream.Checkpoint[oldCheckpoints.length];
+        System.arraycopy(oldOffsets, 0, offsets, 0, start + 1);
+        System.arraycopy(oldCheckpoints, 0, checkpoints, 0, start + 1);
+        lineCount = start + 1;
+
+        return lex(start, offset + inserted, inserted - removed, oldOffsets, oldCheckpoints, oldCount) + firstLine;
+    }
+
+    /**
+     * Tokens from the beginning of line to the end of source.  When the line has no checkpoint of its
+     * own the tokens start on a line before it.
+     *
+     * @param line to start at
+     * @return the tokens
+     */
+    public TokenStream getTokens(int line) {
+        int index = Math.max(0, Math.min(line - firstLine, lineCount - 1));
+
+        while (checkpoints[index] == null) {
+            index--;
+        }
+
+        return new TokenStream(newSource(offsets[index], firstLine + index), configuration, checkpoints[index]);
+    }
+
+    /**
+     * @return how many lines have been lexed (lines from where lexing stopped on are missing)
+     */
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * @return offset of the first token boundary on line (or -1 if the line has none)
+     */
+    public int getCheckpointOffset(int line) {
+        int index = line - firstLine;
+
+        if (index < 0 || index >= lineCount || checkpoints[index] == null) return -1;
+
+        return offsets[index];
+    }
+
+    // Lex on from the checkpoint of line index start to the end of source.  With old checkpoints
+    // we stop at a new checkpoint at or past editEnd which matches the old one for the same spot
+    // in the text (the old one being delta chars earlier) and take the rest of the old ones.
+    // Returns the index of the last line we lexed.
+    private int lex(int start, int editEnd, int delta, int[] oldOffsets, TokenStream.Checkpoint[] oldCheckpoints,
+            int oldCount) {
+        CharArrayLexerSource src = newSource(offsets[start], firstLine + start);
+        TokenStream stream = new TokenStream(src, configuration, checkpoints[start]);
+        TokenStream.Checkpoint previous = checkpoints[start];
+        int line = start;
+        int old = 0;
+
+        try {
+            while (stream.nextToken() != null) {
+                int index = src.getLine() - firstLine;
+
+                if (index <= line || src.hasPushback()) continue;
+
+                int offset = src.getOffset();
+                TokenStream.Checkpoint checkpoint = stream.checkpoint();
+
+                // Most lines start in the same state so share them
+                if (checkpoint.equals(previous)) checkpoint = previous;
+                previous = checkpoint;
+
+                for (line++; line < index; line++) {
+                    record(line, offsets[line - 1], null);
+                }
+                record(line, offset, checkpoint);
+
+                if (oldCheckpoints == null || offset < editEnd) continue;
+
+                while (old < oldCount && oldOffsets[old] < offset - delta) {
+                    old++;
+                }
+
+                if (old < oldCount && oldOffsets[old] == offset - delta && checkpoint.equals(oldCheckpoints[old])) {
+                    for (int i = old + 1; i < oldCount; i++) {
+                        record(line + i - old, oldOffsets[i] + delta, oldCheckpoints[i]);
+                    }
+
+                    return line;
+                }
+            }
+        } catch (SyntaxException e) {
+            // Nothing more to record until an edit fixes it
+        } catch (java.io.IOException e) {
+            throw new RuntimeException(e); // Not from an array...
+        }
+
+        return line;
+    }
+
+    private void record(int index, int offset, TokenStream.Checkpoint checkpoint) {
+        if (index >= offsets.length) {
+            int length = Math.max(index + 1, offsets.length * 2);
+            int[] newOffsets = new int[length];
+            TokenStream.Checkpoint[] newCheckpoints = new TokenStream.Checkpoint[length];
+
+            System.arraycopy(offsets, 0, newOffsets, 0, lineCount);
+            System.arraycopy(checkpoints, 0, newCheckpoints, 0, lineCount);
+            offsets = newOffsets;
+            checkpoints = newCheckpoints;
+        }
+
+        offsets[index] = offset;
+        checkpoints[index] = checkpoint;
+        lineCount = index + 1;
+    }
+
+    // Index of the last line whose checkpoint is at or before offset (or the first line)
+    private int checkpointBefore(int offset) {
+        int low = 0;
+        int high = lineCount - 1;
+
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+
+            if (offsets[middle] <= offset) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        while (checkpoints[low] == null) {
+            low--;
+        }
+
+        return low;
+    }
+
+    private CharArrayLexerSource newSource(int offset, int line) {
+        CharArrayLexerSource src = new CharArrayLexerSource(name, source, offset, source.length, line);
+
+        src.setStartOffset(offset);
+
+        return src;
+    }
+}
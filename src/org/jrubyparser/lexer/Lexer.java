@@ -39,7 +39,8 @@ import java.io.IOException;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -76,52 +77,27 @@ public class Lexer {
     private static String END_MARKER = "_END__";
     private static String BEGIN_DOC_MARKER = "begin";
     private static String END_DOC_MARKER = "end";
-    private static HashMap<String, Keyword> map;
-    
+    // Keywords by a perfect hash of their chars (see keywordHash).  Checking whether an
+    // identifier is a keyword is then one lookup and compare right on the token buffer.
+    private static final Keyword[] KEYWORDS = new Keyword[128];
+
     static {
-        map = new HashMap<String, Keyword>();
-        
-        map.put("end", Keyword.END);
-        map.put("else", Keyword.ELSE);
-        map.put("case", Keyword.CASE);
-        map.put("ensure", Keyword.ENSURE);
-        map.put("module", Keyword.MODULE);
-        map.put("elsif", Keyword.ELSIF);
-        map.put("def", Keyword.DEF);
-        map.put("rescue", Keyword.RESCUE);
-        map.put("not", Keyword.NOT);
-        map.put("then", Keyword.THEN);
-        map.put("yield", Keyword.YIELD);
-        map.put("for", Keyword.FOR);
-        map.put("self", Keyword.SELF);
-        map.put("false", Keyword.FALSE);
-        map.put("retry", Keyword.RETRY);
-        map.put("return", Keyword.RETURN);
-        map.put("true", Keyword.TRUE);
-        map.put("if", Keyword.IF);
-        map.put("defined?", Keyword.DEFINED_P);
-        map.put("super", Keyword.SUPER);
-        map.put("undef", Keyword.UNDEF);
-        map.put("break", Keyword.BREAK);
-        map.put("in", Keyword.IN);
-        map.put("do", Keyword.DO);
-        map.put("nil", Keyword.NIL);
-        map.put("until", Keyword.UNTIL);
-        map.put("unless", Keyword.UNLESS);
-        map.put("or", Keyword.OR);
-        map.put("next", Keyword.NEXT);
-        map.put("when", Keyword.WHEN);
-        map.put("redo", Keyword.REDO);
-        map.put("and", Keyword.AND);
-        map.put("begin", Keyword.BEGIN);
-        map.put("__LINE__", Keyword.__LINE__);
-        map.put("class", Keyword.CLASS);
-        map.put("__FILE__", Keyword.__FILE__);
-        map.put("END", Keyword.LEND);
-        map.put("BEGIN", Keyword.LBEGIN);
-        map.put("while", Keyword.WHILE);
-        map.put("alias", Keyword.ALIAS);
-        map.put("__ENCODING__", Keyword.__ENCODING__);
+        for (Keyword keyword: Keyword.values()) {
+            int hash = keywordHash(keyword.name, keyword.name.length());
+
+            if (KEYWORDS[hash] != null) {
+                throw new AssertionError("Keywords " + KEYWORDS[hash].name + " and " + keyword.name + " hash the same");
+            }
+            KEYWORDS[hash] = keyword;
+        }
+    }
+
+    // Length, first, middle and last char differ for all keywords and this multiplier happens
+    // to spread those over the 128 slots without collisions.
+    private static int keywordHash(CharSequence chars, int length) {
+        int key = chars.charAt(0) + (chars.charAt(length / 2) << 7) + (chars.charAt(length - 1) << 14) + (length << 21);
+
+        return (key * 0x414b9419) >>> 25;
     }
 
     private int considerComplex(int token, int suffix) {
@@ -133,9 +109,18 @@ public class Lexer {
         }
     }
 
-    private int getFloatToken(String number, int suffix) {
+    // Number of the form digits * 10^exponent where digits fits exactly in a double and
+    // so does the power of ten (so the result is correctly rounded like Double.parseDouble).
+    private static final long MAX_EXACT_DIGITS = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    // The float in tokenBuffer
+    private int getFloatToken(int suffix) {
         if ((suffix & SUFFIX_R) != 0) {
-            BigDecimal bd = new BigDecimal(number);
+            BigDecimal bd = new BigDecimal(tokenBuffer.toString());
             BigDecimal denominator = BigDecimal.ONE.scaleByPowerOfTen(bd.scale());
             BigDecimal numerator = bd.multiply(denominator);
 
@@ -143,50 +128,135 @@ public class Lexer {
                 yaccValue = new RationalNode(getPosition(), numerator.longValueExact(), denominator.longValueExact());
             } catch (ArithmeticException ae) {
                 // FIXME: Rational supports Bignum numerator and denominator
-                throw new SyntaxException(PID.RATIONAL_OUT_OF_RANGE, getPosition(), getCurrentLine(), "Rational (" + numerator + "/" + denominator + ") out of range.");
+                throw new SyntaxException(PID.RATIONAL_OUT_OF_RANGE, getPosition(), "Rational (" + numerator + "/" + denominator + ") out of range.");
             }
             return considerComplex(Tokens.tRATIONAL, suffix);
         }
 
-        double d;
-        try {
-            d = Double.parseDouble(number);
-        } catch (NumberFormatException e) {
-            warnings.warn(ID.FLOAT_OUT_OF_RANGE, getPosition(), "Float " + number + " out of range.");
+        double d = exactFloatValue();
+
+        if (Double.isNaN(d)) {
+            String number = tokenBuffer.toString();
+
+            try {
+                d = Double.parseDouble(number);
+            } catch (NumberFormatException e) {
+                warnings.warn(ID.FLOAT_OUT_OF_RANGE, getPosition(), "Float " + number + " out of range.");
 
-            d = number.startsWith("-") ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+                d = number.startsWith("-") ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            }
         }
         yaccValue = new FloatNode(getPosition(), d);
         return considerComplex(Tokens.tFLOAT, suffix);
     }
 
-    private int getIntegerToken(String value, int radix, int suffix) {
+    // Value of the float in tokenBuffer ([-]digits[.digits][e[+-]digits]) when it can be computed
+    // exactly from a long and a power of ten or NaN when it takes Double.parseDouble.
+    private double exactFloatValue() {
+        int length = tokenBuffer.length();
+        int i = 0;
+        boolean negative = tokenBuffer.charAt(0) == '-';
+        long digits = 0;
+        int exponent = 0;
+
+        if (negative) i++;
+
+        for (boolean fraction = false; i < length; i++) {
+            char c = tokenBuffer.charAt(i);
+
+            if (c == '.') {
+                fraction = true;
+            } else if (c == 'e' || c == 'E') {
+                break;
+            } else {
+                digits = digits * 10 + (c - '0');
+                if (digits > MAX_EXACT_DIGITS) return Double.NaN;
+                if (fraction) exponent--;
+            }
+        }
+
+        if (i < length) { // Exponent
+            i++;
+            boolean negativeExponent = tokenBuffer.charAt(i) == '-';
+            if (negativeExponent || tokenBuffer.charAt(i) == '+') i++;
+
+            if (length - i > 3) return Double.NaN;
+
+            int value = 0;
+            for (; i < length; i++) {
+                value = value * 10 + (tokenBuffer.charAt(i) - '0');
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+
+        double value;
+        if (digits == 0) {
+            value = 0.0;
+        } else if (exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+            value = digits * POWERS_OF_TEN[exponent];
+        } else if (exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+            value = digits / POWERS_OF_TEN[-exponent];
+        } else {
+            return Double.NaN;
+        }
+
+        return negative ? -value : value;
+    }
+
+    // The integer in tokenBuffer ([-]digits of radix)
+    private int getIntegerToken(int radix, int suffix) {
         Node literalValue;
 
         if ((suffix & SUFFIX_R) != 0) {
-            literalValue = newRationalNode(value, radix);
+            literalValue = newRationalNode(radix);
         } else {
-            try {
-                literalValue = newFixnumNode(value, radix);
-            } catch (NumberFormatException e) {
-                literalValue = newBignumNode(value, radix);
-            }
+            literalValue = getInteger(radix);
         }
 
         yaccValue = literalValue;
         return considerComplex(Tokens.tINTEGER, suffix);
     }
 
-    private NumericNode newBignumNode(String value, int radix) {
-        return new BignumNode(getPosition(), new BigInteger(value, radix));
+    private NumericNode getInteger(int radix) {
+        try {
+            return new FixnumNode(getPosition(), integerValue(radix));
+        } catch (NumberFormatException e) {
+            return new BignumNode(getPosition(), new BigInteger(tokenBuffer.toString(), radix));
+        }
     }
 
-    private NumericNode newFixnumNode(String value, int radix) throws NumberFormatException {
-        return new FixnumNode(getPosition(), Long.parseLong(value, radix));
+    private RationalNode newRationalNode(int radix) {
+        try {
+            return new RationalNode(getPosition(), integerValue(radix), 1);
+        } catch (NumberFormatException e) {
+            // FIXME: Rational supports Bignum numerator and denominator
+            throw new SyntaxException(PID.RATIONAL_OUT_OF_RANGE, getPosition(), "Rational (" + tokenBuffer + ") out of range.");
+        }
     }
 
-    private RationalNode newRationalNode(String value, int radix) throws NumberFormatException {
-        return new RationalNode(getPosition(), Long.parseLong(value, radix), 1);
+    /**
+     * Like Long.parseLong(tokenBuffer.toString(), radix) without making the String.
+     *
+     * @throws NumberFormatException if the value does not fit in a long
+     */
+    private long integerValue(int radix) throws NumberFormatException {
+        int length = tokenBuffer.length();
+        boolean negative = tokenBuffer.charAt(0) == '-';
+        // Accumulate negatively since MIN_VALUE has no positive counterpart
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / radix;
+        long value = 0;
+
+        for (int i = negative ? 1 : 0; i < length; i++) {
+            int digit = Character.digit(tokenBuffer.charAt(i), radix);
+
+            if (value < multiplyLimit) throw new NumberFormatException();
+            value *= radix;
+            if (value < limit + digit) throw new NumberFormatException();
+            value -= digit;
+        }
+
+        return negative ? value : -value;
     }
 
     private ComplexNode newComplexNode(NumericNode number) {
@@ -276,7 +346,22 @@ public class Lexer {
     }
     
     public static Keyword getKeyword(String str) {
-        return (Keyword) map.get(str);
+        return getKeyword((CharSequence) str);
+    }
+
+    public static Keyword getKeyword(CharSequence chars) {
+        int length = chars.length();
+
+        if (length < 2 || length > 12) return null; // Shortest/longest keyword
+
+        Keyword keyword = KEYWORDS[keywordHash(chars, length)];
+        if (keyword == null || keyword.name.length() != length) return null;
+
+        for (int i = 0; i < length; i++) {
+            if (keyword.name.charAt(i) != chars.charAt(i)) return null;
+        }
+
+        return keyword;
     }
 
     // Last token read via yylex().
@@ -319,69 +404,93 @@ public class Lexer {
     // Whenever we get to a new line, we look at the newline list, and if we find something
     // there, we pull it off and set it as the current string term and use it to process
     // the string literal and end token.
-    // NOTE:: This list should not be modified but rather duplicated, in order to ensure
-    // that incremental lexing (which relies on pulling out these lists at token boundaries)
-    // will not interfere with each other.
+    // NOTE:: A context must never change once made, in order to ensure that incremental
+    // lexing (which relies on pulling out these lists at token boundaries) will not interfere
+    // with each other.  add and pop hand out new contexts instead (sharing arrays where safe).
     public static class HeredocContext {
-        private HeredocTerm[] heredocTerms;
+        // Contexts share these arrays: a context is entries [start, end) of them.  pop() only
+        // moves start and add() writes past end in place unless another context has already
+        // written there (filled[0] is how much of the arrays is in use), so entries a context
+        // can see never change.
+        private final HeredocTerm[] heredocTerms;
+
+        private final boolean[] lookingForEnds;
 
-        private boolean[] lookingForEnds;
+        private final int start;
+        private final int end;
+        private final int[] filled;
 
         public HeredocContext(HeredocTerm term) {
-            heredocTerms = new HeredocTerm[] {term, term};
-            lookingForEnds = new boolean[] {false, true};
+            this(new HeredocTerm[8], new boolean[8], 0, 2, new int[] {2});
+
+            heredocTerms[0] = term;
+            heredocTerms[1] = term;
+            lookingForEnds[0] = false;
+            lookingForEnds[1] = true;
         }
 
-        private HeredocContext(HeredocTerm[] terms, boolean[] lookingForEnds) {
+        private HeredocContext(HeredocTerm[] terms, boolean[] lookingForEnds, int start, int end, int[] filled) {
             heredocTerms = terms;
             this.lookingForEnds = lookingForEnds;
+            this.start = start;
+            this.end = end;
+            this.filled = filled;
         }
 
         private HeredocContext add(HeredocTerm h) {
-            // Add 2 entries: one for starting lexing of the string, one for the end token
-            HeredocTerm[] copy = new HeredocTerm[heredocTerms.length + 2];
-            System.arraycopy(heredocTerms, 0, copy, 0, heredocTerms.length);
-            copy[heredocTerms.length] = h;
-            copy[heredocTerms.length + 1] = h;
+            HeredocTerm[] terms = heredocTerms;
+            boolean[] ends = lookingForEnds;
+            int first = start;
+            int last = end;
+            int[] inUse = filled;
+
+            if (filled[0] != end || end + 2 > heredocTerms.length) {
+                int count = end - start;
+
+                terms = new HeredocTerm[Math.max(8, count * 2 + 2)];
+                ends = new boolean[terms.length];
+                System.arraycopy(heredocTerms, start, terms, 0, count);
+                System.arraycopy(lookingForEnds, start, ends, 0, count);
+                first = 0;
+                last = count;
+                inUse = new int[1];
+            }
 
-            boolean[] copy2 = new boolean[lookingForEnds.length + 2];
-            System.arraycopy(lookingForEnds, 0, copy2, 0, lookingForEnds.length);
-            copy2[lookingForEnds.length] = false;
-            copy2[lookingForEnds.length + 1] = true;
+            // Add 2 entries: one for starting lexing of the string, one for the end token
+            terms[last] = h;
+            terms[last + 1] = h;
+            ends[last] = false;
+            ends[last + 1] = true;
+            inUse[0] = last + 2;
 
-            return new HeredocContext(copy, copy2);
+            return new HeredocContext(terms, ends, first, last + 2, inUse);
         }
 
         private HeredocTerm getTerm() {
-            return heredocTerms[0];
+            return heredocTerms[start];
         }
 
         private HeredocContext pop() {
-            if (heredocTerms.length > 1) {
-                HeredocTerm[] copy = new HeredocTerm[heredocTerms.length - 1];
-                System.arraycopy(heredocTerms, 1, copy, 0, copy.length);
-
-                boolean[] copy2 = new boolean[lookingForEnds.length - 1];
-                System.arraycopy(lookingForEnds, 1, copy2, 0, copy2.length);
-
-                HeredocContext hc = new HeredocContext(copy, copy2);
-                return hc;
-            }
+            if (end - start > 1) return new HeredocContext(heredocTerms, lookingForEnds, start + 1, end, filled);
 
             return null;
         }
 
         public boolean isLookingForEnd() {
-            return lookingForEnds[0];
+            return lookingForEnds[start];
+        }
+
+        private int size() {
+            return end - start;
         }
 
         @Override
         public String toString() {
             CStringBuilder buffer = new CStringBuilder("HeredocContext(count=");
-            buffer.append(Integer.toString(heredocTerms.length));
+            buffer.append(Integer.toString(size()));
             buffer.append("):");
-            for (int i = 0; i < heredocTerms.length; i++) {
-                if (i > 0) buffer.append(",");
+            for (int i = start; i < end; i++) {
+                if (i > start) buffer.append(",");
 
                 buffer.append("end:").append(lookingForEnds[i]);
                 buffer.append(",term:").append(heredocTerms[i]);
@@ -392,16 +501,16 @@ public class Lexer {
 
         @Override
         public int hashCode() {
-            return heredocTerms[0].getMutableState().hashCode();
+            return getTerm().getMutableState().hashCode();
         }
 
         @Override
         public boolean equals(Object other) {
             if (other instanceof HeredocContext) {
                 HeredocContext o = (HeredocContext) other;
-                if (o.heredocTerms.length != heredocTerms.length) return false;
+                if (o.size() != size()) return false;
 
-                return heredocTerms[0].getMutableState().equals(o.heredocTerms[0].getMutableState());
+                return getTerm().getMutableState().equals(o.getTerm().getMutableState());
             }
 
             return false;
@@ -410,6 +519,140 @@ public class Lexer {
     
     public HeredocContext heredocContext;
 
+    /**
+     * Everything the lexer carries from one token to the next.  A state saved between two tokens
+     * can be restored later (into this or another lexer) to carry on lexing from that spot without
+     * lexing what came before it.  String terms are copied both ways so lexing never changes a
+     * saved state.
+     */
+    static final class State {
+        private final LexState lexState;
+        private final StrTerm strTerm;
+        private final HeredocContext heredocContext;
+        private final long conditionState;
+        private final long cmdArgumentState;
+        private final int parenNest;
+        private final int leftParenBegin;
+        private final boolean commandStart;
+        private final boolean setSpaceSeen;
+
+        private State(Lexer lexer) {
+            Map<StrTerm, StrTerm> copies = new IdentityHashMap<StrTerm, StrTerm>();
+
+            lexState = lexer.lex_state;
+            strTerm = copy(lexer.lex_strterm, copies);
+            heredocContext = copy(lexer.heredocContext, copies);
+            conditionState = lexer.conditionState.getStack();
+            cmdArgumentState = lexer.cmdArgumentState.getStack();
+            parenNest = lexer.parenNest;
+            leftParenBegin = lexer.leftParenBegin;
+            commandStart = lexer.commandStart;
+            setSpaceSeen = lexer.setSpaceSeen;
+        }
+
+        private void restore(Lexer lexer) {
+            Map<StrTerm, StrTerm> copies = new IdentityHashMap<StrTerm, StrTerm>();
+
+            lexer.lex_state = lexState;
+            lexer.lex_strterm = copy(strTerm, copies);
+            lexer.heredocContext = copy(heredocContext, copies);
+            lexer.conditionState.reset(conditionState);
+            lexer.cmdArgumentState.reset(cmdArgumentState);
+            lexer.parenNest = parenNest;
+            lexer.leftParenBegin = leftParenBegin;
+            lexer.commandStart = commandStart;
+            lexer.setSpaceSeen = setSpaceSeen;
+        }
+
+        // Terms can be shared (e.g. the term being lexed is also the first in heredocContext)
+        // so copies keep them shared.
+        private static StrTerm copy(StrTerm term, Map<StrTerm, StrTerm> copies) {
+            if (term == null) return null;
+
+            StrTerm copy = copies.get(term);
+            if (copy == null) {
+                copy = term.copy();
+                copies.put(term, copy);
+            }
+
+            return copy;
+        }
+
+        private static HeredocContext copy(HeredocContext context, Map<StrTerm, StrTerm> copies) {
+            if (context == null) return null;
+
+            int count = context.size();
+            HeredocTerm[] terms = new HeredocTerm[count];
+            boolean[] lookingForEnds = new boolean[count];
+            for (int i = 0; i < count; i++) {
+                terms[i] = (HeredocTerm) copy(context.heredocTerms[context.start + i], copies);
+            }
+            System.arraycopy(context.lookingForEnds, context.start, lookingForEnds, 0, count);
+
+            return new HeredocContext(terms, lookingForEnds, 0, count, new int[] {count});
+        }
+
+        static boolean sameTerm(StrTerm a, StrTerm b) {
+            if (a == b) return true;
+            if (a == null || b == null) return false;
+
+            return a.equals(b) && a.getMutableState().equals(b.getMutableState());
+        }
+
+        private static boolean sameContext(HeredocContext a, HeredocContext b) {
+            if (a == b) return true;
+            if (a == null || b == null) return false;
+            if (a.size() != b.size()) return false;
+
+            for (int i = 0; i < a.size(); i++) {
+                if (a.lookingForEnds[a.start + i] != b.lookingForEnds[b.start + i]) return false;
+                if (!sameTerm(a.heredocTerms[a.start + i], b.heredocTerms[b.start + i])) return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof State)) return false;
+
+            State other = (State) obj;
+
+            return lexState == other.lexState && conditionState == other.conditionState &&
+                    cmdArgumentState == other.cmdArgumentState && parenNest == other.parenNest &&
+                    leftParenBegin == other.leftParenBegin && commandStart == other.commandStart &&
+                    setSpaceSeen == other.setSpaceSeen && sameTerm(strTerm, other.strTerm) &&
+                    sameContext(heredocContext, other.heredocContext);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = lexState == null ? 0 : lexState.hashCode();
+
+            hash = 83 * hash + (int) (conditionState ^ (conditionState >>> 32));
+            hash = 83 * hash + (int) (cmdArgumentState ^ (cmdArgumentState >>> 32));
+            hash = 83 * hash + parenNest;
+            hash = 83 * hash + leftParenBegin;
+            hash = 83 * hash + (commandStart ? 1 : 0);
+            hash = 83 * hash + (setSpaceSeen ? 1 : 0);
+            return hash;
+        }
+    }
+
+    /**
+     * Save the state of the lexer between two tokens (see State).
+     */
+    State saveState() {
+        return new State(this);
+    }
+
+    /**
+     * Carry on from a state saved by saveState.
+     */
+    void restoreState(State state) {
+        state.restore(this);
+    }
+
     // Tempory buffer to build up a potential token.  Consumer takes responsibility to reset 
     // this before use.
     private CStringBuilder tokenBuffer = new CStringBuilder(60);
@@ -544,7 +787,12 @@ public class Lexer {
         setState(LexState.EXPR_BEG); // Parser sets this right away but for pure-Lexing we also set it.
         resetStacks();
         lex_strterm = null;
+        heredocContext = null;
         commandStart = true;
+        setSpaceSeen = false;
+        parenNest = 0;
+        leftParenBegin = 0;
+        tokenBuffer.setLength(0);
         if (parserSupport != null) isTwoZero = parserSupport.getConfiguration().getVersion().is2_0();
     }
     
@@ -718,14 +966,6 @@ public class Lexer {
         }
     }
 
-    private Object getInteger(String value, int radix) {
-        try {
-            return newFixnumNode(value, radix);
-        } catch (NumberFormatException e) {
-            return newBignumNode(value, radix);
-        }
-    }
-
 	/**
 	 * @param c the character to test
 	 * @return true if character is a hex value (0-9a-f)
@@ -933,9 +1173,7 @@ public class Lexer {
             return Tokens.tSTRING_BEG;
         }
 
-        String lastLine = src.readLineBytes();
-        lastLine = lastLine.concat("\n");
-        lex_strterm = new HeredocTerm(markerValue.toString(), func, lastLine);
+        lex_strterm = new HeredocTerm(markerValue.toString(), func, src.readLineForReplay());
 
         if (term == '`') {
             yaccValue = new Token("`", getPosition());
@@ -1564,6 +1802,13 @@ public class Lexer {
         }
     }
 
+    // Canonical String for a name from the symbol table of the parse
+    private String intern(CharSequence name) {
+        if (parserSupport == null) return name.toString().intern();
+
+        return parserSupport.getSymbolTable().intern(name);
+    }
+
     private int identifierToken(LexState last_state, int result, String value) {
 
         // FIXME: Parsersupport should always be hooked up.  No need for null check
@@ -1672,7 +1917,7 @@ public class Lexer {
         LexState last_state = lex_state;
         setState(LexState.EXPR_END);
 
-        return identifierToken(last_state, result, tokenBuffer.toString().intern());        
+        return identifierToken(last_state, result, intern(tokenBuffer));        
     }
     
     private int backtick(boolean commandState) throws IOException {
@@ -1820,7 +2065,7 @@ public class Lexer {
                 last_state = lex_state;
                 setState(LexState.EXPR_END);
 
-                return identifierToken(last_state, Tokens.tGVAR, tokenBuffer.toString().intern());
+                return identifierToken(last_state, Tokens.tGVAR, intern(tokenBuffer));
             }
             src.unread(c);
             c = '_';
@@ -1891,7 +2136,7 @@ public class Lexer {
         case '0':
             setState(LexState.EXPR_END);
 
-            return identifierToken(last_state, Tokens.tGVAR, ("$" + (char) c).intern());
+            return identifierToken(last_state, Tokens.tGVAR, intern("$" + (char) c));
         default:
             if (!isIdentifierChar(c)) {
                 src.unread(c);
@@ -1907,7 +2152,7 @@ public class Lexer {
             last_state = lex_state;
             setState(LexState.EXPR_END);
 
-            return identifierToken(last_state, Tokens.tGVAR, tokenBuffer.toString().intern());
+            return identifierToken(last_state, Tokens.tGVAR, intern(tokenBuffer));
         }
     }
     
@@ -2030,8 +2275,6 @@ public class Lexer {
             }
         }
 
-        String tempVal = tokenBuffer.toString().intern();
-
         if (!isOneEight && ((lex_state == LexState.EXPR_BEG && !commandState) ||
                 lex_state == LexState.EXPR_ARG || lex_state == LexState.EXPR_CMDARG)) {
             int c2 = src.read();
@@ -2039,14 +2282,14 @@ public class Lexer {
                 src.unread(c2);
                 setState(LexState.EXPR_BEG);
                 src.read();
-                yaccValue = new Token(tempVal, Tokens.tLABEL, getPosition());
+                yaccValue = new Token(intern(tokenBuffer), Tokens.tLABEL, getPosition());
                 return Tokens.tLABEL;
             }
             src.unread(c2);
         }
 
         if (lex_state != LexState.EXPR_DOT) {
-            Keyword keyword = getKeyword(tempVal); // Is it is a keyword?
+            Keyword keyword = getKeyword(tokenBuffer); // Is it is a keyword?
             
             if (keyword != null && (keyword != Keyword.__ENCODING__ || !isOneEight)) {
                 LexState state = lex_state; // Save state at time keyword is encountered
@@ -2056,12 +2299,8 @@ public class Lexer {
                 } else {
                     setState(keyword.state);
                 }
-                if (state == LexState.EXPR_FNAME) {
-                    yaccValue = new Token(keyword.name, getPosition());
-                } else {
-                    yaccValue = new Token(tempVal, getPosition());
-                    if (keyword.id0 == Tokens.kDO) return doKeyword(state);
-                }
+                yaccValue = new Token(keyword.name, getPosition());
+                if (state != LexState.EXPR_FNAME && keyword.id0 == Tokens.kDO) return doKeyword(state);
 
                 if (state == LexState.EXPR_BEG || (!isOneEight && state == LexState.EXPR_VALUE)) return keyword.id0;
 
@@ -2079,7 +2318,7 @@ public class Lexer {
             setState(LexState.EXPR_END);
         }
         
-        return identifierToken(last_state, result, tempVal);
+        return identifierToken(last_state, result, intern(tokenBuffer));
     }
 
     private int leftBracket(boolean spaceSeen) throws IOException {
@@ -2576,7 +2815,7 @@ public class Lexer {
                         throw new SyntaxException(PID.TRAILING_UNDERSCORE_IN_NUMBER, getPosition(),
                                 getCurrentLine(), "Trailing '_' in number.");
                     }
-                    return getIntegerToken(tokenBuffer.toString(), 16, numberLiteralSuffix(SUFFIX_ALL));
+                    return getIntegerToken(16, numberLiteralSuffix(SUFFIX_ALL));
                 case 'b' :
                 case 'B' : // binary
                     c = src.read();
@@ -2602,7 +2841,7 @@ public class Lexer {
                         throw new SyntaxException(PID.TRAILING_UNDERSCORE_IN_NUMBER,
                                 getPosition(), getCurrentLine(), "Trailing '_' in number.");
                     }
-                    return getIntegerToken(tokenBuffer.toString(), 2, numberLiteralSuffix(SUFFIX_ALL));
+                    return getIntegerToken(2, numberLiteralSuffix(SUFFIX_ALL));
                 case 'd' :
                 case 'D' : // decimal
                     c = src.read();
@@ -2628,7 +2867,7 @@ public class Lexer {
                         throw new SyntaxException(PID.TRAILING_UNDERSCORE_IN_NUMBER,
                                 getPosition(), getCurrentLine(), "Trailing '_' in number.");
                     }
-                    return getIntegerToken(tokenBuffer.toString(), 10, numberLiteralSuffix(SUFFIX_ALL));
+                    return getIntegerToken(10, numberLiteralSuffix(SUFFIX_ALL));
                 case 'o':
                 case 'O':                    
                     c = src.read();
@@ -2654,7 +2893,7 @@ public class Lexer {
                                     getCurrentLine(), "Trailing '_' in number.");
                         }
 
-                        return getIntegerToken(tokenBuffer.toString(), 8, numberLiteralSuffix(SUFFIX_ALL));
+                        return getIntegerToken(8, numberLiteralSuffix(SUFFIX_ALL));
                     }
                 case '8' :
                 case '9' :
@@ -2697,7 +2936,7 @@ public class Lexer {
                                 getCurrentLine(), "Trailing '_' in number.");
                     } else if (seen_point || seen_e) {
                         src.unread(c);
-                        return getNumberToken(tokenBuffer.toString(), seen_e, seen_point, nondigit);
+                        return getNumberToken(seen_e, seen_point, nondigit);
                     } else {
                     	int c2;
                         if (!Character.isDigit(c2 = src.read())) {
@@ -2707,7 +2946,7 @@ public class Lexer {
                             		// Enebo:  c can never be antrhign but '.'
                             		// Why did I put this here?
                             } else {
-                                yaccValue = getInteger(tokenBuffer.toString(), 10);
+                                yaccValue = getInteger(10);
                                 return Tokens.tINTEGER;
                             }
                         } else {
@@ -2725,7 +2964,7 @@ public class Lexer {
                                 getPosition(), getCurrentLine(), "Trailing '_' in number.");
                     } else if (seen_e) {
                         src.unread(c);
-                        return getNumberToken(tokenBuffer.toString(), seen_e, seen_point, nondigit);
+                        return getNumberToken(seen_e, seen_point, nondigit);
                     } else {
                         tokenBuffer.append(c);
                         seen_e = true;
@@ -2748,21 +2987,21 @@ public class Lexer {
                     break;
                 default :
                     src.unread(c);
-                    return getNumberToken(tokenBuffer.toString(), seen_e, seen_point, nondigit);
+                    return getNumberToken(seen_e, seen_point, nondigit);
             }
         }
     }
 
-    private int getNumberToken(String number, boolean seen_e, boolean seen_point, int nondigit) throws IOException {
+    private int getNumberToken(boolean seen_e, boolean seen_point, int nondigit) throws IOException {
         boolean isFloat = seen_e || seen_point;
         if (nondigit != '\0') {
             throw new SyntaxException(PID.TRAILING_UNDERSCORE_IN_NUMBER, getPosition(),
                     getCurrentLine(), "Trailing '_' in number.");
         } else if (isFloat) {
             int suffix = numberLiteralSuffix(seen_e ? SUFFIX_I : SUFFIX_ALL);
-            return getFloatToken(number, suffix);
+            return getFloatToken(suffix);
         }
-        return getIntegerToken(number, 10, numberLiteralSuffix(SUFFIX_ALL));
+        return getIntegerToken(10, numberLiteralSuffix(SUFFIX_ALL));
     }
 
     // Note: parser_tokadd_utf8 variant just for regexp literal parsing.  This variant is to be
@@ -34,8 +34,10 @@ package org.jrubyparser.lexer;
 import java.io.IOException;
 import java.io.Reader;
 
+import org.jrubyparser.LineMap;
 import org.jrubyparser.SourcePosition;
 import org.jrubyparser.parser.ParserConfiguration;
+import org.jrubyparser.util.CStringBuilder;
 
 /**
  * This class is what feeds the lexer.  It is primarily a wrapper around a
@@ -59,6 +61,10 @@ public abstract class LexerSource {
     // How many bytes into the source are we?
     protected int offset = 0;
 
+    // Line and offset the source starts at
+    protected final int firstLine;
+    protected int startOffset = 0;
+
     /**
      * Create our food-source for the lexer
      * 
@@ -69,6 +75,7 @@ public abstract class LexerSource {
         this.sourceName = sourceName;
         lastPosition = new SourcePosition("", line, line);
         this.line = line;
+        this.firstLine = line;
     }
 
     /**
@@ -142,6 +149,20 @@ public abstract class LexerSource {
         return new ReaderLexerSource(name, content, configuration.getLineNumber());
     }
 
+    /**
+     * Create a source for content which is already completely in memory.  This is cheaper to
+     * lex than going through a Reader.
+     * 
+     * @param name the name of the source (e.g a filename: foo.rb)
+     * @param content the data of the source
+     * @param configuration the configuration
+     * @return the new source
+     */
+    public static LexerSource getSource(String name, CharSequence content,
+            ParserConfiguration configuration) {
+        return CharArrayLexerSource.getSource(name, content, configuration);
+    }
+
     /**
      * Match marker against input consumering lexer source as it goes...Unless it does not match
      * then it reverts lexer source back to point when this method was invoked.
@@ -168,4 +189,81 @@ public abstract class LexerSource {
     // Various places where we call LexerSource.unread(), the nextCharIsOnANewline value gets inaccurate (column/line too, but I don't care about those)
     public abstract void setIsANewLine(boolean nextCharIsOnANewLine);
     public abstract void setOffset(int offset);
+
+    /**
+     * Read the rest of the current line into buffer.  The line terminator is read but not
+     * appended.
+     *
+     * @param buffer to append the line to
+     */
+    public void readLine(CStringBuilder buffer) throws IOException {
+        buffer.append(readLineBytes());
+    }
+
+    /**
+     * Read the rest of the current line so it can be pushed back with unreadMany later (the rest
+     * of the line a heredoc starts on is lexed after the heredoc body).  The line comes back
+     * ending in "\n" whatever ended it.  A source which has everything in memory can hand out a
+     * view of its own chars here and replay it instead of pushing it back char by char.
+     *
+     * @return the line
+     */
+    public CharSequence readLineForReplay() throws IOException {
+        return readLineBytes().concat("\n");
+    }
+
+    /**
+     * Read a run of chars into buffer in one go.  The run ends before the next line terminator,
+     * EOF or stop char so the caller can read() that one and deal with it.  Stop chars are
+     * ASCII chars given as a bit set (see lowStop and highStop).  A source which cannot copy
+     * runs any faster than read() can leaves it all to read() by copying nothing.
+     *
+     * @param buffer to append the run to
+     * @param stopsLow stop chars 0-63
+     * @param stopsHigh stop chars 64-127
+     * @return how many chars were read
+     */
+    public int readRun(CStringBuilder buffer, long stopsLow, long stopsHigh) throws IOException {
+        return 0;
+    }
+
+    /**
+     * @return the bit for c in the stopsLow of readRun (or 0 if it is not in that half)
+     */
+    public static long lowStop(int c) {
+        return c >= 0 && c < 64 ? 1L << c : 0;
+    }
+
+    /**
+     * @return the bit for c in the stopsHigh of readRun (or 0 if it is not in that half)
+     */
+    public static long highStop(int c) {
+        return c >= 64 && c < 128 ? 1L << (c - 64) : 0;
+    }
+
+    /**
+     * Where the lines of this source start.  Only call this once lexing is done.  A source
+     * which is not all in memory only knows about the lines the lexer has read (so not the ones
+     * after __END__).
+     */
+    public abstract LineMap getLineMap();
+
+    /**
+     * Lex as if we were starting at offset of some larger source (e.g. when reparsing just one
+     * region of a file) so positions come out relative to that larger source.
+     *
+     * @param offset of the first char of this source within the larger source
+     */
+    public void setStartOffset(int offset) {
+        startOffset = offset;
+        setOffset(offset);
+        setLastPosition(line, offset);
+    }
+
+    /**
+     * Set where the last position we gave out ended (the next one will start there).
+     */
+    void setLastPosition(int line, int offset) {
+        lastPosition = new SourcePosition("", line, line, offset, offset);
+    }
 }
@@ -5,6 +5,7 @@ package org.jrubyparser.lexer;
 import java.io.IOException;
 import java.io.Reader;
 
+import org.jrubyparser.LineMap;
 import org.jrubyparser.parser.ParserConfiguration;
 import org.jrubyparser.util.CStringBuilder;
 
@@ -23,6 +24,17 @@ public class ReaderLexerSource extends LexerSource {
     // Character read before previous read
     private int oneAgo = '\n';
     private int twoAgo = 0;
+
+    // Offsets of the lines read so far (lineStarts[0] is filled in by getLineMap)
+    private int[] lineStarts = new int[16];
+    private int lineCount = 1;
+
+    // How many chars have been taken from in (pushback and unread chars do not count)
+    private int inOffset = 0;
+
+    // The char after a lone \r (read to look for \r\n) or NONE
+    private static final int NONE = -2;
+    private int afterCarriageReturn = NONE;
     
     /**
      * Create our food-source for the lexer
@@ -104,15 +116,19 @@ public class ReaderLexerSource extends LexerSource {
 
     private int carriageReturn(int c) throws IOException {
         if ((c = in.read()) != '\n') {
-            unread((char) c);
-            c = '\n';
+            lineStarted();
+
+            // A lone \r: the char after it comes next (unread would take back the \r's offset)
+            afterCarriageReturn = c;
         } else {
             // Position within source must reflect the actual offset and column.  Since
             // we ate an extra character here (this accounting is normally done in read
             // ), we should update position info.
             offset++;
+            inOffset++;
+            lineStarted();
         }
-        return c;
+        return '\n';
     }
 
     private void growBuf() {
@@ -141,12 +157,23 @@ public class ReaderLexerSource extends LexerSource {
      * @return the current char or EOF (at EOF or on error)
      */
     private int wrappedRead() throws IOException {
-        int c = in.read();
+        int c = afterCarriageReturn;
+
+        if (c == NONE) {
+            c = in.read();
+        } else {
+            afterCarriageReturn = NONE;
+        }
+
+        if (c == -1) return c;
+        inOffset++;
         
         // If \r\n then just pass along \n (windows). 
         // If \r[^\n] then pass along \n (MAC).
         if (c == '\r') { 
             c = carriageReturn(c);
+        } else if (c == '\n') {
+            lineStarted();
         }
 
         return c;
@@ -321,4 +348,20 @@ public class ReaderLexerSource extends LexerSource {
     public void setOffset(int offset) {
         this.offset = offset;
     }
+
+    @Override
+    public LineMap getLineMap() {
+        lineStarts[0] = startOffset;
+
+        return new LineMap(firstLine, lineStarts, lineCount);
+    }
+
+    // A line break was just taken from in.  Only what really comes from in counts, so chars the
+    // lexer pushes back (even ones which were never there, like a heredoc marker's "\n") do not
+    // move lines around.
+    private void lineStarted() {
+        if (lineCount == lineStarts.length) lineStarts = LineMap.grow(lineStarts);
+
+        lineStarts[lineCount++] = startOffset + inOffset;
+    }
 }
@@ -43,6 +43,11 @@ public class StackState implements Cloneable {
         stack = backup;
     }
 
+    // Whole stack (so it can be handed back to reset later)
+    public long getStack() {
+        return stack;
+    }
+
     // PUSH(1)
     public long begin() {
         long old = stack;
@@ -73,4 +73,11 @@ public abstract class StrTerm {
      * @param o the object to set
      */
     public abstract void setMutableState(Object o);
+
+    /**
+     * Support for incremental lexing: a copy of this term (mutable state included) which can
+     * carry on lexing without changing this one.
+     * @return the copy
+     */
+    abstract StrTerm copy();
 }
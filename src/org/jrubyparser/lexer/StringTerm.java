@@ -235,9 +235,15 @@ public class StringTerm extends StrTerm {
     }
     
     public int parseSimpleStringIntoBuffer(LexerSource src, CStringBuilder buffer) throws java.io.IOException {
+        boolean runs = end < 128;
+        long stopsLow = LexerSource.lowStop(end) | LexerSource.lowStop('\\');
+        long stopsHigh = LexerSource.highStop(end) | LexerSource.highStop('\\');
         int c;
 
-        while ((c = src.read()) != Lexer.EOF) {
+        while (true) {
+            if (runs) src.readRun(buffer, stopsLow, stopsHigh);
+            if ((c = src.read()) == Lexer.EOF) break;
+
             if (c == end) {
                 src.unread(c);
                 break;
@@ -257,9 +263,19 @@ public class StringTerm extends StrTerm {
         boolean expand = (flags & Lexer.STR_FUNC_EXPAND) != 0;
         boolean escape = (flags & Lexer.STR_FUNC_ESCAPE) != 0;
         boolean regexp = (flags & Lexer.STR_FUNC_REGEXP) != 0;
+        // Plain chars can be copied a run at a time unless whitespace (%w) or the end of an
+        // interpolated variable name could be among them.
+        boolean runs = !qwords && begin < 128 && end < 128 &&
+                (processingEmbedded == IGNORE_EMBEDDED || processingEmbedded == LOOKING_FOR_EMBEDDED);
+        long stopsLow = LexerSource.lowStop(begin) | LexerSource.lowStop(end) | LexerSource.lowStop('\\') |
+                (expand ? LexerSource.lowStop('#') : 0);
+        long stopsHigh = LexerSource.highStop(begin) | LexerSource.highStop(end) | LexerSource.highStop('\\');
         int c;
 
-        while ((c = src.read()) != Lexer.EOF) {
+        while (true) {
+            if (runs) src.readRun(buffer, stopsLow, stopsHigh);
+            if ((c = src.read()) == Lexer.EOF) break;
+
             if (begin != '\0' && c == begin) {
                 nest++;
             } else if (processingEmbedded == EMBEDDED_DEXPR && c == '}') {
@@ -326,9 +342,14 @@ public class StringTerm extends StrTerm {
         boolean expand = (flags & Lexer.STR_FUNC_EXPAND) != 0;
         boolean escape = (flags & Lexer.STR_FUNC_ESCAPE) != 0;
         boolean regexp = (flags & Lexer.STR_FUNC_REGEXP) != 0;
+        long stopsLow = LexerSource.lowStop('\\');
+        long stopsHigh = LexerSource.highStop('{') | LexerSource.highStop('}') | LexerSource.highStop('\\');
         int c;
 
-        while ((c = src.read()) != Lexer.EOF) {
+        while (true) {
+            if (!qwords) src.readRun(buffer, stopsLow, stopsHigh);
+            if ((c = src.read()) == Lexer.EOF) break;
+
             if (c == '{') {
                 nest++;
             } else if (c == '}') {
@@ -483,6 +504,15 @@ public class StringTerm extends StrTerm {
         }
     }
 
+    StrTerm copy() {
+        StringTerm copy = new StringTerm(flags, begin, end);
+
+        copy.nest = nest;
+        copy.processingEmbedded = processingEmbedded;
+
+        return copy;
+    }
+
     public void splitEmbeddedTokens() {
         if (processingEmbedded == IGNORE_EMBEDDED) processingEmbedded = LOOKING_FOR_EMBEDDED;
     }
@@ -0,0 +1,301 @@
+package org.jrubyparser.lexer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.jrubyparser.CompatVersion;
+import org.jrubyparser.IRubyWarnings;
+import org.jrubyparser.Parser;
+import org.jrubyparser.SourcePosition;
+import org.jrubyparser.ast.Node;
+import org.jrubyparser.ast.SyntaxNode;
+import org.jrubyparser.lexer.Lexer.LexState;
+import org.jrubyparser.parser.ParserConfiguration;
+import org.jrubyparser.parser.ParserResult;
+import org.jrubyparser.parser.ParserSupport;
+import org.jrubyparser.parser.Tokens;
+
+/**
+ * Lexes source without parsing it (e.g. for syntax highlighting or counting tokens).  Each
+ * token comes back with its type (see org.jrubyparser.parser.Tokens), its value (the text of
+ * the token or, for literals, the node the lexer made for it) and its position.
+ *
+ * The lexer still needs a little help from the parser, so we hand it a ParserSupport which
+ * is never used to build anything and do the lexer state changes the grammar would do when
+ * entering and leaving string interpolation.  Since nothing is parsed no local variables ever
+ * get defined, so an identifier is always lexed as if it were a method call (the difference
+ * only shows up in a few ambiguous spots like "a /b/").
+ *
+ * With preserveSpaces whitespace, comments and embedded documents come back as tWHITESPACE,
+ * tCOMMENT and tDOCUMENTATION tokens.  Otherwise they are skipped although comments can still
+ * be collected by asking for them in the configuration (see getComments).
+ */
+public class TokenStream implements Iterator<Token>, Iterable<Token> {
+    private final Lexer lexer;
+    private final ParserSupport support;
+
+    // Token read ahead by hasNext (or null if we need to read the next one)
+    private Token next = null;
+    private boolean done = false;
+
+    // String terms of the strings we are interpolating into (innermost last) and how many
+    // braces have been opened in each interpolation.
+    private List<StrTerm> strTerms = new ArrayList<StrTerm>();
+    private List<Integer> braces = new ArrayList<Integer>();
+    // String term to go back to after the variable of a "#@foo" interpolation
+    private StrTerm dvarStrTerm = null;
+
+    public TokenStream(LexerSource source, ParserConfiguration configuration) {
+        this(source, configuration, false);
+    }
+
+    /**
+     * @param source to be lexed
+     * @param configuration version and syntax to gather (a scope will predefine local variables)
+     * @param preserveSpaces also return whitespace and comments as tokens
+     */
+    public TokenStream(LexerSource source, ParserConfiguration configuration, boolean preserveSpaces) {
+        support = new ParserSupport();
+        support.setConfiguration(configuration);
+        support.setResult(new ParserResult());
+        support.initTopLocalVariables();
+
+        lexer = new Lexer(configuration.getVersion() == CompatVersion.RUBY1_8);
+        lexer.setParserSupport(support);
+        lexer.reset();
+        lexer.setSource(source);
+        lexer.setPreserveSpaces(preserveSpaces);
+        lexer.setWarnings(new Parser.NullWarnings());
+        support.setLexer(lexer);
+    }
+
+    /**
+     * Carry on lexing source from a checkpoint made by another stream.
+     *
+     * @param source positioned where the checkpoint was made
+     * @param configuration the configuration the checkpoint was made with
+     * @param checkpoint to carry on from
+     */
+    TokenStream(CharArrayLexerSource source, ParserConfiguration configuration, Checkpoint checkpoint) {
+        this(source, configuration, checkpoint.preserveSpaces);
+
+        lexer.restoreState(checkpoint.lexer);
+        for (int i = 0; i < checkpoint.strTerms.length; i++) {
+            strTerms.add(checkpoint.strTerms[i] == null ? null : checkpoint.strTerms[i].copy());
+            braces.add(checkpoint.braces[i]);
+        }
+        dvarStrTerm = checkpoint.dvarStrTerm == null ? null : checkpoint.dvarStrTerm.copy();
+        source.setBeginOfLine(checkpoint.lastWasBeginOfLine, checkpoint.wasBeginOfLine);
+        source.setLastPosition(source.getLine() - checkpoint.positionLines, source.getOffset() - checkpoint.positionChars);
+    }
+
+    /**
+     * What a stream needs to carry on lexing from a spot between two tokens: the state of the
+     * lexer, of our interpolation tracking and of the chars just before the spot.
+     */
+    static final class Checkpoint {
+        private final Lexer.State lexer;
+        private final StrTerm[] strTerms;
+        private final int[] braces;
+        private final StrTerm dvarStrTerm;
+        private final boolean preserveSpaces;
+        private final boolean lastWasBeginOfLine;
+        private final boolean wasBeginOfLine;
+        // How far the source was past the end of the last position it gave out
+        private final int positionLines;
+        private final int positionChars;
+
+        private Checkpoint(TokenStream stream) {
+            LexerSource source = stream.lexer.getSource();
+            SourcePosition position = source.getPosition();
+
+            lexer = stream.lexer.saveState();
+            strTerms = new StrTerm[stream.strTerms.size()];
+            braces = new int[strTerms.length];
+            for (int i = 0; i < strTerms.length; i++) {
+                StrTerm term = stream.strTerms.get(i);
+
+                strTerms[i] = term == null ? null : term.copy();
+                braces[i] = stream.braces.get(i);
+            }
+            dvarStrTerm = stream.dvarStrTerm == null ? null : stream.dvarStrTerm.copy();
+            preserveSpaces = stream.lexer.getPreserveSpaces();
+            lastWasBeginOfLine = source.lastWasBeginOfLine();
+            wasBeginOfLine = source.wasBeginOfLine();
+            positionLines = position.getEndLine() - position.getStartLine();
+            positionChars = position.getEndOffset() - position.getStartOffset();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Checkpoint)) return false;
+
+            Checkpoint other = (Checkpoint) obj;
+
+            if (preserveSpaces != other.preserveSpaces || lastWasBeginOfLine != other.lastWasBeginOfLine ||
+                    wasBeginOfLine != other.wasBeginOfLine || positionLines != other.positionLines ||
+                    positionChars != other.positionChars || !lexer.equals(other.lexer) ||
+                    !Lexer.State.sameTerm(dvarStrTerm, other.dvarStrTerm) ||
+                    !Arrays.equals(braces, other.braces)) {
+                return false;
+            }
+
+            for (int i = 0; i < strTerms.length; i++) {
+                if (!Lexer.State.sameTerm(strTerms[i], other.strTerms[i])) return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return 83 * lexer.hashCode() + strTerms.length;
+        }
+    }
+
+    /**
+     * Save where we are.  Only call this between tokens (nothing read ahead by hasNext).
+     */
+    Checkpoint checkpoint() {
+        return new Checkpoint(this);
+    }
+
+    public void setWarnings(IRubyWarnings warnings) {
+        lexer.setWarnings(warnings);
+    }
+
+    /**
+     * Next token in the source.
+     *
+     * @return the token or null if we are at the end of the source (or __END__)
+     * @throws IOException if the source cannot be read
+     */
+    public Token nextToken() throws IOException {
+        if (next != null) {
+            Token token = next;
+            next = null;
+            return token;
+        }
+
+        if (done) return null;
+
+        int type = lexer.nextToken();
+
+        if (type == 0) {
+            done = true;
+            return null;
+        }
+
+        Object value = lexer.value();
+
+        if (type == '\n') return new Token("\n", type, lexer.getSource().getPosition());
+
+        interpolate(type);
+
+        if (value instanceof Token) {
+            Token token = (Token) value;
+            token.type = type;
+            return token;
+        }
+
+        if (value instanceof Node) return new Token(value, type, ((Node) value).getPosition());
+
+        return new Token(value, type, lexer.getSource().getPosition());
+    }
+
+    /**
+     * The parser resets the lexer's string term around interpolated code.  We have no parser
+     * so we track the same thing here (see string_content in the grammars).
+     */
+    private void interpolate(int type) {
+        // Preserving spaces the lexer lexes heredocs in order and handles their
+        // interpolations itself (see Lexer.HeredocContext).
+        if (lexer.heredocContext != null && lexer.heredocContext.isLookingForEnd()) return;
+
+        if (dvarStrTerm != null && type != Tokens.tWHITESPACE && type != Tokens.tCOMMENT) {
+            lexer.setStrTerm(dvarStrTerm);
+            dvarStrTerm = null;
+        }
+
+        switch (type) {
+            case Tokens.tSTRING_DVAR:
+                dvarStrTerm = lexer.getStrTerm();
+                lexer.setStrTerm(null);
+                lexer.setState(LexState.EXPR_BEG);
+                break;
+            case Tokens.tSTRING_DBEG:
+                strTerms.add(lexer.getStrTerm());
+                braces.add(0);
+                lexer.getConditionState().stop();
+                lexer.getCmdArgumentState().stop();
+                lexer.setStrTerm(null);
+                lexer.setState(LexState.EXPR_BEG);
+                break;
+            case Tokens.tLCURLY: case Tokens.tLBRACE: case Tokens.tLBRACE_ARG: case Tokens.tLAMBEG:
+                if (!braces.isEmpty()) braces.add(braces.remove(braces.size() - 1) + 1);
+                break;
+            case Tokens.tRCURLY:
+                if (braces.isEmpty()) break;
+
+                int open = braces.remove(braces.size() - 1);
+                if (open > 0) {
+                    braces.add(open - 1);
+                } else {
+                    lexer.getConditionState().restart();
+                    lexer.getCmdArgumentState().restart();
+                    lexer.setStrTerm(strTerms.remove(strTerms.size() - 1));
+                }
+                break;
+        }
+    }
+
+    /**
+     * Comments seen so far when preserveSpaces is off and the configuration asks for
+     * comments (otherwise they are returned as tokens or not collected at all).
+     */
+    public List<SyntaxNode> getComments() {
+        List<SyntaxNode> comments = support.getResult().getSyntaxNodes();
+
+        return comments == null ? Collections.<SyntaxNode>emptyList() : comments;
+    }
+
+    /**
+     * Where the lexer currently is.
+     */
+    public SourcePosition getPosition() {
+        return lexer.getSource().getPosition();
+    }
+
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = nextToken();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        return next != null;
+    }
+
+    public Token next() {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        Token token = next;
+        next = null;
+        return token;
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    public Iterator<Token> iterator() {
+        return this;
+    }
+}
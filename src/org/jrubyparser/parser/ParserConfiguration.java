@@ -32,6 +32,7 @@ package org.jrubyparser.parser;
 
 import org.jrubyparser.CompatVersion;
 import org.jrubyparser.StaticScope;
+import org.jrubyparser.SymbolTable;
 
 public class ParserConfiguration {
     public enum SyntaxGathering { NONE, COMMENTS, ALL };
@@ -53,6 +54,12 @@ public class ParserConfiguration {
     // What additional purely syntactical elements should we retain in the AST.
     private SyntaxGathering syntax = SyntaxGathering.NONE;
 
+    // Where names get their canonical Strings from (null means a new table for each parse)
+    private SymbolTable symbolTable = null;
+
+    // Should syntax errors be collected in the result instead of ending the parse?
+    private boolean errorRecovery = false;
+
     public ParserConfiguration() {}
     
     public ParserConfiguration(int lineNumber, CompatVersion version) {
@@ -93,4 +100,34 @@ public class ParserConfiguration {
     public void setSyntax(SyntaxGathering syntax) {
         this.syntax = syntax;
     }
+
+    public SymbolTable getSymbolTable() {
+        return symbolTable;
+    }
+
+    /**
+     * Share one table between parses (e.g. a SharedSymbolTable for all files of a workspace)
+     * so that the same name is the same String in all of their ASTs.
+     *
+     * @param symbolTable to use or null to use a new LocalSymbolTable for each parse
+     */
+    public void setSymbolTable(SymbolTable symbolTable) {
+        this.symbolTable = symbolTable;
+    }
+
+    public boolean isErrorRecovery() {
+        return errorRecovery;
+    }
+
+    /**
+     * Keep parsing past syntax errors instead of throwing a SyntaxException for the first one.
+     * Every error ends up in ParserResult.getSyntaxErrors() and the parser picks up again at
+     * the next statement after it.  Whatever is still open when the source ends gets closed, so
+     * there is always an AST (with the broken statements left out of it).
+     *
+     * @param errorRecovery true to collect syntax errors
+     */
+    public void setErrorRecovery(boolean errorRecovery) {
+        this.errorRecovery = errorRecovery;
+    }
 }
@@ -34,23 +34,29 @@ package org.jrubyparser.parser;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jrubyparser.LineMap;
 import org.jrubyparser.StaticScope;
 import org.jrubyparser.ast.CommentNode;
 import org.jrubyparser.ast.Node;
 import org.jrubyparser.ast.PreExeNode;
 import org.jrubyparser.ast.SyntaxNode;
+import org.jrubyparser.lexer.SyntaxException;
 
 /**
  */
 public class ParserResult {
     final public static List<Node> EMPTY_BEGIN_LIST = new ArrayList<Node>();
     final public static List<CommentNode> EMPTY_COMMENT_LIST = new ArrayList<CommentNode>();
+    final public static List<SyntaxException> EMPTY_SYNTAX_ERROR_LIST = new ArrayList<SyntaxException>();
     private List<Node> beginNodes;
     private Node ast;
     // __END__ marker offset (-1 means none present)
     private int endOffset = -1;
     private List<SyntaxNode> syntaxNodes;
     private StaticScope scope;
+    private LineMap lineMap;
+    private int stackDepth;
+    private List<SyntaxException> syntaxErrors;
     
     public Node getAST() {
         return ast;
@@ -98,6 +104,42 @@ public class ParserResult {
         return scope;
     }
 
+    /**
+     * Where the lines of the parsed source start (null when only part of a source was parsed).
+     */
+    public LineMap getLineMap() {
+        return lineMap;
+    }
+
+    public void setLineMap(LineMap lineMap) {
+        this.lineMap = lineMap;
+    }
+
+    /**
+     * How deep the parser's state/value stacks got during this parse (deeply nested code
+     * makes them grow).
+     */
+    public int getStackDepth() {
+        return stackDepth;
+    }
+
+    public void setStackDepth(int stackDepth) {
+        this.stackDepth = stackDepth;
+    }
+
+    public void addSyntaxError(SyntaxException error) {
+        if (syntaxErrors == null) syntaxErrors = new ArrayList<SyntaxException>();
+        syntaxErrors.add(error);
+    }
+
+    /**
+     * Syntax errors the parser got past (only when ParserConfiguration.isErrorRecovery()), in
+     * the order they were found.
+     */
+    public List<SyntaxException> getSyntaxErrors() {
+        return syntaxErrors == null ? EMPTY_SYNTAX_ERROR_LIST : syntaxErrors;
+    }
+
     public void weaveInExtraSyntax() {
         ast.insertAll(getSyntaxNodes());
     }
@@ -118,8 +118,10 @@ import org.jrubyparser.lexer.SyntaxException.PID;
 import org.jrubyparser.lexer.Token;
 import org.jrubyparser.BlockStaticScope;
 import org.jrubyparser.LocalStaticScope;
+import org.jrubyparser.LocalSymbolTable;
 import org.jrubyparser.RegexpOptions;
 import org.jrubyparser.StaticScope;
+import org.jrubyparser.SymbolTable;
 import org.jrubyparser.ast.AliasNode;
 import org.jrubyparser.ast.BinaryOperatorNode;
 import org.jrubyparser.ast.BlockArg18Node;
@@ -151,6 +153,7 @@ public class ParserSupport {
 
     private ParserConfiguration configuration;
     private ParserResult result;
+    private SymbolTable symbolTable;
 
     public static boolean isConstant(String id) {
 	    return Character.isUpperCase(id.charAt(0));
@@ -159,6 +162,8 @@ public class ParserSupport {
     public void reset() {
         inSingleton = 0;
         inDefinition = false;
+        currentScope = null;
+        result = null;
     }
     
     public StaticScope getCurrentScope() {
@@ -1001,6 +1006,16 @@ public class ParserSupport {
      */
     public void setConfiguration(ParserConfiguration configuration) {
         this.configuration = configuration;
+
+        symbolTable = configuration.getSymbolTable();
+        if (symbolTable == null) symbolTable = new LocalSymbolTable();
+    }
+
+    /**
+     * Where the names of this parse get their canonical Strings from.
+     */
+    public SymbolTable getSymbolTable() {
+        return symbolTable;
     }
 
     public void setLexer(Lexer lexer) {
@@ -1043,8 +1058,10 @@ public class ParserSupport {
                 head = new DStrNode(head.getPosition());
             } else {
                 // All first element StrNode's do not include syntacical sugar.
-                head.getPosition().adjustStartOffset(-1);
-                head = new DStrNode(head.getPosition()).add(head);
+                SourcePosition headPosition = head.getPosition();
+                headPosition.adjustStartOffset(-1);
+                head.setPosition(headPosition);
+                head = new DStrNode(headPosition).add(head);
             }
         }
         return ((DStrNode) head).add(tail);
@@ -1209,11 +1226,13 @@ public class ParserSupport {
     }    
     
      /**
-      * generate parsing error
+      * generate parsing error (only recorded when recovering from errors, see recover)
       * @param message to be used in error
       */
      public void yyerror(String message) {
-         throw new SyntaxException(PID.GRAMMAR_ERROR, lexer.getPosition(), message);
+         SyntaxException error = new SyntaxException(PID.GRAMMAR_ERROR, lexer.getPosition(), message);
+
+         if (!recover(error)) throw error;
      }
  
      /**
@@ -1224,7 +1243,50 @@ public class ParserSupport {
       */
      public void yyerror(String message, String[] expected, String found) {
          String text = message + ", unexpected " + found + "\n";
-         throw new SyntaxException(PID.GRAMMAR_ERROR, lexer.getPosition(), text, found);
+         SyntaxException error = new SyntaxException(PID.GRAMMAR_ERROR, lexer.getPosition(), text, found);
+
+         if (!recover(error)) throw error;
+     }
+
+     /**
+      * Can the parse carry on after error?  Only when the configuration asks for error
+      * recovery, in which case error has been added to the result.
+      */
+     public boolean recover(SyntaxException error) {
+         if (!configuration.isErrorRecovery()) return false;
+
+         result.addSyntaxError(error);
+         return true;
+     }
+
+     /**
+      * Can the parse carry on after failure, something other than a syntax error going wrong
+      * on broken source (a grammar action or the lexer tripping over what it was given)?  Only
+      * when the configuration asks for error recovery, in which case failure has been added to
+      * the result as a syntax error at the current position.
+      */
+     public boolean recoverFrom(RuntimeException failure) {
+         if (!configuration.isErrorRecovery()) return false;
+
+         SyntaxException error = new SyntaxException(PID.GRAMMAR_ERROR, lexer.getPosition(),
+                 "cannot parse this (" + failure + ")");
+         error.initCause(failure);
+         result.addSyntaxError(error);
+         return true;
+     }
+
+     /**
+      * Make the result's AST out of whatever nodes are still on the parser's value stack, for
+      * when the parser cannot get any further with a broken source.
+      */
+     public void salvage(Object[] values, int top) {
+         Node salvaged = null;
+
+         for (int i = 0; i <= top; i++) {
+             if (values[i] instanceof Node) salvaged = appendToBlock(salvaged, (Node) values[i]);
+         }
+
+         result.setAST(addRootNode(salvaged, lexer.getPosition()));
      }
      public void warn(ID id, SourcePosition position, String message, Object... data) {
          warnings.warn(id, position, message, data);
@@ -1270,7 +1332,7 @@ public class ParserSupport {
         // issues in our runtime we will allocate unnamed bogus vars so things
         // still work. MRI does not use name as intern'd value so they don't
         // have this issue.
-        if (name == "_") {
+        if (name.equals("_")) {
             int count = 0;
             while (current.exists(name) >= 0) {
                 name = "_$" + count++;
@@ -1290,7 +1352,7 @@ public class ParserSupport {
      public Token shadowing_lvar(Token identifier) {
          String name = (String) identifier.getValue();
  
-         if (name == "_") return identifier;
+         if (name.equals("_")) return identifier;
  
          StaticScope current = getCurrentScope();
          if (current instanceof BlockStaticScope) {
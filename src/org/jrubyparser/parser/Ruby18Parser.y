@@ -314,7 +314,7 @@ stmts         : none
 	          $$ = support.appendToBlock($1, support.newline_node($3, support.getPosition($3, true)));
               }
               | error stmt {
-                  $$ = $2;
+                  $$ = support.appendToBlock($<Node>1, support.newline_node($2, support.getPosition($2, true)));
               }
 
 stmt          : kALIAS fitem {
@@ -1467,7 +1467,7 @@ opt_ensure    : kENSURE compstmt {
 literal       : numeric
               | symbol {
                   // FIXME: We may be intern'ing more than once.
-                  $$ = new SymbolNode($1.getPosition(), ((String) $1.getValue()).intern());
+                  $$ = new SymbolNode($1.getPosition(), support.getSymbolTable().intern((String) $1.getValue()));
               }
               | dsym
 
@@ -1495,7 +1495,9 @@ string1       : tSTRING_BEG string_contents tSTRING_END {
 		  if (($2 instanceof DStrNode) && extraLength > 0) {
 		     Node strNode = ((DStrNode)$2).get(0);
 		     assert strNode != null;
-		     strNode.getPosition().adjustStartOffset(-extraLength);
+		     SourcePosition position = strNode.getPosition();
+		     position.adjustStartOffset(-extraLength);
+		     strNode.setPosition(position);
 		  }
               }
 
@@ -1637,7 +1639,7 @@ dsym	       : tSYMBEG xstring_contents tSTRING_END {
 		   if ($2 instanceof DStrNode) {
 		       $$ = new DSymbolNode(support.union($1, $3), $<DStrNode>2);
                    } else if ($2 instanceof StrNode) {
-                       $$ = new SymbolNode(support.union($1, $3), $<StrNode>2.getValue().toString().intern());
+                       $$ = new SymbolNode(support.union($1, $3), support.getSymbolTable().intern($<StrNode>2.getValue()));
 		   } else {
                        SourcePosition position = support.union($2, $3);
 
@@ -1935,9 +1937,18 @@ none_block_pass: /* none */ {
             }
         }
 
-        yyparse(lexer, debugger);
-        
-        return support.getResult();
+        try {
+            yyparse(lexer, debugger);
+
+            ParserResult result = support.getResult();
+            result.setStackDepth(yyMaxDepth());
+
+            return result;
+        } finally {
+            // Parsers get reused (see ParserSession) so let go of this parse's source and AST
+            lexer.reset();
+            support.reset();
+        }
     }
 
     // +++
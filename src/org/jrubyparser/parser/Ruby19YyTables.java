@@ -1,3889 +1,14 @@
 package org.jrubyparser.parser;
 
 public class Ruby19YyTables {
-   private static short[] combine(short[] t1, short[] t2, 
-                                  short[] t3, short[] t4) {
-      short[] t = new short[t1.length + t2.length + t3.length + t4.length];
-      int index = 0;
-      System.arraycopy(t1, 0, t, index, t1.length);
-      index += t1.length;
-      System.arraycopy(t2, 0, t, index, t2.length);
-      index += t2.length;
-      System.arraycopy(t3, 0, t, index, t3.length);
-      index += t3.length;
-      System.arraycopy(t4, 0, t, index, t4.length);
-      return t;
-   }
+   // yyTable and yyCheck, from the binary resource bin/patch_parser.rb writes next to this class
+   private static final short[][] tables = YyTables.load(Ruby19YyTables.class, "Ruby19YyTables.tables", 2);
 
    public static final short[] yyTable() {
-      return combine(yyTable1(), yyTable2(), yyTable3(), yyTable4());
+      return tables[0];
    }
 
    public static final short[] yyCheck() {
-      return combine(yyCheck1(), yyCheck2(), yyCheck3(), yyCheck4());
-   }
-   private static final short[] yyTable1() {
-      return new short[] {
-
-          196,  196,  263,  403,  266,  540,  209,  265,  423,  589, 
-          195,  260,  211,  480,  282,  293,  612,  540,  557,  540, 
-          601,  196,   85,   85,  117,  117,  209,  502,   85,  221, 
-          221,  221,  211,  227,  236,  221,  221,  547,  553,  221, 
-          560,  561,  588,  262,  456,   72,  196,  457,  283,  286, 
-          505,  344,  262,  486,  394,  315,  301,  759,  505,  609, 
-          492,  583,  480,  618,  540,   85,  221,  231,  540,  291, 
-          529,  221,  227,  623,  498,  312,  651,  771,  547,  553, 
-          773,  369,  226,  281,  285,  246,  246,  486,  250,  246, 
-           64,  529,  583,   70,  492,  375,   72,  295,  486,  505, 
-          344,  502,  486,  394,  227,  831,  738,  505,  838,  492, 
-          366,  684,  480,  540,  291,  116,  116,  447,  319,  259, 
-          672,  226,  828,  583,  650,  116,  575,  225,  228,  221, 
-          267,   85,  486,  792,  529,  231,  312,   62,  255,  796, 
-          480,   64,   68,  583,   70,  227,  337,  486,  687,  596, 
-          897,   63,  600,  226,  405,  330,  313,  335,  540,  434, 
-          116,  480,  359,  314,  763,  338,  333,  336,  331,  360, 
-          529,  379,  334,  540,  284,  500,  332,  714,  258,  781, 
-          472,  654,  708,  540,  477,   75,   65,  529,   60,  673, 
-           73,  262,  880,   68,  226,  453,  258,   66,  735,  274, 
-          453,  259,   61,  529,  502,  116,  570,  540,  713,  500, 
-          540,  314,  742,  262,  268,  540,  373,  313,  897,  719, 
-          374,   71,   53,  831,  500,  838,  435,  436,   75,  452, 
-          306,  227,  540,  300,  455,  771,  270,   65,  480,  750, 
-          736,   73,  272,  273,  909,   61,  773,  883,   66,   65, 
-           65,  665,  221,  221,  771,   65,   65,   65,   65,  540, 
-           98,  359,   65,   65,  540,  529,   65,  404,  752,  753, 
-          270,  754,   71,  931,  308,  221,  851,  221,  221,  376, 
-          226,  221,  300,  221,  231,  270,   69,  480,   85,  386, 
-          785,  361,   65,   65,  429,   85,  387,  277,   65,  629, 
-          535,  480,  629,  466,  467,  460,  481,  502,  480,  291, 
-          469,  394,  354,  474,   72,  326,  327,  270,  535,  658, 
-          802,  483,  484,  485,  486,  246,  362,  246,  246,  394, 
-          569,  572,  326,  327,  569,   59,   60,   69,  363,  540, 
-           85,  221,  221,  221,  221,   85,  221,  221,  540,  408, 
-          409,  555,  529,  505,  717,  655,   65,  569,   65,   64, 
-          367,  394,   70,  466,  467,  468,  587,  415,  416,  417, 
-          469,  540,  613,  261,   67,  555,   72,  480,  221,  377, 
-          389,  221,  394,  221,   85,  291,  745,  221,  221,  505, 
-          529,  739,  555,  486,  429,  540,  780,  825,  505,  344, 
-          116,  486,  221,   85,  221,  748,  555,  562,  492,  565, 
-          368,   68,  540,  574,  577,   85,  615,  635,  429,  221, 
-          628,   64,  505,   85,   70,   67,  599,  602,  246,  486, 
-          865,  196,  580,  221,  875,  429,  209,  555,  510,  511, 
-          512,  513,  211,  480,   63,   63,  112,  112,  112,  429, 
-           63,  873,  246,  644,  549,   65,  235,  555,  221,   73, 
-           85,  267,  486,   61,  617,  617,   66,  540,   62,  246, 
-          500,  480,  540,   68,  671,  390,  116,  337,  549,   65, 
-           65,  460,   63,  246,  221,  291,  330,   63,  335,  568, 
-           71,  290,  900,  576,  928,  549,  338,  333,  336,  331, 
-          429,  815,   65,  334,   65,   65,  500,  332,   65,  549, 
-           65,  529,  261,  358,  382,   65,  597,   65,  686,  466, 
-          467,   73,   65,  500,  679,  502,  469,  277,   66,  527, 
-          905,  568,  630,  699,  246,  399,  290,  691,  540,  500, 
-          549,  683,  683,  697,  625,  627,  370,  371,  284,  583, 
-          700,  702,   71,   63,  270,   69,  359,  680,  419,  392, 
-          549,  270,  400,  419,  699,  630,  519,   65,   65,   65, 
-           65,   65,   65,   65,   65,  721,  116,  509,  627,  683, 
-          529,  284,  514,  693,  270,  699,  881,  460,  196,  196, 
-          413,  291,  359,  393,  209,  872,  693,  693,  720,  699, 
-          211,  221,   85,  661,  401,   65,  729,  600,   65,  359, 
-           65,   65,  402,   85,   65,   65,  277,   69,  405,  693, 
-           85,   89,   89,  118,  118,  359,  699,   89,  399,   65, 
-           65,   65,  407,  237,  724,  711,  464,  728,  410,  602, 
-          414,  671,   65,   67,  221,  690,   65,  602,  718,  418, 
-           65,  696,  870,  432,  540,  540,  671,  419,  690,  690, 
-           65,  749,  422,  540,   89,  291,  382,  440,  292,  328, 
-          449,  444,   85,  247,  253,  445,   80,  254,  304,  305, 
-          448,  690,  116,  540,  696,   65,    6,   65,  393,  393, 
-          704,  459,   85,   85,  393,  451,    6,  446,  712,  466, 
-          467,  471,   85,  458,   85,   67,  469,   85,  221,  221, 
-           63,   65,  540,  292,  221,  465,  475,   63,  479,  701, 
-          703,  683,   90,  456,  507,  460,  573,   92,   92,  291, 
-           89,  290,  540,   92,  788,  790,  438,  600,  328,  238, 
-          793,  743,  812,  604,  614,    6,   85,  632,  638,  221, 
-          356,  380,  744,  671,  645,   87,  116,  357,  381,   85, 
-           85,   85,   63,  656,  657,  666,  667,   63,  805,  343, 
-           92,   90,  397,  345,  346,  661,  760,  668,  675,  398, 
-          466,  467,  473,  757,  219,  219,  219,  469,  466,  467, 
-          476,  527,  527,  527,  677,  469,  706,  527,  527,  617, 
-          527,    8,  264,  518,  688,   85,   63,  290,  423,  423, 
-          423,    8,  884,   78,  689,  423,  631,  221,  694,  695, 
-          116,  279,  633,  634,   85,   63,  709,  411,   65,   65, 
-          715,  722,  801,  116,  412,   85,   92,   63,  732,  642, 
-           65,  726,  643,  862,  733,   63,  817,   65,  658,  734, 
-          483,  484,  485,  486,  737,  766,  276,  747,  602,  761, 
-            8,   97,   97,  555,  821,  442,  786,   97,  890,    7, 
-          527,   65,  443,  462,  798,  661,  797,  661,  806,    7, 
-          463,  699,   63,  819,  372,  528,   85,   89,  826,  868, 
-          221,  527,   85,  808,   89,  818,  869,  829,   85,   65, 
-          820,  833,  839,  380,   97,  841,  429,  290,  292,  840, 
-          918,   88,  555,  424,  843,  427,  540,  540,  845,   65, 
-           65,  848,  276,  849,  852,  854,  864,   86,    7,   65, 
-           82,   65,  856,  857,   65,   65,   65,  540,   84,   89, 
-          246,   65,  540,  602,   89,  661,  882,  858,    6,    6, 
-            6,  861,   93,  867,    6,    6,  876,    6,  877,  116, 
-          456,  879,  707,  892,   82,  898,  549,  456,   92,  899, 
-           97,  910,   84,   65,  271,  913,   65,  917,  920,   90, 
-          540,   82,  716,   89,  292,  922,   65,   65,   65,   84, 
-           95,  924,  518,   92,  927,  661,  930,  661,  941,  527, 
-           92,   93,   89,  413,  413,  413,  540,  219,  219,   85, 
-          413,  518,  540,  290,   89,  529,  528,   92,  769,  519, 
-          772,  529,   89,  776,   63,  533,  661,    6,  746,  540, 
-          533,   81,   65,  270,  535,   63,  431,  529,  433,  264, 
-          518,  529,   63,   85,   65,   92,  264,  518,    6,  519, 
-           92,   65,  518,   85,   83,   88,  762,  540,  317,   89, 
-           85,  119,   65,    8,    8,    8,  198,  929,  866,    8, 
-            8,  894,    8,  518,  770,  318,  239,  911,  384,  441, 
-          906,  320,    0,  758,  292,    0,  276,  290,   83,   92, 
-          270,    0,    0,  262,   63,    0,  219,  219,  219,  219, 
-          270,  515,  516,  540,   88,   83,    0,    0,   92,  807, 
-            0,   89,    0,   65,   63,   63,    0,   65,    0,   65, 
-           92,    0,    0,    0,   63,   65,   63,   97,   92,   63, 
-            0,    7,    7,    7,   97,  522,  456,    7,    7,    0, 
-            7,  658,    8,  483,  484,  485,  486,  528,  528,  528, 
-          827,  290,  540,  528,  528,  832,  528,    0,    0,  590, 
-           89,    0,   94,    8,  811,   92,    0,  540,   63,    0, 
-            0,   80,    0,    0,  659,  276,    0,    0,    0,   97, 
-            0,   63,   63,   63,   97,    0,  886,    0,    0,    0, 
-          292,    0,  384,    0,    0,  893,    0,  895,    0,   82, 
-          518,   89,   81,    0,    0,   80,  603,   84,  519,   93, 
-            7,  271,   89,  636,  611,    0,  540,    0,  271,   89, 
-            0,    0,   80,   97,   95,   92,  528,   63,    0,    0, 
-            0,    7,    0,    0,  540,    0,   81,    0,  519,  540, 
-            0,  540,   97,  676,  678,   87,   63,  528,  518,    0, 
-            0,  637,  456,   81,   97,  518,  519,   63,    0,    0, 
-          518,   82,   97,  519,  292,  936,   89,  384,  519,   84, 
-          270,   89,  756,   95,    0,    0,    0,  270,   85,   87, 
-            0,  518,  519,  384,    0,    0,  519,    0,   93,  519, 
-          112,   89,   89,  519,    0,    0,   87,    0,  519,   97, 
-            0,   89,   91,   89,    0,  264,   89,   92,   63,    0, 
-            0,  250,   88,    0,   63,  384,    0,    0,   92,  519, 
-           63,  250,  384,   83,  522,   92,  264,  270,  292,  321, 
-          322,  323,  324,  325,  270,    0,    0,  270,    0,  519, 
-           85,  813,    0,    0,  270,   89,    0,    0,  384,  519, 
-            0,   91,    0,    0,   41,  250,  219,  540,   89,   89, 
-           89,  540,  540,    0,   41,  328,    0,    0,   89,    0, 
-          250,    0,  522,  456,    0,    0,  522,   92,    0,  522, 
-          456,  384,    0,  522,  518,   83,    0,    0,    0,  775, 
-            0,  483,  484,  485,  486,    0,  343,   92,   92,  219, 
-          345,  346,  347,  348,   89,  522,    0,   92,    0,   92, 
-          522,  725,   92,   41,    0,    0,    0,    0,    0,  540, 
-          540,  540,  487,   89,    0,  522,  540,    0,    0,  384, 
-          489,  490,  491,  492,   89,    0,  384,    0,    0,    0, 
-           80,   97,  245,  245,    0,    0,  245,  814,    0,    0, 
-          184,   92,   97,    0,    0,    0,    0,  522,    0,   97, 
-          184,    0,  384,  751,   92,   92,   92,  118,  269,  271, 
-            0,   81,  384,    0,  245,  245,    0,  294,  296,   94, 
-            0,   95,    0,  767,  768,   89,    0,    0,    0,  456, 
-            0,   89,    0,  783,  229,  784,  456,   89,  787,    0, 
-            0,    0,   80,    0,  219,    0,    0,  834,    0,  184, 
-           92,   97,  842,  844,   87,  846,    0,  847,    0,  850, 
-          384,  853,  855,    0,    0,    0,    0,  384,   94,   92, 
-            0,   97,   97,   81,    0,    0,    0,  816,  172,    0, 
-           92,   97,  264,   97,    0,    0,   97,    0,    0,  264, 
-          822,  823,  824,  384,    0,    0,    0,    0,    0,   91, 
-          271,    0,    0,  264,    0,    0,   82,    0,    0,    0, 
-          264,    0,  522,  250,  250,  250,   87,    0,  250,  250, 
-          250,    0,  250,    0,    0,   97,    0,  172,    0,    0, 
-          262,   92,  250,  250,    0,    0,  859,   92,   97,   97, 
-           97,  250,  250,   92,  250,  250,  250,  250,  250,    0, 
-            0,    0,    0,  518,    0,    0,   41,   41,   41,    0, 
-          522,   41,   41,   41,    0,   41,  871,  522,  912,  914, 
-          915,  916,  518,    0,  919,   41,  921,  923,  925,  926, 
-            0,    0,    0,  353,   97,    0,  522,   41,   41,   41, 
-           41,   41,  250,  522,    0,  250,  835,  250,  483,  484, 
-          485,  486,    0,   97,    0,    0,    0,    0,  245,  245, 
-          245,  296,    0,  250,   97,  939,    0,    0,  940,  942, 
-          943,  944,  245,  907,  245,  245,    0,    0,  946,  908, 
-          444,    0,    0,  439,  522,   41,    0,    0,    0,    0, 
-          444,  522,    0,    0,    0,    0,  518,    0,    0,    0, 
-            0,    0,  184,  184,  184,    0,   41,    0,  184,  184, 
-            0,  184,    0,    0,  522,   97,    0,  522,    0,    0, 
-            0,   97,    0,    0,  444,    0,   94,   97,    0,    0, 
-          184,  184,    0,  184,  184,  184,  184,    0,  444,  444, 
-            0,  444,    0,  444,    0,  517,  518,  519,  520,  521, 
-          522,  523,  524,  525,  526,  527,  528,  529,  530,  531, 
-          532,  533,  534,  535,  536,  537,  538,  539,  540,  541, 
-          542,  444,    0,    0,    0,  245,    0,    0,  563,    0, 
-          566,  184,    0,    0,  245,  578,    0,  271,    0,    0, 
-            0,   90,  518,    0,  271,    0,    0,    0,    0,  245, 
-            0,  252,  184,    0,    0,    0,    0,  245,    0,    0, 
-          658,  252,  483,  484,  485,  486,  245,  563,  610,  578, 
-            0,    0,  245,    0,  172,    0,  172,  172,  172,  172, 
-          245,    0,    0,    0,    0,  245,  245,    0,    0,  245, 
-          518,    0,    0,  659,    0,  252,  450,  518,    0,    0, 
-            0,  660,  518,  450,    0,    0,    0,  172,  172,    0, 
-          252,  639,  640,  641,    0,  172,  172,  172,  172,  245, 
-            0,    0,  245,  518,  658,   32,  483,  484,  485,  486, 
-            0,  245,    0,  165,    0,   32,    0,  328,  329,  330, 
-          331,  332,  333,  334,  335,  336,  337,  338,    0,  339, 
-          340,    0,    0,  341,  342,    0,    0,  659,    0,    0, 
-            0,    0,    0,    0,    0,  830,    0,    0,  343,  250, 
-          344,    0,  345,  346,  347,  348,  349,  350,  351,  175, 
-          352,    0,  165,    0,   32,    0,    0,  515,  515,  515, 
-            0,  515,  444,  444,  444,  515,  515,  444,  444,  444, 
-          515,  444,  515,  515,  515,  515,  515,  515,  515,  444, 
-          515,  444,  444,  515,  515,  515,  515,  515,  515,  515, 
-          444,  444,  515,  444,  444,  444,  444,  444,  175,  515, 
-            0,  245,  515,  515,  515,  444,  515,  515,  515,  515, 
-          515,  515,  515,  515,  515,  515,  515,  444,  444,  444, 
-          444,  444,  444,  444,  444,  444,  444,  444,  444,  444, 
-          444,    0,    0,  444,  444,  444,  515,  444,  444,  515, 
-          515,  444,  515,  515,  444,  515,  444,  515,  444,  515, 
-          444,  515,  444,  444,  444,  444,  444,  444,  444,  515, 
-          444,  515,  444,  245,  515,  515,  515,  515,  515,  515, 
-            0,    0,    0,  515,  444,  515,  515,  447,  515,  515, 
-            0,    0,    0,  252,  252,  252,    0,  447,  252,  252, 
-          252,    0,  252,    0,  245,    0,    0,    0,    0,    0, 
-            0,    0,  252,  252,    0,    0,    0,    0,    0,    0, 
-            0,  252,  252,    0,  252,  252,  252,  252,  252,    0, 
-            0,  447,    0,    0,    0,  789,  791,    0,    0,    0, 
-            0,  794,  795,    0,    0,  447,  447,    0,  447,    0, 
-          447,    0,  799,  245,    0,    0,    0,  803,    0,    0, 
-            0,  658,    0,  483,  484,  485,  486,   32,   32,   32, 
-            0,    0,  252,   32,   32,  252,   32,  252,  447,  789, 
-          791,  794,    0,    0,  482,  245,  483,  484,  485,  486, 
-            0,    0,    0,  252,  487,    0,    0,    0,   32,   32, 
-           32,   32,   32,    0,  491,  492,    0,    0,    0,  165, 
-          518,  165,  165,  165,  165,    0,    0,  487,  488,    0, 
-          518,    0,    0,    0,    0,  489,  490,  491,  492,    0, 
-            0,  449,    0,  860,    0,    0,    0,    0,  449,    0, 
-            0,    0,  165,  165,  863,    0,   32,  245,    0,    0, 
-          165,  165,  165,  165,  518,  175,    0,  175,  175,  175, 
-          175,    0,    0,    0,    0,    0,  863,   32,  518,  518, 
-            0,   90,    0,  518,    0,    0,    0,  451,  482,    0, 
-          483,  484,  485,  486,  451,    0,    0,    0,  175,  175, 
-          482,    0,  483,  484,  485,  486,  175,  175,  175,  175, 
-            0,  518,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  487,  591,    0,    0,    0,    0,  245,    0,  489, 
-          490,  491,  492,  487,    0,    0,    0,    0,    0,    0, 
-            0,  489,  490,  491,  492,    0,  160,    0,    0,    0, 
-            0,    0,    0,    0,  516,  516,  516,    0,  516,  447, 
-          447,  447,  516,  516,  447,  447,  447,  516,  447,  516, 
-          516,  516,  516,  516,  516,  516,  447,  516,  447,  447, 
-          516,  516,  516,  516,  516,  516,  516,  447,  447,  516, 
-          447,  447,  447,  447,  447,  160,  516,    0,    0,  516, 
-          516,  516,  447,  516,  516,  516,  516,  516,  516,  516, 
-          516,  516,  516,  516,  447,  447,  447,  447,  447,  447, 
-          447,  447,  447,  447,  447,  447,  447,  447,    0,    0, 
-          447,  447,  447,  516,  447,  447,  516,  516,  447,  516, 
-          516,  447,  516,  447,  516,  447,  516,  447,  516,  447, 
-          447,  447,  447,  447,  447,  447,  516,  447,  516,  447, 
-            0,  516,  516,  516,  516,  516,  516,    0,    0,  142, 
-          516,  447,  516,  516,    0,  516,  516,  518,  518,  518, 
-            0,  518,  518,  518,  518,  518,  518,  518,  518,  518, 
-          518,  518,  518,  518,  518,  518,  518,  518,  518,    0, 
-          518,  518,  518,  518,  518,  518,  518,  518,  518,  518, 
-          518,  518,  518,  518,  518,  518,  518,  518,  142,  518, 
-            0,    0,  518,  518,  518,  518,  518,  518,  518,  518, 
-          518,  518,  518,  518,  518,  518,  518,  518,  518,  518, 
-          518,  518,  518,  518,  518,  518,  518,  518,  518,  518, 
-          518,    0,    0,  518,  518,  518,  518,    0,  518,  518, 
-          518,  518,  518,  518,  518,  518,  518,  518,  518,  518, 
-          518,  518,  518,  518,  518,  518,  518,  518,  518,  518, 
-          518,  518,  518,    0,  518,  518,  518,  518,  518,  518, 
-          519,    0,  328,  518,  518,  518,  518,    0,  518,  518, 
-          519,    0,    0,    0,    0,    0,    0,    0,  341,  342, 
-            0,    0,    0,    0,    0,    0,    0,  775,    0,  483, 
-          484,  485,  486,  343,    0,  344,    0,  345,  346,  347, 
-          348,    0,    0,  351,  519,  352,    0,    0,    0,    0, 
-            0,    0,  160,    0,  160,  160,  160,  160,  519,  519, 
-          487,   92,    0,  519,    0,    0,    0,    0,  489,  490, 
-          491,  492,    0,    0,  452,    0,    0,    0,    0,    0, 
-            0,  452,    0,    0,    0,  160,  160,    0,    0,    0, 
-            0,  519,    0,  160,  160,  160,  160,    0,    0,    0, 
-          544,  545,    0,    0,  546,    0,    0,    0,  165,  166, 
-            0,  167,  168,  169,  170,  171,  172,  173,    0,    0, 
-          174,  175,    0,  522,    0,  176,  177,  178,  179,    0, 
-            0,    0,    0,  522,  258,    0,    0,    0,    0,    0, 
-            0,  181,  182,    0,  183,  184,  185,  186,  187,  188, 
-          189,  190,  191,  192,  193,    0,    0,  194,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  522,    0,    0, 
-            0,    0,    0,    0,    0,  142,    0,  142,  142,  142, 
-          142,  522,  522,    0,   91,    0,  522,    0,    0,  328, 
-          329,  330,  331,  332,  333,  334,  335,  454,  337,  338, 
-            0,    0,    0,    0,  454,  341,  342,    0,  142,  142, 
-            0,    0,    0,    0,  522,    0,  142,  142,  142,  142, 
-          343,    0,  344,    0,  345,  346,  347,  348,  349,  350, 
-          351,    0,  352,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  519,  519,  519, 
-            0,  519,  519,  519,  519,  519,  519,  519,  519,  519, 
-          519,  519,  519,  519,  519,  519,  519,  519,  519,    0, 
-          519,  519,  519,  519,  519,  519,  519,  519,  519,  519, 
-          519,  519,  519,  519,  519,  519,  519,  519,  262,  519, 
-            0,    0,  519,  519,  519,  519,  519,  519,  519,  519, 
-          519,  519,  519,  519,  519,  519,  519,  519,  519,  519, 
-          519,  519,  519,  519,  519,  519,  519,  519,  519,  519, 
-          519,    0,    0,  519,  519,  519,  519,    0,  519,  519, 
-          519,  519,  519,  519,  519,  519,  519,  519,  519,  519, 
-          519,  519,  519,  519,  519,  519,  519,  519,  519,  519, 
-          519,  519,  519,    0,  519,  519,  519,  519,  519,  519, 
-            0,    0,  143,  519,  519,  519,  519,    0,  519,  519, 
-          518,  518,  518,    0,  518,  522,  522,  522,  518,  518, 
-          522,  522,  522,  518,  522,  518,  518,  518,  518,  518, 
-          518,  518,    0,  522,  522,  522,  518,  518,  518,  518, 
-          518,  518,  518,  522,  522,  518,  522,  522,  522,  522, 
-          522,  143,  518,    0,    0,  518,  518,  518,  522,  518, 
-          518,  518,  518,  518,  518,  518,  518,  518,  518,  518, 
-          522,  522,  522,  522,  522,  522,  522,  522,  522,  522, 
-          522,  522,  522,  522,    0,    0,  522,  522,  522,  518, 
-            0,  522,  518,  518,  522,  518,  518,  522,  518,  522, 
-          518,  522,  518,  522,  518,  522,  522,  522,  522,  522, 
-          522,  522,  518,  522,  522,  522,    0,  518,  518,  518, 
-          518,  518,  518,  265,  328,    0,  518,  522,  518,  518, 
-            0,  518,  518,  265,  328,    0,    0,    0,    0,    0, 
-          341,  342,    0,    0,    0,    0,    0,    0,    0,    0, 
-          341,  342,    0,    0,    0,  343,    0,  344,    0,  345, 
-          346,  347,  348,    0,    0,  343,    0,  265,    0,  345, 
-          346,  347,  348,    0,    0,    4,    5,    6,    0,    8, 
-            0,  265,  265,    9,   10,    0,  265,    0,   11,    0, 
-           12,   13,   14,   99,  100,   17,   18,    0,    0,    0, 
-            0,  101,   20,   21,   22,   23,   24,   25,    0,    0, 
-          104,    0,    0,    0,  265,    0,    0,   28,    0,    0, 
-           31,   32,   33,    0,   34,   35,   36,   37,   38,   39, 
-          241,   40,   41,   42,   43,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  523,    0,    0,    0, 
-            0,    0,    0,    0,  217,    0,  523,  111,    0,    0, 
-           46,   47,    0,   48,    0,  242,    0,  243,    0,   50, 
-            0,    0,    0,    0,    0,    0,    0,  244,    0,    0, 
-            0,    0,   52,   53,   54,   55,   56,   57,    0,    0, 
-          523,   58,    0,   59,   60,    0,   61,   62,  143,    0, 
-          143,  143,  143,  143,  523,  523,    0,    0,    0,  523, 
-            0,    0,  328,  329,  330,  331,  332,  333,  334,    0, 
-          453,  337,  338,    0,    0,    0,    0,  453,  341,  342, 
-            0,  143,  143,    0,    0,    0,    0,  523,    0,  143, 
-          143,  143,  143,  343,    0,  344,    0,  345,  346,  347, 
-          348,  349,  350,  351,    0,  352,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          517,  517,  517,    0,  517,  265,  265,  265,  517,  517, 
-          265,  265,  265,  517,  265,  517,  517,  517,  517,  517, 
-          517,  517,    0,  517,  265,  265,  517,  517,  517,  517, 
-          517,  517,  517,  265,  265,  517,  265,  265,  265,  265, 
-          265,  262,  517,    0,    0,  517,  517,  517,  265,  517, 
-          517,  517,  517,  517,  517,  517,  517,  517,  517,  517, 
-          265,  265,  265,  265,  265,  265,  265,  265,  265,  265, 
-          265,  265,  265,  265,    0,    0,  265,  265,  265,  517, 
-            0,  265,  517,  517,  265,  517,  517,  265,  517,  265, 
-          517,  265,  517,  265,  517,  265,  265,  265,  265,  265, 
-          265,  265,  517,  265,  517,  265,    0,  517,  517,  517, 
-          517,  517,  517,    0,    0,  144,  517,  265,  517,  517, 
-            0,  517,  517,  520,  520,  520,    0,  520,  523,  523, 
-          523,  520,  520,  523,  523,  523,  520,  523,  520,  520, 
-          520,  520,  520,  520,  520,    0,  523,  523,  523,  520, 
-          520,  520,  520,  520,  520,  520,  523,  523,  520,  523, 
-          523,  523,  523,  523,  144,  520,    0,    0,  520,  520, 
-          520,  523,  520,  520,  520,  520,  520,  520,  520,  520, 
-          520,  520,  520,  523,  523,  523,  523,  523,  523,  523, 
-          523,  523,  523,  523,  523,  523,  523,    0,    0,  523, 
-          523,  523,  520,    0,  523,  520,  520,  523,  520,  520, 
-          523,  520,  523,  520,  523,  520,  523,  520,  523,  523, 
-          523,  523,  523,  523,  523,  520,  523,  523,  523,    0, 
-          520,  520,  520,  520,  520,  520,  524,    0,    0,  520, 
-          523,  520,  520,    0,  520,  520,  524,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          524,    0,    0,    0,    0,    0,    0,    0,    4,    5, 
-            6,    0,    8,    0,  524,  524,    9,   10,    0,  524, 
-            0,   11,    0,   12,   13,   14,   15,   16,   17,   18, 
-            0,    0,    0,    0,   19,   20,   21,   22,   23,   24, 
-           25,    0,    0,   26,    0,    0,    0,  524,    0,    0, 
-           28,    0,    0,   31,   32,   33,    0,   34,   35,   36, 
-           37,   38,   39,    0,   40,   41,   42,   43,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  270, 
-            0,    0,    0,    0,    0,    0,    0,  217,    0,  270, 
-          111,    0,    0,   46,   47,    0,   48,    0,    0,    0, 
-            0,    0,   50,    0,    0,    0,    0,    0,    0,    0, 
-           51,    0,    0,    0,    0,   52,   53,   54,   55,   56, 
-           57,    0,    0,  270,   58,    0,   59,   60,    0,   61, 
-           62,  144,    0,  144,  144,  144,  144,  270,  270,    0, 
-           93,    0,  270,    0,    0,  328,    0,    0,    0,    0, 
-          333,  334,    0,  455,    0,    0,    0,    0,    0,    0, 
-          455,  341,  342,    0,  144,  144,    0,    0,    0,    0, 
-          270,    0,  144,  144,  144,  144,  343,    0,  344,    0, 
-          345,  346,  347,  348,  349,  350,  351,    0,  352,    0, 
-            0,    0,    0,    0,    0,    0,    0,  541,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  541,    0,    0, 
-            0,    0,    0,  521,  521,  521,    0,  521,  524,  524, 
-          524,  521,  521,  524,  524,  524,  521,  524,  521,  521, 
-          521,  521,  521,  521,  521,    0,  524,  524,  524,  521, 
-          521,  521,  521,  521,  521,  521,  524,  524,  521,  524, 
-          524,  524,  524,  524,    0,  521,  541,  353,  521,  521, 
-          521,  524,  521,  521,  521,  521,  521,  521,  521,  521, 
-          521,  521,  521,  524,  524,  524,  524,  524,  524,  524, 
-          524,  524,  524,  524,  524,  524,  524,    0,    0,  524, 
-          524,  524,  521,    0,  524,  521,  521,  524,  521,  521, 
-          524,  521,  524,  521,  524,  521,  524,  521,  524,  524, 
-          524,  524,  524,  524,  524,  521,  524,  524,  524,    0, 
-          521,  521,  521,  521,  521,  521,    0,    0,    0,  521, 
-          524,  521,  521,   84,  521,  521,  519,  519,  519,    0, 
-          519,  270,  270,  270,  519,  519,  270,  270,  270,  519, 
-          270,  519,  519,  519,  519,  519,  519,  519,    0,    0, 
-          270,  270,  519,  519,  519,  519,  519,  519,  519,  270, 
-          270,  519,  270,  270,  270,  270,  270,    0,  519,    0, 
-          519,  519,  519,  519,  270,  519,  519,  519,  519,  519, 
-          519,  519,  519,  519,  519,  519,  270,  270,  270,  270, 
-          270,  270,  270,  270,  270,  270,  270,  270,  270,  270, 
-            0,    0,  270,  270,  270,  519,    0,  270,  519,  519, 
-          270,  519,  519,  270,  519,  270,  519,  270,  519,  270, 
-          519,  270,  270,  270,  270,  270,  270,  270,  519,  270, 
-          383,  270,    0,  519,  519,  519,  519,  519,  519,    0, 
-          383,    0,  519,  270,  519,  519,    0,  519,  519,  541, 
-          541,  541,    0,    0,  541,  541,  541,    0,  541,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  541,  541, 
-            0,    0,    0,    0,  383,    0,    0,  541,  541,    0, 
-          541,  541,  541,  541,  541,    0,    0,    0,    0,  383, 
-            0,    0,    0,  383,    0,    0,    0,    0,    0,    0, 
-            0,  328,  329,  330,  331,  332,  333,  334,  335,  336, 
-          337,  338,    0,  339,  340,    0,    0,  341,  342,    0, 
-            0,  383,    0,    0,    0,    0,    0,    0,  541,    0, 
-            0,  541,  343,  541,  344,    0,  345,  346,  347,  348, 
-          349,  350,  351,    0,  352,    0,    0,    0,    0,  541, 
-            0,    0,    0,  540,    0,    0,    0,    0,   92,  519, 
-            0,    0,    0,  540,    0,  328,  329,  330,  331,  332, 
-          333,  334,  335,  336,  337,  338,    0,    0,    0,    0, 
-            0,  341,  342,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  343,  540,  344,    0, 
-          345,  346,  347,  348,  349,  350,  351,  519,  352,    0, 
-            0,    0,  540,    0,  519,    0,  540,    0,    0,  519, 
-            0,  550,  551,    0,    0,  552,    0,    0,    0,  165, 
-          166,    0,  167,  168,  169,  170,  171,  172,  173,    0, 
-          519,  174,  175,    0,  540,    0,  176,  177,  178,  179, 
-            0,    0,    0,    0,    0,  258,    0,    0,    0,    0, 
-          101,    0,  181,  182,    0,  183,  184,  185,  186,  187, 
-          188,  189,  190,  191,  192,  193,   34,    0,  194,    0, 
-            0,    0,    0,    0,    0,    0,   34,  244,  244,  244, 
-            0,  244,  383,  383,  383,  244,  244,  383,  383,  383, 
-          244,  383,  244,  244,  244,  244,  244,  244,  244,  101, 
-          383,  383,  383,  244,  244,  244,  244,  244,  244,  244, 
-          383,  383,  244,  383,  383,  383,  383,  383,    0,  244, 
-            0,    0,  244,  244,  244,   34,  244,  244,  244,  244, 
-          244,  244,  244,  244,  244,  244,  244,  383,  383,  383, 
-          383,  383,  383,  383,  383,  383,  383,  383,  383,  383, 
-          383,    0,    0,  383,  383,  383,  244,    0,  383,  244, 
-          353,  383,  244,  244,  383,  244,  383,  244,  383,  244, 
-          383,  244,  383,  383,  383,  383,  383,  383,  383,  244, 
-          383,  383,  383,    0,  244,  244,  244,  244,  244,  244, 
-            0,    0,  102,  244,    0,  244,  244,    0,  244,  244, 
-          244,  244,  244,    0,  244,  540,  540,  540,  244,  244, 
-          540,  540,  540,  244,  540,  244,  244,  244,  244,  244, 
-          244,  244,    0,  540,  540,  540,  244,  244,  244,  244, 
-          244,  244,  244,  540,  540,  244,  540,  540,  540,  540, 
-          540,  102,  244,    0,    0,  244,  244,  244,    0,  244, 
-          244,  244,  244,  244,  244,  244,  244,  244,  244,  244, 
-          540,  540,  540,  540,  540,  540,  540,  540,  540,  540, 
-          540,  540,  540,  540,    0,    0,  540,  540,  540,  244, 
-            0,  540,  244,    0,  540,  244,  244,  540,  244,  540, 
-          244,  540,  244,  540,  244,  540,  540,  540,  540,  540, 
-          540,  540,  244,  540,  540,  540,    0,  244,  244,  244, 
-          244,  244,  244,  277,    0,    0,  244,    0,  244,  244, 
-            0,  244,  244,  277,    0,    0,    0,    0,   34,   34, 
-           34,    0,    0,    0,   34,   34,    0,   34,    0,    0, 
-            0,    0,    0,    0,    0,    0,  101,    0,  101,  101, 
-          101,  101,    0,    0,    0,    0,    0,  277,    0,   34, 
-           34,   34,   34,   34,    0,    0,    0,    0,  444,    0, 
-            0,    0,  277,    0,    0,  444,  277,    0,    0,  101, 
-          101,    0,    0,    0,    0,    0,    0,  101,  101,  101, 
-          101,    0,    0,    0,  705,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  277,    0,    0,   34,    0,    0, 
-            0,    0,    0,    0,  328,  329,  330,  331,  332,  333, 
-          334,  335,  336,  337,  338,    0,  339,  340,   34,    0, 
-          341,  342,    0,    0,    0,    0,  518,    0,    0,    0, 
-            0,    0,    0,    0,    0,  343,  518,  344,    0,  345, 
-          346,  347,  348,  349,  350,  351,    0,  352,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-           82,    0,    0,    0,    0,    0,    0,    0,  102,    0, 
-          102,  102,  102,  102,    0,  518,    0,   90,    0,  518, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          447,   86,    0,    0,    0,    0,    0,  447,    0,    0, 
-            0,  102,  102,    0,    0,    0,    0,  518,    0,  102, 
-          102,  102,  102,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,   86,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0, 
-      };
+      return tables[1];
    }
-
-   private static final short[] yyTable2() {
-      return new short[] {
-
-            0,    0,   14,    0,    0,   86,    0,    0,    0,    0, 
-            0,    0,   14,  244,  244,  244,    0,  244,  277,  277, 
-          277,  244,  244,  277,  277,  277,  244,  277,  244,  244, 
-          244,  244,  244,  244,  244,  271,    0,  277,  277,  244, 
-          244,  244,  244,  244,  244,  244,  277,  277,  244,  277, 
-          277,  277,  277,  277,    0,  244,    0,    0,  244,  244, 
-          244,   14,  244,  244,  244,  244,  244,  244,  244,  244, 
-          244,  244,  244,  277,  277,  277,  277,  277,  277,  277, 
-          277,  277,  277,  277,  277,  277,  277,    0,    0,  277, 
-          277,  277,  244,    0,  277,  244,    0,  277,  244,  244, 
-          277,  244,  277,  244,  277,  244,  277,  244,  277,  277, 
-          277,  277,  277,  277,  277,  244,  277,    0,  277,    0, 
-          244,  244,  244,  244,  244,  244,    0,    0,    0,  244, 
-           83,  244,  244,    0,  244,  244,  518,  518,  518,    0, 
-          518,  518,  518,  518,  518,  518,    0,  518,  518,  518, 
-          518,  518,  518,  518,  518,  518,  518,  518,    0,  518, 
-            0,    0,  518,  518,  518,  518,  518,  518,  518,  518, 
-          518,  518,  518,  518,  518,  518,  518,  522,  518,    0, 
-            0,  518,  518,  518,    0,  518,  518,  518,  518,  518, 
-          518,  518,  518,  518,  518,  518,  518,  518,  518,  518, 
-          518,  518,  518,  518,  518,  518,  518,  518,  518,  518, 
-            0,    0,  518,  518,  518,  518,    0,    0,  518,  518, 
-          518,  518,  518,   86,  518,    0,  518,  518,  518,  518, 
-          518,  518,  518,  518,  518,  518,  518,  518,  518,  518, 
-          518,  518,    0,  518,  518,  518,  518,  518,  518,  519, 
-            0,    0,  518,    0,  518,  518,    0,  518,  518,  519, 
-            0,    0,    0,    0,   14,   14,   14,    0,    0,    0, 
-           14,   14,  271,   14,    0,    0,    0,    0,    0,  271, 
-            0,    0,    0,    0,    0,   86,    0,    0,    0,    0, 
-            0,    0,    0,   84,    0,   14,   14,   14,   14,   14, 
-            0,    0,    0,    0,    0,  558,  545,    0,  519,  559, 
-           92,    0,  519,  165,  166,    0,  167,  168,  169,  170, 
-          171,  172,  173,    0,    0,  174,  175,    0,    0,    0, 
-          176,  177,  178,  179,    0,    0,    0,    0,    0,  258, 
-          519,    0,    0,   14,    0,    0,  181,  182,    0,  183, 
-          184,  185,  186,  187,  188,  189,  190,  191,  192,  193, 
-            0,    0,  194,    0,   14,   91,  522,    0,    0,    0, 
-            0,    0,  522,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  522,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  522,    0,   83,    0,    0,    0, 
-            0,  522,    0,    0,    0,    0,  518,    0,  584,  551, 
-            0,  522,  585,   91,    0,  522,  165,  166,    0,  167, 
-          168,  169,  170,  171,  172,  173,    0,  522,  174,  175, 
-            0,    0,    0,  176,  177,  178,  179,    0,    0,    0, 
-            0,    0,  258,  522,    0,    0,    0,    0,    0,  181, 
-          182,    0,  183,  184,  185,  186,  187,  188,  189,  190, 
-          191,  192,  193,    0,    0,  194,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  519,  519,  519,    0, 
-          519,  519,  519,  519,  519,  519,    0,  519,  519,  519, 
-          519,  519,  519,  519,  519,  519,  519,  519,    0,  519, 
-            0,    0,  519,  519,  519,  519,  519,  519,  519,  519, 
-          519,  519,  519,  519,  519,  519,  519,    0,  519,  289, 
-            0,  519,  519,  519,    0,  519,  519,  519,  519,  519, 
-          519,  519,  519,  519,  519,  519,  519,  519,  519,  519, 
-          519,  519,  519,  519,  519,  519,  519,  519,  519,  519, 
-            0,    0,  519,  519,  519,  519,    0,    0,  519,  519, 
-          519,  519,  519,    0,  519,    0,  519,  519,  519,  519, 
-          519,  519,  519,  519,  519,  519,  519,  519,  519,  519, 
-          519,  519,    0,  519,  519,  519,  519,  519,  519,    0, 
-            0,    0,  519,    0,  519,  519,    0,  519,  519,  518, 
-          518,  518,    0,  518,  522,  522,  522,  518,  518,    0, 
-          522,  522,  518,  522,  518,  518,  518,  518,  518,  518, 
-          518,  353,  522,    0,    0,  518,  518,  518,  518,  518, 
-          518,  518,  522,  522,  518,  522,  522,  522,  522,  522, 
-            0,  518,    0,    0,  518,  518,  518,    0,  518,  518, 
-          518,  518,  518,  518,  518,  518,  518,  518,  518,  522, 
-          522,  522,  522,  522,  522,  522,  522,  522,  522,  522, 
-          522,  522,  522,    0,    0,  522,  522,  522,  518,    0, 
-            0,  518,  518,  522,  518,  518,    0,  518,    0,  518, 
-          522,  518,  522,  518,  522,  522,  522,  522,  522,  522, 
-          522,  518,  522,  522,  522,    0,  518,  518,  518,  518, 
-          518,  518,  270,    0,    0,  518,    0,  518,  518,    0, 
-          518,  518,  270,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    4,    5,    6,    0,    8,    0,    0,    0, 
-            9,   10,    0,    0,    0,   11,    0,   12,   13,   14, 
-           99,  100,   17,   18,    0,    0,   85,    0,  101,  102, 
-          103,   22,   23,   24,   25,    0,    0,  104,    0,    0, 
-            0,  270,    0,   93,  105,  270,    0,   31,   32,   33, 
-            0,   34,   35,   36,   37,   38,   39,    0,   40,    0, 
-            0,  108,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  270,    0,    0,    0,    0,    0,    0, 
-            0,  288,    0,    0,  111,    0,    0,   46,   47,    0, 
-           48,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  540,    0,    0,    0,   52, 
-           53,   54,   55,   56,   57,  540,    0,    0,   58,    0, 
-           59,   60,    0,   61,   62,  710,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  328,  329,  330,  331,  332, 
-          333,  334,  335,  336,  337,  338,    0,  339,  340,    0, 
-            0,  341,  342,    0,  540,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  343,    0,  344,    0, 
-          345,  346,  347,  348,  349,  350,  351,    0,  352,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  519, 
-          519,  519,    0,  519,  270,  270,  270,  519,  519,    0, 
-          270,  270,  519,  270,  519,  519,  519,  519,  519,  519, 
-          519,    0,    0,    0,    0,  519,  519,  519,  519,  519, 
-          519,  519,  270,  270,  519,  270,  270,  270,  270,  270, 
-            0,  519,    0,    0,  519,  519,  519,  571,  519,  519, 
-          519,  519,  519,  519,  519,  519,  519,  519,  519,  270, 
-          270,  270,  270,  270,  270,  270,  270,  270,  270,  270, 
-          270,  270,  270,    0,    0,  270,  270,  270,  519,    0, 
-            0,  519,  519,  270,  519,  519,    0,  519,    0,  519, 
-          270,  519,  270,  519,  270,  270,  270,  270,  270,  270, 
-          270,  519,  270,    0,  270,    0,  519,  519,  519,  519, 
-          519,  519,    0,    0,    0,  519,    0,  519,  519,    0, 
-          519,  519,  244,  244,  244,    0,  244,  540,  540,  540, 
-          244,  244,  540,  540,  540,  244,  540,  244,  244,  244, 
-          244,  244,  244,  244,    0,    0,  540,    0,  244,  244, 
-          244,  244,  244,  244,  244,  540,  540,  244,  540,  540, 
-          540,  540,  540,    0,  244,    0,    0,  244,  244,  244, 
-            0,  244,  244,  244,  244,  244,  244,  244,  244,  244, 
-          244,  244,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  384,  540,    0,    0,    0,    0,    0,    0, 
-          540,  244,  384,    0,  244,    0,  540,  244,  244,    0, 
-          244,    0,  244,    0,  244,    0,  244,    0,    0,    0, 
-            0,    0,    0,    0,  244,    0,    0,  540,    0,  244, 
-          244,  244,  244,  244,  244,    0,  384,    0,  244,    0, 
-          244,  244,    0,  244,  244,    0,    0,    0,    0,    0, 
-          384,  384,    0,   89,    0,  384,    0,    0,    0,    0, 
-            4,    5,    6,    0,    8,    0,    0,    0,    9,   10, 
-            0,    0,    0,   11,    0,   12,   13,   14,   99,  100, 
-           17,   18,    0,  384,    0,    0,  101,  102,  103,   22, 
-           23,   24,   25,  383,    0,  104,    0,    0,    0,    0, 
-            0,    0,  105,  383,    0,   31,   32,   33,    0,   34, 
-           35,   36,   37,   38,   39,    0,   40,    0,    0,  108, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  383,    0,  288, 
-            0,    0,  111,    0,    0,   46,   47,    0,   48,    0, 
-            0,  383,  383,    0,    0,    0,  383,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,   52,   53,   54, 
-           55,   56,   57,    0,    0,    0,   58,    0,   59,   60, 
-            0,   61,   62,    0,  383,  605,  545,    0,    0,  606, 
-            0,    0,    0,  165,  166,    0,  167,  168,  169,  170, 
-          171,  172,  173,    0,    0,  174,  175,  456,    0,    0, 
-          176,  177,  178,  179,    0,    0,    0,  456,    0,  258, 
-            0,    0,    0,    0,    0,    0,  181,  182,    0,  183, 
-          184,  185,  186,  187,  188,  189,  190,  191,  192,  193, 
-            0,    0,  194,    0,    0,    0,    0,    0,    0,    0, 
-            0,  456,    0,    0,  384,  384,  384,    0,    0,  384, 
-          384,  384,    0,  384,    0,  456,  456,    0,   88,    0, 
-          456,    0,  384,  384,  384,    0,    0,    0,    0,    0, 
-            0,    0,  384,  384,    0,  384,  384,  384,  384,  384, 
-            0,    0,    0,    0,    0,    0,    0,  384,  456,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  384, 
-          384,  384,  384,  384,  384,  384,  384,  384,  384,  384, 
-          384,  384,  384,    0,    0,  384,  384,  384,    0,    0, 
-          384,    0,    0,  384,    0,    0,  384,    0,  384,    0, 
-          384,  540,  384,    0,  384,  384,  384,  384,  384,  384, 
-          384,  540,  384,  384,  384,  383,  383,  383,    0,    0, 
-          383,  383,  383,    0,  383,    0,  384,    0,    0,    0, 
-            0,    0,    0,  383,  383,  383,    0,    0,    0,    0, 
-            0,    0,    0,  383,  383,  540,  383,  383,  383,  383, 
-          383,    0,    0,    0,    0,    0,    0,    0,  383,  540, 
-          540,    0,    0,    0,  540,    0,    0,    0,    0,    0, 
-          383,  383,  383,  383,  383,  383,  383,  383,  383,  383, 
-          383,  383,  383,  383,    0,    0,  383,  383,  383,    0, 
-            0,  383,  540,    0,  383,    0,    0,  383,    0,  383, 
-            0,  383,    0,  383,    0,  383,  383,  383,  383,  383, 
-          383,  383,    0,  383,  383,  383,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  383,  764,  456, 
-          456,  456,    0,    0,  456,  456,  456,  774,  456,    0, 
-          778,    0,    0,    0,    0,    0,    0,    0,  456,  456, 
-            0,    0,    0,    0,    0,    0,    0,  456,  456,    0, 
-          456,  456,  456,  456,  456,    0,    0,    0,    0,    0, 
-            0,    0,  456,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  456,  456,  456,  456,  456,  456, 
-          456,  456,  456,  456,  456,  456,  456,  456,    0,  264, 
-          456,  456,  456,    0,  457,  456,    0,    0,  456,  264, 
-            0,  456,    0,  456,    0,  456,    0,  456,    0,  456, 
-          456,  456,  456,  456,  456,  456,    0,  456,    0,  456, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  456,    0,  264,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  264,  264,    0, 
-           95,    0,  264,  540,  540,  540,    0,    0,  540,  540, 
-          540,    0,  540,    0,    0,    0,    0,    0,    0,    0, 
-            0,  540,  540,  540,    0,    0,    0,    0,    0,    0, 
-          264,  540,  540,    0,  540,  540,  540,  540,  540,    0, 
-            0,  885,    0,  887,    0,  888,  540,    0,    0,  891, 
-            0,    0,    0,    0,  896,    0,    0,    0,  540,  540, 
-          540,  540,  540,  540,  540,  540,  540,  540,  540,  540, 
-          540,  540,    0,  271,  540,  540,  540,    0,    0,  540, 
-            0,    0,  540,  271,    0,  540,    0,  540,    0,  540, 
-            0,  540,    0,  540,  540,  540,  540,  540,  540,  540, 
-            0,  540,  540,  540,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  932,    0,  540,    0,  271,    0,    0, 
-          935,    0,  937,    0,  938,    0,    0,    0,    0,    0, 
-            0,  271,  271,    0,   94,    0,  271,    0,    0,    0, 
-            0,  945,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  271,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  404,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  404,    0,    0, 
-            0,  264,  264,  264,    0,    0,  264,  264,  264,    0, 
-          264,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          264,  264,    0,    0,    0,    0,    0,    0,    0,  264, 
-          264,  404,  264,  264,  264,  264,  264,    0,    0,    0, 
-            0,    0,    0,    0,  264,  404,  404,    0,    0,    0, 
-          404,    0,    0,    0,    0,    0,  264,  264,  264,  264, 
-          264,  264,  264,  264,  264,  264,  264,  264,  264,  264, 
-            0,    0,  264,  264,  264,    0,    0,  264,  404,    0, 
-          264,    0,    0,  264,    0,  264,    0,  264,  282,  264, 
-            0,  264,  264,  264,  264,  264,  264,  264,  282,  264, 
-            0,  264,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  264,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  282,    0,    0,  271,  271,  271,    0,    0, 
-          271,  271,  271,    0,  271,    0,  282,  282,    0,    0, 
-            0,  282,    0,    0,  271,  271,    0,    0,    0,    0, 
-            0,    0,    0,  271,  271,    0,  271,  271,  271,  271, 
-          271,    0,    0,    0,    0,    0,    0,    0,  271,  282, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          271,  271,  271,  271,  271,  271,  271,  271,  271,  271, 
-          271,  271,  271,  271,    0,    0,  271,  271,  271,    0, 
-            0,  271,    0,    0,  271,    0,    0,  271,    0,  271, 
-            0,  271,    0,  271,    0,  271,  271,  271,  271,  271, 
-          271,  271,  228,  271,    0,  271,    0,    0,    0,    0, 
-            0,    0,  228,    0,    0,    0,    0,  271,    0,  404, 
-          404,  404,    0,    0,  404,  404,  404,    0,  404,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  404,  404, 
-            0,    0,    0,    0,    0,    0,  228,  404,  404,    0, 
-          404,  404,  404,  404,  404,    0,    0,    0,    0,    0, 
-          228,  228,  404,    0,    0,  228,    0,    0,    0,    0, 
-            0,    0,    0,    0,  404,  404,  404,  404,  404,  404, 
-          404,  404,  404,  404,  404,  404,  404,  404,    0,    0, 
-          404,  404,  404,  314,    0,  404,    0,    0,  404,    0, 
-            0,  404,    0,  404,    0,  404,  277,  404,    0,  404, 
-          404,  404,  404,  404,  404,  404,  277,  404,    0,  404, 
-          282,  282,  282,    0,    0,  282,  282,  282,    0,  282, 
-            0,  404,    0,    0,    0,    0,    0,    0,    0,  282, 
-          282,    0,    0,    0,    0,    0,    0,    0,  282,  282, 
-          277,  282,  282,  282,  282,  282,    0,    0,    0,    0, 
-            0,    0,    0,  282,  277,  277,    0,    0,    0,  277, 
-            0,    0,    0,    0,    0,  282,  282,  282,  282,  282, 
-          282,  282,  282,  282,  282,  282,  282,  282,  282,    0, 
-            0,  282,  282,  282,    0,    0,  282,  277,    0,  282, 
-            0,    0,  282,    0,  282,    0,  282,    0,  282,    0, 
-          282,  282,  282,  282,  282,  282,  282,    0,  282,  442, 
-          282,    0,    0,    0,    0,    0,    0,    0,    0,  442, 
-            0,    0,  282,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  442,  228,  228,  228,    0,    0,  228, 
-          228,  228,    0,  228,    0,    0,    0,  442,  442,    0, 
-            0,    0,  442,  228,  228,    0,    0,    0,    0,    0, 
-            0,    0,  228,  228,    0,  228,  228,  228,  228,  228, 
-            0,    0,    0,    0,    0,    0,    0,  228,    0,    0, 
-          442,    0,    0,    0,    0,    0,    0,    0,    0,  228, 
-          228,  228,  228,  228,  228,  228,  228,  228,  228,  228, 
-          314,  228,  228,    0,    0,  228,  228,  314,    0,    0, 
-          228,    0,    0,  228,    0,    0,  228,    0,  228,    0, 
-          228,  443,  228,    0,  228,  228,  228,  228,  228,  228, 
-          228,  443,  228,    0,  228,    0,    0,    0,  277,  277, 
-          277,    0,    0,  277,  277,  277,  228,  277,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  277,  277,    0, 
-            0,    0,    0,    0,    0,  443,  277,  277,    0,  277, 
-          277,  277,  277,  277,    0,    0,    0,    0,    0,  443, 
-          443,  277,    0,    0,  443,    0,    0,    0,    0,    0, 
-            0,    0,    0,  277,  277,  277,  277,  277,  277,  277, 
-          277,  277,  277,  277,  277,  277,  277,    0,    0,  277, 
-          277,  277,  443,    0,  277,    0,    0,  277,    0,    0, 
-          277,    0,  277,    0,  277,    0,  277,    0,  277,  277, 
-          277,  277,  277,  277,  277,    0,  277,  206,  277,    0, 
-            0,    0,    0,    0,    0,    0,    0,  206,    0,    0, 
-          277,  442,  442,  442,    0,    0,  442,  442,  442,    0, 
-          442,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          442,  442,    0,    0,    0,    0,    0,    0,    0,  442, 
-          442,  206,  442,  442,  442,  442,  442,    0,    0,    0, 
-            0,    0,    0,    0,  442,  206,  206,    0,    0,    0, 
-          206,    0,    0,    0,    0,    0,    0,  442,  442,  442, 
-          442,  442,  442,  442,  442,  442,  442,  442,  442,  442, 
-            0,    0,  442,  442,  442,    0,    0,  442,    0,    0, 
-          442,    0,    0,  442,    0,  442,    0,  442,  202,  442, 
-            0,  442,  442,  442,  442,  442,  442,  442,  202,  442, 
-            0,  442,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  442,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  202,  443,  443,  443,    0,    0,  443,  443, 
-          443,    0,  443,    0,    0,    0,  202,  202,    0,    0, 
-            0,  202,  443,  443,    0,    0,    0,    0,    0,    0, 
-            0,  443,  443,    0,  443,  443,  443,  443,  443,    0, 
-            0,    0,    0,    0,    0,    0,  443,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  443, 
-          443,  443,  443,  443,  443,  443,  443,  443,  443,  443, 
-          443,  443,    0,  199,  443,  443,  443,    0,    0,  443, 
-            0,    0,  443,  199,    0,  443,    0,  443,    0,  443, 
-            0,  443,    0,  443,  443,  443,  443,  443,  443,  443, 
-            0,  443,    0,  443,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  443,    0,  199,    0,  206, 
-          206,  206,    0,    0,  206,  206,  206,    0,  206,    0, 
-            0,  199,  199,    0,    0,    0,  199,    0,  206,  206, 
-            0,    0,    0,    0,    0,    0,    0,  206,  206,    0, 
-          206,  206,  206,  206,  206,    0,    0,    0,    0,    0, 
-            0,    0,  206,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  206,  206,  206,  206,  206, 
-          206,  206,  206,  206,  206,    0,  206,  206,    0,    0, 
-          206,  206,    0,    0,    0,  206,    0,    0,  206,    0, 
-            0,  206,    0,  206,    0,  206,  201,  206,    0,  206, 
-          206,  206,  206,  206,  206,  206,  201,  206,    0,  206, 
-          202,  202,  202,    0,    0,  202,  202,  202,    0,  202, 
-            0,  206,    0,    0,    0,    0,    0,    0,    0,  202, 
-          202,    0,    0,    0,    0,    0,    0,    0,  202,  202, 
-          201,  202,  202,  202,  202,  202,    0,    0,    0,    0, 
-            0,    0,    0,  202,  201,  201,    0,    0,    0,  201, 
-            0,    0,    0,    0,    0,    0,  202,  202,  202,  202, 
-          202,  202,  202,  202,  202,  202,    0,  202,  202,    0, 
-            0,  202,  202,    0,    0,    0,  202,    0,    0,  202, 
-            0,    0,  202,    0,  202,    0,  202,    0,  202,    0, 
-          202,  202,  202,  202,  202,  202,  202,    0,  202,    0, 
-          202,  200,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  200,  202,    0,    0,  199,  199,  199,    0,    0, 
-          199,  199,  199,    0,  199,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  199,  199,    0,    0,    0,    0, 
-            0,    0,    0,  199,  199,  200,  199,  199,  199,  199, 
-          199,    0,    0,    0,    0,    0,    0,    0,  199,  200, 
-          200,    0,    0,    0,  200,    0,    0,    0,    0,    0, 
-            0,  199,  199,  199,  199,  199,  199,  199,  199,  199, 
-          199,    0,  199,  199,    0,    0,  199,  199,    0,    0, 
-            0,  199,    0,    0,  199,    0,    0,  199,    0,  199, 
-            0,  199,  203,  199,    0,  199,  199,  199,  199,  199, 
-          199,  199,  203,  199,    0,  199,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  199,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  203,    0,  201,  201, 
-          201,    0,    0,  201,  201,  201,    0,  201,    0,    0, 
-          203,  203,    0,    0,    0,  203,    0,  201,  201,    0, 
-            0,    0,    0,    0,    0,    0,  201,  201,    0,  201, 
-          201,  201,  201,  201,    0,    0,    0,    0,    0,    0, 
-            0,  201,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  201,  201,  201,  201,  201,  201, 
-          201,  201,  201,  201,    0,  201,  201,    0,  204,  201, 
-          201,    0,    0,    0,  201,    0,    0,  201,  204,    0, 
-          201,    0,  201,    0,  201,    0,  201,    0,  201,  201, 
-          201,  201,  201,  201,  201,    0,  201,    0,  201,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          201,    0,  204,  200,  200,  200,    0,    0,  200,  200, 
-          200,    0,  200,    0,    0,    0,  204,  204,    0,    0, 
-            0,  204,  200,  200,    0,    0,    0,    0,    0,    0, 
-            0,  200,  200,    0,  200,  200,  200,  200,  200,    0, 
-            0,    0,    0,    0,    0,    0,  200,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  200, 
-          200,  200,  200,  200,  200,  200,  200,  200,  200,    0, 
-          200,  200,    0,    0,  200,  200,    0,    0,    0,  200, 
-            0,    0,  200,    0,    0,  200,    0,  200,    0,  200, 
-          197,  200,    0,  200,  200,  200,  200,  200,  200,  200, 
-          197,  200,    0,  200,  203,  203,  203,    0,    0,  203, 
-          203,  203,    0,  203,    0,  200,    0,    0,    0,    0, 
-            0,    0,    0,  203,  203,    0,    0,    0,    0,    0, 
-            0,    0,  203,  203,  197,  203,  203,  203,  203,  203, 
-            0,    0,    0,    0,    0,    0,    0,  203,  197,  197, 
-            0,    0,    0,  197,    0,    0,    0,    0,    0,    0, 
-          203,  203,  203,  203,  203,  203,  203,  203,  203,  203, 
-            0,  203,  203,    0,    0,  203,  203,    0,    0,    0, 
-          203,    0,    0,  203,    0,    0,  203,    0,  203,    0, 
-          203,    0,  203,    0,  203,  203,  203,  203,  203,  203, 
-          203,    0,  203,  198,  203,    0,    0,    0,    0,    0, 
-            0,    0,    0,  198,    0,    0,  203,    0,    0,    0, 
-          204,  204,  204,    0,    0,  204,  204,  204,    0,  204, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  204, 
-          204,    0,    0,    0,    0,    0,    0,  198,  204,  204, 
-            0,  204,  204,  204,  204,  204,    0,    0,    0,    0, 
-            0,  198,  198,  204,    0,    0,  198,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  204,  204,  204,  204, 
-          204,  204,  204,  204,  204,  204,    0,  204,  204,    0, 
-            0,  204,  204,    0,    0,    0,  204,    0,    0,  204, 
-            0,    0,  204,    0,  204,    0,  204,  222,  204,    0, 
-          204,  204,  204,  204,  204,  204,  204,  222,  204,    0, 
-          204,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  204,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  222,  197,  197,  197,    0,    0,  197,  197,  197, 
-            0,  197,    0,    0,    0,  222,  222,    0,    0,    0, 
-          222,  197,  197,    0,    0,    0,    0,    0,    0,    0, 
-          197,  197,    0,  197,  197,  197,  197,  197,    0,    0, 
-            0,    0,    0,    0,    0,  197,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  197,  197, 
-          197,  197,  197,  197,  197,  197,  197,  197,    0,  197, 
-          197,    0,    0,  197,  197,    0,    0,    0,  197,  223, 
-            0,  197,    0,    0,  197,    0,  197,    0,    0,  223, 
-          197,    0,    0,    0,  197,  197,  197,  197,  197,    0, 
-          197,    0,  197,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  197,  198,  198,  198,    0,    0, 
-          198,  198,  198,  223,  198,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  198,  198,    0,  223,  223,    0, 
-            0,    0,  223,  198,  198,    0,  198,  198,  198,  198, 
-          198,    0,    0,    0,    0,    0,    0,    0,  198,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  198,  198,  198,  198,  198,  198,  198,  198,  198, 
-          198,    0,  198,  198,    0,    0,  198,  198,    0,    0, 
-            0,  198,    0,    0,  198,    0,    0,  198,    0,  198, 
-            0,    0,  209,  198,    0,    0,    0,  198,  198,  198, 
-          198,  198,  209,  198,    0,  198,    0,    0,    0,  222, 
-          222,  222,    0,    0,  222,  222,  222,  198,  222,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  222,  222, 
-            0,    0,    0,    0,    0,    0,  209,  222,  222,    0, 
-          222,  222,  222,  222,  222,    0,    0,    0,    0,    0, 
-          209,  209,  222,    0,    0,  209,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  222,  222,  222,  222,  222, 
-          222,  222,  222,  222,  222,    0,  222,  222,    0,    0, 
-          222,  222,    0,    0,    0,  222,    0,    0,  222,    0, 
-            0,  222,    0,  222,    0,    0,    0,  222,    0,    0, 
-            0,    0,    0,  222,  222,  222,    0,  222,    0,  222, 
-          207,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          207,  222,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  223,  223,  223,    0,    0,  223,  223,  223,    0, 
-          223,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          223,  223,    0,    0,  207,    0,    0,    0,    0,  223, 
-          223,    0,  223,  223,  223,  223,  223,    0,  207,  207, 
-            0,    0,    0,  207,  223,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  223,  223,  223, 
-          223,  223,  223,  223,  223,  223,  223,    0,  223,  223, 
-            0,    0,  223,  223,    0,    0,    0,  223,    0,    0, 
-          223,    0,    0,  223,    0,  223,    0,    0,  208,  223, 
-            0,    0,    0,    0,    0,  223,  223,  223,  208,  223, 
-            0,  223,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  223,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  209,  209,  209,    0,    0,  209, 
-          209,  209,  208,  209,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  209,  209,    0,  208,  208,    0,    0, 
-            0,  208,  209,  209,    0,  209,  209,  209,  209,  209, 
-            0,    0,    0,    0,    0,    0,    0,  209,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          209,  209,  209,  209,  209,  209,  209,  209,  209,  209, 
-            0,  209,  209,    0,    0,    0,    0,  212,    0,    0, 
-          209,    0,    0,  209,    0,    0,  209,  212,  209,    0, 
-            0,    0,  209,    0,    0,    0,    0,    0,  209,  209, 
-          209,    0,  209,    0,  209,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  209,    0,    0,    0, 
-            0,  212,  207,  207,  207,    0,    0,  207,  207,  207, 
-            0,  207,    0,    0,    0,  212,  212,    0,    0,    0, 
-          212,  207,  207,    0,    0,    0,    0,    0,    0,    0, 
-          207,  207,    0,  207,  207,  207,  207,  207,    0,    0, 
-            0,    0,    0,    0,    0,  207,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  207,  207, 
-          207,  207,  207,  207,  207,  207,  207,  207,    0,  207, 
-          207,    0,    0,    0,    0,    0,    0,  214,  207,    0, 
-            0,  207,    0,    0,  207,    0,  207,  214,    0,    0, 
-            0,    0,    0,    0,    0,    0,  207,  207,  207,    0, 
-          207,    0,  207,    0,    0,    0,    0,    0,    0,    0, 
-          208,  208,  208,    0,  207,  208,  208,  208,    0,  208, 
-            0,  214,    0,    0,    0,    0,    0,    0,    0,  208, 
-          208,    0,    0,    0,    0,  214,  214,    0,  208,  208, 
-          214,  208,  208,  208,  208,  208,    0,    0,    0,    0, 
-            0,    0,    0,  208,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  208,  208,  208,  208, 
-          208,  208,  208,  208,  208,  208,    0,  208,  208,    0, 
-            0,    0,    0,    0,    0,    0,  208,    0,    0,  208, 
-            0,    0,  208,    0,  208,    0,    0,  213,    0,    0, 
-            0,    0,    0,    0,  208,  208,  208,  213,  208,    0, 
-          208,    0,    0,    0,    0,    0,    0,    0,    0,  212, 
-          212,  212,  208,    0,  212,  212,  212,    0,  212,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  212,  212, 
-            0,  213,    0,    0,    0,    0,    0,  212,  212,    0, 
-          212,  212,  212,  212,  212,  213,  213,    0,    0,    0, 
-          213,    0,  212,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  212,  212,  212,  212,  212, 
-          212,  212,  212,  212,  212,    0,  212,  212,    0,    0, 
-            0,    0,    0,    0,  211,  212,    0,    0,  212,    0, 
-            0,  212,    0,  212,  211,    0,    0,    0,    0,    0, 
-            0,    0,    0,  212,  212,    0,    0,    0,    0,  212, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  212,    0,    0,    0,    0,    0,    0,  211,  214, 
-          214,  214,    0,    0,  214,  214,  214,    0,  214,    0, 
-            0,    0,  211,  211,    0,    0,    0,  211,  214,  214, 
-            0,    0,    0,    0,    0,    0,    0,  214,  214,    0, 
-          214,  214,  214,  214,  214,    0,    0,    0,    0,    0, 
-            0,    0,  214,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  214,  214,  214,  214,  214, 
-          214,  214,  214,  214,  214,    0,  214,  214,    0,    0, 
-            0,    0,  210,    0,    0,  214,    0, 
-      };
-   }
-
-   private static final short[] yyTable3() {
-      return new short[] {
-
-            0,  214,    0,    0,  214,  210,  214,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  214,  214,    0,    0, 
-            0,    0,  214,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  214,    0,    0,    0,    0,  210, 
-            0,    0,  213,  213,  213,    0,    0,  213,  213,  213, 
-            0,  213,    0,  210,  210,    0,    0,    0,  210,    0, 
-            0,  213,  213,    0,    0,    0,    0,    0,    0,    0, 
-          213,  213,    0,  213,  213,  213,  213,  213,    0,    0, 
-            0,    0,    0,    0,    0,  213,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  213,  213, 
-          213,  213,  213,  213,  213,  213,  213,  213,    0,  213, 
-          213,    0,    0,    0,    0,    0,    0,  215,  213,    0, 
-            0,  213,    0,    0,  213,    0,  213,  215,    0,    0, 
-            0,    0,    0,    0,    0,    0,  213,  213,    0,  211, 
-          211,  211,  213,    0,  211,  211,  211,    0,  211,    0, 
-            0,    0,    0,    0,  213,    0,    0,    0,  211,  211, 
-            0,  215,    0,    0,    0,    0,    0,  211,  211,    0, 
-          211,  211,  211,  211,  211,  215,  215,    0,    0,    0, 
-          215,    0,  211,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  211,  211,  211,  211,  211, 
-          211,  211,  211,  211,  211,    0,  211,  211,    0,    0, 
-            0,    0,    0,    0,    0,  211,    0,    0,  211,    0, 
-            0,  211,    0,  211,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  211,  211,  216,    0,    0,    0,  211, 
-            0,    0,    0,    0,    0,  216,    0,    0,    0,    0, 
-            0,  211,    0,    0,    0,    0,    0,  210,  210,  210, 
-            0,    0,  210,  210,  210,    0,  210,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  210,  210,    0,  216, 
-            0,    0,    0,    0,    0,  210,  210,    0,  210,  210, 
-          210,  210,  210,  216,  216,    0,    0,    0,  216,    0, 
-          210,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  210, 
-          210,    0,    0,    0,  210,  210,    0,    0,    0,    0, 
-            0,    0,  217,  210,    0,    0,  210,    0,    0,  210, 
-            0,  210,  217,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  210,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  210, 
-            0,    0,    0,    0,    0,    0,  217,    0,    0,  215, 
-          215,  215,    0,    0,  215,  215,  215,    0,  215,    0, 
-          217,  217,    0,    0,    0,  217,    0,    0,  215,  215, 
-            0,    0,    0,    0,    0,    0,    0,  215,  215,    0, 
-          215,  215,  215,  215,  215,    0,    0,    0,  224,    0, 
-            0,    0,  215,    0,    0,    0,    0,    0,  224,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  215,  215,    0,    0,    0,  215,  215,    0,    0, 
-            0,    0,    0,    0,    0,  215,    0,    0,  215,    0, 
-            0,  215,  224,  215,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  224,  224,    0,  215, 
-            0,  224,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  215,    0,    0,    0,    0,    0,  216,  216,  216, 
-            0,    0,  216,  216,  216,    0,  216,    0,  218,    0, 
-            0,    0,    0,    0,    0,    0,  216,  216,  218,    0, 
-            0,    0,    0,    0,    0,  216,  216,    0,  216,  216, 
-          216,  216,  216,    0,    0,    0,    0,    0,    0,    0, 
-          216,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  218,    0,    0,    0,    0,    0,    0,  216, 
-          216,    0,    0,    0,  216,  216,  218,  218,    0,    0, 
-            0,  218,    0,  216,    0,    0,  216,    0,    0,  216, 
-            0,  216,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  217,  217,  217,  216,    0,  217, 
-          217,  217,    0,  217,    0,  219,    0,    0,    0,  216, 
-            0,    0,    0,  217,  217,  219,    0,    0,    0,    0, 
-            0,    0,  217,  217,    0,  217,  217,  217,  217,  217, 
-            0,    0,    0,    0,    0,    0,    0,  217,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  219, 
-            0,    0,    0,    0,    0,    0,  217,  217,    0,    0, 
-            0,  217,  217,  219,  219,    0,    0,    0,  219,    0, 
-          217,    0,    0,  217,    0,    0,  217,    0,  217,    0, 
-          224,  224,  224,    0,    0,  224,  224,  224,    0,  224, 
-            0,  225,    0,    0,  217,    0,    0,    0,    0,  224, 
-          224,  225,    0,    0,    0,    0,  217,    0,  224,  224, 
-            0,  224,  224,  224,  224,  224,    0,    0,    0,    0, 
-            0,    0,    0,  224,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  225,    0,    0,    0,    0, 
-            0,    0,  224,  224,    0,    0,    0,  224,  224,  225, 
-          225,    0,    0,    0,  225,    0,  224,    0,    0,  224, 
-            0,    0,  224,    0,  224,    0,    0,    0,    0,    0, 
-          218,  218,  218,    0,    0,  218,  218,  218,    0,  218, 
-          224,  195,    0,    0,    0,    0,    0,    0,    0,  218, 
-          218,  195,  224,    0,    0,    0,    0,    0,  218,  218, 
-            0,  218,  218,  218,  218,  218,    0,    0,    0,    0, 
-            0,    0,    0,  218,    0,    0,    0,    0,    0,    0, 
-            0,  196,    0,    0,    0,  195,    0,    0,    0,    0, 
-            0,  196,  218,  218,    0,    0,    0,  218,  218,  195, 
-          195,    0,    0,    0,  195,    0,  218,    0,    0,  218, 
-            0,    0,  218,    0,  218,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  196,    0,  219,  219,  219, 
-          218,    0,  219,  219,  219,    0,  219,    0,    0,  196, 
-          196,    0,  218,    0,  196,    0,  219,  219,    0,    0, 
-            0,    0,    0,    0,    0,  219,  219,    0,  219,  219, 
-          219,  219,  219,    0,    0,    0,  226,    0,    0,    0, 
-          219,    0,    0,    0,    0,    0,  226,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  219, 
-          219,    0,    0,    0,  219,  219,    0,    0,    0,    0, 
-            0,    0,    0,  219,    0,    0,  219,    0,    0,  219, 
-          226,  219,    0,  225,  225,  225,    0,    0,  225,  225, 
-          225,    0,  225,    0,  226,  226,    0,  219,    0,    0, 
-            0,    0,  225,  225,    0,    0,    0,    0,    0,  219, 
-            0,  225,  225,    0,  225,  225,  225,  225,  225,    0, 
-            0,    0,    0,    0,    0,    0,  225,    0,    0,    0, 
-            0,    0,  194,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  194,    0,    0,    0,  225,    0,    0,    0, 
-          225,  225,    0,    0,    0,    0,    0,    0,    0,  225, 
-            0,    0,  225,    0,    0,  225,    0,  225,    0,    0, 
-            0,    0,    0,  195,  195,  195,  194,    0,  195,  195, 
-          195,    0,  195,  225,    0,    0,    0,    0,    0,    0, 
-          194,  194,  195,  195,    0,  225,    0,    0,    0,    0, 
-            0,  195,  195,    0,  195,  195,  195,  195,  195,    0, 
-            0,    0,    0,  196,  196,  196,  195,  193,  196,  196, 
-          196,    0,  196,    0,    0,    0,    0,  193,    0,    0, 
-            0,    0,  196,  196,    0,    0,    0,    0,    0,    0, 
-            0,  196,  196,    0,  196,  196,  196,  196,  196,  195, 
-            0,    0,  195,    0,    0,  195,  196,  195,    0,    0, 
-            0,  193,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  195,    0,  193,  193,    0,  189,    0, 
-            0,    0,    0,    0,    0,  195,    0,    0,  189,  196, 
-            0,    0,  196,    0,    0,  196,    0,  196,  226,  226, 
-          226,    0,    0,  226,  226,  226,    0,  226,    0,    0, 
-            0,    0,    0,  196,    0,    0,    0,  226,  226,    0, 
-            0,    0,  189,    0,    0,  196,  226,  226,    0,  226, 
-          226,  226,  226,  226,    0,    0,  189,  189,    0,    0, 
-            0,  226,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  226,  190,    0,  226,    0,    0, 
-          226,    0,  226,    0,    0,  190,    0,    0,    0,    0, 
-            0,    0,    0,    0,  194,  194,  194,    0,  226,  194, 
-          194,  194,    0,  194,    0,    0,    0,    0,    0,    0, 
-          226,    0,    0,  194,  194,    0,    0,    0,    0,  190, 
-            0,    0,  194,  194,    0,  194,  194,  194,  194,  194, 
-            0,    0,    0,  190,  190,    0,    0,  194,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  191,    0,    0,    0,    0,    0,    0,    0,    0, 
-          194,  191,    0,  194,    0,    0,  194,    0,  194,  193, 
-          193,  193,    0,    0,  193,  193,  193,    0,  193,    0, 
-            0,    0,    0,    0,  194,    0,    0,    0,  193,  193, 
-            0,    0,    0,    0,    0,  191,  194,  193,  193,    0, 
-          193,  193,  193,  193,  193,    0,    0,    0,    0,  191, 
-          191,    0,  193,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          189,  189,  189,    0,    0,  189,  189,  189,    0,  189, 
-            0,    0,    0,    0,    0,  193,    0,    0,  193,  189, 
-          189,  193,    0,  193,    0,    0,    0,    0,  189,  189, 
-          192,  189,  189,  189,  189,  189,    0,    0,    0,  193, 
-          192,    0,    0,  189,    0,    0,    0,    0,    0,    0, 
-            0,  193,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  192,    0,  189,    0,    0,  189, 
-            0,    0,  189,    0,  189,    0,    0,    0,  192,  192, 
-            0,  185,    0,    0,    0,    0,    0,  190,  190,  190, 
-          189,  185,  190,  190,  190,    0,  190,    0,    0,    0, 
-            0,    0,  189,    0,    0,    0,  190,  190,    0,    0, 
-            0,    0,    0,    0,    0,  190,  190,    0,  190,  190, 
-          190,  190,  190,    0,    0,  185,    0,    0,    0,    0, 
-          190,    0,    0,    0,    0,    0,    0,    0,    0,  185, 
-          185,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  190,    0,    0,  190,  187,    0,  190, 
-            0,  190,    0,  191,  191,  191,    0,  187,  191,  191, 
-          191,    0,  191,    0,    0,    0,    0,  190,    0,    0, 
-            0,    0,  191,  191,    0,    0,    0,    0,    0,  190, 
-            0,  191,  191,    0,  191,  191,  191,  191,  191,    0, 
-            0,  187,    0,    0,    0,    0,  191,    0,    0,    0, 
-            0,    0,    0,    0,    0,  187,  187,  256,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  256,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  191, 
-            0,    0,  191,    0,    0,  191,    0,  191,    0,    0, 
-            0,    0,    0,    0,  227,    0,    0,    0,    0,    0, 
-            0,  251,    0,  191,  227,    0,    0,    0,    0,    0, 
-            0,    0,  192,  192,  192,  191,  256,  192,  192,  192, 
-            0,  192,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  192,  192,    0,    0,    0,    0,    0,  227,    0, 
-          192,  192,    0,  192,  192,  192,  192,  192,    0,    0, 
-            0,    0,  227,  227,    0,  192,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  185,  185,  185,    0,    0,  185,  185, 
-          185,    0,  185,    0,    0,    0,    0,    0,  192,    0, 
-            0,  192,  185,  185,  192,    0,  192,    0,    0,    0, 
-            0,  185,  185,    0,  185,  185,  185,  185,  185,    0, 
-            0,    0,  192,    0,    0,    0,  185,    0,  188,    0, 
-            0,    0,    0,    0,  192,    0,    0,    0,  188,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  185, 
-            0,    0,  185,    0,    0,  185,    0,  185,    0,  187, 
-          187,  187,  188,    0,  187,  187,  187,    0,  187,    0, 
-            0,    0,    0,  185,    0,    0,  188,  188,  187,  187, 
-            0,    0,    0,    0,    0,  185,    0,  187,  187,    0, 
-          187,  187,  187,  187,  187,    0,    0,    0,    0,    0, 
-            0,    0,  187,    0,    0,  229,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  229,    0,    0,    0,  256, 
-          256,  256,    0,    0,  256,  256,  256,    0,  256,    0, 
-            0,    0,    0,    0,    0,  187,    0,    0,  187,    0, 
-            0,  187,    0,  187,    0,    0,    0,    0,    0,  229, 
-          256,  256,  256,  256,  256,    0,  227,  227,  227,  187, 
-            0,  227,  227,  227,  229,  227,    0,    0,    0,    0, 
-            0,  187,    0,    0,    0,  227,  227,    0,    0,    0, 
-            0,    0,    0,    0,  227,  227,    0,  227,  227,  227, 
-          227,  227,  186,    0,    0,  256,    0,    0,  256,  227, 
-            0,    0,  186,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  256, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  227,    0,    0,  227,  186,    0,  227,    0, 
-          227,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          186,  186,    0,    0,    0,    0,  227,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  227,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  184,    0, 
-          188,  188,  188,    0,    0,  188,  188,  188,  184,  188, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  188, 
-          188,    0,    0,    0,    0,    0,    0,    0,  188,  188, 
-            0,  188,  188,  188,  188,  188,    0,    0,    0,    0, 
-            0,    0,  184,  188,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  184,  184,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  188,    0,    0,  188, 
-            0,    0,  188,    0,  188,    0,    0,  229,  229,  229, 
-            0,    0,  229,  229,  229,    0,  229,    0,    0,    0, 
-          188,    0,    0,   96,    0,    0,  229,  229,    0,    0, 
-            0,    0,  188,    0,    0,  229,  229,    0,  229,  229, 
-          229,  229,  229,    0,    0,    0,    0,    0,    0,    0, 
-          229,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,   96,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  229,    0,    0,  229,    0,    0,  229, 
-            0,  229,    0,    0,  186,  186,  186,    0,    0,  186, 
-          186,  186,    0,  186,  444,    0,    0,  229,    0,    0, 
-            0,    0,    0,  186,  186,    0,    0,    0,    0,  229, 
-            0,    0,  186,  186,    0,  186,  186,  186,  186,    0, 
-            0,    0,    0,    0,    0,    0,    0,  186,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,   97,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          186,    0,    0,  186,    0,    0,  186,    0,  186,    0, 
-          184,  184,  184,    0,    0,  184,  184,  184,    0,  184, 
-            0,    0,    0,    0,  186,    0,   97,    0,    0,  184, 
-          184,    0,    0,    0,    0,    0,  186,    0,  184,  184, 
-            0,  184,  184,  184,  184,    0,    0,    0,    0,    0, 
-            0,    0,    0,  184,    0,    0,    0,    0,  447,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  184,    0,    0,  184, 
-            0,    0,  184,    0,  184,    0,    0,    0,    0,   96, 
-           96,   96,   96,   96,   96,   96,   96,   96,   96,   96, 
-          184,   96,   96,   96,    0,   96,   96,   96,   96,   96, 
-           96,   96,  184,  515,    0,    0,   96,   96,   96,   96, 
-           96,   96,   96,    0,    0,   96,    0,    0,    0,    0, 
-            0,   96,   96,   96,   96,   96,   96,   96,    0,   96, 
-           96,   96,   96,   96,   96,    0,   96,   96,   96,   96, 
-           96,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  444,    0,    0,    0,    0,    0,    0,  444,   96, 
-            0,    0,   96,  515,    0,   96,   96,    0,   96,    0, 
-           96,    0,  522,    0,   96,    0,    0,    0,    0,   96, 
-            0,    0,   96,    0,  515,    0,    0,   96,   96,   96, 
-           96,   96,   96,    0,    0,    0,   96,    0,   96,   96, 
-            0,   96,   96,   97,   97,   97,   97,   97,   97,   97, 
-           97,   97,   97,   97,    0,   97,   97,   97,    0,   97, 
-           97,   97,   97,   97,   97,   97,    0,  516,    0,    0, 
-           97,   97,   97,   97,   97,   97,   97,    0,    0,   97, 
-            0,    0,    0,    0,    0,   97,   97,   97,   97,   97, 
-           97,   97,    0,   97,   97,   97,   97,   97,   97,    0, 
-           97,   97,   97,   97,   97,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  447,    0,    0,    0,    0, 
-            0,    0,  447,   97,    0,    0,   97,  516,    0,   97, 
-           97,    0,   97,    0,   97,    0,  270,    0,   97,    0, 
-            0,    0,    0,   97,    0,    0,   97,    0,  516,    0, 
-            0,   97,   97,   97,   97,   97,   97,    0,    0,    0, 
-           97,    0,   97,   97,    0,   97,   97,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,   96,   96,   96, 
-           96,   96,   96,   96,   96,   96,   96,   96,    0,   97, 
-           96,   96,    0,   96,   96,   96,   96,   96,   96,   96, 
-            0,  522,    0,    0,   96,   96,   96,   96,   96,   96, 
-           96,    0,    0,   96,    0,    0,    0,    0,    0,   96, 
-           96,   96,   96,   96,   96,   96,    0,   96,   96,   96, 
-           96,   96,   96,    0,   96,   96,   96,   96,   97,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  522, 
-            0,    0,    0,    0,    0,    0,  522,   96,    0,    0, 
-           96,  518,    0,   96,   96,    0,   96,    0,   96,    0, 
-          271,    0,   96,    0,    0,    0,    0,   96,    0,    0, 
-           96,    0,  522,    0,    0,   96,   96,   96,   96,   96, 
-           96,    0,    0,    0,   96,    0,   96,   96,    0,   96, 
-           96,   97,   97,   97,   97,   97,   97,   97,   97,   97, 
-           97,   97,    0,  315,   97,   97,    0,   97,   97,   97, 
-           97,   97,   97,   97,    0,    0,    0,    0,   97,   97, 
-           97,   97,   97,   97,   97,    0,    0,   97,    0,    0, 
-            0,    0,    0,   97,   97,   97,   97,   97,   97,   97, 
-            0,   97,   97,   97,   97,   97,   97,    0,   97,   97, 
-           97,   97,  315,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  270,    0,    0,    0,    0,    0,    0, 
-          270,   97,    0,    0,   97,  519,    0,   97,   97,    0, 
-           97,    0,   97,    0,    0,    0,   97,    0,    0,    0, 
-            0,   97,    0,    0,   97,    0,    0,    0,    0,   97, 
-           97,   97,   97,   97,   97,    0,    0,    0,   97,    0, 
-           97,   97,    0,   97,   97,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,   97,   97,   97,   97,   97, 
-           97,   97,   97,   97,   97,   97,    0,  540,   97,   97, 
-            0,   97,   97,   97,   97,   97,   97,   97,    0,    0, 
-            0,    0,   97,   97,   97,   97,   97,   97,   97,    0, 
-            0,   97,    0,    0,    0,    0,    0,   97,   97,   97, 
-           97,   97,   97,   97,    0,   97,   97,   97,   97,   97, 
-           97,    0,   97,   97,   97,   97,  540,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  271,    0,    0, 
-            0,    0,    0,    0,  271,   97,    0,    0,   97,    0, 
-            0,   97,   97,    0,   97,    0,   97,    0,    0,    0, 
-           97,    0,    0,    0,    0,   97,    0,    0,   97,    0, 
-            0,    0,    0,   97,   97,   97,   97,   97,   97,    0, 
-            0,    0,   97,    0,   97,   97,    0,   97,   97,  315, 
-          315,  315,  315,  315,  315,  315,  315,  315,  315,  315, 
-            0,  315,  315,  315,  315,  315,  315,  315,  315,  315, 
-          315,  315,  540,    0,    0,    0,  315,  315,  315,  315, 
-          315,  315,  315,    0,    0,  315,    0,    0,    0,    0, 
-            0,  315,  315,  315,  315,  315,  315,  315,    0,  315, 
-          315,  315,  315,  315,  315,    0,  315,  315,  315,  315, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  540,    0,    0,    0,    0,    0,    0,    0,  315, 
-            0,    0,  315,    0,    0,  315,  315,    0,  315,    0, 
-          315,    0,    0,    0,  315,    0,    0,    0,    0,    0, 
-            0,    0,  315,    0,    0,    0,    0,  315,  315,  315, 
-          315,  315,  315,    0,    0,    0,  315,    0,  315,  315, 
-            0,  315,  315,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  540,  540,  540,  540,  540,  540,    0, 
-            0,  540,  540,  540,    0,  227,    0,  540,    0,  540, 
-          540,  540,  540,  540,  540,  540,    0,    0,    0,    0, 
-          540,  540,  540,  540,  540,  540,  540,    0,    0,  540, 
-            0,    0,    0,    0,    0,  540,  540,  540,  540,  540, 
-          540,  540,    0,  540,  540,  540,  540,  540,  540,    0, 
-          540,  540,  540,  540,  226,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  540,    0,    0,  540,    0,    0,  540, 
-          540,    0,  540,    0,  540,    0,    0,    0,  540,    0, 
-            0,    0,    0,    0,    0,    0,  540,    0,    0,    0, 
-            0,  540,  540,  540,  540,  540,  540,    0,    0,    0, 
-          540,    0,  540,  540,    0,  540,  540,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  540,  540, 
-          540,  540,  540,  540,    0,    0,    0,  540,  540,    0, 
-            0,    0,  540,    0,  540,  540,  540,  540,  540,  540, 
-          540,    0,    0,    0,    0,  540,  540,  540,  540,  540, 
-          540,  540,    0,    0,  540,    0,    0,    0,    0,    0, 
-          540,  540,  540,  540,  540,  540,  540,    0,  540,  540, 
-          540,  540,  540,  540,    0,  540,  540,  540,  540,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  540,    0, 
-            0,  540,    0,    0,  540,  540,    0,  540,    0,  540, 
-            0,    0,    0,  540,    0,    0,    0,    0,    0,    0, 
-            0,  540,  384,    0,  540,    0,  540,  540,  540,  540, 
-          540,  540,  384,    0,    0,  540,    0,  540,  540,    0, 
-          540,  540,    4,    5,    6,    0,    8,    0,    0,    0, 
-            9,   10,    0,    0,    0,   11,    0,   12,   13,   14, 
-           15,   16,   17,   18,    0,    0,   81,    0,   19,   20, 
-           21,   22,   23,   24,   25,    0,    0,   26,    0,    0, 
-            0,  384,    0,   89,   28,  384,    0,   31,   32,   33, 
-            0,   34,   35,   36,   37,   38,   39,    0,   40,   41, 
-           42,   43,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  384,    0,    0,    0,    0,    0,    0, 
-            0,  217,    0,  310,  111,    0,    0,   46,   47,    0, 
-           48,    0,    0,  310,    0,    0,   50,    0,    0,    0, 
-            0,    0,    0,    0,   51,    0,    0,    0,    0,   52, 
-           53,   54,   55,   56,   57,    0,    0,    0,   58,    0, 
-           59,   60,    0,   61,   62,    0,    0,  310,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  310,    0,    0,    0,  310,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  310,    4,    5,    6,    0,    8, 
-            0,    0,    0,    9,   10,    0,    0,    0,   11,  311, 
-           12,   13,   14,   99,  100,   17,   18,    0,    0,  311, 
-            0,  101,  102,  103,   22,   23,   24,   25,    0,    0, 
-          104,    0,    0,    0,    0,    0,    0,  105,    0,    0, 
-           31,   32,   33,    0,   34,   35,   36,   37,   38,   39, 
-            0,   40,    0,  311,  108,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  384,  384,  384,    0,  311,    0, 
-          384,  384,  311,  384,  234,    0,    0,   45,    0,    0, 
-           46,   47,  384,   48,    0,   49,    0,    0,    0,    0, 
-            0,    0,  384,  384,    0,  384,  384,  384,  384,  384, 
-          311,    0,   52,   53,   54,   55,   56,   57,    0,    0, 
-            0,   58,    0,   59,   60,    0,   61,   62,    0,  384, 
-          384,  384,  384,  384,  384,  384,  384,  384,  384,  384, 
-          384,  384,  384,    0,    0,  384,  384,  384,    0,    0, 
-            0,    0,    0,  384,    0,    0,    0,    0,    0,    0, 
-          384,  274,  384,    0,  384,  384,  384,  384,  384,  384, 
-          384,  274,  384,  384,  384,  310,  310,  310,    0,    0, 
-          310,  310,  310,    0,  310,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  310,    0,    0,    0,    0,    0, 
-            0,    0,    0,  310,  310,  274,  310,  310,  310,  310, 
-          310,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          274,    0,    0,    0,  274,    0,    0,    0,    0,    0, 
-          310,  310,  310,  310,  310,  310,  310,  310,  310,  310, 
-          310,  310,  310,  310,    0,    0,  310,  310,  310,    0, 
-            0,    0,  274,    0,  310,    0,    0,    0,    0,    0, 
-            0,  310,    0,  310,  456,  310,  310,  310,  310,  310, 
-          310,  310,    0,  310,  456,  310,    0,    0,    0,    0, 
-            0,  311,  311,  311,    0,    0,  311,  311,  311,    0, 
-          311,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          311,    0,    0,    0,    0,    0,    0,    0,   80,  311, 
-          311,    0,  311,  311,  311,  311,  311,    0,    0,    0, 
-            0,    0,    0,  456,    0,   88,    0,  456,    0,    0, 
-            0,    0,    0,    0,    0,    0,  311,  311,  311,  311, 
-          311,  311,  311,  311,  311,  311,  311,  311,  311,  311, 
-            0,    0,  311,  311,  311,  456,    0,    0,    0,    0, 
-          311,    0,    0,    0,    0,    0,    0,  311,    0,  311, 
-            0,  311,  311,  311,  311,  311,  311,  311,  264,  311, 
-            0,  311,    0,    0,    0,    0,    0,    0,  264,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,   87,  274,  274,  274,    0,    0,  274,  274, 
-          274,    0,  274,    0,    0,    0,    0,  264,    0,   95, 
-            0,  264,  274,    0,    0,    0,    0,    0,    0,    0, 
-            0,  274,  274,    0,  274,  274,  274,  274,  274,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  264, 
-            0,    0,    0,    0,    0,    0,    0,    0,  274,  274, 
-          274,  274,  274,  274,  274,  274,  274,  274,  274,  274, 
-          274,  274,    0,    0,  274,  274,  274,    0,    0,    0, 
-            0,    0,  274,    0,    0,    0,    0,    0,    0,  274, 
-            0,  274,  271,  274,  274,  274,  274,  274,  274,  274, 
-            0,  274,  271,  274,    0,    0,  456,  456,  456,    0, 
-            0,    0,  456,  456,    0,  456,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  456,  456,   86,  456,  456,  456, 
-          456,  456,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  271,    0,   94,    0,  271,    0,    0,    0,    0, 
-            0,  456,  456,  456,  456,  456,  456,  456,  456,  456, 
-          456,  456,  456,  456,  456,    0,    0,  456,  456,  456, 
-            0,  457,    0,  271,    0,  456,    0,    0,    0,    0, 
-            0,    0,  456,    0,  456,    0,  456,  456,  456,  456, 
-          456,  456,  456,  248,  456,    0,  456,    0,    0,    0, 
-            0,    0,    0,  248,    0,    0,    0,    0,    0,    0, 
-          264,  264,  264,    0,    0,    0,  264,  264,    0,  264, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,   52,    0,  264,  264, 
-            0,  264,  264,  264,  264,  264,   52,    0,    0,    0, 
-            0,    0,  248,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  264,  264,  264,  264,  264, 
-          264,  264,  264,  264,  264,  264,  264,  264,  264,    0, 
-            0,  264,  264,  264,    0,    0,    0,    0,    0,  264, 
-            0,    0,    0,    0,    0,   52,  264,   54,  264,    0, 
-          264,  264,  264,  264,  264,  264,  264,   54,  264,    0, 
-          264,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,   56,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,   56,  271,  271,  271,    0,    0,    0, 
-          271,  271,    0,  271,    0,    0,   54,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  271,  271,    0,  271,  271,  271,  271,  271, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,   56,    0,    0,    0,    0,    0,    0,  271, 
-          271,  271,  271,  271,  271,  271,  271,  271,  271,  271, 
-          271,  271,  271,    0,    0,  271,  271,  271,   40,    0, 
-            0,    0,    0,  271,    0,    0,    0,    0,   40,    0, 
-          271,    0,  271,    0,  271,  271,  271,  271,  271,  271, 
-          271,    0,  271,    0,  271,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  248,  248,  248,    0,    0, 
-          248,  248,  248,    0,  248,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  248,  248,    0,   40,    0,    0, 
-            0,   42,    0,  248,  248,    0,  248,  248,  248,  248, 
-          248,   42,    0,    0,    0,    0,    0,    0,   52,   52, 
-           52,    0,    0,   52,   52,   52,    0,   52,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,   52,   52,    0, 
-            0,    0,    0,    0,    0,    0,   52,   52,    0,   52, 
-           52,   52,   52,   52,  248,    0,    0,  248,    0,  248, 
-           42,    0,    0,    0,   47,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,   47,  248,    0,    0,    0,   54, 
-           54,   54,    0,    0,   54,   54,   54,    0,   54,    0, 
-            0,    0,    0,    0,    0,    0,    0,   52,   54,   54, 
-           52,    0,    0,    0,    0,    0,    0,   54,   54,    0, 
-           54,   54,   54,   54,   54,   56,   56,   56,   52,  254, 
-           56,   56,   56,   47,   56,    0,    0,    0,    0,  254, 
-            0,    0,    0,    0,   56,   56,    0,    0,    0,    0, 
-            0,    0,    0,   56,   56,    0,   56,   56,   56,   56, 
-           56,    0,    0,    0,    0,    0,    0,    0,   54,    0, 
-            0,   54,    0,  252,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  255,  254,   54, 
-            0,    0,    0,    0,    0,    0,    0,  255,    0,    0, 
-            0,    0,    0,    0,   56,    0,    0,   56,    0,    0, 
-           40,   40,   40,    0,    0,   40,   40,   40,    0,   40, 
-            0,    0,    0,    0,    0,   56,    0,    0,    0,   40, 
-            0,  253,    0,    0,    0,    0,    0,    0,   40,   40, 
-            0,   40,   40,   40,   40,   40,  255, 
-      };
-   }
-
-   private static final short[] yyTable4() {
-      return new short[] {
-
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,   42,   42,   42,    0, 
-            0,   42,   42,   42,    0,   42,    0,    0,    0,    0, 
-            0,    0,   40,    0,    0,   42,    0,    0,    0,    0, 
-            0,    0,    0,    0,   42,   42,    0,   42,   42,   42, 
-           42,   42,    0,   40,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,   47, 
-           47,   47,  407,    0,   47,   47,   47,    0,   47,    0, 
-            0,    0,    0,    0,    0,   42,    0,    0,   47,    0, 
-            0,    0,    0,    0,    0,    0,    0,   47,   47,    0, 
-           47,   47,   47,   47,   47,    0,   42,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  254,  254,  254,    0,    0,  254, 
-          254,  254,    0,  254,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,   47,    0, 
-            0,    0,    0,    0,    0,  254,  254,  254,  254,  254, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,   47, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  255,  255,  255,    0,    0,  255,  255,  255, 
-            0,  255,    0,    0,    0,    0,    0,    0,    0,    0, 
-          254,    0,    0,  254,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  255,  255,  255,  255,  255,    0,    0, 
-            0,    0,    0,    0,  254,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  255,    0, 
-            0,  255,    0,    0,    0,    0,    0,    0,    0,    0, 
-            4,    5,    6,    7,    8,    0,    0,    0,    9,   10, 
-            0,    0,  255,   11,    0,   12,   13,   14,   15,   16, 
-           17,   18,    0,    0,    0,    0,   19,   20,   21,   22, 
-           23,   24,   25,    0,    0,   26,    0,    0,    0,    0, 
-            0,   27,   28,   29,   30,   31,   32,   33,    0,   34, 
-           35,   36,   37,   38,   39,    0,   40,   41,   42,   43, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,   44, 
-            0,    0,   45,    0,    0,   46,   47,    0,   48,    0, 
-           49,    0,    0,    0,   50,    0,    0,    0,    0,    0, 
-            0,    0,   51,    0,    0,    0,    0,   52,   53,   54, 
-           55,   56,   57,    0,    0,    0,   58,    0,   59,   60, 
-            0,   61,   62,    3,    4,    5,    6,    7,    8,    0, 
-            0,    0,    9,   10,    0,    0,    0,   11,    0,   12, 
-           13,   14,   15,   16,   17,   18,    0,    0,    0,    0, 
-           19,   20,   21,   22,   23,   24,   25,    0,    0,   26, 
-            0,    0,    0,    0,    0,   27,   28,   29,   30,   31, 
-           32,   33,    0,   34,   35,   36,   37,   38,   39,    0, 
-           40,   41,   42,   43,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,   44,    0,    0,   45,    0,    0,   46, 
-           47,    0,   48,    0,   49,    0,    0,    0,   50,    0, 
-            0,    0,    0,    0,    0,    0,   51,    0,    0,    0, 
-            0,   52,   53,   54,   55,   56,   57,    0,    0,    0, 
-           58,    0,   59,   60,    0,   61,   62,    3,    4,    5, 
-            6,    7,    8,    0,    0,    0,    9,   10,    0,    0, 
-            0,   11,    0,   12,   13,   14,   15,   16,   17,   18, 
-            0,    0,    0,    0,   19,   20,   21,   22,   23,   24, 
-           25,    0,    0,   26,    0,    0,    0,    0,    0,   27, 
-           28,   29,   30,   31,   32,   33,    0,   34,   35,   36, 
-           37,   38,   39,    0,   40,   41,   42,   43,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,   44,    0,    0, 
-          275,    0,    0,   46,   47,    0,   48,    0,   49,    0, 
-            0,    0,   50,    0,    0,    0,    0,    0,    0,    0, 
-           51,    0,    0,    0,    0,   52,   53,   54,   55,   56, 
-           57,    0,    0,    0,   58,    0,   59,   60,    0,   61, 
-           62,    4,    5,    6,    7,    8,    0,    0,    0,    9, 
-           10,    0,    0,    0,   11,    0,   12,   13,   14,   15, 
-           16,   17,   18,    0,    0,    0,    0,   19,   20,   21, 
-           22,   23,   24,   25,    0,    0,   26,    0,    0,    0, 
-            0,    0,   27,   28,   29,   30,   31,   32,   33,    0, 
-           34,   35,   36,   37,   38,   39,    0,   40,   41,   42, 
-           43,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-           44,    0,    0,   45,    0,    0,   46,   47,    0,   48, 
-            0,   49,    0,    0,    0,   50,    0,    0,    0,    0, 
-            0,    0,    0,   51,    0,    0,    0,    0,   52,   53, 
-           54,   55,   56,   57,    0,    0,    0,   58,    0,   59, 
-           60,    0,   61,   62,    4,    5,    6,    0,    8,    0, 
-            0,    0,    9,   10,    0,    0,    0,   11,    0,   12, 
-           13,   14,   99,  100,   17,   18,    0,    0,    0,    0, 
-          101,   20,   21,   22,   23,   24,   25,    0,    0,  104, 
-            0,    0,    0,    0,    0,    0,   28,    0,    0,   31, 
-           32,   33,    0,   34,   35,   36,   37,   38,   39,  241, 
-           40,   41,   42,   43,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  217,    0,    0,  111,    0,    0,   46, 
-           47,    0,   48,    0,  242,    0,  243,    0,   50,    0, 
-            0,    0,    0,    0,    0,    0,  244,    0,    0,    0, 
-            0,   52,   53,   54,   55,   56,   57,    0,    0,    0, 
-           58,    0,   59,   60,    0,   61,   62,    4,    5,    6, 
-            0,    8,    0,    0,    0,    9,   10,    0,    0,    0, 
-           11,    0,   12,   13,   14,   99,  100,   17,   18,    0, 
-            0,    0,    0,  101,  102,  103,   22,   23,   24,   25, 
-            0,    0,  104,    0,    0,    0,    0,    0,    0,   28, 
-            0,    0,   31,   32,   33,    0,   34,   35,   36,   37, 
-           38,   39,  241,   40,   41,   42,   43,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  217,    0,    0,  111, 
-            0,    0,   46,   47,    0,   48,    0,  626,    0,  243, 
-            0,   50,    0,    0,    0,    0,    0,    0,    0,  244, 
-            0,    0,    0,    0,   52,   53,   54,   55,   56,   57, 
-            0,    0,    0,   58,    0,   59,   60,    0,   61,   62, 
-          244,  244,  244,    0,  244,    0,    0,    0,  244,  244, 
-            0,    0,    0,  244,    0,  244,  244,  244,  244,  244, 
-          244,  244,    0,    0,    0,    0,  244,  244,  244,  244, 
-          244,  244,  244,    0,    0,  244,    0,    0,    0,    0, 
-            0,    0,  244,    0,    0,  244,  244,  244,    0,  244, 
-          244,  244,  244,  244,  244,  244,  244,  244,  244,  244, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  244, 
-            0,    0,  244,    0,    0,  244,  244,    0,  244,    0, 
-          244,    0,  244,    0,  244,    0,    0,    0,    0,    0, 
-            0,    0,  244,    0,    0,    0,    0,  244,  244,  244, 
-          244,  244,  244,    0,    0,    0,  244,    0,  244,  244, 
-            0,  244,  244,    4,    5,    6,    0,    8,    0,    0, 
-            0,    9,   10,    0,    0,    0,   11,    0,   12,   13, 
-           14,   99,  100,   17,   18,    0,    0,    0,    0,  101, 
-          102,  103,   22,   23,   24,   25,    0,    0,  104,    0, 
-            0,    0,    0,    0,    0,   28,    0,    0,   31,   32, 
-           33,    0,   34,   35,   36,   37,   38,   39,  241,   40, 
-           41,   42,   43,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  217,    0,    0,  111,    0,    0,   46,   47, 
-            0,   48,    0,  242,    0,    0,    0,   50,    0,    0, 
-            0,    0,    0,    0,    0,  244,    0,    0,    0,    0, 
-           52,   53,   54,   55,   56,   57,    0,    0,    0,   58, 
-            0,   59,   60,    0,   61,   62,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,   99,  100,   17,   18,    0,    0, 
-            0,    0,  101,  102,  103,   22,   23,   24,   25,    0, 
-            0,  104,    0,    0,    0,    0,    0,    0,   28,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,  241,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  217,    0,    0,  111,    0, 
-            0,   46,   47,    0,   48,    0,    0,    0,  243,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,  244,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    4, 
-            5,    6,    0,    8,    0,    0,    0,    9,   10,    0, 
-            0,    0,   11,    0,   12,   13,   14,   99,  100,   17, 
-           18,    0,    0,    0,    0,  101,  102,  103,   22,   23, 
-           24,   25,    0,    0,  104,    0,    0,    0,    0,    0, 
-            0,   28,    0,    0,   31,   32,   33,    0,   34,   35, 
-           36,   37,   38,   39,  241,   40,   41,   42,   43,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  217,    0, 
-            0,  111,    0,    0,   46,   47,    0,   48,    0,  626, 
-            0,    0,    0,   50,    0,    0,    0,    0,    0,    0, 
-            0,  244,    0,    0,    0,    0,   52,   53,   54,   55, 
-           56,   57,    0,    0,    0,   58,    0,   59,   60,    0, 
-           61,   62,    4,    5,    6,    0,    8,    0,    0,    0, 
-            9,   10,    0,    0,    0,   11,    0,   12,   13,   14, 
-           99,  100,   17,   18,    0,    0,    0,    0,  101,  102, 
-          103,   22,   23,   24,   25,    0,    0,  104,    0,    0, 
-            0,    0,    0,    0,   28,    0,    0,   31,   32,   33, 
-            0,   34,   35,   36,   37,   38,   39,  241,   40,   41, 
-           42,   43,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  217,    0,    0,  111,    0,    0,   46,   47,    0, 
-           48,    0,    0,    0,    0,    0,   50,    0,    0,    0, 
-            0,    0,    0,    0,  244,    0,    0,    0,    0,   52, 
-           53,   54,   55,   56,   57,    0,    0,    0,   58,    0, 
-           59,   60,    0,   61,   62,    4,    5,    6,    0,    8, 
-            0,    0,    0,    9,   10,    0,    0,    0,   11,    0, 
-           12,   13,   14,   99,  100,   17,   18,    0,    0,    0, 
-            0,  101,  102,  103,   22,   23,   24,   25,    0,    0, 
-          104,    0,    0,    0,    0,    0,    0,   28,    0,    0, 
-           31,   32,   33,    0,   34,   35,   36,   37,   38,   39, 
-            0,   40,   41,   42,   43,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  217,    0,    0,  111,  438,    0, 
-           46,   47,    0,   48,    0,    0,    0,    0,    0,   50, 
-            0,    0,    0,    0,    0,    0,    0,  244,    0,    0, 
-            0,    0,   52,   53,   54,   55,   56,   57,    0,    0, 
-            0,   58,    0,   59,   60,    0,   61,   62,    4,    5, 
-            6,    0,    8,    0,    0,    0,    9,   10,    0,    0, 
-            0,   11,    0,   12,   13,   14,   15,   16,   17,   18, 
-            0,    0,    0,    0,   19,   20,   21,   22,   23,   24, 
-           25,    0,    0,  104,    0,    0,    0,    0,    0,    0, 
-           28,    0,    0,   31,   32,   33,    0,   34,   35,   36, 
-           37,   38,   39,    0,   40,   41,   42,   43,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  217,    0,    0, 
-          111,    0,    0,   46,   47,    0,   48,    0,  564,    0, 
-            0,    0,   50,    0,    0,    0,    0,    0,    0,    0, 
-          244,    0,    0,    0,    0,   52,   53,   54,   55,   56, 
-           57,    0,    0,    0,   58,    0,   59,   60,    0,   61, 
-           62,    4,    5,    6,    0,    8,    0,    0,    0,    9, 
-           10,    0,    0,    0,   11,    0,   12,   13,   14,   99, 
-          100,   17,   18,    0,    0,    0,    0,  101,  102,  103, 
-           22,   23,   24,   25,    0,    0,  104,    0,    0,    0, 
-            0,    0,    0,   28,    0,    0,   31,   32,   33,    0, 
-           34,   35,   36,   37,   38,   39,    0,   40,   41,   42, 
-           43,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          217,    0,    0,  111,    0,    0,   46,   47,    0,   48, 
-            0,  564,    0,    0,    0,   50,    0,    0,    0,    0, 
-            0,    0,    0,  244,    0,    0,    0,    0,   52,   53, 
-           54,   55,   56,   57,    0,    0,    0,   58,    0,   59, 
-           60,    0,   61,   62,    4,    5,    6,    0,    8,    0, 
-            0,    0,    9,   10,    0,    0,    0,   11,    0,   12, 
-           13,   14,   99,  100,   17,   18,    0,    0,    0,    0, 
-          101,  102,  103,   22,   23,   24,   25,    0,    0,  104, 
-            0,    0,    0,    0,    0,    0,   28,    0,    0,   31, 
-           32,   33,    0,   34,   35,   36,   37,   38,   39,    0, 
-           40,   41,   42,   43,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  217,    0,    0,  111,    0,    0,   46, 
-           47,    0,   48,    0,  242,    0,    0,    0,   50,    0, 
-            0,    0,    0,    0,    0,    0,  244,    0,    0,    0, 
-            0,   52,   53,   54,   55,   56,   57,    0,    0,    0, 
-           58,    0,   59,   60,    0,   61,   62,    4,    5,    6, 
-            0,    8,    0,    0,    0,    9,   10,    0,    0,    0, 
-           11,    0,   12,   13,   14,   99,  100,   17,   18,    0, 
-            0,    0,    0,  101,  102,  103,   22,   23,   24,   25, 
-            0,    0,  104,    0,    0,    0,    0,    0,    0,   28, 
-            0,    0,   31,   32,   33,    0,   34,   35,   36,   37, 
-           38,   39,    0,   40,   41,   42,   43,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  217,    0,    0,  111, 
-            0,    0,   46,   47,    0,   48,    0,  800,    0,    0, 
-            0,   50,    0,    0,    0,    0,    0,    0,    0,  244, 
-            0,    0,    0,    0,   52,   53,   54,   55,   56,   57, 
-            0,    0,    0,   58,    0,   59,   60,    0,   61,   62, 
-            4,    5,    6,    0,    8,    0,    0,    0,    9,   10, 
-            0,    0,    0,   11,    0,   12,   13,   14,   99,  100, 
-           17,   18,    0,    0,    0,    0,  101,  102,  103,   22, 
-           23,   24,   25,    0,    0,  104,    0,    0,    0,    0, 
-            0,    0,   28,    0,    0,   31,   32,   33,    0,   34, 
-           35,   36,   37,   38,   39,    0,   40,   41,   42,   43, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  217, 
-            0,    0,  111,    0,    0,   46,   47,    0,   48,    0, 
-          626,    0,    0,    0,   50,    0,    0,    0,    0,    0, 
-            0,    0,  244,    0,    0,    0,    0,   52,   53,   54, 
-           55,   56,   57,    0,    0,    0,   58,    0,   59,   60, 
-            0,   61,   62,  529,  529,  529,    0,  529,    0,    0, 
-            0,  529,  529,    0,    0,    0,  529,    0,  529,  529, 
-          529,  529,  529,  529,  529,    0,    0,    0,    0,  529, 
-          529,  529,  529,  529,  529,  529,    0,    0,  529,    0, 
-            0,    0,    0,    0,    0,  529,    0,    0,  529,  529, 
-          529,    0,  529,  529,  529,  529,  529,  529,    0,  529, 
-          529,  529,  529,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  529,    0,    0,  529,  529,    0,  529,  529, 
-            0,  529,    0,    0,    0,    0,    0,  529,    0,    0, 
-            0,    0,    0,    0,    0,  529,    0,    0,    0,    0, 
-          529,  529,  529,  529,  529,  529,    0,    0,    0,  529, 
-            0,  529,  529,    0,  529,  529,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,   15,   16,   17,   18,    0,    0, 
-            0,    0,   19,   20,   21,   22,   23,   24,   25,    0, 
-            0,   26,    0,    0,    0,    0,    0,    0,   28,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  217,    0,    0,  111,    0, 
-            0,   46,   47,    0,   48,    0,    0,    0,    0,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,   51,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    4, 
-            5,    6,    0,    8,    0,    0,    0,    9,   10,    0, 
-            0,    0,   11,    0,   12,   13,   14,   99,  100,   17, 
-           18,    0,    0,    0,    0,  101,  102,  103,   22,   23, 
-           24,   25,    0,    0,  104,    0,    0,    0,    0,    0, 
-            0,   28,    0,    0,   31,   32,   33,    0,   34,   35, 
-           36,   37,   38,   39,    0,   40,   41,   42,   43,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  217,    0, 
-            0,  111,    0,    0,   46,   47,    0,   48,    0,    0, 
-            0,    0,    0,   50,    0,    0,    0,    0,    0,    0, 
-            0,  244,    0,    0,    0,    0,   52,   53,   54,   55, 
-           56,   57,    0,    0,    0,   58,    0,   59,   60,    0, 
-           61,   62,    4,    5,    6,    0,    8,    0,    0,    0, 
-            9,   10,    0,    0,    0,   11,    0,   12,   13,   14, 
-           15,   16,   17,   18,    0,    0,    0,    0,   19,   20, 
-           21,   22,   23,   24,   25,    0,    0,  104,    0,    0, 
-            0,    0,    0,    0,   28,    0,    0,   31,   32,   33, 
-            0,   34,   35,   36,   37,   38,   39,    0,   40,   41, 
-           42,   43,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  217,    0,    0,  111,    0,    0,   46,   47,    0, 
-           48,    0,    0,    0,    0,    0,   50,    0,    0,    0, 
-            0,    0,    0,    0,  244,    0,    0,    0,    0,   52, 
-           53,   54,   55,   56,   57,    0,    0,    0,   58,    0, 
-           59,   60,    0,   61,   62,  529,  529,  529,    0,  529, 
-            0,    0,    0,  529,  529,    0,    0,    0,  529,    0, 
-          529,  529,  529,  529,  529,  529,  529,    0,    0,    0, 
-            0,  529,  529,  529,  529,  529,  529,  529,    0,    0, 
-          529,    0,    0,    0,    0,    0,    0,  529,    0,    0, 
-          529,  529,  529,    0,  529,  529,  529,  529,  529,  529, 
-            0,  529,  529,  529,  529,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  529,    0,    0,  529,    0,    0, 
-          529,  529,    0,  529,    0,    0,    0,    0,    0,  529, 
-            0,    0,    0,    0,    0,    0,    0,  529,    0,    0, 
-            0,    0,  529,  529,  529,  529,  529,  529,    0,    0, 
-            0,  529,    0,  529,  529,    0,  529,  529,    4,    5, 
-            6,    0,    8,    0,    0,    0,    9,   10,    0,    0, 
-            0,   11,    0,   12,   13,   14,   99,  100,   17,   18, 
-            0,    0,    0,    0,  101,  102,  103,   22,   23,   24, 
-           25,    0,    0,  104,    0,    0,    0,    0,    0,    0, 
-          105,    0,    0,   31,   32,   33,    0,  106,   35,   36, 
-           37,  107,   39,    0,   40,    0,    0,  108,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  109,    0,    0,  110,    0,    0, 
-          111,    0,    0,   46,   47,    0,   48,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,   52,   53,   54,   55,   56, 
-           57,    0,    0,    0,   58,    0,   59,   60,    0,   61, 
-           62,    4,    5,    6,    0,    8,    0,    0,    0,    9, 
-           10,    0,    0,    0,   11,    0,   12,   13,   14,   99, 
-          100,   17,   18,    0,    0,    0,    0,  101,  102,  103, 
-           22,   23,   24,   25,    0,    0,  104,    0,    0,    0, 
-            0,    0,    0,  105,    0,    0,   31,   32,   33,    0, 
-           34,   35,   36,   37,   38,   39,    0,   40,    0,    0, 
-          108,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          288,    0,    0,  364,    0,    0,   46,   47,    0,   48, 
-            0,  365,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,   52,   53, 
-           54,   55,   56,   57,    0,    0,    0,   58,    0,   59, 
-           60,    0,   61,   62,    4,    5,    6,    0,    8,    0, 
-            0,    0,    9,   10,    0,    0,    0,   11,    0,   12, 
-           13,   14,   99,  100,   17,   18,    0,    0,    0,    0, 
-          101,  102,  103,   22,   23,   24,   25,    0,    0,  104, 
-            0,    0,    0,    0,    0,    0,  105,    0,    0,   31, 
-           32,   33,    0,  106,   35,   36,   37,  107,   39,    0, 
-           40,    0,    0,  108,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  110,    0,    0,  111,    0,    0,   46, 
-           47,    0,   48,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,   52,   53,   54,   55,   56,   57,    0,    0,    0, 
-           58,    0,   59,   60,    0,   61,   62,    4,    5,    6, 
-            0,    8,    0,    0,    0,    9,   10,    0,    0,    0, 
-           11,    0,   12,   13,   14,   99,  100,   17,   18,    0, 
-            0,    0,    0,  101,  102,  103,   22,   23,   24,   25, 
-            0,    0,  104,    0,    0,    0,    0,    0,    0,  105, 
-            0,    0,   31,   32,   33,    0,   34,   35,   36,   37, 
-           38,   39,    0,   40,    0,    0,  108,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  288,    0,    0,  364, 
-            0,    0,   46,   47,    0,   48,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,   52,   53,   54,   55,   56,   57, 
-            0,    0,    0,   58,    0,   59,   60,    0,   61,   62, 
-            4,    5,    6,    0,    8,    0,    0,    0,    9,   10, 
-            0,    0,    0,   11,    0,   12,   13,   14,   99,  100, 
-           17,   18,    0,    0,    0,    0,  101,  102,  103,   22, 
-           23,   24,   25,    0,    0,  104,    0,    0,    0,    0, 
-            0,    0,  105,    0,    0,   31,   32,   33,    0,   34, 
-           35,   36,   37,   38,   39,    0,   40,    0,    0,  108, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  810, 
-            0,    0,  111,    0,    0,   46,   47,    0,   48,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,   52,   53,   54, 
-           55,   56,   57,    0,    0,    0,   58,    0,   59,   60, 
-            0,   61,   62,    4,    5,    6,    0,    8,    0,    0, 
-            0,    9,   10,    0,    0,    0,   11,    0,   12,   13, 
-           14,   99,  100,   17,   18,    0,    0,    0,    0,  101, 
-          102,  103,   22,   23,   24,   25,    0,    0,  104,    0, 
-            0,    0,    0,    0,    0,  105,    0,    0,   31,   32, 
-           33,    0,   34,   35,   36,   37,   38,   39,    0,   40, 
-            0,    0,  108,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  889,    0,    0,  111,    0,    0,   46,   47, 
-            0,   48,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-           52,   53,   54,   55,   56,   57,    0,    0,    0,   58, 
-            0,   59,   60,    0,   61,   62,  120,  121,  122,  123, 
-          124,  125,  126,  127,    0,    0,  128,  129,  130,  131, 
-          132,    0,    0,  133,  134,  135,  136,  137,  138,  139, 
-            0,    0,  140,  141,  142,  200,  201,  202,  203,  147, 
-          148,  149,  150,  151,  152,  153,  154,  155,  156,  157, 
-          158,  204,  205,  206,    0,  207,  163,  264,    0,  208, 
-            0,    0,    0,  165,  166,    0,  167,  168,  169,  170, 
-          171,  172,  173,    0,    0,  174,  175,    0,    0,    0, 
-          176,  177,  178,  179,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  181,  182,    0,  183, 
-          184,  185,  186,  187,  188,  189,  190,  191,  192,  193, 
-            0,    0,  194,   52,  120,  121,  122,  123,  124,  125, 
-          126,  127,    0,    0,  128,  129,  130,  131,  132,    0, 
-            0,  133,  134,  135,  136,  137,  138,  139,    0,    0, 
-          140,  141,  142,  200,  201,  202,  203,  147,  148,  149, 
-          150,  151,  152,  153,  154,  155,  156,  157,  158,  204, 
-          205,  206,    0,  207,  163,    0,    0,  208,    0,    0, 
-            0,  165,  166,    0,  167,  168,  169,  170,  171,  172, 
-          173,    0,    0,  174,  175,    0,    0,    0,  176,  177, 
-          178,  179,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  181,  182,    0,  183,  184,  185, 
-          186,  187,  188,  189,  190,  191,  192,  193,    0,    0, 
-          194,   52,  120,  121,  122,  123,  124,  125,  126,  127, 
-            0,    0,  128,  129,  130,  131,  132,    0,    0,  133, 
-          134,  135,  136,  137,  138,  139,    0,    0,  140,  141, 
-          142,  143,  144,  145,  146,  147,  148,  149,  150,  151, 
-          152,  153,  154,  155,  156,  157,  158,  159,  160,  161, 
-            0,  162,  163,   36,   37,  164,   39,    0,    0,  165, 
-          166,    0,  167,  168,  169,  170,  171,  172,  173,    0, 
-            0,  174,  175,    0,    0,    0,  176,  177,  178,  179, 
-            0,    0,    0,    0,    0,  180,    0,    0,    0,    0, 
-            0,    0,  181,  182,    0,  183,  184,  185,  186,  187, 
-          188,  189,  190,  191,  192,  193,    0,    0,  194,  120, 
-          121,  122,  123,  124,  125,  126,  127,    0,    0,  128, 
-          129,  130,  131,  132,    0,    0,  133,  134,  135,  136, 
-          137,  138,  139,    0,    0,  140,  141,  142,  200,  201, 
-          202,  203,  147,  148,  149,  150,  151,  152,  153,  154, 
-          155,  156,  157,  158,  204,  205,  206,    0,  207,  163, 
-          297,  298,  208,  299,    0,    0,  165,  166,    0,  167, 
-          168,  169,  170,  171,  172,  173,    0,    0,  174,  175, 
-            0,    0,    0,  176,  177,  178,  179,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  181, 
-          182,    0,  183,  184,  185,  186,  187,  188,  189,  190, 
-          191,  192,  193,    0,    0,  194,  120,  121,  122,  123, 
-          124,  125,  126,  127,    0,    0,  128,  129,  130,  131, 
-          132,    0,    0,  133,  134,  135,  136,  137,  138,  139, 
-            0,    0,  140,  141,  142,  200,  201,  202,  203,  147, 
-          148,  149,  150,  151,  152,  153,  154,  155,  156,  157, 
-          158,  204,  205,  206,    0,  207,  163,    0,    0,  208, 
-            0,    0,    0,  165,  166,    0,  167,  168,  169,  170, 
-          171,  172,  173,    0,    0,  174,  175,    0,    0,    0, 
-          176,  177,  178,  179,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  181,  182,    0,  183, 
-          184,  185,  186,  187,  188,  189,  190,  191,  192,  193, 
-          607,  551,  194,    0,  608,    0,    0,    0,  165,  166, 
-            0,  167,  168,  169,  170,  171,  172,  173,    0,    0, 
-          174,  175,    0,    0,    0,  176,  177,  178,  179,    0, 
-            0,    0,    0,    0,  258,    0,    0,    0,    0,    0, 
-            0,  181,  182,    0,  183,  184,  185,  186,  187,  188, 
-          189,  190,  191,  192,  193,  619,  545,  194,    0,  620, 
-            0,    0,    0,  165,  166,    0,  167,  168,  169,  170, 
-          171,  172,  173,    0,    0,  174,  175,    0,    0,    0, 
-          176,  177,  178,  179,    0,    0,    0,    0,    0,  258, 
-            0,    0,    0,    0,    0,    0,  181,  182,    0,  183, 
-          184,  185,  186,  187,  188,  189,  190,  191,  192,  193, 
-          621,  551,  194,    0,  622,    0,    0,    0,  165,  166, 
-            0,  167,  168,  169,  170,  171,  172,  173,    0,    0, 
-          174,  175,    0,    0,    0,  176,  177,  178,  179,    0, 
-            0,    0,    0,    0,  258,    0,    0,    0,    0,    0, 
-            0,  181,  182,    0,  183,  184,  185,  186,  187,  188, 
-          189,  190,  191,  192,  193,  646,  545,  194,    0,  647, 
-            0,    0,    0,  165,  166,    0,  167,  168,  169,  170, 
-          171,  172,  173,    0,    0,  174,  175,    0,    0,    0, 
-          176,  177,  178,  179,    0,    0,    0,    0,    0,  258, 
-            0,    0,    0,    0,    0,    0,  181,  182,    0,  183, 
-          184,  185,  186,  187,  188,  189,  190,  191,  192,  193, 
-          648,  551,  194,    0,  649,    0,    0,    0,  165,  166, 
-            0,  167,  168,  169,  170,  171,  172,  173,    0,    0, 
-          174,  175,    0,    0,    0,  176,  177,  178,  179,    0, 
-            0,    0,    0,    0,  258,    0,    0,    0,    0,    0, 
-            0,  181,  182,    0,  183,  184,  185,  186,  187,  188, 
-          189,  190,  191,  192,  193,  901,  545,  194,    0,  902, 
-            0,    0,    0,  165,  166,    0,  167,  168,  169,  170, 
-          171,  172,  173,    0,    0,  174,  175,    0,    0,    0, 
-          176,  177,  178,  179,    0,    0,    0,    0,    0,  258, 
-            0,    0,    0,    0,    0,    0,  181,  182,    0,  183, 
-          184,  185,  186,  187,  188,  189,  190,  191,  192,  193, 
-          903,  551,  194,    0,  904,    0,    0,    0,  165,  166, 
-            0,  167,  168,  169,  170,  171,  172,  173,    0,    0, 
-          174,  175,    0,    0,    0,  176,  177,  178,  179,    0, 
-            0,    0,    0,    0,  258,    0,    0,    0,    0,    0, 
-            0,  181,  182,    0,  183,  184,  185,  186,  187,  188, 
-          189,  190,  191,  192,  193,  933,  551,  194,    0,  934, 
-            0,    0,    0,  165,  166,    0,  167,  168,  169,  170, 
-          171,  172,  173,    0,    0,  174,  175,    0,    0,    0, 
-          176,  177,  178,  179,    0,    0,    0,    0,    0,  258, 
-            0,    0,    0,    0,    0,    0,  181,  182,    0,  183, 
-          184,  185,  186,  187,  188,  189,  190,  191,  192,  193, 
-          558,  545,  194,    0,  559,    0,    0,    0,  165,  166, 
-            0,  167,  168,  169,  170,  171,  172,  173,    0,    0, 
-          174,  175,    0,    0,    0,  176,  177,  178,  179,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  181,  182,    0,  183,  184,  185,  186,  187,  188, 
-          189,  190,  191,  192,  193,    0,    0,  194, 
-      };
-   }
-
-   private static final short[] yyCheck1() {
-      return new short[] {
-
-            6,    7,   26,  225,   28,   10,    7,   27,  250,  383, 
-            6,   21,    7,   10,   47,   49,  404,   10,  358,   10, 
-          391,   27,    2,    3,    4,    5,   27,  311,    8,    9, 
-           10,   11,   27,   10,   14,   15,   16,  356,  357,   19, 
-          359,  360,  382,   10,  283,   10,   52,  286,   47,   48, 
-           10,   10,   10,   10,   10,   65,   52,   44,   10,  399, 
-           10,  380,   59,  409,   10,   45,   46,   11,   59,   49, 
-           59,   51,   10,  413,  311,  280,  465,  675,  397,  398, 
-          677,  105,   59,   47,   48,   15,   16,   44,   44,   19, 
-           10,   59,  411,   10,   44,  110,   61,   51,   10,   59, 
-           59,  385,   59,   59,   10,  761,   44,   59,  766,   59, 
-           94,  506,   10,   59,   94,    4,    5,  275,   79,   21, 
-          305,   59,  759,  442,  464,   14,  367,   10,   11,  109, 
-           10,  111,   44,  691,  305,   79,  280,   10,  340,  697, 
-           10,   61,   10,  462,   61,   10,   10,   59,  543,  390, 
-          854,   10,  269,   59,  271,   10,  361,   10,   10,  308, 
-           49,   59,  328,   65,  665,   10,   10,   10,   10,  335, 
-          341,  115,   10,    0,   48,   10,   10,  588,  340,  680, 
-          303,   32,  571,   10,  307,   44,   10,  358,   61,  374, 
-           10,   10,  829,   61,   59,   10,  340,   10,  609,  310, 
-           10,  103,   61,  374,  488,   94,  364,   59,  582,   44, 
-           10,  113,  623,   10,  361,   10,  306,  361,  922,  593, 
-          310,   10,  365,  879,   59,  883,  375,  376,   44,   44, 
-           32,   10,   59,   10,   44,  833,   10,   61,   10,  650, 
-          611,   61,  378,  379,  881,   61,  843,   44,   61,    2, 
-            3,  488,  232,  233,  852,    8,    9,   10,   11,   59, 
-            3,   10,   15,   16,   59,   59,   19,  228,  308,  309, 
-           44,  311,   61,  910,   32,  255,  777,  257,  258,  256, 
-           59,  261,   59,  263,  228,   59,   10,   59,  268,  328, 
-          685,  337,   45,   46,  258,  275,  335,   45,   51,  419, 
-          344,  372,  422,  370,  371,  289,  377,  591,  305,  289, 
-          377,  267,  282,  380,  279,  290,  291,   91,  362,  306, 
-          709,  308,  309,  310,  311,  255,   44,  257,  258,  267, 
-          363,  365,  290,  291,  367,  375,  376,   61,   61,  344, 
-          320,  321,  322,  323,  324,  325,  326,  327,  341,  232, 
-          233,  357,  341,  305,  591,  478,  109,  390,  111,  279, 
-           61,  267,  279,  370,  371,  372,  381,  241,  242,  243, 
-          377,  362,  405,  340,   10,  381,  341,  374,  358,  356, 
-           44,  361,  338,  363,  364,  365,  628,  367,  368,  341, 
-          358,  613,  398,  305,  358,  341,  680,  743,  358,  358, 
-          289,  358,  382,  383,  384,  644,  412,  361,  358,  363, 
-          337,  279,  264,  367,  368,  395,  281,  437,  382,  399, 
-          419,  341,  374,  403,  341,   61,  390,  391,  358,  341, 
-          804,  437,  376,  413,  822,  399,  437,  443,  321,  322, 
-          323,  324,  437,  341,    2,    3,    4,    5,    6,  413, 
-            8,  822,  382,  452,  356,  279,   14,  463,  438,  279, 
-          440,  341,  374,  279,  408,  409,  279,  267,  341,  399, 
-          305,  341,  267,  341,  498,  262,  365,  341,  380,  232, 
-          233,  465,  341,  413,  464,  465,  341,   45,  341,  363, 
-          279,   49,  866,  367,  905,  397,  341,  341,  341,  341, 
-          464,  723,  255,  341,  257,  258,  341,  341,  261,  411, 
-          263,  305,  340,   91,   91,  268,  390,  341,  542,  370, 
-          371,  341,  275,  358,  325,  809,  377,  275,  341,    0, 
-          870,  405,  422,  557,  464,   91,   94,  547,  338,  374, 
-          442,  505,  506,  553,  418,  419,  378,  379,  422,  868, 
-          560,  561,  341,  111,  328,  279,  305,  358,  372,  264, 
-          462,  335,  337,  377,  588,  455,  340,  320,  321,  322, 
-          323,  324,  325,  326,  327,  595,  465,  320,  452,  543, 
-          374,  455,  325,  547,  358,  609,   44,  571,  594,  595, 
-           91,  571,  341,  310,  595,  817,  560,  561,  594,  623, 
-          595,  581,  582,  487,   61,  358,  268,  269,  361,  358, 
-          363,  364,  337,  593,  367,  368,  364,  341,  271,  583, 
-          600,    2,    3,    4,    5,  374,  650,    8,   91,  382, 
-          383,  384,   59,   14,  598,  579,   91,  601,  310,  603, 
-          279,  665,  395,  279,  624,  547,  399,  611,  592,  338, 
-          403,  553,   91,  261,  263,  264,  680,   44,  560,  561, 
-          413,  645,   44,   10,   45,  645,   91,  361,   49,  317, 
-          278,  317,  652,   15,   16,  317,   44,   19,   54,   55, 
-          341,  583,  571,   10,  586,  438,    0,  440,  263,  264, 
-          564,  310,  672,  673,  269,  344,   10,  337,  581,  370, 
-          371,  372,  682,  362,  684,  341,  377,  687,  688,  689, 
-          268,  464,   59,   94,  694,   44,  372,  275,  372,  560, 
-          561,  685,   10,   91,  346,  709,   44,    2,    3,  709, 
-          111,  289,   59,    8,  688,  689,  340,  269,  317,   14, 
-          694,  624,  722,  267,  264,   59,  726,  341,  362,  729, 
-          328,  328,  626,  777,   44,   44,  645,  335,  335,  739, 
-          740,  741,  320,   32,   61,  306,  306,  325,  712,  348, 
-           45,   59,  328,  352,  353,  659,  660,   44,   44,  335, 
-          370,  371,  372,  657,    9,   10,   11,  377,  370,  371, 
-          372,  262,  263,  264,   44,  377,   44,  268,  269,  743, 
-          271,    0,   91,   91,  337,  785,  364,  365,  370,  371, 
-          372,   10,  836,    2,  337,  377,  424,  797,  337,  337, 
-          709,   46,  430,  431,  804,  383,   44,  328,  581,  582, 
-          264,  338,  706,  722,  335,  815,  111,  395,  337,  447, 
-          593,  263,  450,  797,  337,  403,  729,  600,  306,  337, 
-          308,  309,  310,  311,  264,   59,   45,  362,  822,   44, 
-           59,    2,    3,  869,  738,  328,   58,    8,  848,    0, 
-          341,  624,  335,  328,  344,  759,  337,  761,  264,   10, 
-          335,  905,  440,  337,  109,    0,  866,  268,  362,  328, 
-          870,  362,  872,  264,  275,  264,  335,   44,  878,  652, 
-          264,   44,  264,  328,   45,   44,  870,  465,  289,  362, 
-          335,  279,  918,  255,   44,  257,  263,  264,   44,  672, 
-          673,   61,  111,   44,   44,   44,  800,   44,   59,  682, 
-           10,  684,  358,  264,  687,  688,  689,  264,   10,  320, 
-          870,  694,  269,  907,  325,  829,  830,  362,  262,  263, 
-          264,  264,   10,  310,  268,  269,  264,  271,  264,  848, 
-          328,   44,  570,  358,   44,  362,  868,  335,   10,  264, 
-          111,   44,   44,  726,   91,   44,  729,  310,   44,  267, 
-           10,   61,  590,  364,  365,   44,  739,  740,  741,   61, 
-          279,   44,  280,  268,  264,  879,  264,  881,   44,  271, 
-          275,   59,  383,  370,  371,  372,  344,  232,  233,   10, 
-          377,   91,  362,  571,  395,  340,  271,   59,  675,   91, 
-          677,  341,  403,  680,  582,  344,  910,  341,  636,   59, 
-          362,   44,  785,   91,  344,  593,  261,   58,  263,  328, 
-          328,  344,  600,   44,  797,  320,  335,  335,  362,   91, 
-          325,  804,  340,   44,   10,   10,  664,  264,   67,  440, 
-           61,    5,  815,  262,  263,  264,    6,  907,  809,  268, 
-          269,  852,  271,  361,  675,   71,   14,  883,   91,  268, 
-          871,   79,   -1,  659,  465,   -1,  275,  645,   44,  364, 
-           91,   -1,   -1,   10,  652,   -1,  321,  322,  323,  324, 
-           91,  326,  327,   10,   59,   61,   -1,   -1,  383,  717, 
-           -1,   10,   -1,  866,  672,  673,   -1,  870,   -1,  872, 
-          395,   -1,   -1,   -1,  682,  878,  684,  268,  403,  687, 
-           -1,  262,  263,  264,  275,   91,   91,  268,  269,   -1, 
-          271,  306,  341,  308,  309,  310,  311,  262,  263,  264, 
-          758,  709,   59,  268,  269,  763,  271,   -1,   -1,  384, 
-           59,   -1,  279,  362,  722,  440,   -1,   10,  726,   -1, 
-           -1,   10,   -1,   -1,  339,  364,   -1,   -1,   -1,  320, 
-           -1,  739,  740,  741,  325,   -1,  843,   -1,   -1,   -1, 
-          571,   -1,   91,   -1,   -1,  852,   -1,  854,   -1,  279, 
-          280,  582,   10,   -1,   -1,   44,  395,  279,  280,  267, 
-          341,  328,  593,  438,  403,   -1,   59,   -1,  335,  600, 
-           -1,   -1,   61,  364,   10,  267,  341,  785,   -1,   -1, 
-           -1,  362,   -1,   -1,  264,   -1,   44,   -1,  280,  269, 
-           -1,  271,  383,  500,  501,   10,  804,  362,  328,   -1, 
-           -1,  440,   91,   61,  395,  335,  328,  815,   -1,   -1, 
-          340,  341,  403,  335,  645,  922,  279,  280,  340,  341, 
-          328,  652,  653,   59,   -1,   -1,   -1,  335,  279,   44, 
-           -1,  361,  340,   91,   -1,   -1,  328,   -1,  279,  361, 
-          848,  672,  673,  335,   -1,   -1,   61,   -1,  340,  440, 
-           -1,  682,   10,  684,   -1,   91,  687,  582,  866,   -1, 
-           -1,    0,  267,   -1,  872,  328,   -1,   -1,  593,  361, 
-          878,   10,  335,  279,  280,  600,   91,  328,  709,  293, 
-          294,  295,  296,  297,  335,   -1,   -1,  328,   -1,  340, 
-          341,  722,   -1,   -1,  335,  726,   -1,   -1,  361,  340, 
-           -1,   59,   -1,   -1,    0,   44,  581,  264,  739,  740, 
-          741,  268,  269,   -1,   10,  317,   -1,   -1,  267,   -1, 
-           59,   -1,  328,  328,   -1,   -1,   10,  652,   -1,  335, 
-          335,  280,   -1,   91,  340,  341,   -1,   -1,   -1,  306, 
-           -1,  308,  309,  310,  311,   -1,  348,  672,  673,  624, 
-          352,  353,  354,  355,  785,  361,   -1,  682,   -1,  684, 
-           44,  600,  687,   59,   -1,   -1,   -1,   -1,   -1,  262, 
-          263,  264,  339,  804,   -1,   59,  269,   -1,   -1,  328, 
-          347,  348,  349,  350,  815,   -1,  335,   -1,   -1,   -1, 
-          279,  582,   15,   16,   -1,   -1,   19,  722,   -1,   -1, 
-            0,  726,  593,   -1,   -1,   -1,   -1,   91,   -1,  600, 
-           10,   -1,  361,  652,  739,  740,  741,  848,   41,   42, 
-           -1,  279,  280,   -1,   47,   48,   -1,   50,   51,   10, 
-           -1,  267,   -1,  672,  673,  866,   -1,   -1,   -1,  328, 
-           -1,  872,   -1,  682,   44,  684,  335,  878,  687,   -1, 
-           -1,   -1,  341,   -1,  729,   -1,   -1,  764,   -1,   59, 
-          785,  652,  769,  770,  279,  772,   -1,  774,   -1,  776, 
-          328,  778,  779,   -1,   -1,   -1,   -1,  335,   59,  804, 
-           -1,  672,  673,  341,   -1,   -1,   -1,  726,   10,   -1, 
-          815,  682,  328,  684,   -1,   -1,  687,   -1,   -1,  335, 
-          739,  740,  741,  361,   -1,   -1,   -1,   -1,   -1,  267, 
-           91,   -1,   -1,  328,   -1,   -1,   44,   -1,   -1,   -1, 
-          335,   -1,  280,  262,  263,  264,  341,   -1,  267,  268, 
-          269,   -1,  271,   -1,   -1,  726,   -1,   59,   -1,   -1, 
-           10,  866,  281,  282,   -1,   -1,  785,  872,  739,  740, 
-          741,  290,  291,  878,  293,  294,  295,  296,  297,   -1, 
-           -1,   -1,   -1,   91,   -1,   -1,  262,  263,  264,   -1, 
-          328,  267,  268,  269,   -1,  271,  815,  335,  885,  886, 
-          887,  888,  340,   -1,  891,  281,  893,  894,  895,  896, 
-           -1,   -1,   -1,   63,  785,   -1,  280,  293,  294,  295, 
-          296,  297,  341,  361,   -1,  344,  306,  346,  308,  309, 
-          310,  311,   -1,  804,   -1,   -1,   -1,   -1,  241,  242, 
-          243,  244,   -1,  362,  815,  932,   -1,   -1,  935,  936, 
-          937,  938,  255,  872,  257,  258,   -1,   -1,  945,  878, 
-            0,   -1,   -1,  266,  328,  341,   -1,   -1,   -1,   -1, 
-           10,  335,   -1,   -1,   -1,   -1,  340,   -1,   -1,   -1, 
-           -1,   -1,  262,  263,  264,   -1,  362,   -1,  268,  269, 
-           -1,  271,   -1,   -1,  358,  866,   -1,  361,   -1,   -1, 
-           -1,  872,   -1,   -1,   44,   -1,  267,  878,   -1,   -1, 
-          290,  291,   -1,  293,  294,  295,  296,   -1,   58,   59, 
-           -1,   61,   -1,   63,   -1,  328,  329,  330,  331,  332, 
-          333,  334,  335,  336,  337,  338,  339,  340,  341,  342, 
-          343,  344,  345,  346,  347,  348,  349,  350,  351,  352, 
-          353,   91,   -1,   -1,   -1,  358,   -1,   -1,  361,   -1, 
-          363,  341,   -1,   -1,  367,  368,   -1,  328,   -1,   -1, 
-           -1,  279,  280,   -1,  335,   -1,   -1,   -1,   -1,  382, 
-           -1,    0,  362,   -1,   -1,   -1,   -1,  390,   -1,   -1, 
-          306,   10,  308,  309,  310,  311,  399,  400,  401,  402, 
-           -1,   -1,  405,   -1,  306,   -1,  308,  309,  310,  311, 
-          413,   -1,   -1,   -1,   -1,  418,  419,   -1,   -1,  422, 
-          328,   -1,   -1,  339,   -1,   44,  328,  335,   -1,   -1, 
-           -1,  347,  340,  335,   -1,   -1,   -1,  339,  340,   -1, 
-           59,  444,  445,  446,   -1,  347,  348,  349,  350,  452, 
-           -1,   -1,  455,  361,  306,    0,  308,  309,  310,  311, 
-           -1,  464,   -1,   10,   -1,   10,   -1,  317,  318,  319, 
-          320,  321,  322,  323,  324,  325,  326,  327,   -1,  329, 
-          330,   -1,   -1,  333,  334,   -1,   -1,  339,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  347,   -1,   -1,  348,   44, 
-          350,   -1,  352,  353,  354,  355,  356,  357,  358,   10, 
-          360,   -1,   59,   -1,   59,   -1,   -1,  257,  258,  259, 
-           -1,  261,  262,  263,  264,  265,  266,  267,  268,  269, 
-          270,  271,  272,  273,  274,  275,  276,  277,  278,  279, 
-          280,  281,  282,  283,  284,  285,  286,  287,  288,  289, 
-          290,  291,  292,  293,  294,  295,  296,  297,   59,  299, 
-           -1,  564,  302,  303,  304,  305,  306,  307,  308,  309, 
-          310,  311,  312,  313,  314,  315,  316,  317,  318,  319, 
-          320,  321,  322,  323,  324,  325,  326,  327,  328,  329, 
-          330,   -1,   -1,  333,  334,  335,  336,  337,  338,  339, 
-          340,  341,  342,  343,  344,  345,  346,  347,  348,  349, 
-          350,  351,  352,  353,  354,  355,  356,  357,  358,  359, 
-          360,  361,  362,  626,  364,  365,  366,  367,  368,  369, 
-           -1,   -1,   -1,  373,  374,  375,  376,    0,  378,  379, 
-           -1,   -1,   -1,  262,  263,  264,   -1,   10,  267,  268, 
-          269,   -1,  271,   -1,  657,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,  297,   -1, 
-           -1,   44,   -1,   -1,   -1,  688,  689,   -1,   -1,   -1, 
-           -1,  694,  695,   -1,   -1,   58,   59,   -1,   61,   -1, 
-           63,   -1,  705,  706,   -1,   -1,   -1,  710,   -1,   -1, 
-           -1,  306,   -1,  308,  309,  310,  311,  262,  263,  264, 
-           -1,   -1,  341,  268,  269,  344,  271,  346,   91,  732, 
-          733,  734,   -1,   -1,  306,  738,  308,  309,  310,  311, 
-           -1,   -1,   -1,  362,  339,   -1,   -1,   -1,  293,  294, 
-          295,  296,  297,   -1,  349,  350,   -1,   -1,   -1,  306, 
-            0,  308,  309,  310,  311,   -1,   -1,  339,  340,   -1, 
-           10,   -1,   -1,   -1,   -1,  347,  348,  349,  350,   -1, 
-           -1,  328,   -1,  786,   -1,   -1,   -1,   -1,  335,   -1, 
-           -1,   -1,  339,  340,  797,   -1,  341,  800,   -1,   -1, 
-          347,  348,  349,  350,   44,  306,   -1,  308,  309,  310, 
-          311,   -1,   -1,   -1,   -1,   -1,  819,  362,   58,   59, 
-           -1,   61,   -1,   63,   -1,   -1,   -1,  328,  306,   -1, 
-          308,  309,  310,  311,  335,   -1,   -1,   -1,  339,  340, 
-          306,   -1,  308,  309,  310,  311,  347,  348,  349,  350, 
-           -1,   91,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  339,  340,   -1,   -1,   -1,   -1,  870,   -1,  347, 
-          348,  349,  350,  339,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  347,  348,  349,  350,   -1,   10,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  257,  258,  259,   -1,  261,  262, 
-          263,  264,  265,  266,  267,  268,  269,  270,  271,  272, 
-          273,  274,  275,  276,  277,  278,  279,  280,  281,  282, 
-          283,  284,  285,  286,  287,  288,  289,  290,  291,  292, 
-          293,  294,  295,  296,  297,   59,  299,   -1,   -1,  302, 
-          303,  304,  305,  306,  307,  308,  309,  310,  311,  312, 
-          313,  314,  315,  316,  317,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,  328,  329,  330,   -1,   -1, 
-          333,  334,  335,  336,  337,  338,  339,  340,  341,  342, 
-          343,  344,  345,  346,  347,  348,  349,  350,  351,  352, 
-          353,  354,  355,  356,  357,  358,  359,  360,  361,  362, 
-           -1,  364,  365,  366,  367,  368,  369,   -1,   -1,   10, 
-          373,  374,  375,  376,   -1,  378,  379,  257,  258,  259, 
-           -1,  261,  262,  263,  264,  265,  266,  267,  268,  269, 
-          270,  271,  272,  273,  274,  275,  276,  277,  278,   -1, 
-          280,  281,  282,  283,  284,  285,  286,  287,  288,  289, 
-          290,  291,  292,  293,  294,  295,  296,  297,   59,  299, 
-           -1,   -1,  302,  303,  304,  305,  306,  307,  308,  309, 
-          310,  311,  312,  313,  314,  315,  316,  317,  318,  319, 
-          320,  321,  322,  323,  324,  325,  326,  327,  328,  329, 
-          330,   -1,   -1,  333,  334,  335,  336,   -1,  338,  339, 
-          340,  341,  342,  343,  344,  345,  346,  347,  348,  349, 
-          350,  351,  352,  353,  354,  355,  356,  357,  358,  359, 
-          360,  361,  362,   -1,  364,  365,  366,  367,  368,  369, 
-            0,   -1,  317,  373,  374,  375,  376,   -1,  378,  379, 
-           10,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  333,  334, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  306,   -1,  308, 
-          309,  310,  311,  348,   -1,  350,   -1,  352,  353,  354, 
-          355,   -1,   -1,  358,   44,  360,   -1,   -1,   -1,   -1, 
-           -1,   -1,  306,   -1,  308,  309,  310,  311,   58,   59, 
-          339,   61,   -1,   63,   -1,   -1,   -1,   -1,  347,  348, 
-          349,  350,   -1,   -1,  328,   -1,   -1,   -1,   -1,   -1, 
-           -1,  335,   -1,   -1,   -1,  339,  340,   -1,   -1,   -1, 
-           -1,   91,   -1,  347,  348,  349,  350,   -1,   -1,   -1, 
-          306,  307,   -1,   -1,  310,   -1,   -1,   -1,  314,  315, 
-           -1,  317,  318,  319,  320,  321,  322,  323,   -1,   -1, 
-          326,  327,   -1,    0,   -1,  331,  332,  333,  334,   -1, 
-           -1,   -1,   -1,   10,  340,   -1,   -1,   -1,   -1,   -1, 
-           -1,  347,  348,   -1,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,   -1,   -1,  363,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   44,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  306,   -1,  308,  309,  310, 
-          311,   58,   59,   -1,   61,   -1,   63,   -1,   -1,  317, 
-          318,  319,  320,  321,  322,  323,  324,  328,  326,  327, 
-           -1,   -1,   -1,   -1,  335,  333,  334,   -1,  339,  340, 
-           -1,   -1,   -1,   -1,   91,   -1,  347,  348,  349,  350, 
-          348,   -1,  350,   -1,  352,  353,  354,  355,  356,  357, 
-          358,   -1,  360,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  257,  258,  259, 
-           -1,  261,  262,  263,  264,  265,  266,  267,  268,  269, 
-          270,  271,  272,  273,  274,  275,  276,  277,  278,   -1, 
-          280,  281,  282,  283,  284,  285,  286,  287,  288,  289, 
-          290,  291,  292,  293,  294,  295,  296,  297,   10,  299, 
-           -1,   -1,  302,  303,  304,  305,  306,  307,  308,  309, 
-          310,  311,  312,  313,  314,  315,  316,  317,  318,  319, 
-          320,  321,  322,  323,  324,  325,  326,  327,  328,  329, 
-          330,   -1,   -1,  333,  334,  335,  336,   -1,  338,  339, 
-          340,  341,  342,  343,  344,  345,  346,  347,  348,  349, 
-          350,  351,  352,  353,  354,  355,  356,  357,  358,  359, 
-          360,  361,  362,   -1,  364,  365,  366,  367,  368,  369, 
-           -1,   -1,   10,  373,  374,  375,  376,   -1,  378,  379, 
-          257,  258,  259,   -1,  261,  262,  263,  264,  265,  266, 
-          267,  268,  269,  270,  271,  272,  273,  274,  275,  276, 
-          277,  278,   -1,  280,  281,  282,  283,  284,  285,  286, 
-          287,  288,  289,  290,  291,  292,  293,  294,  295,  296, 
-          297,   59,  299,   -1,   -1,  302,  303,  304,  305,  306, 
-          307,  308,  309,  310,  311,  312,  313,  314,  315,  316, 
-          317,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,  328,  329,  330,   -1,   -1,  333,  334,  335,  336, 
-           -1,  338,  339,  340,  341,  342,  343,  344,  345,  346, 
-          347,  348,  349,  350,  351,  352,  353,  354,  355,  356, 
-          357,  358,  359,  360,  361,  362,   -1,  364,  365,  366, 
-          367,  368,  369,    0,  317,   -1,  373,  374,  375,  376, 
-           -1,  378,  379,   10,  317,   -1,   -1,   -1,   -1,   -1, 
-          333,  334,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          333,  334,   -1,   -1,   -1,  348,   -1,  350,   -1,  352, 
-          353,  354,  355,   -1,   -1,  348,   -1,   44,   -1,  352, 
-          353,  354,  355,   -1,   -1,  257,  258,  259,   -1,  261, 
-           -1,   58,   59,  265,  266,   -1,   63,   -1,  270,   -1, 
-          272,  273,  274,  275,  276,  277,  278,   -1,   -1,   -1, 
-           -1,  283,  284,  285,  286,  287,  288,  289,   -1,   -1, 
-          292,   -1,   -1,   -1,   91,   -1,   -1,  299,   -1,   -1, 
-          302,  303,  304,   -1,  306,  307,  308,  309,  310,  311, 
-          312,  313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  336,   -1,   10,  339,   -1,   -1, 
-          342,  343,   -1,  345,   -1,  347,   -1,  349,   -1,  351, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1, 
-           -1,   -1,  364,  365,  366,  367,  368,  369,   -1,   -1, 
-           44,  373,   -1,  375,  376,   -1,  378,  379,  306,   -1, 
-          308,  309,  310,  311,   58,   59,   -1,   -1,   -1,   63, 
-           -1,   -1,  317,  318,  319,  320,  321,  322,  323,   -1, 
-          328,  326,  327,   -1,   -1,   -1,   -1,  335,  333,  334, 
-           -1,  339,  340,   -1,   -1,   -1,   -1,   91,   -1,  347, 
-          348,  349,  350,  348,   -1,  350,   -1,  352,  353,  354, 
-          355,  356,  357,  358,   -1,  360,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          257,  258,  259,   -1,  261,  262,  263,  264,  265,  266, 
-          267,  268,  269,  270,  271,  272,  273,  274,  275,  276, 
-          277,  278,   -1,  280,  281,  282,  283,  284,  285,  286, 
-          287,  288,  289,  290,  291,  292,  293,  294,  295,  296, 
-          297,   10,  299,   -1,   -1,  302,  303,  304,  305,  306, 
-          307,  308,  309,  310,  311,  312,  313,  314,  315,  316, 
-          317,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,  328,  329,  330,   -1,   -1,  333,  334,  335,  336, 
-           -1,  338,  339,  340,  341,  342,  343,  344,  345,  346, 
-          347,  348,  349,  350,  351,  352,  353,  354,  355,  356, 
-          357,  358,  359,  360,  361,  362,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   10,  373,  374,  375,  376, 
-           -1,  378,  379,  257,  258,  259,   -1,  261,  262,  263, 
-          264,  265,  266,  267,  268,  269,  270,  271,  272,  273, 
-          274,  275,  276,  277,  278,   -1,  280,  281,  282,  283, 
-          284,  285,  286,  287,  288,  289,  290,  291,  292,  293, 
-          294,  295,  296,  297,   59,  299,   -1,   -1,  302,  303, 
-          304,  305,  306,  307,  308,  309,  310,  311,  312,  313, 
-          314,  315,  316,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,   -1,  333, 
-          334,  335,  336,   -1,  338,  339,  340,  341,  342,  343, 
-          344,  345,  346,  347,  348,  349,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,  361,  362,   -1, 
-          364,  365,  366,  367,  368,  369,    0,   -1,   -1,  373, 
-          374,  375,  376,   -1,  378,  379,   10,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  257,  258, 
-          259,   -1,  261,   -1,   58,   59,  265,  266,   -1,   63, 
-           -1,  270,   -1,  272,  273,  274,  275,  276,  277,  278, 
-           -1,   -1,   -1,   -1,  283,  284,  285,  286,  287,  288, 
-          289,   -1,   -1,  292,   -1,   -1,   -1,   91,   -1,   -1, 
-          299,   -1,   -1,  302,  303,  304,   -1,  306,  307,  308, 
-          309,  310,  311,   -1,  313,  314,  315,  316,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,    0, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1,   10, 
-          339,   -1,   -1,  342,  343,   -1,  345,   -1,   -1,   -1, 
-           -1,   -1,  351,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          359,   -1,   -1,   -1,   -1,  364,  365,  366,  367,  368, 
-          369,   -1,   -1,   44,  373,   -1,  375,  376,   -1,  378, 
-          379,  306,   -1,  308,  309,  310,  311,   58,   59,   -1, 
-           61,   -1,   63,   -1,   -1,  317,   -1,   -1,   -1,   -1, 
-          322,  323,   -1,  328,   -1,   -1,   -1,   -1,   -1,   -1, 
-          335,  333,  334,   -1,  339,  340,   -1,   -1,   -1,   -1, 
-           91,   -1,  347,  348,  349,  350,  348,   -1,  350,   -1, 
-          352,  353,  354,  355,  356,  357,  358,   -1,  360,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,  257,  258,  259,   -1,  261,  262,  263, 
-          264,  265,  266,  267,  268,  269,  270,  271,  272,  273, 
-          274,  275,  276,  277,  278,   -1,  280,  281,  282,  283, 
-          284,  285,  286,  287,  288,  289,  290,  291,  292,  293, 
-          294,  295,  296,  297,   -1,  299,   59,   63,  302,  303, 
-          304,  305,  306,  307,  308,  309,  310,  311,  312,  313, 
-          314,  315,  316,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,   -1,  333, 
-          334,  335,  336,   -1,  338,  339,  340,  341,  342,  343, 
-          344,  345,  346,  347,  348,  349,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,  361,  362,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-          374,  375,  376,   44,  378,  379,  257,  258,  259,   -1, 
-          261,  262,  263,  264,  265,  266,  267,  268,  269,  270, 
-          271,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-          281,  282,  283,  284,  285,  286,  287,  288,  289,  290, 
-          291,  292,  293,  294,  295,  296,  297,   -1,  299,   -1, 
-           91,  302,  303,  304,  305,  306,  307,  308,  309,  310, 
-          311,  312,  313,  314,  315,  316,  317,  318,  319,  320, 
-          321,  322,  323,  324,  325,  326,  327,  328,  329,  330, 
-           -1,   -1,  333,  334,  335,  336,   -1,  338,  339,  340, 
-          341,  342,  343,  344,  345,  346,  347,  348,  349,  350, 
-          351,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-            0,  362,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           10,   -1,  373,  374,  375,  376,   -1,  378,  379,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   -1,   -1,   -1,   44,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   59, 
-           -1,   -1,   -1,   63,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,   -1,  329,  330,   -1,   -1,  333,  334,   -1, 
-           -1,   91,   -1,   -1,   -1,   -1,   -1,   -1,  341,   -1, 
-           -1,  344,  348,  346,  350,   -1,  352,  353,  354,  355, 
-          356,  357,  358,   -1,  360,   -1,   -1,   -1,   -1,  362, 
-           -1,   -1,   -1,    0,   -1,   -1,   -1,   -1,  279,  280, 
-           -1,   -1,   -1,   10,   -1,  317,  318,  319,  320,  321, 
-          322,  323,  324,  325,  326,  327,   -1,   -1,   -1,   -1, 
-           -1,  333,  334,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  348,   44,  350,   -1, 
-          352,  353,  354,  355,  356,  357,  358,  328,  360,   -1, 
-           -1,   -1,   59,   -1,  335,   -1,   63,   -1,   -1,  340, 
-           -1,  306,  307,   -1,   -1,  310,   -1,   -1,   -1,  314, 
-          315,   -1,  317,  318,  319,  320,  321,  322,  323,   -1, 
-          361,  326,  327,   -1,   91,   -1,  331,  332,  333,  334, 
-           -1,   -1,   -1,   -1,   -1,  340,   -1,   -1,   -1,   -1, 
-           10,   -1,  347,  348,   -1,  350,  351,  352,  353,  354, 
-          355,  356,  357,  358,  359,  360,    0,   -1,  363,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   10,  257,  258,  259, 
-           -1,  261,  262,  263,  264,  265,  266,  267,  268,  269, 
-          270,  271,  272,  273,  274,  275,  276,  277,  278,   59, 
-          280,  281,  282,  283,  284,  285,  286,  287,  288,  289, 
-          290,  291,  292,  293,  294,  295,  296,  297,   -1,  299, 
-           -1,   -1,  302,  303,  304,   59,  306,  307,  308,  309, 
-          310,  311,  312,  313,  314,  315,  316,  317,  318,  319, 
-          320,  321,  322,  323,  324,  325,  326,  327,  328,  329, 
-          330,   -1,   -1,  333,  334,  335,  336,   -1,  338,  339, 
-           63,  341,  342,  343,  344,  345,  346,  347,  348,  349, 
-          350,  351,  352,  353,  354,  355,  356,  357,  358,  359, 
-          360,  361,  362,   -1,  364,  365,  366,  367,  368,  369, 
-           -1,   -1,   10,  373,   -1,  375,  376,   -1,  378,  379, 
-          257,  258,  259,   -1,  261,  262,  263,  264,  265,  266, 
-          267,  268,  269,  270,  271,  272,  273,  274,  275,  276, 
-          277,  278,   -1,  280,  281,  282,  283,  284,  285,  286, 
-          287,  288,  289,  290,  291,  292,  293,  294,  295,  296, 
-          297,   59,  299,   -1,   -1,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,  312,  313,  314,  315,  316, 
-          317,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,  328,  329,  330,   -1,   -1,  333,  334,  335,  336, 
-           -1,  338,  339,   -1,  341,  342,  343,  344,  345,  346, 
-          347,  348,  349,  350,  351,  352,  353,  354,  355,  356, 
-          357,  358,  359,  360,  361,  362,   -1,  364,  365,  366, 
-          367,  368,  369,    0,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,   10,   -1,   -1,   -1,   -1,  262,  263, 
-          264,   -1,   -1,   -1,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  306,   -1,  308,  309, 
-          310,  311,   -1,   -1,   -1,   -1,   -1,   44,   -1,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,  328,   -1, 
-           -1,   -1,   59,   -1,   -1,  335,   63,   -1,   -1,  339, 
-          340,   -1,   -1,   -1,   -1,   -1,   -1,  347,  348,  349, 
-          350,   -1,   -1,   -1,  297,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   91,   -1,   -1,  341,   -1,   -1, 
-           -1,   -1,   -1,   -1,  317,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,   -1,  329,  330,  362,   -1, 
-          333,  334,   -1,   -1,   -1,   -1,    0,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  348,   10,  350,   -1,  352, 
-          353,  354,  355,  356,  357,  358,   -1,  360,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  306,   -1, 
-          308,  309,  310,  311,   -1,   59,   -1,   61,   -1,   63, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          328,   10,   -1,   -1,   -1,   -1,   -1,  335,   -1,   -1, 
-           -1,  339,  340,   -1,   -1,   -1,   -1,   91,   -1,  347, 
-          348,  349,  350,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   44,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-      };
-   }
-
-   private static final short[] yyCheck2() {
-      return new short[] {
-
-           -1,   -1,    0,   -1,   -1,   61,   -1,   -1,   -1,   -1, 
-           -1,   -1,   10,  257,  258,  259,   -1,  261,  262,  263, 
-          264,  265,  266,  267,  268,  269,  270,  271,  272,  273, 
-          274,  275,  276,  277,  278,   91,   -1,  281,  282,  283, 
-          284,  285,  286,  287,  288,  289,  290,  291,  292,  293, 
-          294,  295,  296,  297,   -1,  299,   -1,   -1,  302,  303, 
-          304,   59,  306,  307,  308,  309,  310,  311,  312,  313, 
-          314,  315,  316,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,   -1,  333, 
-          334,  335,  336,   -1,  338,  339,   -1,  341,  342,  343, 
-          344,  345,  346,  347,  348,  349,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,   -1,  362,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-           44,  375,  376,   -1,  378,  379,  257,  258,  259,   -1, 
-          261,  262,  263,  264,  265,  266,   -1,  268,  269,  270, 
-          271,  272,  273,  274,  275,  276,  277,  278,   -1,  280, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,  290, 
-          291,  292,  293,  294,  295,  296,  297,   91,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,  312,  313,  314,  315,  316,  317,  318,  319,  320, 
-          321,  322,  323,  324,  325,  326,  327,  328,  329,  330, 
-           -1,   -1,  333,  334,  335,  336,   -1,   -1,  339,  340, 
-          341,  342,  343,  279,  345,   -1,  347,  348,  349,  350, 
-          351,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-          361,  362,   -1,  364,  365,  366,  367,  368,  369,    0, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   10, 
-           -1,   -1,   -1,   -1,  262,  263,  264,   -1,   -1,   -1, 
-          268,  269,  328,  271,   -1,   -1,   -1,   -1,   -1,  335, 
-           -1,   -1,   -1,   -1,   -1,  341,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   44,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,  306,  307,   -1,   59,  310, 
-           61,   -1,   63,  314,  315,   -1,  317,  318,  319,  320, 
-          321,  322,  323,   -1,   -1,  326,  327,   -1,   -1,   -1, 
-          331,  332,  333,  334,   -1,   -1,   -1,   -1,   -1,  340, 
-           91,   -1,   -1,  341,   -1,   -1,  347,  348,   -1,  350, 
-          351,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-           -1,   -1,  363,   -1,  362,  279,  280,   -1,   -1,   -1, 
-           -1,   -1,    0,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   10,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  328,   -1,   44,   -1,   -1,   -1, 
-           -1,  335,   -1,   -1,   -1,   -1,  340,   -1,  306,  307, 
-           -1,   59,  310,   61,   -1,   63,  314,  315,   -1,  317, 
-          318,  319,  320,  321,  322,  323,   -1,  361,  326,  327, 
-           -1,   -1,   -1,  331,  332,  333,  334,   -1,   -1,   -1, 
-           -1,   -1,  340,   91,   -1,   -1,   -1,   -1,   -1,  347, 
-          348,   -1,  350,  351,  352,  353,  354,  355,  356,  357, 
-          358,  359,  360,   -1,   -1,  363,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  257,  258,  259,   -1, 
-          261,  262,  263,  264,  265,  266,   -1,  268,  269,  270, 
-          271,  272,  273,  274,  275,  276,  277,  278,   -1,  280, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,  290, 
-          291,  292,  293,  294,  295,  296,  297,   -1,  299,   44, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,  312,  313,  314,  315,  316,  317,  318,  319,  320, 
-          321,  322,  323,  324,  325,  326,  327,  328,  329,  330, 
-           -1,   -1,  333,  334,  335,  336,   -1,   -1,  339,  340, 
-          341,  342,  343,   -1,  345,   -1,  347,  348,  349,  350, 
-          351,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-          361,  362,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,  257, 
-          258,  259,   -1,  261,  262,  263,  264,  265,  266,   -1, 
-          268,  269,  270,  271,  272,  273,  274,  275,  276,  277, 
-          278,   63,  280,   -1,   -1,  283,  284,  285,  286,  287, 
-          288,  289,  290,  291,  292,  293,  294,  295,  296,  297, 
-           -1,  299,   -1,   -1,  302,  303,  304,   -1,  306,  307, 
-          308,  309,  310,  311,  312,  313,  314,  315,  316,  317, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-          328,  329,  330,   -1,   -1,  333,  334,  335,  336,   -1, 
-           -1,  339,  340,  341,  342,  343,   -1,  345,   -1,  347, 
-          348,  349,  350,  351,  352,  353,  354,  355,  356,  357, 
-          358,  359,  360,  361,  362,   -1,  364,  365,  366,  367, 
-          368,  369,    0,   -1,   -1,  373,   -1,  375,  376,   -1, 
-          378,  379,   10,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  257,  258,  259,   -1,  261,   -1,   -1,   -1, 
-          265,  266,   -1,   -1,   -1,  270,   -1,  272,  273,  274, 
-          275,  276,  277,  278,   -1,   -1,   44,   -1,  283,  284, 
-          285,  286,  287,  288,  289,   -1,   -1,  292,   -1,   -1, 
-           -1,   59,   -1,   61,  299,   63,   -1,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,   -1,  313,   -1, 
-           -1,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   91,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1, 
-          345,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,    0,   -1,   -1,   -1,  364, 
-          365,  366,  367,  368,  369,   10,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,  297,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  317,  318,  319,  320,  321, 
-          322,  323,  324,  325,  326,  327,   -1,  329,  330,   -1, 
-           -1,  333,  334,   -1,   59,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  348,   -1,  350,   -1, 
-          352,  353,  354,  355,  356,  357,  358,   -1,  360,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  257, 
-          258,  259,   -1,  261,  262,  263,  264,  265,  266,   -1, 
-          268,  269,  270,  271,  272,  273,  274,  275,  276,  277, 
-          278,   -1,   -1,   -1,   -1,  283,  284,  285,  286,  287, 
-          288,  289,  290,  291,  292,  293,  294,  295,  296,  297, 
-           -1,  299,   -1,   -1,  302,  303,  304,   44,  306,  307, 
-          308,  309,  310,  311,  312,  313,  314,  315,  316,  317, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-          328,  329,  330,   -1,   -1,  333,  334,  335,  336,   -1, 
-           -1,  339,  340,  341,  342,  343,   -1,  345,   -1,  347, 
-          348,  349,  350,  351,  352,  353,  354,  355,  356,  357, 
-          358,  359,  360,   -1,  362,   -1,  364,  365,  366,  367, 
-          368,  369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1, 
-          378,  379,  257,  258,  259,   -1,  261,  262,  263,  264, 
-          265,  266,  267,  268,  269,  270,  271,  272,  273,  274, 
-          275,  276,  277,  278,   -1,   -1,  281,   -1,  283,  284, 
-          285,  286,  287,  288,  289,  290,  291,  292,  293,  294, 
-          295,  296,  297,   -1,  299,   -1,   -1,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,  312,  313,  314, 
-          315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,    0,  328,   -1,   -1,   -1,   -1,   -1,   -1, 
-          335,  336,   10,   -1,  339,   -1,  341,  342,  343,   -1, 
-          345,   -1,  347,   -1,  349,   -1,  351,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  359,   -1,   -1,  362,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   44,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,   -1,   -1,   -1,   -1,   -1, 
-           58,   59,   -1,   61,   -1,   63,   -1,   -1,   -1,   -1, 
-          257,  258,  259,   -1,  261,   -1,   -1,   -1,  265,  266, 
-           -1,   -1,   -1,  270,   -1,  272,  273,  274,  275,  276, 
-          277,  278,   -1,   91,   -1,   -1,  283,  284,  285,  286, 
-          287,  288,  289,    0,   -1,  292,   -1,   -1,   -1,   -1, 
-           -1,   -1,  299,   10,   -1,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,   -1,  313,   -1,   -1,  316, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   44,   -1,  336, 
-           -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1, 
-           -1,   58,   59,   -1,   -1,   -1,   63,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,   -1,   91,  306,  307,   -1,   -1,  310, 
-           -1,   -1,   -1,  314,  315,   -1,  317,  318,  319,  320, 
-          321,  322,  323,   -1,   -1,  326,  327,    0,   -1,   -1, 
-          331,  332,  333,  334,   -1,   -1,   -1,   10,   -1,  340, 
-           -1,   -1,   -1,   -1,   -1,   -1,  347,  348,   -1,  350, 
-          351,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-           -1,   -1,  363,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   44,   -1,   -1,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,   -1,  271,   -1,   58,   59,   -1,   61,   -1, 
-           63,   -1,  280,  281,  282,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   91,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  317, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-          328,  329,  330,   -1,   -1,  333,  334,  335,   -1,   -1, 
-          338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346,   -1, 
-          348,    0,  350,   -1,  352,  353,  354,  355,  356,  357, 
-          358,   10,  360,  361,  362,  262,  263,  264,   -1,   -1, 
-          267,  268,  269,   -1,  271,   -1,  374,   -1,   -1,   -1, 
-           -1,   -1,   -1,  280,  281,  282,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  290,  291,   44,  293,  294,  295,  296, 
-          297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   58, 
-           59,   -1,   -1,   -1,   63,   -1,   -1,   -1,   -1,   -1, 
-          317,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,  328,  329,  330,   -1,   -1,  333,  334,  335,   -1, 
-           -1,  338,   91,   -1,  341,   -1,   -1,  344,   -1,  346, 
-           -1,  348,   -1,  350,   -1,  352,  353,  354,  355,  356, 
-          357,  358,   -1,  360,  361,  362,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  374,  668,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,  677,  271,   -1, 
-          680,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  317,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,  328,  329,  330,   -1,    0, 
-          333,  334,  335,   -1,  337,  338,   -1,   -1,  341,   10, 
-           -1,  344,   -1,  346,   -1,  348,   -1,  350,   -1,  352, 
-          353,  354,  355,  356,  357,  358,   -1,  360,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  374,   -1,   44,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   58,   59,   -1, 
-           61,   -1,   63,  262,  263,  264,   -1,   -1,  267,  268, 
-          269,   -1,  271,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  280,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1, 
-           91,  290,  291,   -1,  293,  294,  295,  296,  297,   -1, 
-           -1,  841,   -1,  843,   -1,  845,  305,   -1,   -1,  849, 
-           -1,   -1,   -1,   -1,  854,   -1,   -1,   -1,  317,  318, 
-          319,  320,  321,  322,  323,  324,  325,  326,  327,  328, 
-          329,  330,   -1,    0,  333,  334,  335,   -1,   -1,  338, 
-           -1,   -1,  341,   10,   -1,  344,   -1,  346,   -1,  348, 
-           -1,  350,   -1,  352,  353,  354,  355,  356,  357,  358, 
-           -1,  360,  361,  362,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  913,   -1,  374,   -1,   44,   -1,   -1, 
-          920,   -1,  922,   -1,  924,   -1,   -1,   -1,   -1,   -1, 
-           -1,   58,   59,   -1,   61,   -1,   63,   -1,   -1,   -1, 
-           -1,  941,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   91,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,  262,  263,  264,   -1,   -1,  267,  268,  269,   -1, 
-          271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          281,  282,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290, 
-          291,   44,  293,  294,  295,  296,  297,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  305,   58,   59,   -1,   -1,   -1, 
-           63,   -1,   -1,   -1,   -1,   -1,  317,  318,  319,  320, 
-          321,  322,  323,  324,  325,  326,  327,  328,  329,  330, 
-           -1,   -1,  333,  334,  335,   -1,   -1,  338,   91,   -1, 
-          341,   -1,   -1,  344,   -1,  346,   -1,  348,    0,  350, 
-           -1,  352,  353,  354,  355,  356,  357,  358,   10,  360, 
-           -1,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  374,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   44,   -1,   -1,  262,  263,  264,   -1,   -1, 
-          267,  268,  269,   -1,  271,   -1,   58,   59,   -1,   -1, 
-           -1,   63,   -1,   -1,  281,  282,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  290,  291,   -1,  293,  294,  295,  296, 
-          297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   91, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          317,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,  328,  329,  330,   -1,   -1,  333,  334,  335,   -1, 
-           -1,  338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346, 
-           -1,  348,   -1,  350,   -1,  352,  353,  354,  355,  356, 
-          357,  358,    0,  360,   -1,  362,   -1,   -1,   -1,   -1, 
-           -1,   -1,   10,   -1,   -1,   -1,   -1,  374,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,   -1,   44,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1, 
-           58,   59,  305,   -1,   -1,   63,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  317,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,  328,  329,  330,   -1,   -1, 
-          333,  334,  335,   91,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,  348,    0,  350,   -1,  352, 
-          353,  354,  355,  356,  357,  358,   10,  360,   -1,  362, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,   -1,  271, 
-           -1,  374,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281, 
-          282,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291, 
-           44,  293,  294,  295,  296,  297,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  305,   58,   59,   -1,   -1,   -1,   63, 
-           -1,   -1,   -1,   -1,   -1,  317,  318,  319,  320,  321, 
-          322,  323,  324,  325,  326,  327,  328,  329,  330,   -1, 
-           -1,  333,  334,  335,   -1,   -1,  338,   91,   -1,  341, 
-           -1,   -1,  344,   -1,  346,   -1,  348,   -1,  350,   -1, 
-          352,  353,  354,  355,  356,  357,  358,   -1,  360,    0, 
-          362,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   10, 
-           -1,   -1,  374,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   44,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,   -1,  271,   -1,   -1,   -1,   58,   59,   -1, 
-           -1,   -1,   63,  281,  282,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   -1,   -1, 
-           91,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  317, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-          328,  329,  330,   -1,   -1,  333,  334,  335,   -1,   -1, 
-          338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346,   -1, 
-          348,    0,  350,   -1,  352,  353,  354,  355,  356,  357, 
-          358,   10,  360,   -1,  362,   -1,   -1,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,  374,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           -1,   -1,   -1,   -1,   -1,   44,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1,   58, 
-           59,  305,   -1,   -1,   63,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,   -1,  333, 
-          334,  335,   91,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,  348,   -1,  350,   -1,  352,  353, 
-          354,  355,  356,  357,  358,   -1,  360,    0,  362,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-          374,  262,  263,  264,   -1,   -1,  267,  268,  269,   -1, 
-          271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          281,  282,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290, 
-          291,   44,  293,  294,  295,  296,  297,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  305,   58,   59,   -1,   -1,   -1, 
-           63,   -1,   -1,   -1,   -1,   -1,   -1,  318,  319,  320, 
-          321,  322,  323,  324,  325,  326,  327,  328,  329,  330, 
-           -1,   -1,  333,  334,  335,   -1,   -1,  338,   -1,   -1, 
-          341,   -1,   -1,  344,   -1,  346,   -1,  348,    0,  350, 
-           -1,  352,  353,  354,  355,  356,  357,  358,   10,  360, 
-           -1,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  374,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   44,  262,  263,  264,   -1,   -1,  267,  268, 
-          269,   -1,  271,   -1,   -1,   -1,   58,   59,   -1,   -1, 
-           -1,   63,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,  297,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  305,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  318, 
-          319,  320,  321,  322,  323,  324,  325,  326,  327,  328, 
-          329,  330,   -1,    0,  333,  334,  335,   -1,   -1,  338, 
-           -1,   -1,  341,   10,   -1,  344,   -1,  346,   -1,  348, 
-           -1,  350,   -1,  352,  353,  354,  355,  356,  357,  358, 
-           -1,  360,   -1,  362,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  374,   -1,   44,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   58,   59,   -1,   -1,   -1,   63,   -1,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,   -1,  329,  330,   -1,   -1, 
-          333,  334,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,  348,    0,  350,   -1,  352, 
-          353,  354,  355,  356,  357,  358,   10,  360,   -1,  362, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,   -1,  271, 
-           -1,  374,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281, 
-          282,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291, 
-           44,  293,  294,  295,  296,  297,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  305,   58,   59,   -1,   -1,   -1,   63, 
-           -1,   -1,   -1,   -1,   -1,   -1,  318,  319,  320,  321, 
-          322,  323,  324,  325,  326,  327,   -1,  329,  330,   -1, 
-           -1,  333,  334,   -1,   -1,   -1,  338,   -1,   -1,  341, 
-           -1,   -1,  344,   -1,  346,   -1,  348,   -1,  350,   -1, 
-          352,  353,  354,  355,  356,  357,  358,   -1,  360,   -1, 
-          362,    0,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   10,  374,   -1,   -1,  262,  263,  264,   -1,   -1, 
-          267,  268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  281,  282,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  290,  291,   44,  293,  294,  295,  296, 
-          297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   58, 
-           59,   -1,   -1,   -1,   63,   -1,   -1,   -1,   -1,   -1, 
-           -1,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,   -1,  329,  330,   -1,   -1,  333,  334,   -1,   -1, 
-           -1,  338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346, 
-           -1,  348,    0,  350,   -1,  352,  353,  354,  355,  356, 
-          357,  358,   10,  360,   -1,  362,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  374,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   44,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           58,   59,   -1,   -1,   -1,   63,   -1,  281,  282,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,   -1,  329,  330,   -1,    0,  333, 
-          334,   -1,   -1,   -1,  338,   -1,   -1,  341,   10,   -1, 
-          344,   -1,  346,   -1,  348,   -1,  350,   -1,  352,  353, 
-          354,  355,  356,  357,  358,   -1,  360,   -1,  362,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          374,   -1,   44,  262,  263,  264,   -1,   -1,  267,  268, 
-          269,   -1,  271,   -1,   -1,   -1,   58,   59,   -1,   -1, 
-           -1,   63,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,  297,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  305,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  318, 
-          319,  320,  321,  322,  323,  324,  325,  326,  327,   -1, 
-          329,  330,   -1,   -1,  333,  334,   -1,   -1,   -1,  338, 
-           -1,   -1,  341,   -1,   -1,  344,   -1,  346,   -1,  348, 
-            0,  350,   -1,  352,  353,  354,  355,  356,  357,  358, 
-           10,  360,   -1,  362,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,   -1,  271,   -1,  374,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  281,  282,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   44,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   58,   59, 
-           -1,   -1,   -1,   63,   -1,   -1,   -1,   -1,   -1,   -1, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-           -1,  329,  330,   -1,   -1,  333,  334,   -1,   -1,   -1, 
-          338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346,   -1, 
-          348,   -1,  350,   -1,  352,  353,  354,  355,  356,  357, 
-          358,   -1,  360,    0,  362,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   10,   -1,   -1,  374,   -1,   -1,   -1, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,   -1,  271, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281, 
-          282,   -1,   -1,   -1,   -1,   -1,   -1,   44,  290,  291, 
-           -1,  293,  294,  295,  296,  297,   -1,   -1,   -1,   -1, 
-           -1,   58,   59,  305,   -1,   -1,   63,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  318,  319,  320,  321, 
-          322,  323,  324,  325,  326,  327,   -1,  329,  330,   -1, 
-           -1,  333,  334,   -1,   -1,   -1,  338,   -1,   -1,  341, 
-           -1,   -1,  344,   -1,  346,   -1,  348,    0,  350,   -1, 
-          352,  353,  354,  355,  356,  357,  358,   10,  360,   -1, 
-          362,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  374,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   44,  262,  263,  264,   -1,   -1,  267,  268,  269, 
-           -1,  271,   -1,   -1,   -1,   58,   59,   -1,   -1,   -1, 
-           63,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          290,  291,   -1,  293,  294,  295,  296,  297,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  305,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  318,  319, 
-          320,  321,  322,  323,  324,  325,  326,  327,   -1,  329, 
-          330,   -1,   -1,  333,  334,   -1,   -1,   -1,  338,    0, 
-           -1,  341,   -1,   -1,  344,   -1,  346,   -1,   -1,   10, 
-          350,   -1,   -1,   -1,  354,  355,  356,  357,  358,   -1, 
-          360,   -1,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  374,  262,  263,  264,   -1,   -1, 
-          267,  268,  269,   44,  271,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  281,  282,   -1,   58,   59,   -1, 
-           -1,   -1,   63,  290,  291,   -1,  293,  294,  295,  296, 
-          297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,   -1,  329,  330,   -1,   -1,  333,  334,   -1,   -1, 
-           -1,  338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346, 
-           -1,   -1,    0,  350,   -1,   -1,   -1,  354,  355,  356, 
-          357,  358,   10,  360,   -1,  362,   -1,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,  374,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,   -1,   44,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1, 
-           58,   59,  305,   -1,   -1,   63,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,   -1,  329,  330,   -1,   -1, 
-          333,  334,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,   -1,   -1,  350,   -1,   -1, 
-           -1,   -1,   -1,  356,  357,  358,   -1,  360,   -1,  362, 
-            0,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           10,  374,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  262,  263,  264,   -1,   -1,  267,  268,  269,   -1, 
-          271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          281,  282,   -1,   -1,   44,   -1,   -1,   -1,   -1,  290, 
-          291,   -1,  293,  294,  295,  296,  297,   -1,   58,   59, 
-           -1,   -1,   -1,   63,  305,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  318,  319,  320, 
-          321,  322,  323,  324,  325,  326,  327,   -1,  329,  330, 
-           -1,   -1,  333,  334,   -1,   -1,   -1,  338,   -1,   -1, 
-          341,   -1,   -1,  344,   -1,  346,   -1,   -1,    0,  350, 
-           -1,   -1,   -1,   -1,   -1,  356,  357,  358,   10,  360, 
-           -1,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  374,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,   44,  271,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  281,  282,   -1,   58,   59,   -1,   -1, 
-           -1,   63,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-           -1,  329,  330,   -1,   -1,   -1,   -1,    0,   -1,   -1, 
-          338,   -1,   -1,  341,   -1,   -1,  344,   10,  346,   -1, 
-           -1,   -1,  350,   -1,   -1,   -1,   -1,   -1,  356,  357, 
-          358,   -1,  360,   -1,  362,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  374,   -1,   -1,   -1, 
-           -1,   44,  262,  263,  264,   -1,   -1,  267,  268,  269, 
-           -1,  271,   -1,   -1,   -1,   58,   59,   -1,   -1,   -1, 
-           63,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          290,  291,   -1,  293,  294,  295,  296,  297,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  305,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  318,  319, 
-          320,  321,  322,  323,  324,  325,  326,  327,   -1,  329, 
-          330,   -1,   -1,   -1,   -1,   -1,   -1,    0,  338,   -1, 
-           -1,  341,   -1,   -1,  344,   -1,  346,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  356,  357,  358,   -1, 
-          360,   -1,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          262,  263,  264,   -1,  374,  267,  268,  269,   -1,  271, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281, 
-          282,   -1,   -1,   -1,   -1,   58,   59,   -1,  290,  291, 
-           63,  293,  294,  295,  296,  297,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  318,  319,  320,  321, 
-          322,  323,  324,  325,  326,  327,   -1,  329,  330,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  338,   -1,   -1,  341, 
-           -1,   -1,  344,   -1,  346,   -1,   -1,    0,   -1,   -1, 
-           -1,   -1,   -1,   -1,  356,  357,  358,   10,  360,   -1, 
-          362,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262, 
-          263,  264,  374,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   58,   59,   -1,   -1,   -1, 
-           63,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,   -1,  329,  330,   -1,   -1, 
-           -1,   -1,   -1,   -1,    0,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   10,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  356,  357,   -1,   -1,   -1,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  374,   -1,   -1,   -1,   -1,   -1,   -1,   44,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   58,   59,   -1,   -1,   -1,   63,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,   -1,  329,  330,   -1,   -1, 
-           -1,   -1,    0,   -1,   -1,  338,   -1, 
-      };
-   }
-
-   private static final short[] yyCheck3() {
-      return new short[] {
-
-           -1,  341,   -1,   -1,  344,   10,  346,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  356,  357,   -1,   -1, 
-           -1,   -1,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  374,   -1,   -1,   -1,   -1,   44, 
-           -1,   -1,  262,  263,  264,   -1,   -1,  267,  268,  269, 
-           -1,  271,   -1,   58,   59,   -1,   -1,   -1,   63,   -1, 
-           -1,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          290,  291,   -1,  293,  294,  295,  296,  297,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  305,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  318,  319, 
-          320,  321,  322,  323,  324,  325,  326,  327,   -1,  329, 
-          330,   -1,   -1,   -1,   -1,   -1,   -1,    0,  338,   -1, 
-           -1,  341,   -1,   -1,  344,   -1,  346,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  356,  357,   -1,  262, 
-          263,  264,  362,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,  374,   -1,   -1,   -1,  281,  282, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   58,   59,   -1,   -1,   -1, 
-           63,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,   -1,  329,  330,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  356,  357,    0,   -1,   -1,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   10,   -1,   -1,   -1,   -1, 
-           -1,  374,   -1,   -1,   -1,   -1,   -1,  262,  263,  264, 
-           -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1,   44, 
-           -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294, 
-          295,  296,  297,   58,   59,   -1,   -1,   -1,   63,   -1, 
-          305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  324, 
-          325,   -1,   -1,   -1,  329,  330,   -1,   -1,   -1,   -1, 
-           -1,   -1,    0,  338,   -1,   -1,  341,   -1,   -1,  344, 
-           -1,  346,   10,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  362,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  374, 
-           -1,   -1,   -1,   -1,   -1,   -1,   44,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           58,   59,   -1,   -1,   -1,   63,   -1,   -1,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,    0,   -1, 
-           -1,   -1,  305,   -1,   -1,   -1,   -1,   -1,   10,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  324,  325,   -1,   -1,   -1,  329,  330,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   44,  346,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   58,   59,   -1,  362, 
-           -1,   63,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  374,   -1,   -1,   -1,   -1,   -1,  262,  263,  264, 
-           -1,   -1,  267,  268,  269,   -1,  271,   -1,    0,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   10,   -1, 
-           -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294, 
-          295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   44,   -1,   -1,   -1,   -1,   -1,   -1,  324, 
-          325,   -1,   -1,   -1,  329,  330,   58,   59,   -1,   -1, 
-           -1,   63,   -1,  338,   -1,   -1,  341,   -1,   -1,  344, 
-           -1,  346,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  262,  263,  264,  362,   -1,  267, 
-          268,  269,   -1,  271,   -1,    0,   -1,   -1,   -1,  374, 
-           -1,   -1,   -1,  281,  282,   10,   -1,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   44, 
-           -1,   -1,   -1,   -1,   -1,   -1,  324,  325,   -1,   -1, 
-           -1,  329,  330,   58,   59,   -1,   -1,   -1,   63,   -1, 
-          338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346,   -1, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,   -1,  271, 
-           -1,    0,   -1,   -1,  362,   -1,   -1,   -1,   -1,  281, 
-          282,   10,   -1,   -1,   -1,   -1,  374,   -1,  290,  291, 
-           -1,  293,  294,  295,  296,  297,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   44,   -1,   -1,   -1,   -1, 
-           -1,   -1,  324,  325,   -1,   -1,   -1,  329,  330,   58, 
-           59,   -1,   -1,   -1,   63,   -1,  338,   -1,   -1,  341, 
-           -1,   -1,  344,   -1,  346,   -1,   -1,   -1,   -1,   -1, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,   -1,  271, 
-          362,    0,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281, 
-          282,   10,  374,   -1,   -1,   -1,   -1,   -1,  290,  291, 
-           -1,  293,  294,  295,  296,  297,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,    0,   -1,   -1,   -1,   44,   -1,   -1,   -1,   -1, 
-           -1,   10,  324,  325,   -1,   -1,   -1,  329,  330,   58, 
-           59,   -1,   -1,   -1,   63,   -1,  338,   -1,   -1,  341, 
-           -1,   -1,  344,   -1,  346,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   44,   -1,  262,  263,  264, 
-          362,   -1,  267,  268,  269,   -1,  271,   -1,   -1,   58, 
-           59,   -1,  374,   -1,   63,   -1,  281,  282,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294, 
-          295,  296,  297,   -1,   -1,   -1,    0,   -1,   -1,   -1, 
-          305,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  324, 
-          325,   -1,   -1,   -1,  329,  330,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1,  344, 
-           44,  346,   -1,  262,  263,  264,   -1,   -1,  267,  268, 
-          269,   -1,  271,   -1,   58,   59,   -1,  362,   -1,   -1, 
-           -1,   -1,  281,  282,   -1,   -1,   -1,   -1,   -1,  374, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,  297,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  305,   -1,   -1,   -1, 
-           -1,   -1,    0,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   10,   -1,   -1,   -1,  325,   -1,   -1,   -1, 
-          329,  330,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  338, 
-           -1,   -1,  341,   -1,   -1,  344,   -1,  346,   -1,   -1, 
-           -1,   -1,   -1,  262,  263,  264,   44,   -1,  267,  268, 
-          269,   -1,  271,  362,   -1,   -1,   -1,   -1,   -1,   -1, 
-           58,   59,  281,  282,   -1,  374,   -1,   -1,   -1,   -1, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,  297,   -1, 
-           -1,   -1,   -1,  262,  263,  264,  305,    0,  267,  268, 
-          269,   -1,  271,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,  297,  338, 
-           -1,   -1,  341,   -1,   -1,  344,  305,  346,   -1,   -1, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  362,   -1,   58,   59,   -1,    0,   -1, 
-           -1,   -1,   -1,   -1,   -1,  374,   -1,   -1,   10,  338, 
-           -1,   -1,  341,   -1,   -1,  344,   -1,  346,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,  362,   -1,   -1,   -1,  281,  282,   -1, 
-           -1,   -1,   44,   -1,   -1,  374,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   -1,   -1,   58,   59,   -1,   -1, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  338,    0,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,   -1,   10,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  262,  263,  264,   -1,  362,  267, 
-          268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1,   -1, 
-          374,   -1,   -1,  281,  282,   -1,   -1,   -1,   -1,   44, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   58,   59,   -1,   -1,  305,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,    0,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          338,   10,   -1,  341,   -1,   -1,  344,   -1,  346,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,  362,   -1,   -1,   -1,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,   44,  374,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   58, 
-           59,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,   -1,  271, 
-           -1,   -1,   -1,   -1,   -1,  338,   -1,   -1,  341,  281, 
-          282,  344,   -1,  346,   -1,   -1,   -1,   -1,  290,  291, 
-            0,  293,  294,  295,  296,  297,   -1,   -1,   -1,  362, 
-           10,   -1,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  374,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   44,   -1,  338,   -1,   -1,  341, 
-           -1,   -1,  344,   -1,  346,   -1,   -1,   -1,   58,   59, 
-           -1,    0,   -1,   -1,   -1,   -1,   -1,  262,  263,  264, 
-          362,   10,  267,  268,  269,   -1,  271,   -1,   -1,   -1, 
-           -1,   -1,  374,   -1,   -1,   -1,  281,  282,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294, 
-          295,  296,  297,   -1,   -1,   44,   -1,   -1,   -1,   -1, 
-          305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   58, 
-           59,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  338,   -1,   -1,  341,    0,   -1,  344, 
-           -1,  346,   -1,  262,  263,  264,   -1,   10,  267,  268, 
-          269,   -1,  271,   -1,   -1,   -1,   -1,  362,   -1,   -1, 
-           -1,   -1,  281,  282,   -1,   -1,   -1,   -1,   -1,  374, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,  297,   -1, 
-           -1,   44,   -1,   -1,   -1,   -1,  305,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   58,   59,    0,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  338, 
-           -1,   -1,  341,   -1,   -1,  344,   -1,  346,   -1,   -1, 
-           -1,   -1,   -1,   -1,    0,   -1,   -1,   -1,   -1,   -1, 
-           -1,   44,   -1,  362,   10,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  262,  263,  264,  374,   59,  267,  268,  269, 
-           -1,  271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  281,  282,   -1,   -1,   -1,   -1,   -1,   44,   -1, 
-          290,  291,   -1,  293,  294,  295,  296,  297,   -1,   -1, 
-           -1,   -1,   58,   59,   -1,  305,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  262,  263,  264,   -1,   -1,  267,  268, 
-          269,   -1,  271,   -1,   -1,   -1,   -1,   -1,  338,   -1, 
-           -1,  341,  281,  282,  344,   -1,  346,   -1,   -1,   -1, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,  297,   -1, 
-           -1,   -1,  362,   -1,   -1,   -1,  305,   -1,    0,   -1, 
-           -1,   -1,   -1,   -1,  374,   -1,   -1,   -1,   10,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  338, 
-           -1,   -1,  341,   -1,   -1,  344,   -1,  346,   -1,  262, 
-          263,  264,   44,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,  362,   -1,   -1,   58,   59,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,  374,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  305,   -1,   -1,    0,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   10,   -1,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,   -1,   -1,   -1,   -1,   44, 
-          293,  294,  295,  296,  297,   -1,  262,  263,  264,  362, 
-           -1,  267,  268,  269,   59,  271,   -1,   -1,   -1,   -1, 
-           -1,  374,   -1,   -1,   -1,  281,  282,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294,  295, 
-          296,  297,    0,   -1,   -1,  338,   -1,   -1,  341,  305, 
-           -1,   -1,   10,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  338,   -1,   -1,  341,   44,   -1,  344,   -1, 
-          346,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           58,   59,   -1,   -1,   -1,   -1,  362,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  374,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   -1, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,   10,  271, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281, 
-          282,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291, 
-           -1,  293,  294,  295,  296,  297,   -1,   -1,   -1,   -1, 
-           -1,   -1,   44,  305,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   58,   59,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  338,   -1,   -1,  341, 
-           -1,   -1,  344,   -1,  346,   -1,   -1,  262,  263,  264, 
-           -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1, 
-          362,   -1,   -1,   10,   -1,   -1,  281,  282,   -1,   -1, 
-           -1,   -1,  374,   -1,   -1,  290,  291,   -1,  293,  294, 
-          295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   59,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1,  344, 
-           -1,  346,   -1,   -1,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,   -1,  271,   91,   -1,   -1,  362,   -1,   -1, 
-           -1,   -1,   -1,  281,  282,   -1,   -1,   -1,   -1,  374, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346,   -1, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,   -1,  271, 
-           -1,   -1,   -1,   -1,  362,   -1,   59,   -1,   -1,  281, 
-          282,   -1,   -1,   -1,   -1,   -1,  374,   -1,  290,  291, 
-           -1,  293,  294,  295,  296,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  305,   -1,   -1,   -1,   -1,   91,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  338,   -1,   -1,  341, 
-           -1,   -1,  344,   -1,  346,   -1,   -1,   -1,   -1,  256, 
-          257,  258,  259,  260,  261,  262,  263,  264,  265,  266, 
-          362,   10,  269,  270,   -1,  272,  273,  274,  275,  276, 
-          277,  278,  374,  280,   -1,   -1,  283,  284,  285,  286, 
-          287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1, 
-           -1,  298,  299,  300,  301,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,   -1,  313,  314,  315,  316, 
-           59,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  328,   -1,   -1,   -1,   -1,   -1,   -1,  335,  336, 
-           -1,   -1,  339,  340,   -1,  342,  343,   -1,  345,   -1, 
-          347,   -1,   91,   -1,  351,   -1,   -1,   -1,   -1,  356, 
-           -1,   -1,  359,   -1,  361,   -1,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,  256,  257,  258,  259,  260,  261,  262, 
-          263,  264,  265,  266,   -1,   10,  269,  270,   -1,  272, 
-          273,  274,  275,  276,  277,  278,   -1,  280,   -1,   -1, 
-          283,  284,  285,  286,  287,  288,  289,   -1,   -1,  292, 
-           -1,   -1,   -1,   -1,   -1,  298,  299,  300,  301,  302, 
-          303,  304,   -1,  306,  307,  308,  309,  310,  311,   -1, 
-          313,  314,  315,  316,   59,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  328,   -1,   -1,   -1,   -1, 
-           -1,   -1,  335,  336,   -1,   -1,  339,  340,   -1,  342, 
-          343,   -1,  345,   -1,  347,   -1,   91,   -1,  351,   -1, 
-           -1,   -1,   -1,  356,   -1,   -1,  359,   -1,  361,   -1, 
-           -1,  364,  365,  366,  367,  368,  369,   -1,   -1,   -1, 
-          373,   -1,  375,  376,   -1,  378,  379,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  256,  257,  258, 
-          259,  260,  261,  262,  263,  264,  265,  266,   -1,   10, 
-          269,  270,   -1,  272,  273,  274,  275,  276,  277,  278, 
-           -1,  280,   -1,   -1,  283,  284,  285,  286,  287,  288, 
-          289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,  298, 
-          299,  300,  301,  302,  303,  304,   -1,  306,  307,  308, 
-          309,  310,  311,   -1,  313,  314,  315,  316,   59,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  328, 
-           -1,   -1,   -1,   -1,   -1,   -1,  335,  336,   -1,   -1, 
-          339,  340,   -1,  342,  343,   -1,  345,   -1,  347,   -1, 
-           91,   -1,  351,   -1,   -1,   -1,   -1,  356,   -1,   -1, 
-          359,   -1,  361,   -1,   -1,  364,  365,  366,  367,  368, 
-          369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378, 
-          379,  256,  257,  258,  259,  260,  261,  262,  263,  264, 
-          265,  266,   -1,   10,  269,  270,   -1,  272,  273,  274, 
-          275,  276,  277,  278,   -1,   -1,   -1,   -1,  283,  284, 
-          285,  286,  287,  288,  289,   -1,   -1,  292,   -1,   -1, 
-           -1,   -1,   -1,  298,  299,  300,  301,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,   -1,  313,  314, 
-          315,  316,   59,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  328,   -1,   -1,   -1,   -1,   -1,   -1, 
-          335,  336,   -1,   -1,  339,  340,   -1,  342,  343,   -1, 
-          345,   -1,  347,   -1,   -1,   -1,  351,   -1,   -1,   -1, 
-           -1,  356,   -1,   -1,  359,   -1,   -1,   -1,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  256,  257,  258,  259,  260, 
-          261,  262,  263,  264,  265,  266,   -1,   10,  269,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,  298,  299,  300, 
-          301,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   59,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  328,   -1,   -1, 
-           -1,   -1,   -1,   -1,  335,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,  356,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,  256, 
-          257,  258,  259,  260,  261,  262,  263,  264,  265,  266, 
-           -1,  268,  269,  270,  271,  272,  273,  274,  275,  276, 
-          277,  278,   10,   -1,   -1,   -1,  283,  284,  285,  286, 
-          287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1, 
-           -1,  298,  299,  300,  301,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,   -1,  313,  314,  315,  316, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   59,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336, 
-           -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1, 
-          347,   -1,   -1,   -1,  351,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  256,  257,  258,  259,  260,  261,   -1, 
-           -1,  264,  265,  266,   -1,   10,   -1,  270,   -1,  272, 
-          273,  274,  275,  276,  277,  278,   -1,   -1,   -1,   -1, 
-          283,  284,  285,  286,  287,  288,  289,   -1,   -1,  292, 
-           -1,   -1,   -1,   -1,   -1,  298,  299,  300,  301,  302, 
-          303,  304,   -1,  306,  307,  308,  309,  310,  311,   -1, 
-          313,  314,  315,  316,   59,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342, 
-          343,   -1,  345,   -1,  347,   -1,   -1,   -1,  351,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1, 
-           -1,  364,  365,  366,  367,  368,  369,   -1,   -1,   -1, 
-          373,   -1,  375,  376,   -1,  378,  379,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  256,  257, 
-          258,  259,  260,  261,   -1,   -1,   -1,  265,  266,   -1, 
-           -1,   -1,  270,   -1,  272,  273,  274,  275,  276,  277, 
-          278,   -1,   -1,   -1,   -1,  283,  284,  285,  286,  287, 
-          288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1, 
-          298,  299,  300,  301,  302,  303,  304,   -1,  306,  307, 
-          308,  309,  310,  311,   -1,  313,  314,  315,  316,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1, 
-           -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1,  347, 
-           -1,   -1,   -1,  351,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  359,    0,   -1,  362,   -1,  364,  365,  366,  367, 
-          368,  369,   10,   -1,   -1,  373,   -1,  375,  376,   -1, 
-          378,  379,  257,  258,  259,   -1,  261,   -1,   -1,   -1, 
-          265,  266,   -1,   -1,   -1,  270,   -1,  272,  273,  274, 
-          275,  276,  277,  278,   -1,   -1,   44,   -1,  283,  284, 
-          285,  286,  287,  288,  289,   -1,   -1,  292,   -1,   -1, 
-           -1,   59,   -1,   61,  299,   63,   -1,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,   -1,  313,  314, 
-          315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   91,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  336,   -1,    0,  339,   -1,   -1,  342,  343,   -1, 
-          345,   -1,   -1,   10,   -1,   -1,  351,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,   -1,   -1,   44,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   59,   -1,   -1,   -1,   63,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   91,  257,  258,  259,   -1,  261, 
-           -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270,    0, 
-          272,  273,  274,  275,  276,  277,  278,   -1,   -1,   10, 
-           -1,  283,  284,  285,  286,  287,  288,  289,   -1,   -1, 
-          292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1,   -1, 
-          302,  303,  304,   -1,  306,  307,  308,  309,  310,  311, 
-           -1,  313,   -1,   44,  316,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  262,  263,  264,   -1,   59,   -1, 
-          268,  269,   63,  271,  336,   -1,   -1,  339,   -1,   -1, 
-          342,  343,  280,  345,   -1,  347,   -1,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           91,   -1,  364,  365,  366,  367,  368,  369,   -1,   -1, 
-           -1,  373,   -1,  375,  376,   -1,  378,  379,   -1,  317, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-          328,  329,  330,   -1,   -1,  333,  334,  335,   -1,   -1, 
-           -1,   -1,   -1,  341,   -1,   -1,   -1,   -1,   -1,   -1, 
-          348,    0,  350,   -1,  352,  353,  354,  355,  356,  357, 
-          358,   10,  360,  361,  362,  262,  263,  264,   -1,   -1, 
-          267,  268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  281,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  290,  291,   44,  293,  294,  295,  296, 
-          297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           59,   -1,   -1,   -1,   63,   -1,   -1,   -1,   -1,   -1, 
-          317,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,  328,  329,  330,   -1,   -1,  333,  334,  335,   -1, 
-           -1,   -1,   91,   -1,  341,   -1,   -1,   -1,   -1,   -1, 
-           -1,  348,   -1,  350,    0,  352,  353,  354,  355,  356, 
-          357,  358,   -1,  360,   10,  362,   -1,   -1,   -1,   -1, 
-           -1,  262,  263,  264,   -1,   -1,  267,  268,  269,   -1, 
-          271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          281,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   44,  290, 
-          291,   -1,  293,  294,  295,  296,  297,   -1,   -1,   -1, 
-           -1,   -1,   -1,   59,   -1,   61,   -1,   63,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  317,  318,  319,  320, 
-          321,  322,  323,  324,  325,  326,  327,  328,  329,  330, 
-           -1,   -1,  333,  334,  335,   91,   -1,   -1,   -1,   -1, 
-          341,   -1,   -1,   -1,   -1,   -1,   -1,  348,   -1,  350, 
-           -1,  352,  353,  354,  355,  356,  357,  358,    0,  360, 
-           -1,  362,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   44,  262,  263,  264,   -1,   -1,  267,  268, 
-          269,   -1,  271,   -1,   -1,   -1,   -1,   59,   -1,   61, 
-           -1,   63,  281,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,  297,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   91, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  317,  318, 
-          319,  320,  321,  322,  323,  324,  325,  326,  327,  328, 
-          329,  330,   -1,   -1,  333,  334,  335,   -1,   -1,   -1, 
-           -1,   -1,  341,   -1,   -1,   -1,   -1,   -1,   -1,  348, 
-           -1,  350,    0,  352,  353,  354,  355,  356,  357,  358, 
-           -1,  360,   10,  362,   -1,   -1,  262,  263,  264,   -1, 
-           -1,   -1,  268,  269,   -1,  271,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  290,  291,   44,  293,  294,  295, 
-          296,  297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   59,   -1,   61,   -1,   63,   -1,   -1,   -1,   -1, 
-           -1,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,  328,  329,  330,   -1,   -1,  333,  334,  335, 
-           -1,  337,   -1,   91,   -1,  341,   -1,   -1,   -1,   -1, 
-           -1,   -1,  348,   -1,  350,   -1,  352,  353,  354,  355, 
-          356,  357,  358,    0,  360,   -1,  362,   -1,   -1,   -1, 
-           -1,   -1,   -1,   10,   -1,   -1,   -1,   -1,   -1,   -1, 
-          262,  263,  264,   -1,   -1,   -1,  268,  269,   -1,  271, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,  290,  291, 
-           -1,  293,  294,  295,  296,  297,   10,   -1,   -1,   -1, 
-           -1,   -1,   59,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  317,  318,  319,  320,  321, 
-          322,  323,  324,  325,  326,  327,  328,  329,  330,   -1, 
-           -1,  333,  334,  335,   -1,   -1,   -1,   -1,   -1,  341, 
-           -1,   -1,   -1,   -1,   -1,   59,  348,    0,  350,   -1, 
-          352,  353,  354,  355,  356,  357,  358,   10,  360,   -1, 
-          362,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,    0,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   10,  262,  263,  264,   -1,   -1,   -1, 
-          268,  269,   -1,  271,   -1,   -1,   59,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   59,   -1,   -1,   -1,   -1,   -1,   -1,  317, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-          328,  329,  330,   -1,   -1,  333,  334,  335,    0,   -1, 
-           -1,   -1,   -1,  341,   -1,   -1,   -1,   -1,   10,   -1, 
-          348,   -1,  350,   -1,  352,  353,  354,  355,  356,  357, 
-          358,   -1,  360,   -1,  362,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  262,  263,  264,   -1,   -1, 
-          267,  268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  281,  282,   -1,   59,   -1,   -1, 
-           -1,    0,   -1,  290,  291,   -1,  293,  294,  295,  296, 
-          297,   10,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,  341,   -1,   -1,  344,   -1,  346, 
-           59,   -1,   -1,   -1,    0,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   10,  362,   -1,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  341,  281,  282, 
-          344,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,  262,  263,  264,  362,    0, 
-          267,  268,  269,   59,  271,   -1,   -1,   -1,   -1,   10, 
-           -1,   -1,   -1,   -1,  281,  282,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  290,  291,   -1,  293,  294,  295,  296, 
-          297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,   44,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   59,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,  341,   -1,   -1,  344,   -1,   -1, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,   -1,  271, 
-           -1,   -1,   -1,   -1,   -1,  362,   -1,   -1,   -1,  281, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291, 
-           -1,  293,  294,  295,  296,  297,   59, 
-      };
-   }
-
-   private static final short[] yyCheck4() {
-      return new short[] {
-
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  262,  263,  264,   -1, 
-           -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1,   -1, 
-           -1,   -1,  341,   -1,   -1,  281,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294,  295, 
-          296,  297,   -1,  362,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262, 
-          263,  264,   59,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,  341,   -1,   -1,  281,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,  362,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  341,   -1, 
-           -1,   -1,   -1,   -1,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  262,  263,  264,   -1,   -1,  267,  268,  269, 
-           -1,  271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          338,   -1,   -1,  341,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  293,  294,  295,  296,  297,   -1,   -1, 
-           -1,   -1,   -1,   -1,  362,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  338,   -1, 
-           -1,  341,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          257,  258,  259,  260,  261,   -1,   -1,   -1,  265,  266, 
-           -1,   -1,  362,  270,   -1,  272,  273,  274,  275,  276, 
-          277,  278,   -1,   -1,   -1,   -1,  283,  284,  285,  286, 
-          287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1, 
-           -1,  298,  299,  300,  301,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,   -1,  313,  314,  315,  316, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336, 
-           -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1, 
-          347,   -1,   -1,   -1,  351,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,  256,  257,  258,  259,  260,  261,   -1, 
-           -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272, 
-          273,  274,  275,  276,  277,  278,   -1,   -1,   -1,   -1, 
-          283,  284,  285,  286,  287,  288,  289,   -1,   -1,  292, 
-           -1,   -1,   -1,   -1,   -1,  298,  299,  300,  301,  302, 
-          303,  304,   -1,  306,  307,  308,  309,  310,  311,   -1, 
-          313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342, 
-          343,   -1,  345,   -1,  347,   -1,   -1,   -1,  351,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1, 
-           -1,  364,  365,  366,  367,  368,  369,   -1,   -1,   -1, 
-          373,   -1,  375,  376,   -1,  378,  379,  256,  257,  258, 
-          259,  260,  261,   -1,   -1,   -1,  265,  266,   -1,   -1, 
-           -1,  270,   -1,  272,  273,  274,  275,  276,  277,  278, 
-           -1,   -1,   -1,   -1,  283,  284,  285,  286,  287,  288, 
-          289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,  298, 
-          299,  300,  301,  302,  303,  304,   -1,  306,  307,  308, 
-          309,  310,  311,   -1,  313,  314,  315,  316,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1,   -1, 
-          339,   -1,   -1,  342,  343,   -1,  345,   -1,  347,   -1, 
-           -1,   -1,  351,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          359,   -1,   -1,   -1,   -1,  364,  365,  366,  367,  368, 
-          369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378, 
-          379,  257,  258,  259,  260,  261,   -1,   -1,   -1,  265, 
-          266,   -1,   -1,   -1,  270,   -1,  272,  273,  274,  275, 
-          276,  277,  278,   -1,   -1,   -1,   -1,  283,  284,  285, 
-          286,  287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1, 
-           -1,   -1,  298,  299,  300,  301,  302,  303,  304,   -1, 
-          306,  307,  308,  309,  310,  311,   -1,  313,  314,  315, 
-          316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345, 
-           -1,  347,   -1,   -1,   -1,  351,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  359,   -1,   -1,   -1,   -1,  364,  365, 
-          366,  367,  368,  369,   -1,   -1,   -1,  373,   -1,  375, 
-          376,   -1,  378,  379,  257,  258,  259,   -1,  261,   -1, 
-           -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272, 
-          273,  274,  275,  276,  277,  278,   -1,   -1,   -1,   -1, 
-          283,  284,  285,  286,  287,  288,  289,   -1,   -1,  292, 
-           -1,   -1,   -1,   -1,   -1,   -1,  299,   -1,   -1,  302, 
-          303,  304,   -1,  306,  307,  308,  309,  310,  311,  312, 
-          313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342, 
-          343,   -1,  345,   -1,  347,   -1,  349,   -1,  351,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1, 
-           -1,  364,  365,  366,  367,  368,  369,   -1,   -1,   -1, 
-          373,   -1,  375,  376,   -1,  378,  379,  257,  258,  259, 
-           -1,  261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1, 
-          270,   -1,  272,  273,  274,  275,  276,  277,  278,   -1, 
-           -1,   -1,   -1,  283,  284,  285,  286,  287,  288,  289, 
-           -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299, 
-           -1,   -1,  302,  303,  304,   -1,  306,  307,  308,  309, 
-          310,  311,  312,  313,  314,  315,  316,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339, 
-           -1,   -1,  342,  343,   -1,  345,   -1,  347,   -1,  349, 
-           -1,  351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359, 
-           -1,   -1,   -1,   -1,  364,  365,  366,  367,  368,  369, 
-           -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378,  379, 
-          257,  258,  259,   -1,  261,   -1,   -1,   -1,  265,  266, 
-           -1,   -1,   -1,  270,   -1,  272,  273,  274,  275,  276, 
-          277,  278,   -1,   -1,   -1,   -1,  283,  284,  285,  286, 
-          287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1, 
-           -1,   -1,  299,   -1,   -1,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,  312,  313,  314,  315,  316, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336, 
-           -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1, 
-          347,   -1,  349,   -1,  351,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,  257,  258,  259,   -1,  261,   -1,   -1, 
-           -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272,  273, 
-          274,  275,  276,  277,  278,   -1,   -1,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,   -1,   -1,  292,   -1, 
-           -1,   -1,   -1,   -1,   -1,  299,   -1,   -1,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,  312,  313, 
-          314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343, 
-           -1,  345,   -1,  347,   -1,   -1,   -1,  351,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,  312,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,   -1,   -1,  349,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,  257, 
-          258,  259,   -1,  261,   -1,   -1,   -1,  265,  266,   -1, 
-           -1,   -1,  270,   -1,  272,  273,  274,  275,  276,  277, 
-          278,   -1,   -1,   -1,   -1,  283,  284,  285,  286,  287, 
-          288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1, 
-           -1,  299,   -1,   -1,  302,  303,  304,   -1,  306,  307, 
-          308,  309,  310,  311,  312,  313,  314,  315,  316,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1, 
-           -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1,  347, 
-           -1,   -1,   -1,  351,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366,  367, 
-          368,  369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1, 
-          378,  379,  257,  258,  259,   -1,  261,   -1,   -1,   -1, 
-          265,  266,   -1,   -1,   -1,  270,   -1,  272,  273,  274, 
-          275,  276,  277,  278,   -1,   -1,   -1,   -1,  283,  284, 
-          285,  286,  287,  288,  289,   -1,   -1,  292,   -1,   -1, 
-           -1,   -1,   -1,   -1,  299,   -1,   -1,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,  312,  313,  314, 
-          315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1, 
-          345,   -1,   -1,   -1,   -1,   -1,  351,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,  257,  258,  259,   -1,  261, 
-           -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1, 
-          272,  273,  274,  275,  276,  277,  278,   -1,   -1,   -1, 
-           -1,  283,  284,  285,  286,  287,  288,  289,   -1,   -1, 
-          292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1,   -1, 
-          302,  303,  304,   -1,  306,  307,  308,  309,  310,  311, 
-           -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  336,   -1,   -1,  339,  340,   -1, 
-          342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1,  351, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1, 
-           -1,   -1,  364,  365,  366,  367,  368,  369,   -1,   -1, 
-           -1,  373,   -1,  375,  376,   -1,  378,  379,  257,  258, 
-          259,   -1,  261,   -1,   -1,   -1,  265,  266,   -1,   -1, 
-           -1,  270,   -1,  272,  273,  274,  275,  276,  277,  278, 
-           -1,   -1,   -1,   -1,  283,  284,  285,  286,  287,  288, 
-          289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,   -1, 
-          299,   -1,   -1,  302,  303,  304,   -1,  306,  307,  308, 
-          309,  310,  311,   -1,  313,  314,  315,  316,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1,   -1, 
-          339,   -1,   -1,  342,  343,   -1,  345,   -1,  347,   -1, 
-           -1,   -1,  351,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          359,   -1,   -1,   -1,   -1,  364,  365,  366,  367,  368, 
-          369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378, 
-          379,  257,  258,  259,   -1,  261,   -1,   -1,   -1,  265, 
-          266,   -1,   -1,   -1,  270,   -1,  272,  273,  274,  275, 
-          276,  277,  278,   -1,   -1,   -1,   -1,  283,  284,  285, 
-          286,  287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1, 
-           -1,   -1,   -1,  299,   -1,   -1,  302,  303,  304,   -1, 
-          306,  307,  308,  309,  310,  311,   -1,  313,  314,  315, 
-          316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345, 
-           -1,  347,   -1,   -1,   -1,  351,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  359,   -1,   -1,   -1,   -1,  364,  365, 
-          366,  367,  368,  369,   -1,   -1,   -1,  373,   -1,  375, 
-          376,   -1,  378,  379,  257,  258,  259,   -1,  261,   -1, 
-           -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272, 
-          273,  274,  275,  276,  277,  278,   -1,   -1,   -1,   -1, 
-          283,  284,  285,  286,  287,  288,  289,   -1,   -1,  292, 
-           -1,   -1,   -1,   -1,   -1,   -1,  299,   -1,   -1,  302, 
-          303,  304,   -1,  306,  307,  308,  309,  310,  311,   -1, 
-          313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342, 
-          343,   -1,  345,   -1,  347,   -1,   -1,   -1,  351,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1, 
-           -1,  364,  365,  366,  367,  368,  369,   -1,   -1,   -1, 
-          373,   -1,  375,  376,   -1,  378,  379,  257,  258,  259, 
-           -1,  261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1, 
-          270,   -1,  272,  273,  274,  275,  276,  277,  278,   -1, 
-           -1,   -1,   -1,  283,  284,  285,  286,  287,  288,  289, 
-           -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299, 
-           -1,   -1,  302,  303,  304,   -1,  306,  307,  308,  309, 
-          310,  311,   -1,  313,  314,  315,  316,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339, 
-           -1,   -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1, 
-           -1,  351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359, 
-           -1,   -1,   -1,   -1,  364,  365,  366,  367,  368,  369, 
-           -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378,  379, 
-          257,  258,  259,   -1,  261,   -1,   -1,   -1,  265,  266, 
-           -1,   -1,   -1,  270,   -1,  272,  273,  274,  275,  276, 
-          277,  278,   -1,   -1,   -1,   -1,  283,  284,  285,  286, 
-          287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1, 
-           -1,   -1,  299,   -1,   -1,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,   -1,  313,  314,  315,  316, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336, 
-           -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1, 
-          347,   -1,   -1,   -1,  351,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,  257,  258,  259,   -1,  261,   -1,   -1, 
-           -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272,  273, 
-          274,  275,  276,  277,  278,   -1,   -1,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,   -1,   -1,  292,   -1, 
-           -1,   -1,   -1,   -1,   -1,  299,   -1,   -1,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,   -1,  313, 
-          314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  336,   -1,   -1,  339,  340,   -1,  342,  343, 
-           -1,  345,   -1,   -1,   -1,   -1,   -1,  351,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,  257, 
-          258,  259,   -1,  261,   -1,   -1,   -1,  265,  266,   -1, 
-           -1,   -1,  270,   -1,  272,  273,  274,  275,  276,  277, 
-          278,   -1,   -1,   -1,   -1,  283,  284,  285,  286,  287, 
-          288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1, 
-           -1,  299,   -1,   -1,  302,  303,  304,   -1,  306,  307, 
-          308,  309,  310,  311,   -1,  313,  314,  315,  316,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1, 
-           -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1,   -1, 
-           -1,   -1,   -1,  351,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366,  367, 
-          368,  369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1, 
-          378,  379,  257,  258,  259,   -1,  261,   -1,   -1,   -1, 
-          265,  266,   -1,   -1,   -1,  270,   -1,  272,  273,  274, 
-          275,  276,  277,  278,   -1,   -1,   -1,   -1,  283,  284, 
-          285,  286,  287,  288,  289,   -1,   -1,  292,   -1,   -1, 
-           -1,   -1,   -1,   -1,  299,   -1,   -1,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,   -1,  313,  314, 
-          315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1, 
-          345,   -1,   -1,   -1,   -1,   -1,  351,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,  257,  258,  259,   -1,  261, 
-           -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1, 
-          272,  273,  274,  275,  276,  277,  278,   -1,   -1,   -1, 
-           -1,  283,  284,  285,  286,  287,  288,  289,   -1,   -1, 
-          292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1,   -1, 
-          302,  303,  304,   -1,  306,  307,  308,  309,  310,  311, 
-           -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1,   -1, 
-          342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1,  351, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1, 
-           -1,   -1,  364,  365,  366,  367,  368,  369,   -1,   -1, 
-           -1,  373,   -1,  375,  376,   -1,  378,  379,  257,  258, 
-          259,   -1,  261,   -1,   -1,   -1,  265,  266,   -1,   -1, 
-           -1,  270,   -1,  272,  273,  274,  275,  276,  277,  278, 
-           -1,   -1,   -1,   -1,  283,  284,  285,  286,  287,  288, 
-          289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,   -1, 
-          299,   -1,   -1,  302,  303,  304,   -1,  306,  307,  308, 
-          309,  310,  311,   -1,  313,   -1,   -1,  316,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  333,   -1,   -1,  336,   -1,   -1, 
-          339,   -1,   -1,  342,  343,   -1,  345,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  364,  365,  366,  367,  368, 
-          369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378, 
-          379,  257,  258,  259,   -1,  261,   -1,   -1,   -1,  265, 
-          266,   -1,   -1,   -1,  270,   -1,  272,  273,  274,  275, 
-          276,  277,  278,   -1,   -1,   -1,   -1,  283,  284,  285, 
-          286,  287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1, 
-           -1,   -1,   -1,  299,   -1,   -1,  302,  303,  304,   -1, 
-          306,  307,  308,  309,  310,  311,   -1,  313,   -1,   -1, 
-          316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345, 
-           -1,  347,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  364,  365, 
-          366,  367,  368,  369,   -1,   -1,   -1,  373,   -1,  375, 
-          376,   -1,  378,  379,  257,  258,  259,   -1,  261,   -1, 
-           -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272, 
-          273,  274,  275,  276,  277,  278,   -1,   -1,   -1,   -1, 
-          283,  284,  285,  286,  287,  288,  289,   -1,   -1,  292, 
-           -1,   -1,   -1,   -1,   -1,   -1,  299,   -1,   -1,  302, 
-          303,  304,   -1,  306,  307,  308,  309,  310,  311,   -1, 
-          313,   -1,   -1,  316,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342, 
-          343,   -1,  345,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  364,  365,  366,  367,  368,  369,   -1,   -1,   -1, 
-          373,   -1,  375,  376,   -1,  378,  379,  257,  258,  259, 
-           -1,  261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1, 
-          270,   -1,  272,  273,  274,  275,  276,  277,  278,   -1, 
-           -1,   -1,   -1,  283,  284,  285,  286,  287,  288,  289, 
-           -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299, 
-           -1,   -1,  302,  303,  304,   -1,  306,  307,  308,  309, 
-          310,  311,   -1,  313,   -1,   -1,  316,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339, 
-           -1,   -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  364,  365,  366,  367,  368,  369, 
-           -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378,  379, 
-          257,  258,  259,   -1,  261,   -1,   -1,   -1,  265,  266, 
-           -1,   -1,   -1,  270,   -1,  272,  273,  274,  275,  276, 
-          277,  278,   -1,   -1,   -1,   -1,  283,  284,  285,  286, 
-          287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1, 
-           -1,   -1,  299,   -1,   -1,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,   -1,  313,   -1,   -1,  316, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336, 
-           -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,  257,  258,  259,   -1,  261,   -1,   -1, 
-           -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272,  273, 
-          274,  275,  276,  277,  278,   -1,   -1,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,   -1,   -1,  292,   -1, 
-           -1,   -1,   -1,   -1,   -1,  299,   -1,   -1,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,   -1,  313, 
-           -1,   -1,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343, 
-           -1,  345,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,  257,  258,  259,  260, 
-          261,  262,  263,  264,   -1,   -1,  267,  268,  269,  270, 
-          271,   -1,   -1,  274,  275,  276,  277,  278,  279,  280, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,  290, 
-          291,  292,  293,  294,  295,  296,  297,  298,  299,  300, 
-          301,  302,  303,  304,   -1,  306,  307,  308,   -1,  310, 
-           -1,   -1,   -1,  314,  315,   -1,  317,  318,  319,  320, 
-          321,  322,  323,   -1,   -1,  326,  327,   -1,   -1,   -1, 
-          331,  332,  333,  334,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  347,  348,   -1,  350, 
-          351,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-           -1,   -1,  363,  364,  257,  258,  259,  260,  261,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,  270,  271,   -1, 
-           -1,  274,  275,  276,  277,  278,  279,  280,   -1,   -1, 
-          283,  284,  285,  286,  287,  288,  289,  290,  291,  292, 
-          293,  294,  295,  296,  297,  298,  299,  300,  301,  302, 
-          303,  304,   -1,  306,  307,   -1,   -1,  310,   -1,   -1, 
-           -1,  314,  315,   -1,  317,  318,  319,  320,  321,  322, 
-          323,   -1,   -1,  326,  327,   -1,   -1,   -1,  331,  332, 
-          333,  334,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  347,  348,   -1,  350,  351,  352, 
-          353,  354,  355,  356,  357,  358,  359,  360,   -1,   -1, 
-          363,  364,  257,  258,  259,  260,  261,  262,  263,  264, 
-           -1,   -1,  267,  268,  269,  270,  271,   -1,   -1,  274, 
-          275,  276,  277,  278,  279,  280,   -1,   -1,  283,  284, 
-          285,  286,  287,  288,  289,  290,  291,  292,  293,  294, 
-          295,  296,  297,  298,  299,  300,  301,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,   -1,   -1,  314, 
-          315,   -1,  317,  318,  319,  320,  321,  322,  323,   -1, 
-           -1,  326,  327,   -1,   -1,   -1,  331,  332,  333,  334, 
-           -1,   -1,   -1,   -1,   -1,  340,   -1,   -1,   -1,   -1, 
-           -1,   -1,  347,  348,   -1,  350,  351,  352,  353,  354, 
-          355,  356,  357,  358,  359,  360,   -1,   -1,  363,  257, 
-          258,  259,  260,  261,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,  270,  271,   -1,   -1,  274,  275,  276,  277, 
-          278,  279,  280,   -1,   -1,  283,  284,  285,  286,  287, 
-          288,  289,  290,  291,  292,  293,  294,  295,  296,  297, 
-          298,  299,  300,  301,  302,  303,  304,   -1,  306,  307, 
-          308,  309,  310,  311,   -1,   -1,  314,  315,   -1,  317, 
-          318,  319,  320,  321,  322,  323,   -1,   -1,  326,  327, 
-           -1,   -1,   -1,  331,  332,  333,  334,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  347, 
-          348,   -1,  350,  351,  352,  353,  354,  355,  356,  357, 
-          358,  359,  360,   -1,   -1,  363,  257,  258,  259,  260, 
-          261,  262,  263,  264,   -1,   -1,  267,  268,  269,  270, 
-          271,   -1,   -1,  274,  275,  276,  277,  278,  279,  280, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,  290, 
-          291,  292,  293,  294,  295,  296,  297,  298,  299,  300, 
-          301,  302,  303,  304,   -1,  306,  307,   -1,   -1,  310, 
-           -1,   -1,   -1,  314,  315,   -1,  317,  318,  319,  320, 
-          321,  322,  323,   -1,   -1,  326,  327,   -1,   -1,   -1, 
-          331,  332,  333,  334,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  347,  348,   -1,  350, 
-          351,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-          306,  307,  363,   -1,  310,   -1,   -1,   -1,  314,  315, 
-           -1,  317,  318,  319,  320,  321,  322,  323,   -1,   -1, 
-          326,  327,   -1,   -1,   -1,  331,  332,  333,  334,   -1, 
-           -1,   -1,   -1,   -1,  340,   -1,   -1,   -1,   -1,   -1, 
-           -1,  347,  348,   -1,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,  306,  307,  363,   -1,  310, 
-           -1,   -1,   -1,  314,  315,   -1,  317,  318,  319,  320, 
-          321,  322,  323,   -1,   -1,  326,  327,   -1,   -1,   -1, 
-          331,  332,  333,  334,   -1,   -1,   -1,   -1,   -1,  340, 
-           -1,   -1,   -1,   -1,   -1,   -1,  347,  348,   -1,  350, 
-          351,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-          306,  307,  363,   -1,  310,   -1,   -1,   -1,  314,  315, 
-           -1,  317,  318,  319,  320,  321,  322,  323,   -1,   -1, 
-          326,  327,   -1,   -1,   -1,  331,  332,  333,  334,   -1, 
-           -1,   -1,   -1,   -1,  340,   -1,   -1,   -1,   -1,   -1, 
-           -1,  347,  348,   -1,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,  306,  307,  363,   -1,  310, 
-           -1,   -1,   -1,  314,  315,   -1,  317,  318,  319,  320, 
-          321,  322,  323,   -1,   -1,  326,  327,   -1,   -1,   -1, 
-          331,  332,  333,  334,   -1,   -1,   -1,   -1,   -1,  340, 
-           -1,   -1,   -1,   -1,   -1,   -1,  347,  348,   -1,  350, 
-          351,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-          306,  307,  363,   -1,  310,   -1,   -1,   -1,  314,  315, 
-           -1,  317,  318,  319,  320,  321,  322,  323,   -1,   -1, 
-          326,  327,   -1,   -1,   -1,  331,  332,  333,  334,   -1, 
-           -1,   -1,   -1,   -1,  340,   -1,   -1,   -1,   -1,   -1, 
-           -1,  347,  348,   -1,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,  306,  307,  363,   -1,  310, 
-           -1,   -1,   -1,  314,  315,   -1,  317,  318,  319,  320, 
-          321,  322,  323,   -1,   -1,  326,  327,   -1,   -1,   -1, 
-          331,  332,  333,  334,   -1,   -1,   -1,   -1,   -1,  340, 
-           -1,   -1,   -1,   -1,   -1,   -1,  347,  348,   -1,  350, 
-          351,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-          306,  307,  363,   -1,  310,   -1,   -1,   -1,  314,  315, 
-           -1,  317,  318,  319,  320,  321,  322,  323,   -1,   -1, 
-          326,  327,   -1,   -1,   -1,  331,  332,  333,  334,   -1, 
-           -1,   -1,   -1,   -1,  340,   -1,   -1,   -1,   -1,   -1, 
-           -1,  347,  348,   -1,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,  306,  307,  363,   -1,  310, 
-           -1,   -1,   -1,  314,  315,   -1,  317,  318,  319,  320, 
-          321,  322,  323,   -1,   -1,  326,  327,   -1,   -1,   -1, 
-          331,  332,  333,  334,   -1,   -1,   -1,   -1,   -1,  340, 
-           -1,   -1,   -1,   -1,   -1,   -1,  347,  348,   -1,  350, 
-          351,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-          306,  307,  363,   -1,  310,   -1,   -1,   -1,  314,  315, 
-           -1,  317,  318,  319,  320,  321,  322,  323,   -1,   -1, 
-          326,  327,   -1,   -1,   -1,  331,  332,  333,  334,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  347,  348,   -1,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,   -1,   -1,  363, 
-      };
-   }
-
 }
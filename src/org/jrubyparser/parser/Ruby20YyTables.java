@@ -1,4201 +1,14 @@
 package org.jrubyparser.parser;
 
 public class Ruby20YyTables {
-   private static short[] combine(short[] t1, short[] t2, 
-                                  short[] t3, short[] t4) {
-      short[] t = new short[t1.length + t2.length + t3.length + t4.length];
-      int index = 0;
-      System.arraycopy(t1, 0, t, index, t1.length);
-      index += t1.length;
-      System.arraycopy(t2, 0, t, index, t2.length);
-      index += t2.length;
-      System.arraycopy(t3, 0, t, index, t3.length);
-      index += t3.length;
-      System.arraycopy(t4, 0, t, index, t4.length);
-      return t;
-   }
+   // yyTable and yyCheck, from the binary resource bin/patch_parser.rb writes next to this class
+   private static final short[][] tables = YyTables.load(Ruby20YyTables.class, "Ruby20YyTables.tables", 2);
 
    public static final short[] yyTable() {
-      return combine(yyTable1(), yyTable2(), yyTable3(), yyTable4());
+      return tables[0];
    }
 
    public static final short[] yyCheck() {
-      return combine(yyCheck1(), yyCheck2(), yyCheck3(), yyCheck4());
-   }
-   private static final short[] yyTable1() {
-      return new short[] {
-
-           96,  389,  209,  209,  342,  652,  602,  538,  285,  453, 
-          288,   83,   83,  109,  208,  664,  670,  733,  589,  287, 
-          268,  268,  222,  209,  268,  432,  639,  318,  282,  488, 
-          601,  707,  489,  609,  681,  638,  587,  681,  588,  600, 
-          365,  284,  222,  247,  314,  303,  307,  682,  209,  224, 
-           88,   88,  126,  126,  661,   83,   88,  239,  239,  239, 
-          324,  589,  255,  239,  239,  125,  125,  239,  675,  224, 
-          600,  298,  272,  272,  281,  125,  272,  600,  592,  598, 
-            8,  564,  682,  605,   86,  538,  402,  535,  600,  365, 
-            8,  834,  246,   88,  239,  534,   17,  312,  397,  239, 
-          704,   72,  832,  247,  305,  308,   83,  633,  251,  380, 
-          125,  771,  849,  286,  409,  395,  542,  534,  906,  600, 
-          247,  535,  703,  392,  541,  691,  592,  598,  393,  534, 
-          564,  478,  600,  340,  794,  981,  535,  964,  247,    8, 
-          633,  551,   73,  321,  534,   17,  528,  312,  801,  722, 
-          542,  513,  246,  737,  797,  485,  903,  277,  541,  294, 
-          125,  394,  371,  245,  248,  542,  340,  281,  239,  246, 
-           88,  600,   74,  541,  633,  551,  810,  288,  735,  860, 
-          528,  600,  528,  394,  528,  865,  738,  246,  280,  484, 
-          551,  358,  321,   71,  633,  528,  538,  252,  453,  290, 
-          513,  284,  254,  251,  271,  271,   86,  291,  271,  559, 
-          485,  371,  981,  492,  341,  253,  926,  564,  723,  351, 
-          764,  406,  616,   72,  964,  356,  280,  284,  359,  528, 
-          295,  237,  237,  237,  513,  398,  304,  415,  306,  514, 
-          329,  291,  958,  559,  487,  466,  354,  341,  770,  420, 
-          795,  357,  352,  528,  421,  906,  291,   75,  559,  776, 
-           93,  995,  355,  353,  331,  433,  564,  600,  300,  595, 
-          681,  681,  812,  813,   53,  814,   88,   88,  459,  834, 
-          622,  682,  268,  284,  268,  268,  832,  595,  291,  403, 
-          335,  600,  600,  600,   93,  381,  742,  993,  600,  779, 
-          239,  239,  382,  386,  832,  385,  716,  647,   75,  589, 
-          920,   93,  467,  468,  538,  337,  600,  589,  930,   72, 
-          386,  376,  298,  934,   83,  239,  589,  239,  239,  251, 
-          744,  239, 1018,  239,  272,  386,  272,   99,   88,   59, 
-           60,  412,  399,  589,   88,  251,  378,  390,   17,   17, 
-           17,  407,  247,  379,   17,   17,  559,   17,  408,  312, 
-          606,  601,  610,  600,  601,  384,  620,  624,  873,  498, 
-          499,  283,  125,  637,  667,  600,  501,  423,  459,   81, 
-          899,  832,  535,  618,  283,  268,   83,  391,  365,  404, 
-           18,  239,  239,  239,  239,   88,  239,  239,  587,  492, 
-          588,  246,   83,  626,  600,  437,  438,  459,  609,  348, 
-          349,  600,  600,  298,  268,  650,  653,  804,  535,  541, 
-          414,  808,  600,  600,  774,  417,  459,   17,  239,  564, 
-           81,  594,  239,  268,  239,   88,  312,  600,  239,  239, 
-          459,   88,    8,  534,  286,  798,  513,  268,   17,  125, 
-         1010,  535,  444,  445,  446,  541,  447,  239,   88,  239, 
-          594,  689, 1015,  600,  542,  209,  271,  283,  271,   88, 
-           96,  600,   88,   73,  237,  237,  239,  528,  953,  594, 
-           88,   83,  513,  951,  222,  681,  726,  728,  541,  551, 
-          239,  600,  943,  594,  459,  682,  555,  556,  557,  558, 
-          630,  268,  600,   74,  559,  463,  680,  465,  288,  875, 
-          371,  224,  564,  528,  422,  513,  498,  499,  239,  492, 
-           88,  297,  358,  501,  600,  291,   75,  594,  252,   93, 
-          412,  252,  291,  254,  669,  669,  254,  579,   79,  419, 
-          559,  697,  804,   16,  239,  312,  253,  594,  564,  253, 
-          351,  741,  741,  103,  538,  291,  356,  559,  125,  359, 
-          984,  889,   76,  348,  349,  237,  237,  237,  237,  743, 
-          560,  561,  108,  559,  989,  615,  613,  354,  412,  615, 
-          623,  564,  357,  352,  756,  412,  741,  102,   75,   79, 
-          750,   93,   16,  355,  353,  600,  551,  429,  297,  748, 
-          809,  552,  103,  750,  431,  754,  615,  648,  651,  423, 
-          434,  412,  757,   76,  428,  269,  275,  600,   84,  276, 
-          756,  283,  600,  665,  613,  600,  529,  430,  283,  787, 
-          651,  750,  422,  640,  578,  600,  102,  778,  677,  679, 
-          209,  209,  306,  756,   96,  747,  633,  782,   81,  453, 
-          786,  753,  777,  653,  453,   83,  434,  756,  747,  442, 
-          222,  653,  600,  526,  527,  312,  265,  492,  412,   84, 
-          455,  950,  600,  600,  679,  455,  428,  306,  125,  239, 
-           88,  422,  436,  439,  600,  756,  747,  224,  869,  753, 
-          443,   88,  690,  448,   88,  449,  472,   97,  823,   88, 
-          108,  108,  600,   77,  529,   82,  108,  108,  108,  108, 
-           81,  600,  452,  108,  108,   61,   62,  108,   63,   64, 
-          823,  856,  858,  350,  239,  476,  768,  861,  863,  421, 
-          421,   97,  350,  477,  479,  421,  734,  610,   80,  775, 
-          498,  499,  805,  108,  108,  483,  312,  501,   97,  108, 
-          506,  600,   99,   88,   77,   78,   82,  400,  284,  125, 
-          490,  401,  491,  365,  497,  741,  473,  367,  368,  508, 
-           88,   88,  297,  818,  512,  547,  910,  550,  291,  496, 
-          914,  916,  619,  918,  769,  919,   99,  627,   88,   80, 
-           88,  646,   88,  239,  239,   16,   16,   16,  759,  239, 
-          239,   16,   16,   99,   16,  470,   78,   79,  651,  239, 
-          103,   94,  656,  312,  712,  529,  684,  520,  108,  666, 
-          108,  600,  521,  578,  823,  685,  125,  686,  884,  802, 
-           91,   76,   88,  283,  464,  239,  692,   92,   92,  127, 
-          127,  125,  939,   92,  102,   94,   88,   88,   88,  256, 
-          480,  426,  482,  237,  526,  527,  698,  412,  427,   91, 
-          600,  709,   94,  297,   91,  717,  877,  948,  803,   79, 
-          600,  578,  720,  718,   16,  679,  306,  454,  578,  457, 
-           92,   91,  719,  578,  313,  725,  727,   84,  923,  422, 
-          528,  409,  578,   76,  653,   16,  440,  729,  237,  669, 
-          655,  125,  731,  441,  578,  412,  496,  824,  663,  600, 
-          732,  496,  412,  474,  239,  997,  999, 1000, 1001,  600, 
-          475,   92,  736,   88,   88,  745,  108,  108,  746,  751, 
-          108,  600,  752,  529,  313,  761,  762,   88,  412,   96, 
-          891,  765,  772,  600,  996,  780,  459,  784,  790,   84, 
-          108,  108,  872,  268,  600,  600,  600,   92,  791,  807, 
-          422,  600,  820,  830,  792,  833,   97,  600,  497,  969, 
-         1025,  756,   77,   96,   82,  108,  841,  108,  108,  108, 
-          600,  108,  125,  108,  600,  793,  796,  895,  108,  653, 
-           96,  854,   88,  866,  108,  878,  239,  867,   88,  594, 
-          880,   94,  712,  819,   88,  683,  882,   80,  892,  237, 
-          893,  283,  900,  687,  688,  291,  494,  529,  894,  529, 
-          579,   99,  291,  495,   78,  901,  904,  579,   97,  695, 
-          907,  908,  696,  600,   77,  515,   82,  516,  517,  518, 
-          519,  108,  108,  108,  108,  108,  108,  108,  578,  343, 
-          344,  345,  346,  347,  839,  959,  516,  517,  518,  519, 
-          840,  941,  909,   92,   92,  521,   92,  911,   97,   80, 
-          283,  100,  912,  913,  600,  600,  915,  283,  108,  917, 
-           94,  578,  108,   99,  108,  108,   78,  522,  108,  108, 
-          306,  108,  921,  924,  100,  524,  525,  526,  527,   91, 
-           92,  927,  929,  931,  946,  933,  945,  108,  108,  108, 
-          712,  947,  712,  935,  600,  291,  938,   92,  954,  108, 
-          100,  936,  108,  582,  955,   92,  108,  783,  407,  578, 
-          108,   92,   98,  528,  957,  971,  578,  498,  499,  500, 
-          108,  578,   94,  496,  501,  974,  313,  497,  496,  970, 
-          496,  101,  496,  966,  107,  496,  101,  582,  983,   98, 
-          982,   91,  578,  994,  998,  975, 1004,  763,  108,  979, 
-          108, 1006,  582,  529,  103,  103,  128,  128,  128,  292, 
-          103,  811,   92, 1008, 1011,  600,  260,  108, 1014, 1017, 
-          600,  773,  600,   98,  108, 1027,  712,  960,  828,  829, 
-          101,  587,  600,  107,  582,  497,  600,  529,   96,  579, 
-           98,   96,  497,  589,  186,  588,  852,  103,  853,  589, 
-          855,  315,   92,  313,  593,  593,  595,  589,   92,  589, 
-          600,  106,  497,  413,  339,  292,  103,  578,  600,  327, 
-          292,  806,  600,  600,  549,   92, 1022,  131,  283,  712, 
-         1016,  712,  654,  211,  758,  283,   92,  579,  579,   92, 
-          890,  944,  831,  186,  579,  844,  821,   92,  976,  579, 
-           96,  315,  977,  836,  896,  897,  898,  840,  868,  258, 
-          106,  990,  521,  817, 1019,  578,  712,    0,    0,    0, 
-          579,    0,  578,    0,  103,    0,  961,  578,  516,  517, 
-          518,  519,    0,  106,   95,   95,    0,   92,    0,    0, 
-           95,   93,  291,    0,  526,  527,  257,  515,  578,  516, 
-          517,  518,  519,    0,    0,  879,    0,    0,  100,  108, 
-          108,    0,  313,    0,    0,   92,  104,  104,  129,  129, 
-          129,  108,  104,  270,  108,    0,    0,   95,  261,  108, 
-          528,  942,  291,  270,    0,  498,  499,  503,  412,  291, 
-            0,  179,  501,    0,  579,  949,    0,  107,  902,    0, 
-            0,    0,    0,  515,  108,  516,  517,  518,  519,  104, 
-            0,    0,    0,  316,  497,    0,    0,  265,    0,  496, 
-            0,  497,    0,  582,    0,    0,  496,   92,    0,  350, 
-          103,  103,  270,  108,    0,    0,  710,    0,  101,    0, 
-          179,  107,    0,    0,  711,    0,  292,    0,    0,    0, 
-          108,  108,    0,  292,   95,    0,  991,    0,   98,    0, 
-          365,    0,  992,  316,  367,  368,  369,  370,  108,    0, 
-          108,  582,  108,  108,  108,   43,  105,  579,  582,  108, 
-          108,    0,  313,  578,    0,   43,  104,    0,    0,  108, 
-            0,  515,  103,  516,  517,  518,  519,   92,  103,  497, 
-            0,  582,  292,    0,  582,    0,  497,  292,   92,  292, 
-            0,   92,  108,  315,  292,  108,   92,    0,  106,    0, 
-           98,   95,    0,    0,  710,  579,  108,  108,  108,    0, 
-            0,    0,  579,    0,   43,  102,  102,  579,    0,    0, 
-          186,  102,  186,  186,  186,  186,  186,    0,    0,  103, 
-            0,  186,    0,    0,    0,   95,    0,    0,  579,   95, 
-           95,   95,  490,  313,  189,  105,    0,    0,    0,  490, 
-           92,  816,   95,  186,  186,    0,  102,  412,  102,  291, 
-            0,  186,  186,  186,  186,    0,  291,   92,   92,  103, 
-          315,  579,  104,  104,  108,  103,    0,    0,    0,    0, 
-            0,    0,  582,  108,  108,   92,  582,   92,    0,   92, 
-            0,    0,  103,  189,  105,    0,    0,  108,    0,  186, 
-            0,    0,   95,  103,    0,  412,  103,    0,   95,    0, 
-          313,  174,  412,    0,  103,  270,  270,  270,    0,    0, 
-            0,  270,  270,    0,  270,  885,  579,    0,    0,   92, 
-          498,  499,  505,    0,  104,  102,    0,  501,  412,    0, 
-          104,    0,    0,   92,   92,   92,  270,  270,  270,  270, 
-          270,    0,  108,    0,  103,  316,  108,    0,  108,   95, 
-          174,  498,  499,  509,  108,    0,    0,  179,  501,  179, 
-          179,  179,  179,  179,  498,  499,  548,    0,  179,  315, 
-          504,  501,  507,    0,  510,  127,  459,  459,  459,  489, 
-          510,  104,    0,  459,  270,    0,  489,    0,  614,   95, 
-          179,  179,    0,    0,    0,   95,    0,  156,  179,  179, 
-          179,  179,    0,  104,    0,  270,    0,   43,   43,   43, 
-           92,   92,   95,   43,   43,    0,   43,    0,  441,  441, 
-          441,  104,  316,   95,   92,  441,   95,  104,  447,  447, 
-          447,  102,  102,    0,   95,  447,  179,    0,   43,   43, 
-           43,   43,   43,    0,  104,    0,  156,    0,    0,    0, 
-            0,    0,  104,    0,    0,  104,  127,    0,  104,    0, 
-           95,  582,    0,    0,  104,  582,  104,    0,    0,  587, 
-          587,  587,    0,    0,   95,  587,  587,    0,  587,   92, 
-            0,    0,    0,    0,  582,   92,   43,    0,    0,  315, 
-            0,   92,  105,  102,    0,    0,    0,    0,    0,  102, 
-            0,    0,    0,    0,  103,  579,  104,   43,    0,  582, 
-            0,    0,    0,  582,    0,  103,  582,    0,  103,    0, 
-          582,  578,   95,  103,    0,  578,    0,    0,    0,    0, 
-          189,  316,  189,  189,  189,  189,  189,    0,    0,    0, 
-            0,  189,  582,    0,    0,    0,  582,    0,  587,    0, 
-          102,    0,  491,  579,    0,  708,    0,    0,    0,  491, 
-          579,    0,    0,  189,  189,  579,    0,    0,    0,  587, 
-          315,  189,  189,  189,  189,    0,    0,  103,  588,  588, 
-          588,    0,    0,    0,  588,  588,  579,  588,    0,  837, 
-          102,    0,  837,  708,  103,  103,  102,  174,  848,  174, 
-          174,  174,  174,  174,    0,    0,    0,    0,  174,  189, 
-            0,    0,  103,  102,  103,    0,  103,    0,    0,  492, 
-            0,    0,    0,    0,  102,    0,  492,  102,    0,    0, 
-          174,  174,  157,    0,   95,  102,    0,  315,  174,  174, 
-          174,  174,    0,    0,    0,   95,    0,    0,   95,    0, 
-            0,  316,  887,   95,    0,    0,  103,  588,    0,    0, 
-          104,    0,    0,    0,    0,    0,  104,    0,    0,    0, 
-          103,  103,  103,  582,    0,  102,  174,  104,  588,    0, 
-          104,  157,    0,    0,    0,  104,    0,    0,    0,    0, 
-            0,    0,    0,  156,    0,  156,  156,  156,  156,  156, 
-          838,    0,    0,    0,  156,    0,    0,   95,    0,  851, 
-          158,    0,  128,    0,  350,  494,    0,    0,    0,    0, 
-            0,  582,  494,    0,   95,   95,  156,  156,  582,    0, 
-          363,  364,  316,  578,  156,  156,  156,  156,    0,  104, 
-            0,    0,   95,    0,   95,  365,   95,  103,  103,  367, 
-          368,  369,  370,    0,  582,    0,  104,  104,    0,  158, 
-            0,  103,    0,  614,  515,    0,  516,  517,  518,  519, 
-          520,    0,  156,    0,  104,  521,  104,    0,  104,    0, 
-            0,    0,  886,    0,  848,    0,   95,  848,    0,  837, 
-            0,  848,    0,  128,    0,    0,    0,  522,  523,  316, 
-           95,   95,   95,    0,    0,  524,  525,  526,  527,    0, 
-            0,    0,    0,    0,  888,    0,  103,    0,  104,    0, 
-            0,    0,  103,    0,    0,  267,  267,    0,  103,  267, 
-            0,    0,  104,  104,  104,  102,    0,    0,    0,    0, 
-            0,  826,    0,  528,    0,    0,  102,    0,  835,  102, 
-            0,  291,  293,    0,  102,    0,    0,  267,  267,  843, 
-          317,  319,    0,  928,  848,    0,  848,  932,  848,    0, 
-            0,  848,    0,    0,  129,    0,    0,   95,   95,  515, 
-          350,  516,  517,  518,  519,    0,    0,  848,    0,    0, 
-            0,   95,    0,    0,    0,  851,  363,  364,  851,    0, 
-          978,    0,  851,    0,    0,    0,    0,    0,  102,  104, 
-          104,  365,  710,  366,    0,  367,  368,  369,  370,    0, 
-          905,    0,    0,  104,    0,  102,  102,    0,  157,    0, 
-          157,  157,  157,  157,  157,    0,    0,    0,    0,  157, 
-            0,    0,    0,  102,    0,  102,   95,  102,    0,    0, 
-          493,    0,   95,    0,    0,  129,    0,  493,   95,    0, 
-            0,  157,  157,    0,    0,    0,    0,    0,    0,  157, 
-          157,  157,  157,    0,    0,  851,    0,  851,  104,  851, 
-            0,    0,  851,    0,  104,    0,    0,  102,  350,    0, 
-          104,    0, 1005,    0,    0, 1007, 1009,    0,  851, 1012, 
-         1013,  102,  102,  102,  363,  364,  158,  157,  158,  158, 
-          158,  158,  158,    0,    0,    0,    0,  158,    0,  365, 
-            0,  366,    0,  367,  368,  369,  370,    0,  495,  373, 
-            0,  374,    0,    0,  965,  495,  967,    0,  968,  158, 
-          158, 1026, 1028, 1029, 1030,  972,    0,  158,  158,  158, 
-          158, 1032,  980,    0,    0,  484,    0,    0,  515,    0, 
-          516,  517,  518,  519,  520,  484,    0,    0,    0,  521, 
-            0,    0,  267,  267,  267,  319,  267,    0,  102,  102, 
-            0,    0,    0,    0,    0,  158,    0,  267,    0,  267, 
-          267,  522,  102,    0,    0,    0,    0,    0,  471,  484, 
-            0,  526,  527,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  484,  484,    0,  484,    0,  484, 1020, 
-            0,    0,    0,    0,    0,    0,    0, 1021,    0, 1023, 
-            0,    0, 1024,    0,    0,    0,    0,  528,    0,    0, 
-            0,    0,    0,    0,    0,    0,  484,  102, 1031,    0, 
-            0,    0,    0,  102,  114,    0,    0,    0,    0,  102, 
-          562,  563,  564,  565,  566,  567,  568,  569,  570,  571, 
-          572,  573,  574,  575,  576,  577,  578,  579,  580,  581, 
-          582,  583,  584,  585,  586,  587,    0,    0,    0,    0, 
-          267,    0,    0,    0,  607,    0,  611,    0,    0,    0, 
-          267,  625,    0,  114,    0,    0,  115,    0,    0,    0, 
-          515,    0,  516,  517,  518,  519,  840,    0,    0,  267, 
-            0,  521,    0,    0,    0,    0,    0,  267,    0,    0, 
-            0,  515,    0,  516,  517,  518,  519,  520,  267,  607, 
-          662,  625,  521,  522,  267,    0,    0,    0,    0,    0, 
-            0,    0,  267,  526,  527,  115,    0,    0,  267,  267, 
-            0,    0,  267,    0,  522,  641,    0,    0,    0,    0, 
-            0,    0,  524,  525,  526,  527,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  693,  694,    0,  528, 
-            0,    0,    0,    0,  267,    0,    0,  267,    0,    0, 
-            0,    0,    0,    0,    0,    0,  267,    0,    0,    0, 
-          528,    0,  575,  575,  575,    0,  575,  484,  484,  484, 
-          575,  575,  484,  484,  484,  575,  484,  575,  575,  575, 
-          575,  575,  575,  575,  484,  575,  484,  484,  575,  575, 
-          575,  575,  575,  575,  575,  484,  484,  575,  484,  484, 
-          484,  484,  484,    0,  575,    0,  267,  575,  575,  575, 
-          484,  575,  575,  575,  575,  575,  575,  575,  575,  575, 
-          575,  575,  484,  484,  484,  484,  484,  484,  484,  484, 
-          484,  484,  484,  484,  484,  484,    0,    0,  484,  484, 
-          484,  575,  484,  484,  575,  575,  484,  575,  575,  484, 
-          575,  484,  575,  484,  575,  484,  575,  484,  484,  484, 
-          484,  484,  484,  484,  575,  484,  575,  484,  267,  575, 
-          575,  575,  575,  575,  575,    0,    0,    0,  575,  484, 
-          575,  575,    0,  575,  575,    0,  575,  575,  575,  575, 
-          575,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          114,    0,  114,  114,  114,  114,  114,  487,    0,    0, 
-            0,  114,    0,    0,    0,    0,    0,  487,    0,    0, 
-            0,    0,  484,    0,    0,    0,    0,    0,    0,  484, 
-            0,    0,    0,  114,  114,    0,    0,    0,  267,    0, 
-            0,  114,  114,  114,  114,  267,  267,    0,    0,    0, 
-            0,  487,  115,    0,  115,  115,  115,  115,  115,    0, 
-            0,    0,    0,  115,    0,  487,  487,    0,  487,    0, 
-          487,    0,    0,    0,  487,    0,    0,  267,    0,  114, 
-            0,  487,    0,    0,    0,  115,  115,    0,    0,    0, 
-            0,    0,    0,  115,  115,  115,  115,  515,  487,  516, 
-          517,  518,  519,  520,    0,  857,  859,    0,  521,    0, 
-            0,  862,  864,    0,    0,    0,    0,    0,    0,    0, 
-          870,  662,  267,    0,    0,    0,  874,    0,    0,    0, 
-          522,  115,    0,    0,    0,    0,  578,    0,  524,  525, 
-          526,  527,    0,    0,    0,    0,  578,    0,    0,    0, 
-          857,  859,  862,  864,    0,    0,    0,  267,    0,  839, 
-            0,  516,  517,  518,  519,  840,    0,    0,    0,    0, 
-          521,    0,    0,    0,    0,    0,  528,    0,    0,    0, 
-          578,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  522,    0,  578,  578,    0,  103,    0,  578, 
-          524,  525,  526,  527,    0,    0,  350,  351,  352,  353, 
-          354,  355,  356,  357,  937,  359,  360,    0,    0,    0, 
-            0,    0,  363,  364,    0,    0,  940,  578,    0,    0, 
-            0,  267,    0,    0,    0,    0,    0,  365,  528,  366, 
-            0,  367,  368,  369,  370,  371,  372,  373,    0,  374, 
-            0,    0,    0,  940,    0,    0,    0,    0,    0,    0, 
-          267,    0,    0,    0,  576,  576,  576,    0,  576,  487, 
-          487,  487,  576,  576,  487,  487,  487,  576,  487,  576, 
-          576,  576,  576,  576,  576,  576,  487,  576,  487,  487, 
-          576,  576,  576,  576,  576,  576,  576,  487,  487,  576, 
-          487,  487,  487,  487,  487,    0,  576,    0,  267,  576, 
-          576,  576,  487,  576,  576,  576,  576,  576,  576,  576, 
-          576,  576,  576,  576,  487,  487,  487,  487,  487,  487, 
-          487,  487,  487,  487,  487,  487,  487,  487,    0,    0, 
-          487,  487,  487,  576,  487,  487,  576,  576,  487,  576, 
-          576,  487,  576,  487,  576,  487,  576,  487,  576,  487, 
-          487,  487,  487,  487,  487,  487,  576,  487,  576,  487, 
-          375,  576,  576,  576,  576,  576,  576,    0,    0,    0, 
-          576,  487,  576,  576,    0,  576,  576,    0,  576,  576, 
-          576,  576,  576,  578,  578,  578,    0,  578,  578,  578, 
-          578,  578,  578,  578,  578,  578,  578,  578,  578,  578, 
-          578,  578,  578,  578,  578,    0,  578,  578,  578,  578, 
-          578,  578,  578,  578,  578,  578,  578,  578,  578,  578, 
-          578,  578,  578,  578,    0,  578,    0,    0,  578,  578, 
-          578,  578,  578,  578,  578,  578,  578,  578,  578,  578, 
-          578,  578,  578,  578,  578,  578,  578,  578,  578,  578, 
-          578,  578,  578,  578,  578,  578,  578,    0,    0,  578, 
-          578,  578,  578,    0,  578,  578,  578,  578,  578,  578, 
-          578,  578,  578,  578,  578,  578,  578,  578,  578,  578, 
-          578,  578,  578,  578,  578,  578,  578,  578,  578,    0, 
-          578,  578,  578,  578,  578,  578,  579,    0,    0,  578, 
-          578,  578,  578,    0,  578,  578,  579,  578,  578,  578, 
-          578,  578,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  589,  590,    0,    0,  591,    0,    0,    0, 
-          177,  178,    0,  179,  180,  181,  182,  183,  184,  185, 
-          579,    0,  186,  187,    0,    0,    0,  188,  189,  190, 
-          191,    0,    0,    0,  579,  579,  280,  105,    0,  579, 
-            0,    0,    0,  193,  194,    0,  195,  196,  197,  198, 
-          199,  200,  201,  202,  203,  204,  205,    0,    0,  206, 
-            0,    0,    0,    0,    0,    0,    0,  579,    0,    0, 
-            0,    0,    0,    0,  760,    0,    0,    0,    0,    0, 
-            0,  207,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,  582,  361,  362,    0,    0, 
-          363,  364,    0,    0,    0,  582,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  365,    0,  366,    0,  367, 
-          368,  369,  370,  371,  372,  373,    0,  374,  350,  351, 
-          352,  353,  354,  355,  356,  357,  358,  359,  360,  582, 
-            0,    0,    0,    0,  363,  364,    0,    0,    0,    0, 
-            0,    0,    0,  582,  582,    0,  104,    0,  582,  365, 
-            0,  366,    0,  367,  368,  369,  370,  371,  372,  373, 
-            0,  374,  350,  351,  352,  353,  354,  355,  356,    0, 
-            0,  359,  360,    0,    0,    0,  582,    0,  363,  364, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  365,    0,  366,    0,  367,  368,  369, 
-          370,  371,  372,  373,    0,  374,    0,    0,    0,    0, 
-            0,    0,    0,  579,  579,  579,    0,  579,  579,  579, 
-          579,  579,  579,  579,  579,  579,  579,  579,  579,  579, 
-          579,  579,  579,  579,  579,    0,  579,  579,  579,  579, 
-          579,  579,  579,  579,  579,  579,  579,  579,  579,  579, 
-          579,  579,  579,  579,    0,  579,    0,    0,  579,  579, 
-          579,  579,  579,  579,  579,  579,  579,  579,  579,  579, 
-          579,  579,  579,  579,  579,  579,  579,  579,  579,  579, 
-          579,  579,  579,  579,  579,  579,  579,    0,    0,  579, 
-          579,  579,  579,    0,  579,  579,  579,  579,  579,  579, 
-          579,  579,  579,  579,  579,  579,  579,  579,  579,  579, 
-          579,  579,  579,  579,  579,  579,  579,  579,  579,  375, 
-          579,  579,  579,  579,  579,  579,    0,    0,    0,  579, 
-          579,  579,  579,    0,  579,  579,    0,  579,  579,  579, 
-          579,  579,  578,  578,  578,    0,  578,  582,  582,  582, 
-          578,  578,  582,  582,  582,  578,  582,  578,  578,  578, 
-          578,  578,  578,  578,    0,  582,  582,  582,  578,  578, 
-          578,  578,  578,  578,  578,  582,  582,  578,  582,  582, 
-          582,  582,  582,    0,  578,    0,    0,  578,  578,  578, 
-          582,  578,  578,  578,  578,  578,  578,  578,  578,  578, 
-          578,  578,  582,  582,  582,  582,  582,  582,  582,  582, 
-          582,  582,  582,  582,  582,  582,    0,    0,  582,  582, 
-          582,  578,    0,  582,  578,  578,  582,  578,  578,  582, 
-          578,  582,  578,  582,  578,  582,  578,  582,  582,  582, 
-          582,  582,  582,  582,  578,  582,  582,  582,    0,  578, 
-          578,  578,  578,  578,  578,  284,    0,    0,  578,  582, 
-          578,  578,    0,  578,  578,  284,  578,  578,  578,  578, 
-          578,    0,    0,    0,    0,  595,  596,    0,    0,  597, 
-            0,    0,    0,  177,  178,    0,  179,  180,  181,  182, 
-          183,  184,  185,    0,    0,  186,  187,    0,    0,  284, 
-          188,  189,  190,  191,    0,    0,    0,    0,    0,  280, 
-            0,    0,    0,  284,  284,    0,  193,  194,  284,  195, 
-          196,  197,  198,  199,  200,  201,  202,  203,  204,  205, 
-            0,    0,  206,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  284,    0,    0,    0, 
-            0,    0,    0,  766,  207,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  350,  351,  352,  353,  354,  355,  356, 
-          357,  358,  359,  360,  583,  361,  362,    0,    0,  363, 
-          364,    0,    0,    0,  583,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  365,    0,  366,    0,  367,  368, 
-          369,  370,  371,  372,  373,  350,  374,    0,    0,    0, 
-          355,  356,    0,    0,    0,    0,    0,    0,  583,    0, 
-            0,  363,  364,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  583,  583,    0,    0,  365,  583,  366,    0, 
-          367,  368,  369,  370,  371,  372,  373,    0,  374,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  583,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  577,  577,  577,    0,  577,  284,  284,  284, 
-          577,  577,  284,  284,  284,  577,  284,  577,  577,  577, 
-          577,  577,  577,  577,    0,  577,  284,  284,  577,  577, 
-          577,  577,  577,  577,  577,  284,  284,  577,  284,  284, 
-          284,  284,  284,    0,  577,    0,    0,  577,  577,  577, 
-          284,  577,  577,  577,  577,  577,  577,  577,  577,  577, 
-          577,  577,  284,  284,  284,  284,  284,  284,  284,  284, 
-          284,  284,  284,  284,  284,  284,    0,    0,  284,  284, 
-          284,  577,    0,  284,  577,  577,  284,  577,  577,  284, 
-          577,  284,  577,  284,  577,  284,  577,  284,  284,  284, 
-          284,  284,  284,  284,  577,  284,  577,  284,  375,  577, 
-          577,  577,  577,  577,  577,    0,    0,    0,  577,  284, 
-          577,  577,    0,  577,  577,    0,  577,  577,  577,  577, 
-          577,  580,  580,  580,    0,  580,  583,  583,  583,  580, 
-          580,  583,  583,  583,  580,  583,  580,  580,  580,  580, 
-          580,  580,  580,    0,  583,  583,  583,  580,  580,  580, 
-          580,  580,  580,  580,  583,  583,  580,  583,  583,  583, 
-          583,  583,    0,  580,    0,    0,  580,  580,  580,  583, 
-          580,  580,  580,  580,  580,  580,  580,  580,  580,  580, 
-          580,  583,  583,  583,  583,  583,  583,  583,  583,  583, 
-          583,  583,  583,  583,  583,    0,    0,  583,  583,  583, 
-          580,    0,  583,  580,  580,  583,  580,  580,  583,  580, 
-          583,  580,  583,  580,  583,  580,  583,  583,  583,  583, 
-          583,  583,  583,  580,  583,  583,  583,    0,  580,  580, 
-          580,  580,  580,  580,  584,    0,    0,  580,  583,  580, 
-          580,    0,  580,  580,  584,  580,  580,  580,  580,  580, 
-            0,    0,    0,    0,  603,  590,    0,    0,  604,    0, 
-            0,    0,  177,  178,    0,  179,  180,  181,  182,  183, 
-          184,  185,    0,    0,  186,  187,    0,    0,  584,  188, 
-          189,  190,  191,    0,    0,    0,    0,    0,  280,    0, 
-            0,    0,  584,  584,    0,  193,  194,  584,  195,  196, 
-          197,  198,  199,  200,  201,  202,  203,  204,  205,    0, 
-            0,  206,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  584,    0,    0,    0,    0, 
-            0,    0,    0,  207,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  350,  351,  352,  353,  354,  355,  356,  357, 
-          358,  359,  360,  291,  361,  362,    0,    0,  363,  364, 
-            0,    0,    0,  291,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  365,    0,  366,    0,  367,  368,  369, 
-          370,  371,  372,  373,    0,  374,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  291,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  291,  291,    0,  106,    0,  291,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  291,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  284,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  581,  581,  581,    0,  581,  584,  584,  584,  581, 
-          581,  584,  584,  584,  581,  584,  581,  581,  581,  581, 
-          581,  581,  581,    0,  584,  584,  584,  581,  581,  581, 
-          581,  581,  581,  581,  584,  584,  581,  584,  584,  584, 
-          584,  584,    0,  581,  375,    0,  581,  581,  581,  584, 
-          581,  581,  581,  581,  581,  581,  581,  581,  581,  581, 
-          581,  584,  584,  584,  584,  584,  584,  584,  584,  584, 
-          584,  584,  584,  584,  584,    0,    0,  584,  584,  584, 
-          581,    0,  584,  581,  581,  584,  581,  581,  584,  581, 
-          584,  581,  584,  581,  584,  581,  584,  584,  584,  584, 
-          584,  584,  584,  581,  584,  584,  584,    0,  581,  581, 
-          581,  581,  581,  581,    0,    0,    0,  581,  584,  581, 
-          581,    0,  581,  581,    0,  581,  581,  581,  581,  581, 
-          579,  579,  579,    0,  579,  291,  291,  291,  579,  579, 
-          291,  291,  291,  579,  291,  579,  579,  579,  579,  579, 
-          579,  579,    0,    0,  291,  291,  579,  579,  579,  579, 
-          579,  579,  579,  291,  291,  579,  291,  291,  291,  291, 
-          291,    0,  579,    0,    0,  579,  579,  579,  291,  579, 
-          579,  579,  579,  579,  579,  579,  579,  579,  579,  579, 
-          291,  291,  291,  291,  291,  291,  291,  291,  291,  291, 
-          291,  291,  291,  291,    0,    0,  291,  291,  291,  579, 
-            0,  291,  579,  579,  291,  579,  579,  291,  579,  291, 
-          579,  291,  579,  291,  579,  291,  291,  291,  291,  291, 
-          291,  291,  579,  291,  411,  291,    0,  579,  579,  579, 
-          579,  579,  579,    0,  411,    0,  579,  291,  579,  579, 
-            0,  579,  579,    0,  579,  579,  579,  579,  579,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  411,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  411,    0,    0,    0,  411,  350,  351, 
-          352,  353,  354,  355,  356,  357,  358,  359,  360,    0, 
-          361,  362,    0,    0,  363,  364,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  411,    0,    0,    0,  365, 
-            0,  366,    0,  367,  368,  369,  370,  371,  372,  373, 
-            0,  374,    0,    0,    0,    0,    0,    0,    0,    4, 
-            5,    6,    0,    8,    0,    0,    0,    9,   10,    0, 
-            0,    0,   11,  600,   12,   13,   14,  110,  111,   17, 
-           18,    0,    0,  600,    0,  112,  113,  114,   22,   23, 
-           24,   25,    0,    0,  115,    0,    0,    0,    0,    0, 
-            0,  116,    0,    0,   31,   32,   33,    0,  117,   35, 
-           36,   37,  118,   39,    0,   40,    0,  600,  119,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  600,    0,    0,  120,  600,    0,  121,    0, 
-            0,  122,    0,    0,   46,   47,    0,   48,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  600,    0,   52,   53,   54,   55, 
-           56,   57,    0,    0,    0,   58,    0,   59,   60,    0, 
-           61,   62,    0,   63,   64,   65,   66,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  260,  260,  260,    0,  260,  411,  411,  411,  260, 
-          260,  411,  411,  411,  260,  411,  260,  260,  260,  260, 
-          260,  260,  260,    0,  411,  411,  411,  260,  260,  260, 
-          260,  260,  260,  260,  411,  411,  260,  411,  411,  411, 
-          411,  411,    0,  260,    0,    0,  260,  260,  260,    0, 
-          260,  260,  260,  260,  260,  260,  260,  260,  260,  260, 
-          260,  411,  411,  411,  411,  411,  411,  411,  411,  411, 
-          411,  411,  411,  411,  411,    0,    0,  411,  411,  411, 
-          260,    0,  411,  260,    0,  411,  260,  260,  411,  260, 
-          411,  260,  411,  260,  411,  260,  411,  411,  411,  411, 
-          411,  411,  411,  260,  411,  411,  411,    0,  260,  260, 
-          260,  260,  260,  260,    0,    0,    0,  260,    0,  260, 
-          260,    0,  260,  260,    0,  260,  260,  260,  260,  260, 
-          260,  260,  260,    0,  260,  600,  600,  600,  260,  260, 
-          600,  600,  600,  260,  600,  260,  260,  260,  260,  260, 
-          260,  260,    0,  600,  600,  600,  260,  260, 
-      };
+      return tables[1];
    }
-
-   private static final short[] yyTable2() {
-      return new short[] {
-
-          260,  260,  260,  260,  260,  600,  600,  260,  600,  600, 
-          600,  600,  600,    0,  260,    0,    0,  260,  260,  260, 
-            0,  260,  260,  260,  260,  260,  260,  260,  260,  260, 
-          260,  260,  600,  600,  600,  600,  600,  600,  600,  600, 
-          600,  600,  600,  600,  600,  600,    0,    0,  600,  600, 
-          600,  260,    0,  600,  260,    0,  600,  260,  260,  600, 
-          260,  600,  260,  600,  260,  600,  260,  600,  600,  600, 
-          600,  600,  600,  600,  260,  600,  600,  600,    0,  260, 
-          260,  260,  260,  260,  260,  298,    0,    0,  260,    0, 
-          260,  260,    0,  260,  260,  298,  260,  260,  260,  260, 
-          260,    0,    0,    0,    0,  634,  596,    0,    0,  635, 
-            0,    0,    0,  177,  178,    0,  179,  180,  181,  182, 
-          183,  184,  185,    0,    0,  186,  187,    0,    0,  298, 
-          188,  189,  190,  191,    0,    0,    0,    0,    0,  280, 
-            0,    0,    0,    0,  298,    0,  193,  194,  298,  195, 
-          196,  197,  198,  199,  200,  201,  202,  203,  204,  205, 
-            0,    0,  206,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  298,    0,    0,    0, 
-            0,    0,    0,    0,  207,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            4,    5,    6,    0,    8,    0,    0,    0,    9,   10, 
-            0,    0,    0,   11,  578,   12,   13,   14,  110,  111, 
-           17,   18,    0,    0,  578,    0,  112,  113,  114,   22, 
-           23,   24,   25,    0,    0,  115,    0,    0,    0,    0, 
-            0,    0,  116,    0,    0,   31,   32,   33,    0,   34, 
-           35,   36,   37,   38,   39,    0,   40,    0,   94,  119, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  578,    0,  103,    0,  578,    0,  254, 
-            0,    0,   45,    0,    0,   46,   47,    0,   48,    0, 
-           49,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  578,    0,   52,   53,   54, 
-           55,   56,   57,    0,    0,    0,   58,    0,   59,   60, 
-            0,   61,   62,    0,   63,   64,   65,   66,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  260,  260,  260,    0,  260,  298,  298,  298, 
-          260,  260,  298,  298,  298,  260,  298,  260,  260,  260, 
-          260,  260,  260,  260,    0,    0,  298,  298,  260,  260, 
-          260,  260,  260,  260,  260,  298,  298,  260,  298,  298, 
-          298,  298,  298,    0,  260,    0,    0,  260,  260,  260, 
-            0,  260,  260,  260,  260,  260,  260,  260,  260,  260, 
-          260,  260,  298,  298,  298,  298,  298,  298,  298,  298, 
-          298,  298,  298,  298,  298,  298,    0,    0,  298,  298, 
-          298,  260,    0,  298,  260,    0,  298,  260,  260,  298, 
-          260,  298,  260,  298,  260,  298,  260,  298,  298,  298, 
-          298,  298,  298,  298,  260,  298,    0,  298,    0,  260, 
-          260,  260,  260,  260,  260,    0,    0,    0,  260,    0, 
-          260,  260,    0,  260,  260,    0,  260,  260,  260,  260, 
-          260,  578,  578,  578,    0,  578,  578,  578,  578,  578, 
-          578,    0,  578,  578,  578,  578,  578,  578,  578,  578, 
-          578,  578,  578,    0,  578,    0,    0,  578,  578,  578, 
-          578,  578,  578,  578,  578,  578,  578,  578,  578,  578, 
-          578,  578,    0,  578,    0,    0,  578,  578,  578,    0, 
-          578,  578,  578,  578,  578,  578,  578,  578,  578,  578, 
-          578,  578,  578,  578,  578,  578,  578,  578,  578,  578, 
-          578,  578,  578,  578,  578,    0,    0,  578,  578,  578, 
-          578,    0,    0,  578,  578,  578,  578,  578,    0,  578, 
-            0,  578,  578,  578,  578,  578,  578,  578,  578,  578, 
-          578,  578,  578,  578,  578,  578,  578,    0,  578,  578, 
-          578,  578,  578,  578,  579,    0,    0,  578,    0,  578, 
-          578,    0,  578,  578,  579,  578,  578,  578,  578,  578, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          657,  590,    0,    0,  658,    0,    0,    0,  177,  178, 
-            0,  179,  180,  181,  182,  183,  184,  185,   96,    0, 
-          186,  187,    0,    0,    0,  188,  189,  190,  191,    0, 
-            0,    0,    0,  579,  280,  105,    0,  579,    0,    0, 
-            0,  193,  194,    0,  195,  196,  197,  198,  199,  200, 
-          201,  202,  203,  204,  205,    0,    0,  206,    0,    0, 
-            0,    0,    0,    0,    0,  579,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  207, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    4, 
-            5,    6,    0,    8,    0,    0,    0,    9,   10,    0, 
-            0,    0,   11,  582,   12,   13,   14,  110,  111,   17, 
-           18,    0,    0,  582,    0,  112,  113,  114,   22,   23, 
-           24,   25,    0,    0,  115,    0,    0,    0,    0,    0, 
-            0,  116,    0,    0,   31,   32,   33,    0,   34,   35, 
-           36,   37,   38,   39,    0,   40,    0,   95,  119,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  582,    0,  104,    0,  582,    0,  310,    0, 
-            0,  387,    0,    0,   46,   47,    0,   48,    0,  388, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  582,    0,   52,   53,   54,   55, 
-           56,   57,    0,    0,    0,   58,    0,   59,   60,    0, 
-           61,   62,    0,   63,   64,   65,   66,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  579,  579,  579,    0,  579,  579,  579,  579,  579, 
-          579,    0,  579,  579,  579,  579,  579,  579,  579,  579, 
-          579,  579,  579,    0,  579,    0,    0,  579,  579,  579, 
-          579,  579,  579,  579,  579,  579,  579,  579,  579,  579, 
-          579,  579,    0,  579,    0,    0,  579,  579,  579,    0, 
-          579,  579,  579,  579,  579,  579,  579,  579,  579,  579, 
-          579,  579,  579,  579,  579,  579,  579,  579,  579,  579, 
-          579,  579,  579,  579,  579,    0,    0,  579,  579,  579, 
-          579,    0,    0,  579,  579,  579,  579,  579,    0,  579, 
-            0,  579,  579,  579,  579,  579,  579,  579,  579,  579, 
-          579,  579,  579,  579,  579,  579,  579,    0,  579,  579, 
-          579,  579,  579,  579,  600,    0,    0,  579,    0,  579, 
-          579,    0,  579,  579,  600,  579,  579,  579,  579,  579, 
-          578,  578,  578,    0,  578,  582,  582,  582,  578,  578, 
-            0,  582,  582,  578,  582,  578,  578,  578,  578,  578, 
-          578,  578,    0,  582,    0,    0,  578,  578,  578,  578, 
-          578,  578,  578,  582,  582,  578,  582,  582,  582,  582, 
-          582,    0,  578,  600,    0,  578,  578,  578,    0,  578, 
-          578,  578,  578,  578,  578,  578,  578,  578,  578,  578, 
-          582,  582,  582,  582,  582,  582,  582,  582,  582,  582, 
-          582,  582,  582,  582,    0,    0,  582,  582,  582,  578, 
-            0,    0,  578,  578,  582,  578,  578,    0,  578,    0, 
-          578,  582,  578,  582,  578,  582,  582,  582,  582,  582, 
-          582,  582,  578,  582,  582,  582,    0,  578,  578,  578, 
-          578,  578,  578,  291,    0,    0,  578,    0,  578,  578, 
-            0,  578,  578,  291,  578,  578,  578,  578,  578,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  659, 
-          596,    0,    0,  660,    0,    0,    0,  177,  178,    0, 
-          179,  180,  181,  182,  183,  184,  185,   97,    0,  186, 
-          187,    0,    0,    0,  188,  189,  190,  191,    0,    0, 
-            0,    0,  291,  280,  106,    0,  291,    0,    0,    0, 
-          193,  194,    0,  195,  196,  197,  198,  199,  200,  201, 
-          202,  203,  204,  205,    0,    0,  206,    0,    0,    0, 
-            0,    0,    0,    0,  291,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  207,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  260,  260,  260,    0,  260,  600,  600,  600,  260, 
-          260,  600,  600,  600,  260,  600,  260,  260,  260,  260, 
-          260,  260,  260,  284,  600,  600,    0,  260,  260,  260, 
-          260,  260,  260,  260,  600,  600,  260,  600,  600,  600, 
-          600,  600,    0,  260,    0,    0,  260,  260,  260,    0, 
-          260,  260,  260,  260,  260,  260,  260,  260,  260,  260, 
-          260,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  600,    0,    0,    0,    0,    0,    0,  600, 
-          260,    0,    0,  260,    0,  600,  260,  260,    0,  260, 
-            0,  260,    0,  260,    0,  260,    0,    0,    0,    0, 
-            0,    0,    0,  260,    0,  600,  600,    0,  260,  260, 
-          260,  260,  260,  260,    0,    0,    0,  260,    0,  260, 
-          260,    0,  260,  260,    0,  260,  260,  260,  260,  260, 
-          579,  579,  579,    0,  579,  291,  291,  291,  579,  579, 
-            0,  291,  291,  579,  291,  579,  579,  579,  579,  579, 
-          579,  579,    0,    0,    0,  109,  579,  579,  579,  579, 
-          579,  579,  579,  291,  291,  579,  291,  291,  291,  291, 
-          291,    0,  579,    0,    0,  579,  579,  579,    0,  579, 
-          579,  579,  579,  579,  579,  579,  579,  579,  579,  579, 
-          291,  291,  291,  291,  291,  291,  291,  291,  291,  291, 
-          291,  291,  291,  291,  109,    0,  291,  291,  291,  579, 
-            0,    0,  579,  579,  291,  579,  579,    0,  579,    0, 
-          579,  291,  579,  291,  579,  291,  291,  291,  291,  291, 
-          291,  291,  579,  291,    0,  291,  484,  579,  579,  579, 
-          579,  579,  579,    0,    0,    0,  579,    0,  579,  579, 
-            0,  579,  579,    0,  579,  579,  579,  579,  579,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            4,    5,    6,    0,    8,    0,    0,    0,    9,   10, 
-            0,    0,    0,   11,  110,   12,   13,   14,   15,   16, 
-           17,   18,    0,    0,    0,    0,   19,   20,   21,   22, 
-           23,   24,   25,    0,    0,  115,    0,    0,    0,    0, 
-            0,    0,   28,    0,    0,   31,   32,   33,    0,   34, 
-           35,   36,   37,   38,   39,  262,   40,   41,   42,   43, 
-            0,    0,    0,  110,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  236, 
-            0,    0,  122,    0,    0,   46,   47,    0,   48,    0, 
-          263,    0,  264,    0,   50,  487,    0,    0,    0,    0, 
-            0,    0,  265,    0,    0,    0,    0,   52,   53,   54, 
-           55,   56,   57,    0,    0,    0,   58,    0,   59,   60, 
-            0,   61,   62,    0,   63,   64,   65,   66,  266,    0, 
-            0,  109,  109,  109,  109,  109,  109,  109,  109,  109, 
-          109,  109,    0,  109,  109,  109,    0,  109,  109,  109, 
-          109,  109,  109,  109,    0,  575,    0,    0,  109,  109, 
-          109,  109,  109,  109,  109,    0,    0,  109,    0,    0, 
-            0,    0,    0,  109,  109,    0,  109,  109,  109,  109, 
-            0,  109,  109,  109,  109,  109,  109,    0,  109,  109, 
-          109,  109,  109,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  484,    0,    0,    0,    0,    0,    0, 
-          484,  109,    0,    0,  109,  575,    0,  109,  109,    0, 
-          109,    0,  109,    0,  582,    0,  109,    0,    0,    0, 
-            0,  109,    0,    0,  109,    0,  575,    0,    0,  109, 
-          109,  109,  109,  109,  109,    0,    0,    0,  109,    0, 
-          109,  109,    0,  109,  109,    0,  109,  109,  109,  109, 
-          110,  110,  110,  110,  110,  110,  110,  110,  110,  110, 
-          110,    0,  110,  110,  110,    0,  110,  110,  110,  110, 
-          110,  110,  110,    0,  576,    0,    0,  110,  110,  110, 
-          110,  110,  110,  110,    0,    0,  110,    0,    0,    0, 
-            0,    0,  110,  110,    0,  110,  110,  110,  110,    0, 
-          110,  110,  110,  110,  110,  110,    0,  110,  110,  110, 
-          110,  110,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  487,    0,    0,    0,    0,    0,    0,  487, 
-          110,    0,    0,  110,  576,    0,  110,  110,    0,  110, 
-            0,  110,    0,  291,    0,  110,    0,    0,    0,    0, 
-          110,    0,    0,  110,    0,  576,    0,    0,  110,  110, 
-          110,  110,  110,  110,    0,    0,    0,  110,    0,  110, 
-          110,    0,  110,  110,    0,  110,  110,  110,  110,  109, 
-          109,  109,  109,  109,  109,  109,  109,  109,  109,  109, 
-            0,  110,  109,  109,    0,  109,  109,  109,  109,  109, 
-          109,  109,    0,  582,    0,    0,  109,  109,  109,  109, 
-          109,  109,  109,    0,    0,  109,    0,    0,    0,    0, 
-            0,  109,  109,    0,  109,  109,  109,  109,    0,  109, 
-          109,  109,  109,  109,  109,    0,  109,  109,  109,  109, 
-          110,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  582,    0,    0,    0,    0,    0,    0,  582,  109, 
-            0,    0,  109,  578,    0,  109,  109,    0,  109,    0, 
-          109,    0,  292,    0,  109,    0,    0,    0,    0,  109, 
-            0,    0,  109,    0,  582,    0,    0,  109,  109,  109, 
-          109,  109,  109,    0,    0,    0,  109,    0,  109,  109, 
-            0,  109,  109,    0,  109,  109,  109,  109,  110,  110, 
-          110,  110,  110,  110,  110,  110,  110,  110,  110,    0, 
-          336,  110,  110,    0,  110,  110,  110,  110,  110,  110, 
-          110,    0,    0,    0,    0,  110,  110,  110,  110,  110, 
-          110,  110,    0,    0,  110,    0,    0,    0,    0,    0, 
-          110,  110,    0,  110,  110,  110,  110,    0,  110,  110, 
-          110,  110,  110,  110,    0,  110,  110,  110,  110,  336, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          291,    0,    0,    0,    0,    0,    0,  291,  110,    0, 
-            0,  110,  579,    0,  110,  110,    0,  110,    0,  110, 
-            0,    0,    0,  110,    0,    0,    0,    0,  110,    0, 
-            0,  110,    0,    0,    0,    0,  110,  110,  110,  110, 
-          110,  110,    0,    0,    0,  110,    0,  110,  110,    0, 
-          110,  110,    0,  110,  110,  110,  110,  110,  110,  110, 
-          110,  110,  110,  110,  110,  110,  110,  110,    0,  600, 
-          110,  110,    0,  110,  110,  110,  110,  110,  110,  110, 
-            0,    0,    0,    0,  110,  110,  110,  110,  110,  110, 
-          110,    0,    0,  110,    0,    0,    0,    0,    0,  110, 
-          110,    0,  110,  110,  110,  110,    0,  110,  110,  110, 
-          110,  110,  110,    0,  110,  110,  110,  110,  600,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  292, 
-            0,    0,    0,    0,    0,    0,  292,  110,    0,    0, 
-          110,    0,    0,  110,  110,    0,  110,    0,  110,    0, 
-            0,    0,  110,    0,    0,    0,    0,  110,    0,    0, 
-          110,    0,    0,    0,    0,  110,  110,  110,  110,  110, 
-          110,    0,    0,    0,  110,    0,  110,  110,    0,  110, 
-          110,    0,  110,  110,  110,  110,  336,  336,  336,  336, 
-          336,  336,  336,  336,  336,  336,  336,    0,  336,  336, 
-          336,  336,  336,  336,  336,  336,  336,  336,  336,  600, 
-            0,    0,    0,  336,  336,  336,  336,  336,  336,  336, 
-            0,    0,  336,    0,    0,    0,    0,    0,  336,  336, 
-            0,  336,  336,  336,  336,    0,  336,  336,  336,  336, 
-          336,  336,    0,  336,  336,  336,  336,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  600,    0, 
-            0,    0,    0,    0,    0,    0,  336,    0,    0,  336, 
-            0,    0,  336,  336,    0,  336,    0,  336,    0,    0, 
-            0,  336,    0,    0,    0,    0,    0,    0,    0,  336, 
-            0,    0,    0,    0,  336,  336,  336,  336,  336,  336, 
-            0,    0,    0,  336,    0,  336,  336,    0,  336,  336, 
-            0,  336,  336,  336,  336,  600,  600,  600,  600,  600, 
-          600,    0,    0,  600,  600,  600,    0,    0,    0,  600, 
-            0,  600,  600,  600,  600,  600,  600,  600,  247,    0, 
-            0,    0,  600,  600,  600,  600,  600,  600,  600,    0, 
-            0,  600,    0,    0,    0,    0,    0,  600,  600,    0, 
-          600,  600,  600,  600,    0,  600,  600,  600,  600,  600, 
-          600,    0,  600,  600,  600,  600,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  246,    0,    0, 
-            0,    0,    0,    0,    0,  600,    0,    0,  600,    0, 
-            0,  600,  600,    0,  600,    0,  600,    0,    0,    0, 
-          600,    0,    0,    0,    0,    0,    0,    0,  600,    0, 
-            0,    0,    0,  600,  600,  600,  600,  600,  600,    0, 
-            0,    0,  600,    0,  600,  600,    0,  600,  600,    0, 
-          600,  600,  600,  600,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  600,  600,  600,  600,  600, 
-          600,    0,    0,    0,  600,  600,    0,    0,    0,  600, 
-            0,  600,  600,  600,  600,  600,  600,  600,    0,    0, 
-            0,    0,  600,  600,  600,  600,  600,  600,  600,  284, 
-            0,  600,    0,    0,    0,    0,    0,  600,  600,    0, 
-          600,  600,  600,  600,    0,  600,  600,  600,  600,  600, 
-          600,    0,  600,  600,  600,  600,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  600,    0,    0,  600,    0, 
-            0,  600,  600,    0,  600,    0,  600,    0,    0,    0, 
-          600,    0,    0,    0,    0,    0,    0,    0,  600,    0, 
-            0,  600,    0,  600,  600,  600,  600,  600,  600,    0, 
-            0,    0,  600,    0,  600,  600,    0,  600,  600,    0, 
-          600,  600,  600,  600,    0,    4,    5,    6,    0,    8, 
-            0,    0,    0,    9,   10,    0,    0,    0,   11,    0, 
-           12,   13,   14,   15,   16,   17,   18,    0,    0,    0, 
-            0,   19,   20,   21,   22,   23,   24,   25,    0,    0, 
-           26,    0,    0,    0,    0,    0,    0,   28,    0,    0, 
-           31,   32,   33,    0,   34,   35,   36,   37,   38,   39, 
-            0,   40,   41,   42,   43,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  412,    0,    0,    0,    0, 
-            0,    0,    0,    0,  236,  412,    0,  122,    0,    0, 
-           46,   47,    0,   48,    0,    0,    0,    0,    0,   50, 
-            0,    0,    0,    0,    0,    0,    0,   51,    0,    0, 
-            0,    0,   52,   53,   54,   55,   56,   57,    0,  412, 
-            0,   58,    0,   59,   60,    0,   61,   62,    0,   63, 
-           64,   65,   66,  412,  412,    0,  102,    0,  412,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,  412,    0,    0,   11, 
-            0,   12,   13,   14,   15,   16,   17,   18,    0,    0, 
-            0,    0,   19,   20,   21,   22,   23,   24,   25,    0, 
-            0,   26,    0,    0,    0,    0,    0,    0,   28,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  411,    0,    0,    0, 
-            0,    0,    0,    0,    0,  236,  411,    0,  122,    0, 
-            0,   46,   47,    0,   48,    0,    0,    0,    0,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,   51,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-          411,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,   66,  411,  411,    0,    0,    0,  411, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  411,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  412,  412,  412, 
-            0,    0,  412,  412,  412,    0,  412,    0,    0,    0, 
-            0,    0,    0,    0,    0,  412,  412,  412,    0,    0, 
-            0,    0,    0,    0,    0,  412,  412,    0,  412,  412, 
-          412,  412,  412,    0,    0,    0,    0,    0,    0,    0, 
-          412,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  412,  412,  412,  412,  412,  412,  412,  412, 
-          412,  412,  412,  412,  412,  412,    0,  496,  412,  412, 
-          412,    0,    0,  412,    0,    0,  412,  496,    0,  412, 
-            0,  412,    0,  412,    0,  412,    0,  412,  412,  412, 
-          412,  412,  412,  412,    0,  412,  412,  412,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  412, 
-            0,  496,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  496,  496,    0,  100,    0, 
-          496,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  411,  411, 
-          411,    0,    0,  411,  411,  411,    0,  411,  496,    0, 
-            0,    0,    0,    0,    0,    0,  411,  411,  411,    0, 
-            0,    0,    0,    0,    0,    0,  411,  411,    0,  411, 
-          411,  411,  411,  411,    0,    0,    0,    0,    0,    0, 
-            0,  411,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  411,  411,  411,  411,  411,  411,  411, 
-          411,  411,  411,  411,  411,  411,  411,    0,  497,  411, 
-          411,  411,    0,    0,  411,    0,    0,  411,  497,    0, 
-          411,    0,  411,    0,  411,    0,  411,    0,  411,  411, 
-          411,  411,  411,  411,  411,    0,  411,  411,  411,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          411,    0,  497,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  497,  497,    0,  101, 
-            0,  497,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  497, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  496, 
-          496,  496,    0,    0,  496,  496,  496,    0,  496,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  496,  496, 
-            0,    0,    0,    0,    0,    0,    0,  496,  496,    0, 
-          496,  496,  496,  496,  496,    0,    0,    0,    0,    0, 
-            0,    0,  496,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  496,  496,  496,  496,  496,  496, 
-          496,  496,  496,  496,  496,  496,  496,  496,    0,  600, 
-          496,  496,  496,    0,  498,  496,    0,    0,  496,  600, 
-            0,  496,    0,  496,    0,  496,    0,  496,    0,  496, 
-          496,  496,  496,  496,  496,  496,    0,  496,    0,  496, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  496,    0,  600,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  600,  600,    0, 
-            0,    0,  600,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          497,  497,  497,    0,    0,  497,  497,  497,    0,  497, 
-          600,    0,    0,    0,    0,    0,    0,    0,    0,  497, 
-          497,    0,    0,    0,    0,    0,    0,    0,  497,  497, 
-            0,  497,  497,  497,  497,  497,    0,    0,    0,    0, 
-            0,    0,    0,  497,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  497,  497,  497,  497,  497, 
-          497,  497,  497,  497,  497,  497,  497,  497,  497,    0, 
-          283,  497,  497,  497,    0,  499,  497,    0,    0,  497, 
-          283,    0,  497,    0,  497,    0,  497,    0,  497,    0, 
-          497,  497,  497,  497,  497,  497,  497,    0,  497,    0, 
-          497,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  497,    0,  283,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  283,  283, 
-            0,  108,    0,  283,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  283,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  600,  600,  600,    0,    0,  600,  600,  600,    0, 
-          600,    0,    0,    0,    0,    0,    0,    0,    0,  600, 
-          600,  600,    0,    0,    0,    0,    0,    0,    0,  600, 
-          600,    0,  600,  600,  600,  600,  600,    0,    0,    0, 
-            0,    0,    0,    0,  600,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  600,  600,  600,  600, 
-          600,  600,  600,  600,  600,  600,  600,  600,  600,  600, 
-            0,  292,  600,  600,  600,    0,    0,  600,    0,    0, 
-          600,  292,    0,  600,    0,  600,    0,  600,    0,  600, 
-            0,  600,  600,  600,  600,  600,  600,  600,    0,  600, 
-          600,  600,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  600,    0,  292,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  292, 
-          292,    0,  107,    0,  292,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  283,  283,  283,    0,    0,  283,  283,  283, 
-            0,  283,  292,    0,    0,    0,    0,    0,    0,    0, 
-            0,  283,  283,    0,    0,    0,    0,    0,    0,    0, 
-          283,  283,    0,  283,  283,  283,  283,  283,    0,    0, 
-            0,    0,    0,    0,    0,  283,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  283,  283,  283, 
-          283,  283,  283,  283,  283,  283,  283,  283,  283,  283, 
-          283,    0,  432,  283,  283,  283,    0,    0,  283,    0, 
-            0,  283,  432,    0,  283,    0,  283,    0,  283,    0, 
-          283,    0,  283,  283,  283,  283,  283,  283,  283,    0, 
-          283,    0,  283,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  283,    0,  432,    0,    0,    0, 
-            0,    0,    0,    0,    0,  671,  590,    0,    0,  672, 
-          432,  432,    0,  177,  178,  432,  179,  180,  181,  182, 
-          183,  184,  185,    0,    0,  186,  187,    0,    0,    0, 
-          188,  189,  190,  191,    0,    0,    0,    0,    0,  280, 
-            0,    0,    0,  432,    0,    0,  193,  194,    0,  195, 
-          196,  197,  198,  199,  200,  201,  202,  203,  204,  205, 
-            0,    0,  206,  292,  292,  292,    0,    0,  292,  292, 
-          292,    0,  292,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  292,  292,  207,    0,    0,    0,    0,    0, 
-            0,  292,  292,    0,  292,  292,  292,  292,  292,    0, 
-            0,    0,    0,    0,    0,    0,  292,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  292,  292, 
-          292,  292,  292,  292,  292,  292,  292,  292,  292,  292, 
-          292,  292,    0,  303,  292,  292,  292,    0,    0,  292, 
-            0,    0,  292,  303,    0,  292,    0,  292,    0,  292, 
-            0,  292,    0,  292,  292,  292,  292,  292,  292,  292, 
-            0,  292,    0,  292,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  292,    0,  303,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  303,  303,    0,    0,    0,  303,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  432,  432,  432,    0,    0,  432, 
-          432,  432,    0,  432,  303,    0,    0,    0,    0,    0, 
-            0,    0,    0,  432,  432,    0,    0,    0,    0,    0, 
-            0,    0,  432,  432,    0,  432,  432,  432,  432,  432, 
-            0,    0,    0,    0,    0,    0,    0,  432,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  432, 
-          432,  432,  432,  432,  432,  432,  432,  432,  432,  432, 
-          432,  432,  432,    0,  241,  432,  432,  432,    0,    0, 
-          432,    0,    0,  432,  241,    0,  432,    0,  432,    0, 
-          432,    0,  432,    0,  432,  432,  432,  432,  432,  432, 
-          432,    0,  432,    0,  432,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  432,    0,  241,    0, 
-            0,    0,    0,    0,    0,    0,    0,  673,  596,    0, 
-            0,  674,  241,  241,    0,  177,  178,  241,  179,  180, 
-          181,  182,  183,  184,  185,    0,    0,  186,  187,    0, 
-            0,    0,  188,  189,  190,  191,    0,    0,    0,    0, 
-            0,  280,    0,    0,    0,  335,    0,    0,  193,  194, 
-            0,  195,  196,  197,  198,  199,  200,  201,  202,  203, 
-          204,  205,    0,    0,  206,  303,  303,  303,    0,    0, 
-          303,  303,  303,    0,  303,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  303,  303,  207,    0,    0,    0, 
-            0,    0,    0,  303,  303,    0,  303,  303,  303,  303, 
-          303,    0,    0,    0,    0,    0,    0,    0,  303,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          303,  303,  303,  303,  303,  303,  303,  303,  303,  303, 
-          303,  303,  303,  303,    0,  298,  303,  303,  303,    0, 
-            0,  303,    0,    0,  303,  298,    0,  303,    0,  303, 
-            0,  303,    0,  303,    0,  303,  303,  303,  303,  303, 
-          303,  303,    0,  303,    0,  303,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  303,    0,  298, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  298,  298,    0,    0,    0,  298,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  241,  241,  241,    0, 
-            0,  241,  241,  241,    0,  241,  298,    0,    0,    0, 
-            0,    0,    0,    0,    0,  241,  241,    0,    0,    0, 
-            0,    0,    0,    0,  241,  241,    0,  241,  241,  241, 
-          241,  241,    0,    0,    0,    0,    0,    0,    0,  241, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  241,  241,  241,  241,  241,  241,  241,  241,  241, 
-          241,  241,  335,  241,  241,    0,  479,  241,  241,  335, 
-            0,    0,  241,    0,    0,  241,  479,    0,  241,    0, 
-          241,    0,  241,    0,  241,    0,  241,  241,  241,  241, 
-          241,  241,  241,    0,  241,    0,  241,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  241,    0, 
-          479,    0,    0,    0,    0,    0,    0,    0,    0,  699, 
-          590,    0,    0,  700,  479,  479,    0,  177,  178,  479, 
-          179,  180,  181,  182,  183,  184,  185,    0,    0,  186, 
-          187,    0,    0,    0,  188,  189,  190,  191,    0,    0, 
-            0,    0,    0,  280,    0,    0,    0,  479,    0,    0, 
-          193,  194,    0,  195,  196,  197,  198,  199,  200,  201, 
-          202,  203,  204,  205,    0,    0,  206,  298,  298,  298, 
-            0,    0,  298,  298,  298,    0,  298,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  298,  298,  207,    0, 
-            0,    0,    0,    0,    0,  298,  298,    0,  298,  298, 
-          298,  298,  298,    0,    0,    0,    0,    0,    0,    0, 
-          298,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  298,  298,  298,  298,  298,  298,  298,  298, 
-          298,  298,  298,  298,  298,  298,    0,  219,  298,  298, 
-          298,    0,    0,  298,    0,    0,  298,  219,    0,  298, 
-            0,  298,    0,  298,    0,  298,    0,  298,  298,  298, 
-          298,  298,  298,  298,    0,  298,    0,  298,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  298, 
-            0,  219,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  219,  219,    0,    0,    0, 
-          219,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  479,  479, 
-          479,    0,    0,  479,  479,  479,    0,  479,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  479,  479,    0, 
-            0,    0,    0,    0,    0,    0,  479,  479,    0,  479, 
-          479,  479,  479,  479,    0,    0,    0,    0,    0,    0, 
-            0,  479,    0,  216,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  216,  479,  479,  479,  479,  479,  479, 
-          479,  479,  479,  479,  479,  479,  479,    0,    0,  479, 
-          479,  479,    0,    0,  479,    0,    0,  479,    0,    0, 
-          479,    0,  479,    0,  479,    0,  479,  216,  479,  479, 
-          479,  479,  479,  479,  479,    0,  479,    0,  479,    0, 
-            0,  216,  216,    0,    0,    0,  216,    0,    0,    0, 
-          479,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  213,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  213,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  219, 
-          219,  219,    0,    0,  219,  219,  219,    0,  219,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  219,  219, 
-            0,  213,    0,    0,    0,    0,    0,  219,  219,    0, 
-          219,  219,  219,  219,  219,  213,  213,    0,    0,    0, 
-          213,    0,  219,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  219,  219,  219,  219,  219, 
-          219,  219,  219,  219,  219,    0,  219,  219,    0,    0, 
-          219,  219,    0,    0,    0,  219,    0,    0,  219,    0, 
-            0,  219,    0,  219,    0,  219,    0,  219,    0,  219, 
-          219,  219,  219,  219,  219,  219,    0,  219,    0,  219, 
-            0,    0,    0,  215,    0,    0,    0,    0,    0,    0, 
-            0,  219,    0,  215,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  216,  216,  216,    0,    0, 
-          216,  216,  216,    0,  216,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  216,  216,    0,  215,    0,    0, 
-            0,    0,    0,  216,  216,    0,  216,  216,  216,  216, 
-          216,  215,  215,    0,    0,    0,  215,    0,  216,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0, 
-      };
-   }
-
-   private static final short[] yyTable3() {
-      return new short[] {
-
-            0,    0,    0,  216,  216,  216,  216,  216,  216,  216, 
-          216,  216,  216,    0,  216,  216,    0,    0,  216,  216, 
-            0,    0,    0,  216,    0,    0,  216,    0,    0,  216, 
-            0,  216,    0,  216,    0,  216,    0,  216,  216,  216, 
-          216,  216,  216,  216,  214,  216,    0,  216,    0,    0, 
-            0,    0,    0,    0,  214,    0,    0,    0,    0,  216, 
-            0,  213,  213,  213,    0,    0,  213,  213,  213,    0, 
-          213,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          213,  213,    0,    0,    0,    0,    0,    0,  214,  213, 
-          213,    0,  213,  213,  213,  213,  213,    0,    0,    0, 
-            0,    0,  214,  214,  213,    0,    0,  214,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  213,  213,  213, 
-          213,  213,  213,  213,  213,  213,  213,    0,  213,  213, 
-            0,    0,  213,  213,    0,    0,    0,  213,    0,    0, 
-          213,    0,    0,  213,    0,  213,    0,  213,    0,  213, 
-            0,  213,  213,  213,  213,  213,  213,  213,    0,  213, 
-            0,  213,    0,    0,    0,  217,    0,    0,    0,    0, 
-            0,    0,    0,  213,    0,  217,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  215,  215,  215, 
-            0,    0,  215,  215,  215,    0,  215,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  215,  215,    0,  217, 
-            0,    0,    0,    0,    0,  215,  215,    0,  215,  215, 
-          215,  215,  215,  217,  217,    0,    0,    0,  217,    0, 
-          215,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  215,  215,  215,  215,  215,  215,  215, 
-          215,  215,  215,    0,  215,  215,    0,    0,  215,  215, 
-            0,    0,    0,  215,    0,    0,  215,    0,    0,  215, 
-            0,  215,    0,  215,    0,  215,    0,  215,  215,  215, 
-          215,  215,  215,  215,  211,  215,    0,  215,    0,    0, 
-            0,    0,    0,    0,  211,    0,    0,    0,    0,  215, 
-            0,    0,    0,    0,    0,    0,  214,  214,  214,    0, 
-            0,  214,  214,  214,    0,  214,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  214,  214,    0,  211,    0, 
-            0,    0,    0,    0,  214,  214,    0,  214,  214,  214, 
-          214,  214,  211,  211,    0,    0,    0,  211,    0,  214, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  214,  214,  214,  214,  214,  214,  214,  214, 
-          214,  214,    0,  214,  214,    0,    0,  214,  214,    0, 
-            0,    0,  214,    0,    0,  214,    0,    0,  214,    0, 
-          214,    0,  214,    0,  214,    0,  214,  214,  214,  214, 
-          214,  214,  214,    0,  214,  212,  214,    0,    0,    0, 
-            0,    0,    0,    0,    0,  212,    0,    0,  214,    0, 
-            0,    0,    0,    0,    0,    0,    0,  217,  217,  217, 
-            0,    0,  217,  217,  217,    0,  217,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  217,  217,    0,  212, 
-            0,    0,    0,    0,    0,  217,  217,    0,  217,  217, 
-          217,  217,  217,  212,  212,    0,    0,    0,  212,    0, 
-          217,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  217,  217,  217,  217,  217,  217,  217, 
-          217,  217,  217,    0,  217,  217,    0,    0,  217,  217, 
-            0,    0,    0,  217,    0,    0,  217,    0,    0,  217, 
-            0,  217,    0,  217,    0,  217,    0,  217,  217,  217, 
-          217,  217,  217,  217,  235,  217,    0,  217,    0,    0, 
-            0,    0,    0,    0,  235,    0,    0,    0,    0,  217, 
-            0,    0,    0,    0,    0,    0,  211,  211,  211,    0, 
-            0,  211,  211,  211,    0,  211,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  211,  211,    0,  235,    0, 
-            0,    0,    0,    0,  211,  211,    0,  211,  211,  211, 
-          211,  211,  235,  235,    0,    0,    0,  235,    0,  211, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  211,  211,  211,  211,  211,  211,  211,  211, 
-          211,  211,    0,  211,  211,    0,    0,  211,  211,    0, 
-            0,    0,  211,    0,    0,  211,  236,    0,  211,    0, 
-          211,    0,    0,    0,  211,    0,  236,    0,  211,  211, 
-          211,  211,  211,    0,  211,    0,  211,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  211,    0, 
-            0,    0,    0,    0,    0,    0,    0,  212,  212,  212, 
-          236,    0,  212,  212,  212,    0,  212,    0,    0,    0, 
-            0,    0,    0,    0,  236,  236,  212,  212,    0,  236, 
-            0,    0,    0,    0,    0,  212,  212,    0,  212,  212, 
-          212,  212,  212,    0,    0,    0,    0,    0,    0,    0, 
-          212,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  212,  212,  212,  212,  212,  212,  212, 
-          212,  212,  212,    0,  212,  212,    0,    0,  212,  212, 
-          222,    0,    0,  212,    0,    0,  212,    0,    0,  212, 
-          222,  212,    0,    0,    0,  212,    0,    0,    0,  212, 
-          212,  212,  212,  212,    0,  212,    0,  212,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  212, 
-            0,    0,    0,    0,  222,    0,  235,  235,  235,    0, 
-            0,  235,  235,  235,    0,  235,    0,    0,  222,  222, 
-            0,    0,    0,  222,    0,  235,  235,    0,    0,    0, 
-            0,    0,    0,    0,  235,  235,    0,  235,  235,  235, 
-          235,  235,    0,    0,    0,    0,    0,    0,    0,  235, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  235,  235,  235,  235,  235,  235,  235,  235, 
-          235,  235,    0,  235,  235,    0,    0,  235,  235,    0, 
-            0,    0,  235,    0,    0,  235,  220,    0,  235,    0, 
-          235,    0,    0,    0,  235,    0,  220,    0,    0,    0, 
-          235,  235,  235,    0,  235,    0,  235,    0,  236,  236, 
-          236,    0,    0,  236,  236,  236,    0,  236,  235,    0, 
-            0,    0,    0,    0,    0,    0,    0,  236,  236,    0, 
-          220,    0,    0,    0,    0,    0,  236,  236,    0,  236, 
-          236,  236,  236,  236,  220,  220,    0,    0,    0,  220, 
-            0,  236,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  236,  236,  236,  236,  236,  236, 
-          236,  236,  236,  236,    0,  236,  236,    0,    0,  236, 
-          236,    0,    0,    0,  236,    0,    0,  236,    0,    0, 
-          236,    0,  236,    0,    0,    0,  236,    0,    0,    0, 
-          221,    0,  236,  236,  236,    0,  236,    0,  236,    0, 
-          221,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          236,    0,  222,  222,  222,    0,    0,  222,  222,  222, 
-            0,  222,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  222,  222,    0,  221,    0,    0,    0,    0,    0, 
-          222,  222,    0,  222,  222,  222,  222,  222,  221,  221, 
-            0,    0,    0,  221,    0,  222,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  222,  222, 
-          222,  222,  222,  222,  222,  222,  222,  222,    0,  222, 
-          222,    0,    0,    0,    0,    0,    0,    0,  222,    0, 
-            0,  222,  225,    0,  222,    0,  222,    0,    0,    0, 
-          222,    0,  225,    0,    0,    0,  222,  222,  222,    0, 
-          222,    0,  222,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  222,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  225,    0,  220,  220, 
-          220,    0,    0,  220,  220,  220,    0,  220,    0,    0, 
-          225,  225,    0,    0,    0,  225,    0,  220,  220,    0, 
-            0,    0,    0,    0,    0,    0,  220,  220,    0,  220, 
-          220,  220,  220,  220,    0,    0,    0,    0,    0,    0, 
-            0,  220,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  220,  220,  220,  220,  220,  220, 
-          220,  220,  220,  220,    0,  220,  220,    0,    0,    0, 
-            0,  227,    0,    0,  220,    0,    0,  220,    0,    0, 
-          220,  227,  220,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  220,  220,  220,    0,  220,    0,  220,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          220,    0,  221,  221,  221,  227,    0,  221,  221,  221, 
-            0,  221,    0,    0,    0,    0,    0,    0,    0,  227, 
-          227,  221,  221,    0,  227,    0,    0,    0,    0,    0, 
-          221,  221,    0,  221,  221,  221,  221,  221,    0,    0, 
-            0,    0,    0,    0,    0,  221,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  221,  221, 
-          221,  221,  221,  221,  221,  221,  221,  221,    0,  221, 
-          221,    0,    0,    0,    0,    0,    0,    0,  221,    0, 
-            0,  221,  226,    0,  221,    0,  221,    0,    0,    0, 
-            0,    0,  226,    0,    0,    0,  221,  221,  221,    0, 
-          221,    0,  221,    0,  225,  225,  225,    0,    0,  225, 
-          225,  225,    0,  225,  221,    0,    0,    0,    0,    0, 
-            0,    0,    0,  225,  225,    0,  226,    0,    0,    0, 
-            0,    0,  225,  225,    0,  225,  225,  225,  225,  225, 
-          226,  226,    0,    0,    0,  226,    0,  225,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          225,  225,  225,  225,  225,  225,  225,  225,  225,  225, 
-            0,  225,  225,    0,    0,    0,    0,    0,    0,    0, 
-          225,    0,    0,  225,    0,    0,  225,    0,  225,    0, 
-          224,    0,    0,    0,    0,    0,    0,    0,  225,  225, 
-          224,    0,    0,    0,  225,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  225,    0,    0,    0, 
-            0,    0,    0,  227,  227,  227,    0,    0,  227,  227, 
-          227,    0,  227,    0,  224,    0,    0,    0,    0,    0, 
-            0,    0,  227,  227,    0,    0,    0,    0,  224,  224, 
-            0,  227,  227,  224,  227,  227,  227,  227,  227,    0, 
-            0,    0,    0,    0,    0,    0,  227,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  227, 
-          227,  227,  227,  227,  227,  227,  227,  227,  227,    0, 
-          227,  227,    0,    0,    0,    0,    0,    0,  223,  227, 
-            0,    0,  227,    0,    0,  227,    0,  227,  223,    0, 
-            0,    0,    0,    0,    0,    0,    0,  227,  227,    0, 
-            0,    0,    0,  227,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  227,    0,    0,    0,    0, 
-            0,    0,  223,    0,  226,  226,  226,    0,    0,  226, 
-          226,  226,    0,  226,    0,    0,  223,  223,    0,    0, 
-            0,  223,    0,  226,  226,    0,    0,    0,    0,    0, 
-            0,    0,  226,  226,    0,  226,  226,  226,  226,  226, 
-            0,    0,    0,  228,    0,    0,    0,  226,    0,    0, 
-            0,    0,    0,  228,    0,    0,    0,    0,    0,    0, 
-          226,  226,  226,  226,  226,  226,  226,  226,  226,  226, 
-            0,  226,  226,    0,    0,    0,    0,    0,    0,    0, 
-          226,    0,    0,  226,    0,    0,  226,  228,  226,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  226,  226, 
-            0,  228,  228,    0,  226,    0,  228,    0,    0,    0, 
-            0,    0,  224,  224,  224,    0,  226,  224,  224,  224, 
-            0,  224,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  224,  224,    0,    0,    0,    0,    0,    0,  229, 
-          224,  224,    0,  224,  224,  224,  224,  224,    0,  229, 
-            0,    0,    0,    0,    0,  224,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  224,  224, 
-          224,  224,  224,  224,  224,  224,  224,  224,    0,  224, 
-          224,    0,    0,  229,    0,    0,    0,    0,  224,    0, 
-            0,  224,    0,    0,  224,    0,  224,  229,  229,    0, 
-            0,    0,  229,    0,    0,    0,  224,  224,    0,    0, 
-            0,    0,  224,    0,    0,    0,    0,    0,    0,    0, 
-          223,  223,  223,    0,  224,  223,  223,  223,    0,  223, 
-            0,    0,    0,    0,    0,  230,    0,    0,    0,  223, 
-          223,    0,    0,    0,    0,  230,    0,    0,  223,  223, 
-            0,  223,  223,  223,  223,  223,    0,    0,    0,    0, 
-            0,    0,    0,  223,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  230, 
-            0,    0,  223,  223,    0,    0,    0,  223,  223,    0, 
-            0,    0,    0,  230,  230,    0,  223,    0,  230,  223, 
-            0,    0,  223,    0,  223,  228,  228,  228,    0,    0, 
-          228,  228,  228,    0,  228,    0,    0,    0,    0,    0, 
-          223,    0,    0,    0,  228,  228,    0,    0,    0,    0, 
-            0,    0,  223,  228,  228,    0,  228,  228,  228,  228, 
-          228,    0,    0,    0,    0,    0,    0,    0,  228,    0, 
-            0,    0,    0,  237,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  237,    0,    0,    0,  228,  228,    0, 
-            0,    0,  228,  228,    0,    0,    0,    0,    0,    0, 
-            0,  228,    0,    0,  228,    0,    0,  228,    0,  228, 
-            0,    0,    0,    0,    0,    0,    0,  237,    0,    0, 
-            0,  229,  229,  229,    0,  228,  229,  229,  229,    0, 
-          229,  237,  237,    0,    0,    0,  237,  228,    0,    0, 
-          229,  229,    0,    0,    0,    0,    0,    0,    0,  229, 
-          229,    0,  229,  229,  229,  229,  229,    0,    0,    0, 
-            0,    0,    0,    0,  229,    0,    0,    0,    0,  231, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  231, 
-            0,    0,    0,  229,  229,    0,    0,    0,  229,  229, 
-            0,    0,    0,    0,    0,    0,    0,  229,    0,    0, 
-          229,    0,    0,  229,    0,  229,    0,    0,    0,    0, 
-            0,    0,    0,  231,    0,    0,    0,  230,  230,  230, 
-            0,  229,  230,  230,  230,    0,  230,  231,  231,    0, 
-            0,    0,  231,  229,    0,    0,  230,  230,    0,    0, 
-            0,    0,    0,    0,    0,  230,  230,    0,  230,  230, 
-          230,  230,  230,    0,    0,    0,  232,    0,    0,    0, 
-          230,    0,    0,    0,    0,    0,  232,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  230, 
-          230,    0,    0,    0,  230,  230,    0,    0,    0,    0, 
-            0,    0,    0,  230,    0,    0,  230,    0,    0,  230, 
-          232,  230,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  232,  232,    0,  230,    0,  232, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  230, 
-            0,    0,    0,    0,    0,  237,  237,  237,    0,    0, 
-          237,  237,  237,    0,  237,    0,  238,    0,    0,    0, 
-            0,    0,    0,    0,  237,  237,  238,    0,    0,    0, 
-            0,    0,    0,  237,  237,    0,  237,  237,  237,  237, 
-          237,    0,    0,    0,    0,    0,    0,    0,  237,    0, 
-            0,    0,    0,    0,    0,    0,   52,    0,    0,    0, 
-          238,    0,    0,    0,    0,    0,   52,  237,  237,    0, 
-            0,    0,  237,  237,  238,  238,    0,    0,    0,  238, 
-            0,  237,    0,    0,  237,    0,    0,  237,    0,  237, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  231,  231,  231,    0,  237,  231,  231,  231,    0, 
-          231,    0,  209,    0,    0,   52,    0,  237,    0,    0, 
-          231,  231,  209,    0,    0,    0,    0,    0,    0,  231, 
-          231,    0,  231,  231,  231,  231,  231,    0,    0,    0, 
-            0,    0,    0,    0,  231,    0,    0,    0,    0,    0, 
-            0,    0,  210,    0,    0,    0,  209,    0,    0,    0, 
-            0,    0,  210,  231,  231,    0,    0,    0,  231,  231, 
-          209,  209,    0,    0,    0,  209,    0,  231,    0,    0, 
-          231,    0,    0,  231,    0,  231,    0,    0,  232,  232, 
-          232,    0,    0,  232,  232,  232,  210,  232,    0,    0, 
-            0,  231,    0,    0,    0,    0,    0,  232,  232,    0, 
-          210,  210,    0,  231,    0,  210,  232,  232,    0,  232, 
-          232,  232,  232,  232,    0,    0,    0,    0,    0,    0, 
-            0,  232,    0,    0,    0,    0,    0,  239,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  239,    0,    0, 
-          232,  232,    0,    0,    0,  232,  232,    0,    0,    0, 
-            0,    0,    0,    0,  232,    0,    0,  232,    0,    0, 
-          232,    0,  232,    0,    0,    0,    0,    0,  238,  238, 
-          238,  239,    0,  238,  238,  238,    0,  238,  232,    0, 
-            0,    0,    0,    0,    0,  239,  239,  238,  238,    0, 
-          232,    0,    0,    0,    0,    0,  238,  238,    0,  238, 
-          238,  238,  238,  238,    0,    0,    0,    0,   52,   52, 
-           52,  238,    0,   52,   52,   52,  208,   52,    0,    0, 
-            0,    0,    0,    0,    0,    0,  208,   52,    0,    0, 
-            0,  238,    0,    0,    0,  238,  238,    0,    0,   52, 
-           52,   52,   52,   52,  238,    0,    0,  238,    0,    0, 
-          238,    0,  238,    0,    0,    0,    0,    0,    0,    0, 
-          208,    0,    0,    0,  209,  209,  209,    0,  238,  209, 
-          209,  209,    0,  209,  208,  208,    0,    0,    0,    0, 
-          238,    0,    0,  209,  209,    0,    0,   52,    0,    0, 
-            0,    0,  209,  209,    0,  209,  209,  209,  209,  209, 
-            0,    0,    0,    0,  210,  210,  210,  209,   52,  210, 
-          210,  210,  207,  210,    0,    0,    0,    0,    0,    0, 
-            0,    0,  207,  210,  210,    0,    0,    0,    0,    0, 
-            0,    0,  210,  210,    0,  210,  210,  210,  210,  210, 
-          209,    0,    0,  209,    0,    0,  209,  210,  209,    0, 
-            0,    0,    0,    0,    0,    0,  207,    0,    0,    0, 
-            0,    0,    0,    0,  209,    0,    0,    0,    0,    0, 
-          207,  207,    0,    0,    0,    0,  209,    0,    0,    0, 
-          210,    0,    0,  210,    0,    0,  210,    0,  210,  239, 
-          239,  239,    0,    0,  239,  239,  239,  203,  239,    0, 
-            0,    0,    0,    0,  210,    0,    0,  203,  239,  239, 
-            0,    0,    0,    0,    0,    0,  210,  239,  239,    0, 
-          239,  239,  239,  239,  239,    0,    0,    0,    0,    0, 
-            0,    0,  239,    0,    0,    0,    0,  204,    0,    0, 
-            0,  203,    0,    0,    0,    0,    0,  204,    0,    0, 
-            0,    0,    0,    0,    0,  203,  203,    0,    0,    0, 
-            0,    0,    0,    0,    0,  239,    0,    0,  239,    0, 
-            0,  239,    0,  239,    0,    0,    0,    0,  208,  208, 
-          208,  204,    0,  208,  208,  208,    0,  208,    0,  239, 
-            0,    0,    0,    0,    0,  204,  204,  208,  208,    0, 
-            0,  239,    0,    0,    0,    0,  208,  208,    0,  208, 
-          208,  208,  208,  208,    0,    0,    0,    0,    0,    0, 
-            0,  208,    0,    0,    0,    0,  205,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  205,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  208,    0,    0,  208,    0,    0, 
-          208,    0,  208,    0,    0,    0,    0,    0,    0,    0, 
-          205,    0,    0,    0,  207,  207,  207,    0,  208,  207, 
-          207,  207,    0,  207,  205,  205,    0,  206,    0,    0, 
-          208,    0,    0,  207,  207,    0,    0,  206,    0,    0, 
-            0,    0,  207,  207,    0,  207,  207,  207,  207,  207, 
-            0,    0,    0,    0,    0,    0,    0,  207,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  206,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  206,  206,    0,    0,    0, 
-          207,    0,    0,  207,    0,    0,  207,    0,  207,  203, 
-          203,  203,    0,    0,  203,  203,  203,    0,  203,    0, 
-            0,    0,    0,    0,  207,    0,    0,    0,  203,  203, 
-            0,    0,    0,    0,    0,    0,  207,  203,  203,    0, 
-          203,  203,  203,  203,  203,    0,    0,    0,    0,  204, 
-          204,  204,  203,  199,  204,  204,  204,    0,  204,    0, 
-            0,    0,    0,  199,    0,    0,    0,    0,  204,  204, 
-            0,    0,    0,    0,    0,    0,    0,  204,  204,    0, 
-          204,  204,  204,  204,  204,  203,    0,    0,  203,    0, 
-            0,  203,  204,  203,    0,    0,    0,  199,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  203, 
-            0,  199,  199,    0,    0,    0,    0,    0,    0,    0, 
-            0,  203,    0,    0,    0,  204,    0,    0,  204,    0, 
-            0,  204,    0,  204,    0,    0,    0,    0,  205,  205, 
-          205,    0,    0,  205,  205,  205,    0,  205,    0,  204, 
-            0,    0,    0,    0,  201,    0,    0,  205,  205,    0, 
-            0,  204,    0,    0,  201,    0,  205,  205,    0,  205, 
-          205,  205,  205,  205,    0,    0,    0,    0,    0,    0, 
-            0,  205,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  201,  206, 
-          206,  206,    0,    0,  206,  206,  206,    0,  206,    0, 
-            0,    0,  201,  201,  205,  240,    0,  205,  206,  206, 
-          205,    0,  205,    0,    0,  240,    0,  206,  206,    0, 
-          206,  206,  206,  206,  206,    0,    0,    0,  205,    0, 
-            0,    0,  206,    0,    0,    0,    0,    0,    0,    0, 
-          205,    0,    0,    0,    0,   60,    0,    0,    0,  240, 
-            0,    0,    0,    0,    0,   60,    0,    0,    0,    0, 
-            0,    0,    0,  240,  240,  206,    0,    0,  206,    0, 
-            0,  206,    0,  206,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  206, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  206,    0,    0,   60,  199,  199,  199,    0,  202, 
-          199,  199,  199,    0,  199,    0,    0,    0,    0,  202, 
-            0,    0,    0,    0,  199,  199,    0,    0,    0,    0, 
-            0,    0,    0,  199,  199,    0,  199,  199,  199,  199, 
-          199,    0,    0,    0,    0,    0,    0,    0,  199,    0, 
-            0,    0,    0,  202,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  202,  202,    0, 
-          242,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          242,  199,    0,    0,  199,    0,    0,  199,    0,  199, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  199,  201,  201,  201,    0, 
-            0,  201,  201,  201,  242,  201,    0,  199,    0,    0, 
-            0,    0,    0,    0,    0,  201,  201,    0,    0,  242, 
-            0,    0,    0,    0,  201,  201,    0,  201,  201,  201, 
-          201,  201,    0,    0,    0,    0,    0,    0,    0,  201, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  240,  240,  240, 
-            0,  200,  240,  240,  240,    0,  240,    0,    0,    0, 
-            0,  200,  201,    0,    0,  201,  240,  240,  201,    0, 
-          201,    0,    0,    0,    0,  240,  240,    0,  240,  240, 
-          240,  240,  240,    0,    0,    0,  201,   60,   60,   60, 
-          240,  198,   60,   60,   60,  200,   60,    0,  201,    0, 
-            0,  198,    0,    0,    0,    0,   60,   60,    0,  200, 
-          200,    0,    0,    0,    0,   60,   60,    0,   60,   60, 
-           60,   60,   60,  240,    0,    0,  240,    0,    0,  240, 
-            0,  240,    0,    0,    0,  198,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  240,    0,  198, 
-          198,  202,  202,  202,    0,    0,  202,  202,  202,  240, 
-          202,    0,    0,    0,    0,    0,   60,    0,    0,   60, 
-          202,  202,    0,    0,    0,    0,    0,    0,    0,  202, 
-          202,    0,  202,  202,  202,  202,  202,   60,    0,    0, 
-            0,    0,    0,  331,  202,    0,    0,    0,    0,    0, 
-            0,    0,    0,  331,    0,    0,    0,    0,    0,    0, 
-            0,    0,  242,  242,  242,    0,    0,  242,  242,  242, 
-            0,  242,    0,    0,    0,    0,    0,  202,    0,    0, 
-          202,  242,  242,  202,    0,  202,    0,  331,    0,    0, 
-          242,  242,    0,  242,  242,  242,  242,  242,    0,    0, 
-            0,  202,  331,    0,    0,  242,  331,    0,    0,    0, 
-            0,    0,    0,  202,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  331,    0,    0,    0,  242,    0, 
-            0,  242,    0,    0,  242,    0,  242,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  332,    0,    0, 
-            0,    0,  242,  200,  200,  200,    0,  332,  200,  200, 
-          200,    0,  200,    0,  242,    0,    0,    0,    0,    0, 
-            0,    0,  200,  200,    0,    0,    0,    0,    0,    0, 
-            0,  200,  200,    0,  200,  200,  200,  200,    0,    0, 
-            0,  332,    0,  198,  198,  198,  200,    0,  198,  198, 
-          198,    0,  198,    0,    0,    0,  332,    0,    0,    0, 
-          332,    0,  198,  198,    0,    0,    0,    0,    0,    0, 
-            0,  198,  198,    0,  198,  198,  198,  198,    0,  200, 
-            0,    0,  200,    0,    0,  200,  198,  200,  332,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  295,    0, 
-            0,    0,    0,  200,    0,    0,    0,    0,  295,    0, 
-            0,    0,    0,    0,    0,  200,    0,    0,    0,  198, 
-            0,    0,  198,    0,    0,  198,    0,  198,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  295,  198,    0,  331,  331,  331,    0,    0, 
-          331,  331,  331,    0,  331,  198,    0,  295,    0,    0, 
-            0,  295,    0,    0,  331,  331,    0,    0,    0,    0, 
-            0,    0,    0,  331,  331,    0,  331,  331,  331,  331, 
-          331,    0,    0,    0,    0,    0,    0,    0,    0,  295, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          331,  331,  331,  331,  331,  331,  331,  331,  331,  331, 
-          331,  331,  331,  331,    0,    0,  331,  331,  331,    0, 
-            0,  331,    0,    0,  331,    0,    0,  331,    0,  331, 
-            0,  331,    0,  331,    0,  331,  331,  331,  331,  331, 
-          331,  331,  412,  331,    0,  331,    0,    0,    0,    0, 
-            0,    0,  412,    0,    0,    0,    0,    0,    0,  332, 
-          332,  332,    0,    0,  332,  332,  332,    0,  332,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  332,  332, 
-            0,    0,    0,    0,    0,    0,   93,  332,  332,    0, 
-          332,  332,  332,  332,  332,    0,    0,    0,    0,    0, 
-            0,  412,    0,  102,    0,  412,    0,    0,    0,    0, 
-            0,    0,    0,    0,  332,  332,  332,  332,  332,  332, 
-          332,  332,  332,  332,  332,  332,  332,  332,    0,    0, 
-          332,  332,  332,  412,    0,  332,    0,    0,  332,    0, 
-            0,  332,    0,  332,    0,  332,  496,  332,    0,  332, 
-          332,  332,  332,  332,  332,  332,  496,  332,    0,  332, 
-          295,  295,  295,    0,    0,  295,  295,  295,    0,  295, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  295, 
-          295,    0,    0,    0,    0,    0,    0,    0,  295,  295, 
-           91,  295,  295,  295,  295,  295,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  496,    0,  100,    0,  496, 
-            0,    0,    0,    0,    0,  295,  295,  295,  295,  295, 
-          295,  295,  295,  295,  295,  295,  295,  295,  295,    0, 
-            0,  295,  295,  295,    0,    0,  295,  496,    0,  295, 
-            0,    0,  295,    0,  295,    0,  295,    0,  295,    0, 
-          295,  295,  295,  295,  295,  295,  295,  497,  295,    0, 
-          295,    0,    0,    0,    0,    0,    0,  497,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,   92,    0,    0,  412,  412,  412,    0,    0,    0, 
-          412,  412,    0,  412,    0,    0,  497,    0,  101,    0, 
-          497,    0,  412,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  412,  412,    0,  412,  412,  412,  412,  412, 
-            0,    0,    0,    0,    0,    0,    0,    0,  497,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  412, 
-          412,  412,  412,  412,  412,  412,  412,  412,  412,  412, 
-          412,  412,  412,    0,    0,  412,  412,  412,    0,    0, 
-            0,    0,    0,  412,    0,    0,    0,    0,    0,    0, 
-          412,  283,  412,    0,  412,  412,  412,  412,  412,  412, 
-          412,  283,  412,  412,  412,    0,    0,    0,  496,  496, 
-          496,    0,    0,    0,  496,  496,    0,  496,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,   99,  496,  496,    0,  496, 
-          496,  496,  496,  496,    0,    0,    0,    0,    0,    0, 
-          283,    0,  108,    0,  283,    0,    0,    0,    0,    0, 
-            0,    0,    0,  496,  496,  496,  496,  496,  496,  496, 
-          496,  496,  496,  496,  496,  496,  496,    0,    0,  496, 
-          496,  496,  283,  498,    0,    0,    0,  496,    0,    0, 
-            0,    0,    0,    0,  496,    0,  496,  292,  496,  496, 
-          496,  496,  496,  496,  496,    0,  496,  292,  496,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  497, 
-          497,  497,    0,    0,    0,  497,  497,    0,  497,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,   98,    0,    0,    0,    0,    0,  497,  497,    0, 
-          497,  497,  497,  497,  497,    0,  292,    0,  107,    0, 
-          292,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  497,  497,  497,  497,  497,  497, 
-          497,  497,  497,  497,  497,  497,  497,  497,  292,    0, 
-          497,  497,  497,    0,  499,    0,    0,    0,  497,    0, 
-            0,    0,    0,    0,    0,  497,  265,  497,    0,  497, 
-          497,  497,  497,  497,  497,  497,  265,  497,    0,  497, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  267,    0,    0,    0, 
-          265,    0,    0,  283,  283,  283,  267,    0,    0,  283, 
-          283,    0,  283,    0,    0,  265,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  283,  283,    0,  283,  283,  283,  283,  283,    0, 
-          267,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  267,    0,    0,  283,  283, 
-          283,  283,  283,  283,  283,  283,  283,  283,  283,  283, 
-          283,  283,    0,    0,  283,  283,  283,    0,    0,    0, 
-            0,    0,  283,    0,    0,    0,    0,    0,    0,  283, 
-            0,  283,  601,  283,  283,  283,  283,  283,  283,  283, 
-            0,  283,  601,  283,    0,    0,    0,    0,    0,  292, 
-          292,  292,    0,    0,    0,  292,  292,    0,  292,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,   62,    0,  292,  292,    0, 
-          292,  292,  292,  292,  292,   62,    0,    0,    0,    0, 
-            0,  601,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  292,  292,  292,  292,  292,  292, 
-          292,  292,  292,  292,  292,  292,  292,  292,    0,    0, 
-          292,  292,  292,    0,    0,    0,    0,    0,  292,    0, 
-            0,    0,    0,    0,   62,  292,   64,  292,    0,  292, 
-          292,  292,  292,  292,  292,  292,   64,  292,    0,  292, 
-            0,    0,    0,    0,    0,    0,    0,    0,  265,  265, 
-          265,    0,    0,  265,  265,  265,    0,  265,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  265,  265,    0, 
-            0,    0,    0,    0,    0,    0,  265,  265,    0,  265, 
-          265,  265,  265,  265,    0,   64,    0,    0,  267,  267, 
-          267,    0,    0,  267,  267,  267,    0,  267,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  267,  267,    0, 
-            0,    0,    0,    0,  401,    0,  267,  267,    0,  267, 
-          267,  267,  267,  267,  401,    0,    0,  265,    0,    0, 
-          265,    0,  265,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  265,    0, 
-           51,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-           51,    0,    0,    0,    0,    0,    0,  267,    0,    0, 
-          267,    0,  267,  401,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  601,  601,  601,    0,  267,  601, 
-          601,  601,    0,  601,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  601,  601,    0,    0,    0,    0,   51, 
-            0,   53,  601,  601,    0,  601,  601,  601,  601,  601, 
-            0,   53,    0,    0,    0,    0,    0,   62,   62,   62, 
-            0,    0,   62,   62,   62,    0,   62,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,   62,   62,    0,    0, 
-            0,    0,    0,    0,   55,   62,   62,    0,   62,   62, 
-           62,   62,   62,  601,   55,   56,  601,    0,  601,    0, 
-           53,    0,    0,    0,    0,   56,    0,    0,    0,    0, 
-            0,    0,    0,    0,  601,    0,    0,    0,   64,   64, 
-           64,    0,    0,   64,   64,   64,    0,   64,    0,    0, 
-            0,    0,    0,    0,    0,    0,   62,   64,   64,   62, 
-            0,    0,    0,   55,    0,  273,   64,   64,    0,   64, 
-           64,   64,   64,   64,   56,  273,    0,   62,  198,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  198,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  266, 
-            0,    0,    0,    0,    0,    0,    0,   64,    0,    0, 
-           64,    0,  242,    0,  273,    0,  401,  401,  401,  271, 
-            0,  401,  401,  401,    0,  401,    0,  198,   64,  271, 
-            0,    0,    0,    0,    0,  401,    0,    0,    0,    0, 
-            0,    0,    0,    0,  401,  401,    0,  401,  401,  401, 
-          401,  401,   51,   51,   51,    0,    0,   51,   51,   51, 
-            0,   51,    0,  267,    0,    0,    0,    0,    0,   25, 
-            0,   51,    0,    0,    0,    0,    0,    0,  271,   25, 
-           51,   51,  401,   51,   51,   51,   51,   51, 
-      };
-   }
-
-   private static final short[] yyTable4() {
-      return new short[] {
-
-            0,  401,    0,    0,    0,    0,    0,  401,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  272, 
-            0,    0,    0,    0,    0,   53,   53,   53,  401,  272, 
-           53,   53,   53,    0,   53,    0,    0,    0,    0,    0, 
-           25,    0,    0,   51,   53,    0,    0,    0,    0,    0, 
-            0,    0,    0,   53,   53,    0,   53,   53,   53,   53, 
-           53,    0,    0,  268,   51,    0,    0,    0,   55,   55, 
-           55,    0,    0,   55,   55,   55,    0,   55,  272,   56, 
-           56,   56,    0,    0,   56,   56,   56,   55,   56,    0, 
-            0,    0,    0,    0,    0,    0,   55,   55,   56,   55, 
-           55,   55,   55,   55,   53,    0,  311,   56,   56,    0, 
-           56,   56,   56,   56,   56,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,   53,    0,    0,    0,  273, 
-          273,  273,    0,    0,  273,  273,  273,    0,  273,    0, 
-            0,    0,  198,  198,  198,    0,    0,   55,  198,  198, 
-            0,  198,    0,    0,    0,    0,    0,    0,   56,    0, 
-          273,  273,  273,  273,  273,    0,    0,    0,   55,    0, 
-          198,  198,    0,  198,  198,  198,  198,    0,    0,   56, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  271,  271,  271,    0,    0,  271,  271, 
-          271,    0,  271,    0,    0,  273,    0,    0,  273,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  198,    0,    0,  271,  271,  271,  271,  271,  273, 
-            0,    0,    0,    0,  617,    0,    0,    0,    0,    0, 
-            0,    0,  198,   25,   25,   25,    0,    0,    0,   25, 
-           25,    0,   25,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  271, 
-            0,    0,  271,    0,   25,   25,   25,   25,   25,    0, 
-            0,  272,  272,  272,    0,    0,  272,  272,  272,    0, 
-          272,    0,    0,  271,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  272,  272,  272,  272,  272,    0,    0,    4, 
-            5,    6,   25,    8,    0,    0,    0,    9,   10,    0, 
-            0,    0,   11,    0,   12,   13,   14,  110,  111,   17, 
-           18,    0,    0,   25,    0,  112,  113,  114,   22,   23, 
-           24,   25,    0,    0,  115,    0,    0,  272,    0,    0, 
-          272,  116,    0,    0,   31,   32,   33,    0,   34,   35, 
-           36,   37,   38,   39,    0,   40,    0,  436,  119,    0, 
-            0,  272,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  310,    0, 
-            0,  122,    0,    0,   46,   47,    0,   48,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,   52,   53,   54,   55, 
-           56,   57,    0,    0,    0,   58,    0,   59,   60,    0, 
-           61,   62,    0,   63,   64,   65,   66,    4,    5,    6, 
-            0,    8,    0,    0,    0,    9,   10,    0,    0,    0, 
-           11,    0,   12,   13,   14,  110,  111,   17,   18,    0, 
-            0,    0,    0,  112,  113,  114,   22,   23,   24,   25, 
-            0,    0,  115,    0,    0,    0,    0,    0,    0,  116, 
-            0,    0,   31,   32,   33,    0,   34,   35,   36,   37, 
-           38,   39,    0,   40,    0,  436,  119,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  310,    0,    0,  122, 
-            0,    0,   46,   47,    0,   48,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,   52,   53,   54,   55,   56,   57, 
-            0,    0,    0,   58,    0,   59,   60,    0,   61,   62, 
-            0,   63,   64,   65,   66,    4,    5,    6,    7,    8, 
-            0,    0,    0,    9,   10,    0,    0,    0,   11,    0, 
-           12,   13,   14,   15,   16,   17,   18,    0,    0,    0, 
-            0,   19,   20,   21,   22,   23,   24,   25,    0,    0, 
-           26,    0,    0,    0,    0,    0,   27,   28,   29,   30, 
-           31,   32,   33,    0,   34,   35,   36,   37,   38,   39, 
-            0,   40,   41,   42,   43,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,   44,    0,    0,   45,    0,    0, 
-           46,   47,    0,   48,    0,   49,    0,    0,    0,   50, 
-            0,    0,    0,    0,    0,    0,    0,   51,    0,    0, 
-            0,    0,   52,   53,   54,   55,   56,   57,    0,    0, 
-            0,   58,    0,   59,   60,    0,   61,   62,    0,   63, 
-           64,   65,   66,    4,    5,    6,    7,  229,    0,    0, 
-            0,    9,   10,    0,    0,    0,   11,    0,   12,   13, 
-           14,   15,   16,   17,   18,    0,    0,    0,    0,   19, 
-           20,   21,   22,   23,   24,   25,    0,    0,   26,    0, 
-            0,    0,    0,    0,   27,   28,    0,   30,   31,   32, 
-           33,    0,   34,   35,   36,   37,   38,   39,    0,   40, 
-           41,   42,   43,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,   44,    0,    0,   45,    0,    0,   46,   47, 
-            0,   48,    0,   49,    0,    0,    0,   50,    0,    0, 
-            0,    0,    0,    0,    0,   51,    0,    0,    0,    0, 
-           52,   53,   54,   55,   56,   57,    0,    0,    0,   58, 
-            0,   59,   60,    0,   61,   62,    0,   63,   64,   65, 
-           66,  132,  133,  134,  135,  136,  137,  138,  139,    0, 
-            0,  140,  141,  142,  143,  144,    0,    0,  145,  146, 
-          147,  148,  149,  150,  151,    0,    0,  152,  153,  154, 
-          155,  156,  157,  158,  159,  160,  161,  162,  163,  164, 
-          165,  166,  167,  168,  169,  170,  171,  172,  173,    0, 
-          174,  175,   36,   37,  176,   39,    0,    0,  177,  178, 
-            0,  179,  180,  181,  182,  183,  184,  185,    0,    0, 
-          186,  187,    0,    0,    0,  188,  189,  190,  191,    0, 
-            0,    0,    0,    0,  192,    0,    0,    0,    0,    0, 
-            0,  193,  194,    0,  195,  196,  197,  198,  199,  200, 
-          201,  202,  203,  204,  205,    0,    0,  206,    0,    0, 
-            0,    0,    0,  132,  133,  134,  135,  136,  137,  138, 
-          139,    0,    0,  140,  141,  142,  143,  144,    0,  207, 
-          145,  146,  147,  148,  149,  150,  151,    0,    0,  152, 
-          153,  154,  213,  214,  215,  216,  159,  160,  161,  162, 
-          163,  164,  165,  166,  167,  168,  169,  170,  217,  218, 
-          219,    0,  220,  175,  320,  321,  221,  322,    0,    0, 
-          177,  178,    0,  179,  180,  181,  182,  183,  184,  185, 
-            0,    0,  186,  187,    0,    0,    0,  188,  189,  190, 
-          191,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  193,  194,    0,  195,  196,  197,  198, 
-          199,  200,  201,  202,  203,  204,  205,    0,    0,  206, 
-            0,    0,    0,    0,    0,  132,  133,  134,  135,  136, 
-          137,  138,  139,    0,    0,  140,  141,  142,  143,  144, 
-            0,  207,  145,  146,  147,  148,  149,  150,  151,    0, 
-            0,  152,  153,  154,  213,  214,  215,  216,  159,  160, 
-          161,  162,  163,  164,  165,  166,  167,  168,  169,  170, 
-          217,  218,  219,    0,  220,  175,  286,    0,  221,    0, 
-            0,    0,  177,  178,    0,  179,  180,  181,  182,  183, 
-          184,  185,    0,    0,  186,  187,    0,    0,    0,  188, 
-          189,  190,  191,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  193,  194,    0,  195,  196, 
-          197,  198,  199,  200,  201,  202,  203,  204,  205,    0, 
-            0,  206,   52,    0,    0,    0,    0,  132,  133,  134, 
-          135,  136,  137,  138,  139,    0,    0,  140,  141,  142, 
-          143,  144,    0,  207,  145,  146,  147,  148,  149,  150, 
-          151,    0,    0,  152,  153,  154,  213,  214,  215,  216, 
-          159,  160,  161,  162,  163,  164,  165,  166,  167,  168, 
-          169,  170,  217,  218,  219,    0,  220,  175,    0,    0, 
-          221,    0,    0,    0,  177,  178,    0,  179,  180,  181, 
-          182,  183,  184,  185,    0,    0,  186,  187,    0,    0, 
-            0,  188,  189,  190,  191,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  193,  194,    0, 
-          195,  196,  197,  198,  199,  200,  201,  202,  203,  204, 
-          205,    0,    0,  206,   52,    0,    0,    0,    0,  132, 
-          133,  134,  135,  136,  137,  138,  139,    0,    0,  140, 
-          141,  142,  143,  144,    0,  207,  145,  146,  147,  148, 
-          149,  150,  151,    0,    0,  152,  153,  154,  213,  214, 
-          215,  216,  159,  160,  161,  162,  163,  164,  165,  166, 
-          167,  168,  169,  170,  217,  218,  219,    0,  220,  175, 
-            0,    0,  221,    0,    0,    0,  177,  178,    0,  179, 
-          180,  181,  182,  183,  184,  185,    0,    0,  186,  187, 
-            0,    0,    0,  188,  189,  190,  191,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  193, 
-          194,    0,  195,  196,  197,  198,  199,  200,  201,  202, 
-          203,  204,  205,    0,    0,  206,    0,    0,    0,    0, 
-            0,    0,    3,    4,    5,    6,    7,    8,    0,    0, 
-            0,    9,   10,    0,    0,    0,   11,  207,   12,   13, 
-           14,   15,   16,   17,   18,    0,    0,    0,    0,   19, 
-           20,   21,   22,   23,   24,   25,    0,    0,   26,    0, 
-            0,    0,    0,    0,   27,   28,   29,   30,   31,   32, 
-           33,    0,   34,   35,   36,   37,   38,   39,    0,   40, 
-           41,   42,   43,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,   44,    0,    0,   45,    0,    0,   46,   47, 
-            0,   48,    0,   49,    0,    0,    0,   50,    0,    0, 
-            0,    0,    0,    0,    0,   51,    0,    0,    0,    0, 
-           52,   53,   54,   55,   56,   57,    0,    0,    0,   58, 
-            0,   59,   60,    0,   61,   62,    0,   63,   64,   65, 
-           66,  228,    4,    5,    6,    7,  229,    0,    0,    0, 
-            9,   10,    0,    0,    0,   11,    0,   12,   13,   14, 
-           15,   16,   17,   18,    0,    0,    0,    0,   19,   20, 
-           21,   22,   23,   24,   25,    0,    0,   26,    0,    0, 
-            0,    0,    0,   27,   28,    0,   30,   31,   32,   33, 
-            0,   34,   35,   36,   37,   38,   39,    0,   40,   41, 
-           42,   43,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,   44,    0,    0,   45,    0,    0,   46,   47,    0, 
-           48,    0,   49,    0,    0,    0,   50,    0,    0,    0, 
-            0,    0,    0,    0,   51,    0,    0,    0,    0,   52, 
-           53,   54,   55,   56,   57,    0,    0,    0,   58,    0, 
-           59,   60,    0,   61,   62,    0,   63,   64,   65,   66, 
-          228,    4,    5,    6,    7,  229,    0,    0,    0,    9, 
-           10,    0,    0,    0,   11,    0,   12,   13,   14,   15, 
-           16,   17,   18,    0,    0,    0,    0,   19,   20,   21, 
-           22,   23,   24,   25,    0,    0,   26,    0,    0,    0, 
-            0,    0,   27,   28,    0,   30,   31,   32,   33,    0, 
-           34,   35,   36,   37,   38,   39,    0,   40,   41,   42, 
-           43,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-           44,    0,    0,  296,    0,    0,   46,   47,    0,   48, 
-            0,   49,    0,    0,    0,   50,    0,    0,    0,    0, 
-            0,    0,    0,   51,    0,    0,    0,    0,   52,   53, 
-           54,   55,   56,   57,    0,    0,    0,   58,    0,   59, 
-           60,    0,   61,   62,    0,   63,   64,   65,   66,    4, 
-            5,    6,    0,    8,    0,    0,    0,    9,   10,    0, 
-            0,    0,   11,    0,   12,   13,   14,   15,   16,   17, 
-           18,    0,    0,    0,    0,   19,   20,   21,   22,   23, 
-           24,   25,    0,    0,  115,    0,    0,    0,    0,    0, 
-            0,   28,    0,    0,   31,   32,   33,    0,   34,   35, 
-           36,   37,   38,   39,  262,   40,   41,   42,   43,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  236,    0, 
-            0,  122,    0,    0,   46,   47,    0,   48,    0,  263, 
-            0,  264,    0,   50,    0,    0,    0,    0,    0,    0, 
-            0,  265,    0,    0,    0,    0,   52,   53,   54,   55, 
-           56,   57,    0,    0,    0,   58,    0,   59,   60,    0, 
-           61,   62,    0,   63,   64,   65,   66,  266,    4,    5, 
-            6,    0,    8,    0,    0,    0,    9,   10,    0,    0, 
-            0,   11,    0,   12,   13,   14,  110,  111,   17,   18, 
-            0,    0,    0,    0,  112,  113,  114,   22,   23,   24, 
-           25,    0,    0,  115,    0,    0,    0,    0,    0,    0, 
-           28,    0,    0,   31,   32,   33,    0,   34,   35,   36, 
-           37,   38,   39,  262,   40,   41,   42,   43,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  236,    0,    0, 
-          122,    0,    0,   46,   47,    0,   48,    0,  678,    0, 
-          264,    0,   50,    0,    0,    0,    0,    0,    0,    0, 
-          265,    0,    0,    0,    0,   52,   53,   54,   55,   56, 
-           57,    0,    0,    0,   58,    0,   59,   60,    0,   61, 
-           62,    0,   63,   64,   65,   66,  266,  260,  260,  260, 
-            0,  260,    0,    0,    0,  260,  260,    0,    0,    0, 
-          260,    0,  260,  260,  260,  260,  260,  260,  260,    0, 
-            0,    0,    0,  260,  260,  260,  260,  260,  260,  260, 
-            0,    0,  260,    0,    0,    0,    0,    0,    0,  260, 
-            0,    0,  260,  260,  260,    0,  260,  260,  260,  260, 
-          260,  260,  260,  260,  260,  260,  260,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  260,    0,    0,  260, 
-            0,    0,  260,  260,    0,  260,    0,  260,    0,  260, 
-            0,  260,    0,    0,    0,    0,    0,    0,    0,  260, 
-            0,    0,    0,    0,  260,  260,  260,  260,  260,  260, 
-            0,    0,    0,  260,    0,  260,  260,    0,  260,  260, 
-            0,  260,  260,  260,  260,  260,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,  110,  111,   17,   18,    0,    0, 
-            0,    0,  112,  113,  114,   22,   23,   24,   25,    0, 
-            0,  115,    0,    0,    0,    0,    0,    0,   28,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,  262,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  236,    0,    0,  122,    0, 
-            0,   46,   47,    0,   48,    0,  263,    0,    0,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,  265,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,   66,  266,    4,    5,    6,    0,    8, 
-            0,    0,    0,    9,   10,    0,    0,    0,   11,    0, 
-           12,   13,   14,  110,  111,   17,   18,    0,    0,    0, 
-            0,  112,  113,  114,   22,   23,   24,   25,    0,    0, 
-          115,    0,    0,    0,    0,    0,    0,   28,    0,    0, 
-           31,   32,   33,    0,   34,   35,   36,   37,   38,   39, 
-          262,   40,   41,   42,   43,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  236,    0,    0,  122,    0,    0, 
-           46,   47,    0,   48,    0,    0,    0,  264,    0,   50, 
-            0,    0,    0,    0,    0,    0,    0,  265,    0,    0, 
-            0,    0,   52,   53,   54,   55,   56,   57,    0,    0, 
-            0,   58,    0,   59,   60,    0,   61,   62,    0,   63, 
-           64,   65,   66,  266,    4,    5,    6,    0,    8,    0, 
-            0,    0,    9,   10,    0,    0,    0,   11,    0,   12, 
-           13,   14,  110,  111,   17,   18,    0,    0,    0,    0, 
-          112,  113,  114,   22,   23,   24,   25,    0,    0,  115, 
-            0,    0,    0,    0,    0,    0,   28,    0,    0,   31, 
-           32,   33,    0,   34,   35,   36,   37,   38,   39,  262, 
-           40,   41,   42,   43,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  236,    0,    0,  122,    0,    0,   46, 
-           47,    0,   48,    0,  678,    0,    0,    0,   50,    0, 
-            0,    0,    0,    0,    0,    0,  265,    0,    0,    0, 
-            0,   52,   53,   54,   55,   56,   57,    0,    0,    0, 
-           58,    0,   59,   60,    0,   61,   62,    0,   63,   64, 
-           65,   66,  266,    4,    5,    6,    0,    8,    0,    0, 
-            0,    9,   10,    0,    0,    0,   11,    0,   12,   13, 
-           14,  110,  111,   17,   18,    0,    0,    0,    0,  112, 
-          113,  114,   22,   23,   24,   25,    0,    0,  115,    0, 
-            0,    0,    0,    0,    0,   28,    0,    0,   31,   32, 
-           33,    0,   34,   35,   36,   37,   38,   39,  262,   40, 
-           41,   42,   43,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  236,    0,    0,  122,    0,    0,   46,   47, 
-            0,   48,    0,    0,    0,    0,    0,   50,    0,    0, 
-            0,    0,    0,    0,    0,  265,    0,    0,    0,    0, 
-           52,   53,   54,   55,   56,   57,    0,    0,    0,   58, 
-            0,   59,   60,    0,   61,   62,    0,   63,   64,   65, 
-           66,  266,    4,    5,    6,    7,    8,    0,    0,    0, 
-            9,   10,    0,    0,    0,   11,    0,   12,   13,   14, 
-           15,   16,   17,   18,    0,    0,    0,    0,   19,   20, 
-           21,   22,   23,   24,   25,    0,    0,   26,    0,    0, 
-            0,    0,    0,   27,   28,   29,   30,   31,   32,   33, 
-            0,   34,   35,   36,   37,   38,   39,    0,   40,   41, 
-           42,   43,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,   44,    0,    0,   45,    0,    0,   46,   47,    0, 
-           48,    0,   49,    0,    0,    0,   50,    0,    0,    0, 
-            0,    0,    0,    0,   51,    0,    0,    0,    0,   52, 
-           53,   54,   55,   56,   57,    0,    0,    0,   58,    0, 
-           59,   60,    0,   61,   62,    0,   63,   64,   65,   66, 
-            4,    5,    6,    7,    8,    0,    0,    0,    9,   10, 
-            0,    0,    0,   11,    0,   12,   13,   14,   15,   16, 
-           17,   18,    0,    0,    0,    0,   19,   20,   21,   22, 
-           23,   24,   25,    0,    0,   26,    0,    0,    0,    0, 
-            0,   27,   28,    0,   30,   31,   32,   33,    0,   34, 
-           35,   36,   37,   38,   39,    0,   40,   41,   42,   43, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,   44, 
-            0,    0,   45,    0,    0,   46,   47,    0,   48,    0, 
-           49,    0,    0,    0,   50,    0,    0,    0,    0,    0, 
-            0,    0,   51,    0,    0,    0,    0,   52,   53,   54, 
-           55,   56,   57,    0,    0,    0,   58,    0,   59,   60, 
-            0,   61,   62,    0,   63,   64,   65,   66,    4,    5, 
-            6,    0,    8,    0,    0,    0,    9,   10,    0,    0, 
-            0,   11,    0,   12,   13,   14,  110,  111,   17,   18, 
-            0,    0,    0,    0,  112,  113,  114,   22,   23,   24, 
-           25,    0,    0,  115,    0,    0,    0,    0,    0,    0, 
-           28,    0,    0,   31,   32,   33,    0,   34,   35,   36, 
-           37,   38,   39,    0,   40,   41,   42,   43,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  236,    0,    0, 
-          122,  470,    0,   46,   47,    0,   48,    0,    0,    0, 
-            0,    0,   50,    0,    0,    0,    0,    0,    0,    0, 
-          265,    0,    0,    0,    0,   52,   53,   54,   55,   56, 
-           57,    0,    0,    0,   58,    0,   59,   60,    0,   61, 
-           62,    0,   63,   64,   65,   66,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,   15,   16,   17,   18,    0,    0, 
-            0,    0,   19,   20,   21,   22,   23,   24,   25,    0, 
-            0,  115,    0,    0,    0,    0,    0,    0,   28,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  236,    0,    0,  122,    0, 
-            0,   46,   47,    0,   48,    0,  608,    0,    0,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,  265,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,   66,    4,    5,    6,    0,    8,    0, 
-            0,    0,    9,   10,    0,    0,    0,   11,    0,   12, 
-           13,   14,  110,  111,   17,   18,    0,    0,    0,    0, 
-          112,  113,  114,   22,   23,   24,   25,    0,    0,  115, 
-            0,    0,    0,    0,    0,    0,   28,    0,    0,   31, 
-           32,   33,    0,   34,   35,   36,   37,   38,   39,    0, 
-           40,   41,   42,   43,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  236,    0,    0,  122,    0,    0,   46, 
-           47,    0,   48,    0,  608,    0,    0,    0,   50,    0, 
-            0,    0,    0,    0,    0,    0,  265,    0,    0,    0, 
-            0,   52,   53,   54,   55,   56,   57,    0,    0,    0, 
-           58,    0,   59,   60,    0,   61,   62,    0,   63,   64, 
-           65,   66,    4,    5,    6,    0,    8,    0,    0,    0, 
-            9,   10,    0,    0,    0,   11,    0,   12,   13,   14, 
-          110,  111,   17,   18,    0,    0,    0,    0,  112,  113, 
-          114,   22,   23,   24,   25,    0,    0,  115,    0,    0, 
-            0,    0,    0,    0,   28,    0,    0,   31,   32,   33, 
-            0,   34,   35,   36,   37,   38,   39,    0,   40,   41, 
-           42,   43,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  236,    0,    0,  122,    0,    0,   46,   47,    0, 
-           48,    0,  263,    0,    0,    0,   50,    0,    0,    0, 
-            0,    0,    0,    0,  265,    0,    0,    0,    0,   52, 
-           53,   54,   55,   56,   57,    0,    0,    0,   58,    0, 
-           59,   60,    0,   61,   62,    0,   63,   64,   65,   66, 
-            4,    5,    6,    0,    8,    0,    0,    0,    9,   10, 
-            0,    0,    0,   11,    0,   12,   13,   14,  110,  111, 
-           17,   18,    0,    0,    0,    0,  112,  113,  114,   22, 
-           23,   24,   25,    0,    0,  115,    0,    0,    0,    0, 
-            0,    0,   28,    0,    0,   31,   32,   33,    0,   34, 
-           35,   36,   37,   38,   39,    0,   40,   41,   42,   43, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  236, 
-            0,    0,  122,    0,    0,   46,   47,    0,   48,    0, 
-          871,    0,    0,    0,   50,    0,    0,    0,    0,    0, 
-            0,    0,  265,    0,    0,    0,    0,   52,   53,   54, 
-           55,   56,   57,    0,    0,    0,   58,    0,   59,   60, 
-            0,   61,   62,    0,   63,   64,   65,   66,    4,    5, 
-            6,    0,    8,    0,    0,    0,    9,   10,    0,    0, 
-            0,   11,    0,   12,   13,   14,  110,  111,   17,   18, 
-            0,    0,    0,    0,  112,  113,  114,   22,   23,   24, 
-           25,    0,    0,  115,    0,    0,    0,    0,    0,    0, 
-           28,    0,    0,   31,   32,   33,    0,   34,   35,   36, 
-           37,   38,   39,    0,   40,   41,   42,   43,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  236,    0,    0, 
-          122,    0,    0,   46,   47,    0,   48,    0,  678,    0, 
-            0,    0,   50,    0,    0,    0,    0,    0,    0,    0, 
-          265,    0,    0,    0,    0,   52,   53,   54,   55,   56, 
-           57,    0,    0,    0,   58,    0,   59,   60,    0,   61, 
-           62,    0,   63,   64,   65,   66,  589,  589,  589,    0, 
-          589,    0,    0,    0,  589,  589,    0,    0,    0,  589, 
-            0,  589,  589,  589,  589,  589,  589,  589,    0,    0, 
-            0,    0,  589,  589,  589,  589,  589,  589,  589,    0, 
-            0,  589,    0,    0,    0,    0,    0,    0,  589,    0, 
-            0,  589,  589,  589,    0,  589,  589,  589,  589,  589, 
-          589,    0,  589,  589,  589,  589,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  589,    0,    0,  589,  589, 
-            0,  589,  589,    0,  589,    0,    0,    0,    0,    0, 
-          589,    0,    0,    0,    0,    0,    0,    0,  589,    0, 
-            0,    0,    0,  589,  589,  589,  589,  589,  589,    0, 
-            0,    0,  589,    0,  589,  589,    0,  589,  589,    0, 
-          589,  589,  589,  589,    4,    5,    6,    0,    8,    0, 
-            0,    0,    9,   10,    0,    0,    0,   11,    0,   12, 
-           13,   14,   15,   16,   17,   18,    0,    0,    0,    0, 
-           19,   20,   21,   22,   23,   24,   25,    0,    0,   26, 
-            0,    0,    0,    0,    0,    0,   28,    0,    0,   31, 
-           32,   33,    0,   34,   35,   36,   37,   38,   39,    0, 
-           40,   41,   42,   43,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  236,    0,    0,  122,    0,    0,   46, 
-           47,    0,   48,    0,    0,    0,    0,    0,   50,    0, 
-            0,    0,    0,    0,    0,    0,   51,    0,    0,    0, 
-            0,   52,   53,   54,   55,   56,   57,    0,    0,    0, 
-           58,    0,   59,   60,    0,   61,   62,    0,   63,   64, 
-           65,   66,    4,    5,    6,    0,    8,    0,    0,    0, 
-            9,   10,    0,    0,    0,   11,    0,   12,   13,   14, 
-          110,  111,   17,   18,    0,    0,    0,    0,  112,  113, 
-          114,   22,   23,   24,   25,    0,    0,  115,    0,    0, 
-            0,    0,    0,    0,   28,    0,    0,   31,   32,   33, 
-            0,   34,   35,   36,   37,   38,   39,    0,   40,   41, 
-           42,   43,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  236,    0,    0,  122,    0,    0,   46,   47,    0, 
-           48,    0,    0,    0,    0,    0,   50,    0,    0,    0, 
-            0,    0,    0,    0,  265,    0,    0,    0,    0,   52, 
-           53,   54,   55,   56,   57,    0,    0,    0,   58,    0, 
-           59,   60,    0,   61,   62,    0,   63,   64,   65,   66, 
-            4,    5,    6,    0,    8,    0,    0,    0,    9,   10, 
-            0,    0,    0,   11,    0,   12,   13,   14,   15,   16, 
-           17,   18,    0,    0,    0,    0,   19,   20,   21,   22, 
-           23,   24,   25,    0,    0,  115,    0,    0,    0,    0, 
-            0,    0,   28,    0,    0,   31,   32,   33,    0,   34, 
-           35,   36,   37,   38,   39,    0,   40,   41,   42,   43, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  236, 
-            0,    0,  122,    0,    0,   46,   47,    0,   48,    0, 
-            0,    0,    0,    0,   50,    0,    0,    0,    0,    0, 
-            0,    0,  265,    0,    0,    0,    0,   52,   53,   54, 
-           55,   56,   57,    0,    0,    0,   58,    0,   59,   60, 
-            0,   61,   62,    0,   63,   64,   65,   66,  589,  589, 
-          589,    0,  589,    0,    0,    0,  589,  589,    0,    0, 
-            0,  589,    0,  589,  589,  589,  589,  589,  589,  589, 
-            0,    0,    0,    0,  589,  589,  589,  589,  589,  589, 
-          589,    0,    0,  589,    0,    0,    0,    0,    0,    0, 
-          589,    0,    0,  589,  589,  589,    0,  589,  589,  589, 
-          589,  589,  589,    0,  589,  589,  589,  589,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  589,    0,    0, 
-          589,    0,    0,  589,  589,    0,  589,    0,    0,    0, 
-            0,    0,  589,    0,    0,    0,    0,    0,    0,    0, 
-          589,    0,    0,    0,    0,  589,  589,  589,  589,  589, 
-          589,    0,    0,    0,  589,    0,  589,  589,    0,  589, 
-          589,    0,  589,  589,  589,  589,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,  110,  111,   17,   18,    0,    0, 
-            0,    0,  112,  113,  114,   22,   23,   24,   25,    0, 
-            0,  115,    0,    0,    0,    0,    0,    0,  116,    0, 
-            0,   31,   32,   33,    0,  117,   35,   36,   37,  118, 
-           39,    0,   40,    0,    0,  119,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  121,    0,    0,  122,    0, 
-            0,   46,   47,    0,   48,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,   66,    4,    5,    6,    0,    8,    0, 
-            0,    0,    9,   10,    0,    0,    0,   11,    0,   12, 
-           13,   14,  110,  111,   17,   18,    0,    0,    0,    0, 
-          112,  113,  114,   22,   23,   24,   25,    0,    0,  115, 
-            0,    0,    0,    0,    0,    0,  116,    0,    0,   31, 
-           32,   33,    0,   34,   35,   36,   37,   38,   39,    0, 
-           40,    0,    0,  119,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  310,    0,    0,  387,    0,    0,   46, 
-           47,    0,   48,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,   52,   53,   54,   55,   56,   57,    0,    0,    0, 
-           58,    0,   59,   60,    0,   61,   62,    0,   63,   64, 
-           65,   66,    4,    5,    6,    0,    8,    0,    0,    0, 
-            9,   10,    0,    0,    0,   11,    0,   12,   13,   14, 
-          110,  111,   17,   18,    0,    0,    0,    0,  112,  113, 
-          114,   22,   23,   24,   25,    0,    0,  115,    0,    0, 
-            0,    0,    0,    0,  116,    0,    0,   31,   32,   33, 
-            0,   34,   35,   36,   37,   38,   39,    0,   40,    0, 
-            0,  119,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  883,    0,    0,  122,    0,    0,   46,   47,    0, 
-           48,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,   52, 
-           53,   54,   55,   56,   57,    0,    0,    0,   58,    0, 
-           59,   60,    0,   61,   62,    0,   63,   64,   65,   66, 
-            4,    5,    6,    0,    8,    0,    0,    0,    9,   10, 
-            0,    0,    0,   11,    0,   12,   13,   14,  110,  111, 
-           17,   18,    0,    0,    0,    0,  112,  113,  114,   22, 
-           23,   24,   25,    0,    0,  115,    0,    0,    0,    0, 
-            0,    0,  116,    0,    0,   31,   32,   33,    0,   34, 
-           35,   36,   37,   38,   39,    0,   40,    0,    0,  119, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  922, 
-            0,    0,  122,    0,    0,   46,   47,    0,   48,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,   52,   53,   54, 
-           55,   56,   57,    0,    0,    0,   58,    0,   59,   60, 
-            0,   61,   62,    0,   63,   64,   65,   66,  701,  596, 
-            0,    0,  702,    0,    0,    0,  177,  178,    0,  179, 
-          180,  181,  182,  183,  184,  185,    0,    0,  186,  187, 
-            0,    0,    0,  188,  189,  190,  191,    0,    0,    0, 
-            0,    0,  280,    0,    0,    0,    0,    0,    0,  193, 
-          194,    0,  195,  196,  197,  198,  199,  200,  201,  202, 
-          203,  204,  205,  985,  590,  206,    0,  986,    0,    0, 
-            0,  177,  178,    0,  179,  180,  181,  182,  183,  184, 
-          185,    0,    0,  186,  187,    0,    0,  207,  188,  189, 
-          190,  191,    0,    0,    0,    0,    0,  280,    0,    0, 
-            0,    0,    0,    0,  193,  194,    0,  195,  196,  197, 
-          198,  199,  200,  201,  202,  203,  204,  205,  987,  596, 
-          206,    0,  988,    0,    0,    0,  177,  178,    0,  179, 
-          180,  181,  182,  183,  184,  185,    0,    0,  186,  187, 
-            0,    0,  207,  188,  189,  190,  191,    0,    0,    0, 
-            0,    0,  280,    0,    0,    0,    0,    0,    0,  193, 
-          194,    0,  195,  196,  197,  198,  199,  200,  201,  202, 
-          203,  204,  205, 1002,  596,  206,    0, 1003,    0,    0, 
-            0,  177,  178,    0,  179,  180,  181,  182,  183,  184, 
-          185,    0,    0,  186,  187,    0,    0,  207,  188,  189, 
-          190,  191,    0,    0,    0,    0,    0,  280,    0,    0, 
-            0,    0,    0,    0,  193,  194,    0,  195,  196,  197, 
-          198,  199,  200,  201,  202,  203,  204,  205,  603,  590, 
-          206,    0,  604,    0,    0,    0,  177,  178,    0,  179, 
-          180,  181,  182,  183,  184,  185,    0,    0,  186,  187, 
-            0,    0,  207,  188,  189,  190,  191,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  193, 
-          194,    0,  195,  196,  197,  198,  199,  200,  201,  202, 
-          203,  204,  205,    0,    0,  206,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  207, 
-      };
-   }
-
-   private static final short[] yyCheck1() {
-      return new short[] {
-
-            2,   99,    6,    7,   74,  418,  380,  334,   26,  272, 
-           28,    2,    3,    3,    6,  433,  438,  545,   59,   27, 
-           15,   16,    7,   27,   19,  245,  410,   51,   21,  305, 
-           10,   32,  308,  386,  449,  409,    0,  452,    0,   10, 
-           10,   10,   27,   10,   49,   47,   48,  452,   52,    7, 
-            2,    3,    4,    5,  428,   10,    8,    9,   10,   11, 
-           52,   59,   14,   15,   16,    4,    5,   19,  442,   27, 
-           10,   45,   15,   16,   21,   14,   19,   10,  378,  379, 
-            0,   10,  487,  383,   44,  412,  121,   10,   59,   59, 
-           10,  727,   59,   45,   46,   10,   10,   49,  116,   51, 
-          497,   61,  725,   10,   47,   48,   61,  407,   11,   91, 
-           49,  638,  738,   10,   91,  108,   10,  334,  820,   59, 
-           10,   44,  496,  106,   10,  472,  426,  427,  106,   44, 
-           59,  296,   10,  280,  661,  931,   59,  908,   10,   59, 
-          440,   10,   10,   10,   59,   59,   10,   99,  675,  305, 
-           44,   10,   59,  325,   44,   10,  818,  340,   44,   43, 
-           99,  108,   10,   10,   11,   59,  280,  114,  120,   59, 
-          122,   10,   10,   59,  474,   44,  703,   10,   32,  748, 
-           10,   59,   10,  130,  305,  754,  358,   59,  340,   44, 
-           59,   10,   59,   61,  494,   59,  523,   10,  461,  361, 
-           59,   10,   10,  106,   15,   16,   44,   10,   19,   10, 
-           10,   59, 1008,  311,  361,   10,  842,   10,  374,   10, 
-          617,  124,  387,   61,  995,   10,  340,   10,   10,   59, 
-          310,    9,   10,   11,  372,  119,   47,  228,   48,  377, 
-           32,   44,  904,   44,   44,  308,   10,  361,  632,  232, 
-          663,   10,   10,  374,  232,  957,   59,   10,   59,  643, 
-           10,   44,   10,   10,   32,  248,   59,   10,   46,  344, 
-          685,  686,  308,  309,  365,  311,  228,  229,  280,  915, 
-          390,  686,  277,   10,  279,  280,  909,  362,   91,  256, 
-           32,  262,  263,  264,   44,  328,  554,  959,  269,  646, 
-          252,  253,  335,  341,  927,   44,  523,  417,   61,  341, 
-          838,   61,  375,  376,  641,   32,   59,  358,  846,  279, 
-          358,  282,  296,  851,  279,  277,  358,  279,  280,  232, 
-          588,  283,  994,  285,  277,   61,  279,   44,  290,  375, 
-          376,   91,  120,  341,  296,  248,  328,   61,  262,  263, 
-          264,  328,   10,  335,  268,  269,  347,  271,  335,  311, 
-          384,  341,  386,   10,  344,  337,  390,  391,  765,  370, 
-          371,  340,  311,  408,  281,  379,  377,  267,  380,   10, 
-          802, 1004,  305,  388,   91,  380,  341,  337,  358,  356, 
-          361,  343,  344,  345,  346,  347,  348,  349,  362,  497, 
-          362,   59,  393,  393,  408,  252,  253,  409,  761,  290, 
-          291,  344,   59,  387,  409,  417,  418,  680,  341,  305, 
-           44,  697,  362,  427,  641,  262,  428,  341,  380,  358, 
-           61,  378,  384,  428,  386,  387,  388,  441,  390,  391, 
-          442,  393,  362,  358,  341,  665,  305,  442,  362,  388, 
-          978,  374,  262,  263,  264,  341,  266,  409,  410,  411, 
-          407,  469,  989,  341,  358,  469,  277,  340,  279,  421, 
-          472,  475,  424,  341,  252,  253,  428,  341,  896,  426, 
-          432,  472,  341,  896,  469,  900,  536,  537,  374,  358, 
-          442,  495,  876,  440,  496,  900,  343,  344,  345,  346, 
-          403,  496,  341,  341,  305,  283,  449,  285,  341,  767, 
-          358,  469,  305,  341,  310,  374,  370,  371,  470,  617, 
-          472,   45,  341,  377,  267,  328,  279,  474,  341,  279, 
-          280,  344,  335,  341,  437,  438,  344,  340,   10,  264, 
-          341,  484,  805,   10,  496,  497,  341,  494,  341,  344, 
-          341,  553,  554,   10,  881,  358,  341,  358,  497,  341, 
-          944,  781,   10,  290,  291,  343,  344,  345,  346,  587, 
-          348,  349,  279,  374,  948,  386,  386,  341,  328,  390, 
-          390,  374,  341,  341,  602,  335,  588,   10,  341,   61, 
-          592,  341,   59,  341,  341,  338,  372,  337,  122,  592, 
-          698,  377,   59,  605,  337,  598,  417,  417,  269,  267, 
-          271,  361,  605,   61,   91,   15,   16,  264,   10,   19, 
-          638,  328,  269,  434,  434,    0,  334,   61,  335,  268, 
-          269,  633,   10,  411,   91,   10,   59,  645,  448,  449, 
-          644,  645,  452,  661,  646,  592,  946,  649,  279,  372, 
-          652,  598,  644,  655,  377,  646,  271,  675,  605,   91, 
-          645,  663,   10,  349,  350,  617,   44,  765,   91,   61, 
-          372,  891,  263,  264,  484,  377,   91,  487,  617,  631, 
-          632,   59,   59,  310,   59,  703,  633,  645,  758,  636, 
-          279,  643,  470,  338,  646,   44,  361,   10,  716,  651, 
-            2,    3,   10,   10,  412,   10,    8,    9,   10,   11, 
-          341,   59,   44,   15,   16,  378,  379,   19,  381,  382, 
-          738,  745,  746,  317,  676,  317,  629,  751,  752,  263, 
-          264,   44,  317,  337,  341,  269,  546,  761,   10,  642, 
-          370,  371,  685,   45,   46,  344,  698,  377,   61,   51, 
-          380,   59,   10,  705,   61,   10,   61,  306,   10,  698, 
-          362,  310,  310,  348,   44,  767,  290,  352,  353,  372, 
-          722,  723,  296,   44,  372,  372,  826,  372,   91,   91, 
-          830,  831,   44,  833,  631,  835,   44,  346,  740,   61, 
-          742,  361,  744,  745,  746,  262,  263,  264,  608,  751, 
-          752,  268,  269,   61,  271,  340,   61,  279,  269,  761, 
-          267,   10,  267,  765,  522,  523,  341,  312,  120,  264, 
-          122,   10,  317,  280,  842,   44,  765,   44,  780,  676, 
-           10,  279,  784,   91,  283,  787,  362,    2,    3,    4, 
-            5,  780,  866,    8,  267,   44,  798,  799,  800,   14, 
-          299,  328,  301,  631,  349,  350,   44,  280,  335,   44, 
-           10,   32,   61,  387,   44,   61,  769,   91,  678,  341, 
-           59,  328,   44,  306,  341,  685,  686,  277,  335,  279, 
-           45,   61,  306,  340,   49,   44,   44,  279,  840,  267, 
-          385,   91,   91,  341,  896,  362,  328,   44,  676,  802, 
-          424,  840,  306,  335,  361,  328,   91,  717,  432,   59, 
-           44,   91,  335,  328,  866,  965,  966,  967,  968,  267, 
-          335,   44,   32,  875,  876,  337,  228,  229,  337,  337, 
-           10,   10,  337,  641,   99,   61,   44,  889,  361,   10, 
-          787,   44,  264,  947,  962,  338,  948,  263,  337,  341, 
-          252,  253,  762,  948,  262,  263,  264,  122,  337,  362, 
-          338,  269,   44,  725,  337,  727,  279,  971,   91,  921, 
-         1020,  989,  279,   44,  279,  277,  738,  279,  280,   59, 
-           59,  283,  921,  285,   10,  337,  264,  797,  290,  991, 
-           61,   58,  944,  337,  296,  264,  948,  344,  950,  946, 
-          264,   44,  710,  711,  956,  454,  362,  279,  264,  787, 
-          337,   91,   44,  462,  463,  328,  328,  725,  264,  727, 
-           91,  279,  335,  335,  279,  362,   44,  340,  341,  478, 
-          341,   59,  481,   59,  341,  306,  341,  308,  309,  310, 
-          311,  343,  344,  345,  346,  347,  348,  349,   91,  293, 
-          294,  295,  296,  297,  306,   44,  308,  309,  310,  311, 
-          312,  871,   44,  228,  229,  317,   10,  264,   44,  341, 
-          328,   10,  362,   44,  263,  264,   44,  335,  380,   44, 
-          279,  280,  384,  341,  386,  387,  341,  339,  390,  391, 
-          900,  393,   61,   44,  279,  347,  348,  349,  350,  279, 
-           44,   44,   44,   44,  328,  358,  310,  409,  410,  411, 
-          818,  335,  820,  264,  264,   91,  264,   61,  264,  421, 
-           59,  362,  424,   10,  264,  290,  428,  651,  328,  328, 
-          432,  296,   44,  385,   44,  335,  335,  370,  371,  372, 
-          442,  340,  341,  328,  377,  358,  311,   91,  328,  310, 
-          335,   10,   91,  915,   10,  335,  279,   44,  264,   10, 
-          362,  341,  361,   44,   44,  927,   44,  616,  470,  931, 
-          472,   44,   59,  881,    2,    3,    4,    5,    6,   91, 
-            8,  705,  347,   44,   44,  264,   14,  267,  264,  264, 
-          269,  640,  271,   44,  496,   44,  904,  905,  722,  723, 
-           59,  271,  344,   59,   91,  328,  362,  915,  279,  280, 
-           61,   44,  335,  340,   10,  271,  740,   45,  742,  341, 
-          744,   49,  387,  388,  344,  362,  344,   58,  393,  344, 
-          264,   10,   91,  210,   70,   91,  279,  280,  264,   54, 
-           91,  690,  268,  269,  336,  410, 1008,    5,  328,  957, 
-          991,  959,  421,    6,  605,  335,  421,  328,   91,  424, 
-          784,  881,  725,   59,  335,  738,  715,  432,  927,  340, 
-          341,   99,  929,  729,  798,  799,  800,  312,  757,   14, 
-           59,  949,  317,  710,  995,  328,  994,   -1,   -1,   -1, 
-          361,   -1,  335,   -1,  122,   -1,  306,  340,  308,  309, 
-          310,  311,   -1,  279,    2,    3,   -1,  472,   -1,   -1, 
-            8,   44,   91,   -1,  349,  350,   14,  306,  361,  308, 
-          309,  310,  311,   -1,   -1,  774,   -1,   -1,  267,  631, 
-          632,   -1,  497,   -1,   -1,  279,    2,    3,    4,    5, 
-            6,  643,    8,    0,  646,   -1,   -1,   45,   14,  651, 
-          385,  875,  328,   10,   -1,  370,  371,  372,   91,  335, 
-           -1,   10,  377,   -1,  340,  889,   -1,  279,  817,   -1, 
-           -1,   -1,   -1,  306,  676,  308,  309,  310,  311,   45, 
-           -1,   -1,   -1,   49,  328,   -1,   -1,   44,   -1,  328, 
-           -1,  335,   -1,  280,   -1,   -1,  335,  341,   -1,  317, 
-          228,  229,   59,  705,   -1,   -1,  339,   -1,  267,   -1, 
-           59,  267,   -1,   -1,  347,   -1,  328,   -1,   -1,   -1, 
-          722,  723,   -1,  335,  122,   -1,  950,   -1,  279,   -1, 
-          348,   -1,  956,   99,  352,  353,  354,  355,  740,   -1, 
-          742,  328,  744,  745,  746,    0,  279,  280,  335,  751, 
-          752,   -1,  617,  340,   -1,   10,  122,   -1,   -1,  761, 
-           -1,  306,  290,  308,  309,  310,  311,  632,  296,  328, 
-           -1,  358,  328,   -1,  361,   -1,  335,  328,  643,  335, 
-           -1,  646,  784,  311,  335,  787,  651,   -1,  267,   -1, 
-          341,   10,   -1,   -1,  339,  328,  798,  799,  800,   -1, 
-           -1,   -1,  335,   -1,   59,    2,    3,  340,   -1,   -1, 
-          306,    8,  308,  309,  310,  311,  312,   -1,   -1,  347, 
-           -1,  317,   -1,   -1,   -1,   44,   -1,   -1,  361,   44, 
-          228,  229,  328,  698,   10,   10,   -1,   -1,   -1,  335, 
-          705,  706,   61,  339,  340,   -1,  279,  280,   45,  328, 
-           -1,  347,  348,  349,  350,   -1,  335,  722,  723,  387, 
-          388,  340,  228,  229,  866,  393,   -1,   -1,   -1,   -1, 
-           -1,   -1,   91,  875,  876,  740,   91,  742,   -1,  744, 
-           -1,   -1,  410,   59,   59,   -1,   -1,  889,   -1,  385, 
-           -1,   -1,  290,  421,   -1,  328,  424,   -1,  296,   -1, 
-          765,   10,  335,   -1,  432,  262,  263,  264,   -1,   -1, 
-           -1,  268,  269,   -1,  271,  780,   91,   -1,   -1,  784, 
-          370,  371,  372,   -1,  290,  122,   -1,  377,  361,   -1, 
-          296,   -1,   -1,  798,  799,  800,  293,  294,  295,  296, 
-          297,   -1,  944,   -1,  472,  311,  948,   -1,  950,  347, 
-           59,  370,  371,  372,  956,   -1,   -1,  306,  377,  308, 
-          309,  310,  311,  312,  370,  371,  372,   -1,  317,  497, 
-          326,  377,  328,   -1,  330,  840,  370,  371,  372,  328, 
-          336,  347,   -1,  377,  341,   -1,  335,   -1,  386,  387, 
-          339,  340,   -1,   -1,   -1,  393,   -1,   10,  347,  348, 
-          349,  350,   -1,   10,   -1,  362,   -1,  262,  263,  264, 
-          875,  876,  410,  268,  269,   -1,  271,   -1,  370,  371, 
-          372,  387,  388,  421,  889,  377,  424,  393,  370,  371, 
-          372,  228,  229,   -1,  432,  377,  385,   -1,  293,  294, 
-          295,  296,  297,   -1,  410,   -1,   59,   -1,   -1,   -1, 
-           -1,   -1,   59,   -1,   -1,  421,  921,   -1,  424,   -1, 
-          279,  280,   -1,   -1,  279,  280,  432,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  472,  268,  269,   -1,  271,  944, 
-           -1,   -1,   -1,   -1,   91,  950,  341,   -1,   -1,  617, 
-           -1,  956,  267,  290,   -1,   -1,   -1,   -1,   -1,  296, 
-           -1,   -1,   -1,   -1,  632,  280,  472,  362,   -1,  328, 
-           -1,   -1,   -1,  328,   -1,  643,  335,   -1,  646,   -1, 
-          335,  340,  341,  651,   -1,  340,   -1,   -1,   -1,   -1, 
-          306,  497,  308,  309,  310,  311,  312,   -1,   -1,   -1, 
-           -1,  317,  361,   -1,   -1,   -1,  361,   -1,  341,   -1, 
-          347,   -1,  328,  328,   -1,  511,   -1,   -1,   -1,  335, 
-          335,   -1,   -1,  339,  340,  340,   -1,   -1,   -1,  362, 
-          698,  347,  348,  349,  350,   -1,   -1,  705,  262,  263, 
-          264,   -1,   -1,   -1,  268,  269,  361,  271,   -1,  729, 
-          387,   -1,  732,  549,  722,  723,  393,  306,  738,  308, 
-          309,  310,  311,  312,   -1,   -1,   -1,   -1,  317,  385, 
-           -1,   -1,  740,  410,  742,   -1,  744,   -1,   -1,  328, 
-           -1,   -1,   -1,   -1,  421,   -1,  335,  424,   -1,   -1, 
-          339,  340,   10,   -1,  632,  432,   -1,  765,  347,  348, 
-          349,  350,   -1,   -1,   -1,  643,   -1,   -1,  646,   -1, 
-           -1,  617,  780,  651,   -1,   -1,  784,  341,   -1,   -1, 
-          267,   -1,   -1,   -1,   -1,   -1,  632,   -1,   -1,   -1, 
-          798,  799,  800,  280,   -1,  472,  385,  643,  362,   -1, 
-          646,   59,   -1,   -1,   -1,  651,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  306,   -1,  308,  309,  310,  311,  312, 
-          729,   -1,   -1,   -1,  317,   -1,   -1,  705,   -1,  738, 
-           10,   -1,  840,   -1,  317,  328,   -1,   -1,   -1,   -1, 
-           -1,  328,  335,   -1,  722,  723,  339,  340,  335,   -1, 
-          333,  334,  698,  340,  347,  348,  349,  350,   -1,  705, 
-           -1,   -1,  740,   -1,  742,  348,  744,  875,  876,  352, 
-          353,  354,  355,   -1,  361,   -1,  722,  723,   -1,   59, 
-           -1,  889,   -1,  761,  306,   -1,  308,  309,  310,  311, 
-          312,   -1,  385,   -1,  740,  317,  742,   -1,  744,   -1, 
-           -1,   -1,  780,   -1,  924,   -1,  784,  927,   -1,  929, 
-           -1,  931,   -1,  921,   -1,   -1,   -1,  339,  340,  765, 
-          798,  799,  800,   -1,   -1,  347,  348,  349,  350,   -1, 
-           -1,   -1,   -1,   -1,  780,   -1,  944,   -1,  784,   -1, 
-           -1,   -1,  950,   -1,   -1,   15,   16,   -1,  956,   19, 
-           -1,   -1,  798,  799,  800,  632,   -1,   -1,   -1,   -1, 
-           -1,  720,   -1,  385,   -1,   -1,  643,   -1,  727,  646, 
-           -1,   41,   42,   -1,  651,   -1,   -1,   47,   48,  738, 
-           50,   51,   -1,  843, 1004,   -1, 1006,  847, 1008,   -1, 
-           -1, 1011,   -1,   -1,  840,   -1,   -1,  875,  876,  306, 
-          317,  308,  309,  310,  311,   -1,   -1, 1027,   -1,   -1, 
-           -1,  889,   -1,   -1,   -1,  924,  333,  334,  927,   -1, 
-          929,   -1,  931,   -1,   -1,   -1,   -1,   -1,  705,  875, 
-          876,  348,  339,  350,   -1,  352,  353,  354,  355,   -1, 
-          347,   -1,   -1,  889,   -1,  722,  723,   -1,  306,   -1, 
-          308,  309,  310,  311,  312,   -1,   -1,   -1,   -1,  317, 
-           -1,   -1,   -1,  740,   -1,  742,  944,  744,   -1,   -1, 
-          328,   -1,  950,   -1,   -1,  921,   -1,  335,  956,   -1, 
-           -1,  339,  340,   -1,   -1,   -1,   -1,   -1,   -1,  347, 
-          348,  349,  350,   -1,   -1, 1004,   -1, 1006,  944, 1008, 
-           -1,   -1, 1011,   -1,  950,   -1,   -1,  784,  317,   -1, 
-          956,   -1,  972,   -1,   -1,  975,  976,   -1, 1027,  979, 
-          980,  798,  799,  800,  333,  334,  306,  385,  308,  309, 
-          310,  311,  312,   -1,   -1,   -1,   -1,  317,   -1,  348, 
-           -1,  350,   -1,  352,  353,  354,  355,   -1,  328,  358, 
-           -1,  360,   -1,   -1,  913,  335,  915,   -1,  917,  339, 
-          340, 1021, 1022, 1023, 1024,  924,   -1,  347,  348,  349, 
-          350, 1031,  931,   -1,   -1,    0,   -1,   -1,  306,   -1, 
-          308,  309,  310,  311,  312,   10,   -1,   -1,   -1,  317, 
-           -1,   -1,  262,  263,  264,  265,  266,   -1,  875,  876, 
-           -1,   -1,   -1,   -1,   -1,  385,   -1,  277,   -1,  279, 
-          280,  339,  889,   -1,   -1,   -1,   -1,   -1,  288,   44, 
-           -1,  349,  350,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   58,   59,   -1,   61,   -1,   63,  998, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1, 1006,   -1, 1008, 
-           -1,   -1, 1011,   -1,   -1,   -1,   -1,  385,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   91,  944, 1027,   -1, 
-           -1,   -1,   -1,  950,   10,   -1,   -1,   -1,   -1,  956, 
-          350,  351,  352,  353,  354,  355,  356,  357,  358,  359, 
-          360,  361,  362,  363,  364,  365,  366,  367,  368,  369, 
-          370,  371,  372,  373,  374,  375,   -1,   -1,   -1,   -1, 
-          380,   -1,   -1,   -1,  384,   -1,  386,   -1,   -1,   -1, 
-          390,  391,   -1,   59,   -1,   -1,   10,   -1,   -1,   -1, 
-          306,   -1,  308,  309,  310,  311,  312,   -1,   -1,  409, 
-           -1,  317,   -1,   -1,   -1,   -1,   -1,  417,   -1,   -1, 
-           -1,  306,   -1,  308,  309,  310,  311,  312,  428,  429, 
-          430,  431,  317,  339,  434,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  442,  349,  350,   59,   -1,   -1,  448,  449, 
-           -1,   -1,  452,   -1,  339,  340,   -1,   -1,   -1,   -1, 
-           -1,   -1,  347,  348,  349,  350,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  476,  477,   -1,  385, 
-           -1,   -1,   -1,   -1,  484,   -1,   -1,  487,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  496,   -1,   -1,   -1, 
-          385,   -1,  257,  258,  259,   -1,  261,  262,  263,  264, 
-          265,  266,  267,  268,  269,  270,  271,  272,  273,  274, 
-          275,  276,  277,  278,  279,  280,  281,  282,  283,  284, 
-          285,  286,  287,  288,  289,  290,  291,  292,  293,  294, 
-          295,  296,  297,   -1,  299,   -1,  546,  302,  303,  304, 
-          305,  306,  307,  308,  309,  310,  311,  312,  313,  314, 
-          315,  316,  317,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,  328,  329,  330,   -1,   -1,  333,  334, 
-          335,  336,  337,  338,  339,  340,  341,  342,  343,  344, 
-          345,  346,  347,  348,  349,  350,  351,  352,  353,  354, 
-          355,  356,  357,  358,  359,  360,  361,  362,  608,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,  374, 
-          375,  376,   -1,  378,  379,   -1,  381,  382,  383,  384, 
-          385,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          306,   -1,  308,  309,  310,  311,  312,    0,   -1,   -1, 
-           -1,  317,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,  328,   -1,   -1,   -1,   -1,   -1,   -1,  335, 
-           -1,   -1,   -1,  339,  340,   -1,   -1,   -1,  678,   -1, 
-           -1,  347,  348,  349,  350,  685,  686,   -1,   -1,   -1, 
-           -1,   44,  306,   -1,  308,  309,  310,  311,  312,   -1, 
-           -1,   -1,   -1,  317,   -1,   58,   59,   -1,   61,   -1, 
-           63,   -1,   -1,   -1,  328,   -1,   -1,  717,   -1,  385, 
-           -1,  335,   -1,   -1,   -1,  339,  340,   -1,   -1,   -1, 
-           -1,   -1,   -1,  347,  348,  349,  350,  306,   91,  308, 
-          309,  310,  311,  312,   -1,  745,  746,   -1,  317,   -1, 
-           -1,  751,  752,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          760,  761,  762,   -1,   -1,   -1,  766,   -1,   -1,   -1, 
-          339,  385,   -1,   -1,   -1,   -1,    0,   -1,  347,  348, 
-          349,  350,   -1,   -1,   -1,   -1,   10,   -1,   -1,   -1, 
-          790,  791,  792,  793,   -1,   -1,   -1,  797,   -1,  306, 
-           -1,  308,  309,  310,  311,  312,   -1,   -1,   -1,   -1, 
-          317,   -1,   -1,   -1,   -1,   -1,  385,   -1,   -1,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  339,   -1,   58,   59,   -1,   61,   -1,   63, 
-          347,  348,  349,  350,   -1,   -1,  317,  318,  319,  320, 
-          321,  322,  323,  324,  854,  326,  327,   -1,   -1,   -1, 
-           -1,   -1,  333,  334,   -1,   -1,  866,   91,   -1,   -1, 
-           -1,  871,   -1,   -1,   -1,   -1,   -1,  348,  385,  350, 
-           -1,  352,  353,  354,  355,  356,  357,  358,   -1,  360, 
-           -1,   -1,   -1,  893,   -1,   -1,   -1,   -1,   -1,   -1, 
-          900,   -1,   -1,   -1,  257,  258,  259,   -1,  261,  262, 
-          263,  264,  265,  266,  267,  268,  269,  270,  271,  272, 
-          273,  274,  275,  276,  277,  278,  279,  280,  281,  282, 
-          283,  284,  285,  286,  287,  288,  289,  290,  291,  292, 
-          293,  294,  295,  296,  297,   -1,  299,   -1,  948,  302, 
-          303,  304,  305,  306,  307,  308,  309,  310,  311,  312, 
-          313,  314,  315,  316,  317,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,  328,  329,  330,   -1,   -1, 
-          333,  334,  335,  336,  337,  338,  339,  340,  341,  342, 
-          343,  344,  345,  346,  347,  348,  349,  350,  351,  352, 
-          353,  354,  355,  356,  357,  358,  359,  360,  361,  362, 
-           63,  364,  365,  366,  367,  368,  369,   -1,   -1,   -1, 
-          373,  374,  375,  376,   -1,  378,  379,   -1,  381,  382, 
-          383,  384,  385,  257,  258,  259,   -1,  261,  262,  263, 
-          264,  265,  266,  267,  268,  269,  270,  271,  272,  273, 
-          274,  275,  276,  277,  278,   -1,  280,  281,  282,  283, 
-          284,  285,  286,  287,  288,  289,  290,  291,  292,  293, 
-          294,  295,  296,  297,   -1,  299,   -1,   -1,  302,  303, 
-          304,  305,  306,  307,  308,  309,  310,  311,  312,  313, 
-          314,  315,  316,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,   -1,  333, 
-          334,  335,  336,   -1,  338,  339,  340,  341,  342,  343, 
-          344,  345,  346,  347,  348,  349,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,  361,  362,   -1, 
-          364,  365,  366,  367,  368,  369,    0,   -1,   -1,  373, 
-          374,  375,  376,   -1,  378,  379,   10,  381,  382,  383, 
-          384,  385,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  306,  307,   -1,   -1,  310,   -1,   -1,   -1, 
-          314,  315,   -1,  317,  318,  319,  320,  321,  322,  323, 
-           44,   -1,  326,  327,   -1,   -1,   -1,  331,  332,  333, 
-          334,   -1,   -1,   -1,   58,   59,  340,   61,   -1,   63, 
-           -1,   -1,   -1,  347,  348,   -1,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,   -1,   -1,  363, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   91,   -1,   -1, 
-           -1,   -1,   -1,   -1,  297,   -1,   -1,   -1,   -1,   -1, 
-           -1,  385,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  317,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,    0,  329,  330,   -1,   -1, 
-          333,  334,   -1,   -1,   -1,   10,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  348,   -1,  350,   -1,  352, 
-          353,  354,  355,  356,  357,  358,   -1,  360,  317,  318, 
-          319,  320,  321,  322,  323,  324,  325,  326,  327,   44, 
-           -1,   -1,   -1,   -1,  333,  334,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   58,   59,   -1,   61,   -1,   63,  348, 
-           -1,  350,   -1,  352,  353,  354,  355,  356,  357,  358, 
-           -1,  360,  317,  318,  319,  320,  321,  322,  323,   -1, 
-           -1,  326,  327,   -1,   -1,   -1,   91,   -1,  333,  334, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  348,   -1,  350,   -1,  352,  353,  354, 
-          355,  356,  357,  358,   -1,  360,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  257,  258,  259,   -1,  261,  262,  263, 
-          264,  265,  266,  267,  268,  269,  270,  271,  272,  273, 
-          274,  275,  276,  277,  278,   -1,  280,  281,  282,  283, 
-          284,  285,  286,  287,  288,  289,  290,  291,  292,  293, 
-          294,  295,  296,  297,   -1,  299,   -1,   -1,  302,  303, 
-          304,  305,  306,  307,  308,  309,  310,  311,  312,  313, 
-          314,  315,  316,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,   -1,  333, 
-          334,  335,  336,   -1,  338,  339,  340,  341,  342,  343, 
-          344,  345,  346,  347,  348,  349,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,  361,  362,   63, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-          374,  375,  376,   -1,  378,  379,   -1,  381,  382,  383, 
-          384,  385,  257,  258,  259,   -1,  261,  262,  263,  264, 
-          265,  266,  267,  268,  269,  270,  271,  272,  273,  274, 
-          275,  276,  277,  278,   -1,  280,  281,  282,  283,  284, 
-          285,  286,  287,  288,  289,  290,  291,  292,  293,  294, 
-          295,  296,  297,   -1,  299,   -1,   -1,  302,  303,  304, 
-          305,  306,  307,  308,  309,  310,  311,  312,  313,  314, 
-          315,  316,  317,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,  328,  329,  330,   -1,   -1,  333,  334, 
-          335,  336,   -1,  338,  339,  340,  341,  342,  343,  344, 
-          345,  346,  347,  348,  349,  350,  351,  352,  353,  354, 
-          355,  356,  357,  358,  359,  360,  361,  362,   -1,  364, 
-          365,  366,  367,  368,  369,    0,   -1,   -1,  373,  374, 
-          375,  376,   -1,  378,  379,   10,  381,  382,  383,  384, 
-          385,   -1,   -1,   -1,   -1,  306,  307,   -1,   -1,  310, 
-           -1,   -1,   -1,  314,  315,   -1,  317,  318,  319,  320, 
-          321,  322,  323,   -1,   -1,  326,  327,   -1,   -1,   44, 
-          331,  332,  333,  334,   -1,   -1,   -1,   -1,   -1,  340, 
-           -1,   -1,   -1,   58,   59,   -1,  347,  348,   63,  350, 
-          351,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-           -1,   -1,  363,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   91,   -1,   -1,   -1, 
-           -1,   -1,   -1,  297,  385,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,    0,  329,  330,   -1,   -1,  333, 
-          334,   -1,   -1,   -1,   10,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  348,   -1,  350,   -1,  352,  353, 
-          354,  355,  356,  357,  358,  317,  360,   -1,   -1,   -1, 
-          322,  323,   -1,   -1,   -1,   -1,   -1,   -1,   44,   -1, 
-           -1,  333,  334,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   58,   59,   -1,   -1,  348,   63,  350,   -1, 
-          352,  353,  354,  355,  356,  357,  358,   -1,  360,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   91,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  257,  258,  259,   -1,  261,  262,  263,  264, 
-          265,  266,  267,  268,  269,  270,  271,  272,  273,  274, 
-          275,  276,  277,  278,   -1,  280,  281,  282,  283,  284, 
-          285,  286,  287,  288,  289,  290,  291,  292,  293,  294, 
-          295,  296,  297,   -1,  299,   -1,   -1,  302,  303,  304, 
-          305,  306,  307,  308,  309,  310,  311,  312,  313,  314, 
-          315,  316,  317,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,  328,  329,  330,   -1,   -1,  333,  334, 
-          335,  336,   -1,  338,  339,  340,  341,  342,  343,  344, 
-          345,  346,  347,  348,  349,  350,  351,  352,  353,  354, 
-          355,  356,  357,  358,  359,  360,  361,  362,   63,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,  374, 
-          375,  376,   -1,  378,  379,   -1,  381,  382,  383,  384, 
-          385,  257,  258,  259,   -1,  261,  262,  263,  264,  265, 
-          266,  267,  268,  269,  270,  271,  272,  273,  274,  275, 
-          276,  277,  278,   -1,  280,  281,  282,  283,  284,  285, 
-          286,  287,  288,  289,  290,  291,  292,  293,  294,  295, 
-          296,  297,   -1,  299,   -1,   -1,  302,  303,  304,  305, 
-          306,  307,  308,  309,  310,  311,  312,  313,  314,  315, 
-          316,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,  328,  329,  330,   -1,   -1,  333,  334,  335, 
-          336,   -1,  338,  339,  340,  341,  342,  343,  344,  345, 
-          346,  347,  348,  349,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,  361,  362,   -1,  364,  365, 
-          366,  367,  368,  369,    0,   -1,   -1,  373,  374,  375, 
-          376,   -1,  378,  379,   10,  381,  382,  383,  384,  385, 
-           -1,   -1,   -1,   -1,  306,  307,   -1,   -1,  310,   -1, 
-           -1,   -1,  314,  315,   -1,  317,  318,  319,  320,  321, 
-          322,  323,   -1,   -1,  326,  327,   -1,   -1,   44,  331, 
-          332,  333,  334,   -1,   -1,   -1,   -1,   -1,  340,   -1, 
-           -1,   -1,   58,   59,   -1,  347,  348,   63,  350,  351, 
-          352,  353,  354,  355,  356,  357,  358,  359,  360,   -1, 
-           -1,  363,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   91,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  385,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  317,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,    0,  329,  330,   -1,   -1,  333,  334, 
-           -1,   -1,   -1,   10,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  348,   -1,  350,   -1,  352,  353,  354, 
-          355,  356,  357,  358,   -1,  360,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   44,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   58,   59,   -1,   61,   -1,   63,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   91,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   10,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  257,  258,  259,   -1,  261,  262,  263,  264,  265, 
-          266,  267,  268,  269,  270,  271,  272,  273,  274,  275, 
-          276,  277,  278,   -1,  280,  281,  282,  283,  284,  285, 
-          286,  287,  288,  289,  290,  291,  292,  293,  294,  295, 
-          296,  297,   -1,  299,   63,   -1,  302,  303,  304,  305, 
-          306,  307,  308,  309,  310,  311,  312,  313,  314,  315, 
-          316,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,  328,  329,  330,   -1,   -1,  333,  334,  335, 
-          336,   -1,  338,  339,  340,  341,  342,  343,  344,  345, 
-          346,  347,  348,  349,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,  361,  362,   -1,  364,  365, 
-          366,  367,  368,  369,   -1,   -1,   -1,  373,  374,  375, 
-          376,   -1,  378,  379,   -1,  381,  382,  383,  384,  385, 
-          257,  258,  259,   -1,  261,  262,  263,  264,  265,  266, 
-          267,  268,  269,  270,  271,  272,  273,  274,  275,  276, 
-          277,  278,   -1,   -1,  281,  282,  283,  284,  285,  286, 
-          287,  288,  289,  290,  291,  292,  293,  294,  295,  296, 
-          297,   -1,  299,   -1,   -1,  302,  303,  304,  305,  306, 
-          307,  308,  309,  310,  311,  312,  313,  314,  315,  316, 
-          317,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,  328,  329,  330,   -1,   -1,  333,  334,  335,  336, 
-           -1,  338,  339,  340,  341,  342,  343,  344,  345,  346, 
-          347,  348,  349,  350,  351,  352,  353,  354,  355,  356, 
-          357,  358,  359,  360,    0,  362,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   10,   -1,  373,  374,  375,  376, 
-           -1,  378,  379,   -1,  381,  382,  383,  384,  385,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   44,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   59,   -1,   -1,   -1,   63,  317,  318, 
-          319,  320,  321,  322,  323,  324,  325,  326,  327,   -1, 
-          329,  330,   -1,   -1,  333,  334,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   91,   -1,   -1,   -1,  348, 
-           -1,  350,   -1,  352,  353,  354,  355,  356,  357,  358, 
-           -1,  360,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  257, 
-          258,  259,   -1,  261,   -1,   -1,   -1,  265,  266,   -1, 
-           -1,   -1,  270,    0,  272,  273,  274,  275,  276,  277, 
-          278,   -1,   -1,   10,   -1,  283,  284,  285,  286,  287, 
-          288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1, 
-           -1,  299,   -1,   -1,  302,  303,  304,   -1,  306,  307, 
-          308,  309,  310,  311,   -1,  313,   -1,   44,  316,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   59,   -1,   -1,  333,   63,   -1,  336,   -1, 
-           -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   91,   -1,  364,  365,  366,  367, 
-          368,  369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1, 
-          378,  379,   -1,  381,  382,  383,  384,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  257,  258,  259,   -1,  261,  262,  263,  264,  265, 
-          266,  267,  268,  269,  270,  271,  272,  273,  274,  275, 
-          276,  277,  278,   -1,  280,  281,  282,  283,  284,  285, 
-          286,  287,  288,  289,  290,  291,  292,  293,  294,  295, 
-          296,  297,   -1,  299,   -1,   -1,  302,  303,  304,   -1, 
-          306,  307,  308,  309,  310,  311,  312,  313,  314,  315, 
-          316,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,  328,  329,  330,   -1,   -1,  333,  334,  335, 
-          336,   -1,  338,  339,   -1,  341,  342,  343,  344,  345, 
-          346,  347,  348,  349,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,  361,  362,   -1,  364,  365, 
-          366,  367,  368,  369,   -1,   -1,   -1,  373,   -1,  375, 
-          376,   -1,  378,  379,   -1,  381,  382,  383,  384,  385, 
-          257,  258,  259,   -1,  261,  262,  263,  264,  265,  266, 
-          267,  268,  269,  270,  271,  272,  273,  274,  275,  276, 
-          277,  278,   -1,  280,  281,  282,  283,  284, 
-      };
-   }
-
-   private static final short[] yyCheck2() {
-      return new short[] {
-
-          285,  286,  287,  288,  289,  290,  291,  292,  293,  294, 
-          295,  296,  297,   -1,  299,   -1,   -1,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,  312,  313,  314, 
-          315,  316,  317,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,  328,  329,  330,   -1,   -1,  333,  334, 
-          335,  336,   -1,  338,  339,   -1,  341,  342,  343,  344, 
-          345,  346,  347,  348,  349,  350,  351,  352,  353,  354, 
-          355,  356,  357,  358,  359,  360,  361,  362,   -1,  364, 
-          365,  366,  367,  368,  369,    0,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,   10,  381,  382,  383,  384, 
-          385,   -1,   -1,   -1,   -1,  306,  307,   -1,   -1,  310, 
-           -1,   -1,   -1,  314,  315,   -1,  317,  318,  319,  320, 
-          321,  322,  323,   -1,   -1,  326,  327,   -1,   -1,   44, 
-          331,  332,  333,  334,   -1,   -1,   -1,   -1,   -1,  340, 
-           -1,   -1,   -1,   -1,   59,   -1,  347,  348,   63,  350, 
-          351,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-           -1,   -1,  363,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   91,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  385,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          257,  258,  259,   -1,  261,   -1,   -1,   -1,  265,  266, 
-           -1,   -1,   -1,  270,    0,  272,  273,  274,  275,  276, 
-          277,  278,   -1,   -1,   10,   -1,  283,  284,  285,  286, 
-          287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1, 
-           -1,   -1,  299,   -1,   -1,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,   -1,  313,   -1,   44,  316, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   59,   -1,   61,   -1,   63,   -1,  336, 
-           -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1, 
-          347,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   91,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,   -1,  381,  382,  383,  384,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  257,  258,  259,   -1,  261,  262,  263,  264, 
-          265,  266,  267,  268,  269,  270,  271,  272,  273,  274, 
-          275,  276,  277,  278,   -1,   -1,  281,  282,  283,  284, 
-          285,  286,  287,  288,  289,  290,  291,  292,  293,  294, 
-          295,  296,  297,   -1,  299,   -1,   -1,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,  312,  313,  314, 
-          315,  316,  317,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,  328,  329,  330,   -1,   -1,  333,  334, 
-          335,  336,   -1,  338,  339,   -1,  341,  342,  343,  344, 
-          345,  346,  347,  348,  349,  350,  351,  352,  353,  354, 
-          355,  356,  357,  358,  359,  360,   -1,  362,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,   -1,  381,  382,  383,  384, 
-          385,  257,  258,  259,   -1,  261,  262,  263,  264,  265, 
-          266,   -1,  268,  269,  270,  271,  272,  273,  274,  275, 
-          276,  277,  278,   -1,  280,   -1,   -1,  283,  284,  285, 
-          286,  287,  288,  289,  290,  291,  292,  293,  294,  295, 
-          296,  297,   -1,  299,   -1,   -1,  302,  303,  304,   -1, 
-          306,  307,  308,  309,  310,  311,  312,  313,  314,  315, 
-          316,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,  328,  329,  330,   -1,   -1,  333,  334,  335, 
-          336,   -1,   -1,  339,  340,  341,  342,  343,   -1,  345, 
-           -1,  347,  348,  349,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,  361,  362,   -1,  364,  365, 
-          366,  367,  368,  369,    0,   -1,   -1,  373,   -1,  375, 
-          376,   -1,  378,  379,   10,  381,  382,  383,  384,  385, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          306,  307,   -1,   -1,  310,   -1,   -1,   -1,  314,  315, 
-           -1,  317,  318,  319,  320,  321,  322,  323,   44,   -1, 
-          326,  327,   -1,   -1,   -1,  331,  332,  333,  334,   -1, 
-           -1,   -1,   -1,   59,  340,   61,   -1,   63,   -1,   -1, 
-           -1,  347,  348,   -1,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,   -1,   -1,  363,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   91,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  385, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  257, 
-          258,  259,   -1,  261,   -1,   -1,   -1,  265,  266,   -1, 
-           -1,   -1,  270,    0,  272,  273,  274,  275,  276,  277, 
-          278,   -1,   -1,   10,   -1,  283,  284,  285,  286,  287, 
-          288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1, 
-           -1,  299,   -1,   -1,  302,  303,  304,   -1,  306,  307, 
-          308,  309,  310,  311,   -1,  313,   -1,   44,  316,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   59,   -1,   61,   -1,   63,   -1,  336,   -1, 
-           -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1,  347, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   91,   -1,  364,  365,  366,  367, 
-          368,  369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1, 
-          378,  379,   -1,  381,  382,  383,  384,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  257,  258,  259,   -1,  261,  262,  263,  264,  265, 
-          266,   -1,  268,  269,  270,  271,  272,  273,  274,  275, 
-          276,  277,  278,   -1,  280,   -1,   -1,  283,  284,  285, 
-          286,  287,  288,  289,  290,  291,  292,  293,  294,  295, 
-          296,  297,   -1,  299,   -1,   -1,  302,  303,  304,   -1, 
-          306,  307,  308,  309,  310,  311,  312,  313,  314,  315, 
-          316,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,  328,  329,  330,   -1,   -1,  333,  334,  335, 
-          336,   -1,   -1,  339,  340,  341,  342,  343,   -1,  345, 
-           -1,  347,  348,  349,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,  361,  362,   -1,  364,  365, 
-          366,  367,  368,  369,    0,   -1,   -1,  373,   -1,  375, 
-          376,   -1,  378,  379,   10,  381,  382,  383,  384,  385, 
-          257,  258,  259,   -1,  261,  262,  263,  264,  265,  266, 
-           -1,  268,  269,  270,  271,  272,  273,  274,  275,  276, 
-          277,  278,   -1,  280,   -1,   -1,  283,  284,  285,  286, 
-          287,  288,  289,  290,  291,  292,  293,  294,  295,  296, 
-          297,   -1,  299,   59,   -1,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,  312,  313,  314,  315,  316, 
-          317,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,  328,  329,  330,   -1,   -1,  333,  334,  335,  336, 
-           -1,   -1,  339,  340,  341,  342,  343,   -1,  345,   -1, 
-          347,  348,  349,  350,  351,  352,  353,  354,  355,  356, 
-          357,  358,  359,  360,  361,  362,   -1,  364,  365,  366, 
-          367,  368,  369,    0,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,   10,  381,  382,  383,  384,  385,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  306, 
-          307,   -1,   -1,  310,   -1,   -1,   -1,  314,  315,   -1, 
-          317,  318,  319,  320,  321,  322,  323,   44,   -1,  326, 
-          327,   -1,   -1,   -1,  331,  332,  333,  334,   -1,   -1, 
-           -1,   -1,   59,  340,   61,   -1,   63,   -1,   -1,   -1, 
-          347,  348,   -1,  350,  351,  352,  353,  354,  355,  356, 
-          357,  358,  359,  360,   -1,   -1,  363,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   91,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  385,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  257,  258,  259,   -1,  261,  262,  263,  264,  265, 
-          266,  267,  268,  269,  270,  271,  272,  273,  274,  275, 
-          276,  277,  278,   10,  280,  281,   -1,  283,  284,  285, 
-          286,  287,  288,  289,  290,  291,  292,  293,  294,  295, 
-          296,  297,   -1,  299,   -1,   -1,  302,  303,  304,   -1, 
-          306,  307,  308,  309,  310,  311,  312,  313,  314,  315, 
-          316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  328,   -1,   -1,   -1,   -1,   -1,   -1,  335, 
-          336,   -1,   -1,  339,   -1,  341,  342,  343,   -1,  345, 
-           -1,  347,   -1,  349,   -1,  351,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  359,   -1,  361,  362,   -1,  364,  365, 
-          366,  367,  368,  369,   -1,   -1,   -1,  373,   -1,  375, 
-          376,   -1,  378,  379,   -1,  381,  382,  383,  384,  385, 
-          257,  258,  259,   -1,  261,  262,  263,  264,  265,  266, 
-           -1,  268,  269,  270,  271,  272,  273,  274,  275,  276, 
-          277,  278,   -1,   -1,   -1,   10,  283,  284,  285,  286, 
-          287,  288,  289,  290,  291,  292,  293,  294,  295,  296, 
-          297,   -1,  299,   -1,   -1,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,  312,  313,  314,  315,  316, 
-          317,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,  328,  329,  330,   59,   -1,  333,  334,  335,  336, 
-           -1,   -1,  339,  340,  341,  342,  343,   -1,  345,   -1, 
-          347,  348,  349,  350,  351,  352,  353,  354,  355,  356, 
-          357,  358,  359,  360,   -1,  362,   91,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,   -1,  381,  382,  383,  384,  385,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          257,  258,  259,   -1,  261,   -1,   -1,   -1,  265,  266, 
-           -1,   -1,   -1,  270,   10,  272,  273,  274,  275,  276, 
-          277,  278,   -1,   -1,   -1,   -1,  283,  284,  285,  286, 
-          287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1, 
-           -1,   -1,  299,   -1,   -1,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,  312,  313,  314,  315,  316, 
-           -1,   -1,   -1,   59,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336, 
-           -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1, 
-          347,   -1,  349,   -1,  351,   91,   -1,   -1,   -1,   -1, 
-           -1,   -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,   -1,  381,  382,  383,  384,  385,   -1, 
-           -1,  256,  257,  258,  259,  260,  261,  262,  263,  264, 
-          265,  266,   -1,   10,  269,  270,   -1,  272,  273,  274, 
-          275,  276,  277,  278,   -1,  280,   -1,   -1,  283,  284, 
-          285,  286,  287,  288,  289,   -1,   -1,  292,   -1,   -1, 
-           -1,   -1,   -1,  298,  299,   -1,  301,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,   -1,  313,  314, 
-          315,  316,   59,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  328,   -1,   -1,   -1,   -1,   -1,   -1, 
-          335,  336,   -1,   -1,  339,  340,   -1,  342,  343,   -1, 
-          345,   -1,  347,   -1,   91,   -1,  351,   -1,   -1,   -1, 
-           -1,  356,   -1,   -1,  359,   -1,  361,   -1,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,   -1,  381,  382,  383,  384, 
-          256,  257,  258,  259,  260,  261,  262,  263,  264,  265, 
-          266,   -1,   10,  269,  270,   -1,  272,  273,  274,  275, 
-          276,  277,  278,   -1,  280,   -1,   -1,  283,  284,  285, 
-          286,  287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1, 
-           -1,   -1,  298,  299,   -1,  301,  302,  303,  304,   -1, 
-          306,  307,  308,  309,  310,  311,   -1,  313,  314,  315, 
-          316,   59,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  328,   -1,   -1,   -1,   -1,   -1,   -1,  335, 
-          336,   -1,   -1,  339,  340,   -1,  342,  343,   -1,  345, 
-           -1,  347,   -1,   91,   -1,  351,   -1,   -1,   -1,   -1, 
-          356,   -1,   -1,  359,   -1,  361,   -1,   -1,  364,  365, 
-          366,  367,  368,  369,   -1,   -1,   -1,  373,   -1,  375, 
-          376,   -1,  378,  379,   -1,  381,  382,  383,  384,  256, 
-          257,  258,  259,  260,  261,  262,  263,  264,  265,  266, 
-           -1,   10,  269,  270,   -1,  272,  273,  274,  275,  276, 
-          277,  278,   -1,  280,   -1,   -1,  283,  284,  285,  286, 
-          287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1, 
-           -1,  298,  299,   -1,  301,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,   -1,  313,  314,  315,  316, 
-           59,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  328,   -1,   -1,   -1,   -1,   -1,   -1,  335,  336, 
-           -1,   -1,  339,  340,   -1,  342,  343,   -1,  345,   -1, 
-          347,   -1,   91,   -1,  351,   -1,   -1,   -1,   -1,  356, 
-           -1,   -1,  359,   -1,  361,   -1,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,   -1,  381,  382,  383,  384,  256,  257, 
-          258,  259,  260,  261,  262,  263,  264,  265,  266,   -1, 
-           10,  269,  270,   -1,  272,  273,  274,  275,  276,  277, 
-          278,   -1,   -1,   -1,   -1,  283,  284,  285,  286,  287, 
-          288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1, 
-          298,  299,   -1,  301,  302,  303,  304,   -1,  306,  307, 
-          308,  309,  310,  311,   -1,  313,  314,  315,  316,   59, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          328,   -1,   -1,   -1,   -1,   -1,   -1,  335,  336,   -1, 
-           -1,  339,  340,   -1,  342,  343,   -1,  345,   -1,  347, 
-           -1,   -1,   -1,  351,   -1,   -1,   -1,   -1,  356,   -1, 
-           -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366,  367, 
-          368,  369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1, 
-          378,  379,   -1,  381,  382,  383,  384,  256,  257,  258, 
-          259,  260,  261,  262,  263,  264,  265,  266,   -1,   10, 
-          269,  270,   -1,  272,  273,  274,  275,  276,  277,  278, 
-           -1,   -1,   -1,   -1,  283,  284,  285,  286,  287,  288, 
-          289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,  298, 
-          299,   -1,  301,  302,  303,  304,   -1,  306,  307,  308, 
-          309,  310,  311,   -1,  313,  314,  315,  316,   59,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  328, 
-           -1,   -1,   -1,   -1,   -1,   -1,  335,  336,   -1,   -1, 
-          339,   -1,   -1,  342,  343,   -1,  345,   -1,  347,   -1, 
-           -1,   -1,  351,   -1,   -1,   -1,   -1,  356,   -1,   -1, 
-          359,   -1,   -1,   -1,   -1,  364,  365,  366,  367,  368, 
-          369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378, 
-          379,   -1,  381,  382,  383,  384,  256,  257,  258,  259, 
-          260,  261,  262,  263,  264,  265,  266,   -1,  268,  269, 
-          270,  271,  272,  273,  274,  275,  276,  277,  278,   10, 
-           -1,   -1,   -1,  283,  284,  285,  286,  287,  288,  289, 
-           -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,  298,  299, 
-           -1,  301,  302,  303,  304,   -1,  306,  307,  308,  309, 
-          310,  311,   -1,  313,  314,  315,  316,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   59,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339, 
-           -1,   -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1, 
-           -1,  351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359, 
-           -1,   -1,   -1,   -1,  364,  365,  366,  367,  368,  369, 
-           -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378,  379, 
-           -1,  381,  382,  383,  384,  256,  257,  258,  259,  260, 
-          261,   -1,   -1,  264,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   10,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,  298,  299,   -1, 
-          301,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   59,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,  384,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  256,  257,  258,  259,  260, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   10, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,  298,  299,   -1, 
-          301,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,  362,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,  384,   -1,  257,  258,  259,   -1,  261, 
-           -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1, 
-          272,  273,  274,  275,  276,  277,  278,   -1,   -1,   -1, 
-           -1,  283,  284,  285,  286,  287,  288,  289,   -1,   -1, 
-          292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1,   -1, 
-          302,  303,  304,   -1,  306,  307,  308,  309,  310,  311, 
-           -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,    0,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  336,   10,   -1,  339,   -1,   -1, 
-          342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1,  351, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1, 
-           -1,   -1,  364,  365,  366,  367,  368,  369,   -1,   44, 
-           -1,  373,   -1,  375,  376,   -1,  378,  379,   -1,  381, 
-          382,  383,  384,   58,   59,   -1,   61,   -1,   63,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   91,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   10,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           44,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,  384,   58,   59,   -1,   -1,   -1,   63, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   91,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263,  264, 
-           -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  280,  281,  282,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294, 
-          295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  317,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,  328,  329,  330,   -1,    0,  333,  334, 
-          335,   -1,   -1,  338,   -1,   -1,  341,   10,   -1,  344, 
-           -1,  346,   -1,  348,   -1,  350,   -1,  352,  353,  354, 
-          355,  356,  357,  358,   -1,  360,  361,  362,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  374, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   58,   59,   -1,   61,   -1, 
-           63,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   91,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  280,  281,  282,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,    0,  333, 
-          334,  335,   -1,   -1,  338,   -1,   -1,  341,   10,   -1, 
-          344,   -1,  346,   -1,  348,   -1,  350,   -1,  352,  353, 
-          354,  355,  356,  357,  358,   -1,  360,  361,  362,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          374,   -1,   44,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   58,   59,   -1,   61, 
-           -1,   63,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   91, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  317,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,  328,  329,  330,   -1,    0, 
-          333,  334,  335,   -1,  337,  338,   -1,   -1,  341,   10, 
-           -1,  344,   -1,  346,   -1,  348,   -1,  350,   -1,  352, 
-          353,  354,  355,  356,  357,  358,   -1,  360,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  374,   -1,   44,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   58,   59,   -1, 
-           -1,   -1,   63,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,   -1,  271, 
-           91,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281, 
-          282,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291, 
-           -1,  293,  294,  295,  296,  297,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  317,  318,  319,  320,  321, 
-          322,  323,  324,  325,  326,  327,  328,  329,  330,   -1, 
-            0,  333,  334,  335,   -1,  337,  338,   -1,   -1,  341, 
-           10,   -1,  344,   -1,  346,   -1,  348,   -1,  350,   -1, 
-          352,  353,  354,  355,  356,  357,  358,   -1,  360,   -1, 
-          362,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  374,   -1,   44,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   58,   59, 
-           -1,   61,   -1,   63,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   91,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  262,  263,  264,   -1,   -1,  267,  268,  269,   -1, 
-          271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  280, 
-          281,  282,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290, 
-          291,   -1,  293,  294,  295,  296,  297,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  305,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  317,  318,  319,  320, 
-          321,  322,  323,  324,  325,  326,  327,  328,  329,  330, 
-           -1,    0,  333,  334,  335,   -1,   -1,  338,   -1,   -1, 
-          341,   10,   -1,  344,   -1,  346,   -1,  348,   -1,  350, 
-           -1,  352,  353,  354,  355,  356,  357,  358,   -1,  360, 
-          361,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  374,   -1,   44,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   58, 
-           59,   -1,   61,   -1,   63,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  262,  263,  264,   -1,   -1,  267,  268,  269, 
-           -1,  271,   91,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          290,  291,   -1,  293,  294,  295,  296,  297,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  305,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  317,  318,  319, 
-          320,  321,  322,  323,  324,  325,  326,  327,  328,  329, 
-          330,   -1,    0,  333,  334,  335,   -1,   -1,  338,   -1, 
-           -1,  341,   10,   -1,  344,   -1,  346,   -1,  348,   -1, 
-          350,   -1,  352,  353,  354,  355,  356,  357,  358,   -1, 
-          360,   -1,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  374,   -1,   44,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  306,  307,   -1,   -1,  310, 
-           58,   59,   -1,  314,  315,   63,  317,  318,  319,  320, 
-          321,  322,  323,   -1,   -1,  326,  327,   -1,   -1,   -1, 
-          331,  332,  333,  334,   -1,   -1,   -1,   -1,   -1,  340, 
-           -1,   -1,   -1,   91,   -1,   -1,  347,  348,   -1,  350, 
-          351,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-           -1,   -1,  363,  262,  263,  264,   -1,   -1,  267,  268, 
-          269,   -1,  271,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  281,  282,  385,   -1,   -1,   -1,   -1,   -1, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,  297,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  305,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  317,  318, 
-          319,  320,  321,  322,  323,  324,  325,  326,  327,  328, 
-          329,  330,   -1,    0,  333,  334,  335,   -1,   -1,  338, 
-           -1,   -1,  341,   10,   -1,  344,   -1,  346,   -1,  348, 
-           -1,  350,   -1,  352,  353,  354,  355,  356,  357,  358, 
-           -1,  360,   -1,  362,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  374,   -1,   44,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   58,   59,   -1,   -1,   -1,   63,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,   -1,  271,   91,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  281,  282,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  317, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-          328,  329,  330,   -1,    0,  333,  334,  335,   -1,   -1, 
-          338,   -1,   -1,  341,   10,   -1,  344,   -1,  346,   -1, 
-          348,   -1,  350,   -1,  352,  353,  354,  355,  356,  357, 
-          358,   -1,  360,   -1,  362,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  374,   -1,   44,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  306,  307,   -1, 
-           -1,  310,   58,   59,   -1,  314,  315,   63,  317,  318, 
-          319,  320,  321,  322,  323,   -1,   -1,  326,  327,   -1, 
-           -1,   -1,  331,  332,  333,  334,   -1,   -1,   -1,   -1, 
-           -1,  340,   -1,   -1,   -1,   91,   -1,   -1,  347,  348, 
-           -1,  350,  351,  352,  353,  354,  355,  356,  357,  358, 
-          359,  360,   -1,   -1,  363,  262,  263,  264,   -1,   -1, 
-          267,  268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  281,  282,  385,   -1,   -1,   -1, 
-           -1,   -1,   -1,  290,  291,   -1,  293,  294,  295,  296, 
-          297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          317,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,  328,  329,  330,   -1,    0,  333,  334,  335,   -1, 
-           -1,  338,   -1,   -1,  341,   10,   -1,  344,   -1,  346, 
-           -1,  348,   -1,  350,   -1,  352,  353,  354,  355,  356, 
-          357,  358,   -1,  360,   -1,  362,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  374,   -1,   44, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   58,   59,   -1,   -1,   -1,   63,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  262,  263,  264,   -1, 
-           -1,  267,  268,  269,   -1,  271,   91,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  281,  282,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294,  295, 
-          296,  297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,  328,  329,  330,   -1,    0,  333,  334,  335, 
-           -1,   -1,  338,   -1,   -1,  341,   10,   -1,  344,   -1, 
-          346,   -1,  348,   -1,  350,   -1,  352,  353,  354,  355, 
-          356,  357,  358,   -1,  360,   -1,  362,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  374,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  306, 
-          307,   -1,   -1,  310,   58,   59,   -1,  314,  315,   63, 
-          317,  318,  319,  320,  321,  322,  323,   -1,   -1,  326, 
-          327,   -1,   -1,   -1,  331,  332,  333,  334,   -1,   -1, 
-           -1,   -1,   -1,  340,   -1,   -1,   -1,   91,   -1,   -1, 
-          347,  348,   -1,  350,  351,  352,  353,  354,  355,  356, 
-          357,  358,  359,  360,   -1,   -1,  363,  262,  263,  264, 
-           -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  281,  282,  385,   -1, 
-           -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294, 
-          295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  317,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,  328,  329,  330,   -1,    0,  333,  334, 
-          335,   -1,   -1,  338,   -1,   -1,  341,   10,   -1,  344, 
-           -1,  346,   -1,  348,   -1,  350,   -1,  352,  353,  354, 
-          355,  356,  357,  358,   -1,  360,   -1,  362,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  374, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   58,   59,   -1,   -1,   -1, 
-           63,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  305,   -1,    0,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   10,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,   -1,  333, 
-          334,  335,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,  348,   -1,  350,   44,  352,  353, 
-          354,  355,  356,  357,  358,   -1,  360,   -1,  362,   -1, 
-           -1,   58,   59,   -1,   -1,   -1,   63,   -1,   -1,   -1, 
-          374,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   58,   59,   -1,   -1,   -1, 
-           63,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,   -1,  329,  330,   -1,   -1, 
-          333,  334,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,  348,   -1,  350,   -1,  352, 
-          353,  354,  355,  356,  357,  358,   -1,  360,   -1,  362, 
-           -1,   -1,   -1,    0,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  374,   -1,   10,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  262,  263,  264,   -1,   -1, 
-          267,  268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  281,  282,   -1,   44,   -1,   -1, 
-           -1,   -1,   -1,  290,  291,   -1,  293,  294,  295,  296, 
-          297,   58,   59,   -1,   -1,   -1,   63,   -1,  305,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-      };
-   }
-
-   private static final short[] yyCheck3() {
-      return new short[] {
-
-           -1,   -1,   -1,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,   -1,  329,  330,   -1,   -1,  333,  334, 
-           -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1,  344, 
-           -1,  346,   -1,  348,   -1,  350,   -1,  352,  353,  354, 
-          355,  356,  357,  358,    0,  360,   -1,  362,   -1,   -1, 
-           -1,   -1,   -1,   -1,   10,   -1,   -1,   -1,   -1,  374, 
-           -1,  262,  263,  264,   -1,   -1,  267,  268,  269,   -1, 
-          271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          281,  282,   -1,   -1,   -1,   -1,   -1,   -1,   44,  290, 
-          291,   -1,  293,  294,  295,  296,  297,   -1,   -1,   -1, 
-           -1,   -1,   58,   59,  305,   -1,   -1,   63,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  318,  319,  320, 
-          321,  322,  323,  324,  325,  326,  327,   -1,  329,  330, 
-           -1,   -1,  333,  334,   -1,   -1,   -1,  338,   -1,   -1, 
-          341,   -1,   -1,  344,   -1,  346,   -1,  348,   -1,  350, 
-           -1,  352,  353,  354,  355,  356,  357,  358,   -1,  360, 
-           -1,  362,   -1,   -1,   -1,    0,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  374,   -1,   10,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263,  264, 
-           -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1,   44, 
-           -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294, 
-          295,  296,  297,   58,   59,   -1,   -1,   -1,   63,   -1, 
-          305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,   -1,  329,  330,   -1,   -1,  333,  334, 
-           -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1,  344, 
-           -1,  346,   -1,  348,   -1,  350,   -1,  352,  353,  354, 
-          355,  356,  357,  358,    0,  360,   -1,  362,   -1,   -1, 
-           -1,   -1,   -1,   -1,   10,   -1,   -1,   -1,   -1,  374, 
-           -1,   -1,   -1,   -1,   -1,   -1,  262,  263,  264,   -1, 
-           -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  281,  282,   -1,   44,   -1, 
-           -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294,  295, 
-          296,  297,   58,   59,   -1,   -1,   -1,   63,   -1,  305, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,   -1,  329,  330,   -1,   -1,  333,  334,   -1, 
-           -1,   -1,  338,   -1,   -1,  341,   -1,   -1,  344,   -1, 
-          346,   -1,  348,   -1,  350,   -1,  352,  353,  354,  355, 
-          356,  357,  358,   -1,  360,    0,  362,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   10,   -1,   -1,  374,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263,  264, 
-           -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1,   44, 
-           -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294, 
-          295,  296,  297,   58,   59,   -1,   -1,   -1,   63,   -1, 
-          305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,   -1,  329,  330,   -1,   -1,  333,  334, 
-           -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1,  344, 
-           -1,  346,   -1,  348,   -1,  350,   -1,  352,  353,  354, 
-          355,  356,  357,  358,    0,  360,   -1,  362,   -1,   -1, 
-           -1,   -1,   -1,   -1,   10,   -1,   -1,   -1,   -1,  374, 
-           -1,   -1,   -1,   -1,   -1,   -1,  262,  263,  264,   -1, 
-           -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  281,  282,   -1,   44,   -1, 
-           -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294,  295, 
-          296,  297,   58,   59,   -1,   -1,   -1,   63,   -1,  305, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,   -1,  329,  330,   -1,   -1,  333,  334,   -1, 
-           -1,   -1,  338,   -1,   -1,  341,    0,   -1,  344,   -1, 
-          346,   -1,   -1,   -1,  350,   -1,   10,   -1,  354,  355, 
-          356,  357,  358,   -1,  360,   -1,  362,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  374,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263,  264, 
-           44,   -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   58,   59,  281,  282,   -1,   63, 
-           -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294, 
-          295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,   -1,  329,  330,   -1,   -1,  333,  334, 
-            0,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1,  344, 
-           10,  346,   -1,   -1,   -1,  350,   -1,   -1,   -1,  354, 
-          355,  356,  357,  358,   -1,  360,   -1,  362,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  374, 
-           -1,   -1,   -1,   -1,   44,   -1,  262,  263,  264,   -1, 
-           -1,  267,  268,  269,   -1,  271,   -1,   -1,   58,   59, 
-           -1,   -1,   -1,   63,   -1,  281,  282,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294,  295, 
-          296,  297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,   -1,  329,  330,   -1,   -1,  333,  334,   -1, 
-           -1,   -1,  338,   -1,   -1,  341,    0,   -1,  344,   -1, 
-          346,   -1,   -1,   -1,  350,   -1,   10,   -1,   -1,   -1, 
-          356,  357,  358,   -1,  360,   -1,  362,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,  374,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   58,   59,   -1,   -1,   -1,   63, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,   -1,  329,  330,   -1,   -1,  333, 
-          334,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,   -1,   -1,  350,   -1,   -1,   -1, 
-            0,   -1,  356,  357,  358,   -1,  360,   -1,  362,   -1, 
-           10,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          374,   -1,  262,  263,  264,   -1,   -1,  267,  268,  269, 
-           -1,  271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  281,  282,   -1,   44,   -1,   -1,   -1,   -1,   -1, 
-          290,  291,   -1,  293,  294,  295,  296,  297,   58,   59, 
-           -1,   -1,   -1,   63,   -1,  305,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  318,  319, 
-          320,  321,  322,  323,  324,  325,  326,  327,   -1,  329, 
-          330,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  338,   -1, 
-           -1,  341,    0,   -1,  344,   -1,  346,   -1,   -1,   -1, 
-          350,   -1,   10,   -1,   -1,   -1,  356,  357,  358,   -1, 
-          360,   -1,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  374,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   44,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           58,   59,   -1,   -1,   -1,   63,   -1,  281,  282,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,   -1,  329,  330,   -1,   -1,   -1, 
-           -1,    0,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   10,  346,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  356,  357,  358,   -1,  360,   -1,  362,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          374,   -1,  262,  263,  264,   44,   -1,  267,  268,  269, 
-           -1,  271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   58, 
-           59,  281,  282,   -1,   63,   -1,   -1,   -1,   -1,   -1, 
-          290,  291,   -1,  293,  294,  295,  296,  297,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  305,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  318,  319, 
-          320,  321,  322,  323,  324,  325,  326,  327,   -1,  329, 
-          330,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  338,   -1, 
-           -1,  341,    0,   -1,  344,   -1,  346,   -1,   -1,   -1, 
-           -1,   -1,   10,   -1,   -1,   -1,  356,  357,  358,   -1, 
-          360,   -1,  362,   -1,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,   -1,  271,  374,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  281,  282,   -1,   44,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           58,   59,   -1,   -1,   -1,   63,   -1,  305,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-           -1,  329,  330,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346,   -1, 
-            0,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  356,  357, 
-           10,   -1,   -1,   -1,  362,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  374,   -1,   -1,   -1, 
-           -1,   -1,   -1,  262,  263,  264,   -1,   -1,  267,  268, 
-          269,   -1,  271,   -1,   44,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  281,  282,   -1,   -1,   -1,   -1,   58,   59, 
-           -1,  290,  291,   63,  293,  294,  295,  296,  297,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  305,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  318, 
-          319,  320,  321,  322,  323,  324,  325,  326,  327,   -1, 
-          329,  330,   -1,   -1,   -1,   -1,   -1,   -1,    0,  338, 
-           -1,   -1,  341,   -1,   -1,  344,   -1,  346,   10,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  356,  357,   -1, 
-           -1,   -1,   -1,  362,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  374,   -1,   -1,   -1,   -1, 
-           -1,   -1,   44,   -1,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,   -1,  271,   -1,   -1,   58,   59,   -1,   -1, 
-           -1,   63,   -1,  281,  282,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,    0,   -1,   -1,   -1,  305,   -1,   -1, 
-           -1,   -1,   -1,   10,   -1,   -1,   -1,   -1,   -1,   -1, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-           -1,  329,  330,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          338,   -1,   -1,  341,   -1,   -1,  344,   44,  346,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  356,  357, 
-           -1,   58,   59,   -1,  362,   -1,   63,   -1,   -1,   -1, 
-           -1,   -1,  262,  263,  264,   -1,  374,  267,  268,  269, 
-           -1,  271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1,    0, 
-          290,  291,   -1,  293,  294,  295,  296,  297,   -1,   10, 
-           -1,   -1,   -1,   -1,   -1,  305,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  318,  319, 
-          320,  321,  322,  323,  324,  325,  326,  327,   -1,  329, 
-          330,   -1,   -1,   44,   -1,   -1,   -1,   -1,  338,   -1, 
-           -1,  341,   -1,   -1,  344,   -1,  346,   58,   59,   -1, 
-           -1,   -1,   63,   -1,   -1,   -1,  356,  357,   -1,   -1, 
-           -1,   -1,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          262,  263,  264,   -1,  374,  267,  268,  269,   -1,  271, 
-           -1,   -1,   -1,   -1,   -1,    0,   -1,   -1,   -1,  281, 
-          282,   -1,   -1,   -1,   -1,   10,   -1,   -1,  290,  291, 
-           -1,  293,  294,  295,  296,  297,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   44, 
-           -1,   -1,  324,  325,   -1,   -1,   -1,  329,  330,   -1, 
-           -1,   -1,   -1,   58,   59,   -1,  338,   -1,   63,  341, 
-           -1,   -1,  344,   -1,  346,  262,  263,  264,   -1,   -1, 
-          267,  268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1, 
-          362,   -1,   -1,   -1,  281,  282,   -1,   -1,   -1,   -1, 
-           -1,   -1,  374,  290,  291,   -1,  293,  294,  295,  296, 
-          297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   -1, 
-           -1,   -1,   -1,    0,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   10,   -1,   -1,   -1,  324,  325,   -1, 
-           -1,   -1,  329,  330,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   44,   -1,   -1, 
-           -1,  262,  263,  264,   -1,  362,  267,  268,  269,   -1, 
-          271,   58,   59,   -1,   -1,   -1,   63,  374,   -1,   -1, 
-          281,  282,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290, 
-          291,   -1,  293,  294,  295,  296,  297,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  305,   -1,   -1,   -1,   -1,    0, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   10, 
-           -1,   -1,   -1,  324,  325,   -1,   -1,   -1,  329,  330, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  338,   -1,   -1, 
-          341,   -1,   -1,  344,   -1,  346,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   44,   -1,   -1,   -1,  262,  263,  264, 
-           -1,  362,  267,  268,  269,   -1,  271,   58,   59,   -1, 
-           -1,   -1,   63,  374,   -1,   -1,  281,  282,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294, 
-          295,  296,  297,   -1,   -1,   -1,    0,   -1,   -1,   -1, 
-          305,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  324, 
-          325,   -1,   -1,   -1,  329,  330,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1,  344, 
-           44,  346,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   58,   59,   -1,  362,   -1,   63, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  374, 
-           -1,   -1,   -1,   -1,   -1,  262,  263,  264,   -1,   -1, 
-          267,  268,  269,   -1,  271,   -1,    0,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  281,  282,   10,   -1,   -1,   -1, 
-           -1,   -1,   -1,  290,  291,   -1,  293,  294,  295,  296, 
-          297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,   10,  324,  325,   -1, 
-           -1,   -1,  329,  330,   58,   59,   -1,   -1,   -1,   63, 
-           -1,  338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  262,  263,  264,   -1,  362,  267,  268,  269,   -1, 
-          271,   -1,    0,   -1,   -1,   59,   -1,  374,   -1,   -1, 
-          281,  282,   10,   -1,   -1,   -1,   -1,   -1,   -1,  290, 
-          291,   -1,  293,  294,  295,  296,  297,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  305,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,    0,   -1,   -1,   -1,   44,   -1,   -1,   -1, 
-           -1,   -1,   10,  324,  325,   -1,   -1,   -1,  329,  330, 
-           58,   59,   -1,   -1,   -1,   63,   -1,  338,   -1,   -1, 
-          341,   -1,   -1,  344,   -1,  346,   -1,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   44,  271,   -1,   -1, 
-           -1,  362,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           58,   59,   -1,  374,   -1,   63,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-          324,  325,   -1,   -1,   -1,  329,  330,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,   -1,   -1,   -1,   -1,  262,  263, 
-          264,   44,   -1,  267,  268,  269,   -1,  271,  362,   -1, 
-           -1,   -1,   -1,   -1,   -1,   58,   59,  281,  282,   -1, 
-          374,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,  262,  263, 
-          264,  305,   -1,  267,  268,  269,    0,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   10,  281,   -1,   -1, 
-           -1,  325,   -1,   -1,   -1,  329,  330,   -1,   -1,  293, 
-          294,  295,  296,  297,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           44,   -1,   -1,   -1,  262,  263,  264,   -1,  362,  267, 
-          268,  269,   -1,  271,   58,   59,   -1,   -1,   -1,   -1, 
-          374,   -1,   -1,  281,  282,   -1,   -1,  341,   -1,   -1, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,  262,  263,  264,  305,  362,  267, 
-          268,  269,    0,  271,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   10,  281,  282,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,  297, 
-          338,   -1,   -1,  341,   -1,   -1,  344,  305,  346,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   44,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  362,   -1,   -1,   -1,   -1,   -1, 
-           58,   59,   -1,   -1,   -1,   -1,  374,   -1,   -1,   -1, 
-          338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,    0,  271,   -1, 
-           -1,   -1,   -1,   -1,  362,   -1,   -1,   10,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,   -1,  374,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  305,   -1,   -1,   -1,   -1,    0,   -1,   -1, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   58,   59,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,   -1,   -1,   -1,  262,  263, 
-          264,   44,   -1,  267,  268,  269,   -1,  271,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   58,   59,  281,  282,   -1, 
-           -1,  374,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  305,   -1,   -1,   -1,   -1,    0,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           44,   -1,   -1,   -1,  262,  263,  264,   -1,  362,  267, 
-          268,  269,   -1,  271,   58,   59,   -1,    0,   -1,   -1, 
-          374,   -1,   -1,  281,  282,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   58,   59,   -1,   -1,   -1, 
-          338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,  362,   -1,   -1,   -1,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,   -1,  374,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,  262, 
-          263,  264,  305,    0,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   10,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,  338,   -1,   -1,  341,   -1, 
-           -1,  344,  305,  346,   -1,   -1,   -1,   44,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  362, 
-           -1,   58,   59,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  374,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,   -1,   -1,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   -1,  362, 
-           -1,   -1,   -1,   -1,    0,   -1,   -1,  281,  282,   -1, 
-           -1,  374,   -1,   -1,   10,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   44,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   58,   59,  338,    0,   -1,  341,  281,  282, 
-          344,   -1,  346,   -1,   -1,   10,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,  362,   -1, 
-           -1,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          374,   -1,   -1,   -1,   -1,    0,   -1,   -1,   -1,   44, 
-           -1,   -1,   -1,   -1,   -1,   10,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   58,   59,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  374,   -1,   -1,   59,  262,  263,  264,   -1,    0, 
-          267,  268,  269,   -1,  271,   -1,   -1,   -1,   -1,   10, 
-           -1,   -1,   -1,   -1,  281,  282,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  290,  291,   -1,  293,  294,  295,  296, 
-          297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   -1, 
-           -1,   -1,   -1,   44,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   58,   59,   -1, 
-            0,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           10,  338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  362,  262,  263,  264,   -1, 
-           -1,  267,  268,  269,   44,  271,   -1,  374,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  281,  282,   -1,   -1,   59, 
-           -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294,  295, 
-          296,  297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263,  264, 
-           -1,    0,  267,  268,  269,   -1,  271,   -1,   -1,   -1, 
-           -1,   10,  338,   -1,   -1,  341,  281,  282,  344,   -1, 
-          346,   -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294, 
-          295,  296,  297,   -1,   -1,   -1,  362,  262,  263,  264, 
-          305,    0,  267,  268,  269,   44,  271,   -1,  374,   -1, 
-           -1,   10,   -1,   -1,   -1,   -1,  281,  282,   -1,   58, 
-           59,   -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294, 
-          295,  296,  297,  338,   -1,   -1,  341,   -1,   -1,  344, 
-           -1,  346,   -1,   -1,   -1,   44,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  362,   -1,   58, 
-           59,  262,  263,  264,   -1,   -1,  267,  268,  269,  374, 
-          271,   -1,   -1,   -1,   -1,   -1,  341,   -1,   -1,  344, 
-          281,  282,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290, 
-          291,   -1,  293,  294,  295,  296,  297,  362,   -1,   -1, 
-           -1,   -1,   -1,    0,  305,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   10,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  262,  263,  264,   -1,   -1,  267,  268,  269, 
-           -1,  271,   -1,   -1,   -1,   -1,   -1,  338,   -1,   -1, 
-          341,  281,  282,  344,   -1,  346,   -1,   44,   -1,   -1, 
-          290,  291,   -1,  293,  294,  295,  296,  297,   -1,   -1, 
-           -1,  362,   59,   -1,   -1,  305,   63,   -1,   -1,   -1, 
-           -1,   -1,   -1,  374,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   91,   -1,   -1,   -1,  338,   -1, 
-           -1,  341,   -1,   -1,  344,   -1,  346,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1, 
-           -1,   -1,  362,  262,  263,  264,   -1,   10,  267,  268, 
-          269,   -1,  271,   -1,  374,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,   -1,   -1, 
-           -1,   44,   -1,  262,  263,  264,  305,   -1,  267,  268, 
-          269,   -1,  271,   -1,   -1,   -1,   59,   -1,   -1,   -1, 
-           63,   -1,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,   -1,  338, 
-           -1,   -1,  341,   -1,   -1,  344,  305,  346,   91,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   -1, 
-           -1,   -1,   -1,  362,   -1,   -1,   -1,   -1,   10,   -1, 
-           -1,   -1,   -1,   -1,   -1,  374,   -1,   -1,   -1,  338, 
-           -1,   -1,  341,   -1,   -1,  344,   -1,  346,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   44,  362,   -1,  262,  263,  264,   -1,   -1, 
-          267,  268,  269,   -1,  271,  374,   -1,   59,   -1,   -1, 
-           -1,   63,   -1,   -1,  281,  282,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  290,  291,   -1,  293,  294,  295,  296, 
-          297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   91, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          317,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,  328,  329,  330,   -1,   -1,  333,  334,  335,   -1, 
-           -1,  338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346, 
-           -1,  348,   -1,  350,   -1,  352,  353,  354,  355,  356, 
-          357,  358,    0,  360,   -1,  362,   -1,   -1,   -1,   -1, 
-           -1,   -1,   10,   -1,   -1,   -1,   -1,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,   -1,   44,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1, 
-           -1,   59,   -1,   61,   -1,   63,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  317,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,  328,  329,  330,   -1,   -1, 
-          333,  334,  335,   91,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,  348,    0,  350,   -1,  352, 
-          353,  354,  355,  356,  357,  358,   10,  360,   -1,  362, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,   -1,  271, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281, 
-          282,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291, 
-           44,  293,  294,  295,  296,  297,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   59,   -1,   61,   -1,   63, 
-           -1,   -1,   -1,   -1,   -1,  317,  318,  319,  320,  321, 
-          322,  323,  324,  325,  326,  327,  328,  329,  330,   -1, 
-           -1,  333,  334,  335,   -1,   -1,  338,   91,   -1,  341, 
-           -1,   -1,  344,   -1,  346,   -1,  348,   -1,  350,   -1, 
-          352,  353,  354,  355,  356,  357,  358,    0,  360,   -1, 
-          362,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   44,   -1,   -1,  262,  263,  264,   -1,   -1,   -1, 
-          268,  269,   -1,  271,   -1,   -1,   59,   -1,   61,   -1, 
-           63,   -1,  280,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   91,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  317, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-          328,  329,  330,   -1,   -1,  333,  334,  335,   -1,   -1, 
-           -1,   -1,   -1,  341,   -1,   -1,   -1,   -1,   -1,   -1, 
-          348,    0,  350,   -1,  352,  353,  354,  355,  356,  357, 
-          358,   10,  360,  361,  362,   -1,   -1,   -1,  262,  263, 
-          264,   -1,   -1,   -1,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   44,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1, 
-           59,   -1,   61,   -1,   63,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,   -1,  333, 
-          334,  335,   91,  337,   -1,   -1,   -1,  341,   -1,   -1, 
-           -1,   -1,   -1,   -1,  348,   -1,  350,    0,  352,  353, 
-          354,  355,  356,  357,  358,   -1,  360,   10,  362,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262, 
-          263,  264,   -1,   -1,   -1,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   59,   -1,   61,   -1, 
-           63,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  317,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,  328,  329,  330,   91,   -1, 
-          333,  334,  335,   -1,  337,   -1,   -1,   -1,  341,   -1, 
-           -1,   -1,   -1,   -1,   -1,  348,    0,  350,   -1,  352, 
-          353,  354,  355,  356,  357,  358,   10,  360,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1,   -1, 
-           44,   -1,   -1,  262,  263,  264,   10,   -1,   -1,  268, 
-          269,   -1,  271,   -1,   -1,   59,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,  297,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   59,   -1,   -1,  317,  318, 
-          319,  320,  321,  322,  323,  324,  325,  326,  327,  328, 
-          329,  330,   -1,   -1,  333,  334,  335,   -1,   -1,   -1, 
-           -1,   -1,  341,   -1,   -1,   -1,   -1,   -1,   -1,  348, 
-           -1,  350,    0,  352,  353,  354,  355,  356,  357,  358, 
-           -1,  360,   10,  362,   -1,   -1,   -1,   -1,   -1,  262, 
-          263,  264,   -1,   -1,   -1,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,    0,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   10,   -1,   -1,   -1,   -1, 
-           -1,   59,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  317,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,  328,  329,  330,   -1,   -1, 
-          333,  334,  335,   -1,   -1,   -1,   -1,   -1,  341,   -1, 
-           -1,   -1,   -1,   -1,   59,  348,    0,  350,   -1,  352, 
-          353,  354,  355,  356,  357,  358,   10,  360,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   -1,   59,   -1,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           -1,   -1,   -1,   -1,    0,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   10,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  362,   -1, 
-            0,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           10,   -1,   -1,   -1,   -1,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   59,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  262,  263,  264,   -1,  362,  267, 
-          268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  281,  282,   -1,   -1,   -1,   -1,   59, 
-           -1,    0,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           -1,   10,   -1,   -1,   -1,   -1,   -1,  262,  263,  264, 
-           -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1,   -1, 
-           -1,   -1,   -1,   -1,    0,  290,  291,   -1,  293,  294, 
-          295,  296,  297,  341,   10,    0,  344,   -1,  346,   -1, 
-           59,   -1,   -1,   -1,   -1,   10,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  362,   -1,   -1,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  341,  281,  282,  344, 
-           -1,   -1,   -1,   59,   -1,    0,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   59,   10,   -1,  362,    0,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   44, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,   44,   -1,   59,   -1,  262,  263,  264,    0, 
-           -1,  267,  268,  269,   -1,  271,   -1,   59,  362,   10, 
-           -1,   -1,   -1,   -1,   -1,  281,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294,  295, 
-          296,  297,  262,  263,  264,   -1,   -1,  267,  268,  269, 
-           -1,  271,   -1,   44,   -1,   -1,   -1,   -1,   -1,    0, 
-           -1,  281,   -1,   -1,   -1,   -1,   -1,   -1,   59,   10, 
-          290,  291,  328,  293,  294,  295,  296,  297, 
-      };
-   }
-
-   private static final short[] yyCheck4() {
-      return new short[] {
-
-           -1,  335,   -1,   -1,   -1,   -1,   -1,  341,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,    0, 
-           -1,   -1,   -1,   -1,   -1,  262,  263,  264,  362,   10, 
-          267,  268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1, 
-           59,   -1,   -1,  341,  281,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  290,  291,   -1,  293,  294,  295,  296, 
-          297,   -1,   -1,   44,  362,   -1,   -1,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   59,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,  281,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  290,  291,  281,  293, 
-          294,  295,  296,  297,  341,   -1,   44,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  362,   -1,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,  262,  263,  264,   -1,   -1,  341,  268,  269, 
-           -1,  271,   -1,   -1,   -1,   -1,   -1,   -1,  341,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,  362,   -1, 
-          290,  291,   -1,  293,  294,  295,  296,   -1,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  262,  263,  264,   -1,   -1,  267,  268, 
-          269,   -1,  271,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  341,   -1,   -1,  293,  294,  295,  296,  297,  362, 
-           -1,   -1,   -1,   -1,   44,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  362,  262,  263,  264,   -1,   -1,   -1,  268, 
-          269,   -1,  271,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  338, 
-           -1,   -1,  341,   -1,  293,  294,  295,  296,  297,   -1, 
-           -1,  262,  263,  264,   -1,   -1,  267,  268,  269,   -1, 
-          271,   -1,   -1,  362,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  293,  294,  295,  296,  297,   -1,   -1,  257, 
-          258,  259,  341,  261,   -1,   -1,   -1,  265,  266,   -1, 
-           -1,   -1,  270,   -1,  272,  273,  274,  275,  276,  277, 
-          278,   -1,   -1,  362,   -1,  283,  284,  285,  286,  287, 
-          288,  289,   -1,   -1,  292,   -1,   -1,  338,   -1,   -1, 
-          341,  299,   -1,   -1,  302,  303,  304,   -1,  306,  307, 
-          308,  309,  310,  311,   -1,  313,   -1,   59,  316,   -1, 
-           -1,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1, 
-           -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  364,  365,  366,  367, 
-          368,  369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1, 
-          378,  379,   -1,  381,  382,  383,  384,  257,  258,  259, 
-           -1,  261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1, 
-          270,   -1,  272,  273,  274,  275,  276,  277,  278,   -1, 
-           -1,   -1,   -1,  283,  284,  285,  286,  287,  288,  289, 
-           -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299, 
-           -1,   -1,  302,  303,  304,   -1,  306,  307,  308,  309, 
-          310,  311,   -1,  313,   -1,   59,  316,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339, 
-           -1,   -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  364,  365,  366,  367,  368,  369, 
-           -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378,  379, 
-           -1,  381,  382,  383,  384,  257,  258,  259,  260,  261, 
-           -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1, 
-          272,  273,  274,  275,  276,  277,  278,   -1,   -1,   -1, 
-           -1,  283,  284,  285,  286,  287,  288,  289,   -1,   -1, 
-          292,   -1,   -1,   -1,   -1,   -1,  298,  299,  300,  301, 
-          302,  303,  304,   -1,  306,  307,  308,  309,  310,  311, 
-           -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1,   -1, 
-          342,  343,   -1,  345,   -1,  347,   -1,   -1,   -1,  351, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1, 
-           -1,   -1,  364,  365,  366,  367,  368,  369,   -1,   -1, 
-           -1,  373,   -1,  375,  376,   -1,  378,  379,   -1,  381, 
-          382,  383,  384,  257,  258,  259,  260,  261,   -1,   -1, 
-           -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272,  273, 
-          274,  275,  276,  277,  278,   -1,   -1,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,   -1,   -1,  292,   -1, 
-           -1,   -1,   -1,   -1,  298,  299,   -1,  301,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,   -1,  313, 
-          314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343, 
-           -1,  345,   -1,  347,   -1,   -1,   -1,  351,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,   -1,  381,  382,  383, 
-          384,  257,  258,  259,  260,  261,  262,  263,  264,   -1, 
-           -1,  267,  268,  269,  270,  271,   -1,   -1,  274,  275, 
-          276,  277,  278,  279,  280,   -1,   -1,  283,  284,  285, 
-          286,  287,  288,  289,  290,  291,  292,  293,  294,  295, 
-          296,  297,  298,  299,  300,  301,  302,  303,  304,   -1, 
-          306,  307,  308,  309,  310,  311,   -1,   -1,  314,  315, 
-           -1,  317,  318,  319,  320,  321,  322,  323,   -1,   -1, 
-          326,  327,   -1,   -1,   -1,  331,  332,  333,  334,   -1, 
-           -1,   -1,   -1,   -1,  340,   -1,   -1,   -1,   -1,   -1, 
-           -1,  347,  348,   -1,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,   -1,   -1,  363,   -1,   -1, 
-           -1,   -1,   -1,  257,  258,  259,  260,  261,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,  270,  271,   -1,  385, 
-          274,  275,  276,  277,  278,  279,  280,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,  290,  291,  292,  293, 
-          294,  295,  296,  297,  298,  299,  300,  301,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,   -1,   -1, 
-          314,  315,   -1,  317,  318,  319,  320,  321,  322,  323, 
-           -1,   -1,  326,  327,   -1,   -1,   -1,  331,  332,  333, 
-          334,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  347,  348,   -1,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,   -1,   -1,  363, 
-           -1,   -1,   -1,   -1,   -1,  257,  258,  259,  260,  261, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,  270,  271, 
-           -1,  385,  274,  275,  276,  277,  278,  279,  280,   -1, 
-           -1,  283,  284,  285,  286,  287,  288,  289,  290,  291, 
-          292,  293,  294,  295,  296,  297,  298,  299,  300,  301, 
-          302,  303,  304,   -1,  306,  307,  308,   -1,  310,   -1, 
-           -1,   -1,  314,  315,   -1,  317,  318,  319,  320,  321, 
-          322,  323,   -1,   -1,  326,  327,   -1,   -1,   -1,  331, 
-          332,  333,  334,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  347,  348,   -1,  350,  351, 
-          352,  353,  354,  355,  356,  357,  358,  359,  360,   -1, 
-           -1,  363,  364,   -1,   -1,   -1,   -1,  257,  258,  259, 
-          260,  261,  262,  263,  264,   -1,   -1,  267,  268,  269, 
-          270,  271,   -1,  385,  274,  275,  276,  277,  278,  279, 
-          280,   -1,   -1,  283,  284,  285,  286,  287,  288,  289, 
-          290,  291,  292,  293,  294,  295,  296,  297,  298,  299, 
-          300,  301,  302,  303,  304,   -1,  306,  307,   -1,   -1, 
-          310,   -1,   -1,   -1,  314,  315,   -1,  317,  318,  319, 
-          320,  321,  322,  323,   -1,   -1,  326,  327,   -1,   -1, 
-           -1,  331,  332,  333,  334,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  347,  348,   -1, 
-          350,  351,  352,  353,  354,  355,  356,  357,  358,  359, 
-          360,   -1,   -1,  363,  364,   -1,   -1,   -1,   -1,  257, 
-          258,  259,  260,  261,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,  270,  271,   -1,  385,  274,  275,  276,  277, 
-          278,  279,  280,   -1,   -1,  283,  284,  285,  286,  287, 
-          288,  289,  290,  291,  292,  293,  294,  295,  296,  297, 
-          298,  299,  300,  301,  302,  303,  304,   -1,  306,  307, 
-           -1,   -1,  310,   -1,   -1,   -1,  314,  315,   -1,  317, 
-          318,  319,  320,  321,  322,  323,   -1,   -1,  326,  327, 
-           -1,   -1,   -1,  331,  332,  333,  334,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  347, 
-          348,   -1,  350,  351,  352,  353,  354,  355,  356,  357, 
-          358,  359,  360,   -1,   -1,  363,   -1,   -1,   -1,   -1, 
-           -1,   -1,  256,  257,  258,  259,  260,  261,   -1,   -1, 
-           -1,  265,  266,   -1,   -1,   -1,  270,  385,  272,  273, 
-          274,  275,  276,  277,  278,   -1,   -1,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,   -1,   -1,  292,   -1, 
-           -1,   -1,   -1,   -1,  298,  299,  300,  301,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,   -1,  313, 
-          314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343, 
-           -1,  345,   -1,  347,   -1,   -1,   -1,  351,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,   -1,  381,  382,  383, 
-          384,  256,  257,  258,  259,  260,  261,   -1,   -1,   -1, 
-          265,  266,   -1,   -1,   -1,  270,   -1,  272,  273,  274, 
-          275,  276,  277,  278,   -1,   -1,   -1,   -1,  283,  284, 
-          285,  286,  287,  288,  289,   -1,   -1,  292,   -1,   -1, 
-           -1,   -1,   -1,  298,  299,   -1,  301,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,   -1,  313,  314, 
-          315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1, 
-          345,   -1,  347,   -1,   -1,   -1,  351,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,   -1,  381,  382,  383,  384, 
-          256,  257,  258,  259,  260,  261,   -1,   -1,   -1,  265, 
-          266,   -1,   -1,   -1,  270,   -1,  272,  273,  274,  275, 
-          276,  277,  278,   -1,   -1,   -1,   -1,  283,  284,  285, 
-          286,  287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1, 
-           -1,   -1,  298,  299,   -1,  301,  302,  303,  304,   -1, 
-          306,  307,  308,  309,  310,  311,   -1,  313,  314,  315, 
-          316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345, 
-           -1,  347,   -1,   -1,   -1,  351,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  359,   -1,   -1,   -1,   -1,  364,  365, 
-          366,  367,  368,  369,   -1,   -1,   -1,  373,   -1,  375, 
-          376,   -1,  378,  379,   -1,  381,  382,  383,  384,  257, 
-          258,  259,   -1,  261,   -1,   -1,   -1,  265,  266,   -1, 
-           -1,   -1,  270,   -1,  272,  273,  274,  275,  276,  277, 
-          278,   -1,   -1,   -1,   -1,  283,  284,  285,  286,  287, 
-          288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1, 
-           -1,  299,   -1,   -1,  302,  303,  304,   -1,  306,  307, 
-          308,  309,  310,  311,  312,  313,  314,  315,  316,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1, 
-           -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1,  347, 
-           -1,  349,   -1,  351,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366,  367, 
-          368,  369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1, 
-          378,  379,   -1,  381,  382,  383,  384,  385,  257,  258, 
-          259,   -1,  261,   -1,   -1,   -1,  265,  266,   -1,   -1, 
-           -1,  270,   -1,  272,  273,  274,  275,  276,  277,  278, 
-           -1,   -1,   -1,   -1,  283,  284,  285,  286,  287,  288, 
-          289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,   -1, 
-          299,   -1,   -1,  302,  303,  304,   -1,  306,  307,  308, 
-          309,  310,  311,  312,  313,  314,  315,  316,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1,   -1, 
-          339,   -1,   -1,  342,  343,   -1,  345,   -1,  347,   -1, 
-          349,   -1,  351,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          359,   -1,   -1,   -1,   -1,  364,  365,  366,  367,  368, 
-          369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378, 
-          379,   -1,  381,  382,  383,  384,  385,  257,  258,  259, 
-           -1,  261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1, 
-          270,   -1,  272,  273,  274,  275,  276,  277,  278,   -1, 
-           -1,   -1,   -1,  283,  284,  285,  286,  287,  288,  289, 
-           -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299, 
-           -1,   -1,  302,  303,  304,   -1,  306,  307,  308,  309, 
-          310,  311,  312,  313,  314,  315,  316,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339, 
-           -1,   -1,  342,  343,   -1,  345,   -1,  347,   -1,  349, 
-           -1,  351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359, 
-           -1,   -1,   -1,   -1,  364,  365,  366,  367,  368,  369, 
-           -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378,  379, 
-           -1,  381,  382,  383,  384,  385,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,  312,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,  384,  385,  257,  258,  259,   -1,  261, 
-           -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1, 
-          272,  273,  274,  275,  276,  277,  278,   -1,   -1,   -1, 
-           -1,  283,  284,  285,  286,  287,  288,  289,   -1,   -1, 
-          292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1,   -1, 
-          302,  303,  304,   -1,  306,  307,  308,  309,  310,  311, 
-          312,  313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1,   -1, 
-          342,  343,   -1,  345,   -1,   -1,   -1,  349,   -1,  351, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1, 
-           -1,   -1,  364,  365,  366,  367,  368,  369,   -1,   -1, 
-           -1,  373,   -1,  375,  376,   -1,  378,  379,   -1,  381, 
-          382,  383,  384,  385,  257,  258,  259,   -1,  261,   -1, 
-           -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272, 
-          273,  274,  275,  276,  277,  278,   -1,   -1,   -1,   -1, 
-          283,  284,  285,  286,  287,  288,  289,   -1,   -1,  292, 
-           -1,   -1,   -1,   -1,   -1,   -1,  299,   -1,   -1,  302, 
-          303,  304,   -1,  306,  307,  308,  309,  310,  311,  312, 
-          313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342, 
-          343,   -1,  345,   -1,  347,   -1,   -1,   -1,  351,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1, 
-           -1,  364,  365,  366,  367,  368,  369,   -1,   -1,   -1, 
-          373,   -1,  375,  376,   -1,  378,  379,   -1,  381,  382, 
-          383,  384,  385,  257,  258,  259,   -1,  261,   -1,   -1, 
-           -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272,  273, 
-          274,  275,  276,  277,  278,   -1,   -1,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,   -1,   -1,  292,   -1, 
-           -1,   -1,   -1,   -1,   -1,  299,   -1,   -1,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,  312,  313, 
-          314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343, 
-           -1,  345,   -1,   -1,   -1,   -1,   -1,  351,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,   -1,  381,  382,  383, 
-          384,  385,  257,  258,  259,  260,  261,   -1,   -1,   -1, 
-          265,  266,   -1,   -1,   -1,  270,   -1,  272,  273,  274, 
-          275,  276,  277,  278,   -1,   -1,   -1,   -1,  283,  284, 
-          285,  286,  287,  288,  289,   -1,   -1,  292,   -1,   -1, 
-           -1,   -1,   -1,  298,  299,  300,  301,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,   -1,  313,  314, 
-          315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1, 
-          345,   -1,  347,   -1,   -1,   -1,  351,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,   -1,  381,  382,  383,  384, 
-          257,  258,  259,  260,  261,   -1,   -1,   -1,  265,  266, 
-           -1,   -1,   -1,  270,   -1,  272,  273,  274,  275,  276, 
-          277,  278,   -1,   -1,   -1,   -1,  283,  284,  285,  286, 
-          287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1, 
-           -1,  298,  299,   -1,  301,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,   -1,  313,  314,  315,  316, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336, 
-           -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1, 
-          347,   -1,   -1,   -1,  351,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,   -1,  381,  382,  383,  384,  257,  258, 
-          259,   -1,  261,   -1,   -1,   -1,  265,  266,   -1,   -1, 
-           -1,  270,   -1,  272,  273,  274,  275,  276,  277,  278, 
-           -1,   -1,   -1,   -1,  283,  284,  285,  286,  287,  288, 
-          289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,   -1, 
-          299,   -1,   -1,  302,  303,  304,   -1,  306,  307,  308, 
-          309,  310,  311,   -1,  313,  314,  315,  316,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1,   -1, 
-          339,  340,   -1,  342,  343,   -1,  345,   -1,   -1,   -1, 
-           -1,   -1,  351,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          359,   -1,   -1,   -1,   -1,  364,  365,  366,  367,  368, 
-          369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378, 
-          379,   -1,  381,  382,  383,  384,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,  384,  257,  258,  259,   -1,  261,   -1, 
-           -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272, 
-          273,  274,  275,  276,  277,  278,   -1,   -1,   -1,   -1, 
-          283,  284,  285,  286,  287,  288,  289,   -1,   -1,  292, 
-           -1,   -1,   -1,   -1,   -1,   -1,  299,   -1,   -1,  302, 
-          303,  304,   -1,  306,  307,  308,  309,  310,  311,   -1, 
-          313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342, 
-          343,   -1,  345,   -1,  347,   -1,   -1,   -1,  351,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1, 
-           -1,  364,  365,  366,  367,  368,  369,   -1,   -1,   -1, 
-          373,   -1,  375,  376,   -1,  378,  379,   -1,  381,  382, 
-          383,  384,  257,  258,  259,   -1,  261,   -1,   -1,   -1, 
-          265,  266,   -1,   -1,   -1,  270,   -1,  272,  273,  274, 
-          275,  276,  277,  278,   -1,   -1,   -1,   -1,  283,  284, 
-          285,  286,  287,  288,  289,   -1,   -1,  292,   -1,   -1, 
-           -1,   -1,   -1,   -1,  299,   -1,   -1,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,   -1,  313,  314, 
-          315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1, 
-          345,   -1,  347,   -1,   -1,   -1,  351,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,   -1,  381,  382,  383,  384, 
-          257,  258,  259,   -1,  261,   -1,   -1,   -1,  265,  266, 
-           -1,   -1,   -1,  270,   -1,  272,  273,  274,  275,  276, 
-          277,  278,   -1,   -1,   -1,   -1,  283,  284,  285,  286, 
-          287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1, 
-           -1,   -1,  299,   -1,   -1,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,   -1,  313,  314,  315,  316, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336, 
-           -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1, 
-          347,   -1,   -1,   -1,  351,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,   -1,  381,  382,  383,  384,  257,  258, 
-          259,   -1,  261,   -1,   -1,   -1,  265,  266,   -1,   -1, 
-           -1,  270,   -1,  272,  273,  274,  275,  276,  277,  278, 
-           -1,   -1,   -1,   -1,  283,  284,  285,  286,  287,  288, 
-          289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,   -1, 
-          299,   -1,   -1,  302,  303,  304,   -1,  306,  307,  308, 
-          309,  310,  311,   -1,  313,  314,  315,  316,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1,   -1, 
-          339,   -1,   -1,  342,  343,   -1,  345,   -1,  347,   -1, 
-           -1,   -1,  351,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          359,   -1,   -1,   -1,   -1,  364,  365,  366,  367,  368, 
-          369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378, 
-          379,   -1,  381,  382,  383,  384,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,  340, 
-           -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,  384,  257,  258,  259,   -1,  261,   -1, 
-           -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272, 
-          273,  274,  275,  276,  277,  278,   -1,   -1,   -1,   -1, 
-          283,  284,  285,  286,  287,  288,  289,   -1,   -1,  292, 
-           -1,   -1,   -1,   -1,   -1,   -1,  299,   -1,   -1,  302, 
-          303,  304,   -1,  306,  307,  308,  309,  310,  311,   -1, 
-          313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342, 
-          343,   -1,  345,   -1,   -1,   -1,   -1,   -1,  351,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1, 
-           -1,  364,  365,  366,  367,  368,  369,   -1,   -1,   -1, 
-          373,   -1,  375,  376,   -1,  378,  379,   -1,  381,  382, 
-          383,  384,  257,  258,  259,   -1,  261,   -1,   -1,   -1, 
-          265,  266,   -1,   -1,   -1,  270,   -1,  272,  273,  274, 
-          275,  276,  277,  278,   -1,   -1,   -1,   -1,  283,  284, 
-          285,  286,  287,  288,  289,   -1,   -1,  292,   -1,   -1, 
-           -1,   -1,   -1,   -1,  299,   -1,   -1,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,   -1,  313,  314, 
-          315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1, 
-          345,   -1,   -1,   -1,   -1,   -1,  351,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,   -1,  381,  382,  383,  384, 
-          257,  258,  259,   -1,  261,   -1,   -1,   -1,  265,  266, 
-           -1,   -1,   -1,  270,   -1,  272,  273,  274,  275,  276, 
-          277,  278,   -1,   -1,   -1,   -1,  283,  284,  285,  286, 
-          287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1, 
-           -1,   -1,  299,   -1,   -1,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,   -1,  313,  314,  315,  316, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336, 
-           -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1, 
-           -1,   -1,   -1,   -1,  351,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,   -1,  381,  382,  383,  384,  257,  258, 
-          259,   -1,  261,   -1,   -1,   -1,  265,  266,   -1,   -1, 
-           -1,  270,   -1,  272,  273,  274,  275,  276,  277,  278, 
-           -1,   -1,   -1,   -1,  283,  284,  285,  286,  287,  288, 
-          289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,   -1, 
-          299,   -1,   -1,  302,  303,  304,   -1,  306,  307,  308, 
-          309,  310,  311,   -1,  313,  314,  315,  316,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1,   -1, 
-          339,   -1,   -1,  342,  343,   -1,  345,   -1,   -1,   -1, 
-           -1,   -1,  351,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          359,   -1,   -1,   -1,   -1,  364,  365,  366,  367,  368, 
-          369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378, 
-          379,   -1,  381,  382,  383,  384,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,   -1,   -1,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,  384,  257,  258,  259,   -1,  261,   -1, 
-           -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272, 
-          273,  274,  275,  276,  277,  278,   -1,   -1,   -1,   -1, 
-          283,  284,  285,  286,  287,  288,  289,   -1,   -1,  292, 
-           -1,   -1,   -1,   -1,   -1,   -1,  299,   -1,   -1,  302, 
-          303,  304,   -1,  306,  307,  308,  309,  310,  311,   -1, 
-          313,   -1,   -1,  316,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342, 
-          343,   -1,  345,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  364,  365,  366,  367,  368,  369,   -1,   -1,   -1, 
-          373,   -1,  375,  376,   -1,  378,  379,   -1,  381,  382, 
-          383,  384,  257,  258,  259,   -1,  261,   -1,   -1,   -1, 
-          265,  266,   -1,   -1,   -1,  270,   -1,  272,  273,  274, 
-          275,  276,  277,  278,   -1,   -1,   -1,   -1,  283,  284, 
-          285,  286,  287,  288,  289,   -1,   -1,  292,   -1,   -1, 
-           -1,   -1,   -1,   -1,  299,   -1,   -1,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,   -1,  313,   -1, 
-           -1,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1, 
-          345,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,   -1,  381,  382,  383,  384, 
-          257,  258,  259,   -1,  261,   -1,   -1,   -1,  265,  266, 
-           -1,   -1,   -1,  270,   -1,  272,  273,  274,  275,  276, 
-          277,  278,   -1,   -1,   -1,   -1,  283,  284,  285,  286, 
-          287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1, 
-           -1,   -1,  299,   -1,   -1,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,   -1,  313,   -1,   -1,  316, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336, 
-           -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,   -1,  381,  382,  383,  384,  306,  307, 
-           -1,   -1,  310,   -1,   -1,   -1,  314,  315,   -1,  317, 
-          318,  319,  320,  321,  322,  323,   -1,   -1,  326,  327, 
-           -1,   -1,   -1,  331,  332,  333,  334,   -1,   -1,   -1, 
-           -1,   -1,  340,   -1,   -1,   -1,   -1,   -1,   -1,  347, 
-          348,   -1,  350,  351,  352,  353,  354,  355,  356,  357, 
-          358,  359,  360,  306,  307,  363,   -1,  310,   -1,   -1, 
-           -1,  314,  315,   -1,  317,  318,  319,  320,  321,  322, 
-          323,   -1,   -1,  326,  327,   -1,   -1,  385,  331,  332, 
-          333,  334,   -1,   -1,   -1,   -1,   -1,  340,   -1,   -1, 
-           -1,   -1,   -1,   -1,  347,  348,   -1,  350,  351,  352, 
-          353,  354,  355,  356,  357,  358,  359,  360,  306,  307, 
-          363,   -1,  310,   -1,   -1,   -1,  314,  315,   -1,  317, 
-          318,  319,  320,  321,  322,  323,   -1,   -1,  326,  327, 
-           -1,   -1,  385,  331,  332,  333,  334,   -1,   -1,   -1, 
-           -1,   -1,  340,   -1,   -1,   -1,   -1,   -1,   -1,  347, 
-          348,   -1,  350,  351,  352,  353,  354,  355,  356,  357, 
-          358,  359,  360,  306,  307,  363,   -1,  310,   -1,   -1, 
-           -1,  314,  315,   -1,  317,  318,  319,  320,  321,  322, 
-          323,   -1,   -1,  326,  327,   -1,   -1,  385,  331,  332, 
-          333,  334,   -1,   -1,   -1,   -1,   -1,  340,   -1,   -1, 
-           -1,   -1,   -1,   -1,  347,  348,   -1,  350,  351,  352, 
-          353,  354,  355,  356,  357,  358,  359,  360,  306,  307, 
-          363,   -1,  310,   -1,   -1,   -1,  314,  315,   -1,  317, 
-          318,  319,  320,  321,  322,  323,   -1,   -1,  326,  327, 
-           -1,   -1,  385,  331,  332,  333,  334,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  347, 
-          348,   -1,  350,  351,  352,  353,  354,  355,  356,  357, 
-          358,  359,  360,   -1,   -1,  363,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  385, 
-      };
-   }
-
 }
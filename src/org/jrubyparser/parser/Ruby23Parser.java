@@ -1437,7 +1437,7 @@ public class Ruby23Parser implements RubyParser {
       @return token name or <tt>[illegal]</tt> or <tt>[unknown]</tt>.
     */
   public static final String yyName (int token) {
-    if (token < 0 || token > yyNames.length) return "[illegal]";
+    if (token < 0 || token >= yyNames.length) return "[illegal]";
     String name;
     if ((name = yyNames[token]) != null) return name;
     return "[unknown]";
@@ -1486,12 +1486,28 @@ public class Ruby23Parser implements RubyParser {
     return yyparse(yyLex);
   }
 
-  /** initial size and increment of the state/value stack [default 256].
-      This is not final so that it can be overwritten outside of invocations
-      of {@link #yyparse}.
+  /** initial size of the state/value stack [default 256].
+      The stacks double when they fill up and are kept for the next invocation
+      of {@link #yyparse}.  This is not final so that it can be overwritten
+      outside of invocations of {@link #yyparse}.
     */
   protected int yyMax;
 
+  /** state and value stacks, kept between invocations of {@link #yyparse}.
+    */
+  private int[] yyStateStack;
+  private Object[] yyValStack;
+
+  /** how deep the stacks got during the last invocation of {@link #yyparse}.
+    */
+  private int yyDepth;
+
+  /** @return how deep the state/value stacks got during the last parse.
+    */
+  public int yyMaxDepth () {
+    return yyDepth;
+  }
+
   /** executed at the beginning of a reduce action.
       Used as <tt>$$ = yyDefault($1)</tt>, prior to the user-specified action, if any.
       Can be overwritten to provide deep copy, etc.
@@ -1502,6 +1518,116 @@ public class Ruby23Parser implements RubyParser {
     return first;
   }
 
+  /** tokens which get made up when the source ends with something still open while
+      recovering from errors, in the order they are tried, and their text.
+    */
+  private static final int[] yyClosers = { kEND, tRCURLY, tRPAREN, tRBRACK, '\n' };
+  private static final String[] yyCloserTexts = { "end", "}", ")", "]", "\n" };
+
+  /** stands in for the statement an error rule is missing when the source ends right
+      after the error.
+    */
+  private static final int[] yyEmptyStatement = { kNIL, '\n' };
+
+  /** how many tokens may be made up at the end of the source.
+    */
+  private static final int yyMaxInserted = 1000;
+
+  /** set once the lexer failed while recovering from errors (it is at end-of-file since).
+    */
+  private boolean yyLexFailed;
+
+  /** reads the next token; while recovering from errors a failing lexer ends the source.
+      @param yyLex scanner.
+      @return the token, 0 at end-of-file.
+    */
+  private int yyNextToken (Lexer yyLex) throws java.io.IOException {
+    if (yyLexFailed) return 0;
+    try {
+      return yyLex.nextToken();
+    } catch (SyntaxException e) {
+      if (!support.recover(e)) throw e;
+      yyLexFailed = true;
+      return 0;
+    } catch (RuntimeException e) {		// the lexer tripping over broken source
+      if (!support.recoverFrom(e)) throw e;
+      yyLexFailed = true;
+      return 0;
+    }
+  }
+
+  /** computes a goto.
+      @param yyState state uncovered by a reduction.
+      @param yyM nonterminal the reduction produced.
+      @return state to go to.
+    */
+  private static int yyGoto (int yyState, int yyM) {
+    int yyN;
+    if ((yyN = yyGindex[yyM]) != 0 && (yyN += yyState) >= 0
+        && yyN < yyTable.length && yyCheck[yyN] == yyState)
+      return yyTable[yyN];
+    return yyDgoto[yyM];
+  }
+
+  /** runs the tables, without any actions, to see what reading some tokens would do.
+      The state stack is left alone, what would get pushed goes on a small stack of its own.
+      @param yyStates state stack below yyTop.
+      @param yyTop where yyState is on the stack.
+      @param yyState current state.
+      @param yyTokens to read one after the other.
+      @param yyFloor stack entry to watch, -1 for none.
+      @return -1 if all of yyTokens get shifted (or end-of-file accepted), 0 if one of
+              them is a syntax error, else the first rule which reduces the entry at yyFloor.
+    */
+  private static int yyTry (int[] yyStates, int yyTop, int yyState, int[] yyTokens, int yyFloor) {
+    int yyLow = yyTop;				// entries from here up are in yyS
+    int[] yyS = { yyState, 0, 0, 0, 0, 0, 0, 0 };
+    for (int yyToken: yyTokens) {
+      for (;;) {
+        int yyN;
+        if ((yyN = yyDefRed[yyState]) == 0) {
+          if ((yyN = yySindex[yyState]) != 0 && (yyN += yyToken) >= 0
+              && yyN < yyTable.length && yyCheck[yyN] == yyToken) {
+            yyState = yyTable[yyN];
+            break;
+          }
+          if ((yyN = yyRindex[yyState]) != 0 && (yyN += yyToken) >= 0
+              && yyN < yyTable.length && yyCheck[yyN] == yyToken)
+            yyN = yyTable[yyN];
+          else
+            return 0;
+        }
+        yyTop -= yyLen[yyN];
+        if (yyTop < yyFloor) return yyN;
+        int yyUncovered = yyTop < yyLow ? yyStates[yyTop] : yyS[yyTop - yyLow];
+        if (yyUncovered == 0 && yyLhs[yyN] == 0) return yyToken == 0 ? -1 : 0;
+        yyState = yyGoto(yyUncovered, yyLhs[yyN]);
+        if (yyTop < yyLow) yyLow = yyTop + 1;
+        yyS = yyPush(yyS, ++ yyTop - yyLow, yyState);
+      }
+      yyS = yyPush(yyS, ++ yyTop - yyLow, yyState);
+    }
+    return -1;
+  }
+
+  private static int[] yyPush (int[] yyS, int yyI, int yyState) {
+    if (yyI == yyS.length) {
+      int[] i = new int[yyS.length*2];
+      System.arraycopy(yyS, 0, i, 0, yyS.length);
+      yyS = i;
+    }
+    yyS[yyI] = yyState;
+    return yyS;
+  }
+
+  /** @return index into yyClosers of the first one which would get shifted, or -1.
+    */
+  private static int yyCloser (int[] yyStates, int yyTop, int yyState) {
+    for (int i = 0; i < yyClosers.length; ++ i)
+      if (yyTry(yyStates, yyTop, yyState, new int[] { yyClosers[i] }, -1) == -1) return i;
+    return -1;
+  }
+
   /** the generated parser.
       Maintains a dynamic state and value stack.
       @param yyLex scanner.
@@ -1510,20 +1636,40 @@ public class Ruby23Parser implements RubyParser {
     */
   public Object yyparse (Lexer yyLex) throws java.io.IOException {
     if (yyMax <= 0) yyMax = 256;			// initial size
-    int yyState = 0, yyStates[] = new int[yyMax];	// state stack
-    Object yyVal = null, yyVals[] = new Object[yyMax];	// value stack
+    if (yyStateStack == null || yyStateStack.length < yyMax) {
+      yyStateStack = new int[yyMax];
+      yyValStack = new Object[yyMax];
+    }
+    yyDepth = 0;
+    yyLexFailed = false;
+    try {
+      return yyparse(yyLex, yyStateStack, yyValStack);
+    } finally {
+      // only the part of the value stack this parse used can still refer to its values
+      java.util.Arrays.fill(yyValStack, 0, yyDepth, null);
+    }
+  }
+
+  private Object yyparse (Lexer yyLex, int[] yyStates, Object[] yyVals)
+				throws java.io.IOException {
+    int yyState = 0;					// state
+    Object yyVal = null;				// value
     int yyToken = -1;					// current input
     int yyErrorFlag = 0;				// #tokens to shift
+    boolean yyRecovering = support.getConfiguration().isErrorRecovery();
+    boolean yyStuck = false;				// input cannot be shifted, do not reduce
+    int yyInserted = 0;				// #tokens made up at end-of-file
 
     yyLoop: for (int yyTop = 0;; ++ yyTop) {
       if (yyTop >= yyStates.length) {			// dynamically increase
-        int[] i = new int[yyStates.length+yyMax];
+        int[] i = new int[yyStates.length*2];
         System.arraycopy(yyStates, 0, i, 0, yyStates.length);
-        yyStates = i;
-        Object[] o = new Object[yyVals.length+yyMax];
+        yyStates = yyStateStack = i;
+        Object[] o = new Object[yyVals.length*2];
         System.arraycopy(yyVals, 0, o, 0, yyVals.length);
-        yyVals = o;
+        yyVals = yyValStack = o;
       }
+      if (yyTop >= yyDepth) yyDepth = yyTop + 1;
       yyStates[yyTop] = yyState;
       yyVals[yyTop] = yyVal;
       if (yydebug != null) yydebug.push(yyState, yyVal);
@@ -1533,9 +1679,11 @@ public class Ruby23Parser implements RubyParser {
         if ((yyN = yyDefRed[yyState]) == 0) {	// else [default] reduce (yyN)
           if (yyToken < 0) {
 //            yyToken = yyLex.advance() ? yyLex.token() : 0;
-            yyToken = yyLex.nextToken();
+            yyToken = yyNextToken(yyLex);
             if (yydebug != null)
               yydebug.lex(yyState, yyToken, yyName(yyToken), yyLex.value());
+            // while recovering report errors before any reductions, so the error rules can see them
+            yyStuck = yyRecovering && yyTry(yyStates, yyTop, yyState, new int[] { yyToken }, -1) == 0;
           }
           if ((yyN = yySindex[yyState]) != 0 && (yyN += yyToken) >= 0
               && yyN < yyTable.length && yyCheck[yyN] == yyToken) {
@@ -1547,18 +1695,29 @@ public class Ruby23Parser implements RubyParser {
             if (yyErrorFlag > 0) -- yyErrorFlag;
             continue yyLoop;
           }
-          if ((yyN = yyRindex[yyState]) != 0 && (yyN += yyToken) >= 0
+          if (!yyStuck && (yyN = yyRindex[yyState]) != 0 && (yyN += yyToken) >= 0
               && yyN < yyTable.length && yyCheck[yyN] == yyToken)
             yyN = yyTable[yyN];			// reduce (yyN)
-          else
+          else if (yyRecovering && yyToken == 0 && yyInserted < yyMaxInserted
+              && (yyN = yyCloser(yyStates, yyTop, yyState)) >= 0) {
+            // the source ended with something still open: close it and carry on
+            if (yyInserted ++ == 0 && yyErrorFlag == 0)
+              support.yyerror("syntax error", yyExpecting(yyState), yyName(yyToken));
+            yyLex.setValue(new Token(yyCloserTexts[yyN], yyClosers[yyN], yyLex.getPosition()));
+            yyToken = yyClosers[yyN];
+            yyStuck = false;
+            continue yyDiscarded;
+          } else
             switch (yyErrorFlag) {
   
             case 0:
-              support.yyerror("syntax error", yyExpecting(yyState), yyNames[yyToken]);
+              if (yyToken != 0 || yyInserted == 0)	// once is enough for a missing end
+                support.yyerror("syntax error", yyExpecting(yyState), yyName(yyToken));
               if (yydebug != null) yydebug.error("syntax error");
   
             case 1: case 2:
               yyErrorFlag = 3;
+              int yyFailed = yyTop;
               do {
                 if ((yyN = yySindex[yyStates[yyTop]]) != 0
                     && (yyN += yyErrorCode) >= 0 && yyN < yyTable.length
@@ -1566,17 +1725,38 @@ public class Ruby23Parser implements RubyParser {
                   if (yydebug != null)
                     yydebug.shift(yyStates[yyTop], yyTable[yyN], 3);
                   yyState = yyTable[yyN];
-                  yyVal = yyLex.value();
+                  // the error stands for what got popped so what parsed fine before it is kept
+                  yyVal = yyTop < yyFailed && yyVals[yyTop + 1] instanceof Node ? yyVals[yyTop + 1] : null;
+                  yyStuck = yyTry(yyStates, yyTop + 1, yyState, new int[] { yyToken }, -1) == 0;
                   continue yyLoop;
                 }
                 if (yydebug != null) yydebug.pop(yyStates[yyTop]);
               } while (-- yyTop >= 0);
               if (yydebug != null) yydebug.reject();
+              if (yyRecovering) {
+                support.salvage(yyVals, yyFailed);
+                return null;
+              }
               support.yyerror("irrecoverable syntax error");
   
             case 3:
               if (yyToken == 0) {
                 if (yydebug != null) yydebug.reject();
+                if (yyRecovering) {
+                  // the source ended right after an error: reduce its rule as if the rest was empty
+                  if (yyInserted < yyMaxInserted
+                      && (yyN = yyTry(yyStates, yyTop, yyState, yyEmptyStatement, yyTop)) > 0) {
+                    ++ yyInserted;
+                    yyErrorFlag = 0;
+                    yyVal = yyVals[yyTop + 2 - yyLen[yyN]];
+                    yyTop += 1 - yyLen[yyN];
+                    yyState = yyGoto(yyStates[yyTop], yyLhs[yyN]);
+                    yyStuck = yyTry(yyStates, yyTop + 1, yyState, new int[] { yyToken }, -1) == 0;
+                    continue yyLoop;
+                  }
+                  support.salvage(yyVals, yyTop);
+                  return null;
+                }
                 support.yyerror("irrecoverable syntax error at end-of-file");
               }
               if (yydebug != null)
@@ -1593,7 +1773,15 @@ public class Ruby23Parser implements RubyParser {
         if (state == null) {
             yyVal = yyDefault(yyV > yyTop ? null : yyVals[yyV]);
         } else {
-            yyVal = state.execute(support, lexer, yyVal, yyVals, yyTop);
+            try {
+              yyVal = state.execute(support, lexer, yyVal, yyVals, yyTop);
+            } catch (SyntaxException e) {
+              if (!support.recover(e)) throw e;
+              yyVal = null;
+            } catch (RuntimeException e) {		// an action tripping over broken source
+              if (!support.recoverFrom(e)) throw e;
+              yyVal = null;
+            }
         }
 //        switch (yyN) {
 // ACTIONS_END
@@ -1605,7 +1793,7 @@ public class Ruby23Parser implements RubyParser {
           if (yydebug != null) yydebug.shift(0, yyFinal);
           yyState = yyFinal;
           if (yyToken < 0) {
-            yyToken = yyLex.nextToken();
+            yyToken = yyNextToken(yyLex);
 //            yyToken = yyLex.advance() ? yyLex.token() : 0;
             if (yydebug != null)
                yydebug.lex(yyState, yyToken,yyName(yyToken), yyLex.value());
@@ -1674,7 +1862,7 @@ states[6] = new ParserState() {
 };
 states[7] = new ParserState() {
   public Object execute(ParserSupport support, Lexer lexer, Object yyVal, Object[] yyVals, int yyTop) {
-                    yyVal = ((Node)yyVals[0+yyTop]);
+                    yyVal = support.appendToBlock(((Node)yyVals[-1+yyTop]), support.newline_node(((Node)yyVals[0+yyTop]), support.getPosition(((Node)yyVals[0+yyTop]), true)));
     return yyVal;
   }
 };
@@ -1734,7 +1922,7 @@ states[15] = new ParserState() {
 };
 states[16] = new ParserState() {
   public Object execute(ParserSupport support, Lexer lexer, Object yyVal, Object[] yyVals, int yyTop) {
-                    yyVal = ((Node)yyVals[0+yyTop]);
+                    yyVal = support.appendToBlock(((Node)yyVals[-1+yyTop]), support.newline_node(((Node)yyVals[0+yyTop]), support.getPosition(((Node)yyVals[0+yyTop]), true)));
     return yyVal;
   }
 };
@@ -3791,7 +3979,7 @@ states[429] = new ParserState() {
 states[430] = new ParserState() {
   public Object execute(ParserSupport support, Lexer lexer, Object yyVal, Object[] yyVals, int yyTop) {
                     /* FIXME: We may be intern'ing more than once.*/
-                    yyVal = new SymbolNode(((Token)yyVals[0+yyTop]).getPosition(), ((String) ((Token)yyVals[0+yyTop]).getValue()).intern());
+                    yyVal = new SymbolNode(((Token)yyVals[0+yyTop]).getPosition(), support.getSymbolTable().intern((String) ((Token)yyVals[0+yyTop]).getValue()));
     return yyVal;
   }
 };
@@ -4096,7 +4284,7 @@ states[478] = new ParserState() {
                      } else if (((Node)yyVals[-1+yyTop]) instanceof DStrNode) {
                          yyVal = new DSymbolNode(support.union(((Token)yyVals[-2+yyTop]), ((Token)yyVals[0+yyTop])), ((DStrNode)yyVals[-1+yyTop]));
                      } else if (((Node)yyVals[-1+yyTop]) instanceof StrNode) {
-                         yyVal = new SymbolNode(support.union(((Token)yyVals[-2+yyTop]), ((Token)yyVals[0+yyTop])), ((StrNode)yyVals[-1+yyTop]).getValue().toString().intern());
+                         yyVal = new SymbolNode(support.union(((Token)yyVals[-2+yyTop]), ((Token)yyVals[0+yyTop])), support.getSymbolTable().intern(((StrNode)yyVals[-1+yyTop]).getValue()));
                      } else {
                          SourcePosition position = support.union(((Node)yyVals[-1+yyTop]), ((Token)yyVals[0+yyTop]));
 
@@ -4739,9 +4927,18 @@ states[605] = new ParserState() {
             }
         }
         //yyparse(lexer, new jay.yydebug.yyAnim("JRuby", 9));
-        yyparse(lexer, debugger);
-        
-        return support.getResult();
+        try {
+            yyparse(lexer, debugger);
+
+            ParserResult result = support.getResult();
+            result.setStackDepth(yyMaxDepth());
+
+            return result;
+        } finally {
+            // Parsers get reused (see ParserSession) so let go of this parse's source and AST
+            lexer.reset();
+            support.reset();
+        }
     }
 }
 					// line 8797 "-"
@@ -325,7 +325,7 @@ top_stmts     : none
                     $$ = support.appendToBlock($1, support.newline_node($3, support.getPosition($3, true)));
               }
               | error top_stmt {
-                    $$ = $2;
+                    $$ = support.appendToBlock($<Node>1, support.newline_node($2, support.getPosition($2, true)));
               }
 
 top_stmt      : stmt
@@ -369,7 +369,7 @@ stmts           : none
                     $$ = support.appendToBlock($1, support.newline_node($3, support.getPosition($3, true)));
                 }
                 | error stmt {
-                    $$ = $2;
+                    $$ = support.appendToBlock($<Node>1, support.newline_node($2, support.getPosition($2, true)));
                 }
 
 stmt_or_begin   : stmt {
@@ -1643,7 +1643,7 @@ literal         : numeric {
                 }
                 | symbol {
                     // FIXME: We may be intern'ing more than once.
-                    $$ = new SymbolNode($1.getPosition(), ((String) $1.getValue()).intern());
+                    $$ = new SymbolNode($1.getPosition(), support.getSymbolTable().intern((String) $1.getValue()));
                 }
                 | dsym
 
@@ -1853,7 +1853,7 @@ dsym            : tSYMBEG xstring_contents tSTRING_END {
                      } else if ($2 instanceof DStrNode) {
                          $$ = new DSymbolNode(support.union($1, $3), $<DStrNode>2);
                      } else if ($2 instanceof StrNode) {
-                         $$ = new SymbolNode(support.union($1, $3), $<StrNode>2.getValue().toString().intern());
+                         $$ = new SymbolNode(support.union($1, $3), support.getSymbolTable().intern($<StrNode>2.getValue()));
                      } else {
                          SourcePosition position = support.union($2, $3);
 
@@ -2294,8 +2294,17 @@ none_block_pass : /* none */ {
             }
         }
         //yyparse(lexer, new jay.yydebug.yyAnim("JRuby", 9));
-        yyparse(lexer, debugger);
-        
-        return support.getResult();
+        try {
+            yyparse(lexer, debugger);
+
+            ParserResult result = support.getResult();
+            result.setStackDepth(yyMaxDepth());
+
+            return result;
+        } finally {
+            // Parsers get reused (see ParserSession) so let go of this parse's source and AST
+            lexer.reset();
+            support.reset();
+        }
     }
 }
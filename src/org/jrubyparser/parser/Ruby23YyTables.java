@@ -1,4121 +1,14 @@
 package org.jrubyparser.parser;
 
 public class Ruby23YyTables {
-   private static short[] combine(short[] t1, short[] t2, 
-                                  short[] t3, short[] t4) {
-      short[] t = new short[t1.length + t2.length + t3.length + t4.length];
-      int index = 0;
-      System.arraycopy(t1, 0, t, index, t1.length);
-      index += t1.length;
-      System.arraycopy(t2, 0, t, index, t2.length);
-      index += t2.length;
-      System.arraycopy(t3, 0, t, index, t3.length);
-      index += t3.length;
-      System.arraycopy(t4, 0, t, index, t4.length);
-      return t;
-   }
+   // yyTable and yyCheck, from the binary resource bin/patch_parser.rb writes next to this class
+   private static final short[][] tables = YyTables.load(Ruby23YyTables.class, "Ruby23YyTables.tables", 2);
 
    public static final short[] yyTable() {
-      return combine(yyTable1(), yyTable2(), yyTable3(), yyTable4());
+      return tables[0];
    }
 
    public static final short[] yyCheck() {
-      return combine(yyCheck1(), yyCheck2(), yyCheck3(), yyCheck4());
-   }
-   private static final short[] yyTable1() {
-      return new short[] {
-
-           97,  287,  384,  290,  289,  284,  344,  246,  249,  393, 
-          534,   89,   89,  127,  127,  657,  614,   89,  240,  240, 
-          240,  209,  436,  256,  240,  240,  543,  320,  240,  126, 
-          126,  669,  675,  223,  644,  601,  458,  103,  103,  126, 
-           84,   84,  110,  103,  739,  305,  309,   83,  593,  687, 
-          210,  210,  687,  223,   89,  240,  591,  539,  314,  225, 
-          240,  604,  270,  270,  642,  592,  270,  326,  274,  274, 
-          593,  210,  274,  493,  126,  688,  494,  560,  536,  225, 
-          103,  383,  910,  664,  748,  397,  252,  273,  273,  913, 
-          534,  273,  401,  399,  406,  283,  210,  678,   83,  597, 
-          307,  310,  605,    8,  316,  610,  543,  535,  543,  314, 
-          688,  560,  536,    8,  839,  777,  604,  248,  750,  306, 
-          841,  604,  365,  604,  279,  126,  560,  536,  248,  552, 
-          240,  643,   89,  286,  286,  565,  856,  798,  697,  483, 
-          396,  535,  543,  371,   86,  248,  321,  282,  597,  300, 
-          605,  807,  707,  432,  988,  106,  535,  543,  103,  971, 
-          529,   72,    8,  552,  643,  604,  247,  248,  965,  446, 
-          604,  365,  604,  604,   74,  728,  286,  247,  552,  342, 
-          817,  248,  252,  398,  565,  867,  490,  292,  605,  283, 
-          297,  874,  371,  286,  247,  321,  342,  299,  643,  713, 
-          410,  718,  534,   97,  106,  398,  385,  480,   86,  529, 
-          529,  425,  529,  386,  741,  803,  247,  288,  543,  643, 
-          489,  291,  497, 1000,  252,   72,  913,  501,  458,  529, 
-          247,  988,  621,  358,  254,  351,  291,   97,   89,   89, 
-          604,  933,  296,  378,  729,  710,  971,  471,  253,  722, 
-          441,  442,   73,  356,   97,  291,  282,  776, 1025,  529, 
-          343,  801,  240,  240,  103,  103,  424,  419,  782,  359, 
-          291,  354,  490,  357,  352,  299,  355,  343,  353,  286, 
-          464,  529,  437,  386,  291,  331,  687,  687,  240,  604, 
-          240,  240,  514,  599,  240,   53,  240,  542,  882,  839, 
-          386,   89,  291,   71,  350,  351,  492,   89,  252,  841, 
-          688,  599,  785, 1002,  472,  473,   83,  839,  380,  402, 
-          534,  627,  314,  593,  252,  381,  270,  103,  270,  270, 
-          593,  542,  274,  103,  274,  743,  543,  565,  126,  927, 
-          593,  514,  560,  561,  562,  563,  542,  937,  652,  793, 
-          656,  273,  941,  273,  240,  240,  240,  240,   89,  240, 
-          240,  656,  333,  438,  611,  770,  615,  780,  744,  593, 
-          625,  629,  560,  536,  382,  604,  604,  604,   83,   72, 
-          337,  464,  604,  641,  103,  427,  565,  564,  672,  339, 
-          718,  826,  240,  614,  839,  604,  388,  240,  906,  240, 
-           89,  314,  300,  240,  240,  534,   89,  534,  560,  536, 
-          464,  497,  106,  407,  350,  351,  389,  126,  591,  655, 
-          658,  240,  390,   89,  240,  560,  103,  592,  606,  464, 
-          270,  606,  103,  395,   89,   84,  631,   89,  427,  394, 
-          240,  560,  536,  464,  478,   89,  804,  623,  811,  103, 
-          299,  695,  604,  418,  240,  535,  543,  606,  607,  270, 
-          103,   99,  620,  103,  286,    8,  620, 1022,  604,  815, 
-          365,  103,   97,  291,   18,   97,  606,  552,  270, 1017, 
-          291,  412,  635,  565,  240,  581,   89,  607,   97,   75, 
-          606,  371,  270,  620,  604,  300,  958,  960,  464,  718, 
-          223,  718,  687,  950,  604,   74,  607,  686,  283,  240, 
-          670,  314,  103,  408,  880,   84,  674,  674,  210,  605, 
-          607,  291,  605,  285,  606,  688,  225,  126,  291,  291, 
-          285,  497,  404,  581,   97,  291,  405,  503,  504,  291, 
-           75,  529,  703,  299,  506,  606,  291,  270,  288,  108, 
-          604,  581,  503,  504,  607,  252,  747,  747,  252,  506, 
-          529,  100,  534,  896,  358,  254,  351,  749,  254,  291, 
-          825,  991,  732,  734,  811,  607,  756,  291,  543,  253, 
-          660,  754,  253,   73,  356,  718,  967,  514,  668,  760, 
-          421,  747,  542,   81,  763,  291,  534,   79,  108,  604, 
-          359,  422,  354,  762,  357,  352,  994,  355,  762,  353, 
-          100,  604,  426,  816,  531,  532,   76,  756,  503,  504, 
-          508,  604,  423,  514,  518,  506,  433,  784,  542,  519, 
-          283,  314,  565,  775,   84,  265,  682,  434,  718,  756, 
-          718,  762,  497,  604,   81,  240,   89,  126,   79,   97, 
-          422,  435,  788,  756,  438,  792,  514,   89,  658,  604, 
-           89,  542,  604,  604,  783,   89,  658,   76,  565,  440, 
-          604,  753,  103,  643,  957,  718,  223,  443,  808,  759, 
-          497,  447,  756,  103,  759,   84,  103,  453,  454,   84, 
-          240,  103,  604,  210,  210,  876,  108,  830,  109,  109, 
-          604,  565,  225,  457,  109,  109,  109,  109,  604,  774, 
-          352,  109,  109,  314,  753,  109,  556,  759,  380,  830, 
-           89,  557,  781,  106,  286,  411,   91,  863,  865,  126, 
-          421,  421,  469,  870,  872,  454,  421,   89,   89,  481, 
-          454,  109,  109,  615,  812,  283,  103,  109,  485,  604, 
-          487,  456,  283,  477,  484,   89,  456,   89,   75,   89, 
-          240,  240,  482,  103,  103,  488,  240,  240,  503,  504, 
-          505,  747,  291,  497,  382,  506,  240,  495,  604,  291, 
-          314,  103,  496,  103,  581,  103,   93,   93,  128,  128, 
-          898,   77,   93,  503,  504,  891,  126,  604,  257,   89, 
-          506,  283,  240,  511,  955,   92,  108,  604,  789,  502, 
-          513,  126,  517,   89,   89,   89,  624,  109,  100,  109, 
-           75,  552,  555,  632,  830,  103,  475,  604,  291,   93, 
-          651,   99,  520,  315,  521,  522,  523,  524,  656,  103, 
-          103,  103,   77,  671,  946,  661,  604,  690,   82,  691, 
-          884,  692,  498,  503,  504,  508,  930,  704,  422,  584, 
-          506,  698,   81,  818,  917,   99,   79,  283,  921,  923, 
-           95,  925,  126,  926,  283,  715,  723,  240,  604,  497, 
-          835,  836,   99,  674,  315,   76,  497,  724,  503,  504, 
-          510,   89,   89,  584,   80,  506,  604,  604,  859,   82, 
-          860,  658,  862,   84,   95,   89,  689,   93,  584,  238, 
-          238,  238,  283,  725,  693,  694,  604,  103,  103,  726, 
-          731,   95,  733,  283,   81,  109,  109,  735,   79,  422, 
-          701,  103,   98,  702,   93,  497,  737,  976,  738,  742, 
-          584,  751,  897,  767, 1003,   80,  302,   76,  768,  109, 
-          109,  584,  464,  126,  604,  752,  903,  904,  905,  604, 
-           89,  100,  757,  240,  758,   84,   89,  771,   93,  756, 
-           61,   62,   89,   63,   64,  109,  778,  109,  109,  292, 
-          431,  109,  790,  109,  102,   93,  103,  796,  109,  786, 
-          797,  799,  103,  800,  109,  802,  658,  814,  103,  606, 
-          104,  270,  827, 1004, 1006, 1007, 1008,  861,   78,  868, 
-          497,  869,  445,   93,   93,  412,  885,  497,   94,  887, 
-          846,  403,  521,  522,  523,  524,  847,  889,  899,  607, 
-          900,  526,  604,  102,  949,  901,  907,  604,  908,  604, 
-          101,  109,  109,  109,  109,  109,  109,  109,  956,  104, 
-          911,  604,   94,  527,   91,  604,  604,  431, 1032,   78, 
-           77,  529,  530,  531,  532,  412,  497,  914,  769,   94, 
-          915,  104,  104,  129,  129,  129,   93,  104,  916,  109, 
-          918,  584,   93,  261,  109,   96,  109,  109,   91,  498, 
-          109,  109,  779,  109,  500,  352,  498,  315,  919,  580, 
-           99,  533,  270,  920,  922,   91,  924,  928,  109,  998, 
-          109,  109,  270,  943,  104,  999,  931,   82,  317,   96, 
-          934,  109,   77,  936,  109,  938,  367,  109,  940,  584, 
-          369,  370,  109,   93,  942,  497,   96,  101,  945,   95, 
-          584,  109,  952,  813,  954,  498,  265,  271,  277,  283, 
-          961,  278,  964,  238,  238,  962,  283,  103,  503,  504, 
-          514,  270,   99,   80,  977,  506,  581,  107,  828,  317, 
-          981,  109,  989,  109,  990,   93,  315,  584, 1001,   82, 
-         1005,   93, 1011, 1013,  584,  468,  101,  470,  584,  580, 
-         1015, 1021,  104, 1018, 1024,  584,  109, 1034,   93,  591, 
-          580,   95,   92,   93,  412,  283,  103,  584,  604,   93, 
-          584,  593,   93,  412,  604,  592,  292,  380,  498,  597, 
-           93,  584,  593,  292,  430,   80,  837,  886,  840,  525, 
-          593,  597,   95,  584,  526,  604,   92,  599,  580,  848, 
-          593,  102,  417,  451,  584,  238,  238,  238,  238,  380, 
-          565,  566,  412,   92,  412,  341,  444,  104,  329,  412, 
-          554,   93,  132,   96,   96,   93,  531,  532, 1023,   96, 
-          584,  909,  292,  382,  212,  258,  659,   78,  764,  584, 
-          838,  851,  951,  498,  983,  412,  315,   94,  580,  843, 
-          984,  604,  875,  259,  380,  997,  966,  186,  104,  104, 
-          824,  479,  412, 1026,  533,  382,   96,    0,  412,  412, 
-          105,  105,  130,  130,  130,  645,  105,    0,  584,    0, 
-            0,   93,  262,   91,    0,  584,    0,  503,  504,  553, 
-          580,  380,  109,  109,  506,  412,  580,    0,  499,   78, 
-          604,    0,    0,  580,  109,    0,  186,  109,  580,   94, 
-          382,  584,  109,  105,   96,  581,    0,  318,  412,    0, 
-          105,  104,    0,    0,  270,  270,  270,  104,  412,  580, 
-          270,  270,  497,  270,  584,  696,    0,  109,    0,  497, 
-            0,  380,  317,    0,   96,   91,    0,  382,  953,  107, 
-            0,    0,  580,    0,  101,  270,  270,  270,  270,  270, 
-            0,    0,    0,  581,    0,    0,  315,  109,  318,  105, 
-          581,  459,    0,  462,  103,  581,   96,  973,  104,    0, 
-            0,   93,    0,    0,  109,  109,    0,  580,  497,  982, 
-          179,  105,   93,  986,    0,   93,  581,  382,  107,    0, 
-           93,  581,  109,  270,  109,    0,  109,  109,  109,    0, 
-          380,    0,    0,  109,  109,  498,    0,  978,    0,  581, 
-          104,  317,  498,  109,  270,    0,  104,  104,  584,    0, 
-          292,   92,    0,  819,  820,  580,  821,    0,    0,  179, 
-            0,    0,  580,  104,    0,    0,  109,  580,  315,  109, 
-           96,   96,    0,  189,  104,   93,  823,  104,    0,    0, 
-          109,  109,  109,    0,    0,  104,  382,    0,  580,    0, 
-         1029,  498,   93,   93,    0,    0,  584,    0,    0,    0, 
-          498,    0,    0,  584,    0,    0,    0,  498,  580,    0, 
-           93,  580,   93,   92,   93,    0,  238,  105,  105,    0, 
-           59,   60,  189,  604,  604,  604,  104,    0,    0,  584, 
-          604,   98,    0,   96,    0,  315,  102,  412,  520,   96, 
-          521,  522,  523,  524,  109,  174,    0,    0,    0,    0, 
-          892,  317,  584,  509,   93,  512,  498,  515,  109,  109, 
-            0,  238,    0,  515,    0,   98,    0,    0,   93,   93, 
-           93,   17,  109,  186,    0,  186,  186,  186,  186,  186, 
-          105,    0,   98,    0,  186,  412,  105,    0,    0,    0, 
-           96,    0,  412,    0,  174,  491,    0,  105,  460,  460, 
-          460,  318,  491,    0,    0,  460,  186,  186,    0,    0, 
-          581,  128,  292,    0,  186,  186,  186,  186,  412,    0, 
-           17,  442,  442,  442,  847,    0,  107,  109,  442,  526, 
-          109,  619,   96,  109,    0,    0,    0,  105,   96,  109, 
-            0,  412,  448,  448,  448,    0,   93,   93,  520,  448, 
-          521,  522,  523,  524,  186,   96,    0,    0,  581,    0, 
-           93,  531,  532,    0,    0,  581,   96,    0,    0,   96, 
-          581,  317,    0,  238,    0,    0,  509,   96,    0,  105, 
-          318,  716,    0,    0,    0,  105,  104,  292,    0,  717, 
-            0,  581,  128,    0,  292,    0,    0,  104,    0,  533, 
-          104,    0,  105,    0,    0,  104,  179,    0,  179,  179, 
-          179,  179,  179,  105,  581,   93,  105,  179,   96,    0, 
-            0,   93,    0,    0,  105,    0,    0,   93,  490,  520, 
-            0,  521,  522,  523,  524,  490,    0,    0,    0,  179, 
-          179,  714,    0,  292,  308,    0,    0,  179,  179,  179, 
-          179,    0,    0,  317,    0,    0,    0,   43,    0,    0, 
-          104,    0,  716,    0,    0,  105,  156,   43,    0,  189, 
-          912,  189,  189,  189,  189,  189,    0,  104,  104,  714, 
-          189,  520,    0,  521,  522,  523,  524,  179,    0,    0, 
-          318,  492,    0,    0,    0,  104,    0,  104,  492,  104, 
-           98,    0,  189,  189,  968,    0,  521,  522,  523,  524, 
-          189,  189,  189,  189,  716,  156,   43,    0,    0,    0, 
-          317,    0,    0,   17,   17,   17,    0,    0,    0,   17, 
-           17,    0,   17,    0,   94,  894,    0,    0,    0,  104, 
-            0,  174,    0,  174,  174,  174,  174,  174,    0,  292, 
-          189,    0,  174,  104,  104,  104,  292,    0,  591,  591, 
-          591,    0,   98,  493,  591,  591,    0,  591,   16,    0, 
-          493,    0,    0,    0,  174,  174,  352,    0,   96,    0, 
-            0,  580,  174,  174,  174,  174,    0,    0,    0,   96, 
-            0,    0,   96,    0,    0,    0,  129,   96,    0,    0, 
-            0,    0,   17,    0,    0,  292,    0,  367,    0,    0, 
-          318,  369,  370,  371,  372,  269,  269,   16,    0,  269, 
-            0,    0,  174,   17,  520,  105,  521,  522,  523,  524, 
-          525,  104,  104,    0,    0,  526,  105,  591,    0,  105, 
-            0,  293,  295,    0,  105,  104,    0,  269,  269,    0, 
-          319,  321,   96,    0,    0,    0,    0,  527,  591,  448, 
-          449,  450,    0,    0,  452,  529,  530,  531,  532,   96, 
-           96,  345,  346,  347,  348,  349,    0,  129,    0,  592, 
-          592,  592,    0,    0,    0,  592,  592,   96,  592,   96, 
-            0,   96,  318,    0,    0,    0,    0,    0,    0,  105, 
-          104,    0,    0,    0,  844,  533,  104,  844,  619,    0, 
-            0,    0,  104,  855,    0,    0,  105,  105,    0,   43, 
-           43,   43,    0,    0,    0,   43,   43,  893,   43,  605, 
-            0,   96,    0,    0,  105,    0,  105,    0,  105,  605, 
-            0,    0,    0,    0,    0,   96,   96,   96,    0,    0, 
-           43,   43,   43,   43,   43,    0,    0,    0,  592,  318, 
-            0,    0,  156,    0,  156,  156,  156,  156,  156,  103, 
-          580,    0,    0,  156,  895,    0,    0,    0,  105,  592, 
-            0,    0,    0,    0,  495,    0,  618,    0,  605,    0, 
-          628,  495,  105,  105,  105,  156,  156,    0,   43,    0, 
-          273,    0,    0,  156,  156,  156,  156,    0,    0,    0, 
-          273,    0,    0,    0,   96,    0,    0,  653,  580,   43, 
-           16,   16,   16,   96,   96,  580,   16,   16,    0,   16, 
-          580,    0,    0,    0,  618,  130,    0,   96,    0,    0, 
-            0,    0,    0,  156,  266,    0,    0,    0,    0,  683, 
-          685,  580,  497,  308,    0,    0,    0,    0,    0,  273, 
-            0,  581,  497,  269,  269,  269,  321,    0,  269,    0, 
-          105,  105,    0,    0,  580,    0,    0,    0,    0,  269, 
-            0,  269,  269,    0,  105,  685,    0,    0,  308,    0, 
-          476,    0,   96,    0,    0,    0,   91,    0,   96,   16, 
-          855,    0,    0,  855,   96,  844,    0,  855,    0,    0, 
-            0,  497,    0,  100,    0,  497,  130,    0,    0,    0, 
-           16,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          157,    0,    0,    0,    0,    0,    0,    0,    0,  105, 
-            0,    0,    0,  497,    0,  105,    0,  740,    0,    0, 
-            0,  105,  567,  568,  569,  570,  571,  572,  573,  574, 
-          575,  576,  577,  578,  579,  580,  581,  582,  583,  584, 
-          585,  586,  587,  588,  589,  590,  591,  592,    0,  157, 
-          855,    0,  855,  269,  855,    0,    0,  855,  612,    0, 
-          616,  605,  605,  605,  269,  630,  605,  605,  605,    0, 
-          605,    0,    0,  855,    0,    0,    0,    0,    0,  765, 
-          605,  605,  269,    0,    0,    0,    0,    0,    0,  605, 
-          605,  269,  605,  605,  605,  605,  605,    0,    0,    0, 
-            0,  269,    0,  612,  667,  630,    0,    0,  269,  845, 
-            0,    0,    0,    0,    0,  269,    0,    0,  858,  105, 
-          581,    0,    0,  269,  269,    0,    0,  269,    0,    0, 
-            0,    0,  273,  273,  273,    0,    0,  273,  273,  273, 
-          605,  273,    0,  605,    0,  605,    0,    0,  809,    0, 
-          810,  699,  700,    0,    0,    0,    0,  685,  308,  269, 
-            0,  605,  269,  273,  273,  273,  273,  273,  581,    0, 
-          269,    0,    0,    0,    0,  581,    0,    0,    0,    0, 
-          581,  158,    0,    0,  497,  497,  497,    0,    0,  831, 
-          497,  497,  520,  497,  521,  522,  523,  524,  525,    0, 
-            0,  581,    0,  526,    0,    0,    0,    0,  273,    0, 
-            0,  273,  497,  497,    0,  497,  497,  497,  497,  497, 
-            0,  269,    0,    0,  581,  527,    0,    0,    0,    0, 
-          158,    0,  273,    0,  879,  531,  532,    0,    0,  497, 
-          497,  497,  497,  497,  497,  497,  497,  497,  497,  497, 
-          497,  497,  497,    0,    0,  497,  497,  497,    0,  499, 
-            0,    0,    0,  497,    0,    0,    0,  935,    0,  902, 
-          497,  939,  497,  533,  497,  497,  497,  497,  497,  497, 
-          497,    0,  497,  269,  497,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  157,    0,  157,  157, 
-          157,  157,  157,    0,    0,  858,  497,  157,  858,    0, 
-          985,  352,  858,    0,    0,    0,    0,    0,  494,    0, 
-            0,    0,    0,  485,    0,  494,    0,  365,  366,  157, 
-          157,    0,    0,  485,    0,    0,    0,  157,  157,  157, 
-          157,    0,  367,    0,  948,    0,  369,  370,  371,  372, 
-            0,    0,  269,    0,  269,    0,    0,    0,    0,    0, 
-            0,  269,  269,    0,    0,    0,    0,  485,    0,    0, 
-            0,    0,    0,  308,  352,    0,    0,  157,    0,    0, 
-            0,  485,  485,    0,  485,  858,  485,  858,    0,  858, 
-          365,  366,  858,  269,    0,    0, 1012,    0,    0, 1014, 
-         1016,    0,    0, 1019, 1020,  367,    0,  368,  858,  369, 
-          370,  371,  372,    0,  485,  375,    0,  376,    0,    0, 
-            0,  864,  866,    0,    0,    0,    0,  871,  873,    0, 
-            0,    0,    0,    0,    0,    0,  877,  667,  269,    0, 
-            0,    0,  881,    0,    0, 1033, 1035, 1036, 1037,    0, 
-            0,    0,    0,    0,  488, 1039,    0,    0,    0,    0, 
-            0,    0,    0,    0,  488,    0,  864,  866,    0,  871, 
-          873,    0,    0,  269,    0,    0,    0,  158,    0,  158, 
-          158,  158,  158,  158,    0,    0,    0,    0,  158,    0, 
-            0,  520,    0,  521,  522,  523,  524,  525,  488,  496, 
-            0,    0,  526,    0,    0,    0,  496,    0,    0,    0, 
-          158,  158,  488,  488,    0,  488,    0,  488,  158,  158, 
-          158,  158,    0,    0,  527,  528,  352,    0,    0,    0, 
-            0,  944,  529,  530,  531,  532,    0,    0,  947,    0, 
-            0,    0,  365,  366,    0,  488,    0,    0,  269,    0, 
-            0,    0,    0,    0,    0,    0,    0,  367,  158,  368, 
-            0,  369,  370,  371,  372,    0,    0,    0,    0,    0, 
-          947,    0,  533,    0,  114,    0,    0,  269,    0,    0, 
-          577,  577,  577,    0,  577,  485,  485,  485,  577,  577, 
-          485,  485,  485,  577,  485,  577,  577,  577,  577,  577, 
-          577,  577,  485,  577,  485,  485,  577,  577,  577,  577, 
-          577,  577,  577,  485,  485,  577,  485,  485,  485,  485, 
-          485,    0,  577,  114,  269,  577,  577,  577,  485,  577, 
-          577,  577,  577,  577,  577,  577,  577,  577,  577,  577, 
-          485,  485,  485,  485,  485,  485,  485,  485,  485,  485, 
-          485,  485,  485,  485,    0,    0,  485,  485,  485,  577, 
-          485,  485,  577,  577,  485,  577,  577,  485,  577,  485, 
-          577,  485,  577,  485,  577,  485,  485,  485,  485,  485, 
-          485,  485,  577,  485,  577,  485,  377,  577,  577,  577, 
-          577,  577,  577,    0,    0,    0,  577,  485,  577,  577, 
-            0,  577,  577,    0,  577,  577,  577,  485,  577,  577, 
-          577,  578,  578,  578,    0,  578,  488,  488,  488,  578, 
-          578,  488,  488,  488,  578,  488,  578,  578,  578,  578, 
-          578,  578,  578,  488,  578,  488,  488,  578,  578,  578, 
-          578,  578,  578,  578,  488,  488,  578,  488,  488,  488, 
-          488,  488,    0,  578,    0,    0,  578,  578,  578,  488, 
-          578,  578,  578,  578,  578,  578,  578,  578,  578,  578, 
-          578,  488,  488,  488,  488,  488,  488,  488,  488,  488, 
-          488,  488,  488,  488,  488,    0,    0,  488,  488,  488, 
-          578,  488,  488,  578,  578,  488,  578,  578,  488,  578, 
-          488,  578,  488,  578,  488,  578,  488,  488,  488,  488, 
-          488,  488,  488,  578,  488,  578,  488,    0,  578,  578, 
-          578,  578,  578,  578,  584,    0,    0,  578,  488,  578, 
-          578,    0,  578,  578,  584,  578,  578,  578,  488,  578, 
-          578,  578,    0,    0,    0,  520,    0,  521,  522,  523, 
-          524,  847,    0,    0,    0,    0,  526,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  584,    0, 
-          114,    0,  114,  114,  114,  114,  114,    0,  527,    0, 
-            0,  114,  584,  584,    0,  104,    0,  584,  531,  532, 
-            0,  520,  485,  521,  522,  523,  524,  525,    0,  485, 
-            0,    0,  526,  114,  114,    0,    0,    0,    0,    0, 
-            0,  114,  114,  114,  114,  584,    0,    0,    0,    0, 
-          766,    0,    0,    0,  527,  646,  533,    0,    0,    0, 
-            0,    0,  529,  530,  531,  532,    0,    0,    0,    0, 
-          352,  353,  354,  355,  356,  357,  358,  359,  360,  361, 
-          362,  114,  363,  364,    0,  580,  365,  366,    0,    0, 
-            0,    0,    0,    0,    0,  580,    0,    0,    0,    0, 
-            0,  367,  533,  368,    0,  369,  370,  371,  372,  373, 
-          374,  375,  846,  376,  521,  522,  523,  524,  847,    0, 
-            0,    0,    0,  526,    0,    0,    0,    0,    0,  580, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  580,  580,  527,  103,    0,  580,    0, 
-            0,    0,    0,  529,  530,  531,  532,    0,    0,    0, 
-            0,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-          361,  362,    0,    0,    0,    0,  580,  365,  366,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  367,  533,  368,    0,  369,  370,  371,  372, 
-          373,  374,  375,    0,  376,  115,    0,    0,    0,    0, 
-            0,  580,  580,  580,    0,  580,  584,  584,  584,  580, 
-          580,  584,  584,  584,  580,  584,  580,  580,  580,  580, 
-          580,  580,  580,    0,  584,  584,  584,  580,  580,  580, 
-          580,  580,  580,  580,  584,  584,  580,  584,  584,  584, 
-          584,  584,    0,  580,  115,    0,  580,  580,  580,  584, 
-          580,  580,  580,  580,  580,  580,  580,  580,  580,  580, 
-          580,  584,  584,  584,  584,  584,  584,  584,  584,  584, 
-          584,  584,  584,  584,  584,    0,    0,  584,  584,  584, 
-          580,    0,  584,  580,  580,  584,  580,  580,  584,  580, 
-          584,  580,  584,  580,  584,  580,  584,  584,  584,  584, 
-          584,  584,  584,  580,  584,  584,  584,  377,  580,  580, 
-          580,  580,  580,  580,    0,    0,    0,  580,  584,  580, 
-          580,    0,  580,  580,    0,  580,  580,  580,  584,  580, 
-          580,  580,  580,  580,  580,    0,  580,  580,  580,  580, 
-          580,  580,  580,  580,  580,  580,  580,  580,  580,  580, 
-          580,  580,  580,  580,    0,  580,  580,  580,  580,  580, 
-          580,  580,  580,  580,  580,  580,  580,  580,  580,  580, 
-          580,  580,  580,    0,  580,    0,    0,  580,  580,  580, 
-          580,  580,  580,  580,  580,  580,  580,  580,  580,  580, 
-          580,  580,  580,  580,  580,  580,  580,  580,  580,  580, 
-          580,  580,  580,  580,  580,  580,    0,    0,  580,  580, 
-          580,  580,    0,  580,  580,  580,  580,  580,  580,  580, 
-          580,  580,  580,  580,  580,  580,  580,  580,  580,  580, 
-          580,  580,  580,  580,  580,  580,  580,  580,    0,  580, 
-          580,  580,  580,  580,  580,  581,    0,    0,  580,  580, 
-          580,  580,    0,  580,  580,  581,  580,  580,  580,  580, 
-          580,  580,  580,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  581, 
-            0,  115,    0,  115,  115,  115,  115,  115,    0,    0, 
-            0,    0,  115,  581,  581,    0,  105,    0,  581,    0, 
-            0,  352,    0,  488,    0,    0,  357,  358,    0,    0, 
-          488,    0,    0,    0,  115,  115,    0,  365,  366,    0, 
-            0,    0,  115,  115,  115,  115,  581,    0,    0,    0, 
-            0,  772,  367,    0,  368,    0,  369,  370,  371,  372, 
-          373,  374,  375,    0,  376,    0,    0,    0,    0,    0, 
-            0,  352,  353,  354,  355,  356,  357,  358,  359,  360, 
-          361,  362,  115,  363,  364,    0,  284,  365,  366,    0, 
-            0,    0,    0,    0,    0,    0,  284,    0,    0,    0, 
-            0,    0,  367,    0,  368,    0,  369,  370,  371,  372, 
-          373,  374,  375,    0,  376,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          284,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  284,  284,    0,    0,    0,  284, 
-            0,    0,    0,  594,  595,    0,    0,  596,    0,    0, 
-            0,  178,  179,    0,  180,  181,  182,  183,  184,  185, 
-          186,    0,    0,  187,  188,    0,    0,  284,  189,  190, 
-          191,  192,    0,    0,    0,    0,    0,  282,    0,    0, 
-            0,    0,    0,    0,  194,  195,    0,  196,  197,  198, 
-          199,  200,  201,  202,  203,  204,  205,  206,    0,    0, 
-          207,    0,  581,  581,  581,    0,  581,  581,  581,  581, 
-          581,  581,  581,  581,  581,  581,  581,  581,  581,  581, 
-          581,  581,  581,  581,  208,  581,  581,  581,  581,  581, 
-          581,  581,  581,  581,  581,  581,  581,  581,  581,  581, 
-          581,  581,  581,    0,  581,    0,    0,  581,  581,  581, 
-          581,  581,  581,  581,  581,  581,  581,  581,  581,  581, 
-          581,  581,  581,  581,  581,  581,  581,  581,  581,  581, 
-          581,  581,  581,  581,  581,  581,    0,    0,  581,  581, 
-          581,  581,    0,  581,  581,  581,  581,  581,  581,  581, 
-          581,  581,  581,  581,  581,  581,  581,  581,  581,  581, 
-          581,  581,  581,  581,  581,  581,  581,  581,  377,  581, 
-          581,  581,  581,  581,  581,    0,    0,    0,  581,  581, 
-          581,  581,    0,  581,  581,    0,  581,  581,  581,  581, 
-          581,  581,  581,  579,  579,  579,    0,  579,  284,  284, 
-          284,  579,  579,  284,  284,  284,  579,  284,  579,  579, 
-          579,  579,  579,  579,  579,    0,  579,  284,  284,  579, 
-          579,  579,  579,  579,  579,  579,  284,  284,  579,  284, 
-          284,  284,  284,  284,    0,  579,    0,    0,  579,  579, 
-          579,  284,  579,  579,  579,  579,  579,  579,  579,  579, 
-          579,  579,  579,  284,  284,  284,  284,  284,  284,  284, 
-          284,  284,  284,  284,  284,  284,  284,    0,    0,  284, 
-          284,  284,  579,    0,  284,  579,  579,  284,  579,  579, 
-          284,  579,  284,  579,  284,  579,  284,  579,  284,  284, 
-          284,  284,  284,  284,  284,  579,  284,  579,  284,    0, 
-          579,  579,  579,  579,  579,  579,  585,    0,    0,  579, 
-          284,  579,  579,    0,  579,  579,  585,  579,  579,  579, 
-          284,  579,  579,  579,    0,    0,  602,  603,    0,    0, 
-          604,    0,    0,    0,  178,  179,    0,  180,  181,  182, 
-          183,  184,  185,  186,    0,    0,  187,  188,    0,    0, 
-          585,  189,  190,  191,  192,    0,    0,    0,    0,    0, 
-          282,    0,    0,    0,  585,  585,    0,  194,  195,  585, 
-          196,  197,  198,  199,  200,  201,  202,  203,  204,  205, 
-          206,    0,    0,  207,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  585,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  208,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  352,  353,  354,  355,  356,  357,  358,  359, 
-          360,  361,  362,    0,  363,  364,    0,  586,  365,  366, 
-            0,    0,    0,    0,    0,    0,    0,  586,    0,    0, 
-            0,    0,    0,  367,    0,  368,    0,  369,  370,  371, 
-          372,  373,  374,  375,    0,  376,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  586,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  586,  586,    0,    0,    0, 
-          586,    0,    0,    0,  638,  595,    0,    0,  639,    0, 
-            0,    0,  178,  179,    0,  180,  181,  182,  183,  184, 
-          185,  186,    0,    0,  187,  188,    0,    0,  586,  189, 
-          190,  191,  192,    0,    0,    0,    0,    0,  282,    0, 
-            0,    0,    0,    0,    0,  194,  195,    0,  196,  197, 
-          198,  199,  200,  201,  202,  203,  204,  205,  206,    0, 
-            0,  207,    0,  582,  582,  582,    0,  582,  585,  585, 
-          585,  582,  582,  585,  585,  585,  582,  585,  582,  582, 
-          582,  582,  582,  582,  582,  208,  585,  585,  585,  582, 
-          582,  582,  582,  582,  582,  582,  585,  585,  582,  585, 
-          585,  585,  585,  585,    0,  582,    0,    0,  582,  582, 
-          582,  585,  582,  582,  582,  582,  582,  582,  582,  582, 
-          582,  582,  582,  585,  585,  585,  585,  585,  585,  585, 
-          585,  585,  585,  585,  585,  585,  585,    0,    0,  585, 
-          585,  585,  582,    0,  585,  582,  582,  585,  582,  582, 
-          585,  582,  585,  582,  585,  582,  585,  582,  585,  585, 
-          585,  585,  585,  585,  585,  582,  585,  585,  585,    0, 
-          582,  582,  582,  582,  582,  582,    0,    0,    0,  582, 
-          585,  582,  582,    0,  582,  582,    0,  582,  582,  582, 
-          585,  582,  582,  582,  583,  583,  583,    0,  583,  586, 
-          586,  586,  583,  583,  586,  586,  586,  583,  586,  583, 
-          583,  583,  583,  583,  583,  583,  440,  586,  586,  586, 
-          583,  583,  583,  583,  583,  583,  583,  586,  586,  583, 
-          586,  586,  586,  586,  586,    0,  583,    0,    0,  583, 
-          583,  583,  586,  583,  583,  583,  583,  583,  583,  583, 
-          583,  583,  583,  583,  586,  586,  586,  586,  586,  586, 
-          586,  586,  586,  586,  586,  586,  586,  586,    0,    0, 
-          586,  586,  586,  583,    0,  586,  583,  583,  586,  583, 
-          583,  586,  583,  586,  583,  586,  583,  586,  583,  586, 
-          586,  586,  586,  586,  586,  586,  583,  586,  586,  586, 
-            0,  583,  583,  583,  583,  583,  583,  291,    0,    0, 
-          583,  586,  583,  583,    0,  583,  583,  291,  583,  583, 
-          583,  586,  583,  583,  583,    0,    0,    0,    0,    0, 
-            0,    0,  608,  603,    0,    0,  609,    0,    0,    0, 
-          178,  179,    0,  180,  181,  182,  183,  184,  185,  186, 
-            0,  291,  187,  188,    0,    0,    0,  189,  190,  191, 
-          192,    0,    0,    0,    0,  291,  291,    0,  106,    0, 
-          291,    0,    0,  194,  195,    0,  196,  197,  198,  199, 
-          200,  201,  202,  203,  204,  205,  206,    0,    0,  207, 
-            0,    0,    0,    0,    0,    0,    0,    0,  291,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  208,    4,    5,    6,    7,    8,    0, 
-            0,    0,    9,   10,    0,    0,    0,   11,    0,   12, 
-           13,   14,   15,   16,   17,   18,    0,    0,  411,    0, 
-           19,   20,   21,   22,   23,   24,   25,    0,  411,   26, 
-            0,    0,    0,    0,    0,   27,   28,   29,   30,   31, 
-           32,   33,    0,   34,   35,   36,   37,   38,   39,    0, 
-           40,   41,   42,   43,    0,    0,    0,    0,    0,    0, 
-            0,    0,  411,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,   44,    0,    0,   45,  411,    0,   46, 
-           47,  411,   48,    0,   49,    0,    0,    0,   50,    0, 
-            0,    0,    0,    0,    0,    0,   51,    0,    0,    0, 
-            0,   52,   53,   54,   55,   56,   57,    0,    0,  411, 
-           58,    0,   59,   60,  286,   61,   62,    0,   63,   64, 
-           65,    0,   66,   67,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  581,  581,  581,    0,  581,  291, 
-          291,  291,  581,  581,  291,  291,  291,  581,  291,  581, 
-          581,  581,  581,  581,  581,  581,    0,  377,  291,  291, 
-          581,  581,  581,  581,  581,  581,  581,  291,  291,  581, 
-          291,  291,  291,  291,  291,    0,  581,    0,    0,  581, 
-          581,  581,  291,  581,  581,  581,  581,  581,  581,  581, 
-          581,  581,  581,  581,  291,  291,  291,  291,  291,  291, 
-          291,  291,  291,  291,  291,  291,  291,  291,    0,    0, 
-          291,  291,  291,  581,    0,  291,  581,  581,  291,  581, 
-          581,  291,  581,  291,  581,  291,  581,  291,  581,  291, 
-          291,  291,  291,  291,  291,  291,  581,  291,  286,  291, 
-            0,  581,  581,  581,  581,  581,  581,    0,    0,    0, 
-          581,  291,  581,  581,    0,  581,  581,    0,  581,  581, 
-          581,  291,  581,  581,  581,  260,  260,  260,    0,  260, 
-          411,  411,  411,  260,  260,  411,  411,  411,  260,  411, 
-          260,  260,  260,  260,  260,  260,  260,    0,  411,  411, 
-          411,  260,  260,  260,  260,  260,  260,  260,  411,  411, 
-          260,  411,  411,  411,  411,  411,    0,  260,    0,    0, 
-          260,  260,  260,    0,  260,  260,  260,  260,  260,  260, 
-          260,  260,  260,  260,  260,  411,  411,  411,  411,  411, 
-          411,  411,  411,  411,  411,  411,  411,  411,  411,    0, 
-            0,  411,  411,  411,  260,    0,  411,  260,    0,  411, 
-          260,  260,  411,  260,  411, 
-      };
+      return tables[1];
    }
-
-   private static final short[] yyTable2() {
-      return new short[] {
-
-          260,  411,  260,  411,  260,  411,  411,  411,  411,  411, 
-          411,  411,  260,  411,  411,  411,    0,  260,  260,  260, 
-          260,  260,  260,  604,    0,    0,  260,    0,  260,  260, 
-            0,  260,  260,  604,  260,  260,  260,  411,  260,  260, 
-          260,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,  361,  362,  604,  363,  364, 
-            0,    0,  365,  366,    0,    0,    0,    0,    0,    0, 
-            0,    0,  604,    0,    0,    0,  604,  367,    0,  368, 
-            0,  369,  370,  371,  372,  373,  374,  375,    0,  376, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  604,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            4,    5,    6,    0,    8,    0,    0,    0,    9,   10, 
-            0,    0,    0,   11,    0,   12,   13,   14,   15,   16, 
-           17,   18,    0,    0,  298,    0,   19,   20,   21,   22, 
-           23,   24,   25,    0,  298,  116,    0,    0,    0,    0, 
-            0,    0,   28,    0,    0,   31,   32,   33,    0,   34, 
-           35,   36,   37,   38,   39,  263,   40,   41,   42,   43, 
-            0,    0,    0,    0,    0,    0,    0,    0,  298,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  237, 
-            0,    0,  123,  298,    0,   46,   47,  298,   48,    0, 
-          264,    0,  265,    0,   50,    0,    0,    0,    0,    0, 
-            0,    0,  266,    0,    0,    0,    0,   52,  267,   54, 
-           55,   56,   57,    0,    0,  298,   58,    0,   59,   60, 
-            0,   61,   62,    0,   63,   64,   65,    0,   66,   67, 
-          268,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          260,  260,  260,    0,  260,  604,  604,  604,  260,  260, 
-          604,  604,  604,  260,  604,  260,  260,  260,  260,  260, 
-          260,  260,    0,  604,  604,  604,  260,  260,  260,  260, 
-          260,  260,  260,  604,  604,  260,  604,  604,  604,  604, 
-          604,    0,  260,    0,    0,  260,  260,  260,    0,  260, 
-          260,  260,  260,  260,  260,  260,  260,  260,  260,  260, 
-          604,  604,  604,  604,  604,  604,  604,  604,  604,  604, 
-          604,  604,  604,  604,    0,    0,  604,  604,  604,  260, 
-            0,  604,  260,    0,  604,  260,  260,  604,  260,  604, 
-          260,  604,  260,  604,  260,  604,  604,  604,  604,  604, 
-          604,  604,  260,  604,  604,  604,    0,  260,  260,  260, 
-          260,  260,  260,    0,    0,    0,  260,    0,  260,  260, 
-            0,  260,  260,    0,  260,  260,  260,  604,  260,  260, 
-          260,  260,  260,  260,    0,  260,  298,  298,  298,  260, 
-          260,  298,  298,  298,  260,  298,  260,  260,  260,  260, 
-          260,  260,  260,    0,    0,  298,  298,  260,  260,  260, 
-          260,  260,  260,  260,  298,  298,  260,  298,  298,  298, 
-          298,  298,    0,  260,    0,    0,  260,  260,  260,    0, 
-          260,  260,  260,  260,  260,  260,  260,  260,  260,  260, 
-          260,  298,  298,  298,  298,  298,  298,  298,  298,  298, 
-          298,  298,  298,  298,  298,    0,    0,  298,  298,  298, 
-          260,    0,  298,  260,    0,  298,  260,  260,  298,  260, 
-          298,  260,  298,  260,  298,  260,  298,  298,  298,  298, 
-          298,  298,  298,  260,  298,  584,  298,    0,  260,  260, 
-          260,  260,  260,  260,    0,  584,    0,  260,    0,  260, 
-          260,    0,  260,  260,    0,  260,  260,  260,  298,  260, 
-          260,  260,    0,    0,  352,  353,  354,  355,  356,  357, 
-          358,  359,    0,  361,  362,    0,    0,    0,    0,   95, 
-          365,  366,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  584,  367,  104,  368,  584,  369, 
-          370,  371,  372,  373,  374,  375,    0,  376,  352,  353, 
-          354,  355,  356,  357,  358,    0,    0,  361,  362,    0, 
-            0,    0,    0,    0,  365,  366,  584,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  367, 
-            0,  368,    0,  369,  370,  371,  372,  373,  374,  375, 
-            0,  376,    4,    5,    6,    0,    8,    0,    0,    0, 
-            9,   10,    0,    0,    0,   11,  580,   12,   13,   14, 
-          111,  112,   17,   18,    0,    0,  580,    0,  113,  114, 
-          115,   22,   23,   24,   25,    0,    0,  116,    0,    0, 
-            0,    0,    0,    0,  117,    0,    0,   31,   32,   33, 
-            0,  118,   35,   36,   37,  119,   39,    0,   40,    0, 
-           94,  120,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  580,    0,  103,  121,  580, 
-            0,  122,    0,    0,  123,    0,    0,   46,   47,    0, 
-           48,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  580,    0,   52, 
-           53,   54,   55,   56,   57,    0,    0,    0,   58,    0, 
-           59,   60,    0,   61,   62,    0,   63,   64,   65,    0, 
-           66,   67,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  580,  580,  580,    0,  580,  584,  584,  584, 
-          580,  580,    0,  584,  584,  580,  584,  580,  580,  580, 
-          580,  580,  580,  580,    0,  584,    0,    0,  580,  580, 
-          580,  580,  580,  580,  580,  584,  584,  580,  584,  584, 
-          584,  584,  584,    0,  580,    0,    0,  580,  580,  580, 
-            0,  580,  580,  580,  580,  580,  580,  580,  580,  580, 
-          580,  580,  584,  584,  584,  584,  584,  584,  584,  584, 
-          584,  584,  584,  584,  584,  584,    0,    0,  584,  584, 
-          584,  580,    0,    0,  580,  580,  584,  580,  580,    0, 
-          580,    0,  580,  584,  580,  584,  580,  584,  584,  584, 
-          584,  584,  584,  584,  580,  584,  584,  584,    0,  580, 
-          580,  580,  580,  580,  580,    0,    0,    0,  580,    0, 
-          580,  580,    0,  580,  580,    0,  580,  580,  580,  584, 
-          580,  580,  580,  580,  580,  580,    0,  580,  580,  580, 
-          580,  580,  580,    0,  580,  580,  580,  580,  580,  580, 
-          580,  580,  580,  580,  580,    0,  580,    0,    0,  580, 
-          580,  580,  580,  580,  580,  580,  580,  580,  580,  580, 
-          580,  580,  580,  580,    0,  580,    0,    0,  580,  580, 
-          580,    0,  580,  580,  580,  580,  580,  580,  580,  580, 
-          580,  580,  580,  580,  580,  580,  580,  580,  580,  580, 
-          580,  580,  580,  580,  580,  580,  580,    0,    0,  580, 
-          580,  580,  580,    0,    0,  580,  580,  580,  580,  580, 
-            0,  580,    0,  580,  580,  580,  580,  580,  580,  580, 
-          580,  580,  580,  580,  580,  580,  580,  580,  580,    0, 
-          580,  580,  580,  580,  580,  580,  581,    0,    0,  580, 
-            0,  580,  580,    0,  580,  580,  581,  580,  580,  580, 
-          580,  580,  580,  580,    0,    0,    0,    0,    0,    0, 
-            0,    0,  608,  603,    0,    0,  609,    0,    0,    0, 
-          178,  179,    0,  180,  181,  182,  183,  184,  185,  186, 
-           96,    0,  187,  188,    0,    0,    0,  189,  190,  191, 
-          192,    0,    0,    0,    0,  581,  282,  105,    0,  581, 
-            0,    0,    0,  194,  195,    0,  196,  197,  198,  199, 
-          200,  201,  202,  203,  204,  205,  206,    0,    0,  207, 
-            0,    0,    0,    0,    0,    0,    0,  581,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  208,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    4,    5,    6,    0,    8,    0,    0, 
-            0,    9,   10,    0,    0,    0,   11,  291,   12,   13, 
-           14,  111,  112,   17,   18,    0,    0,  291,    0,  113, 
-          114,  115,   22,   23,   24,   25,    0,    0,  116,    0, 
-            0,    0,    0,    0,    0,  117,    0,    0,   31,   32, 
-           33,    0,   34,   35,   36,   37,   38,   39,    0,   40, 
-            0,   97,  120,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  291,    0,  106,    0, 
-          291,    0,  255,    0,    0,   45,    0,    0,   46,   47, 
-            0,   48,    0,   49,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  291,    0, 
-           52,   53,   54,   55,   56,   57,    0,    0,    0,   58, 
-            0,   59,   60,    0,   61,   62,    0,   63,   64,   65, 
-            0,   66,   67,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  581,  581,  581,    0,  581,  581,  581, 
-          581,  581,  581,    0,  581,  581,  581,  581,  581,  581, 
-          581,  581,  581,  581,  581,    0,  581,    0,    0,  581, 
-          581,  581,  581,  581,  581,  581,  581,  581,  581,  581, 
-          581,  581,  581,  581,    0,  581,    0,    0,  581,  581, 
-          581,    0,  581,  581,  581,  581,  581,  581,  581,  581, 
-          581,  581,  581,  581,  581,  581,  581,  581,  581,  581, 
-          581,  581,  581,  581,  581,  581,  581,    0,    0,  581, 
-          581,  581,  581,    0,    0,  581,  581,  581,  581,  581, 
-            0,  581,    0,  581,  581,  581,  581,  581,  581,  581, 
-          581,  581,  581,  581,  581,  581,  581,  581,  581,    0, 
-          581,  581,  581,  581,  581,  581,  604,    0,    0,  581, 
-            0,  581,  581,    0,  581,  581,  604,  581,  581,  581, 
-          581,  581,  581,  581,  581,  581,  581,    0,  581,  291, 
-          291,  291,  581,  581,    0,  291,  291,  581,  291,  581, 
-          581,  581,  581,  581,  581,  581,    0,    0,    0,    0, 
-          581,  581,  581,  581,  581,  581,  581,  291,  291,  581, 
-          291,  291,  291,  291,  291,  604,  581,    0,    0,  581, 
-          581,  581,    0,  581,  581,  581,  581,  581,  581,  581, 
-          581,  581,  581,  581,  291,  291,  291,  291,  291,  291, 
-          291,  291,  291,  291,  291,  291,  291,  291,    0,    0, 
-          291,  291,  291,  581,    0,    0,  581,  581,  291,  581, 
-          581,    0,  581,    0,  581,  291,  581,  291,  581,  291, 
-          291,  291,  291,  291,  291,  291,  581,  291,    0,  291, 
-            0,  581,  581,  581,  581,  581,  581,  412,    0,    0, 
-          581,    0,  581,  581,    0,  581,  581,  412,  581,  581, 
-          581,  291,  581,  581,  581,    0,    0,    0,    0,    0, 
-            0,    0,    0,  662,  595,    0,    0,  663,    0,    0, 
-            0,  178,  179,    0,  180,  181,  182,  183,  184,  185, 
-          186,  412,    0,  187,  188,    0,    0,    0,  189,  190, 
-          191,  192,    0,    0,    0,  412,  412,  282,  102,    0, 
-          412,    0,    0,    0,  194,  195,    0,  196,  197,  198, 
-          199,  200,  201,  202,  203,  204,  205,  206,    0,    0, 
-          207,    0,    0,    0,    0,    0,    0,    0,  412,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  208,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  260,  260,  260,    0,  260,  604,  604, 
-          604,  260,  260,  604,  604,  604,  260,  604,  260,  260, 
-          260,  260,  260,  260,  260,    0,  604,  604,    0,  260, 
-          260,  260,  260,  260,  260,  260,  604,  604,  260,  604, 
-          604,  604,  604,  604,    0,  260,    0,    0,  260,  260, 
-          260,    0,  260,  260,  260,  260,  260,  260,  260,  260, 
-          260,  260,  260,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  604,    0,    0,    0,    0,    0, 
-            0,  604,  260,    0,    0,  260,    0,  604,  260,  260, 
-            0,  260,  411,  260,    0,  260,    0,  260,    0,    0, 
-            0,    0,  411,    0,    0,  260,    0,  604,  604,    0, 
-          260,  260,  260,  260,  260,  260,    0,    0,    0,  260, 
-            0,  260,  260,    0,  260,  260,    0,  260,  260,  260, 
-            0,  260,  260,  260,    0,    0,  411,    0,    0,  412, 
-          412,  412,    0,    0,  412,  412,  412,    0,  412,    0, 
-          411,  411,    0,    0,    0,  411,    0,  412,  412,  412, 
-            0,    0,    0,    0,    0,    0,    0,  412,  412,    0, 
-          412,  412,  412,  412,  412,    0,    0,    0,    0,    0, 
-            0,    0,  412,  411,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  412,  412,  412,  412,  412,  412, 
-          412,  412,  412,  412,  412,  412,  412,  412,    0,    0, 
-          412,  412,  412,    0,    0,  412,  497,    0,  412,    0, 
-            0,  412,    0,  412,    0,  412,  497,  412,    0,  412, 
-          412,  412,  412,  412,  412,  412,    0,  412,  412,  412, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  412,    0,    0,    0,    0,    0,    0,    0,    0, 
-          497,  412,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  665,  603,  497,  497,  666,  100,    0,  497, 
-          178,  179,    0,  180,  181,  182,  183,  184,  185,  186, 
-            0,    0,  187,  188,    0,    0,    0,  189,  190,  191, 
-          192,    0,    0,    0,    0,    0,  282,  497,    0,    0, 
-            0,    0,    0,  194,  195,    0,  196,  197,  198,  199, 
-          200,  201,  202,  203,  204,  205,  206,    0,    0,  207, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          498,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          498,    0,    0,  208,  411,  411,  411,    0,    0,  411, 
-          411,  411,    0,  411,    0,    0,    0,    0,    0,    0, 
-            0,    0,  411,  411,  411,    0,    0,    0,    0,    0, 
-            0,    0,  411,  411,  498,  411,  411,  411,  411,  411, 
-            0,    0,    0,    0,    0,    0,    0,  411,  498,  498, 
-            0,  101,    0,  498,    0,    0,    0,    0,    0,  411, 
-          411,  411,  411,  411,  411,  411,  411,  411,  411,  411, 
-          411,  411,  411,    0,    0,  411,  411,  411,    0,    0, 
-          411,  498,    0,  411,    0,    0,  411,    0,  411,    0, 
-          411,    0,  411,    0,  411,  411,  411,  411,  411,  411, 
-          411,    0,  411,  411,  411,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  604,    0,  411,    0,    0,    0, 
-            0,    0,    0,    0,  604,    0,  411,    0,  497,  497, 
-          497,    0,    0,  497,  497,  497,    0,  497,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  497,  497,    0, 
-            0,    0,    0,    0,    0,    0,  497,  497,  604,  497, 
-          497,  497,  497,  497,    0,    0,    0,    0,    0,    0, 
-            0,  497,  604,  604,    0,    0,    0,  604,    0,    0, 
-            0,    0,    0,  497,  497,  497,  497,  497,  497,  497, 
-          497,  497,  497,  497,  497,  497,  497,    0,    0,  497, 
-          497,  497,    0,  499,  497,  604,    0,  497,    0,    0, 
-          497,    0,  497,    0,  497,    0,  497,    0,  497,  497, 
-          497,  497,  497,  497,  497,    0,  497,    0,  497,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  283,    0, 
-          497,    0,    0,    0,    0,    0,    0,    0,  283,    0, 
-          497,    0,  498,  498,  498,    0,    0,  498,  498,  498, 
-            0,  498,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  498,  498,    0,    0,    0,    0,    0,    0,    0, 
-          498,  498,  283,  498,  498,  498,  498,  498,    0,    0, 
-            0,    0,    0,    0,    0,  498,  283,  283,    0,  108, 
-            0,  283,    0,    0,    0,    0,    0,  498,  498,  498, 
-          498,  498,  498,  498,  498,  498,  498,  498,  498,  498, 
-          498,    0,    0,  498,  498,  498,    0,  500,  498,  283, 
-            0,  498,    0,    0,  498,    0,  498,    0,  498,    0, 
-          498,    0,  498,  498,  498,  498,  498,  498,  498,    0, 
-          498,    0,  498,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  292,    0,  498,    0,    0,    0,    0,    0, 
-            0,    0,  292,    0,  498,    0,  604,  604,  604,    0, 
-            0,  604,  604,  604,    0,  604,    0,    0,    0,    0, 
-            0,    0,    0,    0,  604,  604,  604,    0,    0,    0, 
-            0,    0,    0,    0,  604,  604,  292,  604,  604,  604, 
-          604,  604,    0,    0,    0,    0,    0,    0,    0,  604, 
-          292,  292,    0,  107,    0,  292,    0,    0,    0,    0, 
-            0,  604,  604,  604,  604,  604,  604,  604,  604,  604, 
-          604,  604,  604,  604,  604,    0,    0,  604,  604,  604, 
-            0,    0,  604,  292,    0,  604,    0,    0,  604,    0, 
-          604,    0,  604,    0,  604,    0,  604,  604,  604,  604, 
-          604,  604,  604,    0,  604,  604,  604,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  432,    0,  604,    0, 
-            0,    0,    0,    0,    0,    0,  432,    0,  604,    0, 
-          283,  283,  283,    0,    0,  283,  283,  283,    0,  283, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  283, 
-          283,    0,    0,    0,    0,    0,    0,    0,  283,  283, 
-          432,  283,  283,  283,  283,  283,    0,    0,    0,    0, 
-            0,    0,    0,  283,  432,  432,    0,    0,    0,  432, 
-            0,    0,    0,    0,    0,  283,  283,  283,  283,  283, 
-          283,  283,  283,  283,  283,  283,  283,  283,  283,    0, 
-            0,  283,  283,  283,    0,    0,  283,  432,    0,  283, 
-            0,    0,  283,    0,  283,    0,  283,    0,  283,    0, 
-          283,  283,  283,  283,  283,  283,  283,    0,  283,    0, 
-          283,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          303,    0,  283,    0,    0,    0,    0,    0,    0,    0, 
-          303,    0,  283,    0,  292,  292,  292,    0,    0,  292, 
-          292,  292,    0,  292,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  292,  292,    0,    0,    0,    0,    0, 
-            0,    0,  292,  292,  303,  292,  292,  292,  292,  292, 
-            0,    0,    0,    0,    0,    0,    0,  292,  303,  303, 
-            0,    0,    0,  303,    0,    0,    0,    0,    0,  292, 
-          292,  292,  292,  292,  292,  292,  292,  292,  292,  292, 
-          292,  292,  292,    0,    0,  292,  292,  292,    0,    0, 
-          292,  303,    0,  292,    0,    0,  292,    0,  292,    0, 
-          292,    0,  292,    0,  292,  292,  292,  292,  292,  292, 
-          292,    0,  292,    0,  292,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  241,    0,  292,    0,    0,    0, 
-            0,    0,    0,    0,  241,    0,  292,    0,  432,  432, 
-          432,    0,    0,  432,  432,  432,    0,  432,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  432,  432,    0, 
-            0,    0,    0,    0,    0,    0,  432,  432,  241,  432, 
-          432,  432,  432,  432,    0,    0,    0,    0,    0,    0, 
-            0,  432,  241,  241,    0,    0,    0,  241,    0,    0, 
-            0,    0,    0,  432,  432,  432,  432,  432,  432,  432, 
-          432,  432,  432,  432,  432,  432,  432,    0,    0,  432, 
-          432,  432,    0,    0,  432,  335,    0,  432,    0,    0, 
-          432,    0,  432,    0,  432,    0,  432,    0,  432,  432, 
-          432,  432,  432,  432,  432,    0,  432,    0,  432,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  298,    0, 
-          432,    0,    0,    0,    0,    0,    0,    0,  298,    0, 
-          432,    0,  303,  303,  303,    0,    0,  303,  303,  303, 
-            0,  303,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  303,  303,    0,    0,    0,    0,    0,    0,    0, 
-          303,  303,  298,  303,  303,  303,  303,  303,    0,    0, 
-            0,    0,    0,    0,    0,  303,  298,  298,    0,    0, 
-            0,  298,    0,    0,    0,    0,    0,  303,  303,  303, 
-          303,  303,  303,  303,  303,  303,  303,  303,  303,  303, 
-          303,    0,    0,  303,  303,  303,    0,    0,  303,  298, 
-            0,  303,    0,    0,  303,    0,  303,    0,  303,    0, 
-          303,    0,  303,  303,  303,  303,  303,  303,  303,    0, 
-          303,    0,  303,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  480,    0,  303,    0,    0,    0,    0,    0, 
-            0,    0,  480,    0,  303,    0,  241,  241,  241,    0, 
-            0,  241,  241,  241,    0,  241,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  241,  241,    0,    0,    0, 
-            0,    0,    0,    0,  241,  241,  480,  241,  241,  241, 
-          241,  241,    0,    0,    0,    0,    0,    0,    0,  241, 
-          480,  480,    0,    0,    0,  480,    0,    0,    0,    0, 
-            0,  241,  241,  241,  241,  241,  241,  241,  241,  241, 
-          241,  241,  335,  241,  241,    0,    0,  241,  241,  335, 
-            0,    0,  241,  480,    0,  241,    0,    0,  241,    0, 
-          241,    0,  241,    0,  241,    0,  241,  241,  241,  241, 
-          241,  241,  241,    0,  241,    0,  241,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  331,    0,  241,    0, 
-            0,    0,    0,    0,    0,    0,  331,    0,  335,    0, 
-          298,  298,  298,    0,    0,  298,  298,  298,    0,  298, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  298, 
-          298,    0,    0,    0,    0,    0,    0,    0,  298,  298, 
-          331,  298,  298,  298,  298,  298,    0,    0,    0,    0, 
-            0,    0,    0,  298,    0,  331,    0,    0,    0,  331, 
-            0,    0,    0,    0,    0,  298,  298,  298,  298,  298, 
-          298,  298,  298,  298,  298,  298,  298,  298,  298,    0, 
-            0,  298,  298,  298,    0,    0,  298,  331,    0,  298, 
-            0,    0,  298,    0,  298,    0,  298,    0,  298,    0, 
-          298,  298,  298,  298,  298,  298,  298,    0,  298,    0, 
-          298,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          332,    0,  298,    0,    0,    0,    0,    0,    0,    0, 
-          332,    0,  298,    0,  480,  480,  480,    0,    0,  480, 
-          480,  480,    0,  480,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  480,  480,    0,    0,    0,    0,    0, 
-            0,    0,  480,  480,  332,  480,  480,  480,  480,  480, 
-            0,    0,    0,    0,    0,    0,    0,  480,    0,  332, 
-            0,    0,    0,  332,    0,    0,    0,    0,    0,    0, 
-          480,  480,  480,  480,  480,  480,  480,  480,  480,  480, 
-          480,  480,  480,    0,    0,  480,  480,  480,    0,    0, 
-          480,  332,    0,  480,    0,    0,  480,    0,  480,    0, 
-          480,    0,  480,    0,  480,  480,  480,  480,  480,  480, 
-          480,    0,  480,    0,  480,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  295,    0,  480,    0,    0,    0, 
-            0,    0,    0,    0,  295,    0,  480,    0,  331,  331, 
-          331,    0,    0,  331,  331,  331,    0,  331,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  331,  331,    0, 
-            0,    0,    0,    0,    0,    0,  331,  331,  295,  331, 
-          331,  331,  331,  331,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  295,    0,    0,    0,  295,    0,    0, 
-            0,    0,    0,  331,  331,  331,  331,  331,  331,  331, 
-          331,  331,  331,  331,  331,  331,  331,    0,    0,  331, 
-          331,  331,    0,    0,  331,  295,    0,  331,    0,    0, 
-          331,    0,  331,    0,  331,    0,  331,    0,  331,  331, 
-          331,  331,  331,  331,  331,    0,  331,    0,  331,    0, 
-            0,  412,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  412,    0,    0,    0,    0,    0,    0,    0,    0, 
-          331,    0,  332,  332,  332,    0,    0,  332,  332,  332, 
-            0,  332,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  332,  332,    0,    0,   93,    0,    0,    0,    0, 
-          332,  332,    0,  332,  332,  332,  332,  332,    0,    0, 
-          412,    0,  102,    0,  412,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  332,  332,  332, 
-          332,  332,  332,  332,  332,  332,  332,  332,  332,  332, 
-          332,    0,  412,  332,  332,  332,    0,    0,  332,    0, 
-            0,  332,    0,    0,  332,    0,  332,    0,  332,    0, 
-          332,    0,  332,  332,  332,  332,  332,  332,  332,    0, 
-          332,    0,  332,    0,  498,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  498,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  332,    0,  295,  295,  295,    0, 
-            0,  295,  295,  295,    0,  295,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  295,  295,    0,   92,    0, 
-            0,    0,    0,    0,  295,  295,    0,  295,  295,  295, 
-          295,  295,    0,  498,    0,  101,    0,  498,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  295,  295,  295,  295,  295,  295,  295,  295,  295, 
-          295,  295,  295,  295,  295,  498,    0,  295,  295,  295, 
-            0,    0,  295,    0,    0,  295,    0,    0,  295,    0, 
-          295,    0,  295,    0,  295,    0,  295,  295,  295,  295, 
-          295,  295,  295,    0,  295,    0,  295,    0,    0,  283, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  283, 
-            0,    0,    0,  412,  412,  412,    0,    0,  295,  412, 
-          412,    0,  412,    0,    0,    0,    0,    0,    0,    0, 
-            0,  412,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  412,  412,   99,  412,  412,  412,  412,  412,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  283,    0, 
-          108,    0,  283,    0,    0,    0,    0,    0,  412,  412, 
-          412,  412,  412,  412,  412,  412,  412,  412,  412,  412, 
-          412,  412,    0,    0,  412,  412,  412,    0,    0,    0, 
-          283,    0,  412,    0,    0,    0,    0,    0,    0,  412, 
-            0,  412,    0,  412,  412,  412,  412,  412,  412,  412, 
-            0,  412,  412,  412,    0,    0,    0,    0,    0,    0, 
-            0,    0,  292,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  292,    0,    0,  412,  498,  498,  498,    0, 
-            0,    0,  498,  498,    0,  498,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  498,  498,   98,  498,  498,  498, 
-          498,  498,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  292,    0,  107,    0,  292,    0,    0,    0,    0, 
-            0,  498,  498,  498,  498,  498,  498,  498,  498,  498, 
-          498,  498,  498,  498,  498,    0,    0,  498,  498,  498, 
-            0,  500,    0,  292,    0,  498,    0,    0,    0,    0, 
-            0,    0,  498,    0,  498,    0,  498,  498,  498,  498, 
-          498,  498,  498,    0,  498,    0,  498,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  109, 
-            0,    0,    0,    0,    0,    0,    0,    0,  498,    0, 
-            0,  283,  283,  283,    0,    0,    0,  283,  283,    0, 
-          283,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  283, 
-          283,    0,  283,  283,  283,  283,  283,    0,  109,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  283,  283,  283,  283, 
-          283,  283,  283,  283,  283,  283,  283,  283,  283,  283, 
-          485,    0,  283,  283,  283,    0,    0,    0,    0,    0, 
-          283,    0,    0,    0,    0,    0,    0,  283,    0,  283, 
-            0,  283,  283,  283,  283,  283,  283,  283,    0,  283, 
-            0,  283,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          110,    0,    0,  283,  292,  292,  292,    0,    0,    0, 
-          292,  292,    0,  292,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  292,  292,    0,  292,  292,  292,  292,  292, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  110, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  292, 
-          292,  292,  292,  292,  292,  292,  292,  292,  292,  292, 
-          292,  292,  292,    0,    0,  292,  292,  292,    0,    0, 
-            0,  488,    0,  292,    0,    0,    0,    0,    0,    0, 
-          292,    0,  292,    0,  292,  292,  292,  292,  292,  292, 
-          292,    0,  292,    0,  292,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  109,  109,  109,  109,  109, 
-          109,  109,  109,  109,  109,  109,  292,    0,  109,  109, 
-            0,  109,  109,  109,  109,  109,  109,  109,    0,  577, 
-          109,    0,  109,  109,  109,  109,  109,  109,  109,    0, 
-            0,  109,    0,    0,    0,    0,    0,  109,  109,    0, 
-          109,  109,  109,  109,    0,  109,  109,  109,  109,  109, 
-          109,    0,  109,  109,  109,  109,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  485,    0,  109, 
-            0,    0,    0,    0,  485,  109,    0,    0,  109,  577, 
-            0,  109,  109,    0,  109,    0,  109,    0,    0,    0, 
-          109,    0,    0,    0,    0,  109,    0,    0,  109,    0, 
-          577,  584,    0,  109,  109,  109,  109,  109,  109,    0, 
-            0,    0,  109,    0,  109,  109,    0,  109,  109,    0, 
-          109,  109,  109,  485,  109,  109,  110,  110,  110,  110, 
-          110,  110,  110,  110,  110,  110,  110,    0,    0,  110, 
-          110,    0,  110,  110,  110,  110,  110,  110,  110,    0, 
-          578,  110,    0,  110,  110,  110,  110,  110,  110,  110, 
-            0,    0,  110,    0,    0,    0,    0,    0,  110,  110, 
-            0,  110,  110,  110,  110,    0,  110,  110,  110,  110, 
-          110,  110,    0,  110,  110,  110,  110,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  488,    0, 
-          110,    0,    0,    0,    0,  488,  110,    0,    0,  110, 
-          578,    0,  110,  110,    0,  110,    0,  110,    0,    0, 
-            0,  110,    0,    0,    0,    0,  110,    0,    0,  110, 
-            0,  578,  291,    0,  110,  110,  110,  110,  110,  110, 
-            0,    0,    0,  110,    0,  110,  110,    0,  110,  110, 
-            0,  110,  110,  110,  488,  110,  110,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  109,  109,  109,  109, 
-          109,  109,  109,  109,  109,  109,  109,    0,    0,  109, 
-          109,    0,  109,  109,  109,  109,  109,  109,  109,    0, 
-          584,  110,    0,  109,  109,  109,  109,  109,  109,  109, 
-            0,    0,  109,    0,    0,    0,    0,    0,  109,  109, 
-            0,  109,  109,  109,  109,    0,  109,  109,  109,  109, 
-          109,  109,    0,  109,  109,  109,  109,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  584,    0, 
-          110,    0,    0,    0,    0,  584,  109,    0,    0,  109, 
-          580,    0,  109,  109,    0,  109,    0,  109,    0,    0, 
-            0,  109,    0,    0,    0,    0,  109,    0,    0,  109, 
-            0,  584,  292,    0,  109,  109,  109,  109,  109,  109, 
-            0,    0,    0,  109,    0,  109,  109,    0,  109,  109, 
-            0,  109,  109,  109,  584,  109,  109,  110,  110,  110, 
-          110,  110,  110,  110,  110,  110,  110,  110,    0,    0, 
-          110,  110,    0,  110,  110,  110,  110,  110,  110,  110, 
-            0,    0,  336,    0,  110,  110,  110,  110,  110,  110, 
-          110,    0,    0,  110,    0,    0,    0,    0,    0,  110, 
-          110,    0,  110,  110,  110,  110,    0,  110,  110,  110, 
-          110,  110,  110,    0,  110,  110,  110,  110,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  291, 
-            0,  336,    0,    0,    0,    0,  291,  110,    0,    0, 
-          110,  581,    0,  110,  110,    0,  110,    0,  110,    0, 
-            0,    0,  110,    0,    0,    0,    0,  110,    0,    0, 
-          110,    0,    0,    0,    0,  110,  110,  110,  110,  110, 
-          110,    0,    0,    0,  110,    0,  110,  110,    0,  110, 
-          110,    0,  110,  110,  110,  291,  110,  110,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  110,  110,  110, 
-          110,  110,  110,  110,  110,  110,  110,  110,    0,    0, 
-          110,  110,    0,  110,  110,  110,  110,  110,  110,  110, 
-            0,  604,    0,    0,  110,  110,  110,  110,  110,  110, 
-          110,    0,    0,  110,    0,    0,    0,    0,    0,  110, 
-          110,    0,  110,  110,  110,  110,    0,  110,  110,  110, 
-          110,  110,  110,    0,  110,  110,  110,  110,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  292, 
-          604,    0,    0,    0,    0,    0,  292,  110,    0,    0, 
-          110,    0,    0,  110,  110,    0,  110,    0,  110,    0, 
-            0,    0,  110,    0,    0,    0,    0,  110,    0,    0, 
-          110,    0,    0,    0,    0,  110,  110,  110,  110,  110, 
-          110,    0,    0,    0,  110,    0,  110,  110,    0,  110, 
-          110,    0,  110,  110,  110,  292,  110,  110,  336,  336, 
-          336,  336,  336,  336,  336,  336,  336,  336,  336,    0, 
-          336,  336,  336,  336,  336,  336,  336,  336,  336,  336, 
-          336,    0,  604,    0,    0,  336,  336,  336,  336,  336, 
-          336,  336,    0,    0,  336,    0,    0,    0,    0,    0, 
-          336,  336,    0,  336,  336,  336,  336,    0,  336,  336, 
-          336,  336,  336,  336,    0,  336,  336,  336,  336,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  604,    0,    0,    0,    0,    0,    0,  336,    0, 
-            0,  336,    0,    0,  336,  336,    0,  336,    0,  336, 
-            0,    0,    0,  336,    0,    0,    0,    0,    0,    0, 
-            0,  336,    0,    0,    0,    0,  336,  336,  336,  336, 
-          336,  336,    0,    0,    0,  336,    0,  336,  336,    0, 
-          336,  336,    0,  336,  336,  336,    0,  336,  336,    0, 
-            0,    0,    0,    0,    0,    0,    0,  604,  604,  604, 
-          604,  604,  604,    0,    0,  604,  604,  604,    0,    0, 
-            0,  604,  248,  604,  604,  604,  604,  604,  604,  604, 
-            0,    0,    0,    0,  604,  604,  604,  604,  604,  604, 
-          604,    0,    0,  604,    0,    0, 
-      };
-   }
-
-   private static final short[] yyTable3() {
-      return new short[] {
-
-            0,    0,    0,  604,  604,    0,  604,  604,  604,  604, 
-            0,  604,  604,  604,  604,  604,  604,    0,  604,  604, 
-          604,  604,    0,    0,    0,  247,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  604,    0,    0,  604,    0,    0,  604,  604,    0, 
-          604,    0,  604,    0,    0,    0,  604,    0,    0,    0, 
-            0,    0,    0,    0,  604,    0,    0,    0,    0,  604, 
-          604,  604,  604,  604,  604,    0,    0,    0,  604,    0, 
-          604,  604,    0,  604,  604,    0,  604,  604,  604,    0, 
-          604,  604,  604,  604,  604,  604,  604,  604,    0,    0, 
-            0,  604,  604,    0,    0,    0,  604,  286,  604,  604, 
-          604,  604,  604,  604,  604,    0,    0,    0,    0,  604, 
-          604,  604,  604,  604,  604,  604,    0,    0,  604,    0, 
-            0,    0,    0,    0,  604,  604,    0,  604,  604,  604, 
-          604,    0,  604,  604,  604,  604,  604,  604,    0,  604, 
-          604,  604,  604,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  604,    0,    0,  604,    0,    0,  604,  604, 
-            0,  604,    0,  604,    0,    0,    0,  604,    0,    0, 
-            0,    0,    0,    0,    0,  604,    0,    0,  604,    0, 
-          604,  604,  604,  604,  604,  604,    0,    0,    0,  604, 
-            0,  604,  604,    0,  604,  604,    0,  604,  604,  604, 
-            0,  604,  604,    4,    5,    6,    0,    8,    0,    0, 
-            0,    9,   10,    0,    0,    0,   11,    0,   12,   13, 
-           14,   15,   16,   17,   18,    0,    0,    0,    0,   19, 
-           20,   21,   22,   23,   24,   25,  219,    0,   26,    0, 
-            0,    0,    0,    0,    0,   28,  219,    0,   31,   32, 
-           33,    0,   34,   35,   36,   37,   38,   39,    0,   40, 
-           41,   42,   43,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          219,    0,  237,    0,    0,  123,    0,    0,   46,   47, 
-            0,   48,    0,    0,  219,  219,    0,   50,    0,  219, 
-            0,    0,    0,    0,    0,   51,    0,    0,    0,    0, 
-           52,   53,   54,   55,   56,   57,    0,    0,    0,   58, 
-            0,   59,   60,    0,   61,   62,    0,   63,   64,   65, 
-            0,   66,   67,    0,    4,    5,    6,    0,    8,    0, 
-            0,    0,    9,   10,    0,    0,    0,   11,    0,   12, 
-           13,   14,   15,   16,   17,   18,    0,    0,    0,    0, 
-           19,   20,   21,   22,   23,   24,   25,  216,    0,   26, 
-            0,    0,    0,    0,    0,    0,   28,  216,    0,   31, 
-           32,   33,    0,   34,   35,   36,   37,   38,   39,    0, 
-           40,   41,   42,   43,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  216,    0,  237,    0,    0,  123,    0,    0,   46, 
-           47,    0,   48,    0,    0,  216,  216,    0,   50,    0, 
-          216,    0,    0,    0,    0,    0,   51,    0,    0,    0, 
-            0,   52,   53,   54,   55,   56,   57,    0,    0,    0, 
-           58,    0,   59,   60,    0,   61,   62,    0,   63,   64, 
-           65,    0,   66,   67,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  213,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  213,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  219,  219, 
-          219,    0,    0,  219,  219,  219,    0,  219,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  219,  219,    0, 
-          213,    0,    0,    0,    0,    0,  219,  219,    0,  219, 
-          219,  219,  219,  219,  213,  213,    0,    0,    0,  213, 
-            0,  219,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  219,  219,  219,  219,  219,  219, 
-          219,  219,  219,  219,    0,  219,  219,    0,    0,  219, 
-          219,    0,    0,    0,  219,    0,    0,  219,    0,    0, 
-          219,    0,  219,    0,  219,    0,  219,    0,  219,  219, 
-          219,  219,  219,  219,  219,    0,  219,    0,  219,    0, 
-            0,    0,    0,    0,    0,    0,    0,  215,    0,    0, 
-          219,    0,    0,    0,    0,    0,    0,  215,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  216, 
-          216,  216,    0,    0,  216,  216,  216,    0,  216,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  216,  216, 
-            0,  215,    0,    0,    0,    0,    0,  216,  216,    0, 
-          216,  216,  216,  216,  216,  215,  215,    0,    0,    0, 
-          215,    0,  216,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  216,  216,  216,  216,  216, 
-          216,  216,  216,  216,  216,    0,  216,  216,    0,    0, 
-          216,  216,    0,    0,    0,  216,    0,    0,  216,    0, 
-            0,  216,    0,  216,    0,  216,  214,  216,    0,  216, 
-          216,  216,  216,  216,  216,  216,  214,  216,    0,  216, 
-            0,    0,    0,    0,    0,    0,    0,    0,  213,  213, 
-          213,  216,    0,  213,  213,  213,    0,  213,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  213,  213,    0, 
-          214,    0,    0,    0,    0,    0,  213,  213,    0,  213, 
-          213,  213,  213,  213,  214,  214,    0,    0,    0,  214, 
-            0,  213,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  213,  213,  213,  213,  213,  213, 
-          213,  213,  213,  213,    0,  213,  213,    0,    0,  213, 
-          213,    0,    0,    0,  213,    0,    0,  213,    0,    0, 
-          213,    0,  213,    0,  213,    0,  213,    0,  213,  213, 
-          213,  213,  213,  213,  213,    0,  213,    0,  213,    0, 
-            0,    0,    0,    0,    0,    0,    0,  217,    0,    0, 
-          213,    0,    0,    0,    0,    0,    0,  217,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  215, 
-          215,  215,    0,    0,  215,  215,  215,    0,  215,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  215,  215, 
-            0,  217,    0,    0,    0,    0,    0,  215,  215,    0, 
-          215,  215,  215,  215,  215,  217,  217,    0,    0,    0, 
-          217,    0,  215,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  215,  215,  215,  215,  215, 
-          215,  215,  215,  215,  215,    0,  215,  215,    0,    0, 
-          215,  215,    0,    0,    0,  215,    0,    0,  215,    0, 
-            0,  215,    0,  215,    0,  215,  211,  215,    0,  215, 
-          215,  215,  215,  215,  215,  215,  211,  215,    0,  215, 
-            0,    0,    0,    0,    0,    0,    0,    0,  214,  214, 
-          214,  215,    0,  214,  214,  214,    0,  214,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  214,  214,    0, 
-          211,    0,    0,    0,    0,    0,  214,  214,    0,  214, 
-          214,  214,  214,  214,  211,  211,    0,    0,    0,  211, 
-            0,  214,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  214,  214,  214,  214,  214,  214, 
-          214,  214,  214,  214,    0,  214,  214,    0,    0,  214, 
-          214,    0,    0,    0,  214,    0,    0,  214,    0,    0, 
-          214,    0,  214,    0,  214,    0,  214,    0,  214,  214, 
-          214,  214,  214,  214,  214,    0,  214,    0,  214,    0, 
-            0,    0,    0,    0,    0,    0,    0,  212,    0,    0, 
-          214,    0,    0,    0,    0,    0,    0,  212,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  217, 
-          217,  217,    0,    0,  217,  217,  217,    0,  217,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  217,  217, 
-            0,  212,    0,    0,    0,    0,    0,  217,  217,    0, 
-          217,  217,  217,  217,  217,  212,  212,    0,    0,    0, 
-          212,    0,  217,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  217,  217,  217,  217,  217, 
-          217,  217,  217,  217,  217,    0,  217,  217,    0,    0, 
-          217,  217,    0,    0,    0,  217,    0,    0,  217,    0, 
-            0,  217,    0,  217,    0,  217,  235,  217,    0,  217, 
-          217,  217,  217,  217,  217,  217,  235,  217,    0,  217, 
-            0,    0,    0,    0,    0,    0,    0,    0,  211,  211, 
-          211,  217,    0,  211,  211,  211,    0,  211,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  211,  211,    0, 
-          235,    0,    0,    0,    0,    0,  211,  211,    0,  211, 
-          211,  211,  211,  211,  235,  235,    0,    0,    0,  235, 
-            0,  211,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  211,  211,  211,  211,  211,  211, 
-          211,  211,  211,  211,    0,  211,  211,    0,    0,  211, 
-          211,    0,    0,    0,  211,    0,    0,  211,    0,    0, 
-          211,    0,  211,    0,    0,    0,  211,    0,    0,    0, 
-          211,  211,  211,  211,  211,    0,  211,    0,  211,    0, 
-            0,    0,    0,    0,    0,    0,    0,  236,    0,    0, 
-          211,    0,    0,    0,    0,    0,    0,  236,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  212, 
-          212,  212,    0,    0,  212,  212,  212,    0,  212,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  212,  212, 
-            0,  236,    0,    0,    0,    0,    0,  212,  212,    0, 
-          212,  212,  212,  212,  212,  236,  236,    0,    0,    0, 
-          236,    0,  212,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  212,  212,  212,  212,  212, 
-          212,  212,  212,  212,  212,    0,  212,  212,    0,    0, 
-          212,  212,    0,    0,    0,  212,    0,    0,  212,    0, 
-            0,  212,    0,  212,    0,    0,  222,  212,    0,    0, 
-            0,  212,  212,  212,  212,  212,  222,  212,    0,  212, 
-            0,    0,    0,    0,    0,    0,    0,    0,  235,  235, 
-          235,  212,    0,  235,  235,  235,    0,  235,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  235,  235,    0, 
-          222,    0,    0,    0,    0,    0,  235,  235,    0,  235, 
-          235,  235,  235,  235,  222,  222,    0,    0,    0,  222, 
-            0,  235,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  235,  235,  235,  235,  235,  235, 
-          235,  235,  235,  235,    0,  235,  235,    0,    0,  235, 
-          235,    0,    0,    0,  235,    0,    0,  235,    0,    0, 
-          235,    0,  235,    0,    0,    0,  235,    0,    0,    0, 
-            0,    0,  235,  235,  235,    0,  235,    0,  235,    0, 
-            0,    0,    0,    0,    0,    0,    0,  220,    0,    0, 
-          235,    0,    0,    0,    0,    0,    0,  220,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  236, 
-          236,  236,    0,    0,  236,  236,  236,    0,  236,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  236,  236, 
-            0,  220,    0,    0,    0,    0,    0,  236,  236,    0, 
-          236,  236,  236,  236,  236,  220,  220,    0,    0,    0, 
-          220,    0,  236,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  236,  236,  236,  236,  236, 
-          236,  236,  236,  236,  236,    0,  236,  236,    0,    0, 
-          236,  236,    0,    0,    0,  236,    0,    0,  236,    0, 
-            0,  236,    0,  236,    0,    0,  221,  236,    0,    0, 
-            0,    0,    0,  236,  236,  236,  221,  236,    0,  236, 
-            0,    0,    0,    0,    0,    0,    0,    0,  222,  222, 
-          222,  236,    0,  222,  222,  222,    0,  222,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  222,  222,    0, 
-          221,    0,    0,    0,    0,    0,  222,  222,    0,  222, 
-          222,  222,  222,  222,  221,  221,    0,    0,    0,  221, 
-            0,  222,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  222,  222,  222,  222,  222,  222, 
-          222,  222,  222,  222,    0,  222,  222,    0,    0,    0, 
-            0,    0,    0,    0,  222,    0,    0,  222,    0,    0, 
-          222,    0,  222,    0,    0,    0,  222,    0,    0,    0, 
-            0,    0,  222,  222,  222,    0,  222,    0,  222,    0, 
-            0,    0,    0,    0,    0,    0,    0,  225,    0,    0, 
-          222,    0,    0,    0,    0,    0,    0,  225,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  220, 
-          220,  220,  833,    0,  220,  220,  220,    0,  220,  842, 
-            0,    0,    0,    0,    0,    0,    0,    0,  220,  220, 
-          850,  225,    0,    0,    0,    0,    0,  220,  220,    0, 
-          220,  220,  220,  220,  220,  225,  225,    0,    0,    0, 
-          225,    0,  220,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  220,  220,  220,  220,  220, 
-          220,  220,  220,  220,  220,    0,  220,  220,    0,    0, 
-            0,    0,    0,    0,    0,  220,    0,    0,  220,    0, 
-            0,  220,    0,  220,    0,    0,  227,    0,    0,    0, 
-            0,    0,    0,  220,  220,  220,  227,  220,    0,  220, 
-            0,    0,    0,    0,    0,    0,    0,    0,  221,  221, 
-          221,  220,    0,  221,  221,  221,    0,  221,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  221,  221,    0, 
-          227,    0,    0,    0,    0,    0,  221,  221,    0,  221, 
-          221,  221,  221,  221,  227,  227,    0,    0,    0,  227, 
-            0,  221,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  221,  221,  221,  221,  221,  221, 
-          221,  221,  221,  221,    0,  221,  221,    0,    0,    0, 
-            0,    0,    0,    0,  221,    0,    0,  221,    0,    0, 
-          221,    0,  221,    0,    0,    0,  972,    0,  974,    0, 
-          975,    0,  221,  221,  221,    0,  221,  979,  221,    0, 
-            0,    0,    0,    0,  987,    0,    0,  226,    0,    0, 
-          221,    0,    0,    0,    0,    0,    0,  226,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  225, 
-          225,  225,    0,    0,  225,  225,  225,    0,  225,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  225,  225, 
-            0,  226,    0,    0,    0,    0,    0,  225,  225,    0, 
-          225,  225,  225,  225,  225,  226,  226,    0,    0,    0, 
-          226, 1027,  225,    0,    0,    0,    0,    0,    0, 1028, 
-            0, 1030,    0,    0, 1031,  225,  225,  225,  225,  225, 
-          225,  225,  225,  225,  225,    0,  225,  225,    0,    0, 
-         1038,    0,    0,    0,    0,  225,    0,    0,  225,    0, 
-            0,  225,    0,  225,    0,    0,  224,    0,    0,    0, 
-            0,    0,    0,  225,  225,    0,  224,    0,    0,  225, 
-            0,    0,    0,    0,    0,    0,    0,    0,  227,  227, 
-          227,  225,    0,  227,  227,  227,    0,  227,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  227,  227,    0, 
-          224,    0,    0,    0,    0,    0,  227,  227,    0,  227, 
-          227,  227,  227,  227,  224,  224,    0,    0,    0,  224, 
-            0,  227,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  227,  227,  227,  227,  227,  227, 
-          227,  227,  227,  227,    0,  227,  227,    0,    0,    0, 
-            0,    0,    0,    0,  227,    0,    0,  227,    0,    0, 
-          227,    0,  227,    0,  223,    0,    0,    0,    0,    0, 
-            0,    0,  227,  227,  223,    0,    0,    0,  227,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          227,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  223,  226, 
-          226,  226,    0,    0,  226,  226,  226,    0,  226,    0, 
-            0,    0,  223,  223,    0,    0,    0,  223,  226,  226, 
-            0,    0,    0,    0,    0,    0,    0,  226,  226,    0, 
-          226,  226,  226,  226,  226,    0,    0,    0,    0,    0, 
-            0,    0,  226,  228,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  228,    0,  226,  226,  226,  226,  226, 
-          226,  226,  226,  226,  226,    0,  226,  226,    0,    0, 
-            0,    0,    0,    0,    0,  226,    0,    0,  226,    0, 
-            0,  226,    0,  226,    0,    0,    0,  228,    0,    0, 
-            0,    0,    0,  226,  226,    0,    0,    0,    0,  226, 
-            0,  228,  228,    0,    0,    0,  228,    0,  224,  224, 
-          224,  226,    0,  224,  224,  224,    0,  224,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  224,  224,    0, 
-            0,    0,    0,    0,    0,    0,  224,  224,    0,  224, 
-          224,  224,  224,  224,    0,    0,    0,  229,    0,    0, 
-            0,  224,    0,    0,    0,    0,    0,  229,    0,    0, 
-            0,    0,    0,    0,  224,  224,  224,  224,  224,  224, 
-          224,  224,  224,  224,    0,  224,  224,    0,    0,    0, 
-            0,    0,    0,    0,  224,    0,    0,  224,    0,    0, 
-          224,  229,  224,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  224,  224,    0,  229,  229,    0,  224,    0, 
-          229,    0,    0,    0,    0,    0,  223,  223,  223,    0, 
-          224,  223,  223,  223,    0,  223,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  223,  223,    0,    0,    0, 
-            0,    0,    0,    0,  223,  223,    0,  223,  223,  223, 
-          223,  223,    0,    0,    0,    0,    0,    0,    0,  223, 
-          230,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          230,    0,    0,    0,    0,    0,    0,    0,  223,  223, 
-            0,    0,    0,  223,  223,    0,    0,    0,    0,    0, 
-            0,    0,  223,    0,    0,  223,    0,    0,  223,    0, 
-          223,    0,    0,    0,  230,  228,  228,  228,    0,    0, 
-          228,  228,  228,    0,  228,    0,  223,    0,  230,  230, 
-            0,    0,    0,  230,  228,  228,    0,    0,  223,    0, 
-            0,    0,    0,  228,  228,    0,  228,  228,  228,  228, 
-          228,    0,    0,    0,    0,    0,    0,    0,  228,  237, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  237, 
-            0,    0,    0,    0,    0,    0,    0,  228,  228,    0, 
-            0,    0,  228,  228,    0,    0,    0,    0,    0,    0, 
-            0,  228,    0,    0,  228,    0,    0,  228,    0,  228, 
-            0,    0,    0,  237,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  228,    0,  237,  237,  229, 
-          229,  229,  237,    0,  229,  229,  229,  228,  229,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  229,  229, 
-            0,    0,    0,    0,    0,    0,  231,  229,  229,    0, 
-          229,  229,  229,  229,  229,    0,  231,    0,    0,    0, 
-            0,    0,  229,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  229,  229,    0,    0,    0,  229,  229,    0,    0, 
-          231,    0,    0,    0,    0,  229,    0,    0,  229,    0, 
-            0,  229,    0,  229,  231,  231,    0,    0,    0,  231, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  229, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  229,  230,  230,  230,    0,    0,  230,  230,  230, 
-            0,  230,    0,  232,    0,    0,    0,    0,    0,    0, 
-            0,  230,  230,  232,    0,    0,    0,    0,    0,    0, 
-          230,  230,    0,  230,  230,  230,  230,  230,    0,    0, 
-            0,    0,    0,    0,    0,  230,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  232,    0,    0, 
-            0,    0,    0,    0,  230,  230,    0,    0,    0,  230, 
-          230,  232,  232,    0,    0,    0,  232,    0,  230,    0, 
-            0,  230,    0,    0,  230,    0,  230,    0,    0,    0, 
-            0,  237,  237,  237,    0,    0,  237,  237,  237,    0, 
-          237,    0,  230,  238,    0,    0,    0,    0,    0,    0, 
-          237,  237,    0,  238,  230,    0,    0,    0,    0,  237, 
-          237,    0,  237,  237,  237,  237,  237,    0,    0,    0, 
-            0,    0,    0,    0,  237,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  238,    0,    0, 
-            0,    0,    0,  237,  237,    0,    0,    0,  237,  237, 
-            0,  238,  238,    0,    0,    0,  238,  237,    0,    0, 
-          237,    0,    0,  237,    0,  237,    0,    0,  231,  231, 
-          231,    0,    0,  231,  231,  231,    0,  231,    0,  209, 
-            0,  237,    0,    0,    0,    0,    0,  231,  231,  209, 
-            0,    0,    0,  237,    0,    0,  231,  231,    0,  231, 
-          231,  231,  231,  231,    0,    0,    0,    0,    0,    0, 
-            0,  231,    0,    0,    0,    0,    0,    0,    0,  210, 
-            0,    0,    0,  209,    0,    0,    0,    0,    0,  210, 
-          231,  231,    0,    0,    0,  231,  231,  209,  209,    0, 
-            0,    0,  209,    0,  231,    0,    0,  231,    0,    0, 
-          231,    0,  231,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  210,    0,  232,  232,  232,  231,    0, 
-          232,  232,  232,    0,  232,    0,    0,  210,  210,    0, 
-          231,    0,  210,    0,  232,  232,    0,    0,    0,    0, 
-            0,    0,    0,  232,  232,    0,  232,  232,  232,  232, 
-          232,    0,    0,    0,    0,    0,    0,    0,  232,  239, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  239, 
-            0,    0,    0,    0,    0,    0,    0,  232,  232,    0, 
-            0,    0,  232,  232,    0,    0,    0,    0,    0,    0, 
-            0,  232,    0,    0,  232,    0,    0,  232,    0,  232, 
-            0,    0,    0,  239,    0,  238,  238,  238,    0,    0, 
-          238,  238,  238,    0,  238,  232,    0,  239,  239,    0, 
-          208,    0,    0,    0,  238,  238,    0,  232,    0,    0, 
-          208,    0,    0,  238,  238,    0,  238,  238,  238,  238, 
-          238,    0,    0,    0,    0,    0,    0,    0,  238,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  208,    0,    0,    0,  238,    0, 
-            0,    0,  238,  238,    0,    0,    0,    0,  208,  208, 
-            0,  238,    0,    0,  238,    0,    0,  238,    0,  238, 
-            0,  209,  209,  209,    0,    0,  209,  209,  209,    0, 
-          209,    0,    0,    0,    0,  238,    0,    0,    0,    0, 
-          209,  209,    0,    0,    0,    0,    0,  238,    0,  209, 
-          209,    0,  209,  209,  209,  209,  209,    0,    0,    0, 
-            0,  210,  210,  210,  209,  207,  210,  210,  210,    0, 
-          210,    0,    0,    0,    0,  207,    0,    0,    0,    0, 
-          210,  210,    0,    0,    0,    0,    0,    0,    0,  210, 
-          210,    0,  210,  210,  210,  210,  210,  209,    0,    0, 
-          209,    0,    0,  209,  210,  209,    0,    0,    0,  207, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  209,    0,  207,  207,    0,    0,    0,    0,    0, 
-            0,    0,    0,  209,    0,    0,    0,  210,    0,    0, 
-          210,    0,    0,  210,    0,  210,    0,    0,    0,    0, 
-            0,  239,  239,  239,    0,    0,  239,  239,  239,    0, 
-          239,  210,    0,    0,    0,    0,  205,    0,    0,    0, 
-          239,  239,    0,  210,    0,    0,  205,    0,    0,  239, 
-          239,    0,  239,  239,  239,  239,  239,    0,    0,    0, 
-            0,    0,    0,    0,  239,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  206,    0,    0,    0, 
-          205,    0,  208,  208,  208,    0,  206,  208,  208,  208, 
-            0,  208,    0,    0,  205,  205,    0,  239,    0,    0, 
-          239,  208,  208,  239,    0,  239,    0,    0,    0,    0, 
-          208,  208,    0,  208,  208,  208,  208,  208,    0,    0, 
-          206,  239,    0,    0,    0,  208,    0,    0,    0,    0, 
-            0,    0,    0,  239,  206,  206,    0,  203,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  203,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  208,    0, 
-            0,  208,    0,    0,  208,    0,  208,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  204,    0,    0, 
-            0,  203,  208,    0,    0,    0,    0,  204,    0,    0, 
-            0,    0,    0,    0,  208,  203,  203,  207,  207,  207, 
-            0,    0,  207,  207,  207,    0,  207,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,  207,  207,    0,    0, 
-            0,  204,    0,    0,    0,  207,  207,    0,  207,  207, 
-          207,  207,  207,    0,    0,  204,  204,    0,    0,    0, 
-          207,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  199,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  199,  207,    0,    0,  207,    0,    0,  207, 
-            0,  207,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  207,  205,  205, 
-          205,    0,  201,  205,  205,  205,  199,  205,    0,  207, 
-            0,    0,  201,    0,    0,    0,    0,  205,  205,    0, 
-          199,  199,    0,    0,    0,    0,  205,  205,    0,  205, 
-          205,  205,  205,  205,    0,    0,    0,    0,  206,  206, 
-          206,  205,    0,  206,  206,  206,  201,  206,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  206,  206,    0, 
-          201,  201,    0,    0,    0,    0,  206,  206,    0,  206, 
-          206,  206,  206,  206,  205,    0,    0,  205,    0,    0, 
-          205,  206,  205,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  205,  203, 
-          203,  203,    0,  240,  203,  203,  203,    0,  203,    0, 
-          205,    0,    0,  240,  206,    0,    0,  206,  203,  203, 
-          206,    0,  206,    0,    0,    0,    0,  203,  203,    0, 
-          203,  203,  203,  203,  203,    0,    0,    0,  206,  204, 
-          204,  204,  203,  202,  204,  204,  204,  240,  204,    0, 
-          206,    0,    0,  202,    0,    0,    0,    0,  204,  204, 
-            0,  240,  240,    0,    0,    0,    0,  204,  204,    0, 
-          204,  204,  204,  204,  204,  203,    0,    0,  203,    0, 
-            0,  203,  204,  203,    0,    0,    0,  202,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  203, 
-            0,  202,  202,    0,  242,    0,    0,    0,    0,    0, 
-            0,  203,    0,    0,  242,  204,    0,    0,  204,    0, 
-            0,  204,    0,  204,  199,  199,  199,    0,    0,  199, 
-          199,  199,    0,  199,    0,    0,    0,    0,    0,  204, 
-            0,    0,    0,  199,  199,    0,    0,    0,  242,    0, 
-            0,  204,  199,  199,    0,  199,  199,  199,  199,  199, 
-            0,    0,    0,  242,  201,  201,  201,  199,    0,  201, 
-          201,  201,    0,  201,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  201,  201,    0,    0,    0,    0,    0, 
-            0,  200,  201,  201,    0,  201,  201,  201,  201,  201, 
-          199,  200,    0,  199,    0,    0,  199,  201,  199,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  199,    0,    0,    0,    0,    0, 
-            0,  198,    0,    0,    0,  200,  199,    0,    0,    0, 
-          201,  198,    0,  201,    0,    0,  201,    0,  201,  200, 
-          200,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  201,  240,  240,  240,    0,    0, 
-          240,  240,  240,    0,  240,  198,  201,    0,    0,    0, 
-            0,    0,    0,    0,  240,  240,    0,    0,    0,  198, 
-          198,    0,    0,  240,  240,    0,  240,  240,  240,  240, 
-          240,    0,    0,    0,    0,  202,  202,  202,  240,    0, 
-          202,  202,  202,    0,  202,    0,    0,  265,    0,    0, 
-            0,    0,    0,    0,  202,  202,    0,  265,    0,    0, 
-            0,    0,    0,  202,  202,    0,  202,  202,  202,  202, 
-          202,  240,    0,    0,  240,    0,    0,  240,  202,  240, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  267, 
-            0,  265,    0,    0,    0,  240,  242,  242,  242,  267, 
-            0,  242,  242,  242,    0,  242,  265,  240,    0,    0, 
-            0,  202,    0,    0,  202,  242,  242,  202,    0,  202, 
-            0,    0,    0,    0,  242,  242,    0,  242,  242,  242, 
-          242,  242,   60,  267,    0,  202,    0,    0,    0,  242, 
-            0,    0,   60,    0,    0,    0,    0,  202,  267,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  242,    0,    0,  242,    0,    0,  242,    0, 
-          242,    0,    0,  200,  200,  200,    0,    0,  200,  200, 
-          200,   60,  200,    0,    0,    0,  242,    0,    0,    0, 
-            0,    0,  200,  200,    0,    0,    0,    0,  242,    0, 
-            0,  200,  200,    0,  200,  200,  200,  200,    0,    0, 
-            0,   64,    0,  198,  198,  198,  200,    0,  198,  198, 
-          198,   64,  198,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  198,  198,    0,    0,    0,    0,    0,    0, 
-            0,  198,  198,    0,  198,  198,  198,  198,   62,  200, 
-            0,    0,  200,    0,    0,  200,  198,  200,   62,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-           64,    0,    0,  200,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  200,    0,    0,    0,  198, 
-            0,    0,  198,    0,    0,  198,    0,  198,    0,  265, 
-          265,  265,    0,    0,  265,  265,  265,   62,  265,    0, 
-            0,    0,  401,  198,    0,    0,    0,    0,  265,  265, 
-            0,    0,  401,    0,    0,  198,    0,  265,  265,    0, 
-          265,  265,  265,  265,  265,    0,    0,    0,    0,    0, 
-            0,  267,  267,  267,    0,    0,  267,  267,  267,    0, 
-          267,    0,    0,    0,    0,   51,    0,    0,    0,    0, 
-          267,  267,    0,    0,    0,   51,    0,    0,    0,  267, 
-          267,  401,  267,  267,  267,  267,  267,    0,  265,    0, 
-            0,  265,    0,  265,   60,   60,   60,    0,    0,   60, 
-           60,   60,   53,   60,    0,    0,    0,    0,    0,  265, 
-            0,    0,   53,   60,   60,    0,    0,    0,    0,    0, 
-            0,    0,   60,   60,   51,   60,   60,   60,   60,   60, 
-          267,    0,    0,  267,    0,  267,    0,    0,    0,    0, 
-           55,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-           55,  267,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,   53,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,   60,    0,    0,   60,   56,    0,    0, 
-            0,    0,    0,   64,   64,   64,    0,   56,   64,   64, 
-           64,    0,   64,    0,   60,    0,    0,    0,    0,   55, 
-            0,    0,   64,   64,    0,    0,    0,    0,    0,    0, 
-            0,   64,   64,    0,   64,   64,   64,   64,   64,    0, 
-           62,   62,   62,    0,    0,   62,   62,   62,  271,   62, 
-            0,    0,    0,    0,    0,    0,   56,    0,  271,   62, 
-           62,    0,    0,    0,    0,    0,    0,    0,   62,   62, 
-            0,   62,   62,   62,   62,   62,    0,    0,    0,    0, 
-            0,    0,   64,    0,  272,   64,    0,    0,    0,    0, 
-            0,    0,  267,    0,  272,    0,    0,    0,    0,    0, 
-            0,    0,   52,   64,  401,  401,  401,  271,    0,  401, 
-          401,  401,   52,  401,    0,    0,    0,    0,    0,   62, 
-            0,    0,   62,  401,    0,    0,    0,    0,  268,    0, 
-            0,    0,  401,  401,    0,  401,  401,  401,  401,  401, 
-           62,    0,    0,  272,    0,    0,    0,   51,   51,   51, 
-            0,    0,   51,   51,   51,   25,   51,    0,    0,    0, 
-            0,   52,    0,    0,    0,   25,   51,    0,    0,    0, 
-          401,    0,    0,    0,    0,   51,   51,  401,   51,   51, 
-           51,   51,   51,  401,   53,   53,   53,    0,    0,   53, 
-           53,   53,    0,   53,    0,    0,    0,    0,    0,  198, 
-            0,    0,    0,   53,  401,    0,    0,    0,    0,  198, 
-            0,    0,   53,   53,   25,   53,   53,   53,   53,   53, 
-            0,    0,   55,   55,   55,    0,   51,   55,   55,   55, 
-            0,   55,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,   55,    0,  242,    0,    0,    0,   51,    0,    0, 
-           55,   55,    0,   55,   55,   55,   55,   55,  198,   56, 
-           56,   56,    0,   53,   56,   56,   56,    0,   56,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,   56,    0, 
-            0,    0,    0,    0,   53,    0,    0,   56,   56,    0, 
-           56,   56,   56,   56,   56,    0,    0,    0,    0,    0, 
-            0,   55,    0,    0,    0,  313,    0,    0,    0,    0, 
-          271,  271,  271,    0,    0,  271,  271,  271,    0,  271, 
-            0,    0,   55,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,   56,    0, 
-            0,  271,  271,  271,  271,  271,  272,  272,  272,    0, 
-            0,  272,  272,  272,    0,  272,    0,    0,    0,   56, 
-            0,    0,    0,    0,   52,   52,   52,    0,    0,   52, 
-           52,   52,    0,   52,    0,    0,    0,  272,  272,  272, 
-          272,  272,    0,   52,    0,    0,  271,    0,    0,  271, 
-            0,    0,    0,    0,    0,   52,   52,   52,   52,   52, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          271,    0,    0,    0,    0,    0,    0,   25,   25,   25, 
-            0,    0,  272,   25,   25,  272,   25,    0,    0,    0, 
-            0,    0,    0,    0,    0,  622,    0,    0,    0,    0, 
-            0,    0,    0,   52,    0,    0,  272,    0,   25,   25, 
-           25,   25,   25,    0,    0,    0,    0,    0,    0,    0, 
-            0,  198,  198,  198,   52,    0,    0,  198,  198,    0, 
-          198,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  198, 
-          198,    0,  198,  198,  198, 
-      };
-   }
-
-   private static final short[] yyTable4() {
-      return new short[] {
-
-          198,   25,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,   25,    4,    5,    6,    0,    8,    0,    0, 
-            0,    9,   10,    0,    0,    0,   11,    0,   12,   13, 
-           14,  111,  112,   17,   18,  198,    0,    0,    0,  113, 
-          114,  115,   22,   23,   24,   25,    0,    0,  116,    0, 
-            0,    0,    0,    0,    0,  117,  198,    0,   31,   32, 
-           33,    0,   34,   35,   36,   37,   38,   39,    0,   40, 
-            0,    0,  120,    0,    0,  440,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  312,    0,    0,  123,    0,    0,   46,   47, 
-            0,   48,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-           52,   53,   54,   55,   56,   57,    0,    0,    0,   58, 
-            0,   59,   60,    0,   61,   62,    0,   63,   64,   65, 
-            0,   66,   67,    4,    5,    6,    0,    8,    0,    0, 
-            0,    9,   10,    0,    0,    0,   11,    0,   12,   13, 
-           14,  111,  112,   17,   18,    0,    0,    0,    0,  113, 
-          114,  115,   22,   23,   24,   25,    0,    0,  116,    0, 
-            0,    0,    0,    0,    0,  117,    0,    0,   31,   32, 
-           33,    0,   34,   35,   36,   37,   38,   39,    0,   40, 
-            0,    0,  120,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  312,    0,    0,  123,    0,    0,   46,   47, 
-            0,   48,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-           52,   53,   54,   55,   56,   57,    0,    0,    0,   58, 
-            0,   59,   60,    0,   61,   62,    0,   63,   64,   65, 
-            0,   66,   67,    4,    5,    6,    7,  230,    0,    0, 
-            0,    9,   10,    0,    0,    0,   11,    0,   12,   13, 
-           14,   15,   16,   17,   18,    0,    0,    0,    0,   19, 
-           20,   21,   22,   23,   24,   25,    0,    0,   26,    0, 
-            0,    0,    0,    0,   27,   28,    0,   30,   31,   32, 
-           33,    0,   34,   35,   36,   37,   38,   39,    0,   40, 
-           41,   42,   43,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,   44,    0,    0,   45,    0,    0,   46,   47, 
-            0,   48,    0,   49,    0,    0,    0,   50,    0,    0, 
-            0,    0,    0,    0,    0,   51,    0,    0,    0,    0, 
-           52,   53,   54,   55,   56,   57,    0,    0,    0,   58, 
-            0,   59,   60,    0,   61,   62,    0,   63,   64,   65, 
-            0,   66,   67,  133,  134,  135,  136,  137,  138,  139, 
-          140,    0,    0,  141,  142,  143,  144,  145,    0,    0, 
-          146,  147,  148,  149,  150,  151,  152,    0,    0,  153, 
-          154,  155,  156,  157,  158,  159,  160,  161,  162,  163, 
-          164,  165,  166,  167,  168,  169,  170,  171,  172,  173, 
-          174,    0,  175,  176,   36,   37,  177,   39,    0,    0, 
-          178,  179,    0,  180,  181,  182,  183,  184,  185,  186, 
-            0,    0,  187,  188,    0,    0,    0,  189,  190,  191, 
-          192,    0,    0,    0,    0,    0,  193,    0,    0,    0, 
-            0,    0,    0,  194,  195,    0,  196,  197,  198,  199, 
-          200,  201,  202,  203,  204,  205,  206,    0,    0,  207, 
-            0,    0,    0,    0,    0,    0,    0,  133,  134,  135, 
-          136,  137,  138,  139,  140,    0,    0,  141,  142,  143, 
-          144,  145,    0,  208,  146,  147,  148,  149,  150,  151, 
-          152,    0,    0,  153,  154,  155,  214,  215,  216,  217, 
-          160,  161,  162,  163,  164,  165,  166,  167,  168,  169, 
-          170,  171,  218,  219,  220,    0,  221,  176,  322,  323, 
-          222,  324,    0,    0,  178,  179,    0,  180,  181,  182, 
-          183,  184,  185,  186,    0,    0,  187,  188,    0,    0, 
-            0,  189,  190,  191,  192,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,  194,  195,    0, 
-          196,  197,  198,  199,  200,  201,  202,  203,  204,  205, 
-          206,    0,    0,  207,    0,    0,    0,    0,    0,    0, 
-            0,  133,  134,  135,  136,  137,  138,  139,  140,    0, 
-            0,  141,  142,  143,  144,  145,    0,  208,  146,  147, 
-          148,  149,  150,  151,  152,    0,    0,  153,  154,  155, 
-          214,  215,  216,  217,  160,  161,  162,  163,  164,  165, 
-          166,  167,  168,  169,  170,  171,  218,  219,  220,    0, 
-          221,  176,  288,    0,  222,    0,    0,    0,  178,  179, 
-            0,  180,  181,  182,  183,  184,  185,  186,    0,    0, 
-          187,  188,    0,    0,    0,  189,  190,  191,  192,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  194,  195,    0,  196,  197,  198,  199,  200,  201, 
-          202,  203,  204,  205,  206,    0,    0,  207,   52,    0, 
-            0,    0,    0,    0,    0,  133,  134,  135,  136,  137, 
-          138,  139,  140,    0,    0,  141,  142,  143,  144,  145, 
-            0,  208,  146,  147,  148,  149,  150,  151,  152,    0, 
-            0,  153,  154,  155,  214,  215,  216,  217,  160,  161, 
-          162,  163,  164,  165,  166,  167,  168,  169,  170,  171, 
-          218,  219,  220,    0,  221,  176,    0,    0,  222,    0, 
-            0,    0,  178,  179,    0,  180,  181,  182,  183,  184, 
-          185,  186,    0,    0,  187,  188,    0,    0,    0,  189, 
-          190,  191,  192,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  194,  195,    0,  196,  197, 
-          198,  199,  200,  201,  202,  203,  204,  205,  206,    0, 
-            0,  207,   52,    0,    0,    0,    0,    0,    0,  133, 
-          134,  135,  136,  137,  138,  139,  140,    0,    0,  141, 
-          142,  143,  144,  145,    0,  208,  146,  147,  148,  149, 
-          150,  151,  152,    0,    0,  153,  154,  155,  214,  215, 
-          216,  217,  160,  161,  162,  163,  164,  165,  166,  167, 
-          168,  169,  170,  171,  218,  219,  220,    0,  221,  176, 
-            0,    0,  222,    0,    0,    0,  178,  179,    0,  180, 
-          181,  182,  183,  184,  185,  186,    0,    0,  187,  188, 
-            0,    0,    0,  189,  190,  191,  192,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  194, 
-          195,    0,  196,  197,  198,  199,  200,  201,  202,  203, 
-          204,  205,  206,    0,    0,  207,    3,    4,    5,    6, 
-            7,    8,    0,    0,    0,    9,   10,    0,    0,    0, 
-           11,    0,   12,   13,   14,   15,   16,   17,   18,  208, 
-            0,    0,    0,   19,   20,   21,   22,   23,   24,   25, 
-            0,    0,   26,    0,    0,    0,    0,    0,   27,   28, 
-           29,   30,   31,   32,   33,    0,   34,   35,   36,   37, 
-           38,   39,    0,   40,   41,   42,   43,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,   44,    0,    0,   45, 
-            0,    0,   46,   47,    0,   48,    0,   49,    0,    0, 
-            0,   50,    0,    0,    0,    0,    0,    0,    0,   51, 
-            0,    0,    0,    0,   52,   53,   54,   55,   56,   57, 
-            0,    0,    0,   58,    0,   59,   60,    0,   61,   62, 
-            0,   63,   64,   65,    0,   66,   67,  229,    4,    5, 
-            6,    7,  230,    0,    0,    0,    9,   10,    0,    0, 
-            0,   11,    0,   12,   13,   14,   15,   16,   17,   18, 
-            0,    0,    0,    0,   19,   20,   21,   22,   23,   24, 
-           25,    0,    0,   26,    0,    0,    0,    0,    0,   27, 
-           28,    0,   30,   31,   32,   33,    0,   34,   35,   36, 
-           37,   38,   39,    0,   40,   41,   42,   43,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,   44,    0,    0, 
-           45,    0,    0,   46,   47,    0,   48,    0,   49,    0, 
-            0,    0,   50,    0,    0,    0,    0,    0,    0,    0, 
-           51,    0,    0,    0,    0,   52,   53,   54,   55,   56, 
-           57,    0,    0,    0,   58,    0,   59,   60,    0,   61, 
-           62,    0,   63,   64,   65,    0,   66,   67,  229,    4, 
-            5,    6,    7,  230,    0,    0,    0,    9,   10,    0, 
-            0,    0,   11,    0,   12,   13,   14,   15,   16,   17, 
-           18,    0,    0,    0,    0,   19,   20,   21,   22,   23, 
-           24,   25,    0,    0,   26,    0,    0,    0,    0,    0, 
-           27,   28,    0,   30,   31,   32,   33,    0,   34,   35, 
-           36,   37,   38,   39,    0,   40,   41,   42,   43,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,   44,    0, 
-            0,  298,    0,    0,   46,   47,    0,   48,    0,   49, 
-            0,    0,    0,   50,    0,    0,    0,    0,    0,    0, 
-            0,   51,    0,    0,    0,    0,   52,   53,   54,   55, 
-           56,   57,    0,    0,    0,   58,    0,   59,   60,    0, 
-           61,   62,    0,   63,   64,   65,    0,   66,   67,    4, 
-            5,    6,    0,    8,    0,    0,    0,    9,   10,    0, 
-            0,    0,   11,    0,   12,   13,   14,   15,   16,   17, 
-           18,    0,    0,    0,    0,   19,   20,   21,   22,   23, 
-           24,   25,    0,    0,  116,    0,    0,    0,    0,    0, 
-            0,   28,    0,    0,   31,   32,   33,    0,   34,   35, 
-           36,   37,   38,   39,  263,   40,   41,   42,   43,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,  237,    0, 
-            0,  123,    0,    0,   46,   47,    0,   48,    0,  264, 
-            0,  265,    0,   50,    0,    0,    0,    0,    0,    0, 
-            0,  266,    0,    0,    0,    0,   52,  267,   54,   55, 
-           56,   57,    0,    0,    0,   58,    0,   59,   60,    0, 
-           61,   62,    0,   63,   64,   65,    0,   66,   67,  268, 
-            4,    5,    6,    0,    8,    0,    0,    0,    9,   10, 
-            0,    0,    0,   11,    0,   12,   13,   14,  111,  112, 
-           17,   18,    0,    0,    0,    0,  113,  114,  115,   22, 
-           23,   24,   25,    0,    0,  116,    0,    0,    0,    0, 
-            0,    0,   28,    0,    0,   31,   32,   33,    0,   34, 
-           35,   36,   37,   38,   39,  263,   40,   41,   42,   43, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,  237, 
-            0,    0,  123,    0,    0,   46,   47,    0,   48,    0, 
-          684,    0,  265,    0,   50,    0,    0,    0,    0,    0, 
-            0,    0,  266,    0,    0,    0,    0,   52,  267,   54, 
-           55,   56,   57,    0,    0,    0,   58,    0,   59,   60, 
-            0,   61,   62,    0,   63,   64,   65,    0,   66,   67, 
-          268,  260,  260,  260,    0,  260,    0,    0,    0,  260, 
-          260,    0,    0,    0,  260,    0,  260,  260,  260,  260, 
-          260,  260,  260,    0,    0,    0,    0,  260,  260,  260, 
-          260,  260,  260,  260,    0,    0,  260,    0,    0,    0, 
-            0,    0,    0,  260,    0,    0,  260,  260,  260,    0, 
-          260,  260,  260,  260,  260,  260,  260,  260,  260,  260, 
-          260,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-          260,    0,    0,  260,    0,    0,  260,  260,    0,  260, 
-            0,  260,    0,  260,    0,  260,    0,    0,    0,    0, 
-            0,    0,    0,  260,    0,    0,    0,    0,  260,  260, 
-          260,  260,  260,  260,    0,    0,    0,  260,    0,  260, 
-          260,    0,  260,  260,    0,  260,  260,  260,    0,  260, 
-          260,  260,    4,    5,    6,    0,    8,    0,    0,    0, 
-            9,   10,    0,    0,    0,   11,    0,   12,   13,   14, 
-          111,  112,   17,   18,    0,    0,    0,    0,  113,  114, 
-          115,   22,   23,   24,   25,    0,    0,  116,    0,    0, 
-            0,    0,    0,    0,   28,    0,    0,   31,   32,   33, 
-            0,   34,   35,   36,   37,   38,   39,  263,   40,   41, 
-           42,   43,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,  237,    0,    0,  123,    0,    0,   46,   47,    0, 
-           48,    0,  264,    0,    0,    0,   50,    0,    0,    0, 
-            0,    0,    0,    0,  266,    0,    0,    0,    0,   52, 
-          267,   54,   55,   56,   57,    0,    0,    0,   58,    0, 
-           59,   60,    0,   61,   62,    0,   63,   64,   65,    0, 
-           66,   67,  268,    4,    5,    6,    0,    8,    0,    0, 
-            0,    9,   10,    0,    0,    0,   11,    0,   12,   13, 
-           14,  111,  112,   17,   18,    0,    0,    0,    0,  113, 
-          114,  115,   22,   23,   24,   25,    0,    0,  116,    0, 
-            0,    0,    0,    0,    0,   28,    0,    0,   31,   32, 
-           33,    0,   34,   35,   36,   37,   38,   39,  263,   40, 
-           41,   42,   43,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,  237,    0,    0,  123,    0,    0,   46,   47, 
-            0,   48,    0,    0,    0,  265,    0,   50,    0,    0, 
-            0,    0,    0,    0,    0,  266,    0,    0,    0,    0, 
-           52,  267,   54,   55,   56,   57,    0,    0,    0,   58, 
-            0,   59,   60,    0,   61,   62,    0,   63,   64,   65, 
-            0,   66,   67,  268,    4,    5,    6,    0,    8,    0, 
-            0,    0,    9,   10,    0,    0,    0,   11,    0,   12, 
-           13,   14,  111,  112,   17,   18,    0,    0,    0,    0, 
-          113,  114,  115,   22,   23,   24,   25,    0,    0,  116, 
-            0,    0,    0,    0,    0,    0,   28,    0,    0,   31, 
-           32,   33,    0,   34,   35,   36,   37,   38,   39,  263, 
-           40,   41,   42,   43,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,  237,    0,    0,  123,    0,    0,   46, 
-           47,    0,   48,    0,  684,    0,    0,    0,   50,    0, 
-            0,    0,    0,    0,    0,    0,  266,    0,    0,    0, 
-            0,   52,  267,   54,   55,   56,   57,    0,    0,    0, 
-           58,    0,   59,   60,    0,   61,   62,    0,   63,   64, 
-           65,    0,   66,   67,  268,    4,    5,    6,    0,    8, 
-            0,    0,    0,    9,   10,    0,    0,    0,   11,    0, 
-           12,   13,   14,  111,  112,   17,   18,    0,    0,    0, 
-            0,  113,  114,  115,   22,   23,   24,   25,    0,    0, 
-          116,    0,    0,    0,    0,    0,    0,   28,    0,    0, 
-           31,   32,   33,    0,   34,   35,   36,   37,   38,   39, 
-          263,   40,   41,   42,   43,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,  237,    0,    0,  123,    0,    0, 
-           46,   47,    0,   48,    0,    0,    0,    0,    0,   50, 
-            0,    0,    0,    0,    0,    0,    0,  266,    0,    0, 
-            0,    0,   52,  267,   54,   55,   56,   57,    0,    0, 
-            0,   58,    0,   59,   60,    0,   61,   62,    0,   63, 
-           64,   65,    0,   66,   67,  268,    4,    5,    6,    7, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,   15,   16,   17,   18,    0,    0, 
-            0,    0,   19,   20,   21,   22,   23,   24,   25,    0, 
-            0,   26,    0,    0,    0,    0,    0,   27,   28,   29, 
-           30,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,   44,    0,    0,   45,    0, 
-            0,   46,   47,    0,   48,    0,   49,    0,    0,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,   51,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,    4,    5,    6,    7, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,   15,   16,   17,   18,    0,    0, 
-            0,    0,   19,   20,   21,   22,   23,   24,   25,    0, 
-            0,   26,    0,    0,    0,    0,    0,   27,   28,    0, 
-           30,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,   44,    0,    0,   45,    0, 
-            0,   46,   47,    0,   48,    0,   49,    0,    0,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,   51,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,  111,  112,   17,   18,    0,    0, 
-            0,    0,  113,  114,  115,   22,   23,   24,   25,    0, 
-            0,  116,    0,    0,    0,    0,    0,    0,   28,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  237,    0,    0,  123,  475, 
-            0,   46,   47,    0,   48,    0,    0,    0,    0,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,  266,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,   15,   16,   17,   18,    0,    0, 
-            0,    0,   19,   20,   21,   22,   23,   24,   25,    0, 
-            0,  116,    0,    0,    0,    0,    0,    0,   28,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  237,    0,    0,  123,    0, 
-            0,   46,   47,    0,   48,    0,  613,    0,    0,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,  266,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,  111,  112,   17,   18,    0,    0, 
-            0,    0,  113,  114,  115,   22,   23,   24,   25,    0, 
-            0,  116,    0,    0,    0,    0,    0,    0,   28,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  237,    0,    0,  123,    0, 
-            0,   46,   47,    0,   48,    0,  613,    0,    0,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,  266,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,  111,  112,   17,   18,    0,    0, 
-            0,    0,  113,  114,  115,   22,   23,   24,   25,    0, 
-            0,  116,    0,    0,    0,    0,    0,    0,   28,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  237,    0,    0,  123,    0, 
-            0,   46,   47,    0,   48,    0,  264,    0,    0,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,  266,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,  111,  112,   17,   18,    0,    0, 
-            0,    0,  113,  114,  115,   22,   23,   24,   25,    0, 
-            0,  116,    0,    0,    0,    0,    0,    0,   28,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  237,    0,    0,  123,    0, 
-            0,   46,   47,    0,   48,    0,  878,    0,    0,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,  266,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,  111,  112,   17,   18,    0,    0, 
-            0,    0,  113,  114,  115,   22,   23,   24,   25,    0, 
-            0,  116,    0,    0,    0,    0,    0,    0,   28,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  237,    0,    0,  123,    0, 
-            0,   46,   47,    0,   48,    0,  684,    0,    0,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,  266,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,  593,  593,  593,    0, 
-          593,    0,    0,    0,  593,  593,    0,    0,    0,  593, 
-            0,  593,  593,  593,  593,  593,  593,  593,    0,    0, 
-            0,    0,  593,  593,  593,  593,  593,  593,  593,    0, 
-            0,  593,    0,    0,    0,    0,    0,    0,  593,    0, 
-            0,  593,  593,  593,    0,  593,  593,  593,  593,  593, 
-          593,    0,  593,  593,  593,  593,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  593,    0,    0,  593,  593, 
-            0,  593,  593,    0,  593,    0,    0,    0,    0,    0, 
-          593,    0,    0,    0,    0,    0,    0,    0,  593,    0, 
-            0,    0,    0,  593,  593,  593,  593,  593,  593,    0, 
-            0,    0,  593,    0,  593,  593,    0,  593,  593,    0, 
-          593,  593,  593,    0,  593,  593,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,   15,   16,   17,   18,    0,    0, 
-            0,    0,   19,   20,   21,   22,   23,   24,   25,    0, 
-            0,   26,    0,    0,    0,    0,    0,    0,   28,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  237,    0,    0,  123,    0, 
-            0,   46,   47,    0,   48,    0,    0,    0,    0,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,   51,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,  111,  112,   17,   18,    0,    0, 
-            0,    0,  113,  114,  115,   22,   23,   24,   25,    0, 
-            0,  116,    0,    0,    0,    0,    0,    0,   28,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  237,    0,    0,  123,    0, 
-            0,   46,   47,    0,   48,    0,    0,    0,    0,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,  266,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,   15,   16,   17,   18,    0,    0, 
-            0,    0,   19,   20,   21,   22,   23,   24,   25,    0, 
-            0,  116,    0,    0,    0,    0,    0,    0,   28,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,   41,   42,   43,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  237,    0,    0,  123,    0, 
-            0,   46,   47,    0,   48,    0,    0,    0,    0,    0, 
-           50,    0,    0,    0,    0,    0,    0,    0,  266,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,  593,  593,  593,    0, 
-          593,    0,    0,    0,  593,  593,    0,    0,    0,  593, 
-            0,  593,  593,  593,  593,  593,  593,  593,    0,    0, 
-            0,    0,  593,  593,  593,  593,  593,  593,  593,    0, 
-            0,  593,    0,    0,    0,    0,    0,    0,  593,    0, 
-            0,  593,  593,  593,    0,  593,  593,  593,  593,  593, 
-          593,    0,  593,  593,  593,  593,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  593,    0,    0,  593,    0, 
-            0,  593,  593,    0,  593,    0,    0,    0,    0,    0, 
-          593,    0,    0,    0,    0,    0,    0,    0,  593,    0, 
-            0,    0,    0,  593,  593,  593,  593,  593,  593,    0, 
-            0,    0,  593,    0,  593,  593,    0,  593,  593,    0, 
-          593,  593,  593,    0,  593,  593,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,  111,  112,   17,   18,    0,    0, 
-            0,    0,  113,  114,  115,   22,   23,   24,   25,    0, 
-            0,  116,    0,    0,    0,    0,    0,    0,  117,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,    0,    0,  120,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  312,    0,    0,  391,    0, 
-            0,   46,   47,    0,   48,    0,  392,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,  111,  112,   17,   18,    0,    0, 
-            0,    0,  113,  114,  115,   22,   23,   24,   25,    0, 
-            0,  116,    0,    0,    0,    0,    0,    0,  117,    0, 
-            0,   31,   32,   33,    0,  118,   35,   36,   37,  119, 
-           39,    0,   40,    0,    0,  120,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  122,    0,    0,  123,    0, 
-            0,   46,   47,    0,   48,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,  111,  112,   17,   18,    0,    0, 
-            0,    0,  113,  114,  115,   22,   23,   24,   25,    0, 
-            0,  116,    0,    0,    0,    0,    0,    0,  117,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,    0,    0,  120,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  312,    0,    0,  391,    0, 
-            0,   46,   47,    0,   48,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,  111,  112,   17,   18,    0,    0, 
-            0,    0,  113,  114,  115,   22,   23,   24,   25,    0, 
-            0,  116,    0,    0,    0,    0,    0,    0,  117,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,    0,    0,  120,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  890,    0,    0,  123,    0, 
-            0,   46,   47,    0,   48,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,    4,    5,    6,    0, 
-            8,    0,    0,    0,    9,   10,    0,    0,    0,   11, 
-            0,   12,   13,   14,  111,  112,   17,   18,    0,    0, 
-            0,    0,  113,  114,  115,   22,   23,   24,   25,    0, 
-            0,  116,    0,    0,    0,    0,    0,    0,  117,    0, 
-            0,   31,   32,   33,    0,   34,   35,   36,   37,   38, 
-           39,    0,   40,    0,    0,  120,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  929,    0,    0,  123,    0, 
-            0,   46,   47,    0,   48,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,   52,   53,   54,   55,   56,   57,    0, 
-            0,    0,   58,    0,   59,   60,    0,   61,   62,    0, 
-           63,   64,   65,    0,   66,   67,  676,  595,    0,    0, 
-          677,    0,    0,    0,  178,  179,    0,  180,  181,  182, 
-          183,  184,  185,  186,    0,    0,  187,  188,    0,    0, 
-            0,  189,  190,  191,  192,    0,    0,    0,    0,    0, 
-          282,    0,    0,    0,    0,    0,    0,  194,  195,    0, 
-          196,  197,  198,  199,  200,  201,  202,  203,  204,  205, 
-          206,    0,    0,  207,  679,  603,    0,    0,  680,    0, 
-            0,    0,  178,  179,    0,  180,  181,  182,  183,  184, 
-          185,  186,    0,    0,  187,  188,    0,  208,    0,  189, 
-          190,  191,  192,    0,    0,    0,    0,    0,  282,    0, 
-            0,    0,    0,    0,    0,  194,  195,    0,  196,  197, 
-          198,  199,  200,  201,  202,  203,  204,  205,  206,    0, 
-            0,  207,  705,  595,    0,    0,  706,    0,    0,    0, 
-          178,  179,    0,  180,  181,  182,  183,  184,  185,  186, 
-            0,    0,  187,  188,    0,  208,    0,  189,  190,  191, 
-          192,    0,    0,    0,    0,    0,  282,    0,    0,    0, 
-            0,    0,    0,  194,  195,    0,  196,  197,  198,  199, 
-          200,  201,  202,  203,  204,  205,  206,    0,    0,  207, 
-          708,  603,    0,    0,  709,    0,    0,    0,  178,  179, 
-            0,  180,  181,  182,  183,  184,  185,  186,    0,    0, 
-          187,  188,    0,  208,    0,  189,  190,  191,  192,    0, 
-            0,    0,    0,    0,  282,    0,    0,    0,    0,    0, 
-            0,  194,  195,    0,  196,  197,  198,  199,  200,  201, 
-          202,  203,  204,  205,  206,    0,    0,  207,  992,  595, 
-            0,    0,  993,    0,    0,    0,  178,  179,    0,  180, 
-          181,  182,  183,  184,  185,  186,    0,    0,  187,  188, 
-            0,  208,    0,  189,  190,  191,  192,    0,    0,    0, 
-            0,    0,  282,    0,    0,    0,    0,    0,    0,  194, 
-          195,    0,  196,  197,  198,  199,  200,  201,  202,  203, 
-          204,  205,  206,    0,    0,  207,  995,  603,    0,    0, 
-          996,    0,    0,    0,  178,  179,    0,  180,  181,  182, 
-          183,  184,  185,  186,    0,    0,  187,  188,    0,  208, 
-            0,  189,  190,  191,  192,    0,    0,    0,    0,    0, 
-          282,    0,    0,    0,    0,    0,    0,  194,  195,    0, 
-          196,  197,  198,  199,  200,  201,  202,  203,  204,  205, 
-          206,    0,    0,  207, 1009,  595,    0,    0, 1010,    0, 
-            0,    0,  178,  179,    0,  180,  181,  182,  183,  184, 
-          185,  186,    0,    0,  187,  188,    0,  208,    0,  189, 
-          190,  191,  192,    0,    0,    0,    0,    0,  282,    0, 
-            0,    0,    0,    0,    0,  194,  195,    0,  196,  197, 
-          198,  199,  200,  201,  202,  203,  204,  205,  206,    0, 
-            0,  207,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,    0,    0,    0,    0,    0, 
-            0,    0,    0,    0,    0,  208, 
-      };
-   }
-
-   private static final short[] yyCheck1() {
-      return new short[] {
-
-            2,   26,   89,   28,   27,   21,   75,   10,   11,  100, 
-          336,    2,    3,    4,    5,  422,  390,    8,    9,   10, 
-           11,    6,  246,   14,   15,   16,  336,   51,   19,    4, 
-            5,  437,  442,    7,  414,  383,  274,    2,    3,   14, 
-            2,    3,    3,    8,  550,   47,   48,   10,   59,  454, 
-            6,    7,  457,   27,   45,   46,    0,  336,   49,    7, 
-           51,   10,   15,   16,  412,    0,   19,   52,   15,   16, 
-           59,   27,   19,  307,   49,  457,  310,   10,   10,   27, 
-           45,   91,  825,  431,  559,  107,   11,   15,   16,  827, 
-          416,   19,  117,  109,  122,   21,   52,  445,   61,  381, 
-           47,   48,  384,    0,   49,  387,  416,   10,   10,  100, 
-          492,   44,   44,   10,  731,  642,   10,   10,  593,   47, 
-          733,   10,   10,   10,  340,  100,   59,   59,   10,   10, 
-          121,  413,  123,   10,   10,   10,  744,  664,  477,  298, 
-          107,   44,   44,   10,   44,   10,   10,  340,  430,   45, 
-          432,  678,  500,  240,  938,   10,   59,   59,  123,  915, 
-           10,   61,   59,   44,  446,   59,   59,   10,  911,  256, 
-           59,   59,   59,   10,   10,  305,   10,   59,   59,  280, 
-          707,   10,  107,  109,   59,  754,   10,  361,   10,  115, 
-          310,  760,   59,   10,   59,   59,  280,   45,  480,   32, 
-          125,  527,  528,   10,   59,  131,  328,  294,   44,   59, 
-           10,  233,  305,  335,   32,   44,   59,   10,  528,  501, 
-           44,   10,  313,  966,   10,   61,  964,  314,  466,   10, 
-           59, 1015,  391,   10,   10,   10,   91,   44,  229,  230, 
-           10,  849,   43,  282,  374,  502, 1002,  308,   10,  528, 
-          253,  254,   10,   10,   61,   44,  340,  637, 1001,   59, 
-          361,  668,  253,  254,  229,  230,  233,  229,  648,   10, 
-           59,   10,   10,   10,   10,  123,   10,  361,   10,   10, 
-          282,  374,  249,  341,   91,   32,  691,  692,  279,   59, 
-          281,  282,   10,  344,  285,  365,  287,   10,  773,  916, 
-          358,  292,   91,   61,  290,  291,   44,  298,  233,  922, 
-          692,  362,  651,   44,  375,  376,  279,  934,  328,  120, 
-          646,  394,  313,  341,  249,  335,  279,  292,  281,  282, 
-          341,   44,  279,  298,  281,  325,  646,   10,  313,  845, 
-          358,   59,  345,  346,  347,  348,   59,  853,  421,  268, 
-          269,  279,  858,  281,  345,  346,  347,  348,  349,  350, 
-          351,  269,   32,  271,  388,  622,  390,  646,  358,  358, 
-          394,  395,  305,  305,  384,  262,  263,  264,  341,  279, 
-           32,  383,  269,  411,  349,  267,   59,  349,  281,   32, 
-          716,  717,  383,  767, 1011,  344,  337,  388,  808,  390, 
-          391,  392,  298,  394,  395,  731,  397,  733,  341,  341, 
-          412,  502,  267,  256,  290,  291,   44,  392,  362,  421, 
-          422,  412,   61,  414,  415,  358,  391,  362,  384,  431, 
-          383,  387,  397,  337,  425,  397,  397,  428,  267,   61, 
-          431,  374,  374,  445,  292,  436,  670,  392,  686,  414, 
-          298,  474,  341,   44,  445,  358,  358,  413,  384,  412, 
-          425,   44,  390,  428,  341,  362,  394,  994,  362,  703, 
-          358,  436,  279,  328,  361,  477,  432,  358,  431,  985, 
-          335,   91,  407,  358,  475,  340,  477,  413,   44,   10, 
-          446,  358,  445,  421,  264,  391,  903,  903,  500,  825, 
-          474,  827,  907,  883,  341,  341,  432,  454,   91,  500, 
-          438,  502,  477,  356,  771,  477,  441,  442,  474,  341, 
-          446,  328,  344,  340,  480,  907,  474,  502,  335,  384, 
-          340,  622,  306,  340,  341,   91,  310,  370,  371,  328, 
-           61,  341,  489,  391,  377,  501,  335,  500,  341,   10, 
-           10,  340,  370,  371,  480,  341,  558,  559,  344,  377, 
-          341,   10,  888,  787,  341,  341,  341,  592,  344,  358, 
-           44,  951,  541,  542,  812,  501,  601,  384,  888,  341, 
-          428,  597,  344,  341,  341,  911,  912,  305,  436,  605, 
-          262,  593,  305,   10,  610,  384,  922,   10,   59,   59, 
-          341,   10,  341,  605,  341,  341,  954,  341,  610,  341, 
-           59,    0,  310,  704,  349,  350,   10,  642,  370,  371, 
-          372,   10,  264,  341,  372,  377,  337,  650,  341,  377, 
-           91,  622,  305,  636,   10,   44,  388,   61,  964,  664, 
-          966,  643,   91,   10,   61,  636,  637,  622,   61,  651, 
-           59,  337,  654,  678,  271,  657,  374,  648,  660,   10, 
-          651,  374,  263,  264,  649,  656,  668,   61,  341,   59, 
-           59,  597,  637,  955,  898, 1001,  650,  310,  681,  605, 
-          771,  279,  707,  648,  610,   61,  651,  338,   44,  651, 
-          681,  656,   59,  649,  650,  764,  279,  722,    2,    3, 
-           10,  374,  650,   44,    8,    9,   10,   11,   59,  634, 
-          317,   15,   16,  704,  640,   19,  372,  643,  328,  744, 
-          711,  377,  647,  279,   10,  335,   44,  751,  752,  704, 
-          263,  264,  285,  757,  758,  372,  269,  728,  729,  317, 
-          377,   45,   46,  767,  691,  328,  711,   51,  301,   59, 
-          303,  372,  335,  361,  341,  746,  377,  748,  279,  750, 
-          751,  752,  337,  728,  729,  344,  757,  758,  370,  371, 
-          372,  773,  328,   91,  384,  377,  767,  362,   10,  335, 
-          771,  746,  310,  748,  340,  750,    2,    3,    4,    5, 
-          793,   10,    8,  370,  371,  786,  771,   10,   14,  790, 
-          377,  384,  793,  380,  891,   44,  267,  267,  656,   44, 
-          372,  786,  372,  804,  805,  806,   44,  121,  267,  123, 
-          341,  372,  372,  346,  849,  790,  340,   59,  384,   45, 
-          361,   10,  306,   49,  308,  309,  310,  311,  269,  804, 
-          805,  806,   61,  264,  868,  267,   59,  341,   10,   44, 
-          775,   44,   91,  370,  371,  372,  847,   44,  267,   10, 
-          377,  362,  279,  711,  833,   44,  279,  328,  837,  838, 
-           10,  840,  847,  842,  335,   32,   61,  868,  338,  328, 
-          728,  729,   61,  808,  100,  279,  335,  306,  370,  371, 
-          372,  882,  883,   44,   10,  377,  263,  264,  746,   61, 
-          748,  903,  750,  279,   44,  896,  459,  123,   59,    9, 
-           10,   11,   91,  306,  467,  468,  267,  882,  883,   44, 
-           44,   61,   44,  384,  341,  229,  230,   44,  341,  338, 
-          483,  896,   44,  486,   10,  384,  306,  928,   44,   32, 
-           91,  337,  790,   61,  969,   61,   46,  341,   44,  253, 
-          254,   91,  954,  928,  264,  337,  804,  805,  806,  269, 
-          951,  279,  337,  954,  337,  341,  957,   44,   44,  994, 
-          378,  379,  963,  381,  382,  279,  264,  281,  282,   91, 
-           91,  285,  263,  287,   10,   61,  951,  337,  292,  338, 
-          337,  337,  957,  337,  298,  264,  998,  362,  963,  955, 
-           10,  954,   44,  972,  973,  974,  975,   58,   10,  337, 
-          328,  344,   91,  229,  230,   91,  264,  335,   10,  264, 
-          306,  121,  308,  309,  310,  311,  312,  362,  264,  955, 
-          337,  317,  264,   59,  882,  264,   44,  269,  362,  271, 
-          279,  345,  346,  347,  348,  349,  350,  351,  896,   59, 
-           44,  264,   44,  339,   10,  268,  269,   91, 1027,   61, 
-          279,  347,  348,  349,  350,   91,  384,  341,  621,   61, 
-           59,    2,    3,    4,    5,    6,  292,    8,   44,  383, 
-          264,   91,  298,   14,  388,   10,  390,  391,   44,  328, 
-          394,  395,  645,  397,   91,  317,  335,  313,  362,   91, 
-          279,  387,    0,   44,   44,   61,   44,   61,  412,  957, 
-          414,  415,   10,  362,   45,  963,   44,  279,   49,   44, 
-           44,  425,  341,   44,  428,   44,  348,  431,  358,  280, 
-          352,  353,  436,  349,  264,   91,   61,   10,  264,  279, 
-          280,  445,  310,  696,   91,  384,   44,   15,   16,  328, 
-          264,   19,   44,  253,  254,  264,  335,   10,  370,  371, 
-          372,   59,  341,  279,  310,  377,   91,  279,  721,  100, 
-          358,  475,  362,  477,  264,  391,  392,  328,   44,  341, 
-           44,  397,   44,   44,  335,  285,   59,  287,  328,  340, 
-           44,  264,  123,   44,  264,  335,  500,   44,  414,  271, 
-          340,  341,   10,  279,  280,  384,   59,  358,  344,  425, 
-          361,  340,  428,   91,  362,  271,  328,  328,   91,  362, 
-          436,  361,  341,  335,  335,  341,  731,  780,  733,  312, 
-           58,  344,   44,  384,  317,  264,   44,  344,   91,  744, 
-          344,  267,  211,  267,  384,  345,  346,  347,  348,  328, 
-          350,  351,  328,   61,  280,   71,  335,  267,   54,  335, 
-          338,  477,    5,    2,    3,  341,  349,  350,  998,    8, 
-          280,  824,  384,  384,    6,   14,  425,  279,  610,   91, 
-          731,  744,  888,   91,  934,  361,  502,  279,  280,  735, 
-          936,   10,  763,   14,  328,  956,   44,   10,  229,  230, 
-          716,  335,  328, 1002,  387,  384,   45,   -1,  384,  335, 
-            2,    3,    4,    5,    6,  415,    8,   -1,  328,   -1, 
-           -1,   44,   14,  279,   -1,  335,   -1,  370,  371,  372, 
-          340,  328,  636,  637,  377,  361,  328,   -1,  335,  341, 
-           59,   -1,   -1,  335,  648,   -1,   59,  651,  340,  341, 
-          384,  361,  656,   45,  279,  280,   -1,   49,  384,   -1, 
-           10,  292,   -1,   -1,  262,  263,  264,  298,   91,  361, 
-          268,  269,  328,  271,  384,  475,   -1,  681,   -1,  335, 
-           -1,  328,  313,   -1,  123,  341,   -1,  384,  335,   10, 
-           -1,   -1,  384,   -1,  267,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,  328,   -1,   -1,  622,  711,  100,   59, 
-          335,  279,   -1,  281,  267,  340,  341,  922,  349,   -1, 
-           -1,  637,   -1,   -1,  728,  729,   -1,  280,  384,  934, 
-           10,  123,  648,  938,   -1,  651,  361,  384,   59,   -1, 
-          656,   91,  746,  341,  748,   -1,  750,  751,  752,   -1, 
-          328,   -1,   -1,  757,  758,  328,   -1,  335,   -1,  384, 
-          391,  392,  335,  767,  362,   -1,  397,  279,  280,   -1, 
-           91,  279,   -1,  308,  309,  328,  311,   -1,   -1,   59, 
-           -1,   -1,  335,  414,   -1,   -1,  790,  340,  704,  793, 
-          229,  230,   -1,   10,  425,  711,  712,  428,   -1,   -1, 
-          804,  805,  806,   -1,   -1,  436,  384,   -1,  361,   -1, 
-         1015,  384,  728,  729,   -1,   -1,  328,   -1,   -1,   -1, 
-          328,   -1,   -1,  335,   -1,   -1,   -1,  335,  340,   -1, 
-          746,  384,  748,  341,  750,   -1,  636,  229,  230,   -1, 
-          375,  376,   59,  262,  263,  264,  477,   -1,   -1,  361, 
-          269,   10,   -1,  292,   -1,  771,  279,  280,  306,  298, 
-          308,  309,  310,  311,  868,   10,   -1,   -1,   -1,   -1, 
-          786,  502,  384,  328,  790,  330,  384,  332,  882,  883, 
-           -1,  681,   -1,  338,   -1,   44,   -1,   -1,  804,  805, 
-          806,   10,  896,  306,   -1,  308,  309,  310,  311,  312, 
-          292,   -1,   61,   -1,  317,  328,  298,   -1,   -1,   -1, 
-          349,   -1,  335,   -1,   59,  328,   -1,  267,  370,  371, 
-          372,  313,  335,   -1,   -1,  377,  339,  340,   -1,   -1, 
-          280,  847,   91,   -1,  347,  348,  349,  350,  361,   -1, 
-           59,  370,  371,  372,  312,   -1,  267,  951,  377,  317, 
-          954,  390,  391,  957,   -1,   -1,   -1,  349,  397,  963, 
-           -1,  384,  370,  371,  372,   -1,  882,  883,  306,  377, 
-          308,  309,  310,  311,  387,  414,   -1,   -1,  328,   -1, 
-          896,  349,  350,   -1,   -1,  335,  425,   -1,   -1,  428, 
-          340,  622,   -1,  793,   -1,   -1,  451,  436,   -1,  391, 
-          392,  339,   -1,   -1,   -1,  397,  637,  328,   -1,  347, 
-           -1,  361,  928,   -1,  335,   -1,   -1,  648,   -1,  387, 
-          651,   -1,  414,   -1,   -1,  656,  306,   -1,  308,  309, 
-          310,  311,  312,  425,  384,  951,  428,  317,  477,   -1, 
-           -1,  957,   -1,   -1,  436,   -1,   -1,  963,  328,  306, 
-           -1,  308,  309,  310,  311,  335,   -1,   -1,   -1,  339, 
-          340,  516,   -1,  384,   48,   -1,   -1,  347,  348,  349, 
-          350,   -1,   -1,  704,   -1,   -1,   -1,    0,   -1,   -1, 
-          711,   -1,  339,   -1,   -1,  477,   10,   10,   -1,  306, 
-          347,  308,  309,  310,  311,  312,   -1,  728,  729,  554, 
-          317,  306,   -1,  308,  309,  310,  311,  387,   -1,   -1, 
-          502,  328,   -1,   -1,   -1,  746,   -1,  748,  335,  750, 
-          279,   -1,  339,  340,  306,   -1,  308,  309,  310,  311, 
-          347,  348,  349,  350,  339,   59,   59,   -1,   -1,   -1, 
-          771,   -1,   -1,  262,  263,  264,   -1,   -1,   -1,  268, 
-          269,   -1,  271,   -1,   44,  786,   -1,   -1,   -1,  790, 
-           -1,  306,   -1,  308,  309,  310,  311,  312,   -1,  328, 
-          387,   -1,  317,  804,  805,  806,  335,   -1,  262,  263, 
-          264,   -1,  341,  328,  268,  269,   -1,  271,   10,   -1, 
-          335,   -1,   -1,   -1,  339,  340,  317,   -1,  637,   -1, 
-           -1,   91,  347,  348,  349,  350,   -1,   -1,   -1,  648, 
-           -1,   -1,  651,   -1,   -1,   -1,  847,  656,   -1,   -1, 
-           -1,   -1,  341,   -1,   -1,  384,   -1,  348,   -1,   -1, 
-          622,  352,  353,  354,  355,   15,   16,   59,   -1,   19, 
-           -1,   -1,  387,  362,  306,  637,  308,  309,  310,  311, 
-          312,  882,  883,   -1,   -1,  317,  648,  341,   -1,  651, 
-           -1,   41,   42,   -1,  656,  896,   -1,   47,   48,   -1, 
-           50,   51,  711,   -1,   -1,   -1,   -1,  339,  362,  263, 
-          264,  265,   -1,   -1,  268,  347,  348,  349,  350,  728, 
-          729,  293,  294,  295,  296,  297,   -1,  928,   -1,  262, 
-          263,  264,   -1,   -1,   -1,  268,  269,  746,  271,  748, 
-           -1,  750,  704,   -1,   -1,   -1,   -1,   -1,   -1,  711, 
-          951,   -1,   -1,   -1,  735,  387,  957,  738,  767,   -1, 
-           -1,   -1,  963,  744,   -1,   -1,  728,  729,   -1,  262, 
-          263,  264,   -1,   -1,   -1,  268,  269,  786,  271,    0, 
-           -1,  790,   -1,   -1,  746,   -1,  748,   -1,  750,   10, 
-           -1,   -1,   -1,   -1,   -1,  804,  805,  806,   -1,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,  341,  771, 
-           -1,   -1,  306,   -1,  308,  309,  310,  311,  312,  279, 
-          280,   -1,   -1,  317,  786,   -1,   -1,   -1,  790,  362, 
-           -1,   -1,   -1,   -1,  328,   -1,  390,   -1,   59,   -1, 
-          394,  335,  804,  805,  806,  339,  340,   -1,  341,   -1, 
-            0,   -1,   -1,  347,  348,  349,  350,   -1,   -1,   -1, 
-           10,   -1,   -1,   -1,   44,   -1,   -1,  421,  328,  362, 
-          262,  263,  264,  882,  883,  335,  268,  269,   -1,  271, 
-          340,   -1,   -1,   -1,  438,  847,   -1,  896,   -1,   -1, 
-           -1,   -1,   -1,  387,   44,   -1,   -1,   -1,   -1,  453, 
-          454,  361,    0,  457,   -1,   -1,   -1,   -1,   -1,   59, 
-           -1,   91,   10,  263,  264,  265,  266,   -1,  268,   -1, 
-          882,  883,   -1,   -1,  384,   -1,   -1,   -1,   -1,  279, 
-           -1,  281,  282,   -1,  896,  489,   -1,   -1,  492,   -1, 
-          290,   -1,  951,   -1,   -1,   -1,   44,   -1,  957,  341, 
-          931,   -1,   -1,  934,  963,  936,   -1,  938,   -1,   -1, 
-           -1,   59,   -1,   61,   -1,   63,  928,   -1,   -1,   -1, 
-          362,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           10,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  951, 
-           -1,   -1,   -1,   91,   -1,  957,   -1,  551,   -1,   -1, 
-           -1,  963,  352,  353,  354,  355,  356,  357,  358,  359, 
-          360,  361,  362,  363,  364,  365,  366,  367,  368,  369, 
-          370,  371,  372,  373,  374,  375,  376,  377,   -1,   59, 
-         1011,   -1, 1013,  383, 1015,   -1,   -1, 1018,  388,   -1, 
-          390,  262,  263,  264,  394,  395,  267,  268,  269,   -1, 
-          271,   -1,   -1, 1034,   -1,   -1,   -1,   -1,   -1,  613, 
-          281,  282,  412,   -1,   -1,   -1,   -1,   -1,   -1,  290, 
-          291,  421,  293,  294,  295,  296,  297,   -1,   -1,   -1, 
-           -1,  431,   -1,  433,  434,  435,   -1,   -1,  438,  735, 
-           -1,   -1,   -1,   -1,   -1,  445,   -1,   -1,  744,  279, 
-          280,   -1,   -1,  453,  454,   -1,   -1,  457,   -1,   -1, 
-           -1,   -1,  262,  263,  264,   -1,   -1,  267,  268,  269, 
-          341,  271,   -1,  344,   -1,  346,   -1,   -1,  682,   -1, 
-          684,  481,  482,   -1,   -1,   -1,   -1,  691,  692,  489, 
-           -1,  362,  492,  293,  294,  295,  296,  297,  328,   -1, 
-          500,   -1,   -1,   -1,   -1,  335,   -1,   -1,   -1,   -1, 
-          340,   10,   -1,   -1,  262,  263,  264,   -1,   -1,  723, 
-          268,  269,  306,  271,  308,  309,  310,  311,  312,   -1, 
-           -1,  361,   -1,  317,   -1,   -1,   -1,   -1,  338,   -1, 
-           -1,  341,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           -1,  551,   -1,   -1,  384,  339,   -1,   -1,   -1,   -1, 
-           59,   -1,  362,   -1,  768,  349,  350,   -1,   -1,  317, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-          328,  329,  330,   -1,   -1,  333,  334,  335,   -1,  337, 
-           -1,   -1,   -1,  341,   -1,   -1,   -1,  850,   -1,  803, 
-          348,  854,  350,  387,  352,  353,  354,  355,  356,  357, 
-          358,   -1,  360,  613,  362,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  306,   -1,  308,  309, 
-          310,  311,  312,   -1,   -1,  931,  384,  317,  934,   -1, 
-          936,  317,  938,   -1,   -1,   -1,   -1,   -1,  328,   -1, 
-           -1,   -1,   -1,    0,   -1,  335,   -1,  333,  334,  339, 
-          340,   -1,   -1,   10,   -1,   -1,   -1,  347,  348,  349, 
-          350,   -1,  348,   -1,  878,   -1,  352,  353,  354,  355, 
-           -1,   -1,  682,   -1,  684,   -1,   -1,   -1,   -1,   -1, 
-           -1,  691,  692,   -1,   -1,   -1,   -1,   44,   -1,   -1, 
-           -1,   -1,   -1,  907,  317,   -1,   -1,  387,   -1,   -1, 
-           -1,   58,   59,   -1,   61, 1011,   63, 1013,   -1, 1015, 
-          333,  334, 1018,  723,   -1,   -1,  979,   -1,   -1,  982, 
-          983,   -1,   -1,  986,  987,  348,   -1,  350, 1034,  352, 
-          353,  354,  355,   -1,   91,  358,   -1,  360,   -1,   -1, 
-           -1,  751,  752,   -1,   -1,   -1,   -1,  757,  758,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  766,  767,  768,   -1, 
-           -1,   -1,  772,   -1,   -1, 1028, 1029, 1030, 1031,   -1, 
-           -1,   -1,   -1,   -1,    0, 1038,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   10,   -1,  796,  797,   -1,  799, 
-          800,   -1,   -1,  803,   -1,   -1,   -1,  306,   -1,  308, 
-          309,  310,  311,  312,   -1,   -1,   -1,   -1,  317,   -1, 
-           -1,  306,   -1,  308,  309,  310,  311,  312,   44,  328, 
-           -1,   -1,  317,   -1,   -1,   -1,  335,   -1,   -1,   -1, 
-          339,  340,   58,   59,   -1,   61,   -1,   63,  347,  348, 
-          349,  350,   -1,   -1,  339,  340,  317,   -1,   -1,   -1, 
-           -1,  861,  347,  348,  349,  350,   -1,   -1,  868,   -1, 
-           -1,   -1,  333,  334,   -1,   91,   -1,   -1,  878,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  348,  387,  350, 
-           -1,  352,  353,  354,  355,   -1,   -1,   -1,   -1,   -1, 
-          900,   -1,  387,   -1,   10,   -1,   -1,  907,   -1,   -1, 
-          257,  258,  259,   -1,  261,  262,  263,  264,  265,  266, 
-          267,  268,  269,  270,  271,  272,  273,  274,  275,  276, 
-          277,  278,  279,  280,  281,  282,  283,  284,  285,  286, 
-          287,  288,  289,  290,  291,  292,  293,  294,  295,  296, 
-          297,   -1,  299,   59,  954,  302,  303,  304,  305,  306, 
-          307,  308,  309,  310,  311,  312,  313,  314,  315,  316, 
-          317,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,  328,  329,  330,   -1,   -1,  333,  334,  335,  336, 
-          337,  338,  339,  340,  341,  342,  343,  344,  345,  346, 
-          347,  348,  349,  350,  351,  352,  353,  354,  355,  356, 
-          357,  358,  359,  360,  361,  362,   63,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,  374,  375,  376, 
-           -1,  378,  379,   -1,  381,  382,  383,  384,  385,  386, 
-          387,  257,  258,  259,   -1,  261,  262,  263,  264,  265, 
-          266,  267,  268,  269,  270,  271,  272,  273,  274,  275, 
-          276,  277,  278,  279,  280,  281,  282,  283,  284,  285, 
-          286,  287,  288,  289,  290,  291,  292,  293,  294,  295, 
-          296,  297,   -1,  299,   -1,   -1,  302,  303,  304,  305, 
-          306,  307,  308,  309,  310,  311,  312,  313,  314,  315, 
-          316,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,  328,  329,  330,   -1,   -1,  333,  334,  335, 
-          336,  337,  338,  339,  340,  341,  342,  343,  344,  345, 
-          346,  347,  348,  349,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,  361,  362,   -1,  364,  365, 
-          366,  367,  368,  369,    0,   -1,   -1,  373,  374,  375, 
-          376,   -1,  378,  379,   10,  381,  382,  383,  384,  385, 
-          386,  387,   -1,   -1,   -1,  306,   -1,  308,  309,  310, 
-          311,  312,   -1,   -1,   -1,   -1,  317,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   44,   -1, 
-          306,   -1,  308,  309,  310,  311,  312,   -1,  339,   -1, 
-           -1,  317,   58,   59,   -1,   61,   -1,   63,  349,  350, 
-           -1,  306,  328,  308,  309,  310,  311,  312,   -1,  335, 
-           -1,   -1,  317,  339,  340,   -1,   -1,   -1,   -1,   -1, 
-           -1,  347,  348,  349,  350,   91,   -1,   -1,   -1,   -1, 
-          297,   -1,   -1,   -1,  339,  340,  387,   -1,   -1,   -1, 
-           -1,   -1,  347,  348,  349,  350,   -1,   -1,   -1,   -1, 
-          317,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,  387,  329,  330,   -1,    0,  333,  334,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   10,   -1,   -1,   -1,   -1, 
-           -1,  348,  387,  350,   -1,  352,  353,  354,  355,  356, 
-          357,  358,  306,  360,  308,  309,  310,  311,  312,   -1, 
-           -1,   -1,   -1,  317,   -1,   -1,   -1,   -1,   -1,   44, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   58,   59,  339,   61,   -1,   63,   -1, 
-           -1,   -1,   -1,  347,  348,  349,  350,   -1,   -1,   -1, 
-           -1,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,   -1,   -1,   -1,   -1,   91,  333,  334,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  348,  387,  350,   -1,  352,  353,  354,  355, 
-          356,  357,  358,   -1,  360,   10,   -1,   -1,   -1,   -1, 
-           -1,  257,  258,  259,   -1,  261,  262,  263,  264,  265, 
-          266,  267,  268,  269,  270,  271,  272,  273,  274,  275, 
-          276,  277,  278,   -1,  280,  281,  282,  283,  284,  285, 
-          286,  287,  288,  289,  290,  291,  292,  293,  294,  295, 
-          296,  297,   -1,  299,   59,   -1,  302,  303,  304,  305, 
-          306,  307,  308,  309,  310,  311,  312,  313,  314,  315, 
-          316,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,  328,  329,  330,   -1,   -1,  333,  334,  335, 
-          336,   -1,  338,  339,  340,  341,  342,  343,  344,  345, 
-          346,  347,  348,  349,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,  361,  362,   63,  364,  365, 
-          366,  367,  368,  369,   -1,   -1,   -1,  373,  374,  375, 
-          376,   -1,  378,  379,   -1,  381,  382,  383,  384,  385, 
-          386,  387,  257,  258,  259,   -1,  261,  262,  263,  264, 
-          265,  266,  267,  268,  269,  270,  271,  272,  273,  274, 
-          275,  276,  277,  278,   -1,  280,  281,  282,  283,  284, 
-          285,  286,  287,  288,  289,  290,  291,  292,  293,  294, 
-          295,  296,  297,   -1,  299,   -1,   -1,  302,  303,  304, 
-          305,  306,  307,  308,  309,  310,  311,  312,  313,  314, 
-          315,  316,  317,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,  328,  329,  330,   -1,   -1,  333,  334, 
-          335,  336,   -1,  338,  339,  340,  341,  342,  343,  344, 
-          345,  346,  347,  348,  349,  350,  351,  352,  353,  354, 
-          355,  356,  357,  358,  359,  360,  361,  362,   -1,  364, 
-          365,  366,  367,  368,  369,    0,   -1,   -1,  373,  374, 
-          375,  376,   -1,  378,  379,   10,  381,  382,  383,  384, 
-          385,  386,  387,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   44, 
-           -1,  306,   -1,  308,  309,  310,  311,  312,   -1,   -1, 
-           -1,   -1,  317,   58,   59,   -1,   61,   -1,   63,   -1, 
-           -1,  317,   -1,  328,   -1,   -1,  322,  323,   -1,   -1, 
-          335,   -1,   -1,   -1,  339,  340,   -1,  333,  334,   -1, 
-           -1,   -1,  347,  348,  349,  350,   91,   -1,   -1,   -1, 
-           -1,  297,  348,   -1,  350,   -1,  352,  353,  354,  355, 
-          356,  357,  358,   -1,  360,   -1,   -1,   -1,   -1,   -1, 
-           -1,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,  387,  329,  330,   -1,    0,  333,  334,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1,   -1, 
-           -1,   -1,  348,   -1,  350,   -1,  352,  353,  354,  355, 
-          356,  357,  358,   -1,  360,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   58,   59,   -1,   -1,   -1,   63, 
-           -1,   -1,   -1,  306,  307,   -1,   -1,  310,   -1,   -1, 
-           -1,  314,  315,   -1,  317,  318,  319,  320,  321,  322, 
-          323,   -1,   -1,  326,  327,   -1,   -1,   91,  331,  332, 
-          333,  334,   -1,   -1,   -1,   -1,   -1,  340,   -1,   -1, 
-           -1,   -1,   -1,   -1,  347,  348,   -1,  350,  351,  352, 
-          353,  354,  355,  356,  357,  358,  359,  360,   -1,   -1, 
-          363,   -1,  257,  258,  259,   -1,  261,  262,  263,  264, 
-          265,  266,  267,  268,  269,  270,  271,  272,  273,  274, 
-          275,  276,  277,  278,  387,  280,  281,  282,  283,  284, 
-          285,  286,  287,  288,  289,  290,  291,  292,  293,  294, 
-          295,  296,  297,   -1,  299,   -1,   -1,  302,  303,  304, 
-          305,  306,  307,  308,  309,  310,  311,  312,  313,  314, 
-          315,  316,  317,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,  328,  329,  330,   -1,   -1,  333,  334, 
-          335,  336,   -1,  338,  339,  340,  341,  342,  343,  344, 
-          345,  346,  347,  348,  349,  350,  351,  352,  353,  354, 
-          355,  356,  357,  358,  359,  360,  361,  362,   63,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,  374, 
-          375,  376,   -1,  378,  379,   -1,  381,  382,  383,  384, 
-          385,  386,  387,  257,  258,  259,   -1,  261,  262,  263, 
-          264,  265,  266,  267,  268,  269,  270,  271,  272,  273, 
-          274,  275,  276,  277,  278,   -1,  280,  281,  282,  283, 
-          284,  285,  286,  287,  288,  289,  290,  291,  292,  293, 
-          294,  295,  296,  297,   -1,  299,   -1,   -1,  302,  303, 
-          304,  305,  306,  307,  308,  309,  310,  311,  312,  313, 
-          314,  315,  316,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,   -1,  333, 
-          334,  335,  336,   -1,  338,  339,  340,  341,  342,  343, 
-          344,  345,  346,  347,  348,  349,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,  361,  362,   -1, 
-          364,  365,  366,  367,  368,  369,    0,   -1,   -1,  373, 
-          374,  375,  376,   -1,  378,  379,   10,  381,  382,  383, 
-          384,  385,  386,  387,   -1,   -1,  306,  307,   -1,   -1, 
-          310,   -1,   -1,   -1,  314,  315,   -1,  317,  318,  319, 
-          320,  321,  322,  323,   -1,   -1,  326,  327,   -1,   -1, 
-           44,  331,  332,  333,  334,   -1,   -1,   -1,   -1,   -1, 
-          340,   -1,   -1,   -1,   58,   59,   -1,  347,  348,   63, 
-          350,  351,  352,  353,  354,  355,  356,  357,  358,  359, 
-          360,   -1,   -1,  363,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   91,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  387,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  317,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,   -1,  329,  330,   -1,    0,  333,  334, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,  348,   -1,  350,   -1,  352,  353,  354, 
-          355,  356,  357,  358,   -1,  360,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   58,   59,   -1,   -1,   -1, 
-           63,   -1,   -1,   -1,  306,  307,   -1,   -1,  310,   -1, 
-           -1,   -1,  314,  315,   -1,  317,  318,  319,  320,  321, 
-          322,  323,   -1,   -1,  326,  327,   -1,   -1,   91,  331, 
-          332,  333,  334,   -1,   -1,   -1,   -1,   -1,  340,   -1, 
-           -1,   -1,   -1,   -1,   -1,  347,  348,   -1,  350,  351, 
-          352,  353,  354,  355,  356,  357,  358,  359,  360,   -1, 
-           -1,  363,   -1,  257,  258,  259,   -1,  261,  262,  263, 
-          264,  265,  266,  267,  268,  269,  270,  271,  272,  273, 
-          274,  275,  276,  277,  278,  387,  280,  281,  282,  283, 
-          284,  285,  286,  287,  288,  289,  290,  291,  292,  293, 
-          294,  295,  296,  297,   -1,  299,   -1,   -1,  302,  303, 
-          304,  305,  306,  307,  308,  309,  310,  311,  312,  313, 
-          314,  315,  316,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,   -1,  333, 
-          334,  335,  336,   -1,  338,  339,  340,  341,  342,  343, 
-          344,  345,  346,  347,  348,  349,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,  361,  362,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-          374,  375,  376,   -1,  378,  379,   -1,  381,  382,  383, 
-          384,  385,  386,  387,  257,  258,  259,   -1,  261,  262, 
-          263,  264,  265,  266,  267,  268,  269,  270,  271,  272, 
-          273,  274,  275,  276,  277,  278,   59,  280,  281,  282, 
-          283,  284,  285,  286,  287,  288,  289,  290,  291,  292, 
-          293,  294,  295,  296,  297,   -1,  299,   -1,   -1,  302, 
-          303,  304,  305,  306,  307,  308,  309,  310,  311,  312, 
-          313,  314,  315,  316,  317,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,  328,  329,  330,   -1,   -1, 
-          333,  334,  335,  336,   -1,  338,  339,  340,  341,  342, 
-          343,  344,  345,  346,  347,  348,  349,  350,  351,  352, 
-          353,  354,  355,  356,  357,  358,  359,  360,  361,  362, 
-           -1,  364,  365,  366,  367,  368,  369,    0,   -1,   -1, 
-          373,  374,  375,  376,   -1,  378,  379,   10,  381,  382, 
-          383,  384,  385,  386,  387,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  306,  307,   -1,   -1,  310,   -1,   -1,   -1, 
-          314,  315,   -1,  317,  318,  319,  320,  321,  322,  323, 
-           -1,   44,  326,  327,   -1,   -1,   -1,  331,  332,  333, 
-          334,   -1,   -1,   -1,   -1,   58,   59,   -1,   61,   -1, 
-           63,   -1,   -1,  347,  348,   -1,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,   -1,   -1,  363, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   91,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  387,  257,  258,  259,  260,  261,   -1, 
-           -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272, 
-          273,  274,  275,  276,  277,  278,   -1,   -1,    0,   -1, 
-          283,  284,  285,  286,  287,  288,  289,   -1,   10,  292, 
-           -1,   -1,   -1,   -1,   -1,  298,  299,  300,  301,  302, 
-          303,  304,   -1,  306,  307,  308,  309,  310,  311,   -1, 
-          313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   44,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  336,   -1,   -1,  339,   59,   -1,  342, 
-          343,   63,  345,   -1,  347,   -1,   -1,   -1,  351,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1, 
-           -1,  364,  365,  366,  367,  368,  369,   -1,   -1,   91, 
-          373,   -1,  375,  376,   10,  378,  379,   -1,  381,  382, 
-          383,   -1,  385,  386,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  257,  258,  259,   -1,  261,  262, 
-          263,  264,  265,  266,  267,  268,  269,  270,  271,  272, 
-          273,  274,  275,  276,  277,  278,   -1,   63,  281,  282, 
-          283,  284,  285,  286,  287,  288,  289,  290,  291,  292, 
-          293,  294,  295,  296,  297,   -1,  299,   -1,   -1,  302, 
-          303,  304,  305,  306,  307,  308,  309,  310,  311,  312, 
-          313,  314,  315,  316,  317,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,  328,  329,  330,   -1,   -1, 
-          333,  334,  335,  336,   -1,  338,  339,  340,  341,  342, 
-          343,  344,  345,  346,  347,  348,  349,  350,  351,  352, 
-          353,  354,  355,  356,  357,  358,  359,  360,   10,  362, 
-           -1,  364,  365,  366,  367,  368,  369,   -1,   -1,   -1, 
-          373,  374,  375,  376,   -1,  378,  379,   -1,  381,  382, 
-          383,  384,  385,  386,  387,  257,  258,  259,   -1,  261, 
-          262,  263,  264,  265,  266,  267,  268,  269,  270,  271, 
-          272,  273,  274,  275,  276,  277,  278,   -1,  280,  281, 
-          282,  283,  284,  285,  286,  287,  288,  289,  290,  291, 
-          292,  293,  294,  295,  296,  297,   -1,  299,   -1,   -1, 
-          302,  303,  304,   -1,  306,  307,  308,  309,  310,  311, 
-          312,  313,  314,  315,  316,  317,  318,  319,  320,  321, 
-          322,  323,  324,  325,  326,  327,  328,  329,  330,   -1, 
-           -1,  333,  334,  335,  336,   -1,  338,  339,   -1,  341, 
-          342,  343,  344,  345,  346, 
-      };
-   }
-
-   private static final short[] yyCheck2() {
-      return new short[] {
-
-          347,  348,  349,  350,  351,  352,  353,  354,  355,  356, 
-          357,  358,  359,  360,  361,  362,   -1,  364,  365,  366, 
-          367,  368,  369,    0,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,   10,  381,  382,  383,  384,  385,  386, 
-          387,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  317,  318,  319,  320, 
-          321,  322,  323,  324,  325,  326,  327,   44,  329,  330, 
-           -1,   -1,  333,  334,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   59,   -1,   -1,   -1,   63,  348,   -1,  350, 
-           -1,  352,  353,  354,  355,  356,  357,  358,   -1,  360, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   91,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          257,  258,  259,   -1,  261,   -1,   -1,   -1,  265,  266, 
-           -1,   -1,   -1,  270,   -1,  272,  273,  274,  275,  276, 
-          277,  278,   -1,   -1,    0,   -1,  283,  284,  285,  286, 
-          287,  288,  289,   -1,   10,  292,   -1,   -1,   -1,   -1, 
-           -1,   -1,  299,   -1,   -1,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,  312,  313,  314,  315,  316, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   44,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336, 
-           -1,   -1,  339,   59,   -1,  342,  343,   63,  345,   -1, 
-          347,   -1,  349,   -1,  351,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   91,  373,   -1,  375,  376, 
-           -1,  378,  379,   -1,  381,  382,  383,   -1,  385,  386, 
-          387,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          257,  258,  259,   -1,  261,  262,  263,  264,  265,  266, 
-          267,  268,  269,  270,  271,  272,  273,  274,  275,  276, 
-          277,  278,   -1,  280,  281,  282,  283,  284,  285,  286, 
-          287,  288,  289,  290,  291,  292,  293,  294,  295,  296, 
-          297,   -1,  299,   -1,   -1,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,  312,  313,  314,  315,  316, 
-          317,  318,  319,  320,  321,  322,  323,  324,  325,  326, 
-          327,  328,  329,  330,   -1,   -1,  333,  334,  335,  336, 
-           -1,  338,  339,   -1,  341,  342,  343,  344,  345,  346, 
-          347,  348,  349,  350,  351,  352,  353,  354,  355,  356, 
-          357,  358,  359,  360,  361,  362,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,   -1,  381,  382,  383,  384,  385,  386, 
-          387,  257,  258,  259,   -1,  261,  262,  263,  264,  265, 
-          266,  267,  268,  269,  270,  271,  272,  273,  274,  275, 
-          276,  277,  278,   -1,   -1,  281,  282,  283,  284,  285, 
-          286,  287,  288,  289,  290,  291,  292,  293,  294,  295, 
-          296,  297,   -1,  299,   -1,   -1,  302,  303,  304,   -1, 
-          306,  307,  308,  309,  310,  311,  312,  313,  314,  315, 
-          316,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,  328,  329,  330,   -1,   -1,  333,  334,  335, 
-          336,   -1,  338,  339,   -1,  341,  342,  343,  344,  345, 
-          346,  347,  348,  349,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,    0,  362,   -1,  364,  365, 
-          366,  367,  368,  369,   -1,   10,   -1,  373,   -1,  375, 
-          376,   -1,  378,  379,   -1,  381,  382,  383,  384,  385, 
-          386,  387,   -1,   -1,  317,  318,  319,  320,  321,  322, 
-          323,  324,   -1,  326,  327,   -1,   -1,   -1,   -1,   44, 
-          333,  334,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   59,  348,   61,  350,   63,  352, 
-          353,  354,  355,  356,  357,  358,   -1,  360,  317,  318, 
-          319,  320,  321,  322,  323,   -1,   -1,  326,  327,   -1, 
-           -1,   -1,   -1,   -1,  333,  334,   91,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  348, 
-           -1,  350,   -1,  352,  353,  354,  355,  356,  357,  358, 
-           -1,  360,  257,  258,  259,   -1,  261,   -1,   -1,   -1, 
-          265,  266,   -1,   -1,   -1,  270,    0,  272,  273,  274, 
-          275,  276,  277,  278,   -1,   -1,   10,   -1,  283,  284, 
-          285,  286,  287,  288,  289,   -1,   -1,  292,   -1,   -1, 
-           -1,   -1,   -1,   -1,  299,   -1,   -1,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,   -1,  313,   -1, 
-           44,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   59,   -1,   61,  333,   63, 
-           -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1, 
-          345,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   91,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,   -1,  381,  382,  383,   -1, 
-          385,  386,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  257,  258,  259,   -1,  261,  262,  263,  264, 
-          265,  266,   -1,  268,  269,  270,  271,  272,  273,  274, 
-          275,  276,  277,  278,   -1,  280,   -1,   -1,  283,  284, 
-          285,  286,  287,  288,  289,  290,  291,  292,  293,  294, 
-          295,  296,  297,   -1,  299,   -1,   -1,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,  312,  313,  314, 
-          315,  316,  317,  318,  319,  320,  321,  322,  323,  324, 
-          325,  326,  327,  328,  329,  330,   -1,   -1,  333,  334, 
-          335,  336,   -1,   -1,  339,  340,  341,  342,  343,   -1, 
-          345,   -1,  347,  348,  349,  350,  351,  352,  353,  354, 
-          355,  356,  357,  358,  359,  360,  361,  362,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,   -1,  381,  382,  383,  384, 
-          385,  386,  387,  257,  258,  259,   -1,  261,  262,  263, 
-          264,  265,  266,   -1,  268,  269,  270,  271,  272,  273, 
-          274,  275,  276,  277,  278,   -1,  280,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,  290,  291,  292,  293, 
-          294,  295,  296,  297,   -1,  299,   -1,   -1,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,  312,  313, 
-          314,  315,  316,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,   -1,  333, 
-          334,  335,  336,   -1,   -1,  339,  340,  341,  342,  343, 
-           -1,  345,   -1,  347,  348,  349,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,  361,  362,   -1, 
-          364,  365,  366,  367,  368,  369,    0,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,   10,  381,  382,  383, 
-          384,  385,  386,  387,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  306,  307,   -1,   -1,  310,   -1,   -1,   -1, 
-          314,  315,   -1,  317,  318,  319,  320,  321,  322,  323, 
-           44,   -1,  326,  327,   -1,   -1,   -1,  331,  332,  333, 
-          334,   -1,   -1,   -1,   -1,   59,  340,   61,   -1,   63, 
-           -1,   -1,   -1,  347,  348,   -1,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,   -1,   -1,  363, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   91,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  387,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  257,  258,  259,   -1,  261,   -1,   -1, 
-           -1,  265,  266,   -1,   -1,   -1,  270,    0,  272,  273, 
-          274,  275,  276,  277,  278,   -1,   -1,   10,   -1,  283, 
-          284,  285,  286,  287,  288,  289,   -1,   -1,  292,   -1, 
-           -1,   -1,   -1,   -1,   -1,  299,   -1,   -1,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,   -1,  313, 
-           -1,   44,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   59,   -1,   61,   -1, 
-           63,   -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343, 
-           -1,  345,   -1,  347,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   91,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,   -1,  381,  382,  383, 
-           -1,  385,  386,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  257,  258,  259,   -1,  261,  262,  263, 
-          264,  265,  266,   -1,  268,  269,  270,  271,  272,  273, 
-          274,  275,  276,  277,  278,   -1,  280,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,  290,  291,  292,  293, 
-          294,  295,  296,  297,   -1,  299,   -1,   -1,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,  312,  313, 
-          314,  315,  316,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,   -1,  333, 
-          334,  335,  336,   -1,   -1,  339,  340,  341,  342,  343, 
-           -1,  345,   -1,  347,  348,  349,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,  361,  362,   -1, 
-          364,  365,  366,  367,  368,  369,    0,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,   10,  381,  382,  383, 
-          384,  385,  386,  387,  257,  258,  259,   -1,  261,  262, 
-          263,  264,  265,  266,   -1,  268,  269,  270,  271,  272, 
-          273,  274,  275,  276,  277,  278,   -1,   -1,   -1,   -1, 
-          283,  284,  285,  286,  287,  288,  289,  290,  291,  292, 
-          293,  294,  295,  296,  297,   59,  299,   -1,   -1,  302, 
-          303,  304,   -1,  306,  307,  308,  309,  310,  311,  312, 
-          313,  314,  315,  316,  317,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,  328,  329,  330,   -1,   -1, 
-          333,  334,  335,  336,   -1,   -1,  339,  340,  341,  342, 
-          343,   -1,  345,   -1,  347,  348,  349,  350,  351,  352, 
-          353,  354,  355,  356,  357,  358,  359,  360,   -1,  362, 
-           -1,  364,  365,  366,  367,  368,  369,    0,   -1,   -1, 
-          373,   -1,  375,  376,   -1,  378,  379,   10,  381,  382, 
-          383,  384,  385,  386,  387,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  306,  307,   -1,   -1,  310,   -1,   -1, 
-           -1,  314,  315,   -1,  317,  318,  319,  320,  321,  322, 
-          323,   44,   -1,  326,  327,   -1,   -1,   -1,  331,  332, 
-          333,  334,   -1,   -1,   -1,   58,   59,  340,   61,   -1, 
-           63,   -1,   -1,   -1,  347,  348,   -1,  350,  351,  352, 
-          353,  354,  355,  356,  357,  358,  359,  360,   -1,   -1, 
-          363,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   91,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  387,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  257,  258,  259,   -1,  261,  262,  263, 
-          264,  265,  266,  267,  268,  269,  270,  271,  272,  273, 
-          274,  275,  276,  277,  278,   -1,  280,  281,   -1,  283, 
-          284,  285,  286,  287,  288,  289,  290,  291,  292,  293, 
-          294,  295,  296,  297,   -1,  299,   -1,   -1,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,  312,  313, 
-          314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  328,   -1,   -1,   -1,   -1,   -1, 
-           -1,  335,  336,   -1,   -1,  339,   -1,  341,  342,  343, 
-           -1,  345,    0,  347,   -1,  349,   -1,  351,   -1,   -1, 
-           -1,   -1,   10,   -1,   -1,  359,   -1,  361,  362,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,   -1,  381,  382,  383, 
-           -1,  385,  386,  387,   -1,   -1,   44,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           58,   59,   -1,   -1,   -1,   63,   -1,  280,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  305,   91,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  317,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,  328,  329,  330,   -1,   -1, 
-          333,  334,  335,   -1,   -1,  338,    0,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,  348,   10,  350,   -1,  352, 
-          353,  354,  355,  356,  357,  358,   -1,  360,  361,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  374,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           44,  384,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  306,  307,   58,   59,  310,   61,   -1,   63, 
-          314,  315,   -1,  317,  318,  319,  320,  321,  322,  323, 
-           -1,   -1,  326,  327,   -1,   -1,   -1,  331,  332,  333, 
-          334,   -1,   -1,   -1,   -1,   -1,  340,   91,   -1,   -1, 
-           -1,   -1,   -1,  347,  348,   -1,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,   -1,   -1,  363, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-            0,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           10,   -1,   -1,  387,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  280,  281,  282,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   44,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   58,   59, 
-           -1,   61,   -1,   63,   -1,   -1,   -1,   -1,   -1,  317, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-          328,  329,  330,   -1,   -1,  333,  334,  335,   -1,   -1, 
-          338,   91,   -1,  341,   -1,   -1,  344,   -1,  346,   -1, 
-          348,   -1,  350,   -1,  352,  353,  354,  355,  356,  357, 
-          358,   -1,  360,  361,  362,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,    0,   -1,  374,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   10,   -1,  384,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   44,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  305,   58,   59,   -1,   -1,   -1,   63,   -1,   -1, 
-           -1,   -1,   -1,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,   -1,  333, 
-          334,  335,   -1,  337,  338,   91,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,  348,   -1,  350,   -1,  352,  353, 
-          354,  355,  356,  357,  358,   -1,  360,   -1,  362,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   -1, 
-          374,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1, 
-          384,   -1,  262,  263,  264,   -1,   -1,  267,  268,  269, 
-           -1,  271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          290,  291,   44,  293,  294,  295,  296,  297,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  305,   58,   59,   -1,   61, 
-           -1,   63,   -1,   -1,   -1,   -1,   -1,  317,  318,  319, 
-          320,  321,  322,  323,  324,  325,  326,  327,  328,  329, 
-          330,   -1,   -1,  333,  334,  335,   -1,  337,  338,   91, 
-           -1,  341,   -1,   -1,  344,   -1,  346,   -1,  348,   -1, 
-          350,   -1,  352,  353,  354,  355,  356,  357,  358,   -1, 
-          360,   -1,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,    0,   -1,  374,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   10,   -1,  384,   -1,  262,  263,  264,   -1, 
-           -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  280,  281,  282,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  290,  291,   44,  293,  294,  295, 
-          296,  297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305, 
-           58,   59,   -1,   61,   -1,   63,   -1,   -1,   -1,   -1, 
-           -1,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,  328,  329,  330,   -1,   -1,  333,  334,  335, 
-           -1,   -1,  338,   91,   -1,  341,   -1,   -1,  344,   -1, 
-          346,   -1,  348,   -1,  350,   -1,  352,  353,  354,  355, 
-          356,  357,  358,   -1,  360,  361,  362,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,  374,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,  384,   -1, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,   -1,  271, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281, 
-          282,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291, 
-           44,  293,  294,  295,  296,  297,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  305,   58,   59,   -1,   -1,   -1,   63, 
-           -1,   -1,   -1,   -1,   -1,  317,  318,  319,  320,  321, 
-          322,  323,  324,  325,  326,  327,  328,  329,  330,   -1, 
-           -1,  333,  334,  335,   -1,   -1,  338,   91,   -1,  341, 
-           -1,   -1,  344,   -1,  346,   -1,  348,   -1,  350,   -1, 
-          352,  353,  354,  355,  356,  357,  358,   -1,  360,   -1, 
-          362,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-            0,   -1,  374,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           10,   -1,  384,   -1,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  281,  282,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   44,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   58,   59, 
-           -1,   -1,   -1,   63,   -1,   -1,   -1,   -1,   -1,  317, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-          328,  329,  330,   -1,   -1,  333,  334,  335,   -1,   -1, 
-          338,   91,   -1,  341,   -1,   -1,  344,   -1,  346,   -1, 
-          348,   -1,  350,   -1,  352,  353,  354,  355,  356,  357, 
-          358,   -1,  360,   -1,  362,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,    0,   -1,  374,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   10,   -1,  384,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   44,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  305,   58,   59,   -1,   -1,   -1,   63,   -1,   -1, 
-           -1,   -1,   -1,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,   -1,  333, 
-          334,  335,   -1,   -1,  338,   91,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,  348,   -1,  350,   -1,  352,  353, 
-          354,  355,  356,  357,  358,   -1,  360,   -1,  362,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   -1, 
-          374,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1, 
-          384,   -1,  262,  263,  264,   -1,   -1,  267,  268,  269, 
-           -1,  271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          290,  291,   44,  293,  294,  295,  296,  297,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  305,   58,   59,   -1,   -1, 
-           -1,   63,   -1,   -1,   -1,   -1,   -1,  317,  318,  319, 
-          320,  321,  322,  323,  324,  325,  326,  327,  328,  329, 
-          330,   -1,   -1,  333,  334,  335,   -1,   -1,  338,   91, 
-           -1,  341,   -1,   -1,  344,   -1,  346,   -1,  348,   -1, 
-          350,   -1,  352,  353,  354,  355,  356,  357,  358,   -1, 
-          360,   -1,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,    0,   -1,  374,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   10,   -1,  384,   -1,  262,  263,  264,   -1, 
-           -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  281,  282,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  290,  291,   44,  293,  294,  295, 
-          296,  297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305, 
-           58,   59,   -1,   -1,   -1,   63,   -1,   -1,   -1,   -1, 
-           -1,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,  328,  329,  330,   -1,   -1,  333,  334,  335, 
-           -1,   -1,  338,   91,   -1,  341,   -1,   -1,  344,   -1, 
-          346,   -1,  348,   -1,  350,   -1,  352,  353,  354,  355, 
-          356,  357,  358,   -1,  360,   -1,  362,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,  374,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,  384,   -1, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,   -1,  271, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281, 
-          282,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291, 
-           44,  293,  294,  295,  296,  297,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  305,   -1,   59,   -1,   -1,   -1,   63, 
-           -1,   -1,   -1,   -1,   -1,  317,  318,  319,  320,  321, 
-          322,  323,  324,  325,  326,  327,  328,  329,  330,   -1, 
-           -1,  333,  334,  335,   -1,   -1,  338,   91,   -1,  341, 
-           -1,   -1,  344,   -1,  346,   -1,  348,   -1,  350,   -1, 
-          352,  353,  354,  355,  356,  357,  358,   -1,  360,   -1, 
-          362,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-            0,   -1,  374,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           10,   -1,  384,   -1,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  281,  282,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   44,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   -1,   59, 
-           -1,   -1,   -1,   63,   -1,   -1,   -1,   -1,   -1,   -1, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-          328,  329,  330,   -1,   -1,  333,  334,  335,   -1,   -1, 
-          338,   91,   -1,  341,   -1,   -1,  344,   -1,  346,   -1, 
-          348,   -1,  350,   -1,  352,  353,  354,  355,  356,  357, 
-          358,   -1,  360,   -1,  362,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,    0,   -1,  374,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   10,   -1,  384,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   44,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   59,   -1,   -1,   -1,   63,   -1,   -1, 
-           -1,   -1,   -1,  317,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,  328,  329,  330,   -1,   -1,  333, 
-          334,  335,   -1,   -1,  338,   91,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,  348,   -1,  350,   -1,  352,  353, 
-          354,  355,  356,  357,  358,   -1,  360,   -1,  362,   -1, 
-           -1,    0,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   10,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          384,   -1,  262,  263,  264,   -1,   -1,  267,  268,  269, 
-           -1,  271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  281,  282,   -1,   -1,   44,   -1,   -1,   -1,   -1, 
-          290,  291,   -1,  293,  294,  295,  296,  297,   -1,   -1, 
-           59,   -1,   61,   -1,   63,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  317,  318,  319, 
-          320,  321,  322,  323,  324,  325,  326,  327,  328,  329, 
-          330,   -1,   91,  333,  334,  335,   -1,   -1,  338,   -1, 
-           -1,  341,   -1,   -1,  344,   -1,  346,   -1,  348,   -1, 
-          350,   -1,  352,  353,  354,  355,  356,  357,  358,   -1, 
-          360,   -1,  362,   -1,    0,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   10,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  384,   -1,  262,  263,  264,   -1, 
-           -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  281,  282,   -1,   44,   -1, 
-           -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294,  295, 
-          296,  297,   -1,   59,   -1,   61,   -1,   63,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,  328,  329,  330,   91,   -1,  333,  334,  335, 
-           -1,   -1,  338,   -1,   -1,  341,   -1,   -1,  344,   -1, 
-          346,   -1,  348,   -1,  350,   -1,  352,  353,  354,  355, 
-          356,  357,  358,   -1,  360,   -1,  362,   -1,   -1,    0, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   10, 
-           -1,   -1,   -1,  262,  263,  264,   -1,   -1,  384,  268, 
-          269,   -1,  271,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  280,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  290,  291,   44,  293,  294,  295,  296,  297,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   59,   -1, 
-           61,   -1,   63,   -1,   -1,   -1,   -1,   -1,  317,  318, 
-          319,  320,  321,  322,  323,  324,  325,  326,  327,  328, 
-          329,  330,   -1,   -1,  333,  334,  335,   -1,   -1,   -1, 
-           91,   -1,  341,   -1,   -1,   -1,   -1,   -1,   -1,  348, 
-           -1,  350,   -1,  352,  353,  354,  355,  356,  357,  358, 
-           -1,  360,  361,  362,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,    0,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   10,   -1,   -1,  384,  262,  263,  264,   -1, 
-           -1,   -1,  268,  269,   -1,  271,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  290,  291,   44,  293,  294,  295, 
-          296,  297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   59,   -1,   61,   -1,   63,   -1,   -1,   -1,   -1, 
-           -1,  317,  318,  319,  320,  321,  322,  323,  324,  325, 
-          326,  327,  328,  329,  330,   -1,   -1,  333,  334,  335, 
-           -1,  337,   -1,   91,   -1,  341,   -1,   -1,   -1,   -1, 
-           -1,   -1,  348,   -1,  350,   -1,  352,  353,  354,  355, 
-          356,  357,  358,   -1,  360,   -1,  362,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   10, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  384,   -1, 
-           -1,  262,  263,  264,   -1,   -1,   -1,  268,  269,   -1, 
-          271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290, 
-          291,   -1,  293,  294,  295,  296,  297,   -1,   59,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  317,  318,  319,  320, 
-          321,  322,  323,  324,  325,  326,  327,  328,  329,  330, 
-           91,   -1,  333,  334,  335,   -1,   -1,   -1,   -1,   -1, 
-          341,   -1,   -1,   -1,   -1,   -1,   -1,  348,   -1,  350, 
-           -1,  352,  353,  354,  355,  356,  357,  358,   -1,  360, 
-           -1,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           10,   -1,   -1,  384,  262,  263,  264,   -1,   -1,   -1, 
-          268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   59, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  317, 
-          318,  319,  320,  321,  322,  323,  324,  325,  326,  327, 
-          328,  329,  330,   -1,   -1,  333,  334,  335,   -1,   -1, 
-           -1,   91,   -1,  341,   -1,   -1,   -1,   -1,   -1,   -1, 
-          348,   -1,  350,   -1,  352,  353,  354,  355,  356,  357, 
-          358,   -1,  360,   -1,  362,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  256,  257,  258,  259,  260, 
-          261,  262,  263,  264,  265,  266,  384,   -1,  269,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,  280, 
-           10,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,  298,  299,   -1, 
-          301,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  328,   -1,   59, 
-           -1,   -1,   -1,   -1,  335,  336,   -1,   -1,  339,  340, 
-           -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,  356,   -1,   -1,  359,   -1, 
-          361,   91,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,  384,  385,  386,  256,  257,  258,  259, 
-          260,  261,  262,  263,  264,  265,  266,   -1,   -1,  269, 
-          270,   -1,  272,  273,  274,  275,  276,  277,  278,   -1, 
-          280,   10,   -1,  283,  284,  285,  286,  287,  288,  289, 
-           -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,  298,  299, 
-           -1,  301,  302,  303,  304,   -1,  306,  307,  308,  309, 
-          310,  311,   -1,  313,  314,  315,  316,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  328,   -1, 
-           59,   -1,   -1,   -1,   -1,  335,  336,   -1,   -1,  339, 
-          340,   -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1, 
-           -1,  351,   -1,   -1,   -1,   -1,  356,   -1,   -1,  359, 
-           -1,  361,   91,   -1,  364,  365,  366,  367,  368,  369, 
-           -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378,  379, 
-           -1,  381,  382,  383,  384,  385,  386,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  256,  257,  258,  259, 
-          260,  261,  262,  263,  264,  265,  266,   -1,   -1,  269, 
-          270,   -1,  272,  273,  274,  275,  276,  277,  278,   -1, 
-          280,   10,   -1,  283,  284,  285,  286,  287,  288,  289, 
-           -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,  298,  299, 
-           -1,  301,  302,  303,  304,   -1,  306,  307,  308,  309, 
-          310,  311,   -1,  313,  314,  315,  316,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  328,   -1, 
-           59,   -1,   -1,   -1,   -1,  335,  336,   -1,   -1,  339, 
-          340,   -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1, 
-           -1,  351,   -1,   -1,   -1,   -1,  356,   -1,   -1,  359, 
-           -1,  361,   91,   -1,  364,  365,  366,  367,  368,  369, 
-           -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378,  379, 
-           -1,  381,  382,  383,  384,  385,  386,  256,  257,  258, 
-          259,  260,  261,  262,  263,  264,  265,  266,   -1,   -1, 
-          269,  270,   -1,  272,  273,  274,  275,  276,  277,  278, 
-           -1,   -1,   10,   -1,  283,  284,  285,  286,  287,  288, 
-          289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,  298, 
-          299,   -1,  301,  302,  303,  304,   -1,  306,  307,  308, 
-          309,  310,  311,   -1,  313,  314,  315,  316,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  328, 
-           -1,   59,   -1,   -1,   -1,   -1,  335,  336,   -1,   -1, 
-          339,  340,   -1,  342,  343,   -1,  345,   -1,  347,   -1, 
-           -1,   -1,  351,   -1,   -1,   -1,   -1,  356,   -1,   -1, 
-          359,   -1,   -1,   -1,   -1,  364,  365,  366,  367,  368, 
-          369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378, 
-          379,   -1,  381,  382,  383,  384,  385,  386,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  256,  257,  258, 
-          259,  260,  261,  262,  263,  264,  265,  266,   -1,   -1, 
-          269,  270,   -1,  272,  273,  274,  275,  276,  277,  278, 
-           -1,   10,   -1,   -1,  283,  284,  285,  286,  287,  288, 
-          289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,  298, 
-          299,   -1,  301,  302,  303,  304,   -1,  306,  307,  308, 
-          309,  310,  311,   -1,  313,  314,  315,  316,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  328, 
-           59,   -1,   -1,   -1,   -1,   -1,  335,  336,   -1,   -1, 
-          339,   -1,   -1,  342,  343,   -1,  345,   -1,  347,   -1, 
-           -1,   -1,  351,   -1,   -1,   -1,   -1,  356,   -1,   -1, 
-          359,   -1,   -1,   -1,   -1,  364,  365,  366,  367,  368, 
-          369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378, 
-          379,   -1,  381,  382,  383,  384,  385,  386,  256,  257, 
-          258,  259,  260,  261,  262,  263,  264,  265,  266,   -1, 
-          268,  269,  270,  271,  272,  273,  274,  275,  276,  277, 
-          278,   -1,   10,   -1,   -1,  283,  284,  285,  286,  287, 
-          288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1, 
-          298,  299,   -1,  301,  302,  303,  304,   -1,  306,  307, 
-          308,  309,  310,  311,   -1,  313,  314,  315,  316,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   59,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1, 
-           -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1,  347, 
-           -1,   -1,   -1,  351,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366,  367, 
-          368,  369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1, 
-          378,  379,   -1,  381,  382,  383,   -1,  385,  386,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  256,  257,  258, 
-          259,  260,  261,   -1,   -1,  264,  265,  266,   -1,   -1, 
-           -1,  270,   10,  272,  273,  274,  275,  276,  277,  278, 
-           -1,   -1,   -1,   -1,  283,  284,  285,  286,  287,  288, 
-          289,   -1,   -1,  292,   -1,   -1, 
-      };
-   }
-
-   private static final short[] yyCheck3() {
-      return new short[] {
-
-           -1,   -1,   -1,  298,  299,   -1,  301,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,   -1,  313,  314, 
-          315,  316,   -1,   -1,   -1,   59,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1, 
-          345,   -1,  347,   -1,   -1,   -1,  351,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,   -1,  381,  382,  383,   -1, 
-          385,  386,  256,  257,  258,  259,  260,  261,   -1,   -1, 
-           -1,  265,  266,   -1,   -1,   -1,  270,   10,  272,  273, 
-          274,  275,  276,  277,  278,   -1,   -1,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,   -1,   -1,  292,   -1, 
-           -1,   -1,   -1,   -1,  298,  299,   -1,  301,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,   -1,  313, 
-          314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343, 
-           -1,  345,   -1,  347,   -1,   -1,   -1,  351,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,  362,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,   -1,  381,  382,  383, 
-           -1,  385,  386,  257,  258,  259,   -1,  261,   -1,   -1, 
-           -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272,  273, 
-          274,  275,  276,  277,  278,   -1,   -1,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,    0,   -1,  292,   -1, 
-           -1,   -1,   -1,   -1,   -1,  299,   10,   -1,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,   -1,  313, 
-          314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           44,   -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343, 
-           -1,  345,   -1,   -1,   58,   59,   -1,  351,   -1,   63, 
-           -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,   -1,  381,  382,  383, 
-           -1,  385,  386,   -1,  257,  258,  259,   -1,  261,   -1, 
-           -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272, 
-          273,  274,  275,  276,  277,  278,   -1,   -1,   -1,   -1, 
-          283,  284,  285,  286,  287,  288,  289,    0,   -1,  292, 
-           -1,   -1,   -1,   -1,   -1,   -1,  299,   10,   -1,  302, 
-          303,  304,   -1,  306,  307,  308,  309,  310,  311,   -1, 
-          313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   44,   -1,  336,   -1,   -1,  339,   -1,   -1,  342, 
-          343,   -1,  345,   -1,   -1,   58,   59,   -1,  351,   -1, 
-           63,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1, 
-           -1,  364,  365,  366,  367,  368,  369,   -1,   -1,   -1, 
-          373,   -1,  375,  376,   -1,  378,  379,   -1,  381,  382, 
-          383,   -1,  385,  386,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   58,   59,   -1,   -1,   -1,   63, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,   -1,  329,  330,   -1,   -1,  333, 
-          334,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,  348,   -1,  350,   -1,  352,  353, 
-          354,  355,  356,  357,  358,   -1,  360,   -1,  362,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1, 
-          374,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   58,   59,   -1,   -1,   -1, 
-           63,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,   -1,  329,  330,   -1,   -1, 
-          333,  334,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,  348,    0,  350,   -1,  352, 
-          353,  354,  355,  356,  357,  358,   10,  360,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263, 
-          264,  374,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   58,   59,   -1,   -1,   -1,   63, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,   -1,  329,  330,   -1,   -1,  333, 
-          334,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,  348,   -1,  350,   -1,  352,  353, 
-          354,  355,  356,  357,  358,   -1,  360,   -1,  362,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1, 
-          374,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   58,   59,   -1,   -1,   -1, 
-           63,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,   -1,  329,  330,   -1,   -1, 
-          333,  334,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,  348,    0,  350,   -1,  352, 
-          353,  354,  355,  356,  357,  358,   10,  360,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263, 
-          264,  374,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   58,   59,   -1,   -1,   -1,   63, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,   -1,  329,  330,   -1,   -1,  333, 
-          334,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,  348,   -1,  350,   -1,  352,  353, 
-          354,  355,  356,  357,  358,   -1,  360,   -1,  362,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1, 
-          374,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   58,   59,   -1,   -1,   -1, 
-           63,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,   -1,  329,  330,   -1,   -1, 
-          333,  334,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,  348,    0,  350,   -1,  352, 
-          353,  354,  355,  356,  357,  358,   10,  360,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263, 
-          264,  374,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   58,   59,   -1,   -1,   -1,   63, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,   -1,  329,  330,   -1,   -1,  333, 
-          334,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,   -1,   -1,  350,   -1,   -1,   -1, 
-          354,  355,  356,  357,  358,   -1,  360,   -1,  362,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1, 
-          374,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   58,   59,   -1,   -1,   -1, 
-           63,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,   -1,  329,  330,   -1,   -1, 
-          333,  334,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,   -1,    0,  350,   -1,   -1, 
-           -1,  354,  355,  356,  357,  358,   10,  360,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263, 
-          264,  374,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   58,   59,   -1,   -1,   -1,   63, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,   -1,  329,  330,   -1,   -1,  333, 
-          334,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,   -1,   -1,  350,   -1,   -1,   -1, 
-           -1,   -1,  356,  357,  358,   -1,  360,   -1,  362,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1, 
-          374,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   58,   59,   -1,   -1,   -1, 
-           63,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,   -1,  329,  330,   -1,   -1, 
-          333,  334,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,   -1,    0,  350,   -1,   -1, 
-           -1,   -1,   -1,  356,  357,  358,   10,  360,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263, 
-          264,  374,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   58,   59,   -1,   -1,   -1,   63, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,   -1,  329,  330,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,   -1,   -1,  350,   -1,   -1,   -1, 
-           -1,   -1,  356,  357,  358,   -1,  360,   -1,  362,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1, 
-          374,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262, 
-          263,  264,  726,   -1,  267,  268,  269,   -1,  271,  733, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-          744,   44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   58,   59,   -1,   -1,   -1, 
-           63,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,   -1,  329,  330,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,   -1,    0,   -1,   -1,   -1, 
-           -1,   -1,   -1,  356,  357,  358,   10,  360,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263, 
-          264,  374,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   58,   59,   -1,   -1,   -1,   63, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,   -1,  329,  330,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,   -1,   -1,  920,   -1,  922,   -1, 
-          924,   -1,  356,  357,  358,   -1,  360,  931,  362,   -1, 
-           -1,   -1,   -1,   -1,  938,   -1,   -1,    0,   -1,   -1, 
-          374,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   58,   59,   -1,   -1,   -1, 
-           63, 1005,  305,   -1,   -1,   -1,   -1,   -1,   -1, 1013, 
-           -1, 1015,   -1,   -1, 1018,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,   -1,  329,  330,   -1,   -1, 
-         1034,   -1,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,   -1,    0,   -1,   -1,   -1, 
-           -1,   -1,   -1,  356,  357,   -1,   10,   -1,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263, 
-          264,  374,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           44,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   58,   59,   -1,   -1,   -1,   63, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,   -1,  329,  330,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,    0,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  356,  357,   10,   -1,   -1,   -1,  362,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          374,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   44,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   58,   59,   -1,   -1,   -1,   63,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  305,    0,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   10,   -1,  318,  319,  320,  321,  322, 
-          323,  324,  325,  326,  327,   -1,  329,  330,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   -1,   -1,   -1,   44,   -1,   -1, 
-           -1,   -1,   -1,  356,  357,   -1,   -1,   -1,   -1,  362, 
-           -1,   58,   59,   -1,   -1,   -1,   63,   -1,  262,  263, 
-          264,  374,   -1,  267,  268,  269,   -1,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,    0,   -1,   -1, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,  318,  319,  320,  321,  322,  323, 
-          324,  325,  326,  327,   -1,  329,  330,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   44,  346,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  356,  357,   -1,   58,   59,   -1,  362,   -1, 
-           63,   -1,   -1,   -1,   -1,   -1,  262,  263,  264,   -1, 
-          374,  267,  268,  269,   -1,  271,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  281,  282,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294,  295, 
-          296,  297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305, 
-            0,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           10,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  324,  325, 
-           -1,   -1,   -1,  329,  330,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  338,   -1,   -1,  341,   -1,   -1,  344,   -1, 
-          346,   -1,   -1,   -1,   44,  262,  263,  264,   -1,   -1, 
-          267,  268,  269,   -1,  271,   -1,  362,   -1,   58,   59, 
-           -1,   -1,   -1,   63,  281,  282,   -1,   -1,  374,   -1, 
-           -1,   -1,   -1,  290,  291,   -1,  293,  294,  295,  296, 
-          297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,    0, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   10, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  324,  325,   -1, 
-           -1,   -1,  329,  330,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346, 
-           -1,   -1,   -1,   44,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  362,   -1,   58,   59,  262, 
-          263,  264,   63,   -1,  267,  268,  269,  374,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   -1,   -1,   -1,   -1,   -1,    0,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   10,   -1,   -1,   -1, 
-           -1,   -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  324,  325,   -1,   -1,   -1,  329,  330,   -1,   -1, 
-           44,   -1,   -1,   -1,   -1,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,   58,   59,   -1,   -1,   -1,   63, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  362, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  374,  262,  263,  264,   -1,   -1,  267,  268,  269, 
-           -1,  271,   -1,    0,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  281,  282,   10,   -1,   -1,   -1,   -1,   -1,   -1, 
-          290,  291,   -1,  293,  294,  295,  296,  297,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  305,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   44,   -1,   -1, 
-           -1,   -1,   -1,   -1,  324,  325,   -1,   -1,   -1,  329, 
-          330,   58,   59,   -1,   -1,   -1,   63,   -1,  338,   -1, 
-           -1,  341,   -1,   -1,  344,   -1,  346,   -1,   -1,   -1, 
-           -1,  262,  263,  264,   -1,   -1,  267,  268,  269,   -1, 
-          271,   -1,  362,    0,   -1,   -1,   -1,   -1,   -1,   -1, 
-          281,  282,   -1,   10,  374,   -1,   -1,   -1,   -1,  290, 
-          291,   -1,  293,  294,  295,  296,  297,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  305,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   44,   -1,   -1, 
-           -1,   -1,   -1,  324,  325,   -1,   -1,   -1,  329,  330, 
-           -1,   58,   59,   -1,   -1,   -1,   63,  338,   -1,   -1, 
-          341,   -1,   -1,  344,   -1,  346,   -1,   -1,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,   -1,  271,   -1,    0, 
-           -1,  362,   -1,   -1,   -1,   -1,   -1,  281,  282,   10, 
-           -1,   -1,   -1,  374,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,    0, 
-           -1,   -1,   -1,   44,   -1,   -1,   -1,   -1,   -1,   10, 
-          324,  325,   -1,   -1,   -1,  329,  330,   58,   59,   -1, 
-           -1,   -1,   63,   -1,  338,   -1,   -1,  341,   -1,   -1, 
-          344,   -1,  346,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   44,   -1,  262,  263,  264,  362,   -1, 
-          267,  268,  269,   -1,  271,   -1,   -1,   58,   59,   -1, 
-          374,   -1,   63,   -1,  281,  282,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  290,  291,   -1,  293,  294,  295,  296, 
-          297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,    0, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   10, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  324,  325,   -1, 
-           -1,   -1,  329,  330,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346, 
-           -1,   -1,   -1,   44,   -1,  262,  263,  264,   -1,   -1, 
-          267,  268,  269,   -1,  271,  362,   -1,   58,   59,   -1, 
-            0,   -1,   -1,   -1,  281,  282,   -1,  374,   -1,   -1, 
-           10,   -1,   -1,  290,  291,   -1,  293,  294,  295,  296, 
-          297,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  305,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   44,   -1,   -1,   -1,  325,   -1, 
-           -1,   -1,  329,  330,   -1,   -1,   -1,   -1,   58,   59, 
-           -1,  338,   -1,   -1,  341,   -1,   -1,  344,   -1,  346, 
-           -1,  262,  263,  264,   -1,   -1,  267,  268,  269,   -1, 
-          271,   -1,   -1,   -1,   -1,  362,   -1,   -1,   -1,   -1, 
-          281,  282,   -1,   -1,   -1,   -1,   -1,  374,   -1,  290, 
-          291,   -1,  293,  294,  295,  296,  297,   -1,   -1,   -1, 
-           -1,  262,  263,  264,  305,    0,  267,  268,  269,   -1, 
-          271,   -1,   -1,   -1,   -1,   10,   -1,   -1,   -1,   -1, 
-          281,  282,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290, 
-          291,   -1,  293,  294,  295,  296,  297,  338,   -1,   -1, 
-          341,   -1,   -1,  344,  305,  346,   -1,   -1,   -1,   44, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  362,   -1,   58,   59,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  374,   -1,   -1,   -1,  338,   -1,   -1, 
-          341,   -1,   -1,  344,   -1,  346,   -1,   -1,   -1,   -1, 
-           -1,  262,  263,  264,   -1,   -1,  267,  268,  269,   -1, 
-          271,  362,   -1,   -1,   -1,   -1,    0,   -1,   -1,   -1, 
-          281,  282,   -1,  374,   -1,   -1,   10,   -1,   -1,  290, 
-          291,   -1,  293,  294,  295,  296,  297,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  305,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1,   -1, 
-           44,   -1,  262,  263,  264,   -1,   10,  267,  268,  269, 
-           -1,  271,   -1,   -1,   58,   59,   -1,  338,   -1,   -1, 
-          341,  281,  282,  344,   -1,  346,   -1,   -1,   -1,   -1, 
-          290,  291,   -1,  293,  294,  295,  296,  297,   -1,   -1, 
-           44,  362,   -1,   -1,   -1,  305,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  374,   58,   59,   -1,    0,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  338,   -1, 
-           -1,  341,   -1,   -1,  344,   -1,  346,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,    0,   -1,   -1, 
-           -1,   44,  362,   -1,   -1,   -1,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,   -1,  374,   58,   59,  262,  263,  264, 
-           -1,   -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1,   -1, 
-           -1,   44,   -1,   -1,   -1,  290,  291,   -1,  293,  294, 
-          295,  296,  297,   -1,   -1,   58,   59,   -1,   -1,   -1, 
-          305,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,    0,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   10,  338,   -1,   -1,  341,   -1,   -1,  344, 
-           -1,  346,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  362,  262,  263, 
-          264,   -1,    0,  267,  268,  269,   44,  271,   -1,  374, 
-           -1,   -1,   10,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           58,   59,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,   -1,   -1,   -1,   -1,  262,  263, 
-          264,  305,   -1,  267,  268,  269,   44,  271,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,  282,   -1, 
-           58,   59,   -1,   -1,   -1,   -1,  290,  291,   -1,  293, 
-          294,  295,  296,  297,  338,   -1,   -1,  341,   -1,   -1, 
-          344,  305,  346,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  362,  262, 
-          263,  264,   -1,    0,  267,  268,  269,   -1,  271,   -1, 
-          374,   -1,   -1,   10,  338,   -1,   -1,  341,  281,  282, 
-          344,   -1,  346,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,  362,  262, 
-          263,  264,  305,    0,  267,  268,  269,   44,  271,   -1, 
-          374,   -1,   -1,   10,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   58,   59,   -1,   -1,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,  338,   -1,   -1,  341,   -1, 
-           -1,  344,  305,  346,   -1,   -1,   -1,   44,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  362, 
-           -1,   58,   59,   -1,    0,   -1,   -1,   -1,   -1,   -1, 
-           -1,  374,   -1,   -1,   10,  338,   -1,   -1,  341,   -1, 
-           -1,  344,   -1,  346,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1,  362, 
-           -1,   -1,   -1,  281,  282,   -1,   -1,   -1,   44,   -1, 
-           -1,  374,  290,  291,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   59,  262,  263,  264,  305,   -1,  267, 
-          268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  281,  282,   -1,   -1,   -1,   -1,   -1, 
-           -1,    0,  290,  291,   -1,  293,  294,  295,  296,  297, 
-          338,   10,   -1,  341,   -1,   -1,  344,  305,  346,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  362,   -1,   -1,   -1,   -1,   -1, 
-           -1,    0,   -1,   -1,   -1,   44,  374,   -1,   -1,   -1, 
-          338,   10,   -1,  341,   -1,   -1,  344,   -1,  346,   58, 
-           59,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  362,  262,  263,  264,   -1,   -1, 
-          267,  268,  269,   -1,  271,   44,  374,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  281,  282,   -1,   -1,   -1,   58, 
-           59,   -1,   -1,  290,  291,   -1,  293,  294,  295,  296, 
-          297,   -1,   -1,   -1,   -1,  262,  263,  264,  305,   -1, 
-          267,  268,  269,   -1,  271,   -1,   -1,    0,   -1,   -1, 
-           -1,   -1,   -1,   -1,  281,  282,   -1,   10,   -1,   -1, 
-           -1,   -1,   -1,  290,  291,   -1,  293,  294,  295,  296, 
-          297,  338,   -1,   -1,  341,   -1,   -1,  344,  305,  346, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,    0, 
-           -1,   44,   -1,   -1,   -1,  362,  262,  263,  264,   10, 
-           -1,  267,  268,  269,   -1,  271,   59,  374,   -1,   -1, 
-           -1,  338,   -1,   -1,  341,  281,  282,  344,   -1,  346, 
-           -1,   -1,   -1,   -1,  290,  291,   -1,  293,  294,  295, 
-          296,  297,    0,   44,   -1,  362,   -1,   -1,   -1,  305, 
-           -1,   -1,   10,   -1,   -1,   -1,   -1,  374,   59,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  338,   -1,   -1,  341,   -1,   -1,  344,   -1, 
-          346,   -1,   -1,  262,  263,  264,   -1,   -1,  267,  268, 
-          269,   59,  271,   -1,   -1,   -1,  362,   -1,   -1,   -1, 
-           -1,   -1,  281,  282,   -1,   -1,   -1,   -1,  374,   -1, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,   -1,   -1, 
-           -1,    0,   -1,  262,  263,  264,  305,   -1,  267,  268, 
-          269,   10,  271,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,    0,  338, 
-           -1,   -1,  341,   -1,   -1,  344,  305,  346,   10,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           59,   -1,   -1,  362,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  374,   -1,   -1,   -1,  338, 
-           -1,   -1,  341,   -1,   -1,  344,   -1,  346,   -1,  262, 
-          263,  264,   -1,   -1,  267,  268,  269,   59,  271,   -1, 
-           -1,   -1,    0,  362,   -1,   -1,   -1,   -1,  281,  282, 
-           -1,   -1,   10,   -1,   -1,  374,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1, 
-           -1,  262,  263,  264,   -1,   -1,  267,  268,  269,   -1, 
-          271,   -1,   -1,   -1,   -1,    0,   -1,   -1,   -1,   -1, 
-          281,  282,   -1,   -1,   -1,   10,   -1,   -1,   -1,  290, 
-          291,   59,  293,  294,  295,  296,  297,   -1,  341,   -1, 
-           -1,  344,   -1,  346,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,    0,  271,   -1,   -1,   -1,   -1,   -1,  362, 
-           -1,   -1,   10,  281,  282,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  290,  291,   59,  293,  294,  295,  296,  297, 
-          341,   -1,   -1,  344,   -1,  346,   -1,   -1,   -1,   -1, 
-            0,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           10,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   59,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  341,   -1,   -1,  344,    0,   -1,   -1, 
-           -1,   -1,   -1,  262,  263,  264,   -1,   10,  267,  268, 
-          269,   -1,  271,   -1,  362,   -1,   -1,   -1,   -1,   59, 
-           -1,   -1,  281,  282,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  290,  291,   -1,  293,  294,  295,  296,  297,   -1, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,    0,  271, 
-           -1,   -1,   -1,   -1,   -1,   -1,   59,   -1,   10,  281, 
-          282,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290,  291, 
-           -1,  293,  294,  295,  296,  297,   -1,   -1,   -1,   -1, 
-           -1,   -1,  341,   -1,    0,  344,   -1,   -1,   -1,   -1, 
-           -1,   -1,   44,   -1,   10,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,    0,  362,  262,  263,  264,   59,   -1,  267, 
-          268,  269,   10,  271,   -1,   -1,   -1,   -1,   -1,  341, 
-           -1,   -1,  344,  281,   -1,   -1,   -1,   -1,   44,   -1, 
-           -1,   -1,  290,  291,   -1,  293,  294,  295,  296,  297, 
-          362,   -1,   -1,   59,   -1,   -1,   -1,  262,  263,  264, 
-           -1,   -1,  267,  268,  269,    0,  271,   -1,   -1,   -1, 
-           -1,   59,   -1,   -1,   -1,   10,  281,   -1,   -1,   -1, 
-          328,   -1,   -1,   -1,   -1,  290,  291,  335,  293,  294, 
-          295,  296,  297,  341,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,   -1,  271,   -1,   -1,   -1,   -1,   -1,    0, 
-           -1,   -1,   -1,  281,  362,   -1,   -1,   -1,   -1,   10, 
-           -1,   -1,  290,  291,   59,  293,  294,  295,  296,  297, 
-           -1,   -1,  262,  263,  264,   -1,  341,  267,  268,  269, 
-           -1,  271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  281,   -1,   44,   -1,   -1,   -1,  362,   -1,   -1, 
-          290,  291,   -1,  293,  294,  295,  296,  297,   59,  262, 
-          263,  264,   -1,  341,  267,  268,  269,   -1,  271,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  281,   -1, 
-           -1,   -1,   -1,   -1,  362,   -1,   -1,  290,  291,   -1, 
-          293,  294,  295,  296,  297,   -1,   -1,   -1,   -1,   -1, 
-           -1,  341,   -1,   -1,   -1,   44,   -1,   -1,   -1,   -1, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,   -1,  271, 
-           -1,   -1,  362,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  341,   -1, 
-           -1,  293,  294,  295,  296,  297,  262,  263,  264,   -1, 
-           -1,  267,  268,  269,   -1,  271,   -1,   -1,   -1,  362, 
-           -1,   -1,   -1,   -1,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,   -1,  271,   -1,   -1,   -1,  293,  294,  295, 
-          296,  297,   -1,  281,   -1,   -1,  338,   -1,   -1,  341, 
-           -1,   -1,   -1,   -1,   -1,  293,  294,  295,  296,  297, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          362,   -1,   -1,   -1,   -1,   -1,   -1,  262,  263,  264, 
-           -1,   -1,  338,  268,  269,  341,  271,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   44,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  341,   -1,   -1,  362,   -1,  293,  294, 
-          295,  296,  297,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  262,  263,  264,  362,   -1,   -1,  268,  269,   -1, 
-          271,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  290, 
-          291,   -1,  293,  294,  295, 
-      };
-   }
-
-   private static final short[] yyCheck4() {
-      return new short[] {
-
-          296,  341,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  362,  257,  258,  259,   -1,  261,   -1,   -1, 
-           -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272,  273, 
-          274,  275,  276,  277,  278,  341,   -1,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,   -1,   -1,  292,   -1, 
-           -1,   -1,   -1,   -1,   -1,  299,  362,   -1,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,   -1,  313, 
-           -1,   -1,  316,   -1,   -1,   59,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343, 
-           -1,  345,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,   -1,  381,  382,  383, 
-           -1,  385,  386,  257,  258,  259,   -1,  261,   -1,   -1, 
-           -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272,  273, 
-          274,  275,  276,  277,  278,   -1,   -1,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,   -1,   -1,  292,   -1, 
-           -1,   -1,   -1,   -1,   -1,  299,   -1,   -1,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,   -1,  313, 
-           -1,   -1,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343, 
-           -1,  345,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,   -1,  381,  382,  383, 
-           -1,  385,  386,  257,  258,  259,  260,  261,   -1,   -1, 
-           -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272,  273, 
-          274,  275,  276,  277,  278,   -1,   -1,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,   -1,   -1,  292,   -1, 
-           -1,   -1,   -1,   -1,  298,  299,   -1,  301,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,   -1,  313, 
-          314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343, 
-           -1,  345,   -1,  347,   -1,   -1,   -1,  351,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,   -1,  381,  382,  383, 
-           -1,  385,  386,  257,  258,  259,  260,  261,  262,  263, 
-          264,   -1,   -1,  267,  268,  269,  270,  271,   -1,   -1, 
-          274,  275,  276,  277,  278,  279,  280,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,  290,  291,  292,  293, 
-          294,  295,  296,  297,  298,  299,  300,  301,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,   -1,   -1, 
-          314,  315,   -1,  317,  318,  319,  320,  321,  322,  323, 
-           -1,   -1,  326,  327,   -1,   -1,   -1,  331,  332,  333, 
-          334,   -1,   -1,   -1,   -1,   -1,  340,   -1,   -1,   -1, 
-           -1,   -1,   -1,  347,  348,   -1,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,   -1,   -1,  363, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  257,  258,  259, 
-          260,  261,  262,  263,  264,   -1,   -1,  267,  268,  269, 
-          270,  271,   -1,  387,  274,  275,  276,  277,  278,  279, 
-          280,   -1,   -1,  283,  284,  285,  286,  287,  288,  289, 
-          290,  291,  292,  293,  294,  295,  296,  297,  298,  299, 
-          300,  301,  302,  303,  304,   -1,  306,  307,  308,  309, 
-          310,  311,   -1,   -1,  314,  315,   -1,  317,  318,  319, 
-          320,  321,  322,  323,   -1,   -1,  326,  327,   -1,   -1, 
-           -1,  331,  332,  333,  334,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  347,  348,   -1, 
-          350,  351,  352,  353,  354,  355,  356,  357,  358,  359, 
-          360,   -1,   -1,  363,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  257,  258,  259,  260,  261,  262,  263,  264,   -1, 
-           -1,  267,  268,  269,  270,  271,   -1,  387,  274,  275, 
-          276,  277,  278,  279,  280,   -1,   -1,  283,  284,  285, 
-          286,  287,  288,  289,  290,  291,  292,  293,  294,  295, 
-          296,  297,  298,  299,  300,  301,  302,  303,  304,   -1, 
-          306,  307,  308,   -1,  310,   -1,   -1,   -1,  314,  315, 
-           -1,  317,  318,  319,  320,  321,  322,  323,   -1,   -1, 
-          326,  327,   -1,   -1,   -1,  331,  332,  333,  334,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  347,  348,   -1,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,   -1,   -1,  363,  364,   -1, 
-           -1,   -1,   -1,   -1,   -1,  257,  258,  259,  260,  261, 
-          262,  263,  264,   -1,   -1,  267,  268,  269,  270,  271, 
-           -1,  387,  274,  275,  276,  277,  278,  279,  280,   -1, 
-           -1,  283,  284,  285,  286,  287,  288,  289,  290,  291, 
-          292,  293,  294,  295,  296,  297,  298,  299,  300,  301, 
-          302,  303,  304,   -1,  306,  307,   -1,   -1,  310,   -1, 
-           -1,   -1,  314,  315,   -1,  317,  318,  319,  320,  321, 
-          322,  323,   -1,   -1,  326,  327,   -1,   -1,   -1,  331, 
-          332,  333,  334,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  347,  348,   -1,  350,  351, 
-          352,  353,  354,  355,  356,  357,  358,  359,  360,   -1, 
-           -1,  363,  364,   -1,   -1,   -1,   -1,   -1,   -1,  257, 
-          258,  259,  260,  261,  262,  263,  264,   -1,   -1,  267, 
-          268,  269,  270,  271,   -1,  387,  274,  275,  276,  277, 
-          278,  279,  280,   -1,   -1,  283,  284,  285,  286,  287, 
-          288,  289,  290,  291,  292,  293,  294,  295,  296,  297, 
-          298,  299,  300,  301,  302,  303,  304,   -1,  306,  307, 
-           -1,   -1,  310,   -1,   -1,   -1,  314,  315,   -1,  317, 
-          318,  319,  320,  321,  322,  323,   -1,   -1,  326,  327, 
-           -1,   -1,   -1,  331,  332,  333,  334,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  347, 
-          348,   -1,  350,  351,  352,  353,  354,  355,  356,  357, 
-          358,  359,  360,   -1,   -1,  363,  256,  257,  258,  259, 
-          260,  261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1, 
-          270,   -1,  272,  273,  274,  275,  276,  277,  278,  387, 
-           -1,   -1,   -1,  283,  284,  285,  286,  287,  288,  289, 
-           -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,  298,  299, 
-          300,  301,  302,  303,  304,   -1,  306,  307,  308,  309, 
-          310,  311,   -1,  313,  314,  315,  316,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339, 
-           -1,   -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1, 
-           -1,  351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359, 
-           -1,   -1,   -1,   -1,  364,  365,  366,  367,  368,  369, 
-           -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378,  379, 
-           -1,  381,  382,  383,   -1,  385,  386,  256,  257,  258, 
-          259,  260,  261,   -1,   -1,   -1,  265,  266,   -1,   -1, 
-           -1,  270,   -1,  272,  273,  274,  275,  276,  277,  278, 
-           -1,   -1,   -1,   -1,  283,  284,  285,  286,  287,  288, 
-          289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1,  298, 
-          299,   -1,  301,  302,  303,  304,   -1,  306,  307,  308, 
-          309,  310,  311,   -1,  313,  314,  315,  316,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1,   -1, 
-          339,   -1,   -1,  342,  343,   -1,  345,   -1,  347,   -1, 
-           -1,   -1,  351,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          359,   -1,   -1,   -1,   -1,  364,  365,  366,  367,  368, 
-          369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1,  378, 
-          379,   -1,  381,  382,  383,   -1,  385,  386,  256,  257, 
-          258,  259,  260,  261,   -1,   -1,   -1,  265,  266,   -1, 
-           -1,   -1,  270,   -1,  272,  273,  274,  275,  276,  277, 
-          278,   -1,   -1,   -1,   -1,  283,  284,  285,  286,  287, 
-          288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1, 
-          298,  299,   -1,  301,  302,  303,  304,   -1,  306,  307, 
-          308,  309,  310,  311,   -1,  313,  314,  315,  316,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1, 
-           -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1,  347, 
-           -1,   -1,   -1,  351,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366,  367, 
-          368,  369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1, 
-          378,  379,   -1,  381,  382,  383,   -1,  385,  386,  257, 
-          258,  259,   -1,  261,   -1,   -1,   -1,  265,  266,   -1, 
-           -1,   -1,  270,   -1,  272,  273,  274,  275,  276,  277, 
-          278,   -1,   -1,   -1,   -1,  283,  284,  285,  286,  287, 
-          288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1,   -1, 
-           -1,  299,   -1,   -1,  302,  303,  304,   -1,  306,  307, 
-          308,  309,  310,  311,  312,  313,  314,  315,  316,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336,   -1, 
-           -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1,  347, 
-           -1,  349,   -1,  351,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366,  367, 
-          368,  369,   -1,   -1,   -1,  373,   -1,  375,  376,   -1, 
-          378,  379,   -1,  381,  382,  383,   -1,  385,  386,  387, 
-          257,  258,  259,   -1,  261,   -1,   -1,   -1,  265,  266, 
-           -1,   -1,   -1,  270,   -1,  272,  273,  274,  275,  276, 
-          277,  278,   -1,   -1,   -1,   -1,  283,  284,  285,  286, 
-          287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1,   -1, 
-           -1,   -1,  299,   -1,   -1,  302,  303,  304,   -1,  306, 
-          307,  308,  309,  310,  311,  312,  313,  314,  315,  316, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  336, 
-           -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345,   -1, 
-          347,   -1,  349,   -1,  351,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  359,   -1,   -1,   -1,   -1,  364,  365,  366, 
-          367,  368,  369,   -1,   -1,   -1,  373,   -1,  375,  376, 
-           -1,  378,  379,   -1,  381,  382,  383,   -1,  385,  386, 
-          387,  257,  258,  259,   -1,  261,   -1,   -1,   -1,  265, 
-          266,   -1,   -1,   -1,  270,   -1,  272,  273,  274,  275, 
-          276,  277,  278,   -1,   -1,   -1,   -1,  283,  284,  285, 
-          286,  287,  288,  289,   -1,   -1,  292,   -1,   -1,   -1, 
-           -1,   -1,   -1,  299,   -1,   -1,  302,  303,  304,   -1, 
-          306,  307,  308,  309,  310,  311,  312,  313,  314,  315, 
-          316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-          336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1,  345, 
-           -1,  347,   -1,  349,   -1,  351,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  359,   -1,   -1,   -1,   -1,  364,  365, 
-          366,  367,  368,  369,   -1,   -1,   -1,  373,   -1,  375, 
-          376,   -1,  378,  379,   -1,  381,  382,  383,   -1,  385, 
-          386,  387,  257,  258,  259,   -1,  261,   -1,   -1,   -1, 
-          265,  266,   -1,   -1,   -1,  270,   -1,  272,  273,  274, 
-          275,  276,  277,  278,   -1,   -1,   -1,   -1,  283,  284, 
-          285,  286,  287,  288,  289,   -1,   -1,  292,   -1,   -1, 
-           -1,   -1,   -1,   -1,  299,   -1,   -1,  302,  303,  304, 
-           -1,  306,  307,  308,  309,  310,  311,  312,  313,  314, 
-          315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343,   -1, 
-          345,   -1,  347,   -1,   -1,   -1,  351,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1,  364, 
-          365,  366,  367,  368,  369,   -1,   -1,   -1,  373,   -1, 
-          375,  376,   -1,  378,  379,   -1,  381,  382,  383,   -1, 
-          385,  386,  387,  257,  258,  259,   -1,  261,   -1,   -1, 
-           -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272,  273, 
-          274,  275,  276,  277,  278,   -1,   -1,   -1,   -1,  283, 
-          284,  285,  286,  287,  288,  289,   -1,   -1,  292,   -1, 
-           -1,   -1,   -1,   -1,   -1,  299,   -1,   -1,  302,  303, 
-          304,   -1,  306,  307,  308,  309,  310,  311,  312,  313, 
-          314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342,  343, 
-           -1,  345,   -1,   -1,   -1,  349,   -1,  351,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1,   -1, 
-          364,  365,  366,  367,  368,  369,   -1,   -1,   -1,  373, 
-           -1,  375,  376,   -1,  378,  379,   -1,  381,  382,  383, 
-           -1,  385,  386,  387,  257,  258,  259,   -1,  261,   -1, 
-           -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1,  272, 
-          273,  274,  275,  276,  277,  278,   -1,   -1,   -1,   -1, 
-          283,  284,  285,  286,  287,  288,  289,   -1,   -1,  292, 
-           -1,   -1,   -1,   -1,   -1,   -1,  299,   -1,   -1,  302, 
-          303,  304,   -1,  306,  307,  308,  309,  310,  311,  312, 
-          313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  336,   -1,   -1,  339,   -1,   -1,  342, 
-          343,   -1,  345,   -1,  347,   -1,   -1,   -1,  351,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1,   -1, 
-           -1,  364,  365,  366,  367,  368,  369,   -1,   -1,   -1, 
-          373,   -1,  375,  376,   -1,  378,  379,   -1,  381,  382, 
-          383,   -1,  385,  386,  387,  257,  258,  259,   -1,  261, 
-           -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270,   -1, 
-          272,  273,  274,  275,  276,  277,  278,   -1,   -1,   -1, 
-           -1,  283,  284,  285,  286,  287,  288,  289,   -1,   -1, 
-          292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1,   -1, 
-          302,  303,  304,   -1,  306,  307,  308,  309,  310,  311, 
-          312,  313,  314,  315,  316,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1,   -1, 
-          342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1,  351, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1,   -1, 
-           -1,   -1,  364,  365,  366,  367,  368,  369,   -1,   -1, 
-           -1,  373,   -1,  375,  376,   -1,  378,  379,   -1,  381, 
-          382,  383,   -1,  385,  386,  387,  257,  258,  259,  260, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,  298,  299,  300, 
-          301,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,  260, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,  298,  299,   -1, 
-          301,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,  340, 
-           -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,  340, 
-           -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,  314,  315,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1, 
-          351,   -1,   -1,   -1,   -1,   -1,   -1,   -1,  359,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,   -1,   -1,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,  347,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,   -1,   -1,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,   -1,   -1,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,   -1,   -1,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  257,  258,  259,   -1, 
-          261,   -1,   -1,   -1,  265,  266,   -1,   -1,   -1,  270, 
-           -1,  272,  273,  274,  275,  276,  277,  278,   -1,   -1, 
-           -1,   -1,  283,  284,  285,  286,  287,  288,  289,   -1, 
-           -1,  292,   -1,   -1,   -1,   -1,   -1,   -1,  299,   -1, 
-           -1,  302,  303,  304,   -1,  306,  307,  308,  309,  310, 
-          311,   -1,  313,   -1,   -1,  316,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  336,   -1,   -1,  339,   -1, 
-           -1,  342,  343,   -1,  345,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,  364,  365,  366,  367,  368,  369,   -1, 
-           -1,   -1,  373,   -1,  375,  376,   -1,  378,  379,   -1, 
-          381,  382,  383,   -1,  385,  386,  306,  307,   -1,   -1, 
-          310,   -1,   -1,   -1,  314,  315,   -1,  317,  318,  319, 
-          320,  321,  322,  323,   -1,   -1,  326,  327,   -1,   -1, 
-           -1,  331,  332,  333,  334,   -1,   -1,   -1,   -1,   -1, 
-          340,   -1,   -1,   -1,   -1,   -1,   -1,  347,  348,   -1, 
-          350,  351,  352,  353,  354,  355,  356,  357,  358,  359, 
-          360,   -1,   -1,  363,  306,  307,   -1,   -1,  310,   -1, 
-           -1,   -1,  314,  315,   -1,  317,  318,  319,  320,  321, 
-          322,  323,   -1,   -1,  326,  327,   -1,  387,   -1,  331, 
-          332,  333,  334,   -1,   -1,   -1,   -1,   -1,  340,   -1, 
-           -1,   -1,   -1,   -1,   -1,  347,  348,   -1,  350,  351, 
-          352,  353,  354,  355,  356,  357,  358,  359,  360,   -1, 
-           -1,  363,  306,  307,   -1,   -1,  310,   -1,   -1,   -1, 
-          314,  315,   -1,  317,  318,  319,  320,  321,  322,  323, 
-           -1,   -1,  326,  327,   -1,  387,   -1,  331,  332,  333, 
-          334,   -1,   -1,   -1,   -1,   -1,  340,   -1,   -1,   -1, 
-           -1,   -1,   -1,  347,  348,   -1,  350,  351,  352,  353, 
-          354,  355,  356,  357,  358,  359,  360,   -1,   -1,  363, 
-          306,  307,   -1,   -1,  310,   -1,   -1,   -1,  314,  315, 
-           -1,  317,  318,  319,  320,  321,  322,  323,   -1,   -1, 
-          326,  327,   -1,  387,   -1,  331,  332,  333,  334,   -1, 
-           -1,   -1,   -1,   -1,  340,   -1,   -1,   -1,   -1,   -1, 
-           -1,  347,  348,   -1,  350,  351,  352,  353,  354,  355, 
-          356,  357,  358,  359,  360,   -1,   -1,  363,  306,  307, 
-           -1,   -1,  310,   -1,   -1,   -1,  314,  315,   -1,  317, 
-          318,  319,  320,  321,  322,  323,   -1,   -1,  326,  327, 
-           -1,  387,   -1,  331,  332,  333,  334,   -1,   -1,   -1, 
-           -1,   -1,  340,   -1,   -1,   -1,   -1,   -1,   -1,  347, 
-          348,   -1,  350,  351,  352,  353,  354,  355,  356,  357, 
-          358,  359,  360,   -1,   -1,  363,  306,  307,   -1,   -1, 
-          310,   -1,   -1,   -1,  314,  315,   -1,  317,  318,  319, 
-          320,  321,  322,  323,   -1,   -1,  326,  327,   -1,  387, 
-           -1,  331,  332,  333,  334,   -1,   -1,   -1,   -1,   -1, 
-          340,   -1,   -1,   -1,   -1,   -1,   -1,  347,  348,   -1, 
-          350,  351,  352,  353,  354,  355,  356,  357,  358,  359, 
-          360,   -1,   -1,  363,  306,  307,   -1,   -1,  310,   -1, 
-           -1,   -1,  314,  315,   -1,  317,  318,  319,  320,  321, 
-          322,  323,   -1,   -1,  326,  327,   -1,  387,   -1,  331, 
-          332,  333,  334,   -1,   -1,   -1,   -1,   -1,  340,   -1, 
-           -1,   -1,   -1,   -1,   -1,  347,  348,   -1,  350,  351, 
-          352,  353,  354,  355,  356,  357,  358,  359,  360,   -1, 
-           -1,  363,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1,   -1, 
-           -1,   -1,   -1,   -1,   -1,  387, 
-      };
-   }
-
 }
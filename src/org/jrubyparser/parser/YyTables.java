@@ -1,73 +1,55 @@
 package org.jrubyparser.parser;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Loads the big tables of a grammar (yyTable and yyCheck) from the binary resource
+ * bin/patch_parser.rb generates next to the grammar's YyTables class.  Reading them in bulk is
+ * much quicker at class initialization than running the huge array initializers javac makes
+ * out of array literals.
+ *
+ * A resource holds its tables one after another, each one as its length (an int) followed by
+ * its entries (shorts), all big-endian.
+ */
 public class YyTables {
-   private static short[] combine(short[] t1, short[] t2, 
-                                  short[] t3, short[] t4) {
-      short[] t = new short[t1.length + t2.length + t3.length + t4.length];
-      int index = 0;
-      System.arraycopy(t1, 0, t, index, t1.length);
-      index += t1.length;
-      System.arraycopy(t2, 0, t, index, t2.length);
-      index += t2.length;
-      System.arraycopy(t3, 0, t, index, t3.length);
-      index += t3.length;
-      System.arraycopy(t4, 0, t, index, t4.length);
-      return t;
-   }
-
-   public static final short[] yyTable() {
-      return combine(yyTable1(), yyTable2(), yyTable3(), yyTable4());
-   }
-
-   public static final short[] yyCheck() {
-      return combine(yyCheck1(), yyCheck2(), yyCheck3(), yyCheck4());
-   }
-   private static final short[] yyTable1() {
-      return new short[] {
-
-      };
-   }
-
-   private static final short[] yyTable2() {
-      return new short[] {
-
-      };
-   }
-
-   private static final short[] yyTable3() {
-      return new short[] {
-
-      };
-   }
-
-   private static final short[] yyTable4() {
-      return new short[] {
-
-      };
-   }
-
-   private static final short[] yyCheck1() {
-      return new short[] {
-
-      };
-   }
-
-   private static final short[] yyCheck2() {
-      return new short[] {
-
-      };
-   }
-
-   private static final short[] yyCheck3() {
-      return new short[] {
-
-      };
-   }
-
-   private static final short[] yyCheck4() {
-      return new short[] {
-
-      };
-   }
-
+    private YyTables() {}
+
+    /**
+     * @param owner the class the resource is next to
+     * @param name of the resource
+     * @param count how many tables the resource holds
+     * @return the tables in the order they are in the resource
+     */
+    public static short[][] load(Class<?> owner, String name, int count) {
+        InputStream stream = owner.getResourceAsStream(name);
+
+        if (stream == null) throw new IllegalStateException("Missing parser tables " + name);
+
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+            short[][] tables = new short[count][];
+
+            for (int i = 0; i < count; i++) {
+                byte[] bytes = new byte[in.readInt() * 2];
+
+                in.readFully(bytes);
+                tables[i] = new short[bytes.length / 2];
+                ByteBuffer.wrap(bytes).asShortBuffer().get(tables[i]);
+            }
+
+            return tables;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read parser tables " + name, e);
+        } finally {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                // nothing left to read anyway
+            }
+        }
+    }
 }
@@ -37,6 +37,12 @@ public class CStringBuilder implements CharSequence {
         return this;
     }
 
+    public CStringBuilder append(char[] values, int start, int length) {
+        builder.append(values, start, length);
+
+        return this;
+    }
+
     public CStringBuilder append(String value) {
         builder.append(value);
 
@@ -0,0 +1,36 @@
+package org.jrubyparser.util;
+
+/**
+ * Hashing and comparing the chars of CharSequences, for code which keys things on chars which
+ * may be a String or a view of a buffer (a name being lexed, a line of the source...).
+ */
+public class CharSequences {
+    /**
+     * @return the hash of the chars of chars (the same as String.hashCode, so a String can use
+     * its cached hash and equal chars hash the same whatever kind of sequence holds them)
+     */
+    public static int hash(CharSequence chars) {
+        if (chars instanceof String) return chars.hashCode();
+
+        int hash = 0;
+        for (int i = 0; i < chars.length(); i++) {
+            hash = 31 * hash + chars.charAt(i);
+        }
+
+        return hash;
+    }
+
+    /**
+     * @return whether a and b hold the same chars (or are both null)
+     */
+    public static boolean equal(CharSequence a, CharSequence b) {
+        if (a == b) return true;
+        if (a == null || b == null || a.length() != b.length()) return false;
+
+        for (int i = 0; i < a.length(); i++) {
+            if (a.charAt(i) != b.charAt(i)) return false;
+        }
+
+        return true;
+    }
+}
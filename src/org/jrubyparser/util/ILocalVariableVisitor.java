@@ -5,7 +5,9 @@
 package org.jrubyparser.util;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.jrubyparser.ast.ArgumentNode;
 import org.jrubyparser.ast.BlockArgNode;
 import org.jrubyparser.ast.ClassNode;
@@ -43,7 +45,37 @@ public class ILocalVariableVisitor extends NoopVisitor {
         
         return visitor.getVariableList();
     }
-    
+
+    /**
+     * Find the occurrences of every local variable defined in scope in one walk.
+     *
+     * @return name to occurrences (same order as findOccurrencesIn would give them)
+     */
+    public static Map<String, List<ILocalVariable>> findAllOccurrencesIn(IScope scope) {
+        ILocalVariableVisitor visitor = new ILocalVariableVisitor(scope, null);
+
+        visitor.run();
+
+        Map<String, List<ILocalVariable>> occurrences = new HashMap<String, List<ILocalVariable>>();
+        for (ILocalVariable variable: visitor.getVariableList()) {
+            String name = variable.getName();
+            if (name == null) continue;
+
+            List<ILocalVariable> list = occurrences.get(name);
+            if (list == null) {
+                list = new ArrayList<ILocalVariable>();
+                occurrences.put(name, list);
+            }
+            list.add(variable);
+        }
+
+        return occurrences;
+    }
+
+    /**
+     * @param scope to look for variables in
+     * @param name of the variable or null for all of them
+     */
     public ILocalVariableVisitor(IScope scope, String name) {
         list = new ArrayList<ILocalVariable>();
         this.scope = scope;
@@ -64,7 +96,7 @@ public class ILocalVariableVisitor extends NoopVisitor {
      * nested blocks in blocks can have variables masked with same name so we make sure scope is correct.
      */
     private void addVariableIfInScopeAndRightName(ILocalVariable variable) {
-        if (variable.getDefinedScope() == scope && name.equals(variable.getName())) list.add(variable);
+        if ((name == null || name.equals(variable.getName())) && variable.getDefinedScope() == scope) list.add(variable);
     }
 
     @Override